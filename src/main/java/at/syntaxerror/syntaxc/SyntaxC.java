@@ -24,8 +24,10 @@ package at.syntaxerror.syntaxc;
 
 import java.io.File;
 import java.io.OutputStream;
-import java.io.PrintStream;
-import java.nio.charset.StandardCharsets;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -52,11 +54,13 @@ import at.syntaxerror.syntaxc.intermediate.IntermediateGenerator;
 import at.syntaxerror.syntaxc.intermediate.graph.ControlFlowGraphGenerator;
 import at.syntaxerror.syntaxc.intermediate.graph.ControlFlowGraphGenerator.FunctionData;
 import at.syntaxerror.syntaxc.io.CharStream;
+import at.syntaxerror.syntaxc.io.PreprocessedWriter;
 import at.syntaxerror.syntaxc.lexer.Lexer;
 import at.syntaxerror.syntaxc.lexer.Token;
 import at.syntaxerror.syntaxc.lexer.TokenType;
 import at.syntaxerror.syntaxc.logger.Logger;
 import at.syntaxerror.syntaxc.misc.AnsiPipe;
+import at.syntaxerror.syntaxc.misc.config.Flags;
 import at.syntaxerror.syntaxc.optimizer.GotoOptimizer;
 import at.syntaxerror.syntaxc.options.OptionParser;
 import at.syntaxerror.syntaxc.parser.Parser;
@@ -79,6 +83,9 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class SyntaxC {
 	
+	// the number of characters of assembly code to be buffered before writing them to the output file
+	private static final int OUTPUT_CHUNK_SIZE = 1 << 16;
+	
 	/**
 	 * This class contains information about the current version of SyntaxC
 	 * 
@@ -133,15 +140,8 @@ public class SyntaxC {
 		
 		if(onlyPreprocess) {
 
-			try(OutputStream output = constructOutput(".preproc.c")) {
-				for(int i = 0; i < len; ++i) {
-					Token token = tokens.get(i);
-					
-					if(token.is(TokenType.NEWLINE))
-						output.write('\n');
-					
-					else output.write(token.getRaw().getBytes(StandardCharsets.UTF_8));
-				}
+			try(PreprocessedWriter output = new PreprocessedWriter(constructChannel(".preproc.c"))) {
+				output.write(tokens);
 			} catch (Exception e) {
 				outputFailed(e);
 			}
@@ -190,7 +190,7 @@ public class SyntaxC {
 				postprocessed.add(
 					Token.ofConstant(
 						token.getPosition(),
-						token.getInteger(),
+						token.getValue(),
 						NumericValueType.SIGNED_INT
 					)
 				);
@@ -202,7 +202,12 @@ public class SyntaxC {
 		
 		/* Parsing (Syntactic + Sematic Analysis) */
 		
-		List<SymbolNode> parsed = new Parser(postprocessed).parse();
+		Parser parser = new Parser(postprocessed);
+		
+		List<SymbolNode> parsed = parser.parse();
+		
+		if(Flags.VERY_VERBOSE.isEnabled())
+			Logger.note("Parser performed %d speculative parse(s)", parser.getSpeculations());
 
 		checkTerminationState();
 		
@@ -323,7 +328,7 @@ public class SyntaxC {
 				Instructions prologue = new Instructions();
 				long stackSize = alloc.getStackSize();
 				
-				inserter.insertPrologue(prologue, stackSize, registers);
+				inserter.insertPrologue(prologue, insns, stackSize, registers);
 				inserter.insertEpilogue(insns, stackSize, registers);
 				
 				AssemblyInstruction head = insns.getHead();
@@ -346,10 +351,25 @@ public class SyntaxC {
 		
 		File asmOut = uniqueFile(inputFileName, ".syntaxctmp.s");
 		
-		try(PrintStream writer = new PrintStream(asmOut)) {
+		try(Writer writer = Files.newBufferedWriter(asmOut.toPath())) {
 			
-			for(AssemblyInstruction instruction : instructions)
-				writer.println(instruction.toString());
+			/* instructions are appended to a single builder, which is only
+			 * written to the file once it has grown large enough
+			 */
+			StringBuilder sb = new StringBuilder(OUTPUT_CHUNK_SIZE);
+			String lineSeparator = System.lineSeparator();
+			
+			for(AssemblyInstruction instruction : instructions) {
+				instruction.emit(sb);
+				sb.append(lineSeparator);
+				
+				if(sb.length() >= OUTPUT_CHUNK_SIZE) {
+					writer.append(sb);
+					sb.setLength(0);
+				}
+			}
+			
+			writer.append(sb);
 			
 		} catch (Exception e) {
 			outputFailed(e);
@@ -465,6 +485,29 @@ public class SyntaxC {
 		);
 	}
 	
+	/**
+	 * Constructs the output channel for the {@link #outputFileName output file}.
+	 * See {@link #constructOutput(String)} for more information.
+	 * 
+	 * @param extension the file name extension of the output file
+	 * @return the output channel
+	 */
+	private static WritableByteChannel constructChannel(String extension) {
+		if(outputFileName != null && outputFileName.equals("-"))
+			return Channels.newChannel(AnsiPipe.getStdout());
+		
+		try {
+			Path path = Paths.get(getOutputFileName(extension)).toAbsolutePath();
+			
+			Files.createDirectories(path.getParent());
+			
+			return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		} catch (Exception e) {
+			outputFailed(e);
+			return null;
+		}
+	}
+	
 	private static String getOutputFileName(String extension) {
 		return Objects.requireNonNullElseGet(
 			outputFileName,
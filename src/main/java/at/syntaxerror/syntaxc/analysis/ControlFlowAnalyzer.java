@@ -22,17 +22,22 @@
  */
 package at.syntaxerror.syntaxc.analysis;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import at.syntaxerror.syntaxc.intermediate.representation.Intermediate;
 import at.syntaxerror.syntaxc.intermediate.representation.JumpIntermediate;
 import at.syntaxerror.syntaxc.intermediate.representation.LabelIntermediate;
+import at.syntaxerror.syntaxc.intermediate.representation.SwitchIntermediate;
 import at.syntaxerror.syntaxc.logger.Logable;
 import at.syntaxerror.syntaxc.misc.config.Warnings;
 import at.syntaxerror.syntaxc.tracking.Position;
@@ -43,7 +48,7 @@ import at.syntaxerror.syntaxc.tracking.Position;
  */
 public class ControlFlowAnalyzer implements Logable {
 	
-	private final Map<String, List<JumpIntermediate>> jumps;
+	private final Map<String, List<Intermediate>> jumps;
 	private final Map<String, LabelIntermediate> labels;
 	
 	private final Map<String, CFGNode> blocks;
@@ -84,6 +89,7 @@ public class ControlFlowAnalyzer implements Logable {
 		labels.clear();
 		blocks.clear();
 		linkInfos.clear();
+		code.clear();
 
 		intermediates.add(new LabelIntermediate(pos, returnLabel));
 		
@@ -97,6 +103,13 @@ public class ControlFlowAnalyzer implements Logable {
 					k -> new ArrayList<>()
 				).add(jump);
 		
+			else if(intermediate instanceof SwitchIntermediate swtch)
+				for(String label : swtch.getLabels())
+					jumps.computeIfAbsent(
+						label,
+						k -> new ArrayList<>()
+					).add(swtch);
+		
 		checkUnknownLabels(); // check for unknown labels
 		checkUnusedLabels(); // check for unused labels. Also matches labels where the associated goto statement is dead code
 
@@ -172,6 +185,9 @@ public class ControlFlowAnalyzer implements Logable {
 
 				linkInfo(current, name);
 				
+				// the label belongs to the next block, not the current one
+				code.remove(code.size() - 1);
+				
 				addBlock(makeBlock(current));
 				
 				previous = current;
@@ -179,6 +195,7 @@ public class ControlFlowAnalyzer implements Logable {
 				wasJump = wasGoto = false;
 				
 				code.clear();
+				code.add(label);
 				continue;
 			}
 
@@ -217,6 +234,30 @@ public class ControlFlowAnalyzer implements Logable {
 				previous = current;
 			}
 			
+			else if(intermediate instanceof SwitchIntermediate swtch) {
+				
+				wasGoto = true;
+				
+				String current = name;
+				
+				Intermediate next = intermediates.get(i + 1);
+				
+				if(next instanceof LabelIntermediate label)
+					name = label.getLabel();
+				
+				else name = ".synthetic_" + counterLabel++;
+				
+				addBlock(makeBlock(current));
+				
+				code.clear();
+				
+				// this -> each case
+				for(String label : swtch.getLabels())
+					linkInfo(current, label, LinkKind.CASE);
+				
+				previous = current;
+			}
+			
 		}
 		
 		String returnName = name;
@@ -262,15 +303,17 @@ public class ControlFlowAnalyzer implements Logable {
 				case NEXT: src.next = dst; break;
 				case THEN: src.nextThen = dst; break;
 				case ELSE: src.nextElse = dst; break;
+				case CASE:
+					if(dst != null)
+						src.nextCases.add(dst);
+					break;
 				}
 			
 		});
 	}
 
 	private void checkNodes() {
-		List<CFGNode> traversed = new ArrayList<>();
-		
-		traverse(traversed, getGraph());
+		Set<CFGNode> traversed = traverse(getGraph());
 		
 		blocks.values()
 			.stream()
@@ -278,15 +321,29 @@ public class ControlFlowAnalyzer implements Logable {
 			.forEach(this::warnDead);
 	}
 	
-	private void traverse(final List<CFGNode> traversed, CFGNode node) {
-		if(node == null || traversed.contains(node))
-			return;
+	// determines all nodes reachable from the given node, using an explicit stack instead of recursion
+	private Set<CFGNode> traverse(CFGNode start) {
+		Set<CFGNode> traversed = new HashSet<>();
+		
+		Deque<CFGNode> pending = new ArrayDeque<>();
 		
-		traversed.add(node);
+		if(start != null)
+			pending.push(start);
 		
-		traverse(traversed, node.next);
-		traverse(traversed, node.nextThen);
-		traverse(traversed, node.nextElse);
+		while(!pending.isEmpty()) {
+			CFGNode node = pending.pop();
+			
+			if(!traversed.add(node))
+				continue;
+			
+			for(CFGNode next : new CFGNode[] { node.next, node.nextThen, node.nextElse })
+				if(next != null)
+					pending.push(next);
+			
+			node.nextCases.forEach(pending::push);
+		}
+		
+		return traversed;
 	}
 	
 	private void warnDead(CFGNode block) {
@@ -333,7 +390,7 @@ public class ControlFlowAnalyzer implements Logable {
 			if(!labels.containsKey(label)) {
 				foundUnknownLabel = true;
 				
-				for(JumpIntermediate pos : entry.getValue())
+				for(Intermediate pos : entry.getValue())
 					softError(pos, "Unknown label »%s«", label);
 			}
 		}
@@ -380,6 +437,8 @@ public class ControlFlowAnalyzer implements Logable {
 		public CFGNode nextThen;
 		public CFGNode nextElse;
 		
+		public final List<CFGNode> nextCases = new ArrayList<>();
+		
 		public CFGNode(String name, List<Intermediate> code, NodeKind kind) {
 			this.name = name;
 			this.code = code;
@@ -438,7 +497,8 @@ public class ControlFlowAnalyzer implements Logable {
 	private static enum LinkKind {
 		NEXT,
 		THEN,
-		ELSE
+		ELSE,
+		CASE
 	}
 	
 }
@@ -22,7 +22,9 @@
  */
 package at.syntaxerror.syntaxc.analysis;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -47,6 +49,7 @@ import at.syntaxerror.syntaxc.parser.node.statement.GotoStatementNode;
 import at.syntaxerror.syntaxc.parser.node.statement.JumpStatementNode;
 import at.syntaxerror.syntaxc.parser.node.statement.LabeledStatementNode;
 import at.syntaxerror.syntaxc.parser.node.statement.StatementNode;
+import at.syntaxerror.syntaxc.parser.node.statement.SwitchStatementNode;
 import at.syntaxerror.syntaxc.symtab.SymbolObject;
 import at.syntaxerror.syntaxc.tracking.Position;
 
@@ -115,21 +118,22 @@ public class DataFlowAnalyzer implements Logable {
 		else if(stmt instanceof JumpStatementNode node) {
 			scanInitialized(node.getCondition(), branches);
 			
-			String label = node.getJumpLabel();
-			
-			if(jumpInitialized.containsKey(label))
-				jumpInitialized.get(label).merge(branches);
-			
-			else jumpInitialized.put(label, branches.deepCopy());
+			mergeJump(node.getJumpLabel(), branches);
 		}
 		
 		else if(stmt instanceof GotoStatementNode node) {
-			String label = node.getLabel();
+			mergeJump(node.getLabel(), branches);
 			
-			if(jumpInitialized.containsKey(label))
-				jumpInitialized.get(label).merge(branches);
+			branches.clear();
+		}
+		
+		else if(stmt instanceof SwitchStatementNode node) {
+			scanInitialized(node.getValue(), branches);
+			
+			for(String label : node.getCases().values())
+				mergeJump(label, branches);
 			
-			else jumpInitialized.put(label, branches.deepCopy());
+			mergeJump(node.getDefaultLabel(), branches);
 			
 			branches.clear();
 		}
@@ -138,6 +142,13 @@ public class DataFlowAnalyzer implements Logable {
 			scanInitialized(node.getStatements(), branches);
 	}
 
+	private void mergeJump(String label, BranchList branches) {
+		if(jumpInitialized.containsKey(label))
+			jumpInitialized.get(label).merge(branches);
+		
+		else jumpInitialized.put(label, branches.deepCopy());
+	}
+
 	private boolean scanInitialized(ExpressionNode stmt, BranchList branches) {
 		return scanInitialized(stmt, branches, false, false);
 	}
@@ -182,10 +193,23 @@ public class DataFlowAnalyzer implements Logable {
 				return true;
 			}
 			else {
-				boolean hasEffectLeft = scanInitialized(left, branches, insideInit, funCall);
-				boolean hasEffectRight = scanInitialized(right, branches, insideInit, funCall);
+				/* chains of binary operators (e.g. 'a + b + c + ...') are left-leaning,
+				 * so the left operands are scanned iteratively to not recurse once per operator
+				 */
+				Deque<ExpressionNode> rightOperands = new ArrayDeque<>();
+				rightOperands.push(right);
+				
+				while(left instanceof BinaryExpressionNode leftOp && leftOp.getOperation() != Punctuator.ASSIGN) {
+					rightOperands.push(leftOp.getRight());
+					left = leftOp.getLeft();
+				}
+				
+				boolean hasEffect = scanInitialized(left, branches, insideInit, funCall);
 				
-				return hasEffectLeft || hasEffectRight;
+				while(!rightOperands.isEmpty())
+					hasEffect |= scanInitialized(rightOperands.pop(), branches, insideInit, funCall);
+				
+				return hasEffect;
 			}
 			
 		}
@@ -205,19 +229,42 @@ public class DataFlowAnalyzer implements Logable {
 		}
 		
 		else if(stmt instanceof ConditionalExpressionNode cond) {
+			
+			/* ladders of conditional operators (e.g. 'a ? b : c ? d : ...') are right-leaning,
+			 * so the false branches are scanned iteratively to not recurse once per operator
+			 */
+			Deque<PendingConditional> pending = new ArrayDeque<>();
+			
+			boolean hasEffect = false;
+			
+			ExpressionNode expr = cond;
+			BranchList current = branches;
+			
+			while(expr instanceof ConditionalExpressionNode ladder) {
+				hasEffect |= scanInitialized(ladder.getCondition(), current, insideInit, funCall);
 
-			boolean hasEffectCond = scanInitialized(cond.getCondition(), branches, insideInit, funCall);
-
-			BranchList branchesTrue = branches.deepCopy();
-			BranchList branchesFalse = branches.deepCopy();
+				BranchList branchesTrue = current.deepCopy();
+				BranchList branchesFalse = current.deepCopy();
+				
+				hasEffect |= scanInitialized(ladder.getWhenTrue(), branchesTrue, insideInit, funCall);
+				
+				pending.push(new PendingConditional(current, branchesTrue, branchesFalse));
+				
+				current = branchesFalse;
+				expr = ladder.getWhenFalse();
+			}
 			
-			boolean hasEffectTrue = scanInitialized(cond.getWhenTrue(), branchesTrue, insideInit, funCall);
-			boolean hasEffectFalse = scanInitialized(cond.getWhenFalse(), branchesFalse, insideInit, funCall);
+			hasEffect |= scanInitialized(expr, current, insideInit, funCall);
 			
-			branchesTrue.conjunction(branchesFalse)
-				.forEach(branches::add);
+			while(!pending.isEmpty()) {
+				PendingConditional ladder = pending.pop();
+				
+				ladder.branchesTrue()
+					.conjunction(ladder.branchesFalse())
+					.forEach(ladder.branches()::add);
+			}
 			
-			return hasEffectCond || hasEffectTrue || hasEffectFalse;
+			return hasEffect;
 		}
 		
 		else if(stmt instanceof CallExpressionNode call) {
@@ -237,6 +284,8 @@ public class DataFlowAnalyzer implements Logable {
 		return false;
 	}
 
+	private static record PendingConditional(BranchList branches, BranchList branchesTrue, BranchList branchesFalse) { }
+
 	private static record BranchList(List<Branch> branches) {
 		
 		public void clear() {
@@ -23,587 +23,818 @@
 package at.syntaxerror.syntaxc.generator.alloc.impl;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.Stack;
-import java.util.stream.Collectors;
 
-import at.syntaxerror.syntaxc.SyntaxC;
-import at.syntaxerror.syntaxc.generator.alloc.RegisterAllocator;
 import at.syntaxerror.syntaxc.generator.arch.Alignment;
 import at.syntaxerror.syntaxc.generator.asm.Instructions;
-import at.syntaxerror.syntaxc.generator.asm.insn.AssemblyInstruction;
-import at.syntaxerror.syntaxc.generator.asm.insn.PersistentMemoryInstruction;
-import at.syntaxerror.syntaxc.generator.asm.insn.RestoreRegistersInstruction;
-import at.syntaxerror.syntaxc.generator.asm.insn.StoreRegistersInstruction;
-import at.syntaxerror.syntaxc.generator.asm.target.AssemblyTarget;
 import at.syntaxerror.syntaxc.generator.asm.target.RegisterTarget;
-import at.syntaxerror.syntaxc.generator.asm.target.VirtualRegisterTarget;
-import at.syntaxerror.syntaxc.generator.asm.target.VirtualStackTarget;
 import at.syntaxerror.syntaxc.logger.Logger;
-import at.syntaxerror.syntaxc.misc.Pair;
-import at.syntaxerror.syntaxc.type.Type;
 
 /**
+ * A register allocator coloring the interference graph of the live intervals, using
+ * iterated register coalescing (see George and Appel, "Iterated Register Coalescing").
+ * 
+ * Intervals without interference are simplified (removed from the graph) first, and copies
+ * between two intervals are coalesced as long as this does not make the graph uncolorable
+ * (Briggs' and George's tests). If neither is possible, copies are frozen, and eventually
+ * the interval with the lowest spill cost per interference is chosen as a potential spill.
+ * The intervals are then colored in reverse order, preferring the registers of their copies.
+ * 
+ * Pre-assigned intervals are not part of the graph. Instead, each interval keeps track of
+ * the registers blocked by interfering pre-assigned intervals.
+ * 
  * @author Thomas Kasper
  * 
  */
-public abstract class GraphColoringRegisterAllocator extends RegisterAllocator {
-
-	private final Instructions asm;
+public class GraphColoringRegisterAllocator extends IntervalRegisterAllocator {
 	
-	private StackAllocator allocator;
+	private static final int PRECOLORED = 0;
+	private static final int INITIAL = 1;
+	private static final int SELECTED = 2;
+	private static final int COALESCED = 3;
 	
-	private long registerId = -1;
+	private List<RegisterTarget> registers;
+	private int maxDegree;
 	
-	private Map<RegisterTarget, List<Long>> registers;
-	private Map<Long, LiveInterval> intervals;
-	private Map<AssemblyInstruction, Long> positions;
-	private Map<Long, Long> coalesced;
-	private Map<Long, RegisterTarget> assigned;
+	// the registers used by each pre-assigned interval, as a bit mask over the registers of the supplier
+	private long[] masks;
 	
-	private List<PendingSpill> spills;
+	// the registers blocked by pre-assigned intervals interfering with each interval
+	private long[] blocked;
 	
-	private int maxDegree;
+	private int[] degrees;
+	private int[] states;
+	
+	// the index of the interval each interval was coalesced into, or -1
+	private int[] aliases;
+	
+	// the index of the register assigned to each interval, or -1
+	private int[] colors;
+	
+	private double[] spillCosts;
 	
-	public abstract List<RegisterSupplier> getRegisterSuppliers();
+	// the edges between intervals which are not pre-assigned
+	private EdgeSet edges;
 	
-	public abstract boolean isCopy(AssemblyInstruction insn);
-	public abstract boolean isBlockEnd(AssemblyInstruction insn);
+	private Worklist simplifyWorklist;
+	private Worklist freezeWorklist;
+	private Worklist spillWorklist;
 	
-	public abstract AssemblyInstruction store(Instructions asm, VirtualStackTarget target, RegisterTarget register);
-	public abstract AssemblyInstruction restore(Instructions asm, RegisterTarget register, VirtualStackTarget target);
+	private int[] selectStack;
+	private int selectCount;
 	
-	public GraphColoringRegisterAllocator(Instructions asm, Alignment alignment) {
-		this.asm = asm;
+	// the intervals involved in each copy, stored pairwise
+	private int[] moves;
+	private int moveCount;
+	
+	/* The copies each interval is involved in, as singly linked lists of entries. When
+	 * two intervals are coalesced, their lists are concatenated in constant time
+	 */
+	private int[] moveHeads;
+	private int[] moveTails;
+	private int[] entryMoves;
+	private int[] entryNexts;
+	
+	// the number of entries in the list of each interval whose copy may still be coalesced
+	private int[] pendingMoves;
+	
+	private Worklist worklistMoves;
+	private BitSet activeMoves;
+	
+	// marks the intervals visited by Briggs' test, see 'visit'
+	private int[] visited;
+	private int visitation;
+	
+	public GraphColoringRegisterAllocator(Instructions asm, Alignment alignment, RegisterAllocationHelper helper) {
+		super(asm, alignment, helper);
+	}
+	
+	@Override
+	protected List<LiveInterval> assignRegisters(RegisterSupplier supplier) {
+		registers = supplier.getRegisters();
+		maxDegree = registers.size();
 		
-		allocator = new StackAllocator(alignment);
+		if(maxDegree > Long.SIZE)
+			Logger.error("Too many registers for graph coloring");
 		
-		registers = new HashMap<>();
-		intervals = new HashMap<>();
-		positions = new HashMap<>();
-		coalesced = new HashMap<>();
-		assigned = new HashMap<>();
+		buildGraph();
+		makeWorklist();
 		
-		spills = new ArrayList<>();
+		while(true) {
+			if(!simplifyWorklist.isEmpty())
+				simplify();
+			
+			else if(!worklistMoves.isEmpty())
+				coalesce();
+			
+			else if(!freezeWorklist.isEmpty())
+				freeze();
+			
+			else if(!spillWorklist.isEmpty())
+				selectSpill();
+			
+			else break;
+		}
+		
+		List<LiveInterval> spilled = assignColors();
+		
+		if(spilled.isEmpty())
+			for(LiveInterval interval : intervals) {
+				int alias = getAlias(interval.getIndex());
+				
+				assigned.put(
+					interval.getId(),
+					isPrecolored(alias)
+						? intervals.get(alias).getAssignedRegister()
+						: registers.get(colors[alias])
+				);
+			}
+		
+		return spilled;
 	}
 	
-	@Override
-	public List<RegisterTarget> getAssignedRegisters() {
-		return new ArrayList<>(assigned.values());
+	private boolean isPrecolored(int index) {
+		return states[index] == PRECOLORED;
 	}
 	
-	@Override
-	public long getStackSize() {
-		return allocator.getStackSize();
+	// whether the interval is still part of the graph
+	private boolean isPresent(int index) {
+		return states[index] != SELECTED && states[index] != COALESCED;
 	}
 	
-	@Override
-	public void allocate() {
-		assigned.clear();
+	private long maskOf(RegisterTarget register) {
+		long mask = 0;
 		
-		getRegisterSuppliers().forEach(this::allocateRegisters);
+		for(int i = 0; i < maxDegree; ++i)
+			if(registers.get(i).intersects(register))
+				mask |= 1L << i;
 		
-		replaceVirtualRegisters();
-		replaceStoreRestore();
-		allocateStackMemory();
+		return mask;
 	}
 	
-	private void replaceStoreRestore() {
-		Map<Long, Map<RegisterTarget, VirtualStackTarget>> locations = new HashMap<>();
-
-		var assigned = getAssignedRegisters();
+	private void buildGraph() {
+		int count = intervals.size();
+		
+		masks = new long[count];
+		blocked = new long[count];
+		degrees = new int[count];
+		states = new int[count];
+		aliases = new int[count];
+		colors = new int[count];
+		spillCosts = new double[count];
+		
+		edges = new EdgeSet();
 		
-		for(AssemblyInstruction insn : asm)
-			if(insn instanceof StoreRegistersInstruction store) {
-				long id = store.getId();
+		moves = new int[16];
+		moveCount = 0;
+		
+		moveHeads = new int[count];
+		moveTails = new int[count];
+		entryMoves = new int[16];
+		entryNexts = new int[16];
+		
+		pendingMoves = new int[count];
+		
+		visited = new int[count];
+		visitation = 0;
+		
+		for(LiveInterval interval : intervals) {
+			int index = interval.getIndex();
+			
+			aliases[index] = -1;
+			colors[index] = -1;
+			spillCosts[index] = interval.getSpillCost();
+			
+			moveHeads[index] = -1;
+			moveTails[index] = -1;
+			
+			if(interval.isAssigned()) {
+				states[index] = PRECOLORED;
+				masks[index] = maskOf(interval.getAssignedRegister());
+			}
+			else states[index] = INITIAL;
+		}
+		
+		/* Intervals are sorted by their start position. Sweeping over them while keeping
+		 * track of the intervals still alive only compares intervals which may interfere
+		 */
+		List<LiveInterval> active = new ArrayList<>();
+		
+		for(LiveInterval live : intervals) {
+			long from = live.getFrom();
+			
+			active.removeIf(other -> other.getTo() < from);
+			
+			for(LiveInterval other : active) {
+				if(!other.interferesWith(live))
+					continue;
 				
-				Map<RegisterTarget, VirtualStackTarget> registers = new HashMap<>();
+				int a = other.getIndex();
+				int b = live.getIndex();
 				
-				for(AssemblyTarget target : store.getSources()) {
-					RegisterTarget register = (RegisterTarget) target;
-					
-					if(!assigned.stream().anyMatch(register::intersects))
-						continue;
-					
-					VirtualStackTarget stack = new VirtualStackTarget(register.getType());
-					
-					store.insertAfter(store(asm, stack, register));
-					
-					registers.put(register, stack);
-				}
+				if(isPrecolored(a) && isPrecolored(b))
+					continue;
 				
-				locations.put(id, registers);
-				store.remove();
-			}
-			else if(insn instanceof RestoreRegistersInstruction restore) {
-				long id = restore.getId();
-
-				if(!locations.containsKey(id)) {
-					restore.remove();
+				long position = other.findTouchingPosition(live);
+				
+				// intervals only touching each other may share a register
+				if(position != -1) {
+					if(isCopy(position))
+						addMove(a, b);
+					
 					continue;
 				}
-
-				Map<RegisterTarget, VirtualStackTarget> registers = locations.get(id);
-				
-				for(Map.Entry<RegisterTarget, VirtualStackTarget> entry : registers.entrySet())
-					restore.insertAfter(restore(asm, entry.getKey(), entry.getValue()));
 				
-				restore.remove();
+				addEdge(a, b);
 			}
+			
+			active.add(live);
+		}
 	}
 	
-	private void checkStackMemory(List<AssemblyTarget> targets, Map<Long, Long> lastUse, long pos) {
-		for(int i = 0; i < targets.size(); ++i)
-			if(targets.get(i) instanceof VirtualStackTarget virtual) {
-				long id = virtual.getId();
-				
-				if(lastUse.getOrDefault(id, -1L) < pos)
-					lastUse.put(id, pos);
-			}
-
-		targets.stream()
-			.filter(target -> target != null)
-			.map(AssemblyTarget::getNestedTargets)
-			.filter(list -> list != null && !list.isEmpty())
-			.forEach(list -> checkStackMemory(list, lastUse, pos));
+	private void addMove(int a, int b) {
+		int move = moveCount++;
+		
+		if(2 * moveCount > moves.length) {
+			moves = Arrays.copyOf(moves, moves.length * 2);
+			entryMoves = Arrays.copyOf(entryMoves, entryMoves.length * 2);
+			entryNexts = Arrays.copyOf(entryNexts, entryNexts.length * 2);
+		}
+		
+		moves[2 * move] = a;
+		moves[2 * move + 1] = b;
+		
+		addMoveEntry(a, move, 2 * move);
+		addMoveEntry(b, move, 2 * move + 1);
 	}
-
-	private void allocateStackMemory(List<AssemblyTarget> targets) {
-		for(int i = 0; i < targets.size(); ++i)
-			if(targets.get(i) instanceof VirtualStackTarget virtual)
-				targets.set(
-					i,
-					resolveVirtualMemory(
-						allocator.allocate(
-							virtual.getId(),
-							virtual.getType()
-						),
-						virtual.getType()
-					)
-				);
+	
+	private void addMoveEntry(int index, int move, int entry) {
+		entryMoves[entry] = move;
+		entryNexts[entry] = -1;
+		
+		if(moveHeads[index] == -1)
+			moveHeads[index] = entry;
 		
-		targets.stream()
-			.filter(target -> target != null)
-			.map(AssemblyTarget::getNestedTargets)
-			.filter(list -> list != null && !list.isEmpty())
-			.forEach(this::allocateStackMemory);
+		else entryNexts[moveTails[index]] = entry;
+		
+		moveTails[index] = entry;
+		
+		// every copy is initially on the worklist
+		++pendingMoves[index];
 	}
 	
-	private void allocateStackMemory() {
-		Map<Long, Long> lastUse = new HashMap<>();
-		Map<Long, List<Long>> positions = new HashMap<>();
-
-		long pos = 0;
+	private void addEdge(int a, int b) {
+		if(a == b)
+			return;
 		
-		for(AssemblyInstruction insn : asm) {
-			
-			if(insn instanceof PersistentMemoryInstruction persistent) {
-				lastUse.put(persistent.getTarget().getId(), Long.MAX_VALUE);
-				persistent.remove();
-				continue;
-			}
-			
-			checkStackMemory(insn.getSources(), lastUse, pos);
-			checkStackMemory(insn.getDestinations(), lastUse, pos);
-			++pos;
+		if(isPrecolored(a)) {
+			block(b, masks[a]);
+			return;
 		}
 		
-		lastUse.forEach(
-			(target, position) -> positions.computeIfAbsent(
-				position,
-				p -> new ArrayList<>()
-			).add(target)
-		);
+		if(isPrecolored(b)) {
+			block(a, masks[b]);
+			return;
+		}
 		
-		pos = 0;
+		if(!edges.add(a, b))
+			return;
 		
-		for(AssemblyInstruction insn : asm) {
-			allocateStackMemory(insn.getSources());
-			
-			positions.getOrDefault(pos++, List.of())
-				.forEach(allocator::free);
-			
-			allocateStackMemory(insn.getDestinations());
-		}
+		intervals.get(a).addInterference(b);
+		intervals.get(b).addInterference(a);
+		
+		++degrees[a];
+		++degrees[b];
 	}
 	
-	private void replaceVirtualRegisters(List<AssemblyTarget> targets) {
-		for(int i = 0; i < targets.size(); ++i)
-			if(targets.get(i) instanceof VirtualRegisterTarget virtual) {
-				
-				long id = virtual.getId();
-				
-				if(!assigned.containsKey(id))
-					Logger.softError("Failed to allocate physical register to virtual register %d. This is a bug.", id);
-				
-				else targets.set(i, assigned.get(id).resized(virtual.getType()));
-			}
-
-		targets.stream()
-			.filter(target -> target != null)
-			.map(AssemblyTarget::getNestedTargets)
-			.filter(list -> list != null && !list.isEmpty())
-			.forEach(this::replaceVirtualRegisters);
+	// marks the registers as unavailable for the interval
+	private void block(int index, long mask) {
+		degrees[index] += Long.bitCount(mask & ~blocked[index]);
+		blocked[index] |= mask;
+	}
+	
+	private boolean isAdjacent(int a, int b) {
+		if(isPrecolored(a))
+			return (blocked[b] & masks[a]) != 0;
+		
+		if(isPrecolored(b))
+			return (blocked[a] & masks[b]) != 0;
 		
-		SyntaxC.checkTerminationState();
+		return edges.contains(a, b);
 	}
 	
-	private void replaceVirtualRegisters() {
-		for(AssemblyInstruction insn : asm) {
-			replaceVirtualRegisters(insn.getSources());
-			replaceVirtualRegisters(insn.getDestinations());
-		}
+	// whether the copy may still be coalesced
+	private boolean isPending(int move) {
+		return activeMoves.get(move) || worklistMoves.contains(move);
 	}
 	
-	private void allocateRegisters(RegisterSupplier supplier) {
-		if(supplier == null)
-			return;
+	private boolean isMoveRelated(int index) {
+		return pendingMoves[index] != 0;
+	}
+	
+	// the copy can no longer be coalesced, its entries are no longer pending
+	private void discardMove(int move) {
+		--pendingMoves[getAlias(moves[2 * move])];
+		--pendingMoves[getAlias(moves[2 * move + 1])];
+	}
+	
+	private void makeWorklist() {
+		int count = intervals.size();
 		
-		maxDegree = supplier.getRegisterCount();
+		simplifyWorklist = new Worklist(count);
+		freezeWorklist = new Worklist(count);
+		spillWorklist = new Worklist(count);
 		
-		do {
-			registerId = 0;
+		selectStack = new int[count];
+		selectCount = 0;
+		
+		worklistMoves = new Worklist(moveCount);
+		activeMoves = new BitSet(moveCount);
+		
+		for(int move = 0; move < moveCount; ++move)
+			worklistMoves.add(move);
+		
+		for(int index = 0; index < count; ++index) {
+			if(isPrecolored(index))
+				continue;
 			
-			registers.clear();
-			intervals.clear();
-			positions.clear();
-			spills.clear();
-			coalesced.clear();
+			if(degrees[index] >= maxDegree)
+				spillWorklist.add(index);
 			
-			findLiveRanges(supplier);
+			else if(isMoveRelated(index))
+				freezeWorklist.add(index);
 			
-			do buildGraph();
-			while(coalesce());
+			else simplifyWorklist.add(index);
+		}
+	}
+	
+	private void simplify() {
+		int index = simplifyWorklist.poll();
+		
+		selectStack[selectCount++] = index;
+		states[index] = SELECTED;
+		
+		LiveInterval interval = intervals.get(index);
+		
+		for(int i = 0; i < interval.getDegree(); ++i) {
+			int other = interval.getInterference(i);
 			
-			if(spills.isEmpty()) {
-				color(supplier);
-				break;
-			}
+			if(isPresent(other))
+				decrementDegree(other);
+		}
+	}
+	
+	private void decrementDegree(int index) {
+		if(isPrecolored(index))
+			return;
+		
+		int degree = degrees[index]--;
+		
+		if(degree != maxDegree)
+			return;
+		
+		enableMoves(index);
+		
+		LiveInterval interval = intervals.get(index);
+		
+		for(int i = 0; i < interval.getDegree(); ++i) {
+			int other = interval.getInterference(i);
 			
-			estimateSpillCost();
-			spill();
-			break;
-		} while(true);
+			if(isPresent(other))
+				enableMoves(other);
+		}
+		
+		spillWorklist.remove(index);
+		
+		if(isMoveRelated(index))
+			freezeWorklist.add(index);
+		
+		else simplifyWorklist.add(index);
 	}
 	
-	private void updateInterval(RegisterSupplier supplier, long pos, long intervalId, Type type, RegisterTarget reg) {
-		if(!supplier.isSuitableFor(type))
+	private void enableMoves(int index) {
+		if(!isMoveRelated(index))
 			return;
 		
-		intervals.compute(
-			intervalId,
-			(id, live) -> {
-				if(live == null)
-					live = new LiveInterval(pos, pos);
-				else live.setTo(pos);
-				
-				if(reg != null)
-					live.setAssignedRegister(reg);
-				
-				return live;
+		for(int entry = moveHeads[index]; entry != -1; entry = entryNexts[entry]) {
+			int move = entryMoves[entry];
+			
+			if(activeMoves.get(move)) {
+				activeMoves.clear(move);
+				worklistMoves.add(move);
 			}
-		);
+		}
 	}
 	
-	private void initLiveRanges(RegisterSupplier supplier, long pos, boolean copy, List<AssemblyTarget> targets) {
-		List<RegisterTarget> registers = supplier.getRegisters();
+	private int getAlias(int index) {
+		int alias = index;
 		
-		for(AssemblyTarget target : targets)
-			if(target instanceof VirtualRegisterTarget reg)
-				updateInterval(supplier, pos, reg.getId(), reg.getType(), null);
+		while(aliases[alias] != -1)
+			alias = aliases[alias];
 		
-			else if(target instanceof RegisterTarget reg) {
-				
-				if(!registers.stream().anyMatch(reg::intersects))
-					continue;
-				
-				List<Long> ids = this.registers.computeIfAbsent(reg, r -> new ArrayList<>());
-				
-				long id;
-				
-				if(copy || ids.isEmpty()) {
-					id = --registerId;
-					ids.add(id);
-				}
-				else id = ids.get(ids.size() - 1);
-				
-				updateInterval(supplier, pos, id, reg.getType(), reg);
-			}
+		// path compression, so that subsequent lookups are (almost) constant
+		while(aliases[index] != -1 && aliases[index] != alias) {
+			int next = aliases[index];
+			
+			aliases[index] = alias;
+			index = next;
+		}
 		
-		targets.stream()
-			.filter(target -> target != null)
-			.map(AssemblyTarget::getNestedTargets)
-			.filter(list -> list != null && !list.isEmpty())
-			.forEach(list -> initLiveRanges(supplier, pos, copy, list));
+		return alias;
 	}
 	
-	private void findLiveRanges(RegisterSupplier supplier) {
-		long pos = 0;
-		
-		for(AssemblyInstruction insn : asm) {
-			if(insn instanceof RestoreRegistersInstruction ||
-				insn instanceof StoreRegistersInstruction)
-				continue;
-			
-			positions.put(insn, pos);
-			
-			initLiveRanges(supplier, pos, false, insn.getSources());
-			initLiveRanges(supplier, pos, isCopy(insn), insn.getDestinations());
-			
-			++pos;
+	private void addWorklist(int index) {
+		if(!isPrecolored(index) && !isMoveRelated(index) && degrees[index] < maxDegree) {
+			freezeWorklist.remove(index);
+			simplifyWorklist.add(index);
 		}
 	}
 	
-	private void buildGraph() {
-		List<Long> keys = new ArrayList<>(intervals.keySet());
+	// George's test: every neighbor of 'v' is either insignificant or already interferes with 'u'
+	private boolean isGeorgeSafe(int u, int v) {
+		if((blocked[v] & ~blocked[u] & ~masks[u]) != 0)
+			return false;
 		
-		intervals.values().forEach(interval -> interval.getInterference().clear());
+		LiveInterval interval = intervals.get(v);
 		
-		int count = keys.size();
+		for(int i = 0; i < interval.getDegree(); ++i) {
+			int other = interval.getInterference(i);
+			
+			if(isPresent(other) && degrees[other] >= maxDegree && !isAdjacent(other, u))
+				return false;
+		}
 		
-		spills.clear();
+		return true;
+	}
+	
+	// Briggs' test: the merged interval has less than 'maxDegree' significant neighbors
+	private boolean isBriggsSafe(int u, int v) {
+		int significant = Long.bitCount(blocked[u] | blocked[v]);
 		
-		for(int i = 0; i < count; ++i) {
-			long key = keys.get(i);
-			
-			LiveInterval live = intervals.get(key);
+		// every neighbor is only counted once, even if it interferes with both intervals
+		++visitation;
+		
+		for(int node : new int[] { u, v }) {
+			LiveInterval interval = intervals.get(node);
 			
-			for(int j = i + 1; j < count; ++j) {
-				long otherKey = keys.get(j);
-				
-				LiveInterval other = intervals.get(otherKey);
+			for(int i = 0; i < interval.getDegree(); ++i) {
+				int other = interval.getInterference(i);
 				
-				if(live.interferesWith(other)) {
-					live.getInterference().add(otherKey);
-					other.getInterference().add(key);
-				}
+				if(isPresent(other) && visit(other) && degrees[other] >= maxDegree)
+					++significant;
 			}
-
-			if(key < 0)
-				continue;
-			
-			Set<Long> intervals = new HashSet<>(live.getInterference());
-			intervals.add(key);
-			
-			Set<LiveInterval> liveIntervals = intervals.stream()
-				.map(this.intervals::get)
-				.collect(Collectors.toSet());
-			
-			long size = liveIntervals.stream()
-				.filter(LiveInterval::isUnassigned)
-				.mapToLong(
-					interval -> liveIntervals.stream()
-						.filter(interval::interferesWith)
-						.count()
-				)
-				.max()
-				.orElse(0);
-			
-			long spillCount = size - maxDegree;
-			
-			if(spillCount > 0)
-				spills.add(new PendingSpill(
-					intervals.stream()
-						.filter(id -> this.intervals.get(id).isUnassigned())
-						.collect(Collectors.toSet()),
-					spillCount
-				));
 		}
+		
+		return significant < maxDegree;
 	}
 	
-	private boolean tryCoalesce(long id, LiveInterval interval) {
-		RegisterTarget intervalRegister = interval.getAssignedRegister();
+	// marks the interval as visited, returns whether it has not been visited before
+	private boolean visit(int index) {
+		if(visited[index] == visitation)
+			return false;
 		
-		List<Pair<Long, RegisterTarget>> interferingRegisters = interval.getInterference()
-			.stream()
-			.filter(intervals::containsKey)
-			.map(key -> Pair.of(key, intervals.get(key).getAssignedRegister()))
-			.filter(pair -> pair.getRight() != null)
-			.toList();
+		visited[index] = visitation;
+		return true;
+	}
+	
+	private void coalesce() {
+		int move = worklistMoves.poll();
 		
-		for(long key : interval.getInterference()) {
-			if(coalesced.containsKey(key))
-				continue;
-			
-			LiveInterval live = intervals.get(key);
-			
-			if(interval.getTo() != live.getFrom() || interval.getFrom() == live.getFrom())
-				continue;
+		int x = getAlias(moves[2 * move]);
+		int y = getAlias(moves[2 * move + 1]);
+		
+		// pre-assigned intervals can only be merged into
+		int u = isPrecolored(y) ? y : x;
+		int v = isPrecolored(y) ? x : y;
+		
+		if(u == v) {
+			discardMove(move);
+			addWorklist(u);
+			return;
+		}
+		
+		if(isPrecolored(v) || isAdjacent(u, v)) {
+			// constrained, the copy cannot be removed
+			discardMove(move);
+			addWorklist(u);
+			addWorklist(v);
+			return;
+		}
+		
+		if(isPrecolored(u) ? isGeorgeSafe(u, v) : isBriggsSafe(u, v)) {
+			discardMove(move);
+			combine(u, v);
+			addWorklist(u);
+			return;
+		}
+		
+		activeMoves.set(move);
+	}
+	
+	private void combine(int u, int v) {
+		freezeWorklist.remove(v);
+		spillWorklist.remove(v);
+		
+		states[v] = COALESCED;
+		aliases[v] = u;
+		
+		enableMoves(v);
+		
+		// the copies of 'v' now belong to 'u'
+		if(moveHeads[v] != -1) {
+			if(moveHeads[u] == -1)
+				moveHeads[u] = moveHeads[v];
 			
-			RegisterTarget liveRegister = live.getAssignedRegister();
+			else entryNexts[moveTails[u]] = moveHeads[v];
 			
-			if(intervalRegister != null && liveRegister != null && !intervalRegister.intersects(liveRegister))
-				continue;
-
-			if(liveRegister == null)
-				liveRegister = intervalRegister;
+			moveTails[u] = moveTails[v];
 			
-			if(liveRegister != null) {
+			moveHeads[v] = -1;
+			moveTails[v] = -1;
+		}
+		
+		pendingMoves[u] += pendingMoves[v];
+		pendingMoves[v] = 0;
+		
+		/* The interferences of 'v' are not modified below ('u' and 'v' do not interfere),
+		 * so they can be iterated while adding edges to 'u'
+		 */
+		LiveInterval interval = intervals.get(v);
+		
+		if(isPrecolored(u)) {
+			for(int i = 0; i < interval.getDegree(); ++i) {
+				int other = interval.getInterference(i);
 				
-				RegisterTarget register = liveRegister;
+				if(!isPresent(other))
+					continue;
 				
-				if(interferingRegisters.stream().anyMatch(
-					pair -> pair.getLeft() != key
-						&& pair.getRight().intersects(register))
-				) continue;
+				block(other, masks[u]);
+				decrementDegree(other);
 			}
 			
-			coalesced.put(key, id);
-			intervals.remove(key);
-
-			tryCoalesce(key, live);
-			
-			interval.setTo(live.getTo());
+			return;
+		}
+		
+		spillCosts[u] += spillCosts[v];
+		intervals.get(u).merge(interval);
+		
+		block(u, blocked[v]);
+		
+		for(int i = 0; i < interval.getDegree(); ++i) {
+			int other = interval.getInterference(i);
 			
-			interval.setAssignedRegister(liveRegister);
+			if(!isPresent(other))
+				continue;
 			
-			return true;
+			addEdge(other, u);
+			decrementDegree(other);
 		}
 		
-		return false;
+		if(degrees[u] >= maxDegree && freezeWorklist.contains(u)) {
+			freezeWorklist.remove(u);
+			spillWorklist.add(u);
+		}
 	}
 	
-	private boolean coalesce() {
-		List<Long> keys = new ArrayList<>(intervals.keySet());
-		
-		boolean didCoalesce = false;
+	private void freeze() {
+		int index = freezeWorklist.poll();
 		
-		int count = keys.size();
+		simplifyWorklist.add(index);
 		
-		for(int i = 0; i < count; ++i) {
-			long id = keys.get(i);
+		freezeMoves(index);
+	}
+	
+	private void freezeMoves(int index) {
+		for(int entry = moveHeads[index]; entry != -1 && isMoveRelated(index); entry = entryNexts[entry]) {
+			int move = entryMoves[entry];
 			
-			if(coalesced.containsKey(id))
+			if(!isPending(move))
 				continue;
 			
-			didCoalesce |= tryCoalesce(id, intervals.get(id));
+			int x = moves[2 * move];
+			int y = moves[2 * move + 1];
+			
+			int other = getAlias(y) == getAlias(index)
+				? getAlias(x)
+				: getAlias(y);
+			
+			activeMoves.clear(move);
+			worklistMoves.remove(move);
+			
+			discardMove(move);
+			
+			if(!isPrecolored(other) && !isMoveRelated(other) && degrees[other] < maxDegree) {
+				freezeWorklist.remove(other);
+				simplifyWorklist.add(other);
+			}
 		}
-
-		return didCoalesce;
 	}
 	
-	private long resolveCoalescedId(long id) {
-		while(coalesced.containsKey(id))
-			id = coalesced.get(id);
+	/*
+	 * Chooses the interval which is the cheapest to spill, relative to the number of
+	 * intervals it interferes with. Spilling it might still not be necessary, if its
+	 * neighbors end up sharing registers
+	 */
+	private void selectSpill() {
+		int candidate = -1;
+		double candidateCost = 0;
+		
+		for(int index = spillWorklist.next(0); index >= 0; index = spillWorklist.next(index + 1)) {
+			double cost = spillCosts[index] / degrees[index];
+			
+			if(candidate == -1 || cost < candidateCost) {
+				candidate = index;
+				candidateCost = cost;
+			}
+		}
+		
+		spillWorklist.remove(candidate);
+		simplifyWorklist.add(candidate);
 		
-		return id;
+		freezeMoves(candidate);
 	}
 	
-	private void color(RegisterSupplier supplier) {
-		List<RegisterTarget> available;
-		RegisterTarget register;
+	private List<LiveInterval> assignColors() {
+		List<LiveInterval> spilled = new ArrayList<>();
 		
-		for(Map.Entry<Long, LiveInterval> entry : intervals.entrySet()) {
-			LiveInterval interval = entry.getValue();
+		long all = maxDegree == Long.SIZE ? -1L : (1L << maxDegree) - 1;
+		
+		while(selectCount > 0) {
+			int index = selectStack[--selectCount];
 			
-			if(interval.isUnassigned()) {
-				available = new ArrayList<>(supplier.getRegisters());
-				
-				for(long interfering : interval.getInterference()) {
-					LiveInterval live = intervals.get(interfering);
-					
-					if(live.isAssigned())
-						available.removeIf(live.getAssignedRegister()::intersects);
-				}
-				
-				if(available.isEmpty())
-					continue;
+			LiveInterval interval = intervals.get(index);
+			
+			long available = all & ~blocked[index];
+			
+			for(int i = 0; i < interval.getDegree(); ++i) {
+				int other = getAlias(interval.getInterference(i));
 				
-				register = available.get(0);
+				if(isPrecolored(other))
+					available &= ~masks[other];
 				
-				interval.setAssignedRegister(register);
+				else if(colors[other] != -1)
+					available &= ~(1L << colors[other]);
 			}
-			else register = interval.getAssignedRegister();
 			
-			assigned.put(entry.getKey(), register);
+			if(available == 0) {
+				spilled.add(interval);
+				continue;
+			}
+			
+			colors[index] = Long.numberOfTrailingZeros(getPreferred(index, available));
 		}
 		
-		for(Map.Entry<Long, Long> entry : coalesced.entrySet())
-			assigned.put(
-				entry.getKey(),
-				intervals.get(resolveCoalescedId(entry.getValue()))
-					.getAssignedRegister()
-			);
+		return spilled;
 	}
 	
-	private boolean areSpillsSatisfied(List<Long> toBeSpilled) {
-		return spills.stream()
-			.allMatch(pending ->
-				pending.intervals()
-					.stream()
-					.map(this::resolveCoalescedId)
-					.filter(toBeSpilled::contains)
-					.count() >= pending.count()
-			);
+	// prefers the registers of the intervals copied from or to (biased coloring)
+	private long getPreferred(int index, long available) {
+		for(int entry = moveHeads[index]; entry != -1; entry = entryNexts[entry]) {
+			int move = entryMoves[entry];
+			
+			for(int node : new int[] { moves[2 * move], moves[2 * move + 1] }) {
+				int other = getAlias(node);
+				
+				long mask = isPrecolored(other)
+					? masks[other]
+					: colors[other] == -1
+						? 0
+						: 1L << colors[other];
+				
+				if((mask & available) != 0)
+					return mask & available;
+			}
+		}
+		
+		return available;
 	}
 	
-	private void estimateSpillCost() {
-		Map<Long, Long> spillCounts = spills.stream()
-			.map(PendingSpill::intervals)
-			.flatMap(Set::stream)
-			.collect(Collectors.toMap(
-				this::resolveCoalescedId,
-				v -> 1L,
-				Long::sum
-			));
+	/**
+	 * A set of indices, which keeps track of its lowest element. Since elements are
+	 * always taken from the front, lookups do not need to rescan the cleared words
+	 * at the start of the set.
+	 * 
+	 * @author Thomas Kasper
+	 * 
+	 */
+	private static class Worklist {
 		
-		List<Long> toBeSpilled = new ArrayList<>();
+		private final BitSet elements;
 		
-		Stack<Long> pending = spillCounts
-			.entrySet()
-			.stream()
-			.map(e -> Pair.of(e, intervals.get(e.getKey())))
-			.sorted((a, b) -> b.getRight().compareTo(a.getRight()))
-			.mapToLong(p -> p.getLeft().getKey())
-			.collect(
-				Stack::new,
-				Stack::add,
-				Stack::addAll
-			);
+		// there are no elements before this index
+		private int first;
 		
-		boolean skip;
+		public Worklist(int capacity) {
+			elements = new BitSet(capacity);
+			first = capacity;
+		}
 		
-		do {
-			if(pending.empty())
-				Logger.error("Spill estimation failed");
-			
-			long id = pending.pop();
-			
-			toBeSpilled.add(id);
+		public boolean isEmpty() {
+			return elements.isEmpty();
+		}
+		
+		public boolean contains(int index) {
+			return elements.get(index);
+		}
+		
+		public void add(int index) {
+			elements.set(index);
 			
-			skip = false;
-		} while(skip || !areSpillsSatisfied(toBeSpilled));
+			if(index < first)
+				first = index;
+		}
 		
-		// TODO
+		public void remove(int index) {
+			elements.clear(index);
+		}
 		
-		System.out.println(spills);
-		System.out.println(toBeSpilled);
-		System.out.println(
-			toBeSpilled.stream()
-				.map(intervals::get)
-				.map(LiveInterval::getInterference)
-				.toList()
-		);
+		public int next(int from) {
+			return elements.nextSetBit(Math.max(from, first));
+		}
 		
-		Logger.error("Failed to allocate registers without spilling");
-	}
-	
-	private void spill() {
-		// TODO
-	}
-	
-	private static record PendingSpill(Set<Long> intervals, long count) {
+		// removes and returns the lowest element
+		public int poll() {
+			int index = elements.nextSetBit(first);
+			
+			elements.clear(index);
+			first = index + 1;
+			
+			return index;
+		}
 		
 	}
 	
-	@SuppressWarnings("unused")
-	private static record EstimatedSpill(LiveInterval interval, List<LiveInterval> spillIntervals,
-			long useCount, long definitionCount, long spillCount) {
+	/**
+	 * A set of undirected edges between intervals, using open addressing. Each edge is
+	 * encoded as {@code min << 32 | max}, which is never {@code 0} since self-edges
+	 * do not exist.
+	 * 
+	 * @author Thomas Kasper
+	 * 
+	 */
+	private static class EdgeSet {
+		
+		private long[] keys = new long[64];
+		private int size;
+		
+		private static long keyOf(int a, int b) {
+			return a < b
+				? (long) a << 32 | b
+				: (long) b << 32 | a;
+		}
+		
+		private static int slotOf(long key, int mask) {
+			long hash = key * 0x9E3779B97F4A7C15L;
+			
+			return (int) (hash ^ hash >>> 32) & mask;
+		}
+		
+		// returns the slot containing the key, or the empty slot it would be inserted at
+		private int find(long key) {
+			int mask = keys.length - 1;
+			
+			int slot = slotOf(key, mask);
+			
+			while(keys[slot] != 0 && keys[slot] != key)
+				slot = (slot + 1) & mask;
+			
+			return slot;
+		}
+		
+		public boolean contains(int a, int b) {
+			return keys[find(keyOf(a, b))] != 0;
+		}
+		
+		// returns whether the edge has not been present before
+		public boolean add(int a, int b) {
+			long key = keyOf(a, b);
+			
+			int slot = find(key);
+			
+			if(keys[slot] != 0)
+				return false;
+			
+			keys[slot] = key;
+			
+			// keep the load factor below 1/2
+			if(2 * ++size > keys.length)
+				grow();
+			
+			return true;
+		}
+		
+		private void grow() {
+			long[] old = keys;
+			
+			keys = new long[old.length * 2];
+			
+			for(long key : old)
+				if(key != 0)
+					keys[find(key)] = key;
+		}
 		
 	}
-	
+
 }
@@ -0,0 +1,635 @@
+/* MIT License
+ * 
+ * Copyright (c) 2022 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.syntaxc.generator.alloc.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import at.syntaxerror.syntaxc.SyntaxC;
+import at.syntaxerror.syntaxc.generator.alloc.RegisterAllocator;
+import at.syntaxerror.syntaxc.generator.arch.Alignment;
+import at.syntaxerror.syntaxc.generator.asm.Instructions;
+import at.syntaxerror.syntaxc.generator.asm.insn.AssemblyInstruction;
+import at.syntaxerror.syntaxc.generator.asm.insn.PersistentMemoryInstruction;
+import at.syntaxerror.syntaxc.generator.asm.insn.RestoreRegistersInstruction;
+import at.syntaxerror.syntaxc.generator.asm.insn.StoreRegistersInstruction;
+import at.syntaxerror.syntaxc.generator.asm.target.AssemblyTarget;
+import at.syntaxerror.syntaxc.generator.asm.target.RegisterTarget;
+import at.syntaxerror.syntaxc.generator.asm.target.VirtualRegisterTarget;
+import at.syntaxerror.syntaxc.generator.asm.target.VirtualStackTarget;
+import at.syntaxerror.syntaxc.logger.Logger;
+import at.syntaxerror.syntaxc.type.Type;
+
+/**
+ * Base class for register allocators operating on the live intervals of virtual
+ * and physical registers.
+ * 
+ * The live intervals are determined separately for each {@link RegisterSupplier},
+ * and the actual assignment of physical registers is left to the subclasses.
+ * Saving and restoring registers around function calls as well as the allocation
+ * of stack memory is shared by all allocators.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public abstract class IntervalRegisterAllocator extends RegisterAllocator {
+	
+	private static final int MAX_SPILL_ROUNDS = 8;
+	
+	private final Instructions asm;
+	private final RegisterAllocationHelper helper;
+	
+	private StackAllocator allocator;
+	
+	private long registerId = -1;
+	
+	// the id of the current live interval of each physical register
+	private Map<RegisterTarget, Long> registers;
+	
+	// maps register ids to live intervals, only used while determining the live intervals
+	private Map<Long, LiveInterval> intervalIds;
+	
+	// the positions of the StoreRegistersInstructions and RestoreRegistersInstructions, by their id
+	private Map<Long, Long> storePositions;
+	private Map<Long, Long> restorePositions;
+	
+	// the instructions, excluding StoreRegistersInstructions and RestoreRegistersInstructions
+	private List<AssemblyInstruction> instructions;
+	private long instructionCount;
+	
+	// the ids of virtual registers introduced for loading spilled registers
+	private Set<Long> spillTemporaries;
+	
+	// the only instruction writing to each virtual register, if it can be rematerialized
+	private Map<Long, AssemblyInstruction> rematerializable;
+	
+	// the registers alive across each pair of StoreRegistersInstruction and RestoreRegistersInstruction
+	private Map<Long, List<RegisterTarget>> aliveRegisters;
+	
+	// all live intervals, indexed by LiveInterval#getIndex and sorted by their start position
+	protected final List<LiveInterval> intervals;
+	
+	// maps register ids to the physical registers assigned to them
+	protected final Map<Long, RegisterTarget> assigned;
+	
+	public IntervalRegisterAllocator(Instructions asm, Alignment alignment, RegisterAllocationHelper helper) {
+		this.asm = asm;
+		this.helper = helper;
+		
+		allocator = new StackAllocator(alignment);
+		
+		registers = new HashMap<>();
+		intervalIds = new HashMap<>();
+		storePositions = new HashMap<>();
+		restorePositions = new HashMap<>();
+		aliveRegisters = new HashMap<>();
+		spillTemporaries = new HashSet<>();
+		rematerializable = new HashMap<>();
+		intervals = new ArrayList<>();
+		assigned = new HashMap<>();
+	}
+	
+	/**
+	 * Assigns physical registers to the live intervals in {@link #intervals}, which have
+	 * been determined for the given register supplier. Intervals with a pre-assigned register
+	 * must keep their register. Every assignment must be recorded in {@link #assigned}.
+	 * 
+	 * If not all intervals can be assigned a register, the intervals of virtual registers
+	 * to be spilled are returned. Their registers are then moved to the stack and the
+	 * allocation is repeated.
+	 * 
+	 * @param supplier the register supplier
+	 * @return the intervals to be spilled, or an empty list if registers have been assigned successfully
+	 */
+	protected abstract List<LiveInterval> assignRegisters(RegisterSupplier supplier);
+	
+	/**
+	 * Checks whether the instruction at the given position is a copy
+	 * 
+	 * @param position the position of the instruction
+	 * @return whether the instruction is a copy
+	 */
+	protected boolean isCopy(long position) {
+		return helper.isCopy(instructions.get((int) position));
+	}
+	
+	@Override
+	public List<RegisterTarget> getAssignedRegisters() {
+		return new ArrayList<>(assigned.values());
+	}
+	
+	@Override
+	public long getStackSize() {
+		return allocator.getStackSize();
+	}
+	
+	@Override
+	public AssemblyTarget resolveVirtualMemory(long address, Type type) {
+		return helper.resolveVirtualMemory(address, type);
+	}
+	
+	@Override
+	public void allocate() {
+		assigned.clear();
+		aliveRegisters.clear();
+		
+		helper.getRegisterSuppliers().forEach(this::allocateRegisters);
+		
+		replaceVirtualRegisters();
+		replaceStoreRestore();
+		allocateStackMemory();
+	}
+	
+	private void replaceStoreRestore() {
+		Map<Long, Map<RegisterTarget, VirtualStackTarget>> locations = new HashMap<>();
+		
+		var assigned = getAssignedRegisters();
+		
+		for(AssemblyInstruction insn : asm)
+			if(insn instanceof StoreRegistersInstruction store) {
+				long id = store.getId();
+				
+				Map<RegisterTarget, VirtualStackTarget> registers = new HashMap<>();
+				
+				/* Registers only need to be saved if they hold a value which is still needed
+				 * afterwards. The exception is a pair spanning the whole function, which saves
+				 * the registers of the caller (whose values are not visible here)
+				 */
+				List<RegisterTarget> required = storePositions.getOrDefault(id, -1L) == 0
+					&& restorePositions.getOrDefault(id, -1L) == instructionCount
+						? assigned
+						: aliveRegisters.getOrDefault(id, List.of());
+				
+				for(AssemblyTarget target : store.getSources()) {
+					RegisterTarget register = (RegisterTarget) target;
+					
+					if(!required.stream().anyMatch(register::intersects))
+						continue;
+					
+					VirtualStackTarget stack = new VirtualStackTarget(register.getType());
+					
+					store.insertAfter(helper.store(asm, stack, register));
+					
+					registers.put(register, stack);
+				}
+				
+				locations.put(id, registers);
+				store.remove();
+			}
+			else if(insn instanceof RestoreRegistersInstruction restore) {
+				long id = restore.getId();
+				
+				if(!locations.containsKey(id)) {
+					restore.remove();
+					continue;
+				}
+				
+				Map<RegisterTarget, VirtualStackTarget> registers = locations.get(id);
+				
+				for(Map.Entry<RegisterTarget, VirtualStackTarget> entry : registers.entrySet())
+					restore.insertAfter(helper.restore(asm, entry.getKey(), entry.getValue()));
+				
+				restore.remove();
+			}
+	}
+	
+	private void findStackMemory(List<AssemblyTarget> targets, long pos) {
+		for(AssemblyTarget target : targets) {
+			if(target instanceof VirtualStackTarget virtual)
+				allocator.use(virtual.getId(), virtual.getType(), pos);
+			
+			else if(target != null) {
+				List<AssemblyTarget> nested = target.getNestedTargets();
+				
+				if(nested != null && !nested.isEmpty())
+					findStackMemory(nested, pos);
+			}
+		}
+	}
+	
+	private void replaceStackMemory(List<AssemblyTarget> targets) {
+		for(int i = 0; i < targets.size(); ++i) {
+			AssemblyTarget target = targets.get(i);
+			
+			if(target instanceof VirtualStackTarget virtual)
+				targets.set(
+					i,
+					helper.resolveVirtualMemory(
+						allocator.getAddress(virtual.getId()),
+						virtual.getType()
+					)
+				);
+			
+			else if(target != null) {
+				List<AssemblyTarget> nested = target.getNestedTargets();
+				
+				if(nested != null && !nested.isEmpty())
+					replaceStackMemory(nested);
+			}
+		}
+	}
+	
+	private void allocateStackMemory() {
+		Map<String, Long> labels = new HashMap<>();
+		
+		long pos = 0;
+		
+		for(AssemblyInstruction insn : asm) {
+			
+			if(insn instanceof PersistentMemoryInstruction persistent) {
+				allocator.persist(persistent.getTarget().getId());
+				persistent.remove();
+				continue;
+			}
+			
+			String label = helper.getLabel(insn);
+			String target = helper.getJumpTarget(insn);
+			
+			if(label != null)
+				labels.put(label, pos);
+			
+			// jumps to a preceding label form a loop
+			if(target != null && labels.containsKey(target))
+				allocator.addLoop(labels.get(target), pos);
+			
+			findStackMemory(insn.getSources(), pos);
+			findStackMemory(insn.getDestinations(), pos);
+			++pos;
+		}
+		
+		allocator.allocate();
+		
+		for(AssemblyInstruction insn : asm) {
+			replaceStackMemory(insn.getSources());
+			replaceStackMemory(insn.getDestinations());
+		}
+	}
+	
+	private void replaceVirtualRegisters(List<AssemblyTarget> targets) {
+		for(int i = 0; i < targets.size(); ++i)
+			if(targets.get(i) instanceof VirtualRegisterTarget virtual) {
+				
+				long id = virtual.getId();
+				
+				if(!assigned.containsKey(id))
+					Logger.softError("Failed to allocate physical register to virtual register %d. This is a bug.", id);
+				
+				else targets.set(i, assigned.get(id).resized(virtual.getType()));
+			}
+		
+		targets.stream()
+			.filter(target -> target != null)
+			.map(AssemblyTarget::getNestedTargets)
+			.filter(list -> list != null && !list.isEmpty())
+			.forEach(this::replaceVirtualRegisters);
+		
+		SyntaxC.checkTerminationState();
+	}
+	
+	private void replaceVirtualRegisters() {
+		for(AssemblyInstruction insn : asm) {
+			replaceVirtualRegisters(insn.getSources());
+			replaceVirtualRegisters(insn.getDestinations());
+		}
+	}
+	
+	private void allocateRegisters(RegisterSupplier supplier) {
+		if(supplier == null)
+			return;
+		
+		for(int round = 0; ; ++round) {
+			registerId = 0;
+			
+			registers.clear();
+			intervalIds.clear();
+			intervals.clear();
+			
+			findLiveRanges(supplier);
+			
+			// the mapping is only needed while determining the live intervals
+			intervalIds.clear();
+			
+			List<LiveInterval> spilled = assignRegisters(supplier);
+			
+			if(spilled.isEmpty())
+				break;
+			
+			if(round == MAX_SPILL_ROUNDS)
+				Logger.error("Failed to allocate registers after spilling %d times", round);
+			
+			for(LiveInterval interval : intervals)
+				if(interval.getId() >= 0)
+					assigned.remove(interval.getId());
+			
+			spill(spilled);
+		}
+		
+		findAliveRegisters();
+	}
+	
+	private void replaceSpilled(List<AssemblyTarget> targets, Map<Long, VirtualRegisterTarget> temporaries) {
+		for(int i = 0; i < targets.size(); ++i)
+			if(targets.get(i) instanceof VirtualRegisterTarget virtual && temporaries.containsKey(virtual.getId()))
+				targets.set(i, temporaries.get(virtual.getId()).resized(virtual.getType()));
+		
+		targets.stream()
+			.filter(target -> target != null)
+			.map(AssemblyTarget::getNestedTargets)
+			.filter(list -> list != null && !list.isEmpty())
+			.forEach(list -> replaceSpilled(list, temporaries));
+	}
+	
+	private void findSpilled(List<AssemblyTarget> targets, Map<Long, VirtualStackTarget> slots, Set<Long> found) {
+		for(AssemblyTarget target : targets)
+			if(target instanceof VirtualRegisterTarget virtual && slots.containsKey(virtual.getId()))
+				found.add(virtual.getId());
+		
+		targets.stream()
+			.filter(target -> target != null)
+			.map(AssemblyTarget::getNestedTargets)
+			.filter(list -> list != null && !list.isEmpty())
+			.forEach(list -> findSpilled(list, slots, found));
+	}
+	
+	/*
+	 * Moves the given virtual registers to the stack. Every instruction using one of them
+	 * gets its own (short-lived) virtual register instead, which is loaded from the stack
+	 * before and stored to the stack after the instruction.
+	 * 
+	 * Registers holding a rematerializable value (e.g. a constant) are not stored at all.
+	 * Instead, their only definition is removed and repeated before every use
+	 */
+	private void spill(List<LiveInterval> spilled) {
+		Map<Long, VirtualStackTarget> slots = new HashMap<>();
+		
+		for(LiveInterval interval : spilled)
+			slots.put(interval.getId(), null);
+		
+		List<AssemblyInstruction> instructions = new ArrayList<>(this.instructions);
+		
+		// determine the largest type each register is used with
+		Map<Long, Type> types = new HashMap<>();
+		
+		for(AssemblyInstruction insn : instructions)
+			for(List<AssemblyTarget> targets : List.of(insn.getSources(), insn.getDestinations()))
+				collectTypes(targets, slots, types);
+		
+		Map<Long, AssemblyInstruction> rematerialized = new HashMap<>();
+		
+		types.forEach((id, type) -> {
+			AssemblyInstruction definition = rematerializable.get(id);
+			
+			if(definition != null && definition.getDestinations().get(0).getType().sizeof() == type.sizeof())
+				rematerialized.put(id, definition);
+			
+			else slots.put(id, new VirtualStackTarget(type));
+		});
+		
+		Set<AssemblyInstruction> definitions = new HashSet<>(rematerialized.values());
+		
+		Set<Long> read = new HashSet<>();
+		Set<Long> written = new HashSet<>();
+		
+		for(AssemblyInstruction insn : instructions) {
+			if(definitions.contains(insn)) {
+				insn.remove();
+				continue;
+			}
+			
+			read.clear();
+			written.clear();
+			
+			boolean definition = helper.isDefinition(insn);
+			
+			findSpilled(insn.getSources(), slots, read);
+			
+			for(AssemblyTarget target : insn.getDestinations()) {
+				if(target == null)
+					continue;
+				
+				if(target instanceof VirtualRegisterTarget virtual && slots.containsKey(virtual.getId())) {
+					written.add(virtual.getId());
+					
+					// partially written registers have to be loaded first
+					if(!definition || virtual.getType().sizeof() < types.get(virtual.getId()).sizeof())
+						read.add(virtual.getId());
+				}
+				
+				List<AssemblyTarget> nested = target.getNestedTargets();
+				
+				if(nested != null && !nested.isEmpty())
+					findSpilled(nested, slots, read);
+			}
+			
+			if(read.isEmpty() && written.isEmpty())
+				continue;
+			
+			Map<Long, VirtualRegisterTarget> temporaries = new HashMap<>();
+			
+			for(long id : read)
+				temporaries.put(id, new VirtualRegisterTarget(types.get(id)));
+			
+			for(long id : written)
+				temporaries.computeIfAbsent(id, i -> new VirtualRegisterTarget(types.get(i)));
+			
+			temporaries.values().forEach(temp -> spillTemporaries.add(temp.getId()));
+			
+			for(long id : read) {
+				VirtualRegisterTarget temporary = temporaries.get(id);
+				AssemblyInstruction original = rematerialized.get(id);
+				
+				insn.insertBefore(
+					original == null
+						? helper.restore(asm, temporary, slots.get(id))
+						: helper.rematerialize(asm, original, temporary)
+				);
+			}
+			
+			for(long id : written)
+				insn.insertAfter(helper.store(asm, slots.get(id), temporaries.get(id)));
+			
+			replaceSpilled(insn.getSources(), temporaries);
+			replaceSpilled(insn.getDestinations(), temporaries);
+		}
+	}
+	
+	private void collectTypes(List<AssemblyTarget> targets, Map<Long, VirtualStackTarget> slots, Map<Long, Type> types) {
+		for(AssemblyTarget target : targets)
+			if(target instanceof VirtualRegisterTarget virtual && slots.containsKey(virtual.getId()))
+				types.merge(
+					virtual.getId(),
+					virtual.getType(),
+					(a, b) -> a.sizeof() >= b.sizeof() ? a : b
+				);
+		
+		targets.stream()
+			.filter(target -> target != null)
+			.map(AssemblyTarget::getNestedTargets)
+			.filter(list -> list != null && !list.isEmpty())
+			.forEach(list -> collectTypes(list, slots, types));
+	}
+	
+	private void findAliveRegisters() {
+		for(var entry : storePositions.entrySet()) {
+			long id = entry.getKey();
+			long from = entry.getValue();
+			
+			if(!restorePositions.containsKey(id))
+				continue;
+			
+			long to = restorePositions.get(id);
+			
+			for(LiveInterval interval : intervals) {
+				if(interval.getFrom() >= from || interval.getTo() < to)
+					continue;
+				
+				RegisterTarget register = assigned.get(interval.getId());
+				
+				if(register != null && interval.isAliveAcross(from, to))
+					aliveRegisters.computeIfAbsent(id, i -> new ArrayList<>()).add(register);
+			}
+		}
+	}
+	
+	private void updateInterval(RegisterSupplier supplier, long pos, long intervalId, Type type, RegisterTarget reg) {
+		if(!supplier.isSuitableFor(type))
+			return;
+		
+		LiveInterval live = intervalIds.get(intervalId);
+		
+		if(live == null) {
+			live = new LiveInterval(-1, intervalId, pos, pos);
+			
+			intervals.add(live);
+			intervalIds.put(intervalId, live);
+		}
+		else live.setTo(pos);
+		
+		if(reg != null)
+			live.setAssignedRegister(reg);
+	}
+	
+	private void initLiveRanges(RegisterSupplier supplier, long pos, boolean copy, List<AssemblyTarget> targets) {
+		List<RegisterTarget> registers = supplier.getRegisters();
+		
+		for(AssemblyTarget target : targets)
+			// virtual registers are handled by the LivenessAnalysis
+			if(target instanceof RegisterTarget reg && !(target instanceof VirtualRegisterTarget)) {
+				
+				if(!registers.stream().anyMatch(reg::intersects))
+					continue;
+				
+				Long id = this.registers.get(reg);
+				
+				if(copy || id == null) {
+					id = --registerId;
+					this.registers.put(reg, id);
+				}
+				
+				updateInterval(supplier, pos, id, reg.getType(), reg);
+			}
+		
+		targets.stream()
+			.filter(target -> target != null)
+			.map(AssemblyTarget::getNestedTargets)
+			.filter(list -> list != null && !list.isEmpty())
+			.forEach(list -> initLiveRanges(supplier, pos, copy, list));
+	}
+	
+	private void findRematerializable() {
+		Set<Long> excluded = new HashSet<>();
+		
+		rematerializable.clear();
+		
+		for(AssemblyInstruction insn : instructions)
+			for(AssemblyTarget target : insn.getDestinations())
+				if(target instanceof VirtualRegisterTarget virtual) {
+					long id = virtual.getId();
+					
+					// registers must be written exactly once
+					if(excluded.contains(id))
+						continue;
+					
+					if(rematerializable.containsKey(id) || !helper.isRematerializable(insn)) {
+						rematerializable.remove(id);
+						excluded.add(id);
+					}
+					else rematerializable.put(id, insn);
+				}
+	}
+	
+	private void findLiveRanges(RegisterSupplier supplier) {
+		List<AssemblyInstruction> instructions = new ArrayList<>();
+		
+		storePositions.clear();
+		restorePositions.clear();
+		
+		long pos = 0;
+		
+		for(AssemblyInstruction insn : asm) {
+			if(insn instanceof StoreRegistersInstruction store) {
+				storePositions.put((long) store.getId(), pos);
+				continue;
+			}
+			
+			if(insn instanceof RestoreRegistersInstruction restore) {
+				restorePositions.put((long) restore.getId(), pos);
+				continue;
+			}
+			
+			initLiveRanges(supplier, pos, false, insn.getSources());
+			initLiveRanges(supplier, pos, helper.isCopy(insn), insn.getDestinations());
+			
+			instructions.add(insn);
+			++pos;
+		}
+		
+		this.instructions = instructions;
+		instructionCount = pos;
+		
+		intervals.addAll(new LivenessAnalysis(helper, supplier, instructions).analyze());
+		
+		findRematerializable();
+		
+		for(LiveInterval interval : intervals) {
+			// registers introduced by spilling must not be spilled again
+			if(spillTemporaries.contains(interval.getId()))
+				interval.setSpillCost(Double.POSITIVE_INFINITY);
+			
+			// recomputing a value is cheaper than loading it, and it never has to be stored
+			else if(rematerializable.containsKey(interval.getId()))
+				interval.setSpillCost(interval.getSpillCost() / 2);
+		}
+		
+		intervals.sort(Comparator.comparingLong(LiveInterval::getFrom));
+		
+		for(int i = 0; i < intervals.size(); ++i)
+			intervals.get(i).setIndex(i);
+	}
+
+}
@@ -0,0 +1,205 @@
+/* MIT License
+ * 
+ * Copyright (c) 2022 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.syntaxc.generator.alloc.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import at.syntaxerror.syntaxc.generator.arch.Alignment;
+import at.syntaxerror.syntaxc.generator.asm.Instructions;
+import at.syntaxerror.syntaxc.generator.asm.target.RegisterTarget;
+
+/**
+ * A register allocator assigning registers in a single pass over the live intervals,
+ * sorted by their start position (see Poletto and Sarkar, "Linear Scan Register Allocation").
+ * 
+ * In contrast to the {@link GraphColoringRegisterAllocator}, no interference graph is built
+ * and no intervals are coalesced. An interval starting where another one ends may reuse its
+ * register, though, which has the same effect for most copies. If no register is available,
+ * the interval is spilled.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public class LinearScanRegisterAllocator extends IntervalRegisterAllocator {
+	
+	public LinearScanRegisterAllocator(Instructions asm, Alignment alignment, RegisterAllocationHelper helper) {
+		super(asm, alignment, helper);
+	}
+	
+	@Override
+	protected List<LiveInterval> assignRegisters(RegisterSupplier supplier) {
+		List<RegisterTarget> registers = supplier.getRegisters();
+		
+		int count = registers.size();
+		
+		boolean[] precolored = new boolean[intervals.size()];
+		
+		for(LiveInterval interval : intervals)
+			precolored[interval.getIndex()] = interval.isAssigned();
+		
+		List<LiveInterval> spilled = new ArrayList<>();
+		
+		/* for each register, the intervals which are pre-assigned to a register
+		 * intersecting it (sorted by their start position), and the index of the
+		 * first of those which has not been started yet
+		 */
+		List<List<LiveInterval>> fixed = new ArrayList<>();
+		int[] next = new int[count];
+		
+		for(RegisterTarget register : registers) {
+			List<LiveInterval> fixedIntervals = new ArrayList<>();
+			
+			for(LiveInterval interval : intervals)
+				if(interval.isAssigned() && interval.getAssignedRegister().intersects(register))
+					fixedIntervals.add(interval);
+			
+			fixed.add(fixedIntervals);
+		}
+		
+		List<LiveInterval> active = new ArrayList<>();
+		
+		boolean[] available = new boolean[count];
+		boolean[] unfixed = new boolean[count];
+		
+		for(LiveInterval interval : intervals) {
+			long from = interval.getFrom();
+			long to = interval.getTo();
+			
+			active.removeIf(other -> other.getTo() < from);
+			
+			if(interval.isAssigned()) {
+				active.add(interval);
+				assigned.put(interval.getId(), interval.getAssignedRegister());
+				continue;
+			}
+			
+			RegisterTarget hint = null;
+			
+			for(int i = 0; i < count; ++i) {
+				List<LiveInterval> fixedIntervals = fixed.get(i);
+				
+				while(next[i] < fixedIntervals.size() && fixedIntervals.get(next[i]).getFrom() < from)
+					++next[i];
+				
+				// the register is needed by a pre-assigned interval starting before this one ends
+				available[i] = next[i] >= fixedIntervals.size()
+					|| fixedIntervals.get(next[i]).getFrom() > to;
+				
+				unfixed[i] = available[i];
+			}
+			
+			for(LiveInterval other : active) {
+				// the interval may be in a hole of the other one
+				if(!other.interferesWith(interval))
+					continue;
+				
+				RegisterTarget register = other.getAssignedRegister();
+				
+				// intervals ending where this one starts may share the register (see coalescing)
+				if(other.getTo() == from && other.getFrom() != from) {
+					if(hint == null)
+						hint = register;
+					
+					continue;
+				}
+				
+				for(int i = 0; i < count; ++i)
+					if(available[i] && register.intersects(registers.get(i)))
+						available[i] = false;
+			}
+			
+			RegisterTarget register = null;
+			
+			for(int i = 0; i < count; ++i) {
+				if(!available[i])
+					continue;
+				
+				RegisterTarget candidate = registers.get(i);
+				
+				if(register == null)
+					register = candidate;
+				
+				if(hint != null && candidate.intersects(hint)) {
+					register = candidate;
+					break;
+				}
+			}
+			
+			if(register == null) {
+				LiveInterval victim = null;
+				
+				/* registers introduced by spilling cannot be spilled again. Instead,
+				 * the register of another interfering interval is taken over
+				 */
+				if(interval.getSpillCost() == Double.POSITIVE_INFINITY)
+					for(LiveInterval other : active)
+						if(!precolored[other.getIndex()]
+							&& other.getSpillCost() != Double.POSITIVE_INFINITY
+							&& (victim == null || other.getTo() > victim.getTo())
+							&& canTakeOver(interval, other, active, registers, unfixed))
+							victim = other;
+				
+				if(victim == null) {
+					spilled.add(interval);
+					continue;
+				}
+				
+				register = victim.getAssignedRegister();
+				
+				active.remove(victim);
+				spilled.add(victim);
+			}
+			
+			interval.setAssignedRegister(register);
+			active.add(interval);
+			
+			assigned.put(interval.getId(), register);
+		}
+		
+		return spilled;
+	}
+	
+	// checks whether the register of 'victim' is only blocked by 'victim' itself
+	private static boolean canTakeOver(LiveInterval interval, LiveInterval victim, List<LiveInterval> active,
+			List<RegisterTarget> registers, boolean[] unfixed) {
+		
+		RegisterTarget register = victim.getAssignedRegister();
+		
+		if(!victim.interferesWith(interval))
+			return false;
+		
+		for(int i = 0; i < registers.size(); ++i)
+			if(!unfixed[i] && register.intersects(registers.get(i)))
+				return false;
+		
+		for(LiveInterval other : active)
+			if(other != victim
+				&& other.getAssignedRegister().intersects(register)
+				&& other.interferesWith(interval))
+				return false;
+		
+		return true;
+	}
+
+}
@@ -22,30 +22,135 @@
  */
 package at.syntaxerror.syntaxc.generator.alloc.impl;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Arrays;
 
 import at.syntaxerror.syntaxc.generator.asm.target.RegisterTarget;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 /**
+ * A live interval of a (virtual or physical) register, which is also a node of
+ * the interference graph.
+ * 
+ * Intervals are identified by a dense index (unique per function and register supplier),
+ * so that the interference graph can be stored as primitive adjacency lists.
+ * 
+ * An interval consists of one or more disjoint segments, sorted by their position.
+ * The register is not alive in the holes between two segments, where its physical
+ * register may be used by other intervals
+ * 
  * @author Thomas Kasper
  * 
  */
-@Setter
 @Getter
 public class LiveInterval implements Comparable<LiveInterval> {
-
-	private long from, to;
 	
+	private static final int[] NO_INTERFERENCE = {};
+	
+	@Setter
+	private int index;
+	
+	private final long id;
+	
+	// the start and end position of each segment, stored pairwise
+	@Getter(AccessLevel.NONE)
+	private long[] segments = new long[2];
+	
+	private int segmentCount;
+	
+	@Setter
 	private RegisterTarget assignedRegister;
 	
-	private final Set<Long> interference = new HashSet<>();
+	@Getter(AccessLevel.NONE)
+	private int[] interference = NO_INTERFERENCE;
+	
+	private int degree;
 	
-	public LiveInterval(long from, long to) {
-		this.from = from;
-		this.to = to;
+	// the estimated cost of spilling this register, weighted by the loop nesting depth of its occurrences
+	@Setter
+	private double spillCost;
+	
+	public LiveInterval(int index, long id, long from, long to) {
+		this.index = index;
+		this.id = id;
+		
+		addSegment(from, to);
+	}
+	
+	public long getFrom() {
+		return segments[0];
+	}
+	
+	public long getTo() {
+		return segments[2 * segmentCount - 1];
+	}
+	
+	public long getSegmentFrom(int i) {
+		return segments[2 * i];
+	}
+	
+	public long getSegmentTo(int i) {
+		return segments[2 * i + 1];
+	}
+	
+	/**
+	 * Extends the last segment up to the given position
+	 * 
+	 * @param to the new end position
+	 */
+	public void setTo(long to) {
+		segments[2 * segmentCount - 1] = to;
+	}
+	
+	/**
+	 * Appends a segment to this interval. The segment must not start before the
+	 * last segment starts. If both segments overlap or are adjacent, they are merged.
+	 * 
+	 * @param from the start position (inclusive)
+	 * @param to the end position (inclusive)
+	 */
+	public void addSegment(long from, long to) {
+		if(segmentCount > 0 && from <= getTo() + 1) {
+			setTo(Math.max(to, getTo()));
+			return;
+		}
+		
+		if(2 * segmentCount == segments.length)
+			segments = Arrays.copyOf(segments, segments.length * 2);
+		
+		segments[2 * segmentCount] = from;
+		segments[2 * segmentCount + 1] = to;
+		++segmentCount;
+	}
+	
+	/**
+	 * Merges the segments of another interval into this one. The spill costs are added up.
+	 * 
+	 * @param other the other interval
+	 */
+	public void merge(LiveInterval other) {
+		long[] mine = Arrays.copyOf(segments, 2 * segmentCount);
+		int count = segmentCount;
+		
+		segments = new long[Math.max(2, 2 * (count + other.segmentCount))];
+		segmentCount = 0;
+		
+		int i = 0;
+		int j = 0;
+		
+		while(i < count || j < other.segmentCount) {
+			if(j >= other.segmentCount || (i < count && mine[2 * i] <= other.getSegmentFrom(j))) {
+				addSegment(mine[2 * i], mine[2 * i + 1]);
+				++i;
+			}
+			else {
+				addSegment(other.getSegmentFrom(j), other.getSegmentTo(j));
+				++j;
+			}
+		}
+		
+		spillCost += other.spillCost;
 	}
 	
 	public boolean isAssigned() {
@@ -57,23 +162,148 @@ public class LiveInterval implements Comparable<LiveInterval> {
 	}
 	
 	public boolean interferesWith(LiveInterval other) {
-		return Math.max(from, other.from) <= Math.min(to, other.to);
+		if(Math.max(getFrom(), other.getFrom()) > Math.min(getTo(), other.getTo()))
+			return false;
+		
+		int i = 0;
+		int j = 0;
+		
+		while(i < segmentCount && j < other.segmentCount) {
+			if(getSegmentTo(i) < other.getSegmentFrom(j))
+				++i;
+			
+			else if(other.getSegmentTo(j) < getSegmentFrom(i))
+				++j;
+			
+			else return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Checks whether this interval and another one only overlap where one of them ends and
+	 * the other one starts (e.g. the source and the destination of a copy). Both registers
+	 * may share the same physical register then.
+	 * 
+	 * @param other the other interval
+	 * @return the first such position, or {@code -1} if the intervals do not overlap at all or also overlap elsewhere
+	 */
+	public long findTouchingPosition(LiveInterval other) {
+		long position = -1;
+		
+		int i = 0;
+		int j = 0;
+		
+		while(i < segmentCount && j < other.segmentCount) {
+			long from = getSegmentFrom(i);
+			long to = getSegmentTo(i);
+			long otherFrom = other.getSegmentFrom(j);
+			long otherTo = other.getSegmentTo(j);
+			
+			if(to < otherFrom)
+				++i;
+			
+			else if(otherTo < from)
+				++j;
+			
+			else if(to == otherFrom && from < otherFrom) {
+				if(position == -1)
+					position = to;
+				
+				++i;
+			}
+			
+			else if(otherTo == from && otherFrom < from) {
+				if(position == -1)
+					position = from;
+				
+				++j;
+			}
+			
+			else return -1;
+		}
+		
+		return position;
+	}
+	
+	/**
+	 * Checks whether this interval is alive before the given start position
+	 * and still alive at the given end position, without any hole in between
+	 * 
+	 * @param from the start position
+	 * @param to the end position
+	 * @return whether the register is alive across the range
+	 */
+	public boolean isAliveAcross(long from, long to) {
+		for(int i = 0; i < segmentCount; ++i)
+			if(getSegmentFrom(i) < from && getSegmentTo(i) >= to)
+				return true;
+		
+		return false;
+	}
+	
+	/**
+	 * Returns the index of the {@code i}-th interfering interval
+	 * 
+	 * @param i the position within the adjacency list, between {@code 0} and {@link #getDegree()}
+	 * @return the index of the interfering interval
+	 */
+	public int getInterference(int i) {
+		return interference[i];
+	}
+	
+	/**
+	 * Adds an edge to the interference graph. The caller has to make sure that no duplicate edges are added
+	 * 
+	 * @param other the index of the interfering interval
+	 */
+	public void addInterference(int other) {
+		if(degree == interference.length)
+			interference = Arrays.copyOf(interference, Math.max(4, degree * 2));
+		
+		interference[degree++] = other;
+	}
+	
+	/**
+	 * Removes an edge from the interference graph
+	 * 
+	 * @param other the index of the interfering interval
+	 * @return whether the edge existed
+	 */
+	public boolean removeInterference(int other) {
+		for(int i = 0; i < degree; ++i)
+			if(interference[i] == other) {
+				interference[i] = interference[--degree];
+				return true;
+			}
+		
+		return false;
 	}
 	
 	@Override
 	public int compareTo(LiveInterval o) {
-		return Long.compare(to - from, o.to - o.from);
+		return Long.compare(getTo() - getFrom(), o.getTo() - o.getFrom());
 	}
-
+	
 	@Override
 	public String toString() {
-		return "[" + from + ";" + to + "]"
-			+ (interference.isEmpty()
+		StringBuilder sb = new StringBuilder();
+		
+		for(int i = 0; i < segmentCount; ++i)
+			sb.append('[')
+				.append(getSegmentFrom(i))
+				.append(';')
+				.append(getSegmentTo(i))
+				.append(']');
+		
+		return sb
+			+ (degree == 0
 				? ""
-				: ":" + interference)
+				: ":" + Arrays.toString(Arrays.copyOf(interference, degree)))
 			+ (assignedRegister == null
 				? ""
 				: "@" + assignedRegister);
 	}
-	
+
 }
@@ -0,0 +1,529 @@
+/* MIT License
+ * 
+ * Copyright (c) 2022 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.syntaxc.generator.alloc.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import at.syntaxerror.syntaxc.generator.asm.insn.AssemblyInstruction;
+import at.syntaxerror.syntaxc.generator.asm.target.AssemblyTarget;
+import at.syntaxerror.syntaxc.generator.asm.target.VirtualRegisterTarget;
+
+/**
+ * Determines the live intervals of virtual registers by solving the (backward) liveness
+ * dataflow equations over the basic blocks of a function.
+ * 
+ * In contrast to a single interval ranging from the first to the last occurrence of a
+ * register, the resulting intervals have holes where the register is not alive (e.g. in
+ * branches not using it), and registers used within loops are alive across the whole loop.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public class LivenessAnalysis {
+	
+	private static final int[] NONE = {};
+	
+	// deeper loops do not further increase the spill costs
+	private static final int MAX_LOOP_DEPTH = 5;
+	
+	private final RegisterAllocationHelper helper;
+	private final RegisterSupplier supplier;
+	private final List<AssemblyInstruction> instructions;
+	
+	// maps the ids of virtual registers to dense indices
+	private final Map<Long, Integer> indices = new HashMap<>();
+	private final List<Long> ids = new ArrayList<>();
+	
+	// the largest size each virtual register is used with
+	private int[] sizes = new int[16];
+	
+	// the virtual registers read and (completely) overwritten by each instruction
+	private int[][] uses;
+	private int[][] definitions;
+	
+	private int[] buffer = new int[16];
+	private int bufferSize;
+	
+	// the first and last position each virtual register occurs at
+	private long[] firstOccurrences = new long[16];
+	private long[] lastOccurrences = new long[16];
+	
+	private int position;
+	
+	private int[] blockStarts;
+	private int[] blockEnds;
+	private int blockCount;
+	
+	// the loop nesting depth of each instruction
+	private int[] loopDepths;
+	
+	/**
+	 * @param helper the architecture-specific helper
+	 * @param supplier the register supplier, only registers suitable for it are considered
+	 * @param instructions the instructions, indexed by their position
+	 */
+	public LivenessAnalysis(RegisterAllocationHelper helper, RegisterSupplier supplier, List<AssemblyInstruction> instructions) {
+		this.helper = helper;
+		this.supplier = supplier;
+		this.instructions = instructions;
+	}
+	
+	/**
+	 * Computes the live intervals of all virtual registers. The intervals are sorted by
+	 * the id of their register, their index is not yet assigned.
+	 * 
+	 * @return the live intervals
+	 */
+	public List<LiveInterval> analyze() {
+		findOccurrences();
+		findBlocks();
+		
+		BitSet[] liveIn = new BitSet[blockCount];
+		BitSet[] liveOut = new BitSet[blockCount];
+		
+		int[][] successors = findSuccessors();
+		
+		findLoopDepths(successors);
+		solve(successors, liveIn, liveOut);
+		
+		return buildIntervals(liveIn, liveOut);
+	}
+	
+	private int indexOf(VirtualRegisterTarget virtual) {
+		int index = indices.computeIfAbsent(
+			virtual.getId(),
+			id -> {
+				ids.add(id);
+				return ids.size() - 1;
+			}
+		);
+		
+		if(index == sizes.length) {
+			sizes = Arrays.copyOf(sizes, sizes.length * 2);
+			firstOccurrences = Arrays.copyOf(firstOccurrences, sizes.length);
+			lastOccurrences = Arrays.copyOf(lastOccurrences, sizes.length);
+		}
+		
+		if(sizes[index] == 0)
+			firstOccurrences[index] = position;
+		
+		lastOccurrences[index] = position;
+		sizes[index] = Math.max(sizes[index], virtual.getType().sizeof());
+		
+		return index;
+	}
+	
+	private void push(int index) {
+		for(int i = 0; i < bufferSize; ++i)
+			if(buffer[i] == index)
+				return;
+		
+		if(bufferSize == buffer.length)
+			buffer = Arrays.copyOf(buffer, bufferSize * 2);
+		
+		buffer[bufferSize++] = index;
+	}
+	
+	private int[] pop() {
+		if(bufferSize == 0)
+			return NONE;
+		
+		int[] result = Arrays.copyOf(buffer, bufferSize);
+		bufferSize = 0;
+		
+		return result;
+	}
+	
+	private void collectUses(List<AssemblyTarget> targets, boolean nestedOnly) {
+		for(AssemblyTarget target : targets) {
+			if(target == null)
+				continue;
+			
+			if(!nestedOnly && target instanceof VirtualRegisterTarget virtual && supplier.isSuitableFor(virtual.getType()))
+				push(indexOf(virtual));
+			
+			List<AssemblyTarget> nested = target.getNestedTargets();
+			
+			if(nested != null && !nested.isEmpty())
+				collectUses(nested, false);
+		}
+	}
+	
+	private static boolean isTopLevelSource(AssemblyInstruction insn, long id) {
+		for(AssemblyTarget target : insn.getSources())
+			if(target instanceof VirtualRegisterTarget virtual && virtual.getId() == id)
+				return true;
+		
+		return false;
+	}
+	
+	private void findOccurrences() {
+		int count = instructions.size();
+		
+		uses = new int[count][];
+		definitions = new int[count][];
+		
+		for(int pos = 0; pos < count; ++pos) {
+			AssemblyInstruction insn = instructions.get(pos);
+			
+			position = pos;
+			
+			boolean definition = helper.isDefinition(insn);
+			
+			// registers only written completely by the instruction are definitions
+			if(definition)
+				for(AssemblyTarget target : insn.getDestinations())
+					if(target instanceof VirtualRegisterTarget virtual && supplier.isSuitableFor(virtual.getType()))
+						push(indexOf(virtual));
+			
+			int[] defs = definitions[pos] = pop();
+			
+			collectUses(insn.getSources(), false);
+			collectUses(insn.getDestinations(), definition);
+			
+			// sources identical to the destination are not read by definitions
+			for(int def : defs)
+				for(int i = 0; i < bufferSize; ++i)
+					if(buffer[i] == def && isTopLevelSource(insn, ids.get(def)))
+						buffer[i] = buffer[--bufferSize];
+			
+			uses[pos] = pop();
+		}
+		
+		// a write to a part of a register does not end its previous lifetime
+		for(int pos = 0; pos < count; ++pos) {
+			int[] defs = definitions[pos];
+			
+			if(defs.length == 0)
+				continue;
+			
+			for(AssemblyTarget target : instructions.get(pos).getDestinations())
+				if(target instanceof VirtualRegisterTarget virtual
+					&& indices.containsKey(virtual.getId())
+					&& virtual.getType().sizeof() < sizes[indices.get(virtual.getId())]) {
+					
+					int index = indices.get(virtual.getId());
+					
+					definitions[pos] = Arrays.stream(defs)
+						.filter(def -> def != index)
+						.toArray();
+					
+					uses[pos] = Arrays.copyOf(uses[pos], uses[pos].length + 1);
+					uses[pos][uses[pos].length - 1] = index;
+				}
+		}
+	}
+	
+	private void findBlocks() {
+		int count = instructions.size();
+		
+		blockStarts = new int[count + 1];
+		blockEnds = new int[count + 1];
+		blockCount = 0;
+		
+		int start = 0;
+		
+		for(int pos = 0; pos < count; ++pos) {
+			AssemblyInstruction insn = instructions.get(pos);
+			
+			// labels start a new block
+			if(pos != start && helper.getLabel(insn) != null) {
+				blockStarts[blockCount] = start;
+				blockEnds[blockCount++] = pos - 1;
+				start = pos;
+			}
+			
+			// jumps end the current block
+			if(helper.isBlockEnd(insn) && helper.getLabel(insn) == null) {
+				blockStarts[blockCount] = start;
+				blockEnds[blockCount++] = pos;
+				start = pos + 1;
+			}
+		}
+		
+		if(start < count) {
+			blockStarts[blockCount] = start;
+			blockEnds[blockCount++] = count - 1;
+		}
+	}
+	
+	private int[][] findSuccessors() {
+		Map<String, Integer> labels = new HashMap<>();
+		
+		for(int block = 0; block < blockCount; ++block) {
+			String label = helper.getLabel(instructions.get(blockStarts[block]));
+			
+			if(label != null)
+				labels.put(label, block);
+		}
+		
+		int[] allLabels = labels.values()
+			.stream()
+			.mapToInt(Integer::intValue)
+			.toArray();
+		
+		int[][] successors = new int[blockCount][];
+		
+		for(int block = 0; block < blockCount; ++block) {
+			AssemblyInstruction last = instructions.get(blockEnds[block]);
+			
+			boolean fallthrough = block + 1 < blockCount;
+			
+			if(!helper.isBlockEnd(last) || helper.getLabel(last) != null) {
+				successors[block] = fallthrough ? new int[] { block + 1 } : NONE;
+				continue;
+			}
+			
+			String target = helper.getJumpTarget(last);
+			
+			int[] targets;
+			
+			if(target == null) // unknown target, could be any label
+				targets = allLabels;
+			
+			else if(labels.containsKey(target))
+				targets = new int[] { labels.get(target) };
+			
+			else targets = NONE;
+			
+			if(fallthrough && !helper.isUnconditionalJump(last)) {
+				targets = Arrays.copyOf(targets, targets.length + 1);
+				targets[targets.length - 1] = block + 1;
+			}
+			
+			successors[block] = targets;
+		}
+		
+		return successors;
+	}
+	
+	/* Determines the loop nesting depth of each instruction. Since the blocks are ordered
+	 * like the source code, every jump to a preceding (or the same) block is the back edge
+	 * of a loop, which spans all blocks from the jump target up to the jump itself.
+	 * Jumps with an unknown target (e.g. jump tables) are not considered
+	 */
+	private void findLoopDepths(int[][] successors) {
+		int count = instructions.size();
+		
+		// the difference between the depth of each instruction and its predecessor
+		int[] deltas = new int[count + 1];
+		
+		for(int block = 0; block < blockCount; ++block) {
+			if(helper.getJumpTarget(instructions.get(blockEnds[block])) == null)
+				continue;
+			
+			for(int successor : successors[block])
+				if(successor <= block) {
+					++deltas[blockStarts[successor]];
+					--deltas[blockEnds[block] + 1];
+				}
+		}
+		
+		loopDepths = new int[count];
+		
+		int depth = 0;
+		
+		for(int pos = 0; pos < count; ++pos)
+			loopDepths[pos] = depth += deltas[pos];
+	}
+	
+	private void solve(int[][] successors, BitSet[] liveIn, BitSet[] liveOut) {
+		BitSet[] gen = new BitSet[blockCount];
+		BitSet[] kill = new BitSet[blockCount];
+		
+		for(int block = 0; block < blockCount; ++block) {
+			BitSet blockGen = gen[block] = new BitSet();
+			BitSet blockKill = kill[block] = new BitSet();
+			
+			for(int pos = blockStarts[block]; pos <= blockEnds[block]; ++pos) {
+				for(int use : uses[pos])
+					if(!blockKill.get(use))
+						blockGen.set(use);
+				
+				for(int def : definitions[pos])
+					blockKill.set(def);
+			}
+			
+			liveIn[block] = (BitSet) blockGen.clone();
+			liveOut[block] = new BitSet();
+		}
+		
+		boolean changed;
+		
+		do {
+			changed = false;
+			
+			// visiting the blocks backwards usually converges within a few iterations
+			for(int block = blockCount - 1; block >= 0; --block) {
+				BitSet out = liveOut[block];
+				
+				for(int successor : successors[block])
+					out.or(liveIn[successor]);
+				
+				BitSet in = (BitSet) out.clone();
+				in.andNot(kill[block]);
+				in.or(gen[block]);
+				
+				if(!in.equals(liveIn[block])) {
+					liveIn[block] = in;
+					changed = true;
+				}
+			}
+		} while(changed);
+	}
+	
+	private List<LiveInterval> buildIntervals(BitSet[] liveIn, BitSet[] liveOut) {
+		int count = ids.size();
+		
+		/* registers alive at the beginning of the function are read before being
+		 * written on some path, where the analysis cannot tell how long their (undefined)
+		 * value is needed. They are treated as being alive from their first to their last
+		 * occurrence instead
+		 */
+		BitSet undefined = blockCount == 0 ? new BitSet() : liveIn[0];
+		
+		/* the segments of each register, from the last one to the first one,
+		 * stored pairwise. Since blocks and instructions are visited backwards,
+		 * new segments are only ever prepended to or merged with the first segment
+		 */
+		long[][] segments = new long[count][];
+		int[] segmentCounts = new int[count];
+		
+		BitSet live = new BitSet();
+		
+		for(int block = blockCount - 1; block >= 0; --block) {
+			int start = blockStarts[block];
+			int end = blockEnds[block];
+			
+			live.clear();
+			live.or(liveOut[block]);
+			
+			for(int index = live.nextSetBit(0); index >= 0; index = live.nextSetBit(index + 1))
+				addSegment(segments, segmentCounts, index, start, end);
+			
+			for(int pos = end; pos >= start; --pos) {
+				for(int def : definitions[pos]) {
+					if(live.get(def)) // shorten the segment to begin at the definition
+						segments[def][2 * segmentCounts[def] - 2] = pos;
+					
+					// the value is never used
+					else addSegment(segments, segmentCounts, def, pos, pos);
+					
+					live.clear(def);
+				}
+				
+				for(int use : uses[pos]) {
+					addSegment(segments, segmentCounts, use, start, pos);
+					live.set(use);
+				}
+			}
+		}
+		
+		double[] spillCosts = findSpillCosts();
+		
+		List<LiveInterval> intervals = new ArrayList<>();
+		
+		for(int index = 0; index < count; ++index) {
+			if(undefined.get(index)) {
+				LiveInterval interval = new LiveInterval(
+					-1,
+					ids.get(index),
+					firstOccurrences[index],
+					lastOccurrences[index]
+				);
+				
+				interval.setSpillCost(spillCosts[index]);
+				intervals.add(interval);
+				continue;
+			}
+			
+			long[] ranges = segments[index];
+			int n = segmentCounts[index];
+			
+			if(n == 0)
+				continue;
+			
+			LiveInterval interval = new LiveInterval(
+				-1,
+				ids.get(index),
+				ranges[2 * n - 2],
+				ranges[2 * n - 1]
+			);
+			
+			for(int i = n - 2; i >= 0; --i)
+				interval.addSegment(ranges[2 * i], ranges[2 * i + 1]);
+			
+			interval.setSpillCost(spillCosts[index]);
+			intervals.add(interval);
+		}
+		
+		return intervals;
+	}
+	
+	/* Spilling a register requires a load before each use and a store after each definition.
+	 * Instructions within loops are assumed to be executed 10 times per nesting level
+	 */
+	private double[] findSpillCosts() {
+		double[] spillCosts = new double[ids.size()];
+		
+		for(int pos = 0; pos < uses.length; ++pos) {
+			double weight = Math.pow(10, Math.min(loopDepths[pos], MAX_LOOP_DEPTH));
+			
+			for(int use : uses[pos])
+				spillCosts[use] += weight;
+			
+			for(int def : definitions[pos])
+				spillCosts[def] += weight;
+		}
+		
+		return spillCosts;
+	}
+	
+	private static void addSegment(long[][] segments, int[] segmentCounts, int index, long from, long to) {
+		long[] ranges = segments[index];
+		int n = segmentCounts[index];
+		
+		if(ranges == null)
+			ranges = segments[index] = new long[4];
+		
+		// overlaps or touches the current first segment
+		if(n > 0 && to + 1 >= ranges[2 * n - 2]) {
+			ranges[2 * n - 2] = Math.min(from, ranges[2 * n - 2]);
+			ranges[2 * n - 1] = Math.max(to, ranges[2 * n - 1]);
+			return;
+		}
+		
+		if(2 * n == ranges.length)
+			ranges = segments[index] = Arrays.copyOf(ranges, ranges.length * 2);
+		
+		ranges[2 * n] = from;
+		ranges[2 * n + 1] = to;
+		segmentCounts[index] = n + 1;
+	}
+
+}
@@ -0,0 +1,106 @@
+/* MIT License
+ * 
+ * Copyright (c) 2022 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.syntaxc.generator.alloc.impl;
+
+import java.util.List;
+
+import at.syntaxerror.syntaxc.generator.asm.Instructions;
+import at.syntaxerror.syntaxc.generator.asm.insn.AssemblyInstruction;
+import at.syntaxerror.syntaxc.generator.asm.target.AssemblyTarget;
+import at.syntaxerror.syntaxc.generator.asm.target.VirtualStackTarget;
+import at.syntaxerror.syntaxc.type.Type;
+
+/**
+ * The architecture-specific part of an {@link IntervalRegisterAllocator}
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public interface RegisterAllocationHelper {
+	
+	List<RegisterSupplier> getRegisterSuppliers();
+	
+	boolean isCopy(AssemblyInstruction insn);
+	boolean isBlockEnd(AssemblyInstruction insn);
+	
+	/**
+	 * Checks whether the instruction overwrites its destinations without reading them.
+	 * Sources identical to a destination are not read either (e.g. {@code xor eax, eax})
+	 * 
+	 * @param insn the instruction
+	 * @return whether the destinations are only written
+	 */
+	boolean isDefinition(AssemblyInstruction insn);
+	
+	/**
+	 * Checks whether the instruction is a jump which is always taken
+	 * 
+	 * @param insn the instruction
+	 * @return whether the jump is unconditional
+	 */
+	boolean isUnconditionalJump(AssemblyInstruction insn);
+	
+	/**
+	 * Returns the name of the label defined by the instruction
+	 * 
+	 * @param insn the instruction
+	 * @return the name of the label, or {@code null} if the instruction is not a label
+	 */
+	String getLabel(AssemblyInstruction insn);
+	
+	/**
+	 * Returns the name of the label the instruction jumps to
+	 * 
+	 * @param insn the jump instruction
+	 * @return the name of the label, or {@code null} if the target is not known
+	 */
+	String getJumpTarget(AssemblyInstruction insn);
+	
+	/**
+	 * Checks whether the value written by the instruction is always the same and can be
+	 * recomputed anywhere (e.g. constants or addresses of variables). If a register holding
+	 * such a value is spilled, the instruction is repeated instead of storing the value on the stack.
+	 * 
+	 * @param insn the instruction
+	 * @return whether the instruction can be rematerialized
+	 */
+	boolean isRematerializable(AssemblyInstruction insn);
+	
+	/**
+	 * Creates a copy of a {@link #isRematerializable(AssemblyInstruction) rematerializable}
+	 * instruction, writing to another register
+	 * 
+	 * @param asm the instructions
+	 * @param insn the rematerializable instruction
+	 * @param register the new destination
+	 * @return the new instruction
+	 */
+	AssemblyInstruction rematerialize(Instructions asm, AssemblyInstruction insn, AssemblyTarget register);
+	
+	// 'register' is either a physical or a virtual register
+	AssemblyInstruction store(Instructions asm, VirtualStackTarget target, AssemblyTarget register);
+	AssemblyInstruction restore(Instructions asm, AssemblyTarget register, VirtualStackTarget target);
+	
+	AssemblyTarget resolveVirtualMemory(long address, Type type);
+
+}
@@ -22,222 +22,252 @@
  */
 package at.syntaxerror.syntaxc.generator.alloc.impl;
 
-import java.util.HashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
 
 import at.syntaxerror.syntaxc.generator.arch.Alignment;
 import at.syntaxerror.syntaxc.logger.Logger;
 import at.syntaxerror.syntaxc.type.Type;
 import lombok.RequiredArgsConstructor;
-import lombok.ToString;
 
 /**
+ * Assigns stack memory to virtual stack targets.
+ * 
+ * The lifetime of each target ranges from its first to its last use (extended to
+ * the end of any loop it is used in). Targets with non-overlapping lifetimes share
+ * the same memory (stack slot coloring). Unused memory is kept in separate lists
+ * for each size, so that memory of the exact size is usually found immediately.
+ * 
  * @author Thomas Kasper
  * 
  */
 @RequiredArgsConstructor
 public class StackAllocator {
-
+	
 	private final Alignment alignment;
 	
 	private long maxGrowth;
 	
-	private Block blocks = new Block(0, Long.MAX_VALUE);
+	private final Map<Long, Slot> slots = new LinkedHashMap<>();
 	
-	private Map<Long, Long> addressById = new HashMap<>();
+	// the start and end position of each loop, stored pairwise
+	private long[] loops = new long[8];
+	private int loopCount;
 	
 	public long getStackSize() {
 		return maxGrowth;
 	}
 	
-	public long allocate(long id, Type type) {
-		return addressById.computeIfAbsent(
-			id,
-			t -> allocate(type)
-		);
+	/**
+	 * Records a use of a virtual stack target at the given position. Positions
+	 * must be passed in ascending order.
+	 * 
+	 * @param id the id of the virtual stack target
+	 * @param type the type the target is used with
+	 * @param position the position of the instruction using the target
+	 */
+	public void use(long id, Type type, long position) {
+		Slot slot = slots.get(id);
+		
+		if(slot == null)
+			slots.put(id, slot = new Slot(position));
+		
+		if(slot.to < position)
+			slot.to = position;
+		
+		slot.size = Math.max(slot.size, type.sizeof());
+		slot.alignment = Math.max(slot.alignment, alignment.getAlignment(type));
 	}
 	
-	public void free(long id) {
-		if(addressById.containsKey(id)) {
-			long address = addressById.remove(id);
-			
-			for(Block block : blocks)
-				if(block.start == address) {
-					block.free();
-					break;
-				}
-		}
+	/**
+	 * Marks a virtual stack target as being alive until the end of the function, e.g.
+	 * because its address is used
+	 * 
+	 * @param id the id of the virtual stack target
+	 */
+	public void persist(long id) {
+		slots.computeIfAbsent(id, i -> new Slot(0)).persistent = true;
 	}
 	
-	private long allocate(Type type) {
-		Block bestBlock = null;
-		BlockMatch bestMatch = null;
-		
-		long align = alignment.getAlignment(type);
-		long size = type.sizeof();
-
-		for(Block block : blocks) {
-			BlockMatch match = block.satisfies(align, size);
-
-			// skip block if it is too small or already allocated
-			if(match == BlockMatch.TOO_SMALL || match == BlockMatch.ALLOCATED)
-				continue;
-			
-			// quick exit if block fits perfectly
-			if(match == BlockMatch.PERFECT) {
-				bestBlock = block;
-				break;
-			}
-			
-			if(bestBlock == null) {
-				bestBlock = block;
-				bestMatch = match;
-				continue;
-			}
-			
-			// prefer padding on either left or right over padding on both sides
-			if(bestMatch == BlockMatch.PADDING_BOTH && match == BlockMatch.PADDING_SINGLE) {
-				bestBlock = block;
-				bestMatch = match;
-			}
-		}
+	/**
+	 * Records a loop. Targets used within the loop are kept alive until its end,
+	 * since they might still be needed in the next iteration.
+	 * 
+	 * @param from the start position of the loop
+	 * @param to the end position of the loop
+	 */
+	public void addLoop(long from, long to) {
+		if(2 * loopCount == loops.length)
+			loops = Arrays.copyOf(loops, loops.length * 2);
 		
-		if(bestBlock == null)
-			Logger.error("Failed to allocate memory (no block found)");
-		
-		bestBlock.allocate(align, size);
+		loops[2 * loopCount] = from;
+		loops[2 * loopCount + 1] = to;
+		++loopCount;
+	}
+	
+	/**
+	 * Returns the address assigned to a virtual stack target by {@link #allocate()}
+	 * 
+	 * @param id the id of the virtual stack target
+	 * @return the address, relative to the frame
+	 */
+	public long getAddress(long id) {
+		Slot slot = slots.get(id);
 		
-		maxGrowth = Math.max(maxGrowth, bestBlock.end + 1);
+		if(slot == null || slot.address < 0)
+			Logger.error("No stack memory allocated for virtual stack target %d. This is a bug.", id);
 		
-		return bestBlock.start;
+		return slot.address;
 	}
 	
-	@ToString(exclude = { "previous" })
-	private static class Block implements Iterable<Block> {
+	/**
+	 * Assigns an address to each virtual stack target
+	 */
+	public void allocate() {
+		List<Slot> pending = new ArrayList<>(slots.values());
 		
-		private long start;
-		private long end;
-
-		private long size;
+		extendLoops(pending);
 		
-		private boolean isFree;
+		pending.sort(Comparator.comparingLong(slot -> slot.from));
 		
-		private Block previous;
-		private Block next;
+		// the slots currently in use, ordered by their end position
+		PriorityQueue<Slot> active = new PriorityQueue<>(Comparator.comparingLong(slot -> slot.to));
 		
-		public Block(long start, long end) {
-			this.start = start;
-			this.end = end;
-			
-			size = end - start;
-			isFree = true;
-		}
+		// the addresses of unused memory, by size
+		TreeMap<Long, Deque<Long>> free = new TreeMap<>();
 		
-		public void free() {
-			/* free block by merging with previous/next block, if possible */
-			isFree = true;
+		for(Slot slot : pending) {
+			if(slot.size == 0) // only marked as persistent, but never used
+				continue;
 			
-			if(previous != null && previous.isFree) {
-				start = previous.start;
-				previous = previous.previous;
+			while(!active.isEmpty() && active.peek().to < slot.from) {
+				Slot expired = active.poll();
 				
-				if(previous != null)
-					previous.next = this;
+				release(free, expired.address, expired.size);
 			}
-
-			if(next != null && next.isFree) {
-				end = next.end;
-				next = next.next;
-				
-				if(next != null)
-					next.previous = this;
+			
+			slot.address = reuse(free, slot.size, slot.alignment);
+			
+			if(slot.address < 0) {
+				slot.address = Alignment.alignAt(maxGrowth, slot.alignment);
+				maxGrowth = slot.address + slot.size;
 			}
 			
-			size = end - start;
+			active.add(slot);
 		}
-		
-		public void allocate(long align, long size) {
-			long start = Alignment.alignAt(this.start, align);
-			long end = start + size - 1;
+	}
+	
+	private static void release(TreeMap<Long, Deque<Long>> free, long address, long size) {
+		free.computeIfAbsent(size, s -> new ArrayDeque<>())
+			.push(address);
+	}
+	
+	/*
+	 * Finds suitably aligned unused memory, preferring memory of the exact size.
+	 * If the memory is larger than needed, the remainder is released again
+	 */
+	private static long reuse(TreeMap<Long, Deque<Long>> free, long size, long alignment) {
+		for(var entry : free.tailMap(size, true).entrySet()) {
+			Deque<Long> addresses = entry.getValue();
 			
-			// alignment padding
-			if(start != this.start) {
-				Block pad = new Block(this.start, start - 1);
+			for(Iterator<Long> iterator = addresses.iterator(); iterator.hasNext(); ) {
+				long address = iterator.next();
 				
-				if(previous != null)
-					previous.next = pad;
+				if(Alignment.alignAt(address, alignment) != address)
+					continue;
 				
-				pad.previous = previous;
-				pad.next = this;
+				iterator.remove();
 				
-				previous = pad;
-			}
-			
-			// size padding
-			if(end != this.end) {
-				Block pad = new Block(end + 1, this.end);
+				if(addresses.isEmpty())
+					free.remove(entry.getKey());
 				
-				if(next != null)
-					next.previous = pad;
+				if(entry.getKey() > size)
+					release(free, address + size, entry.getKey() - size);
 				
-				pad.previous = this;
-				pad.next = next;
-				
-				next = pad;
+				return address;
 			}
-			
-			this.start = start;
-			this.end = end;
-			this.size = size;
-			
-			isFree = false;
 		}
 		
-		public BlockMatch satisfies(long align, long size) {
-			if(!isFree)
-				return BlockMatch.ALLOCATED;
-			
-			long offset = Alignment.alignAt(start, align) - start;
-			
-			size = offset + size;
-			
-			if(size > this.size)
-				return BlockMatch.TOO_SMALL;
-
-			// block either fits perfectly or needs alignment padding
-			if(size == this.size)
-				return offset == 0
-					? BlockMatch.PERFECT
-					: BlockMatch.PADDING_SINGLE;
-
-			// block is too large and possibly needs alignment padding
-			return offset == 0
-				? BlockMatch.PADDING_SINGLE
-				: BlockMatch.PADDING_BOTH;
+		return -1;
+	}
+	
+	/* Extends the lifetime of each target to the end of the loops it is used in.
+	 * For each position, the last end position of any loop starting at or before
+	 * it is determined first. If this end position lies after the position, the
+	 * position is within that loop (which in turn may lie within another loop)
+	 */
+	private void extendLoops(List<Slot> pending) {
+		if(loopCount == 0)
+			return;
+		
+		long[][] sorted = new long[loopCount][];
+		
+		for(int i = 0; i < loopCount; ++i)
+			sorted[i] = new long[] { loops[2 * i], loops[2 * i + 1] };
+		
+		Arrays.sort(sorted, Comparator.comparingLong(loop -> loop[0]));
+		
+		// the loop starts and the maximum end position of all loops starting at or before them
+		long[] starts = new long[loopCount];
+		long[] ends = new long[loopCount];
+		
+		long end = -1;
+		
+		for(int i = 0; i < loopCount; ++i) {
+			starts[i] = sorted[i][0];
+			ends[i] = end = Math.max(end, sorted[i][1]);
 		}
 		
-		@Override
-		public Iterator<Block> iterator() {
-			if(previous != null)
-				return previous.iterator();
+		for(Slot slot : pending) {
+			if(slot.persistent) {
+				slot.to = Long.MAX_VALUE;
+				continue;
+			}
 			
-			return Stream.iterate(
-				this,
-				idx -> idx != null,
-				idx -> idx.next
-			).iterator();
+			while(true) {
+				int index = Arrays.binarySearch(starts, slot.to);
+				
+				// find the last loop starting at or before the position
+				if(index < 0)
+					index = -index - 2;
+				
+				else while(index + 1 < loopCount && starts[index + 1] == slot.to)
+					++index;
+				
+				if(index < 0 || ends[index] <= slot.to)
+					break;
+				
+				slot.to = ends[index];
+			}
 		}
-		
 	}
 	
-	private static enum BlockMatch {
-		ALLOCATED,
-		TOO_SMALL,
-		PADDING_SINGLE,
-		PADDING_BOTH,
-		PERFECT
+	private static class Slot {
+		
+		private final long from;
+		private long to;
+		
+		private long size;
+		private long alignment;
+		
+		private boolean persistent;
+		
+		private long address = -1;
+		
+		public Slot(long from) {
+			this.from = from;
+			this.to = from;
+		}
+		
 	}
-	
+
 }
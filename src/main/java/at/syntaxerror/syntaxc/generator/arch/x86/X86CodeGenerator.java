@@ -44,6 +44,7 @@ public class X86CodeGenerator extends CodeGenerator {
 	private X86PeepholeOptimizer peepholeOptimizer;
 	
 	private X86FloatTable floatTable;
+	private X86JumpTable jumpTable;
 	private X86Assembly x86;
 	
 	private X86Architecture arch;
@@ -52,6 +53,7 @@ public class X86CodeGenerator extends CodeGenerator {
 	
 	public X86CodeGenerator(String inputFileName, X86Architecture arch) {
 		floatTable = new X86FloatTable();
+		jumpTable = new X86JumpTable();
 		
 		x86 = new X86Assembly(
 			ArchitectureRegistry.getArchitecture()
@@ -62,8 +64,8 @@ public class X86CodeGenerator extends CodeGenerator {
 		
 		this.arch = arch;
 		
-		objectSerializer = new X86ObjectSerializer(arch.getAlignment(), floatTable, x86, inputFileName);
-		assemblyGenerator = new X86AssemblyGenerator(floatTable, x86, arch);
+		objectSerializer = new X86ObjectSerializer(arch.getAlignment(), floatTable, jumpTable, x86, inputFileName);
+		assemblyGenerator = new X86AssemblyGenerator(floatTable, jumpTable, x86, arch);
 		registerProvider = new X86RegisterProvider();
 		
 		peepholeOptimizer = new X86PeepholeOptimizer();
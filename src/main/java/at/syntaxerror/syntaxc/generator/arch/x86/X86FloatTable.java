@@ -22,13 +22,12 @@
  */
 package at.syntaxerror.syntaxc.generator.arch.x86;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import at.syntaxerror.syntaxc.generator.arch.x86.target.X86LabelTarget;
-import at.syntaxerror.syntaxc.misc.IEEE754Utils;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.Type;
 import lombok.Getter;
 
@@ -39,21 +38,20 @@ import lombok.Getter;
 public class X86FloatTable {
 
 	@Getter
-	private final Map<Type, Map<BigInteger, Integer>> floats = new HashMap<>();
+	private final Map<Type, Map<NumericValue, Integer>> floats = new HashMap<>();
 	
 	private int previousId = 0;
 	
-	public X86LabelTarget get(Type type, BigDecimal value) {
+	public X86LabelTarget get(Type type, NumericValue value) {
 		
-		BigInteger bytes = IEEE754Utils.decimalToFloat(
-			value,
+		NumericValue bytes = value.toFloatingBits(
 			type.toNumber()
 				.getNumericType()
 				.getFloatingSpec()
 		);
 		
 		int id = floats
-			.computeIfAbsent(type, t -> new HashMap<>())
+			.computeIfAbsent(type, t -> new LinkedHashMap<>())
 			.computeIfAbsent(bytes, x -> ++previousId);
 		
 		return new X86LabelTarget(type, ".F" + id);
@@ -0,0 +1,60 @@
+/* MIT License
+ * 
+ * Copyright (c) 2022 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.syntaxc.generator.arch.x86;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import at.syntaxerror.syntaxc.generator.arch.x86.target.X86LabelTarget;
+import at.syntaxerror.syntaxc.type.Type;
+import lombok.Getter;
+
+/**
+ * Collects the jump tables of switch statements, which are emitted at the end of the file
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public class X86JumpTable {
+	
+	@Getter
+	private final Map<String, List<String>> tables = new LinkedHashMap<>();
+	
+	private int previousId = 0;
+	private int previousLabelId = 0;
+	
+	public X86LabelTarget add(List<String> labels) {
+		String name = ".J" + ++previousId;
+		
+		tables.put(name, List.copyOf(labels));
+		
+		return new X86LabelTarget(Type.VOID, name);
+	}
+	
+	/* labels used within the dispatch code (e.g. for binary searches) */
+	public X86LabelTarget nextLabel() {
+		return new X86LabelTarget(Type.VOID, ".S" + ++previousLabelId);
+	}
+	
+}
@@ -41,7 +41,9 @@ import at.syntaxerror.syntaxc.generator.asm.insn.AssemblyInstruction;
 import at.syntaxerror.syntaxc.misc.StringUtils;
 import at.syntaxerror.syntaxc.symtab.Linkage;
 import at.syntaxerror.syntaxc.symtab.SymbolObject;
+import at.syntaxerror.syntaxc.symtab.global.ArrayInitializer;
 import at.syntaxerror.syntaxc.symtab.global.IntegerInitializer;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.NumericValueType;
 import at.syntaxerror.syntaxc.type.Type;
 import lombok.RequiredArgsConstructor;
@@ -63,6 +65,12 @@ public class X86ObjectSerializer extends ObjectSerializer {
 	private static final Map<Integer, NumericValueType> SIZE_TYPES = new HashMap<>();
 	private static final List<Integer> SIZES = new ArrayList<>();
 	
+	// maximum number of values per line for dense arrays
+	private static final int VALUES_PER_LINE = 16;
+	
+	// minimum number of bytes for runs of zeros or printable characters to be emitted separately
+	private static final int MIN_RUN_SIZE = 8;
+	
 	private static String pointerDirective;
 	
 	private static void init() {
@@ -93,6 +101,7 @@ public class X86ObjectSerializer extends ObjectSerializer {
 
 	private final Alignment alignment;
 	private final X86FloatTable floatTable;
+	private final X86JumpTable jumpTable;
 	private final X86Assembly x86;
 	private final String inputFileName;
 	
@@ -108,11 +117,16 @@ public class X86ObjectSerializer extends ObjectSerializer {
 		
 		activeSegment = segment;
 		
-		asm("." + segment);
+		asm(".", segment);
 	}
 	
-	private void asm(String format, Object...args) {
-		asm.add(new RawAssemblyInstruction(asm, "\t" + format.formatted(args)));
+	private void asm(Object...parts) {
+		StringBuilder sb = new StringBuilder("\t");
+		
+		for(Object part : parts)
+			sb.append(part);
+		
+		asm.add(new RawAssemblyInstruction(asm, sb.toString()));
 	}
 	
 	private void label(String label) {
@@ -122,11 +136,12 @@ public class X86ObjectSerializer extends ObjectSerializer {
 	@Override
 	public void fileBegin() {
 		asm(
-			".file \"%s\"",
+			".file \"",
 			StringUtils.toASCII(inputFileName, false)
 				.stream()
 				.reduce("", String::concat)
-				.replace("\"", "\\\"")
+				.replace("\"", "\\\""),
+			"\""
 		);
 		
 		if(x86.intelSyntax)
@@ -148,6 +163,19 @@ public class X86ObjectSerializer extends ObjectSerializer {
 					generateInit(new IntegerInitializer(val, size));
 				})
 			);
+		
+		jumpTable.getTables()
+			.forEach((name, labels) -> {
+				
+				setSegment(X86SegmentKind.RODATA);
+				basicMetadata(
+					name,
+					labels.size() * NumericValueType.POINTER.getSize(),
+					NumericValueType.POINTER.asType()
+				);
+				label(name);
+				labels.forEach(label -> pointerOffset(label, null));
+			});
 	}
 
 	private void basicMetadata(String name, int size, Type type) {
@@ -160,9 +188,9 @@ public class X86ObjectSerializer extends ObjectSerializer {
 			align = alignment.getAlignment(type);
 		
 		if(align != 0)
-			asm(".align %d", align);
+			asm(".align ", align);
 		
-		asm(".size %s, %d", name, size);
+		asm(".size ", name, ", ", size);
 	}
 	
 	@Override
@@ -186,52 +214,52 @@ public class X86ObjectSerializer extends ObjectSerializer {
 		
 		asm(
 			global
-				? ".globl %s"
-				: ".local %s",
+				? ".globl "
+				: ".local ",
 			name
 		);
 		
 		if(!function) {
 			basicMetadata(name, size, object.getType());
 
-			asm(".type %s, @object", name);
+			asm(".type ", name, ", @object");
 		}
-		else asm(".type %s, @function", name);
+		else asm(".type ", name, ", @function");
 		
 		label(name);
 	}
 
 	@Override
 	public void generatePostFunction(SymbolObject object) {
-		asm(".size %1$s, .-%1$s", object.getName());
+		asm(".size ", object.getName(), ", .-", object.getName());
 	}
 	
 	@Override
 	public void stringNulTerminated(String value) {
-		asm(".string \"%s\"", value.replace("\"", "\\\""));
+		asm(".string \"", value.replace("\"", "\\\""), "\"");
 	}
 
 	@Override
 	public void stringRaw(String value) {
-		asm(".ascii \"%s\"", value.replace("\"", "\\\""));
+		asm(".ascii \"", value.replace("\"", "\\\""), "\"");
 	}
 
 	@Override
 	public void pointerOffset(String label, BigInteger offset) {
 		if(offset == null || offset.compareTo(BigInteger.ZERO) == 0)
-			asm("%s %s", pointerDirective, label);
+			asm(pointerDirective, " ", label);
 		
-		else asm("%s %s+%s", pointerDirective, label, offset);
+		else asm(pointerDirective, " ", label, "+", offset);
 	}
 
 	@Override
-	public void constant(BigInteger value, int size) {
+	public void constant(NumericValue value, int size) {
 		if(SIZES.contains(size)) {
 			asm(
-				".%s %s",
+				".",
 				WORD_SIZES.get(size),
-				SIZE_TYPES.get(size)
-					.mask(value)
+				" ",
+				value.toUnsignedString(size)
 			);
 			return;
 		}
@@ -256,9 +284,112 @@ public class X86ObjectSerializer extends ObjectSerializer {
 		}
 	}
 
+	@Override
+	public void constants(ArrayInitializer array) {
+		int size = array.size();
+		int length = array.length();
+		
+		// e.g. 'double' on 32-bit systems, which has to be split into multiple values
+		boolean packed = SIZES.contains(size);
+		
+		String directive = WORD_SIZES.get(size);
+		long mask = size < 8 ? (1L << (size << 3)) - 1 : -1L;
+		
+		StringBuilder values = new StringBuilder();
+		int count = 0;
+		
+		int i = 0;
+		
+		while(i < length) {
+			int end = i;
+			
+			/* collapse runs of zeros:
+			 * 
+			 *  .zero 64
+			 */
+			while(end < length && (array.get(end) & mask) == 0)
+				++end;
+			
+			if((end - i) * size >= MIN_RUN_SIZE) {
+				count = flushConstants(directive, values, count);
+				zero((end - i) * size);
+				
+				i = end;
+				continue;
+			}
+			
+			/* emit runs of printable characters as strings:
+			 * 
+			 *  .ascii "Hello World"
+			 */
+			if(size == 1) {
+				end = i;
+				
+				while(end < length && isPrintable(array.get(end)))
+					++end;
+				
+				if(end - i >= MIN_RUN_SIZE) {
+					count = flushConstants(directive, values, count);
+					
+					StringBuilder ascii = new StringBuilder();
+					
+					for(; i < end; ++i) {
+						char c = (char) array.get(i);
+						
+						if(c == '"' || c == '\\')
+							ascii.append('\\');
+						
+						ascii.append(c);
+					}
+					
+					asm(".ascii \"", ascii, "\"");
+					continue;
+				}
+			}
+			
+			/* pack multiple values into a single line:
+			 * 
+			 *  .byte 1,2,3,4
+			 */
+			long value = array.get(i++) & mask;
+			
+			if(!packed) {
+				constant(NumericValue.of(value), size);
+				continue;
+			}
+			
+			if(count > 0)
+				values.append(',');
+			
+			values.append(
+				size < 8
+					? Long.toString(value)
+					: Long.toUnsignedString(value)
+			);
+			
+			if(++count == VALUES_PER_LINE)
+				count = flushConstants(directive, values, count);
+		}
+		
+		flushConstants(directive, values, count);
+	}
+	
+	private int flushConstants(String directive, StringBuilder values, int count) {
+		if(count > 0) {
+			asm(".", directive, " ", values);
+			values.setLength(0);
+		}
+		
+		return 0;
+	}
+	
+	private static boolean isPrintable(long value) {
+		return value >= ' ' && value < 0x7F;
+	}
+
 	@Override
 	public void zero(int size) {
-		asm(".zero %d", size);
+		asm(".zero ", size);
 	}
 	
 	public static class RawAssemblyInstruction extends AssemblyInstruction {
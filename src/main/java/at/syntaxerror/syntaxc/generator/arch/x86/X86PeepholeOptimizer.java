@@ -22,274 +22,1052 @@
  */
 package at.syntaxerror.syntaxc.generator.arch.x86;
 
-import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import at.syntaxerror.syntaxc.SystemUtils.BitSize;
 import at.syntaxerror.syntaxc.generator.arch.ArchitectureRegistry;
+import at.syntaxerror.syntaxc.generator.arch.x86.insn.ConditionFlags;
 import at.syntaxerror.syntaxc.generator.arch.x86.insn.X86Instruction;
 import at.syntaxerror.syntaxc.generator.arch.x86.insn.X86InstructionKinds;
 import at.syntaxerror.syntaxc.generator.arch.x86.insn.X86InstructionSelector;
 import at.syntaxerror.syntaxc.generator.arch.x86.register.X86Register;
 import at.syntaxerror.syntaxc.generator.arch.x86.target.X86DeferredMemoryTarget;
 import at.syntaxerror.syntaxc.generator.arch.x86.target.X86IntegerTarget;
+import at.syntaxerror.syntaxc.generator.arch.x86.target.X86LabelTarget;
+import at.syntaxerror.syntaxc.generator.arch.x86.target.X86MemoryTarget;
+import at.syntaxerror.syntaxc.generator.arch.x86.target.X86OffsetTarget;
 import at.syntaxerror.syntaxc.generator.asm.Instructions;
 import at.syntaxerror.syntaxc.generator.asm.PeepholeOptimizer;
 import at.syntaxerror.syntaxc.generator.asm.insn.AssemblyInstruction;
-import at.syntaxerror.syntaxc.generator.asm.insn.AssemblyInstructionKind;
 import at.syntaxerror.syntaxc.generator.asm.target.AssemblyTarget;
-import at.syntaxerror.syntaxc.misc.Pair;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.Type;
 
 /**
+ * A peephole optimizer driven by a list of rules. Each rule consists of a pattern,
+ * which is matched against a window of consecutive instructions, and a rewrite that
+ * is applied to the matched instructions. The rules are applied until no rule
+ * modifies the instructions anymore.
+ * 
  * @author Thomas Kasper
  * 
  */
 public class X86PeepholeOptimizer extends PeepholeOptimizer {
-
-	private Map<AssemblyTarget, Pair<BigInteger, AssemblyInstruction>> additives = new HashMap<>();
-
-	private void clobber(AssemblyInstruction insn) {
-		clobber(insn.getDestinations());
-		clobber(insn.getSources());
+	
+	/* upper bound for the number of times the rules are applied to the whole function */
+	private static final int MAX_PASSES = 8;
+	
+	/* upper bound for the number of instructions inspected when checking whether a value is still needed */
+	private static final int LIVENESS_LIMIT = 64;
+	
+	private static final Set<X86InstructionKinds> JUMPS = matching(X86InstructionKinds::isJump);
+	private static final Set<X86InstructionKinds> SETS = matching(kind -> kind.name().startsWith("SET"));
+	private static final Set<X86InstructionKinds> EXTENSIONS = of(X86InstructionKinds.MOVZX, X86InstructionKinds.MOVSX);
+	private static final Set<X86InstructionKinds> ADDITIVES = of(X86InstructionKinds.ADD, X86InstructionKinds.SUB);
+	
+	private static final Set<X86InstructionKinds> COMPARISONS = of(
+		X86InstructionKinds.CMP,
+		X86InstructionKinds.TEST,
+		X86InstructionKinds.UCOMISS,
+		X86InstructionKinds.COMISS,
+		X86InstructionKinds.UCOMISD,
+		X86InstructionKinds.COMISD
+	);
+	
+	/* instructions that only write their destination register (given that they do not read it) */
+	private static final Set<X86InstructionKinds> DEFINITIONS = matching(kind -> switch(kind) {
+		case MOV, MOVZX, MOVSX, LEA, XOR, SUB -> true;
+		default -> SETS.contains(kind);
+	});
+	
+	/* instructions that overwrite all arithmetic flags */
+	private static final Set<X86InstructionKinds> FLAG_WRITERS = of(
+		X86InstructionKinds.ADD,
+		X86InstructionKinds.SUB,
+		X86InstructionKinds.AND,
+		X86InstructionKinds.OR,
+		X86InstructionKinds.XOR,
+		X86InstructionKinds.NEG,
+		X86InstructionKinds.CMP,
+		X86InstructionKinds.TEST,
+		X86InstructionKinds.UCOMISS,
+		X86InstructionKinds.COMISS,
+		X86InstructionKinds.UCOMISD,
+		X86InstructionKinds.COMISD,
+		X86InstructionKinds.FUCOMIP,
+		X86InstructionKinds.FCOMIP,
+		X86InstructionKinds.CALL
+	);
+	
+	/* instructions that access registers which are not listed as their operands */
+	private static final Set<X86InstructionKinds> IMPLICIT_OPERANDS = of(
+		X86InstructionKinds.RAW,
+		X86InstructionKinds.CALL,
+		X86InstructionKinds.RET,
+		X86InstructionKinds.CBW,
+		X86InstructionKinds.CWDE,
+		X86InstructionKinds.CDQE,
+		X86InstructionKinds.CWD,
+		X86InstructionKinds.CDQ,
+		X86InstructionKinds.CQO,
+		X86InstructionKinds.MUL,
+		X86InstructionKinds.DIV,
+		X86InstructionKinds.IDIV,
+		X86InstructionKinds.REP_MOVS,
+		X86InstructionKinds.REP_STOS
+	);
+	
+	/* registers whose values are only ever accessed explicitly (unlike ESP and EBP) */
+	private static final Set<X86Register> GENERAL_PURPOSE = Stream.of(
+			X86Register.GROUP_A, X86Register.GROUP_B, X86Register.GROUP_C, X86Register.GROUP_D,
+			X86Register.GROUP_SI, X86Register.GROUP_DI,
+			X86Register.GROUP_R8, X86Register.GROUP_R9, X86Register.GROUP_R10, X86Register.GROUP_R11,
+			X86Register.GROUP_R12, X86Register.GROUP_R13, X86Register.GROUP_R14, X86Register.GROUP_R15
+		)
+		.flatMap(List::stream)
+		.collect(Collectors.toUnmodifiableSet());
+	
+	private static final Map<X86InstructionKinds, ConditionFlags> CONDITIONS = new EnumMap<>(X86InstructionKinds.class);
+	
+	static {
+		for(ConditionFlags condition : ConditionFlags.values())
+			CONDITIONS.put(condition.getSetInstruction(), condition);
+	}
+	
+	private static Set<X86InstructionKinds> of(X86InstructionKinds first, X86InstructionKinds... rest) {
+		return EnumSet.of(first, rest);
 	}
 	
-	private void clobber(List<AssemblyTarget> list) {
-		list.forEach(additives::remove);
+	private static Set<X86InstructionKinds> matching(Predicate<X86InstructionKinds> filter) {
+		Set<X86InstructionKinds> kinds = EnumSet.noneOf(X86InstructionKinds.class);
+		
+		for(X86InstructionKinds kind : X86InstructionKinds.values())
+			if(filter.test(kind))
+				kinds.add(kind);
 		
-		list.stream()
-			.filter(target -> target != null)
-			.map(AssemblyTarget::getNestedTargets)
-			.filter(nested -> nested != null)
-			.forEach(this::clobber);
+		return kinds;
 	}
 	
-	private void processDeferredMemory(List<AssemblyTarget> targets) {
-		for(int i = 0; i < targets.size(); ++i)
-			if(targets.get(i) instanceof X86DeferredMemoryTarget deferred)
-				targets.set(i, deferred.combine());
+	@SafeVarargs
+	private static Rule rule(Rewrite rewrite, Set<X86InstructionKinds>... pattern) {
+		List<Set<X86InstructionKinds>> kinds = new ArrayList<>(pattern.length);
+		
+		// copied element by element, so that the varargs array itself never escapes
+		for(Set<X86InstructionKinds> kind : pattern)
+			kinds.add(kind);
+		
+		return new Rule(rewrite, Collections.unmodifiableList(kinds));
 	}
 	
+	/*
+	 * The rules, in the order they are tried for each position. New rules only need
+	 * to declare the kinds of instructions they match and the rewrite to apply.
+	 */
+	private final List<Rule> rules = List.of(
+		rule(this::removeJumpToNext,		JUMPS),
+		rule(this::replaceTailCall,			of(X86InstructionKinds.CALL), of(X86InstructionKinds.RET)),
+		rule(this::fuseSetCondition,		SETS, of(X86InstructionKinds.TEST),
+			of(X86InstructionKinds.JE, X86InstructionKinds.JZ, X86InstructionKinds.JNE, X86InstructionKinds.JNZ)),
+		rule(this::forwardStore,			of(X86InstructionKinds.MOV), of(X86InstructionKinds.MOV)),
+		rule(this::removeRedundantMove,		of(X86InstructionKinds.MOV), of(X86InstructionKinds.MOV)),
+		rule(this::foldLoadExtension,		of(X86InstructionKinds.MOV), EXTENSIONS),
+		rule(this::mergeExtensions,			EXTENSIONS, EXTENSIONS),
+		rule(this::mergeAdditives,			ADDITIVES, ADDITIVES),
+		rule(this::foldAddress,				of(X86InstructionKinds.MOV, X86InstructionKinds.LEA),
+			of(X86InstructionKinds.ADD, X86InstructionKinds.SUB, X86InstructionKinds.SAL, X86InstructionKinds.SHL)),
+		rule(this::removeNeutralAdditive,	ADDITIVES),
+		rule(this::removeMoveToSelf,		of(X86InstructionKinds.MOV)),
+		rule(this::compareWithZero,			of(X86InstructionKinds.CMP)),
+		rule(this::removeDeadComparison,	COMPARISONS),
+		rule(this::removeDeadDefinition,	DEFINITIONS),
+		rule(this::clearRegister,			of(X86InstructionKinds.MOV))
+	);
+	
+	private final int windowSize = rules.stream()
+		.mapToInt(rule -> rule.pattern().size())
+		.max()
+		.orElse(1);
+	
+	private final Map<String, AssemblyInstruction> labels = new HashMap<>();
+	
+	private final Deque<Integer> pending = new ArrayDeque<>();
+	private final Set<Integer> visited = new HashSet<>();
+	
+	private Instructions asm;
+	private boolean x32;
+	
 	@Override
 	public void optimize(Instructions asm) {
-		additives.clear();
+		this.asm = asm;
+		
+		x32 = ArchitectureRegistry.getBitSize() == BitSize.B32;
 		
-		boolean x32 = ArchitectureRegistry.getBitSize() == BitSize.B32;
+		prepare();
 		
-		AssemblyInstruction call = null;
+		for(int pass = 0; pass < MAX_PASSES; ++pass)
+			if(!applyRules())
+				break;
 		
-		boolean hasModified = false;
+		labels.clear();
+		this.asm = null;
+	}
+	
+	/*
+	 * Resolves deferred memory operands, removes pseudo-instructions
+	 * and collects the labels of the function
+	 */
+	private void prepare() {
+		labels.clear();
 		
 		for(AssemblyInstruction insn : asm) {
 			
 			processDeferredMemory(insn.getSources());
 			processDeferredMemory(insn.getDestinations());
 			
-			AssemblyInstructionKind insnKind = insn.getKind();
-			
-			if(!(insnKind instanceof X86InstructionKinds kind))
+			if(!(insn.getKind() instanceof X86InstructionKinds kind))
 				continue;
 			
-			if(kind == X86InstructionKinds.RET && call != null) {
-				insn.insertAfter(new X86Instruction(
-					asm,
-					X86InstructionKinds.JMP,
-					call.getDestinations().get(0)
-				));
-				
+			if(kind == X86InstructionKinds.CLOBBER) {
 				insn.remove();
-				call.remove();
-				
-				call = null;
-				hasModified = true;
 				continue;
 			}
 			
-			if(kind != X86InstructionKinds.LABEL)
-				call = kind == X86InstructionKinds.CALL ? insn : null;
+			if(kind == X86InstructionKinds.LABEL)
+				labels.put(getLabel(insn), insn);
 			
-			if(kind.isAdditive()) {
-				
-				AssemblyTarget src = insn.getSources().get(0);
-				
-				if(src instanceof X86IntegerTarget i) {
-					
-					if(i.getValue().compareTo(BigInteger.ZERO) == 0) {
-						/* remove
-						 * 
-						 *  add eax, 0
-						 *  sub eax, 0
-						 */
-						
-						insn.remove();
-						hasModified = true;
-						continue;
-					}
-					
-					/* group additions/subtractions */
-					
-					boolean subtract = kind.isSubtraction();
-					
-					AssemblyTarget dst = insn.getDestinations().get(0);
-					
-					var additive = additives.get(dst);
-					
-					BigInteger value = null;
-					AssemblyInstruction previous = null;
-					
-					if(additive != null) {
-						value = additive.getLeft();
-						previous = additive.getRight();
-					}
-					
-					if(value == null) {
-						value = i.getValue();
-						
-						if(subtract)
-							value = value.negate();
-					}
-					else {
-						previous.remove();
-						
-						if(subtract)
-							value = value.subtract(i.getValue());
-						else value = value.add(i.getValue());
-						
-						int cmp = value.compareTo(BigInteger.ZERO);
-						
-						if(cmp != 0) {
-							AssemblyInstruction op = new X86Instruction(
-								asm,
-								X86InstructionSelector.select(
-									cmp < 0
-										? X86InstructionKinds.SUB
-										: X86InstructionKinds.ADD,
-									dst.getType()
-								),
-								dst,
-								new X86IntegerTarget(
-									i.getType(),
-									value.abs()
-								)
-							);
-							
-							insn.insertBefore(op);
-						}
-						
-						insn.remove();
-						
-						hasModified = true;
-					}
-					
-					additives.put(dst, Pair.of(value, insn));
+			else if(x32 && kind.isCopy())
+				replaceByteRegisters(insn);
+		}
+	}
+	
+	private void processDeferredMemory(List<AssemblyTarget> targets) {
+		for(int i = 0; i < targets.size(); ++i)
+			if(targets.get(i) instanceof X86DeferredMemoryTarget deferred)
+				targets.set(i, deferred.combine());
+	}
+	
+	/* SIL and DIL are not available in 32-bit mode, use SI and DI instead */
+	private static void replaceByteRegisters(AssemblyInstruction insn) {
+		if(insn.getDestinations().get(0) instanceof X86Register reg && isIndexByteRegister(reg)) {
+			
+			if(insn.getKind() == X86InstructionKinds.MOV)
+				insn.setKind(X86InstructionKinds.MOVZX);
+			
+			insn.getDestinations().set(0, reg.resized(Type.SHORT));
+		}
+		
+		if(insn.getSources().get(0) instanceof X86Register reg && isIndexByteRegister(reg))
+			insn.getSources().set(0, reg.resized(Type.SHORT));
+	}
+	
+	private static boolean isIndexByteRegister(X86Register reg) {
+		return reg == X86Register.SIL || reg == X86Register.DIL;
+	}
+	
+	/*
+	 * Slides the window over the instructions and applies the first matching rule at each position.
+	 * After a rewrite, the window is moved back so that the preceding instructions can form new matches
+	 * together with the rewritten ones.
+	 * 
+	 * Returns whether any instruction was modified
+	 */
+	private boolean applyRules() {
+		AssemblyInstruction[] window = new AssemblyInstruction[windowSize];
+		
+		boolean modified = false;
+		
+		for(int i = 0; i < asm.size(); ++i)
+			for(Rule rule : rules)
+				if(rule.matches(asm, i, window) && rule.rewrite().apply(window)) {
+					modified = true;
+					i = Math.max(i - windowSize, -1);
+					break;
 				}
-				
+		
+		return modified;
+	}
+	
+	/* remove
+	 * 
+	 * 	jmp .L1
+	 * .L0:
+	 * .L1:
+	 */
+	private boolean removeJumpToNext(AssemblyInstruction[] window) {
+		AssemblyInstruction jump = window[0];
+		
+		String target = getJumpTarget(jump);
+		
+		if(target == null)
+			return false;
+		
+		for(AssemblyInstruction next = jump.getNext();
+			next != null && next.getKind() == X86InstructionKinds.LABEL;
+			next = next.getNext())
+			
+			if(target.equals(getLabel(next))) {
+				jump.remove();
+				return true;
 			}
+		
+		return false;
+	}
+	
+	/* convert
+	 * 
+	 * 	call func
+	 * 	ret
+	 * 
+	 * into
+	 * 
+	 * 	jmp func
+	 */
+	private boolean replaceTailCall(AssemblyInstruction[] window) {
+		replace(window[0], new X86Instruction(
+			asm,
+			X86InstructionKinds.JMP,
+			window[0].getDestinations().get(0)
+		));
+		
+		window[1].remove();
+		return true;
+	}
+	
+	/* convert
+	 * 
+	 * 	sete al
+	 * 	test al, al
+	 * 	jne .L0
+	 * 
+	 * into
+	 * 
+	 * 	je .L0
+	 * 
+	 * if the value of 'al' is not used afterwards
+	 */
+	private boolean fuseSetCondition(AssemblyInstruction[] window) {
+		AssemblyInstruction set = window[0];
+		AssemblyInstruction test = window[1];
+		AssemblyInstruction jump = window[2];
+		
+		if(!(set.getDestinations().get(0) instanceof X86Register reg)
+			|| test.getSources().get(0) != reg
+			|| test.getSources().get(1) != reg
+			|| getJumpTarget(jump) == null)
+			return false;
+		
+		ConditionFlags condition = CONDITIONS.get(set.getKind());
+		
+		// 'test al, al; je .L0' jumps if the condition is not met
+		if(jump.getKind() == X86InstructionKinds.JE || jump.getKind() == X86InstructionKinds.JZ)
+			condition = condition.negate();
+		
+		if(isLive(jump, reg) || isLive(jump, null))
+			return false;
+		
+		replace(jump, new X86Instruction(
+			asm,
+			condition.getJumpInstruction(),
+			jump.getDestinations().get(0)
+		));
+		
+		set.remove();
+		test.remove();
+		return true;
+	}
+	
+	/* convert
+	 * 
+	 * 	mov DWORD PTR [ebp-4], eax
+	 * 	mov ecx, DWORD PTR [ebp-4]
+	 * 
+	 * into
+	 * 
+	 * 	mov DWORD PTR [ebp-4], eax
+	 * 	mov ecx, eax
+	 */
+	private boolean forwardStore(AssemblyInstruction[] window) {
+		AssemblyTarget memory = window[0].getDestinations().get(0);
+		AssemblyTarget value = window[0].getSources().get(0);
+		AssemblyTarget dst = window[1].getDestinations().get(0);
+		
+		if(!memory.isMemory()
+			|| isVolatile(memory)
+			|| !memory.equals(window[1].getSources().get(0))
+			|| !(dst instanceof X86Register)
+			|| !(value instanceof X86Register
+				|| value instanceof X86IntegerTarget
+				|| value instanceof X86OffsetTarget))
+			return false;
+		
+		if(value == dst)
+			window[1].remove();
+		
+		else replace(window[1], new X86Instruction(
+			asm,
+			X86InstructionKinds.MOV,
+			dst,
+			value
+		));
+		
+		return true;
+	}
+	
+	/* remove the second instruction in
+	 * 
+	 * 	mov eax, ecx			mov eax, ecx
+	 * 	mov ecx, eax	or		mov eax, ecx
+	 */
+	private boolean removeRedundantMove(AssemblyInstruction[] window) {
+		AssemblyTarget dst = window[0].getDestinations().get(0);
+		AssemblyTarget src = window[0].getSources().get(0);
+		
+		AssemblyTarget nextDst = window[1].getDestinations().get(0);
+		AssemblyTarget nextSrc = window[1].getSources().get(0);
+		
+		boolean swapped = nextDst.equals(src) && nextSrc.equals(dst);
+		boolean repeated = nextDst.equals(dst) && nextSrc.equals(src);
+		
+		// 'mov eax, DWORD PTR [eax]' changes the address of its source
+		if(!(swapped || repeated)
+			|| isVolatile(dst)
+			|| isVolatile(src)
+			|| (dst instanceof X86Register reg && reads(src, reg)))
+			return false;
+		
+		window[1].remove();
+		return true;
+	}
+	
+	/* convert
+	 * 
+	 * 	mov al, BYTE PTR [ebp-1]
+	 * 	movzx eax, al
+	 * 
+	 * into
+	 * 
+	 * 	movzx eax, BYTE PTR [ebp-1]
+	 */
+	private boolean foldLoadExtension(AssemblyInstruction[] window) {
+		AssemblyTarget value = window[0].getSources().get(0);
+		
+		if(!(window[0].getDestinations().get(0) instanceof X86Register part)
+			|| !(value instanceof X86Register || value.isMemory())
+			|| !isLowerPartExtension(window[1], part))
+			return false;
+		
+		replace(window[1], extend(window[1], value));
+		window[0].remove();
+		return true;
+	}
+	
+	/* convert
+	 * 
+	 * 	movzx eax, BYTE PTR [ebp-1]
+	 * 	movsx eax, al
+	 * 
+	 * into
+	 * 
+	 * 	movsx eax, BYTE PTR [ebp-1]
+	 */
+	private boolean mergeExtensions(AssemblyInstruction[] window) {
+		AssemblyTarget value = window[0].getSources().get(0);
+		
+		if(!(window[1].getSources().get(0) instanceof X86Register part)
+			|| window[0].getDestinations().get(0) != window[1].getDestinations().get(0)
+			|| value.getType().sizeof() != part.getSize()
+			|| !isLowerPartExtension(window[1], part))
+			return false;
+		
+		replace(window[1], extend(window[1], value));
+		window[0].remove();
+		return true;
+	}
+	
+	// checks whether the instruction extends the register into the register containing it, e.g. 'movzx eax, al'
+	private static boolean isLowerPartExtension(AssemblyInstruction insn, X86Register part) {
+		return insn.getSources().get(0) == part
+			&& insn.getDestinations().get(0) instanceof X86Register whole
+			&& whole.getSize() > part.getSize()
+			&& whole.resized(part.getType()) == part;
+	}
+	
+	private AssemblyInstruction extend(AssemblyInstruction insn, AssemblyTarget value) {
+		return new X86Instruction(
+			asm,
+			insn.getKind(),
+			insn.getDestinations().get(0),
+			value
+		);
+	}
+	
+	/* convert
+	 * 
+	 * 	add esp, 16
+	 * 	sub esp, 4
+	 * 
+	 * into
+	 * 
+	 * 	add esp, 12
+	 */
+	private boolean mergeAdditives(AssemblyInstruction[] window) {
+		AssemblyTarget dst = window[0].getDestinations().get(0);
+		
+		if(!dst.equals(window[1].getDestinations().get(0))
+			|| isVolatile(dst)
+			|| !(window[0].getSources().get(0) instanceof X86IntegerTarget first)
+			|| !(window[1].getSources().get(0) instanceof X86IntegerTarget second))
+			return false;
+		
+		NumericValue value = signed(window[0], first.getValue())
+			.add(signed(window[1], second.getValue()));
+		
+		if(!isImmediate(value) || isLive(window[1], null))
+			return false;
+		
+		window[1].remove();
+		
+		if(value.isZero())
+			window[0].remove();
+		
+		else replace(window[0], new X86Instruction(
+			asm,
+			X86InstructionSelector.select(
+				value.signum() < 0
+					? X86InstructionKinds.SUB
+					: X86InstructionKinds.ADD,
+				dst.getType()
+			),
+			dst,
+			new X86IntegerTarget(
+				second.getType(),
+				value.abs()
+			)
+		));
+		
+		return true;
+	}
+	
+	/* convert
+	 * 
+	 * 	mov eax, ecx			lea eax, DWORD PTR [ecx+4]
+	 * 	add eax, 4		or		add eax, 4
+	 * 
+	 * into
+	 * 
+	 * 	lea eax, DWORD PTR [ecx+4]		lea eax, DWORD PTR [ecx+8]
+	 * 
+	 * Additions of registers ('[ecx+edx]') and shifts by one ('[ecx+ecx]') are folded as well
+	 */
+	private boolean foldAddress(AssemblyInstruction[] window) {
+		AssemblyInstruction first = window[0];
+		AssemblyInstruction second = window[1];
+		
+		if(!(first.getDestinations().get(0) instanceof X86Register reg)
+			|| reg.getSize() != (x32 ? 4 : 8)
+			|| second.getDestinations().get(0) != reg)
+			return false;
+		
+		X86InstructionKinds kind = (X86InstructionKinds) second.getKind();
+		AssemblyTarget source = first.getSources().get(0);
+		AssemblyTarget operand = second.getSources().get(0);
+		
+		X86MemoryTarget address = first.getKind() == X86InstructionKinds.LEA
+			? offsetAddress(source, reg, kind, operand)
+			: makeAddress(source, reg, kind, operand);
+		
+		if(address == null || isLive(second, null))
+			return false;
+		
+		replace(first, new X86Instruction(
+			asm,
+			X86InstructionKinds.LEA,
+			reg,
+			address
+		));
+		
+		second.remove();
+		return true;
+	}
+	
+	// computes the address for 'mov reg, source; op reg, operand'
+	private static X86MemoryTarget makeAddress(AssemblyTarget source, X86Register reg, X86InstructionKinds kind, AssemblyTarget operand) {
+		if(!(source instanceof X86Register base) || base.getSize() != reg.getSize())
+			return null;
+		
+		if(operand instanceof X86IntegerTarget integer) {
 			
-			clobber(insn);
+			if(kind == X86InstructionKinds.SAL || kind == X86InstructionKinds.SHL)
+				return integer.getValue().compareTo(NumericValue.ONE) == 0 && isIndexRegister(base)
+					? X86MemoryTarget.ofDisplaced(reg.getType(), null, base, base)
+					: null;
 			
-			if(kind == X86InstructionKinds.CLOBBER) {
-				insn.remove();
+			return displaced(reg.getType(), base, null, 1, signed(kind, integer.getValue()));
+		}
+		
+		return kind == X86InstructionKinds.ADD
+			&& operand instanceof X86Register index
+			&& index.getSize() == reg.getSize()
+			&& !index.intersects(reg)
+			&& isIndexRegister(index)
+				? X86MemoryTarget.ofDisplaced(reg.getType(), null, base, index)
+				: null;
+	}
+	
+	// computes the address for 'lea reg, source; op reg, operand'
+	private static X86MemoryTarget offsetAddress(AssemblyTarget source, X86Register reg, X86InstructionKinds kind, AssemblyTarget operand) {
+		if(!(source instanceof X86MemoryTarget memory)
+			|| memory.hasSegment()
+			|| !(memory.getBase() instanceof X86Register base)
+			|| base == X86Register.EIP
+			|| base == X86Register.RIP
+			|| memory.hasDisplacement() && !(memory.getDisplacement() instanceof X86IntegerTarget)
+			|| kind == X86InstructionKinds.SAL
+			|| kind == X86InstructionKinds.SHL)
+			return null;
+		
+		NumericValue offset = memory.getDisplacement() instanceof X86IntegerTarget displacement
+			? displacement.getValue()
+			: NumericValue.ZERO;
+		
+		if(operand instanceof X86IntegerTarget integer)
+			return displaced(memory.getType(), base, memory.getIndex(), memory.getScale(), offset.add(signed(kind, integer.getValue())));
+		
+		return kind == X86InstructionKinds.ADD
+			&& !memory.hasIndex()
+			&& operand instanceof X86Register index
+			&& index.getSize() == reg.getSize()
+			&& !index.intersects(reg)
+			&& isIndexRegister(index)
+				? displaced(memory.getType(), base, index, 1, offset)
+				: null;
+	}
+	
+	private static X86MemoryTarget displaced(Type type, AssemblyTarget base, AssemblyTarget index, int scale, NumericValue offset) {
+		if(!isImmediate(offset))
+			return null;
+		
+		return X86MemoryTarget.ofScaled(
+			type,
+			offset.isZero()
+				? null
+				: new X86IntegerTarget(Type.INT, offset),
+			base,
+			index,
+			scale
+		);
+	}
+	
+	// ESP cannot be used as an index register
+	private static boolean isIndexRegister(X86Register reg) {
+		return GENERAL_PURPOSE.contains(reg);
+	}
+	
+	/* remove
+	 * 
+	 * 	add eax, 0
+	 * 	sub eax, 0
+	 */
+	private boolean removeNeutralAdditive(AssemblyInstruction[] window) {
+		AssemblyTarget dst = window[0].getDestinations().get(0);
+		
+		if(!isZero(window[0].getSources().get(0))
+			|| isVolatile(dst)
+			|| isLive(window[0], null))
+			return false;
+		
+		window[0].remove();
+		return true;
+	}
+	
+	/* remove
+	 * 
+	 * 	mov eax, eax
+	 * 
+	 * (in 64-bit mode, this clears the upper half of RAX and is therefore kept)
+	 */
+	private boolean removeMoveToSelf(AssemblyInstruction[] window) {
+		if(!(window[0].getDestinations().get(0) instanceof X86Register reg)
+			|| window[0].getSources().get(0) != reg
+			|| !x32 && reg.getSize() == 4)
+			return false;
+		
+		window[0].remove();
+		return true;
+	}
+	
+	/* convert
+	 * 
+	 * 	cmp eax, 0
+	 * 
+	 * into
+	 * 
+	 * 	test eax, eax
+	 */
+	private boolean compareWithZero(AssemblyInstruction[] window) {
+		AssemblyTarget a = window[0].getSources().get(0);
+		AssemblyTarget b = window[0].getSources().get(1);
+		
+		if(!a.isRegister() || !isZero(b))
+			return false;
+		
+		replace(window[0], new X86Instruction(
+			asm,
+			X86InstructionKinds.TEST,
+			null, a, a
+		));
+		
+		return true;
+	}
+	
+	/* remove comparisons whose result is never used */
+	private boolean removeDeadComparison(AssemblyInstruction[] window) {
+		for(AssemblyTarget source : window[0].getSources())
+			if(isVolatile(source))
+				return false;
+		
+		if(isLive(window[0], null))
+			return false;
+		
+		window[0].remove();
+		return true;
+	}
+	
+	/* remove instructions that only write a register whose value is never used, e.g.
+	 * 
+	 * 	xor eax, eax
+	 * 	mov eax, 1
+	 */
+	private boolean removeDeadDefinition(AssemblyInstruction[] window) {
+		AssemblyInstruction insn = window[0];
+		X86InstructionKinds kind = (X86InstructionKinds) insn.getKind();
+		
+		if(!(insn.getDestinations().get(0) instanceof X86Register reg)
+			|| !GENERAL_PURPOSE.contains(reg))
+			return false;
+		
+		boolean clears = isClearing(kind, reg, insn.getSources());
+		
+		if((kind == X86InstructionKinds.XOR || kind == X86InstructionKinds.SUB) && !clears)
+			return false;
+		
+		// loads are kept, since the memory might be volatile
+		if(kind != X86InstructionKinds.LEA)
+			for(AssemblyTarget source : insn.getSources())
+				if(source.isMemory())
+					return false;
+		
+		if(isLive(insn, reg) || clears && isLive(insn, null))
+			return false;
+		
+		insn.remove();
+		return true;
+	}
+	
+	/* convert
+	 * 
+	 * 	mov eax, 0
+	 * 
+	 * into
+	 * 
+	 * 	xor eax, eax
+	 * 
+	 * unless the flags are used afterwards
+	 */
+	private boolean clearRegister(AssemblyInstruction[] window) {
+		if(!(window[0].getDestinations().get(0) instanceof X86Register reg)
+			|| !reg.getType().isInteger()
+			|| !isZero(window[0].getSources().get(0))
+			|| isLive(window[0], null))
+			return false;
+		
+		replace(window[0], new X86Instruction(
+			asm,
+			X86InstructionKinds.XOR,
+			reg,
+			reg
+		));
+		
+		return true;
+	}
+	
+	/*
+	 * Checks whether the flags (if the register is null) or the register might be read
+	 * after the instruction has been executed. Each path is followed until the value is
+	 * either read or overwritten. If the instructions are not known (e.g. indirect jumps,
+	 * or too many instructions), the value is assumed to be used.
+	 */
+	private boolean isLive(AssemblyInstruction insn, X86Register register) {
+		pending.clear();
+		visited.clear();
+		
+		if(!addSuccessors(asm.indexOf(insn)))
+			return true;
+		
+		int budget = LIVENESS_LIMIT;
+		
+		while(!pending.isEmpty()) {
+			int index = pending.pop();
+			
+			if(!visited.add(index))
 				continue;
-			}
 			
-			if(kind.isCopy()) {
-				
-				AssemblyTarget dst = insn.getDestinations().get(0);
-				AssemblyTarget src = insn.getSources().get(0);
-				
-				if(dst instanceof X86Register reg) {
-					
-					if(x32 && reg == X86Register.SIL || reg == X86Register.DIL) {
-						
-						if(insn.getKind() == X86InstructionKinds.MOV)
-							insn.setKind(X86InstructionKinds.MOVZX);
-						
-						insn.getDestinations().set(0, reg.resized(Type.SHORT));
-					}
-					
-					if(reg.getType().isInteger() && isZero(src)) {
-						
-						/* convert
-						 * 	
-						 * 	mov eax, 0
-						 * 
-						 * into
-						 * 
-						 * 	xor eax, eax
-						 */
-						
-						insn.insertBefore(new X86Instruction(
-							asm,
-							X86InstructionKinds.XOR,
-							reg,
-							reg
-						));
-						insn.remove();
-
-						hasModified = true;
-						continue;
-					}
-					
-					if(src == reg) {
-						/* remove
-						 * 	
-						 * 	mov eax, eax
-						 */
-						insn.remove();
-						hasModified = true;
-						continue;
-					}
-					
-				}
-				
-				if(src instanceof X86Register reg) {
-
-					if(x32 && reg == X86Register.SIL || reg == X86Register.DIL)
-						insn.getSources().set(0, reg.resized(Type.SHORT));
-					
-				}
+			if(--budget < 0)
+				return true;
+			
+			Usage usage = getUsage(asm.get(index), register);
+			
+			if(usage == Usage.READ)
+				return true;
+			
+			if(usage == Usage.NONE && !addSuccessors(index))
+				return true;
+		}
+		
+		return false;
+	}
+	
+	// queues the instructions that might be executed after the one at the given index, returns false if they are unknown
+	private boolean addSuccessors(int index) {
+		AssemblyInstruction insn = asm.get(index);
+		
+		if(!(insn.getKind() instanceof X86InstructionKinds kind))
+			return false;
+		
+		if(kind == X86InstructionKinds.RET)
+			return true;
+		
+		if(kind.isJump()) {
+			String name = getJumpTarget(insn);
+			
+			AssemblyInstruction label = name == null
+				? null
+				: labels.get(name);
+			
+			int target = label == null
+				? -1
+				: asm.indexOf(label);
+			
+			if(target < 0)
+				return false;
+			
+			pending.push(target);
+			
+			if(kind == X86InstructionKinds.JMP)
+				return true;
+		}
+		
+		if(index + 1 >= asm.size())
+			return false;
+		
+		pending.push(index + 1);
+		return true;
+	}
+	
+	private static Usage getUsage(AssemblyInstruction insn, X86Register register) {
+		if(!(insn.getKind() instanceof X86InstructionKinds kind))
+			return Usage.READ;
+		
+		if(register == null)
+			return getFlagUsage(kind);
+		
+		List<AssemblyTarget> destinations = insn.getDestinations();
+		List<AssemblyTarget> sources = insn.getSources();
+		
+		// 'imul ecx' implicitly uses EAX and EDX
+		if(IMPLICIT_OPERANDS.contains(kind)
+			|| kind == X86InstructionKinds.IMUL && destinations.size() + sources.size() < 2)
+			return Usage.READ;
+		
+		AssemblyTarget dst = destinations.isEmpty()
+			? null
+			: destinations.get(0);
+		
+		if(!isClearing(kind, dst, sources))
+			for(AssemblyTarget source : sources)
+				if(reads(source, register))
+					return Usage.READ;
+		
+		for(AssemblyTarget destination : destinations) {
+			
+			if(!(destination instanceof X86Register reg)) {
+				// registers used to compute the address
+				if(reads(destination, register))
+					return Usage.READ;
 				
 				continue;
 			}
 			
-			if(kind == X86InstructionKinds.CMP) {
-
-				AssemblyTarget a = insn.getSources().get(0);
-				AssemblyTarget b = insn.getSources().get(1);
-				
-				if(a.isRegister() && isZero(b)) {
-					/* convert
-					 * 
-					 * 	cmp eax, 0
-					 * 
-					 * into
-					 * 
-					 * 	test eax, eax
-					 */
-					
-					insn.insertBefore(new X86Instruction(
-						asm,
-						X86InstructionKinds.TEST,
-						null, a, a
-					));
-					insn.remove();
-					continue;
-				}
-				
-			}
+			if(!reg.intersects(register))
+				continue;
 			
+			if(!isDefinition(kind, dst, sources))
+				return Usage.READ;
+			
+			// partial writes, e.g. 'mov al, 1' for EAX, keep the remaining value intact
+			if(reg == register || reg.getSize() > register.getSize())
+				return Usage.WRITE;
 		}
 		
-		if(hasModified)
-			optimize(asm);
+		return Usage.NONE;
+	}
+	
+	private static Usage getFlagUsage(X86InstructionKinds kind) {
+		if(kind.isJump())
+			return kind == X86InstructionKinds.JMP
+				? Usage.NONE
+				: Usage.READ;
+		
+		if(kind == X86InstructionKinds.CMOVNE
+			|| kind == X86InstructionKinds.RAW
+			|| SETS.contains(kind))
+			return Usage.READ;
+		
+		return FLAG_WRITERS.contains(kind)
+			? Usage.WRITE
+			: Usage.NONE;
+	}
+	
+	// checks whether the instruction overwrites its destination without depending on its previous value
+	private static boolean isDefinition(X86InstructionKinds kind, AssemblyTarget dst, List<AssemblyTarget> sources) {
+		return switch(kind) {
+		case MOV, MOVSS, MOVSD, MOVZX, MOVSX, MOVDQU, VMOVDQU, VMOVDQU8, LEA, POP,
+			CVTTSS2SI, CVTTSD2SI, CVTSI2SS, CVTSD2SS, CVTSI2SD, CVTSS2SD -> true;
+		
+		// 'imul dst, src, imm'
+		case IMUL -> sources.size() == 2;
+		
+		case XOR, SUB, PXOR -> isClearing(kind, dst, sources);
+		
+		default -> SETS.contains(kind);
+		};
+	}
+	
+	// checks for 'xor reg, reg' etc., which do not depend on the previous value
+	private static boolean isClearing(X86InstructionKinds kind, AssemblyTarget dst, List<AssemblyTarget> sources) {
+		return (kind == X86InstructionKinds.XOR || kind == X86InstructionKinds.SUB || kind == X86InstructionKinds.PXOR)
+			&& dst instanceof X86Register
+			&& sources.size() == 1
+			&& sources.get(0) == dst;
+	}
+	
+	// checks whether the register is accessed when evaluating the target
+	private static boolean reads(AssemblyTarget target, X86Register register) {
+		if(target instanceof X86Register reg)
+			return reg.intersects(register);
+		
+		for(AssemblyTarget nested : target.getNestedTargets())
+			if(nested != null && reads(nested, register))
+				return true;
+		
+		return false;
+	}
+	
+	private static String getLabel(AssemblyInstruction insn) {
+		return insn.getDestinations().get(0) instanceof X86LabelTarget label
+			? label.getName()
+			: null;
+	}
+	
+	private static String getJumpTarget(AssemblyInstruction insn) {
+		return insn.getDestinations().get(0) instanceof X86LabelTarget label
+			&& label.getOffset() == null
+			? label.getName()
+			: null;
+	}
+	
+	private static void replace(AssemblyInstruction insn, AssemblyInstruction replacement) {
+		insn.insertBefore(replacement);
+		insn.remove();
+	}
+	
+	private static NumericValue signed(AssemblyInstruction insn, NumericValue value) {
+		return signed((X86InstructionKinds) insn.getKind(), value);
+	}
+	
+	private static NumericValue signed(X86InstructionKinds kind, NumericValue value) {
+		return kind == X86InstructionKinds.SUB
+			? value.negate()
+			: value;
+	}
+	
+	// checks whether the value can be encoded as a (sign-extended) 32-bit immediate
+	private static boolean isImmediate(NumericValue value) {
+		return value.abs().toBigInteger().bitLength() < 32;
+	}
+	
+	private static boolean isVolatile(AssemblyTarget target) {
+		return target.isMemory() && target.getType().isVolatile();
 	}
 	
 	private static boolean isZero(AssemblyTarget target) {
 		return target instanceof X86IntegerTarget integer
-			&& integer.getValue().compareTo(BigInteger.ZERO) == 0;
+			&& integer.getValue().isZero();
+	}
+	
+	private static enum Usage {
+		NONE,	/* the value is neither read nor overwritten */
+		READ,	/* the value is (or might be) read */
+		WRITE	/* the value is overwritten */
+	}
+	
+	/**
+	 * A rewrite applied to the instructions matched by a {@link Rule}
+	 * 
+	 * @author Thomas Kasper
+	 * 
+	 */
+	@FunctionalInterface
+	private static interface Rewrite {
+		
+		/**
+		 * Tries to rewrite the matched instructions
+		 * 
+		 * @param window the matched instructions, in order
+		 * @return whether the instructions were modified
+		 */
+		boolean apply(AssemblyInstruction[] window);
+		
+	}
+	
+	/**
+	 * A rule, consisting of a pattern that matches consecutive instructions by their kind,
+	 * and the rewrite applied to those instructions
+	 * 
+	 * @author Thomas Kasper
+	 * 
+	 */
+	private static record Rule(Rewrite rewrite, List<Set<X86InstructionKinds>> pattern) {
+		
+		// checks whether the instructions starting at the index match the pattern, and stores them in the window
+		public boolean matches(Instructions asm, int index, AssemblyInstruction[] window) {
+			for(int i = 0; i < pattern.size(); ++i) {
+				AssemblyInstruction insn = asm.get(index + i);
+				
+				if(insn == null
+					|| !(insn.getKind() instanceof X86InstructionKinds kind)
+					|| !pattern.get(i).contains(kind))
+					return false;
+				
+				window[i] = insn;
+			}
+			
+			return true;
+		}
+		
 	}
 	
 }
@@ -22,19 +22,25 @@
  */
 package at.syntaxerror.syntaxc.generator.arch.x86;
 
+import lombok.RequiredArgsConstructor;
+
 /**
  * @author Thomas Kasper
  * 
  */
+@RequiredArgsConstructor
 public enum X86SegmentKind {
 
-	BSS,
-	DATA,
-	TEXT;
+	BSS		("bss"),
+	DATA	("data"),
+	RODATA	("section .rodata"),
+	TEXT	("text");
+	
+	private final String directive;
 	
 	@Override
 	public String toString() {
-		return name().toLowerCase();
+		return directive;
 	}
 	
 }
@@ -26,9 +26,12 @@ import static at.syntaxerror.syntaxc.generator.arch.x86.asm.X86OperandHelper.con
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.function.Consumer;
 
@@ -37,9 +40,11 @@ import at.syntaxerror.syntaxc.builtin.impl.BuiltinVaEnd;
 import at.syntaxerror.syntaxc.builtin.impl.BuiltinVaStart;
 import at.syntaxerror.syntaxc.generator.alloc.RegisterAllocator;
 import at.syntaxerror.syntaxc.generator.alloc.impl.GraphColoringRegisterAllocator;
-import at.syntaxerror.syntaxc.generator.alloc.impl.RegisterSupplier;
+import at.syntaxerror.syntaxc.generator.alloc.impl.LinearScanRegisterAllocator;
+import at.syntaxerror.syntaxc.generator.alloc.impl.RegisterAllocationHelper;
 import at.syntaxerror.syntaxc.generator.arch.x86.X86Architecture;
 import at.syntaxerror.syntaxc.generator.arch.x86.X86FloatTable;
+import at.syntaxerror.syntaxc.generator.arch.x86.X86JumpTable;
 import at.syntaxerror.syntaxc.generator.arch.x86.asm.X86BitfieldHelper.BitfieldSegment;
 import at.syntaxerror.syntaxc.generator.arch.x86.asm.X86OperandHelper.RegisterFlags;
 import at.syntaxerror.syntaxc.generator.arch.x86.call.X86CallingConvention;
@@ -57,9 +62,7 @@ import at.syntaxerror.syntaxc.generator.asm.AssemblyGenerator;
 import at.syntaxerror.syntaxc.generator.asm.Instructions;
 import at.syntaxerror.syntaxc.generator.asm.PrologueEpilogueInserter;
 import at.syntaxerror.syntaxc.generator.asm.insn.AssemblyInstruction;
-import at.syntaxerror.syntaxc.generator.asm.insn.AssemblyInstructionKind;
 import at.syntaxerror.syntaxc.generator.asm.target.AssemblyTarget;
-import at.syntaxerror.syntaxc.generator.asm.target.RegisterTarget;
 import at.syntaxerror.syntaxc.generator.asm.target.VirtualRegisterTarget;
 import at.syntaxerror.syntaxc.generator.asm.target.VirtualStackTarget;
 import at.syntaxerror.syntaxc.intermediate.operand.ConditionOperand;
@@ -79,13 +82,16 @@ import at.syntaxerror.syntaxc.intermediate.representation.JumpIntermediate;
 import at.syntaxerror.syntaxc.intermediate.representation.LabelIntermediate;
 import at.syntaxerror.syntaxc.intermediate.representation.MemcpyIntermediate;
 import at.syntaxerror.syntaxc.intermediate.representation.MemsetIntermediate;
+import at.syntaxerror.syntaxc.intermediate.representation.SwitchIntermediate;
 import at.syntaxerror.syntaxc.intermediate.representation.UnaryIntermediate;
 import at.syntaxerror.syntaxc.intermediate.representation.UnaryIntermediate.UnaryOperation;
 import at.syntaxerror.syntaxc.logger.Logger;
 import at.syntaxerror.syntaxc.misc.Pair;
 import at.syntaxerror.syntaxc.misc.config.Flags;
+import at.syntaxerror.syntaxc.misc.config.Optimizations;
 import at.syntaxerror.syntaxc.symtab.SymbolObject;
 import at.syntaxerror.syntaxc.type.FunctionType;
+import at.syntaxerror.syntaxc.type.NumericValueType;
 import at.syntaxerror.syntaxc.type.Type;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.Delegate;
@@ -96,10 +102,25 @@ import lombok.experimental.Delegate;
  */
 @RequiredArgsConstructor
 public class X86AssemblyGenerator extends AssemblyGenerator {
+	
+	/* minimum number of cases and minimum percentage of occupied entries
+	 * required for a range of cases to be dispatched via a jump table
+	 */
+	private static final int JUMP_TABLE_MIN_CASES = 4;
+	private static final int JUMP_TABLE_MIN_DENSITY = 40;
+	
+	// maximum number of entries within a single jump table
+	private static final int JUMP_TABLE_MAX_SIZE = 4096;
+	
+	// maximum number of case clusters compared one after another instead of via a binary search
+	private static final int SWITCH_LINEAR_CLUSTERS = 3;
 
 	private static X86PrologueEpilogueInserter prologueEpilogueInserter;
 	
+	private X86RegisterAllocationHelper registerAllocationHelper;
+	
 	private final X86FloatTable floatTable;
+	private final X86JumpTable jumpTable;
 	private final X86Assembly x86;
 	private final X86Architecture architecture;
 	
@@ -125,58 +146,15 @@ public class X86AssemblyGenerator extends AssemblyGenerator {
 	
 	@Override
 	public RegisterAllocator getRegisterAllocator(Instructions asm) {
-		return new GraphColoringRegisterAllocator(asm, architecture.getAlignment()) {
-			
-			@Override
-			public List<RegisterSupplier> getRegisterSuppliers() {
-				return x86.getRegisterProvider().getSuppliers();
-			}
-			
-			@Override
-			public AssemblyTarget resolveVirtualMemory(long address, Type type) {
-				return X86MemoryTarget.ofDisplaced(
-					type,
-					constant(-address - type.sizeof()),
-					x86.RBP
-				);
-			}
-			
-			@Override
-			public boolean isBlockEnd(AssemblyInstruction insn) {
-				AssemblyInstructionKind kind = insn.getKind();
-				
-				return kind instanceof X86InstructionKinds x86
-					&& (x86.isJump()
-					|| x86 == X86InstructionKinds.LABEL);
-			}
-			
-			@Override
-			public boolean isCopy(AssemblyInstruction insn) {
-				return insn.getKind() instanceof X86InstructionKinds x86
-					&& x86.isCopy();
-			}
-			
-			@Override
-			public AssemblyInstruction store(Instructions asm, VirtualStackTarget target, RegisterTarget register) {
-				return new X86Instruction(
-					asm,
-					X86InstructionSelector.select(X86InstructionKinds.MOV, target.getType()),
-					target,
-					register
-				);
-			}
-			
-			@Override
-			public AssemblyInstruction restore(Instructions asm, RegisterTarget register, VirtualStackTarget target) {
-				return new X86Instruction(
-					asm,
-					X86InstructionSelector.select(X86InstructionKinds.MOV, register.getType()),
-					register,
-					target
-				);
-			}
-			
-		};
+		RegisterAllocationHelper helper = Objects.requireNonNullElseGet(
+			registerAllocationHelper,
+			() -> registerAllocationHelper = new X86RegisterAllocationHelper(x86)
+		);
+		
+		if(Flags.LINEAR_SCAN.isEnabled())
+			return new LinearScanRegisterAllocator(asm, architecture.getAlignment(), helper);
+		
+		return new GraphColoringRegisterAllocator(asm, architecture.getAlignment(), helper);
 	}
 	
 	@Override
@@ -221,6 +199,7 @@ public class X86AssemblyGenerator extends AssemblyGenerator {
 		case CastIntermediate cast:				generateCast			(cast);		break;
 		case JumpIntermediate jump:				generateJump			(jump);		break;
 		case LabelIntermediate label:			generateLabel			(label);	break;
+		case SwitchIntermediate swtch:			generateSwitch			(swtch);	break;
 		case UnaryIntermediate unary:			generateUnary			(unary);	break;
 		case MemcpyIntermediate memcpy:			generateMemcpy			(memcpy);	break;
 		case MemsetIntermediate memset:			generateMemset			(memset);	break;
@@ -624,7 +603,12 @@ public class X86AssemblyGenerator extends AssemblyGenerator {
 			generateBinaryArithmetic(dst, left, right, X86InstructionKinds.DIV);
 			return;
 		}
-		
+
+		if(right instanceof X86IntegerTarget divisor
+			&& Optimizations.STRENGTH_REDUCTION.isEnabled()
+			&& generateConstantDivision(dst, left, divisor.getValue().toBigInteger(), modulo))
+			return;
+
 		/*
 		 * signed integer division:
 		 * 
@@ -650,6 +634,13 @@ public class X86AssemblyGenerator extends AssemblyGenerator {
 		X86Size size = X86Size.of(type);
 		boolean unsigned = type.isUnsigned();
 		
+		/* the divisor is loaded before eax and edx are written, so that it
+		 * cannot be assigned to either of them by the register allocator
+		 */
+		AssemblyTarget divisor = right.isMemory()
+			? right
+			: toRegister(right, RegisterFlags.NO_LITERAL);
+		
 		asm.add(
 			size == X86Size.BYTE
 				? unsigned
@@ -682,9 +673,7 @@ public class X86AssemblyGenerator extends AssemblyGenerator {
 			unsigned
 				? X86InstructionKinds.DIV
 				: X86InstructionKinds.IDIV,
-			right.isMemory()
-				? right
-				: toRegister(right, RegisterFlags.NO_LITERAL)
+			divisor
 		);
 		
 		if(size == X86Size.BYTE)
@@ -703,11 +692,308 @@ public class X86AssemblyGenerator extends AssemblyGenerator {
 		);
 	}
 
-	private void generateBinaryMultiplication(Operand dst, AssemblyTarget left, AssemblyTarget right) {
+	/**
+	 * Divides by a constant without using {@code div}/{@code idiv}, as described by
+	 * Granlund and Montgomery in "Division by Invariant Integers using Multiplication".
+	 * 
+	 * <p>Divisions by powers of two are replaced by shifts, all the other divisors
+	 * by multiplications with their (scaled) reciprocal, of which only the upper half
+	 * of the product is used
+	 * 
+	 * @return {@code false} if the division cannot be optimized
+	 */
+	private boolean generateConstantDivision(Operand dst, AssemblyTarget left, BigInteger value, boolean modulo) {
 		Type type = left.getType();
+		X86Size size = X86Size.of(type);
+		
+		// operands have already been promoted to (at least) int
+		if(size != X86Size.DWORD && size != X86Size.QWORD)
+			return false;
+		
+		int bits = type.sizeof() * Byte.SIZE;
+		boolean unsigned = type.isUnsigned();
+		
+		BigInteger divisor = unsigned
+			? value.mod(BigInteger.ONE.shiftLeft(bits))
+			: toSigned(value, bits);
+		
+		// division by zero is undefined, but should still trap at runtime
+		if(divisor.signum() == 0)
+			return false;
+		
+		if(!left.isRegister() && !left.isMemory())
+			left = toRegister(left, RegisterFlags.NO_LITERAL);
+		
+		BigInteger magnitude = divisor.abs();
+		
+		boolean powerOfTwo = magnitude.bitCount() == 1;
+		int log = magnitude.getLowestSetBit();
+		
+		AssemblyTarget result;
+		
+		if(modulo && magnitude.equals(BigInteger.ONE))
+			result = constant(type, 0);
+		
+		else if(modulo && powerOfTwo) {
+			/*
+			 * unsigned:
+			 * 
+			 * 	mov <R>, <A>
+			 * 	and <R>, <|B|-1>
+			 * 
+			 * signed:
+			 * 
+			 * 	<T> = <A> + bias
+			 * 	and <T>, <-|B|>
+			 * 	mov <R>, <A>
+			 * 	sub <R>, <T>
+			 */
+			result = new VirtualRegisterTarget(type);
+			
+			if(unsigned) {
+				asm.add(X86InstructionKinds.MOV, result, left);
+				asm.add(X86InstructionKinds.AND, result, immediate(type, magnitude.subtract(BigInteger.ONE)));
+			}
+			
+			else {
+				AssemblyTarget biased = generateDivisionBias(left, log, bits);
+				
+				asm.add(X86InstructionKinds.AND, biased, immediate(type, magnitude.negate()));
+				asm.add(X86InstructionKinds.MOV, result, left);
+				asm.add(X86InstructionKinds.SUB, result, biased);
+			}
+		}
+		
+		else {
+			result = unsigned
+				? generateUnsignedQuotient(left, divisor, bits)
+				: generateSignedQuotient(left, divisor, bits);
+			
+			if(modulo) {
+				/*
+				 * 	imul <T>, <Q>, <B>
+				 * 	mov <R>, <A>
+				 * 	sub <R>, <T>
+				 */
+				AssemblyTarget factor = immediate(type, toSigned(divisor, bits));
+				AssemblyTarget product = new VirtualRegisterTarget(type);
+				
+				if(factor.isRegister()) {
+					asm.add(X86InstructionKinds.MOV, product, result);
+					asm.add(X86InstructionKinds.IMUL, product, factor);
+				}
+				else asm.add(X86InstructionKinds.IMUL, product, result, factor);
+				
+				result = new VirtualRegisterTarget(type);
+				
+				asm.add(X86InstructionKinds.MOV, result, left);
+				asm.add(X86InstructionKinds.SUB, result, product);
+			}
+		}
+		
+		assign(dst, result.resized(dst.getType()));
+		return true;
+	}
+	
+	private AssemblyTarget generateUnsignedQuotient(AssemblyTarget dividend, BigInteger divisor, int bits) {
+		Type type = dividend.getType();
+		
+		AssemblyTarget quotient = new VirtualRegisterTarget(type);
+		
+		if(divisor.bitCount() == 1) {
+			/*
+			 * 	mov <Q>, <A>
+			 * 	shr <Q>, log2(<B>)
+			 */
+			asm.add(X86InstructionKinds.MOV, quotient, dividend);
+			
+			if(!divisor.equals(BigInteger.ONE))
+				asm.add(X86InstructionKinds.SHR, quotient, constant(divisor.getLowestSetBit()));
+			
+			return quotient;
+		}
+		
+		MagicNumber magic = MagicNumber.of(divisor, bits, bits);
+		int preShift = 0;
+		
+		/* the multiplier requires bits+1 bits. For even divisors, this can be
+		 * avoided by shifting out the (known) low zero bits of the dividend first
+		 */
+		if(magic.multiplier().bitLength() > bits && !divisor.testBit(0)) {
+			preShift = divisor.getLowestSetBit();
+			magic = MagicNumber.of(divisor.shiftRight(preShift), bits, bits - preShift);
+		}
+		
+		if(magic.multiplier().bitLength() > bits) {
+			/*
+			 * the (bits+1)-bit multiplier is split into 2^bits + m:
+			 * 
+			 * 	mov eax, <m>
+			 * 	mul <A>
+			 * 	mov <Q>, <A>
+			 * 	sub <Q>, edx
+			 * 	shr <Q>, 1
+			 * 	add <Q>, edx
+			 * 	shr <Q>, <shift-1>
+			 */
+			AssemblyTarget high = generateMultiplyHigh(
+				dividend,
+				magic.multiplier().clearBit(bits),
+				true
+			);
+			
+			asm.add(X86InstructionKinds.MOV, quotient, dividend);
+			asm.add(X86InstructionKinds.SUB, quotient, high);
+			asm.add(X86InstructionKinds.SHR, quotient, constant(1));
+			asm.add(X86InstructionKinds.ADD, quotient, high);
+			
+			if(magic.shift() > 1)
+				asm.add(X86InstructionKinds.SHR, quotient, constant(magic.shift() - 1));
+			
+			return quotient;
+		}
+		
+		/*
+		 * 	(mov <T>, <A>)
+		 * 	(shr <T>, <pre-shift>)
+		 * 	mov eax, <m>
+		 * 	mul <T>
+		 * 	mov <Q>, edx
+		 * 	shr <Q>, <shift>
+		 */
+		if(preShift != 0) {
+			AssemblyTarget shifted = new VirtualRegisterTarget(type);
+			
+			asm.add(X86InstructionKinds.MOV, shifted, dividend);
+			asm.add(X86InstructionKinds.SHR, shifted, constant(preShift));
+			
+			dividend = shifted;
+		}
+		
+		asm.add(X86InstructionKinds.MOV, quotient, generateMultiplyHigh(dividend, magic.multiplier(), true));
+		
+		if(magic.shift() != 0)
+			asm.add(X86InstructionKinds.SHR, quotient, constant(magic.shift()));
+		
+		return quotient;
+	}
+	
+	private AssemblyTarget generateSignedQuotient(AssemblyTarget dividend, BigInteger divisor, int bits) {
+		Type type = dividend.getType();
+		
+		BigInteger magnitude = divisor.abs();
+		
+		AssemblyTarget quotient;
+		
+		if(magnitude.equals(BigInteger.ONE)) {
+			quotient = new VirtualRegisterTarget(type);
+			
+			asm.add(X86InstructionKinds.MOV, quotient, dividend);
+		}
+		
+		else if(magnitude.bitCount() == 1) {
+			/*
+			 * 	<Q> = <A> + bias
+			 * 	sar <Q>, log2(|B|)
+			 */
+			int log = magnitude.getLowestSetBit();
+			
+			quotient = generateDivisionBias(dividend, log, bits);
+			
+			asm.add(X86InstructionKinds.SAR, quotient, constant(log));
+		}
+		
+		else {
+			/*
+			 * 	mov eax, <m>
+			 * 	imul <A>
+			 * 	mov <Q>, edx
+			 * 	(add <Q>, <A>)		if m does not fit into a signed integer
+			 * 	sar <Q>, <shift>
+			 * 	mov <T>, <A>
+			 * 	sar <T>, <bits-1>	(-1 if <A> is negative, 0 otherwise)
+			 * 	sub <Q>, <T>
+			 */
+			MagicNumber magic = MagicNumber.of(magnitude, bits, bits - 1);
+			BigInteger multiplier = magic.multiplier();
+			
+			quotient = new VirtualRegisterTarget(type);
+			
+			asm.add(X86InstructionKinds.MOV, quotient, generateMultiplyHigh(dividend, multiplier, false));
+			
+			if(multiplier.testBit(bits - 1))
+				asm.add(X86InstructionKinds.ADD, quotient, dividend);
+			
+			if(magic.shift() != 0)
+				asm.add(X86InstructionKinds.SAR, quotient, constant(magic.shift()));
+			
+			AssemblyTarget sign = new VirtualRegisterTarget(type);
+			
+			asm.add(X86InstructionKinds.MOV, sign, dividend);
+			asm.add(X86InstructionKinds.SAR, sign, constant(bits - 1));
+			asm.add(X86InstructionKinds.SUB, quotient, sign);
+		}
+		
+		if(divisor.signum() < 0)
+			asm.add(X86InstructionKinds.NEG, quotient);
+		
+		return quotient;
+	}
+	
+	/* adds 2^log - 1 to negative dividends, so that arithmetic right shifts round towards zero
+	 * 
+	 * 	mov <T>, <A>
+	 * 	sar <T>, <bits-1>		(not required if log is 1)
+	 * 	shr <T>, <bits-log>
+	 * 	add <T>, <A>
+	 */
+	private AssemblyTarget generateDivisionBias(AssemblyTarget dividend, int log, int bits) {
+		AssemblyTarget biased = new VirtualRegisterTarget(dividend.getType());
+		
+		asm.add(X86InstructionKinds.MOV, biased, dividend);
+		
+		if(log > 1)
+			asm.add(X86InstructionKinds.SAR, biased, constant(bits - 1));
+		
+		asm.add(X86InstructionKinds.SHR, biased, constant(bits - log));
+		asm.add(X86InstructionKinds.ADD, biased, dividend);
+		
+		return biased;
+	}
+	
+	/* computes the upper half of the product <A> * <m>
+	 * 
+	 * 	mov eax, <m>
+	 * 	mul/imul <A>	(edx:eax = eax * <A>)
+	 */
+	private AssemblyTarget generateMultiplyHigh(AssemblyTarget value, BigInteger multiplier, boolean unsigned) {
+		Type type = value.getType();
+		
+		if(!value.isRegister() && !value.isMemory())
+			value = toRegister(value, RegisterFlags.NO_LITERAL);
+		
+		asm.add(
+			X86InstructionKinds.MOV,
+			X86Register.EAX.resized(type),
+			constant(type, toSigned(multiplier, type.sizeof() * Byte.SIZE))
+		);
+		asm.add(X86InstructionKinds.CLOBBER, X86Register.EDX.resized(type));
+		
+		asm.add(
+			unsigned
+				? X86InstructionKinds.MUL
+				: X86InstructionKinds.IMUL,
+			value
+		);
+		
+		return X86Register.EDX.resized(type);
+	}
+	
+	private void generateBinaryMultiplication(Operand dst, AssemblyTarget leftTarget, AssemblyTarget rightTarget) {
+		Type type = leftTarget.getType();
 		
 		if(type.isFloating()) {
-			generateBinaryArithmetic(dst, left, right, X86InstructionKinds.IMUL);
+			generateBinaryArithmetic(dst, leftTarget, rightTarget, X86InstructionKinds.IMUL);
 			return;
 		}
 		
@@ -722,8 +1008,29 @@ public class X86AssemblyGenerator extends AssemblyGenerator {
 		 * 
 		 * 	imul eax, <A>, <B>
 		 * 	mov <R>, eax
+		 * 
+		 * or, if cheaper, a chain of lea/shl/add/sub instructions (see X86MultiplicationHelper):
+		 * 
+		 * 	lea eax, [<A>+<A>*4]
+		 * 	add eax, eax
+		 * 	mov <R>, eax
 		 */
 		
+		// multiplication is commutative, the constant is always the second operand
+		boolean swap = leftTarget instanceof X86IntegerTarget && !(rightTarget instanceof X86IntegerTarget);
+		
+		AssemblyTarget left = swap ? rightTarget : leftTarget;
+		AssemblyTarget right = swap ? leftTarget : rightTarget;
+		
+		if(right instanceof X86IntegerTarget factor) {
+			AssemblyTarget product = multiply(left, factor.getValue().toBigInteger());
+			
+			if(product != null) {
+				assign(dst, product.resized(dst.getType()));
+				return;
+			}
+		}
+		
 		if(right instanceof X86IntegerTarget)
 			assignDynamicRegister(dst, result -> asm.add(X86InstructionKinds.IMUL, result.minimum(Type.SHORT), left, right));
 		
@@ -1515,6 +1822,245 @@ public class X86AssemblyGenerator extends AssemblyGenerator {
 		);
 	}
 	
+	/* Dispatches the value of a switch statement to the matching case label.
+	 * 
+	 * The cases are partitioned into clusters, each of which is either a single value,
+	 * a range of consecutive values jumping to the same label, or a dense range of
+	 * values looked up via a jump table:
+	 * 
+	 *  mov ecx, <value>
+	 *  sub ecx, <low>
+	 *  cmp ecx, <high - low>
+	 *  ja <default>
+	 *  shl ecx, 2
+	 *  jmp DWORD PTR [ecx+.J1]
+	 *  
+	 * The clusters themselves are searched for via a balanced binary search.
+	 */
+	private void generateSwitch(SwitchIntermediate swtch) {
+		X86LabelTarget labelDefault = new X86LabelTarget(Type.VOID, swtch.getDefaultLabel());
+		
+		List<SwitchCluster> clusters = clusterSwitchCases(swtch.getCases(), swtch.getDefaultLabel());
+		
+		if(clusters.isEmpty()) {
+			asm.add(X86InstructionKinds.JMP, labelDefault);
+			return;
+		}
+		
+		AssemblyTarget value = toRegister(
+			generateOperand(swtch.getValue()),
+			RegisterFlags.NO_LITERAL
+		);
+		
+		generateSwitchSearch(value, clusters, labelDefault);
+	}
+	
+	private List<SwitchCluster> clusterSwitchCases(NavigableMap<BigInteger, String> cases, String labelDefault) {
+		List<BigInteger> values = new ArrayList<>(cases.keySet());
+		List<SwitchCluster> clusters = new ArrayList<>();
+		
+		int count = values.size();
+		int start = 0;
+		
+		while(start < count) {
+			BigInteger low = values.get(start);
+			
+			// find the largest range of cases starting at 'low' that is dense enough for a jump table
+			int end = start;
+			
+			for(int i = start + JUMP_TABLE_MIN_CASES - 1; i < count; ++i) {
+				BigInteger size = values.get(i)
+					.subtract(low)
+					.add(BigInteger.ONE);
+				
+				if(size.compareTo(BigInteger.valueOf(JUMP_TABLE_MAX_SIZE)) > 0)
+					break;
+				
+				if(BigInteger.valueOf(100L * (i - start + 1))
+					.compareTo(size.multiply(BigInteger.valueOf(JUMP_TABLE_MIN_DENSITY))) >= 0)
+					end = i;
+			}
+			
+			if(end != start) {
+				BigInteger high = values.get(end);
+				
+				List<String> labels = new ArrayList<>();
+				
+				for(BigInteger value = low; value.compareTo(high) <= 0; value = value.add(BigInteger.ONE))
+					labels.add(cases.getOrDefault(value, labelDefault));
+				
+				if(new HashSet<>(labels).size() > 1) {
+					clusters.add(new SwitchCluster(low, high, labels));
+					
+					start = end + 1;
+					continue;
+				}
+			}
+			
+			// merge consecutive cases jumping to the same label into a single range
+			String label = cases.get(low);
+			
+			end = start;
+			
+			while(end + 1 < count
+				&& values.get(end + 1).equals(values.get(end).add(BigInteger.ONE))
+				&& cases.get(values.get(end + 1)).equals(label))
+				++end;
+			
+			clusters.add(new SwitchCluster(low, values.get(end), List.of(label)));
+			
+			start = end + 1;
+		}
+		
+		return clusters;
+	}
+	
+	private void generateSwitchSearch(AssemblyTarget value, List<SwitchCluster> clusters, X86LabelTarget labelDefault) {
+		int count = clusters.size();
+		
+		if(count <= SWITCH_LINEAR_CLUSTERS) {
+			/* jump tables are checked last, since the value is no longer needed afterwards
+			 * and values outside of the table can jump to the default label directly
+			 */
+			List<SwitchCluster> ordered = new ArrayList<>(clusters);
+			
+			ordered.sort(Comparator.comparing(SwitchCluster::isTable));
+			
+			for(int i = 0; i < count; ++i)
+				generateSwitchCluster(value, ordered.get(i), labelDefault, i + 1 == count);
+			
+			return;
+		}
+		
+		/*
+		 *  cmp <value>, <pivot>
+		 *  jl/jb .lower
+		 *  <upper half>
+		 *  
+		 *  .lower:
+		 *  <lower half>
+		 */
+		
+		int middle = count / 2;
+		
+		X86LabelTarget labelLower = jumpTable.nextLabel();
+		
+		asm.add(
+			X86InstructionKinds.CMP,
+			null,
+			value,
+			immediate(value.getType(), clusters.get(middle).low())
+		);
+		
+		asm.add(
+			(value.getType().isSigned()
+				? ConditionFlags.LESS
+				: ConditionFlags.BELOW)
+				.getJumpInstruction(),
+			labelLower
+		);
+		
+		generateSwitchSearch(value, clusters.subList(middle, count), labelDefault);
+		
+		asm.add(X86InstructionKinds.LABEL, labelLower);
+		
+		generateSwitchSearch(value, clusters.subList(0, middle), labelDefault);
+	}
+	
+	/* tests whether the value is part of the cluster and jumps to the corresponding label if so.
+	 * Falls through otherwise, unless this is the last cluster to be checked
+	 */
+	private void generateSwitchCluster(AssemblyTarget value, SwitchCluster cluster, X86LabelTarget labelDefault, boolean last) {
+		Type type = value.getType();
+		
+		BigInteger low = cluster.low();
+		BigInteger high = cluster.high();
+		
+		if(low.equals(high)) {
+			/*
+			 *  cmp <value>, <case>
+			 *  je <label>
+			 */
+			asm.add(X86InstructionKinds.CMP, null, value, immediate(type, low));
+			asm.add(X86InstructionKinds.JE, new X86LabelTarget(Type.VOID, cluster.labels().get(0)));
+		}
+		
+		else {
+			/* subtracting the lower bound maps all values outside of the range onto
+			 * (unsigned) values greater than the difference between the bounds
+			 */
+			Type pointer = NumericValueType.POINTER.asType();
+			
+			VirtualRegisterTarget index = new VirtualRegisterTarget(
+				type.sizeof() < pointer.sizeof()
+					? pointer
+					: type
+			);
+			
+			AssemblyTarget offset = index.resized(type);
+			
+			asm.add(X86InstructionSelector.select(X86InstructionKinds.MOV, type), offset, value);
+			
+			if(low.signum() != 0)
+				asm.add(X86InstructionKinds.SUB, offset, immediate(type, low));
+			
+			asm.add(X86InstructionKinds.CMP, null, offset, immediate(type, high.subtract(low)));
+			
+			if(!cluster.isTable())
+				asm.add(X86InstructionKinds.JBE, new X86LabelTarget(Type.VOID, cluster.labels().get(0)));
+			
+			else {
+				X86LabelTarget labelNext = last
+					? labelDefault
+					: jumpTable.nextLabel();
+				
+				asm.add(X86InstructionKinds.JA, labelNext);
+				
+				asm.add(
+					X86InstructionKinds.SHL,
+					index,
+					constant(Integer.numberOfTrailingZeros(pointer.sizeof()))
+				);
+				
+				asm.add(
+					X86InstructionKinds.JMP,
+					X86MemoryTarget.ofDisplaced(
+						pointer,
+						jumpTable.add(cluster.labels()),
+						index
+					)
+				);
+				
+				if(!last)
+					asm.add(X86InstructionKinds.LABEL, labelNext);
+				
+				return;
+			}
+		}
+		
+		if(last)
+			asm.add(X86InstructionKinds.JMP, labelDefault);
+	}
+	
+	// interprets the lower bits of the value as a two's complement integer
+	private static BigInteger toSigned(BigInteger value, int bits) {
+		value = value.mod(BigInteger.ONE.shiftLeft(bits));
+		
+		return value.testBit(bits - 1)
+			? value.subtract(BigInteger.ONE.shiftLeft(bits))
+			: value;
+	}
+	
+	private AssemblyTarget immediate(Type type, BigInteger value) {
+		AssemblyTarget constant = constant(type, value);
+		
+		// immediate operands are limited to (sign-extended) 32 bits
+		if(value.bitLength() > 31 && type.sizeof() > X86Size.DWORD.getType().sizeof())
+			return toRegister(constant, RegisterFlags.NO_LITERAL);
+		
+		return constant;
+	}
+	
 	private void generateUnaryNegation(AssemblyTarget dst, AssemblyTarget src, boolean equalOperands, X86InstructionKinds insn) {
 
 		if(equalOperands)
@@ -1902,4 +2448,41 @@ public class X86AssemblyGenerator extends AssemblyGenerator {
 		return Pair.of(byteCount, wordSize);
 	}
 	
+	/* multiplier and post-shift for divisions by invariant integers */
+	private static record MagicNumber(BigInteger multiplier, int shift) {
+		
+		/**
+		 * Finds the smallest multiplier {@code m} and shift {@code s}, so that
+		 * {@code floor(m * a / 2^(bits+s)) == floor(a / divisor)} holds for
+		 * every non-negative {@code a} representable with {@code precision} bits
+		 */
+		public static MagicNumber of(BigInteger divisor, int bits, int precision) {
+			int shift = divisor.subtract(BigInteger.ONE).bitLength(); // ceil(log2(divisor))
+			
+			BigInteger low = BigInteger.ONE.shiftLeft(bits + shift);
+			BigInteger high = low.add(BigInteger.ONE.shiftLeft(bits + shift - precision));
+			
+			low = low.divide(divisor);
+			high = high.divide(divisor);
+			
+			// reduce the multiplier as long as the lower bound is still smaller
+			while(shift > 0 && low.shiftRight(1).compareTo(high.shiftRight(1)) < 0) {
+				low = low.shiftRight(1);
+				high = high.shiftRight(1);
+				--shift;
+			}
+			
+			return new MagicNumber(high, shift);
+		}
+		
+	}
+	
+	private static record SwitchCluster(BigInteger low, BigInteger high, List<String> labels) {
+		
+		public boolean isTable() {
+			return labels.size() > 1;
+		}
+		
+	}
+	
 }
@@ -22,7 +22,6 @@
  */
 package at.syntaxerror.syntaxc.generator.arch.x86.asm;
 
-import java.math.BigInteger;
 
 import at.syntaxerror.syntaxc.SystemUtils.BitSize;
 import at.syntaxerror.syntaxc.generator.arch.ArchitectureRegistry;
@@ -33,6 +32,7 @@ import at.syntaxerror.syntaxc.generator.asm.Instructions;
 import at.syntaxerror.syntaxc.generator.asm.target.AssemblyTarget;
 import at.syntaxerror.syntaxc.logger.Logger;
 import at.syntaxerror.syntaxc.misc.config.Flags;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.NumericValueType;
 import at.syntaxerror.syntaxc.type.Type;
 import lombok.RequiredArgsConstructor;
@@ -100,14 +100,14 @@ public class X86FPUHelper {
 		
 		if(target instanceof X86IntegerTarget lit) {
 			
-			BigInteger val = lit.getValue();
+			NumericValue val = lit.getValue();
 			
-			if(val.compareTo(BigInteger.ZERO) == 0) {
+			if(val.isZero()) {
 				asm.add(X86InstructionKinds.FLDZ);
 				return;
 			}
 
-			if(val.compareTo(BigInteger.ZERO) == 1) {
+			if(val.equals(NumericValue.ONE)) {
 				asm.add(X86InstructionKinds.FLD1);
 				return;
 			}
@@ -0,0 +1,170 @@
+/* MIT License
+ * 
+ * Copyright (c) 2022 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.syntaxc.generator.arch.x86.asm;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Decomposes multiplications by constants into chains of cheaper instructions
+ * ({@code lea}, {@code shl}, {@code add}, {@code sub} and {@code neg}), e.g.
+ * 
+ * <pre>
+ * 	x * 10	=	lea t, [x+x*4]
+ * 				add t, t
+ * 
+ * 	x * 7	=	mov t, x
+ * 				shl t, 3
+ * 				sub t, x
+ * </pre>
+ * 
+ * Each instruction of the chain is assumed to have a latency of 1 cycle, whereas
+ * {@code imul} has a latency of 3 cycles. Chains are only used if they are faster
+ * than the multiplication itself.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+@UtilityClass
+public class X86MultiplicationHelper {
+	
+	// latency (in cycles) of 'imul reg, reg, imm'
+	private static final int MULTIPLY_LATENCY = 3;
+	
+	// maximum latency of an instruction chain replacing a multiplication
+	private static final int MAX_LATENCY = MULTIPLY_LATENCY - 1;
+	
+	/**
+	 * Finds the cheapest chain of instructions computing {@code x * factor} (modulo {@code 2^bits})
+	 * 
+	 * @param factor the constant factor
+	 * @param bits the number of bits of the operands
+	 * @return the steps of the chain (empty if the factor is 1), or {@code null} if {@code imul} is cheaper
+	 */
+	public static List<MultiplicationStep> decompose(BigInteger factor, int bits) {
+		BigInteger modulus = BigInteger.ONE.shiftLeft(bits);
+		
+		factor = factor.mod(modulus);
+		
+		if(factor.signum() == 0)
+			return null;
+		
+		List<MultiplicationStep> candidates = getCandidates(bits);
+		
+		// iterative deepening, so that the first chain found is also the cheapest one
+		for(int budget = 0; budget <= MAX_LATENCY; ++budget) {
+			Deque<MultiplicationStep> steps = new ArrayDeque<>();
+			
+			if(search(BigInteger.ONE, factor, modulus, budget, candidates, steps))
+				return List.copyOf(steps);
+		}
+		
+		return null;
+	}
+	
+	private static boolean search(BigInteger value, BigInteger factor, BigInteger modulus, int budget,
+			List<MultiplicationStep> candidates, Deque<MultiplicationStep> steps) {
+		
+		if(value.equals(factor))
+			return true;
+		
+		for(MultiplicationStep step : candidates) {
+			int latency = step.kind().getLatency();
+			
+			if(latency > budget)
+				continue;
+			
+			steps.addLast(step);
+			
+			if(search(step.apply(value).mod(modulus), factor, modulus, budget - latency, candidates, steps))
+				return true;
+			
+			steps.removeLast();
+		}
+		
+		return false;
+	}
+	
+	private static List<MultiplicationStep> getCandidates(int bits) {
+		List<MultiplicationStep> candidates = new ArrayList<>();
+		
+		for(int shift = 1; shift < bits; ++shift)
+			candidates.add(new MultiplicationStep(StepKind.SHIFT, shift));
+		
+		for(int scale : new int[] { 2, 4, 8 })
+			candidates.add(new MultiplicationStep(StepKind.SCALE, scale));
+		
+		for(int scale : new int[] { 2, 4, 8 })
+			candidates.add(new MultiplicationStep(StepKind.SCALE_ADD, scale));
+		
+		candidates.add(new MultiplicationStep(StepKind.ADD, 1));
+		candidates.add(new MultiplicationStep(StepKind.SUBTRACT, 1));
+		candidates.add(new MultiplicationStep(StepKind.NEGATE, 1));
+		
+		return candidates;
+	}
+	
+	/**
+	 * A single instruction within the chain, where {@code t} is the intermediate
+	 * result (initially {@code x}) and {@code x} is the original operand
+	 * 
+	 * @author Thomas Kasper
+	 * 
+	 */
+	public static record MultiplicationStep(StepKind kind, int amount) {
+		
+		public BigInteger apply(BigInteger value) {
+			return switch(kind) {
+			case SHIFT -> value.shiftLeft(amount);
+			case SCALE -> value.multiply(BigInteger.valueOf(amount + 1));
+			case SCALE_ADD -> value.multiply(BigInteger.valueOf(amount)).add(BigInteger.ONE);
+			case ADD -> value.add(BigInteger.ONE);
+			case SUBTRACT -> value.subtract(BigInteger.ONE);
+			case NEGATE -> value.negate();
+			};
+		}
+		
+	}
+	
+	@Getter
+	@RequiredArgsConstructor
+	public static enum StepKind {
+		SHIFT		(1), /* shl t, amount */
+		SCALE		(1), /* lea t, [t+t*amount] */
+		SCALE_ADD	(1), /* lea t, [x+t*amount] */
+		ADD			(1), /* add t, x */
+		SUBTRACT	(1), /* sub t, x */
+		NEGATE		(1); /* neg t */
+		
+		private final int latency;
+		
+	}
+	
+}
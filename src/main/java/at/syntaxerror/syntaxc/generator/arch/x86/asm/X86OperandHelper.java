@@ -22,7 +22,6 @@
  */
 package at.syntaxerror.syntaxc.generator.arch.x86.asm;
 
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.HashMap;
 import java.util.List;
@@ -30,6 +29,8 @@ import java.util.Map;
 
 import at.syntaxerror.syntaxc.generator.arch.x86.X86FloatTable;
 import at.syntaxerror.syntaxc.generator.arch.x86.asm.X86BitfieldHelper.BitfieldSegment;
+import at.syntaxerror.syntaxc.generator.arch.x86.asm.X86MultiplicationHelper.MultiplicationStep;
+import at.syntaxerror.syntaxc.generator.arch.x86.asm.X86MultiplicationHelper.StepKind;
 import at.syntaxerror.syntaxc.generator.arch.x86.call.X86CallingConvention;
 import at.syntaxerror.syntaxc.generator.arch.x86.insn.X86InstructionKinds;
 import at.syntaxerror.syntaxc.generator.arch.x86.insn.X86InstructionSelector;
@@ -56,7 +57,9 @@ import at.syntaxerror.syntaxc.intermediate.operand.OffsetOperand;
 import at.syntaxerror.syntaxc.intermediate.operand.Operand;
 import at.syntaxerror.syntaxc.intermediate.operand.TemporaryOperand;
 import at.syntaxerror.syntaxc.logger.Logger;
+import at.syntaxerror.syntaxc.misc.config.Optimizations;
 import at.syntaxerror.syntaxc.symtab.SymbolObject;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.NumericValueType;
 import at.syntaxerror.syntaxc.type.StructType.Member;
 import at.syntaxerror.syntaxc.type.Type;
@@ -72,9 +75,7 @@ public class X86OperandHelper {
 	public static AssemblyTarget constant(Type type, Number value) {
 		return new X86IntegerTarget(
 			type,
-			value instanceof BigInteger bi
-				? bi
-				: BigInteger.valueOf(value.longValue())
+			NumericValue.of(value)
 		);
 	}
 	
@@ -133,12 +134,17 @@ public class X86OperandHelper {
 			return new X86IntegerTarget(
 				type,
 				integer.getValue()
-					.multiply(BigInteger.valueOf(size))
+					.multiply(NumericValue.of(size))
 			);
 		
 		if(isConstant(target) && type.sizeof() < X86Size.DWORD.getType().sizeof())
 			type = X86Size.DWORD.getType();
 		
+		AssemblyTarget product = multiply(target, BigInteger.valueOf(size));
+		
+		if(product != null)
+			return product;
+		
 		AssemblyTarget scaled = new VirtualRegisterTarget(type)
 			.minimum(X86Size.WORD.getType());
 		
@@ -153,6 +159,80 @@ public class X86OperandHelper {
 		return scaled;
 	}
 	
+	/**
+	 * Multiplies the target by a constant using a chain of {@code lea}, {@code shl},
+	 * {@code add}, {@code sub} and {@code neg} instructions
+	 * 
+	 * @param target the target to be multiplied
+	 * @param factor the constant factor
+	 * @return the register containing the product, or {@code null} if {@code imul} should be used instead
+	 */
+	public AssemblyTarget multiply(AssemblyTarget target, BigInteger factor) {
+		Type type = target.getType();
+		X86Size size = X86Size.of(type);
+		
+		// 'lea' requires (at least) 32-bit registers
+		if(!Optimizations.STRENGTH_REDUCTION.isEnabled()
+			|| (size != X86Size.DWORD && size != X86Size.QWORD)
+			|| isConstant(target))
+			return null;
+		
+		List<MultiplicationStep> steps = X86MultiplicationHelper.decompose(factor, type.sizeof() * Byte.SIZE);
+		
+		if(steps == null)
+			return null;
+		
+		AssemblyTarget value = toRegister(target, RegisterFlags.NO_LITERAL);
+		AssemblyTarget product = value;
+		
+		for(MultiplicationStep step : steps) {
+			StepKind kind = step.kind();
+			
+			if(kind == StepKind.SCALE || kind == StepKind.SCALE_ADD) {
+				AssemblyTarget scaled = new VirtualRegisterTarget(type);
+				
+				asm.add(
+					X86InstructionKinds.LEA,
+					scaled,
+					X86MemoryTarget.ofScaled(
+						type,
+						null,
+						kind == StepKind.SCALE
+							? product
+							: value,
+						product,
+						step.amount()
+					)
+				);
+				
+				product = scaled;
+				continue;
+			}
+			
+			// the original value is still required by subsequent steps
+			if(product == value) {
+				product = new VirtualRegisterTarget(type);
+				asm.add(X86InstructionKinds.MOV, product, value);
+			}
+			
+			switch(kind) {
+			case SHIFT:		asm.add(X86InstructionKinds.SHL, product, constant(step.amount())); break;
+			case ADD:		asm.add(X86InstructionKinds.ADD, product, value); break;
+			case SUBTRACT:	asm.add(X86InstructionKinds.SUB, product, value); break;
+			case NEGATE:	asm.add(X86InstructionKinds.NEG, product); break;
+			default:		break;
+			}
+		}
+		
+		if(product == value) {
+			// multiplication by 1
+			product = new VirtualRegisterTarget(type);
+			asm.add(X86InstructionKinds.MOV, product, value);
+		}
+		
+		return product;
+	}
+	
 	public AssemblyTarget mergeMemory(Type type, AssemblyTarget base, AssemblyTarget offset) {
 		AssemblyTarget displacement = null;
 		AssemblyTarget index = null;
@@ -274,14 +354,14 @@ public class X86OperandHelper {
 					cnst.getType(),
 					floatTable.get(
 						cnst.getType(),
-						(BigDecimal) cnst.getValue()
+						cnst.getValue()
 					),
 					x86.RIP
 				);
 			
 			return new X86IntegerTarget(
 				cnst.getType(),
-				(BigInteger) cnst.getValue()
+				cnst.getValue()
 			);
 			
 		case DiscardOperand discard:
@@ -598,7 +678,7 @@ public class X86OperandHelper {
 		if(offset == 0 || !(target instanceof X86MemoryTarget mem))
 			return target.resized(type);
 		
-		BigInteger disp;
+		NumericValue disp;
 		
 		if(mem.hasDisplacement()) {
 			AssemblyTarget idx = mem.getDisplacement();
@@ -608,7 +688,7 @@ public class X86OperandHelper {
 			
 			else disp = null;
 		}
-		else disp = BigInteger.ZERO;
+		else disp = NumericValue.ZERO;
 		
 		if(disp != null) {
 			/*
@@ -616,14 +696,15 @@ public class X86OperandHelper {
 			 * the index and adjusting the scale, if necessary
 			 */
 			
-			disp = disp.add(BigInteger.valueOf(offset));
+			disp = disp.add(NumericValue.of(offset));
 			
-			return X86MemoryTarget.ofSegmentedDisplaced(
+			return X86MemoryTarget.ofSegmentedScaled(
 				type,
 				mem.getSegment(),
 				constant(disp),
 				requireDword(mem.getBase()),
-				requireDword(mem.getIndex())
+				requireDword(mem.getIndex()),
+				mem.getScale()
 			);
 		}
 		
@@ -27,8 +27,12 @@ import java.util.List;
 import at.syntaxerror.syntaxc.generator.arch.Alignment;
 import at.syntaxerror.syntaxc.generator.arch.x86.insn.X86Instruction;
 import at.syntaxerror.syntaxc.generator.arch.x86.insn.X86InstructionKinds;
+import at.syntaxerror.syntaxc.generator.arch.x86.register.X86Register;
+import at.syntaxerror.syntaxc.generator.arch.x86.target.X86MemoryTarget;
 import at.syntaxerror.syntaxc.generator.asm.Instructions;
 import at.syntaxerror.syntaxc.generator.asm.PrologueEpilogueInserter;
+import at.syntaxerror.syntaxc.generator.asm.insn.AssemblyInstruction;
+import at.syntaxerror.syntaxc.generator.asm.target.AssemblyTarget;
 import at.syntaxerror.syntaxc.generator.asm.target.RegisterTarget;
 import lombok.RequiredArgsConstructor;
 
@@ -42,23 +46,25 @@ public class X86PrologueEpilogueInserter extends PrologueEpilogueInserter {
 	private final X86Assembly x86;
 	
 	@Override
-	public void insertPrologue(Instructions asm, long stackSize, List<RegisterTarget> registers) {
+	public void insertPrologue(Instructions asm, Instructions body, long stackSize, List<RegisterTarget> registers) {
 		/*
 		 * stack frame setup
 		 * 
 		 * push rbp
 		 * mov rbp, rsp
-		 * sub rsp, <size>
+		 * sub rsp, <size>		(not required if <size> is 0)
 		 */
 		
-		if(stackSize != 0) {
+		if(requiresFrame(body, stackSize)) {
 			asm.setConstructor(X86Instruction::new);
 			
 			stackSize = Alignment.alignAt(stackSize, 16); // align stack to 16 bytes
 			
 			asm.add(X86InstructionKinds.PUSH, x86.RBP);
 			asm.add(X86InstructionKinds.MOV, x86.RBP, x86.RSP);
-			asm.add(X86InstructionKinds.SUB, x86.RSP, X86OperandHelper.constant(stackSize));
+			
+			if(stackSize != 0)
+				asm.add(X86InstructionKinds.SUB, x86.RSP, X86OperandHelper.constant(stackSize));
 		}
 	}
 	
@@ -74,9 +80,7 @@ public class X86PrologueEpilogueInserter extends PrologueEpilogueInserter {
 
 		asm.setConstructor(X86Instruction::new);
 		
-		if(stackSize != 0) {
-			stackSize = Alignment.alignAt(stackSize, 16); // align stack to 16 bytes
-			
+		if(requiresFrame(asm, stackSize)) {
 			asm.add(X86InstructionKinds.MOV, x86.RSP, x86.RBP);
 			asm.add(X86InstructionKinds.POP, x86.RBP);
 		}
@@ -84,4 +88,38 @@ public class X86PrologueEpilogueInserter extends PrologueEpilogueInserter {
 		asm.add(X86InstructionKinds.RET);
 	}
 	
+	/* a stack frame is also required by functions without any local variables,
+	 * if they access their parameters (which are addressed relative to rbp)
+	 */
+	private boolean requiresFrame(Instructions body, long stackSize) {
+		if(stackSize != 0)
+			return true;
+		
+		for(AssemblyInstruction insn : body) {
+			for(AssemblyTarget target : insn.getDestinations())
+				if(usesFramePointer(target))
+					return true;
+			
+			for(AssemblyTarget target : insn.getSources())
+				if(usesFramePointer(target))
+					return true;
+		}
+		
+		return false;
+	}
+	
+	private boolean usesFramePointer(AssemblyTarget target) {
+		if(target == null)
+			return false;
+		
+		if(target instanceof X86Register reg)
+			return reg.intersects(x86.RBP);
+		
+		if(target instanceof X86MemoryTarget mem)
+			return usesFramePointer(mem.getBase())
+				|| usesFramePointer(mem.getIndex());
+		
+		return false;
+	}
+	
 }
@@ -0,0 +1,188 @@
+/* MIT License
+ * 
+ * Copyright (c) 2022 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.syntaxc.generator.arch.x86.asm;
+
+import static at.syntaxerror.syntaxc.generator.arch.x86.asm.X86OperandHelper.constant;
+
+import java.util.List;
+
+import at.syntaxerror.syntaxc.generator.alloc.impl.RegisterAllocationHelper;
+import at.syntaxerror.syntaxc.generator.alloc.impl.RegisterSupplier;
+import at.syntaxerror.syntaxc.generator.arch.x86.insn.X86Instruction;
+import at.syntaxerror.syntaxc.generator.arch.x86.insn.X86InstructionKinds;
+import at.syntaxerror.syntaxc.generator.arch.x86.insn.X86InstructionSelector;
+import at.syntaxerror.syntaxc.generator.arch.x86.target.X86IntegerTarget;
+import at.syntaxerror.syntaxc.generator.arch.x86.target.X86LabelTarget;
+import at.syntaxerror.syntaxc.generator.arch.x86.target.X86MemoryTarget;
+import at.syntaxerror.syntaxc.generator.arch.x86.target.X86OffsetTarget;
+import at.syntaxerror.syntaxc.generator.asm.Instructions;
+import at.syntaxerror.syntaxc.generator.asm.insn.AssemblyInstruction;
+import at.syntaxerror.syntaxc.generator.asm.insn.AssemblyInstructionKind;
+import at.syntaxerror.syntaxc.generator.asm.target.AssemblyTarget;
+import at.syntaxerror.syntaxc.generator.asm.target.VirtualRegisterTarget;
+import at.syntaxerror.syntaxc.generator.asm.target.VirtualStackTarget;
+import at.syntaxerror.syntaxc.type.Type;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @author Thomas Kasper
+ * 
+ */
+@RequiredArgsConstructor
+public class X86RegisterAllocationHelper implements RegisterAllocationHelper {
+	
+	private final X86Assembly x86;
+	
+	@Override
+	public List<RegisterSupplier> getRegisterSuppliers() {
+		return x86.getRegisterProvider().getSuppliers();
+	}
+	
+	@Override
+	public AssemblyTarget resolveVirtualMemory(long address, Type type) {
+		return X86MemoryTarget.ofDisplaced(
+			type,
+			constant(-address - type.sizeof()),
+			x86.RBP
+		);
+	}
+	
+	@Override
+	public boolean isBlockEnd(AssemblyInstruction insn) {
+		AssemblyInstructionKind kind = insn.getKind();
+		
+		return kind instanceof X86InstructionKinds x86
+			&& (x86.isJump()
+			|| x86 == X86InstructionKinds.LABEL);
+	}
+	
+	@Override
+	public boolean isCopy(AssemblyInstruction insn) {
+		return insn.getKind() instanceof X86InstructionKinds x86
+			&& x86.isCopy();
+	}
+	
+	private static boolean isSelfReferencing(AssemblyInstruction insn) {
+		if(!(insn.getDestinations().get(0) instanceof VirtualRegisterTarget dst))
+			return false;
+		
+		for(AssemblyTarget src : insn.getSources())
+			if(src instanceof VirtualRegisterTarget virtual && virtual.getId() == dst.getId())
+				return true;
+		
+		return false;
+	}
+	
+	@Override
+	public boolean isDefinition(AssemblyInstruction insn) {
+		if(!(insn.getKind() instanceof X86InstructionKinds x86) || insn.getDestinations().isEmpty())
+			return false;
+		
+		return switch(x86) {
+		case MOV, MOVSS, MOVSD, MOVZX, MOVSX, MOVDQU, VMOVDQU, VMOVDQU8, LEA, POP, CLOBBER,
+			CVTTSS2SI, CVTTSD2SI, CVTSI2SS, CVTSD2SS, CVTSI2SD, CVTSS2SD -> !isSelfReferencing(insn);
+		
+		// 'imul dst, src, imm'
+		case IMUL -> insn.getSources().size() == 2 && !isSelfReferencing(insn);
+		
+		// 'xor reg, reg' etc. do not depend on the previous value
+		case XOR, SUB, PXOR -> insn.getSources().size() == 1 && isSelfReferencing(insn);
+		
+		default -> x86.name().startsWith("SET") && !isSelfReferencing(insn);
+		};
+	}
+	
+	@Override
+	public boolean isUnconditionalJump(AssemblyInstruction insn) {
+		return insn.getKind() == X86InstructionKinds.JMP;
+	}
+	
+	@Override
+	public String getLabel(AssemblyInstruction insn) {
+		return insn.getKind() == X86InstructionKinds.LABEL
+			&& insn.getDestinations().get(0) instanceof X86LabelTarget label
+			? label.getName()
+			: null;
+	}
+	
+	@Override
+	public String getJumpTarget(AssemblyInstruction insn) {
+		return insn.getKind() instanceof X86InstructionKinds x86
+			&& x86.isJump()
+			&& insn.getDestinations().get(0) instanceof X86LabelTarget label
+			&& label.getOffset() == null
+			? label.getName()
+			: null;
+	}
+	
+	@Override
+	public boolean isRematerializable(AssemblyInstruction insn) {
+		if(!(insn.getKind() instanceof X86InstructionKinds x86)
+			|| insn.getDestinations().size() != 1
+			|| insn.getSources().size() != 1)
+			return false;
+		
+		AssemblyTarget source = insn.getSources().get(0);
+		
+		return switch(x86) {
+		// constants and addresses of global variables
+		case MOV -> source instanceof X86IntegerTarget || source instanceof X86OffsetTarget;
+		
+		// addresses of local and global variables
+		case LEA -> source instanceof VirtualStackTarget || source instanceof X86LabelTarget;
+		
+		default -> false;
+		};
+	}
+	
+	@Override
+	public AssemblyInstruction rematerialize(Instructions asm, AssemblyInstruction insn, AssemblyTarget register) {
+		return new X86Instruction(
+			asm,
+			insn.getKind(),
+			register,
+			insn.getSources().get(0)
+		);
+	}
+	
+	@Override
+	public AssemblyInstruction store(Instructions asm, VirtualStackTarget target, AssemblyTarget register) {
+		return new X86Instruction(
+			asm,
+			X86InstructionSelector.select(X86InstructionKinds.MOV, target.getType()),
+			target,
+			register
+		);
+	}
+	
+	@Override
+	public AssemblyInstruction restore(Instructions asm, AssemblyTarget register, VirtualStackTarget target) {
+		return new X86Instruction(
+			asm,
+			X86InstructionSelector.select(X86InstructionKinds.MOV, register.getType()),
+			register,
+			target
+		);
+	}
+
+}
@@ -22,7 +22,6 @@
  */
 package at.syntaxerror.syntaxc.generator.arch.x86.call;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -49,6 +48,7 @@ import at.syntaxerror.syntaxc.intermediate.representation.CallIntermediate.CallP
 import at.syntaxerror.syntaxc.intermediate.representation.CallIntermediate.CallStartIntermediate;
 import at.syntaxerror.syntaxc.type.FunctionType;
 import at.syntaxerror.syntaxc.type.FunctionType.Parameter;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.NumericValueType;
 import at.syntaxerror.syntaxc.type.Type;
 import lombok.Getter;
@@ -155,7 +155,7 @@ public class X86Cdecl extends X86CallingConvention<X86CdeclContext> {
 			asm,
 			X86InstructionKinds.SUB,
 			X86Register.ESP,
-			new X86IntegerTarget(Type.INT, BigInteger.ZERO)
+			new X86IntegerTarget(Type.INT, NumericValue.ZERO)
 		);
 		asm.add(ctx.stackSetup);
 		
@@ -287,7 +287,7 @@ public class X86Cdecl extends X86CallingConvention<X86CdeclContext> {
 			0,
 			new X86IntegerTarget(
 				Type.INT,
-				BigInteger.valueOf(alloc)
+				NumericValue.of(alloc)
 			)
 		);
 		
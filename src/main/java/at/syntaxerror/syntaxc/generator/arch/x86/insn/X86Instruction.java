@@ -22,9 +22,7 @@
  */
 package at.syntaxerror.syntaxc.generator.arch.x86.insn;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Stream;
 
 import at.syntaxerror.syntaxc.generator.arch.x86.asm.X86Assembly;
 import at.syntaxerror.syntaxc.generator.arch.x86.register.X86Register;
@@ -45,24 +43,42 @@ import at.syntaxerror.syntaxc.type.Type;
  */
 public class X86Instruction extends AssemblyInstruction {
 
+	private static final AssemblyTarget[] NO_TARGETS = {};
+	
 	public X86Instruction(Instructions asm, AssemblyInstructionKind kind, AssemblyTarget destination, AssemblyTarget... sources) {
 		super(
 			asm,
 			kind,
 			destination == null
-				? List.of()
-				: List.of(destination),
-			Arrays.asList(sources)
-				.stream()
-				.filter(t -> t != null)
-				.toList()
+				? NO_TARGETS
+				: new AssemblyTarget[] { destination },
+			withoutNulls(sources)
 		);
 		
-		if(kind == X86InstructionKinds.LEA && sources[0] instanceof X86OffsetTarget)
-			new Throwable().printStackTrace();
+		assert kind != X86InstructionKinds.LEA || !(sources[0] instanceof X86OffsetTarget)
+			: "Cannot load the effective address of an offset";
+	}
+	
+	// returns the targets without null values, reusing the array if there are none
+	private static AssemblyTarget[] withoutNulls(AssemblyTarget[] targets) {
+		int count = 0;
+		
+		for(AssemblyTarget target : targets)
+			if(target != null)
+				++count;
+		
+		if(count == targets.length)
+			return targets;
+		
+		AssemblyTarget[] filtered = new AssemblyTarget[count];
 		
-		if(kind == null || kind.toString().contains("null"))
-			new Throwable().printStackTrace();
+		int i = 0;
+		
+		for(AssemblyTarget target : targets)
+			if(target != null)
+				filtered[i++] = target;
+		
+		return filtered;
 	}
 	
 	@Override
@@ -72,105 +88,130 @@ public class X86Instruction extends AssemblyInstruction {
 	}
 	
 	public String toAssemblyString(boolean att) {
-		if(getKind() == X86InstructionKinds.CLOBBER)
-			return "\t; CLOBBER { "
-				+ Stream.concat(
-					getDestinations().stream(),
-					getSources().stream()
-				)
-					.map(AssemblyTarget::toString)
-					.reduce((a, b) -> a + ", " + b)
-					.orElse("")
-				+ " }";
-		
-		if(getKind() == X86InstructionKinds.LABEL)
-			return getDestinations().get(0) + ":";
-		
-		String strrep = "\t" + getKind();
-
-		boolean reverse = false;
-		boolean asterisk = false;
+		StringBuilder sb = new StringBuilder();
+		emit(sb, att);
+		return sb.toString();
+	}
+	
+	@Override
+	public void emit(StringBuilder sb) {
+		emit(sb, !X86Assembly.INSTANCE.intelSyntax);
+	}
+	
+	public void emit(StringBuilder sb, boolean att) {
+		AssemblyInstructionKind kind = getKind();
 		
-		if(att && getKind() instanceof X86InstructionKinds kind) {
-			
-			// indirect procedure call: 'call *eax'
-			asterisk = getKind() == X86InstructionKinds.CALL && !(getDestinations().get(0) instanceof X86LabelTarget);
-			
-			if(kind.isTakesSuffix())
-				strrep += X86InstructionSelector.getSuffix(
-					Stream.concat(
-						getDestinations().stream(),
-						getSources().stream()
-					)
-						.findFirst()
-						.map(AssemblyTarget::getType)
-						.orElse(Type.VOID)
-				);
+		List<AssemblyTarget> destinations = getDestinations();
+		List<AssemblyTarget> sources = getSources();
+		
+		if(kind == X86InstructionKinds.CLOBBER) {
+			sb.append("\t; CLOBBER { ");
 			
-			else if(kind.isX87())
-				strrep += X86InstructionSelector.getX87Suffix(
-					Stream.concat(
-						getDestinations().stream(),
-						getSources().stream()
-					)
-						.filter(target -> !(target instanceof X86Register reg) || !X86Register.GROUP_ST.contains(reg))
-						.map(AssemblyTarget::getType)
-						.findFirst()
-						.orElse(Type.VOID)
-				);
+			boolean first = true;
 			
-			if(kind == X86InstructionKinds.FDIVP)
-				strrep = "\t" + X86InstructionKinds.FDIVRP;
+			for(List<AssemblyTarget> targets : List.of(destinations, sources))
+				for(AssemblyTarget target : targets) {
+					if(!first)
+						sb.append(", ");
+					
+					sb.append(target);
+					first = false;
+				}
 			
-			reverse = true;
+			sb.append(" }");
+			return;
 		}
 		
-		String srcStr = toCommaSeparated(getSources(), att, reverse);
-		String dstStr = toCommaSeparated(getDestinations(), att, reverse);
+		if(kind == X86InstructionKinds.LABEL) {
+			sb.append(destinations.get(0))
+				.append(':');
+			return;
+		}
 		
-		if(asterisk)
-			dstStr = "*" + dstStr;
+		sb.append('\t');
 		
-		if(reverse) {
-			String tmp = srcStr;
-			srcStr = dstStr;
-			dstStr = tmp;
+		if(!att || !(kind instanceof X86InstructionKinds x86)) {
+			sb.append(kind);
+			
+			// Intel syntax: 'mov dst, src'
+			boolean first = appendOperands(sb, destinations, att, false, true, false);
+			appendOperands(sb, sources, att, false, first, false);
+			return;
 		}
 		
-		if(!dstStr.isBlank() || !srcStr.isBlank())
-			strrep += " " + dstStr + (dstStr.isBlank() || srcStr.isBlank() ? "" : ", ") + srcStr;
+		if(x86 == X86InstructionKinds.FDIVP)
+			sb.append(X86InstructionKinds.FDIVRP);
+		
+		else {
+			sb.append(x86);
+			
+			if(x86.isTakesSuffix())
+				sb.append(X86InstructionSelector.getSuffix(getSuffixType(false)));
+			
+			else if(x86.isX87())
+				sb.append(X86InstructionSelector.getX87Suffix(getSuffixType(true)));
+		}
 		
-		return strrep;
+		// indirect procedure call: 'call *eax'
+		boolean asterisk = x86 == X86InstructionKinds.CALL && !(destinations.get(0) instanceof X86LabelTarget);
+		
+		// AT&T syntax: 'mov src, dst', operands in reverse order
+		boolean first = appendOperands(sb, sources, att, true, true, false);
+		appendOperands(sb, destinations, att, true, first, asterisk);
 	}
 	
-	@Override
-	public String toString() {
-		return toAssemblyString(!X86Assembly.INSTANCE.intelSyntax);
+	/*
+	 * Returns the type of the first operand, which determines the suffix of the instruction
+	 * in AT&T syntax. x87 stack registers are skipped for floating-point instructions
+	 */
+	private Type getSuffixType(boolean x87) {
+		for(List<AssemblyTarget> targets : List.of(getDestinations(), getSources()))
+			for(AssemblyTarget target : targets)
+				if(target != null && (!x87 || !(target instanceof X86Register reg) || !X86Register.GROUP_ST.contains(reg)))
+					return target.getType();
+		
+		return Type.VOID;
 	}
 	
-	private static String toCommaSeparated(List<AssemblyTarget> targets, boolean att, boolean reverse) {
-		return targets.stream()
-			.filter(target -> target != null)
-			.map(target -> toString(target, att))
-			.reduce(
-				reverse
-					? (a, b) -> b + ", " + a
-					: (a, b) -> a + ", " + b
-			)
-			.orElse("");
-	}
-
-	private static String toString(AssemblyTarget target, boolean att) {
-		if(target == null)
-			return null;
+	/*
+	 * Appends the given operands, separated by commas, and returns whether no operand
+	 * has been written yet. 'asterisk' prefixes the first appended operand with '*'
+	 */
+	private static boolean appendOperands(StringBuilder sb, List<AssemblyTarget> targets, boolean att,
+			boolean reverse, boolean first, boolean asterisk) {
 		
-		if(target instanceof X86AssemblyTarget x86)
-			return x86.toAssemblyString(att);
-
-		if(target instanceof X86Register reg)
-			return reg.toAssemblyString(att);
+		int count = targets.size();
+		
+		for(int i = 0; i < count; ++i) {
+			AssemblyTarget target = targets.get(reverse ? count - 1 - i : i);
+			
+			if(target == null)
+				continue;
+			
+			sb.append(first ? " " : ", ");
+			
+			if(asterisk) {
+				sb.append('*');
+				asterisk = false;
+			}
+			
+			if(target instanceof X86AssemblyTarget x86)
+				x86.appendAssemblyString(sb, att);
+			
+			else if(target instanceof X86Register reg)
+				reg.appendAssemblyString(sb, att);
+			
+			else sb.append(target);
+			
+			first = false;
+		}
 		
-		return target.toString();
+		return first;
+	}
+	
+	@Override
+	public String toString() {
+		return toAssemblyString(!X86Assembly.INSTANCE.intelSyntax);
 	}
 	
 }
@@ -80,6 +80,7 @@ public enum X86InstructionKinds implements AssemblyInstructionKind {
 	FSUBP,		/* long double + long double */
 	
 	IMUL(true),	/* int + int */
+	MUL(true),	/* unsigned int + unsigned int (edx:eax = eax * operand) */
 	MULSS,		/* float + float */
 	MULSD,		/* double + double */
 	FMULP,		/* long double + long double */
@@ -483,6 +483,10 @@ public class X86Register implements RegisterTarget {
 	
 	private boolean usable = true;
 	
+	// the register name prefixed with '%', computed on demand
+	@Getter(AccessLevel.NONE)
+	private String attName;
+	
 	private void disable() {
 		usable = false;
 	}
@@ -511,7 +515,17 @@ public class X86Register implements RegisterTarget {
 	}
 	
 	public String toAssemblyString(boolean attSyntax) {
-		return (attSyntax ? "%" : "") + name;
+		if(!attSyntax)
+			return name;
+		
+		if(attName == null)
+			attName = "%" + name;
+		
+		return attName;
+	}
+	
+	public void appendAssemblyString(StringBuilder sb, boolean attSyntax) {
+		sb.append(toAssemblyString(attSyntax));
 	}
 	
 	@Override
@@ -30,7 +30,19 @@ import at.syntaxerror.syntaxc.generator.asm.target.AssemblyTarget;
  */
 public abstract class X86AssemblyTarget implements AssemblyTarget {
 
-	public abstract String toAssemblyString(boolean attSyntax);
+	/**
+	 * Appends the textual representation of this target to the given builder
+	 * 
+	 * @param sb the builder
+	 * @param attSyntax whether AT&T syntax should be used instead of Intel syntax
+	 */
+	public abstract void appendAssemblyString(StringBuilder sb, boolean attSyntax);
+	
+	public String toAssemblyString(boolean attSyntax) {
+		StringBuilder sb = new StringBuilder();
+		appendAssemblyString(sb, attSyntax);
+		return sb.toString();
+	}
 	
 	@Override
 	public String toString() {
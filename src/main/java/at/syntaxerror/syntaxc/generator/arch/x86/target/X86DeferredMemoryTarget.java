@@ -22,7 +22,6 @@
  */
 package at.syntaxerror.syntaxc.generator.arch.x86.target;
 
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
@@ -33,6 +32,7 @@ import at.syntaxerror.syntaxc.generator.arch.x86.target.X86MemoryTarget.X86Displ
 import at.syntaxerror.syntaxc.generator.asm.target.AssemblyTarget;
 import at.syntaxerror.syntaxc.generator.asm.target.VirtualStackTarget;
 import at.syntaxerror.syntaxc.logger.Logger;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.Type;
 import lombok.Getter;
 
@@ -104,7 +104,7 @@ public class X86DeferredMemoryTarget extends X86AssemblyTarget {
 		List<AssemblyTarget> registers = new ArrayList<>();
 		List<AssemblyTarget> labels = new ArrayList<>();
 
-		BigInteger displacement = BigInteger.ZERO;
+		NumericValue displacement = NumericValue.ZERO;
 		
 		for(AssemblyTarget part : parts) {
 			
@@ -143,7 +143,7 @@ public class X86DeferredMemoryTarget extends X86AssemblyTarget {
 		AssemblyTarget index = sz > 1 ? registers.get(1) : null;
 		AssemblyTarget disp;
 		
-		boolean hasConstantDisplacement = displacement.compareTo(BigInteger.ZERO) != 0;
+		boolean hasConstantDisplacement = !displacement.isZero();
 		
 		if(labels.isEmpty())
 			disp = hasConstantDisplacement
@@ -178,27 +178,31 @@ public class X86DeferredMemoryTarget extends X86AssemblyTarget {
 	}
 
 	@Override
-	public String toAssemblyString(boolean attSyntax) {
-		return "DEFERRED "
-			+ X86Size.of(type)
-				.getPointerName()
-			+ " PTR ["
-			+ String.join(
-				"+",
-				parts.stream()
-					.map(AssemblyTarget::toString)
-					.toList()
+	public void appendAssemblyString(StringBuilder sb, boolean attSyntax) {
+		sb.append("DEFERRED ")
+			.append(
+				X86Size.of(type)
+					.getPointerName()
 			)
-			+ "]";
+			.append(" PTR [");
+		
+		for(int i = 0; i < parts.size(); ++i) {
+			if(i > 0)
+				sb.append('+');
+			
+			sb.append(parts.get(i));
+		}
+		
+		sb.append(']');
 	}
 	
-	private static BigInteger processDisplacement(AssemblyTarget disp, List<AssemblyTarget> labels) {
+	private static NumericValue processDisplacement(AssemblyTarget disp, List<AssemblyTarget> labels) {
 		if(disp == null)
-			return BigInteger.ZERO;
+			return NumericValue.ZERO;
 		
 		if(disp instanceof X86LabelTarget || disp instanceof X86OffsetTarget) {
 			labels.add(disp);
-			return BigInteger.ZERO;
+			return NumericValue.ZERO;
 		}
 		
 		if(disp instanceof X86IntegerTarget integer)
@@ -208,9 +212,9 @@ public class X86DeferredMemoryTarget extends X86AssemblyTarget {
 			return displacement.getTargets()
 				.stream()
 				.map(target -> processDisplacement(target, labels))
-				.reduce(BigInteger.ZERO, BigInteger::add);
+				.reduce(NumericValue.ZERO, NumericValue::add);
 		
-		return BigInteger.ZERO;
+		return NumericValue.ZERO;
 	}
 	
 	private static int countRegisters(AssemblyTarget target) {
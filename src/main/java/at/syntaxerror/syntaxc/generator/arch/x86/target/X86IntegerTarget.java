@@ -22,9 +22,8 @@
  */
 package at.syntaxerror.syntaxc.generator.arch.x86.target;
 
-import java.math.BigInteger;
-
 import at.syntaxerror.syntaxc.generator.asm.target.AssemblyTarget;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.Type;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -38,7 +37,7 @@ import lombok.RequiredArgsConstructor;
 public class X86IntegerTarget extends X86AssemblyTarget {
 
 	private final Type type;
-	private final BigInteger value;
+	private final NumericValue value;
 	
 	@Override
 	public AssemblyTarget resized(Type type) {
@@ -53,10 +52,13 @@ public class X86IntegerTarget extends X86AssemblyTarget {
 	}
 	
 	@Override
-	public String toAssemblyString(boolean attSyntax) {
+	public void appendAssemblyString(StringBuilder sb, boolean attSyntax) {
 		// AT&T syntax: $123
 		// Intel syntax: 123
-		return (attSyntax ? "$" : "") + value;
+		if(attSyntax)
+			sb.append('$');
+		
+		value.appendTo(sb);
 	}
 	
 }
@@ -57,10 +57,11 @@ public class X86LabelTarget extends X86AssemblyTarget {
 	}
 	
 	@Override
-	public String toAssemblyString(boolean attSyntax) {
-		return offset == null
-			? name
-			: name + "+" + offset;
+	public void appendAssemblyString(StringBuilder sb, boolean attSyntax) {
+		sb.append(name);
+		
+		if(offset != null)
+			sb.append('+').append(offset);
 	}
 	
 }
@@ -22,7 +22,6 @@
  */
 package at.syntaxerror.syntaxc.generator.arch.x86.target;
 
-import java.math.BigInteger;
 import java.util.List;
 
 import at.syntaxerror.syntaxc.generator.arch.x86.insn.X86Size;
@@ -63,6 +62,12 @@ public class X86MemoryTarget extends X86AssemblyTarget {
 	public static X86MemoryTarget ofSegmentedDisplaced(Type type, AssemblyTarget segment, AssemblyTarget disp,
 			AssemblyTarget base, AssemblyTarget index) {
 		
+		return ofSegmentedScaled(type, segment, disp, base, index, 1);
+	}
+
+	public static X86MemoryTarget ofSegmentedScaled(Type type, AssemblyTarget segment, AssemblyTarget disp,
+			AssemblyTarget base, AssemblyTarget index, int scale) {
+		
 		if(disp != null
 			&& !(disp instanceof X86IntegerTarget)
 			&& !(disp instanceof X86LabelTarget)
@@ -77,13 +82,17 @@ public class X86MemoryTarget extends X86AssemblyTarget {
 		requireDword(base);
 		requireDword(index);
 		
+		if(scale != 1 && scale != 2 && scale != 4 && scale != 8)
+			Logger.error("Illegal scale factor %d", scale);
+		
 		return new X86MemoryTarget(
 			type,
 			X86Size.of(type),
 			segment,
 			disp,
 			base,
-			index
+			index,
+			scale
 		);
 	}
 	
@@ -95,6 +104,10 @@ public class X86MemoryTarget extends X86AssemblyTarget {
 		return ofSegmentedDisplaced(type, null, disp, base, index);
 	}
 
+	public static X86MemoryTarget ofScaled(Type type, AssemblyTarget disp, AssemblyTarget base, AssemblyTarget index, int scale) {
+		return ofSegmentedScaled(type, null, disp, base, index, scale);
+	}
+
 	public static X86MemoryTarget ofDisplaced(Type type, AssemblyTarget disp, AssemblyTarget base) {
 		return ofSegmentedDisplaced(type, null, disp, base, null);
 	}
@@ -109,6 +122,7 @@ public class X86MemoryTarget extends X86AssemblyTarget {
 	private AssemblyTarget displacement;
 	private AssemblyTarget base;
 	private AssemblyTarget index;
+	private final int scale;
 	
 	@SuppressWarnings("unchecked")
 	@Override
@@ -135,7 +149,7 @@ public class X86MemoryTarget extends X86AssemblyTarget {
 	
 	@Override
 	public AssemblyTarget resized(Type type) {
-		return new X86MemoryTarget(type, X86Size.of(type), segment, displacement, base, index);
+		return new X86MemoryTarget(type, X86Size.of(type), segment, displacement, base, index, scale);
 	}
 	
 	@Override
@@ -156,43 +170,45 @@ public class X86MemoryTarget extends X86AssemblyTarget {
 			&& equals(segment, mem.segment)
 			&& equals(displacement, mem.displacement)
 			&& equals(base, mem.base)
-			&& equals(index, mem.index);
+			&& equals(index, mem.index)
+			&& scale == mem.scale;
 	}
 	
 	@Override
-	public String toAssemblyString(boolean attSyntax) {
-		StringBuilder sb = new StringBuilder();
-		
+	public void appendAssemblyString(StringBuilder sb, boolean attSyntax) {
 		if(attSyntax) {
 			/* AT&T syntax: segment:disp(base, index, scale) */
 			
 			if(hasSegment())
-				sb.append(toAssemblyString(segment, attSyntax))
+				append(sb, segment, attSyntax)
 					.append(':');
 			
 			if(hasDisplacement())
-				sb = sb.append(toAssemblyString(displacement, attSyntax));
+				append(sb, displacement, attSyntax);
 			
 			if(base != X86Register.EIP) {
-				sb = sb.append('(')
-					.append(toAssemblyString(base, attSyntax));
+				sb.append('(');
+				append(sb, base, attSyntax);
 				
-				if(hasIndex())
-					sb = sb.append(',')
-						.append(toAssemblyString(index, attSyntax));
+				if(hasIndex()) {
+					append(sb.append(','), index, attSyntax);
+					
+					if(scale != 1)
+						sb.append(',').append(scale);
+				}
 				
-				sb = sb.append(')');
+				sb.append(')');
 			}
 		}
 		else {
 			/* Intel syntax: size PTR segment:[base+index*scale+disp]	(no EIP addressing mode for 32-bit) */
 			
 			if(size != X86Size.UNKNOWN)
-				sb = sb.append(size.getPointerName())
+				sb.append(size.getPointerName())
 					.append(" PTR ");
 			
 			if(hasSegment())
-				sb.append(toAssemblyString(segment, attSyntax))
+				append(sb, segment, attSyntax)
 					.append(':');
 
 			boolean hasBase = base != X86Register.EIP && base != null;
@@ -200,52 +216,50 @@ public class X86MemoryTarget extends X86AssemblyTarget {
 			boolean hasPredecessor = hasBase;
 			
 			if(hasBase || hasIndex)
-				sb = sb.append('[');
+				sb.append('[');
 			
 			if(hasBase)
-				sb = sb.append(toAssemblyString(base, attSyntax));
+				append(sb, base, attSyntax);
 
 			if(hasIndex) {
-				sb = sb.append(
-					hasPredecessor
-						? toSignedString(index, attSyntax)
-						: toAssemblyString(index, attSyntax)
-				);
+				if(hasPredecessor)
+					appendSigned(sb, index, attSyntax);
+				else append(sb, index, attSyntax);
+				
+				if(scale != 1)
+					sb.append('*').append(scale);
 				
 				hasPredecessor = true;
 			}
 			
-			if(hasDisplacement())
-				sb = sb.append(
-					hasPredecessor
-						? toSignedString(displacement, attSyntax)
-						: toAssemblyString(displacement, attSyntax)
-				);
+			if(hasDisplacement()) {
+				if(hasPredecessor)
+					appendSigned(sb, displacement, attSyntax);
+				else append(sb, displacement, attSyntax);
+			}
 
 			if(hasBase || hasIndex)
-				sb = sb.append(']');
+				sb.append(']');
 		}
-		
-		return sb.toString();
 	}
 	
-	private static String toAssemblyString(AssemblyTarget target, boolean attSyntax) {
+	private static StringBuilder append(StringBuilder sb, AssemblyTarget target, boolean attSyntax) {
 		if(target instanceof X86AssemblyTarget x86)
-			return x86.toAssemblyString(attSyntax && !(x86 instanceof X86IntegerTarget));
+			x86.appendAssemblyString(sb, attSyntax && !(x86 instanceof X86IntegerTarget));
+		
+		else if(target instanceof X86Register reg)
+			reg.appendAssemblyString(sb, attSyntax);
 		
-		if(target instanceof X86Register reg)
-			return reg.toAssemblyString(attSyntax);
+		else sb.append(target);
 		
-		return target.toString();
+		return sb;
 	}
 	
-	private static String toSignedString(AssemblyTarget target, boolean attSyntax) {
-		String sign = "+";
+	private static void appendSigned(StringBuilder sb, AssemblyTarget target, boolean attSyntax) {
+		if(!(target instanceof X86IntegerTarget integer) || integer.getValue().signum() >= 0)
+			sb.append('+');
 		
-		if(target instanceof X86IntegerTarget integer && integer.getValue().compareTo(BigInteger.ZERO) < 0)
-			sign = "";
-		
-		return sign + toAssemblyString(target, attSyntax);
+		append(sb, target, attSyntax);
 	}
 	
 	public static class X86Displacement extends X86AssemblyTarget {
@@ -268,16 +282,12 @@ public class X86MemoryTarget extends X86AssemblyTarget {
 		}
 
 		@Override
-		public String toAssemblyString(boolean attSyntax) {
-			StringBuilder sb = new StringBuilder();
-			
+		public void appendAssemblyString(StringBuilder sb, boolean attSyntax) {
 			if(!targets.isEmpty())
-				sb.append(X86MemoryTarget.toAssemblyString(targets.get(0), attSyntax));
+				X86MemoryTarget.append(sb, targets.get(0), attSyntax);
 			
 			for(int i = 1; i < targets.size(); ++i)
-				sb.append(X86MemoryTarget.toSignedString(targets.get(i), attSyntax));
-			
-			return sb.toString();
+				X86MemoryTarget.appendSigned(sb, targets.get(i), attSyntax);
 		}
 		
 	}
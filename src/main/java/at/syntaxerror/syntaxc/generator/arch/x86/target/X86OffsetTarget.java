@@ -51,10 +51,12 @@ public class X86OffsetTarget extends X86AssemblyTarget {
 	}
 	
 	@Override
-	public String toAssemblyString(boolean attSyntax) {
-		return attSyntax
-			? "$" + name
-			: "OFFSET FLAT:" + name;
+	public void appendAssemblyString(StringBuilder sb, boolean attSyntax) {
+		sb.append(
+			attSyntax
+				? "$"
+				: "OFFSET FLAT:"
+		).append(name);
 	}
 	
 }
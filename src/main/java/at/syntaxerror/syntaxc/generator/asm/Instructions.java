@@ -22,43 +22,59 @@
  */
 package at.syntaxerror.syntaxc.generator.asm;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import at.syntaxerror.syntaxc.generator.asm.insn.AssemblyInstruction;
 import at.syntaxerror.syntaxc.generator.asm.insn.AssemblyInstructionKind;
 import at.syntaxerror.syntaxc.generator.asm.target.AssemblyTarget;
-import lombok.Getter;
 import lombok.Setter;
 
 /**
- * A kind of linked list capable of holding assembly instructions
+ * An array-backed list capable of holding assembly instructions.
+ * 
+ * The instructions are stored in a gap buffer: the unused part of the array
+ * is kept at the position of the most recent insertion or removal. Since passes
+ * usually modify the instructions while iterating over them from front to back,
+ * the gap only ever has to be moved by a few elements, making insertions and
+ * removals cheap. Every instruction knows its slot in the array, so its index
+ * can be determined in constant time.
  * 
  * @author Thomas Kasper
  * 
  */
 @SuppressWarnings("deprecation")
 public class Instructions implements Iterable<AssemblyInstruction> {
-
-	@Getter
-	@Setter(onMethod_ = @Deprecated) // internal use only
-	private AssemblyInstruction head;
 	
-	@Getter
-	@Setter(onMethod_ = @Deprecated) // internal use only
-	private AssemblyInstruction tail;
-
-	@Setter(onMethod_ = @Deprecated)
-	private int count;
+	private static final int INITIAL_CAPACITY = 16;
+	
+	private AssemblyInstruction[] elements = new AssemblyInstruction[INITIAL_CAPACITY];
+	
+	// the gap is located at elements[gapStart] to elements[gapEnd - 1]
+	private int gapStart = 0;
+	private int gapEnd = INITIAL_CAPACITY;
 	
 	@Setter
 	private InstructionConstructor constructor;
 	
 	public void clear() {
-		head = null;
-		tail = null;
-		count = 0;
+		// not iterating over 'this', which stops as soon as the current instruction has no slot
+		for(AssemblyInstruction insn : elements)
+			if(insn != null) {
+				insn.setSlot(-1);
+				insn.setSuccessor(null);
+			}
+		
+		elements = new AssemblyInstruction[INITIAL_CAPACITY];
+		gapStart = 0;
+		gapEnd = INITIAL_CAPACITY;
 	}
 	
 	public void add(AssemblyInstructionKind kind) {
@@ -70,64 +86,211 @@ public class Instructions implements Iterable<AssemblyInstruction> {
 	}
 	
 	public void add(AssemblyInstruction insn) {
-		insn.setPrevious(tail);
+		insert(size(), insn);
+	}
+	
+	/**
+	 * Inserts an instruction at the given index
+	 * 
+	 * @param index the index
+	 * @param insn the instruction
+	 */
+	public void insert(int index, AssemblyInstruction insn) {
+		if(index < 0 || index > size())
+			throw new IndexOutOfBoundsException(index);
 		
-		if(tail != null)
-			tail.setNext(insn);
+		if(gapStart == gapEnd)
+			grow();
 		
-		tail = insn;
+		moveGap(index);
 		
-		if(head == null)
-			head = insn;
+		elements[gapStart] = insn;
+		insn.setParent(this);
+		insn.setSlot(gapStart++);
+		insn.setSuccessor(null);
 		
-		++count;
 		insn.onAdd();
 	}
 	
+	/**
+	 * Removes an instruction. The instruction remembers its successor
+	 * so that iterators currently positioned at it can continue.
+	 * 
+	 * @param insn the instruction
+	 */
+	public void remove(AssemblyInstruction insn) {
+		int index = indexOf(insn);
+		
+		if(index == -1)
+			return;
+		
+		moveGap(index);
+		
+		elements[gapEnd++] = null;
+		
+		insn.setSlot(-1);
+		insn.setSuccessor(get(index));
+	}
+	
+	/**
+	 * Returns the index of the given instruction, or {@code -1} if it is not
+	 * part of this list
+	 * 
+	 * @param insn the instruction
+	 * @return the index of the instruction
+	 */
+	public int indexOf(AssemblyInstruction insn) {
+		if(insn.getParent() != this)
+			return -1;
+		
+		int slot = insn.getSlot();
+		
+		if(slot < 0 || slot >= elements.length || elements[slot] != insn)
+			return -1;
+		
+		return slot < gapStart
+			? slot
+			: slot - (gapEnd - gapStart);
+	}
+	
 	public AssemblyInstruction get(int i) {
-		if(i < 0 || i >= count)
+		if(i < 0 || i >= size())
 			return null;
 		
-		int mid = count / 2;
-		AssemblyInstruction node;
+		return i < gapStart
+			? elements[i]
+			: elements[i + gapEnd - gapStart];
+	}
+	
+	public AssemblyInstruction getHead() {
+		return get(0);
+	}
+	
+	public AssemblyInstruction getTail() {
+		return get(size() - 1);
+	}
+	
+	public int size() {
+		return elements.length - (gapEnd - gapStart);
+	}
+	
+	/**
+	 * Returns a copy of the instructions. Modifying this list afterwards
+	 * does not affect the copy.
+	 * 
+	 * @return the copied instructions
+	 */
+	public List<AssemblyInstruction> toList() {
+		List<AssemblyInstruction> list = new ArrayList<>(size());
 		
-		if(i > mid) {
-			node = tail;
+		list.addAll(Arrays.asList(elements).subList(0, gapStart));
+		list.addAll(Arrays.asList(elements).subList(gapEnd, elements.length));
+		
+		return list;
+	}
+	
+	private void moveGap(int index) {
+		if(index < gapStart) {
+			int count = gapStart - index;
+			int offset = gapEnd - gapStart;
 			
-			for(int j = 0; j < count - i - 1 && node != null; ++j)
-				node = node.getPrevious();
+			System.arraycopy(elements, index, elements, index + offset, count);
 			
+			for(int i = index + offset; i < gapEnd; ++i)
+				elements[i].setSlot(i);
+			
+			Arrays.fill(elements, index, Math.min(gapStart, index + offset), null);
+			
+			gapStart -= count;
+			gapEnd -= count;
 		}
-		else {
-			node = head;
+		else if(index > gapStart) {
+			int count = index - gapStart;
+			int offset = gapEnd - gapStart;
+			
+			System.arraycopy(elements, gapEnd, elements, gapStart, count);
 			
-			for(int j = 0; j < i && node != null; ++j)
-				node = node.getNext();
+			for(int i = gapStart; i < index; ++i)
+				elements[i].setSlot(i);
 			
+			Arrays.fill(elements, Math.max(gapEnd, index), gapEnd + count, null);
+			
+			gapStart += count;
+			gapEnd += count;
 		}
-		
-		return node;
 	}
 	
-	public int size() {
-		return count;
+	private void grow() {
+		int length = elements.length;
+		int capacity = length * 2;
+		int tail = length - gapEnd;
+		
+		AssemblyInstruction[] grown = new AssemblyInstruction[capacity];
+		
+		System.arraycopy(elements, 0, grown, 0, gapStart);
+		System.arraycopy(elements, gapEnd, grown, capacity - tail, tail);
+		
+		for(int i = capacity - tail; i < capacity; ++i)
+			grown[i].setSlot(i);
+		
+		elements = grown;
+		gapEnd = capacity - tail;
 	}
 	
 	public Stream<AssemblyInstruction> stream() {
-		return Stream.iterate(
-			head,
-			node -> node != null,
-			AssemblyInstruction::getNext
-		);
+		return StreamSupport.stream(spliterator(), false);
 	}
 	
+	/**
+	 * Returns an iterator over the instructions. Instructions may be inserted and
+	 * removed while iterating: instructions inserted after the current one are
+	 * visited, while instructions inserted before it are not.
+	 */
 	public Iterator<AssemblyInstruction> iterator() {
-		return stream().iterator();
+		return new Iterator<>() {
+			
+			private AssemblyInstruction current;
+			private boolean started;
+			
+			private int nextIndex() {
+				if(!started)
+					return 0;
+				
+				AssemblyInstruction insn = current;
+				
+				// skip over instructions removed in the meantime
+				while(insn != null && indexOf(insn) == -1)
+					insn = insn.getSuccessor();
+				
+				return insn == null
+					? size()
+					: insn == current
+						? indexOf(insn) + 1
+						: indexOf(insn);
+			}
+			
+			@Override
+			public boolean hasNext() {
+				return nextIndex() < size();
+			}
+			
+			@Override
+			public AssemblyInstruction next() {
+				AssemblyInstruction insn = get(nextIndex());
+				
+				if(insn == null)
+					throw new NoSuchElementException();
+				
+				started = true;
+				return current = insn;
+			}
+			
+		};
 	}
 	
 	@Override
 	public Spliterator<AssemblyInstruction> spliterator() {
-		return stream().spliterator();
+		return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
 	}
 	
 	public static interface InstructionConstructor {
@@ -140,5 +303,5 @@ public class Instructions implements Iterable<AssemblyInstruction> {
 		);
 		
 	}
-	
+
 }
@@ -30,11 +30,13 @@ import at.syntaxerror.syntaxc.generator.asm.insn.AssemblyInstruction;
 import at.syntaxerror.syntaxc.misc.StringUtils;
 import at.syntaxerror.syntaxc.symtab.SymbolObject;
 import at.syntaxerror.syntaxc.symtab.global.AddressInitializer;
+import at.syntaxerror.syntaxc.symtab.global.ArrayInitializer;
 import at.syntaxerror.syntaxc.symtab.global.GlobalVariableInitializer;
 import at.syntaxerror.syntaxc.symtab.global.IntegerInitializer;
 import at.syntaxerror.syntaxc.symtab.global.ListInitializer;
 import at.syntaxerror.syntaxc.symtab.global.StringInitializer;
 import at.syntaxerror.syntaxc.symtab.global.ZeroInitializer;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.NumericValueType;
 
 /**
@@ -53,7 +55,8 @@ public abstract class ObjectSerializer {
 	public abstract void stringNulTerminated(String value);
 	public abstract void stringRaw(String value);
 	public abstract void pointerOffset(String label, BigInteger offset);
-	public abstract void constant(BigInteger value, int size);
+	public abstract void constant(NumericValue value, int size);
+	public abstract void constants(ArrayInitializer array);
 	public abstract void zero(int size);
 	
 	public final void transfer(List<AssemblyInstruction> insns) {
@@ -105,6 +108,12 @@ public abstract class ObjectSerializer {
 			
 			return size;
 			
+		case ArrayInitializer arrayInit:
+			
+			constants(arrayInit);
+			
+			return arrayInit.length() * arrayInit.size();
+			
 		case ListInitializer listInit:
 			
 			size = 0;
@@ -32,7 +32,7 @@ import at.syntaxerror.syntaxc.generator.asm.target.RegisterTarget;
  */
 public abstract class PrologueEpilogueInserter {
 
-	public abstract void insertPrologue(Instructions asm, long stackSize, List<RegisterTarget> allocatedRegisters);
+	public abstract void insertPrologue(Instructions asm, Instructions body, long stackSize, List<RegisterTarget> allocatedRegisters);
 	public abstract void insertEpilogue(Instructions asm, long stackSize, List<RegisterTarget> allocatedRegisters);
 	
 }
@@ -22,7 +22,7 @@
  */
 package at.syntaxerror.syntaxc.generator.asm.insn;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import at.syntaxerror.syntaxc.generator.asm.Instructions;
@@ -39,15 +39,18 @@ import lombok.Setter;
 @SuppressWarnings("deprecation")
 public class AssemblyInstruction {
 	
-	private final Instructions parent;
-
+	@Setter
+	private Instructions parent;
+	
 	/** @deprecated internal use only */
+	@Deprecated
 	@Setter
-	private AssemblyInstruction previous;
-
+	private int slot = -1;
+	
 	/** @deprecated internal use only */
+	@Deprecated
 	@Setter
-	private AssemblyInstruction next;
+	private AssemblyInstruction successor;
 	
 	@Setter
 	private AssemblyInstructionKind kind;
@@ -59,10 +62,30 @@ public class AssemblyInstruction {
 	
 	public AssemblyInstruction(@NonNull Instructions parent, @NonNull AssemblyInstructionKind kind,
 			List<AssemblyTarget> destinations, List<AssemblyTarget> sources) {
+		this(
+			parent,
+			kind,
+			destinations.toArray(AssemblyTarget[]::new),
+			sources.toArray(AssemblyTarget[]::new)
+		);
+	}
+	
+	/**
+	 * Creates a new instruction. The arrays are not copied, but used as the storage
+	 * of the operands directly. Operands can therefore be replaced, but neither
+	 * added nor removed.
+	 * 
+	 * @param parent the list containing this instruction
+	 * @param kind the kind of instruction
+	 * @param destinations the destination operands
+	 * @param sources the source operands
+	 */
+	public AssemblyInstruction(@NonNull Instructions parent, @NonNull AssemblyInstructionKind kind,
+			AssemblyTarget[] destinations, AssemblyTarget[] sources) {
 		this.parent = parent;
 		this.kind = kind;
-		this.destinations = new ArrayList<>(destinations);
-		this.sources = new ArrayList<>(sources);
+		this.destinations = toList(destinations);
+		this.sources = toList(sources);
 	}
 	
 	public AssemblyInstruction(AssemblyInstruction copy) {
@@ -74,50 +97,50 @@ public class AssemblyInstruction {
 		strrep = copy.toString();
 	}
 	
+	private static List<AssemblyTarget> toList(AssemblyTarget[] targets) {
+		return targets.length == 0
+			? List.of()
+			: Arrays.asList(targets);
+	}
+	
 	public void onAdd() { }
 	
-	public final void insertBefore(AssemblyInstruction insn) {
-		insn.next = this;
-		insn.previous = previous;
-
-		if(previous != null)
-			previous.next = insn;
-		else parent.setHead(insn);
-		
-		previous = insn;
+	public AssemblyInstruction getPrevious() {
+		int index = parent.indexOf(this);
 		
-		parent.setCount(parent.size() + 1);
+		return index == -1
+			? null
+			: parent.get(index - 1);
+	}
+	
+	public AssemblyInstruction getNext() {
+		int index = parent.indexOf(this);
 		
-		if(insn != null)
-			insn.onAdd();
+		return index == -1
+			? null
+			: parent.get(index + 1);
 	}
-
+	
+	public final void insertBefore(AssemblyInstruction insn) {
+		parent.insert(parent.indexOf(this), insn);
+	}
+	
 	public final void insertAfter(AssemblyInstruction insn) {
-		insn.previous = this;
-		insn.next = next;
-		
-		if(next != null)
-			next.previous = insn;
-		else parent.setTail(insn);
-		
-		next = insn;
-
-		parent.setCount(parent.size() + 1);
-		
-		if(insn != null)
-			insn.onAdd();
+		parent.insert(parent.indexOf(this) + 1, insn);
 	}
 	
 	public final void remove() {
-		if(next != null)
-			next.previous = previous;
-		else parent.setTail(previous);
-		
-		if(previous != null)
-			previous.next = next;
-		else parent.setHead(next);
-		
-		parent.setCount(parent.size() - 1);
+		parent.remove(this);
+	}
+	
+	/**
+	 * Appends the textual representation of this instruction to the given builder.
+	 * By default, this is the same as {@link #toString()}
+	 * 
+	 * @param sb the builder
+	 */
+	public void emit(StringBuilder sb) {
+		sb.append(toString());
 	}
 	
 	@Override
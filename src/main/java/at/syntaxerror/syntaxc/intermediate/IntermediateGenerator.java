@@ -22,9 +22,9 @@
  */
 package at.syntaxerror.syntaxc.intermediate;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +54,7 @@ import at.syntaxerror.syntaxc.intermediate.representation.JumpIntermediate;
 import at.syntaxerror.syntaxc.intermediate.representation.LabelIntermediate;
 import at.syntaxerror.syntaxc.intermediate.representation.MemcpyIntermediate;
 import at.syntaxerror.syntaxc.intermediate.representation.MemsetIntermediate;
+import at.syntaxerror.syntaxc.intermediate.representation.SwitchIntermediate;
 import at.syntaxerror.syntaxc.intermediate.representation.UnaryIntermediate;
 import at.syntaxerror.syntaxc.intermediate.representation.UnaryIntermediate.UnaryOperation;
 import at.syntaxerror.syntaxc.lexer.Punctuator;
@@ -80,8 +81,10 @@ import at.syntaxerror.syntaxc.parser.node.statement.JumpStatementNode;
 import at.syntaxerror.syntaxc.parser.node.statement.LabeledStatementNode;
 import at.syntaxerror.syntaxc.parser.node.statement.NullStatementNode;
 import at.syntaxerror.syntaxc.parser.node.statement.StatementNode;
+import at.syntaxerror.syntaxc.parser.node.statement.SwitchStatementNode;
 import at.syntaxerror.syntaxc.symtab.SymbolObject;
 import at.syntaxerror.syntaxc.tracking.Position;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.NumericValueType;
 import at.syntaxerror.syntaxc.type.StructType;
 import at.syntaxerror.syntaxc.type.Type;
@@ -269,6 +272,20 @@ public class IntermediateGenerator {
 				));
 			}
 		
+			else if(statement instanceof SwitchStatementNode swtch) {
+				Operand value = processExpression(
+					swtch.getValue(),
+					IRContext.DEFAULT
+				);
+				
+				ir.add(new SwitchIntermediate(
+					swtch.getPosition(),
+					value,
+					swtch.getCases(),
+					swtch.getDefaultLabel()
+				));
+			}
+		
 			else if(statement instanceof LabeledStatementNode labeled) {
 				ir.add(new LabelIntermediate(
 					labeled.getPosition(),
@@ -375,12 +392,12 @@ public class IntermediateGenerator {
 				
 				else if(floatLeft)
 					right = constant(
-						new BigDecimal((BigInteger) constant.getValue()),
+						constant.getValue().toBigDecimal(),
 						typeLeft
 					);
 				
 				else right = constant(
-					((BigDecimal) constant.getValue()).toBigInteger(),
+					constant.getValue().toBigInteger(),
 					typeLeft
 				);
 				
@@ -414,7 +431,20 @@ public class IntermediateGenerator {
 		boolean needResult = ctx.needResult();
 		ctx = ctx.reset();
 		
-		processExpression(expr.getLeft(), ctx.withoutResult());
+		// 'a, b, c, ...' is left-leaning, process the left operands iteratively
+		Deque<ExpressionNode> operands = new ArrayDeque<>();
+		
+		ExpressionNode left = expr.getLeft();
+		
+		while(left instanceof BinaryExpressionNode comma && comma.getOperation() == Punctuator.COMMA) {
+			operands.push(comma.getRight());
+			left = comma.getLeft();
+		}
+		
+		operands.push(left);
+		
+		while(!operands.isEmpty())
+			processExpression(operands.pop(), ctx.withoutResult());
 		
 		return processExpression(
 			expr.getRight(),
@@ -424,7 +454,7 @@ public class IntermediateGenerator {
 		);
 	}
 
-	private Operand processLogicalExpression(BinaryExpressionNode expr, IRContext ctx, boolean logicalOR) {
+	private Operand processLogicalExpression(BinaryExpressionNode expr, IRContext ctx) {
 		
 		/*
 		 * -- Logical AND --
@@ -449,67 +479,117 @@ public class IntermediateGenerator {
 		 * 
 		 */
 		
-		Position pos = expr.getPosition();
-		
-		Type type = expr.getType();
+		/* Chains of logical operators (e.g. 'a && b && c && ...') are left-leaning. In order
+		 * to not recurse once per operator, they are processed iteratively from the innermost
+		 * to the outermost operation. Consecutive operations with the same operator share
+		 * a single result and end label (e.g. 'if(!a) goto .end; if(!b) goto .end; ...'),
+		 * while the other ones use the result of the preceding operations as their left operand.
+		 */
+		Deque<BinaryExpressionNode> pending = new ArrayDeque<>();
 		
-		SymbolObject result = SymbolObject.temporary(pos, type);
+		ExpressionNode left = expr;
 		
-		VariableExpressionNode var = new VariableExpressionNode(pos, result);
+		while(left instanceof BinaryExpressionNode logical && isLogicalExpression(logical)) {
+			pending.push(logical);
+			left = logical.getLeft();
+		}
 		
-		String labelEnd = ".LG" + logicalLabelId++;
+		Operand result = null;
 		
-		processStatements(List.of(
-			new ExpressionStatementNode(
-				ExpressionHelper.newBinary(
-					pos,
-					var,
-					logicalOR // 0 for logical AND, 1 for logical OR
-						? Constants.one(pos, type)
-						: Constants.zero(pos, type),
-					Punctuator.ASSIGN
-				)
-			),
-			new JumpStatementNode(
-				pos,
-				logicalOR // if(!expr) for logical AND, if(expr) for logical OR
-					? expr.getLeft()
-					: ExpressionHelper.newUnary(
+		while(!pending.isEmpty()) {
+			BinaryExpressionNode logical = pending.pop();
+			
+			Punctuator op = logical.getOperation();
+			boolean logicalOR = op == Punctuator.LOGICAL_OR;
+			
+			List<BinaryExpressionNode> chain = new ArrayList<>();
+			chain.add(logical);
+			
+			while(!pending.isEmpty() && pending.peek().getOperation() == op)
+				chain.add(pending.pop());
+			
+			// the outermost operation of the chain
+			logical = chain.get(chain.size() - 1);
+			
+			Position pos = logical.getPosition();
+			
+			Type type = logical.getType();
+			
+			SymbolObject symbol = SymbolObject.temporary(pos, type);
+			
+			VariableExpressionNode var = new VariableExpressionNode(pos, symbol);
+			
+			String labelEnd = ".LG" + logicalLabelId++;
+			
+			List<StatementNode> statements = new ArrayList<>();
+			
+			statements.add(
+				new ExpressionStatementNode(
+					ExpressionHelper.newBinary(
 						pos,
-						expr.getLeft(),
-						Punctuator.LOGICAL_NOT
-					),
-				labelEnd
-			),
-			new JumpStatementNode(
-				pos,
-				logicalOR // if(!expr) for logical AND, if(expr) for logical OR
-					? expr.getRight()
-					: ExpressionHelper.newUnary(
+						var,
+						logicalOR // 0 for logical AND, 1 for logical OR
+							? Constants.one(pos, type)
+							: Constants.zero(pos, type),
+						Punctuator.ASSIGN
+					)
+				)
+			);
+			
+			// the left operand of the innermost operation, followed by all the right operands
+			List<ExpressionNode> operands = new ArrayList<>();
+			operands.add(left);
+			
+			chain.forEach(operation -> operands.add(operation.getRight()));
+			
+			for(ExpressionNode operand : operands)
+				statements.add(
+					new JumpStatementNode(
+						operand.getPosition(),
+						logicalOR // if(!expr) for logical AND, if(expr) for logical OR
+							? operand
+							: ExpressionHelper.newUnary(
+								operand.getPosition(),
+								operand,
+								Punctuator.LOGICAL_NOT
+							),
+						labelEnd
+					)
+				);
+			
+			statements.add(
+				new ExpressionStatementNode(
+					ExpressionHelper.newBinary(
 						pos,
-						expr.getRight(),
-						Punctuator.LOGICAL_NOT
-					),
-				labelEnd
-			),
-			new ExpressionStatementNode(
-				ExpressionHelper.newBinary(
+						var,
+						logicalOR // 1 for logical AND, 0 for logical OR
+							? Constants.zero(pos, type)
+							: Constants.one(pos, type),
+						Punctuator.ASSIGN
+					)
+				)
+			);
+			
+			statements.add(
+				new LabeledStatementNode( // .end: ;
 					pos,
-					var,
-					logicalOR // 1 for logical AND, 0 for logical OR
-						? Constants.zero(pos, type)
-						: Constants.one(pos, type),
-					Punctuator.ASSIGN
+					labelEnd,
+					new NullStatementNode(pos)
 				)
-			),
-			new LabeledStatementNode( // .end: ;
-				pos,
-				labelEnd,
-				new NullStatementNode(pos)
-			)
-		));
+			);
+			
+			processStatements(statements);
+			
+			left = var;
+			result = variable(symbol);
+		}
 		
-		return variable(result);
+		return result;
+	}
+	
+	private static boolean isLogicalExpression(BinaryExpressionNode expr) {
+		return expr.getOperation() == Punctuator.LOGICAL_AND
+			|| expr.getOperation() == Punctuator.LOGICAL_OR;
 	}
 	
 	private Operand processPointerExpression(BinaryExpressionNode expr, IRContext ctx, BinaryOperation op) {
@@ -561,7 +641,7 @@ public class IntermediateGenerator {
 						result,
 						diff,
 						constant(
-							BigInteger.valueOf(sz),
+							NumericValue.of(sz),
 							typeDiff
 						),
 						op
@@ -604,10 +684,8 @@ public class IntermediateGenerator {
 			return processCommaExpression(expr, ctx);
 		
 		case LOGICAL_AND:
-			return processLogicalExpression(expr, ctx, false);
-			
 		case LOGICAL_OR:
-			return processLogicalExpression(expr, ctx, true);
+			return processLogicalExpression(expr, ctx);
 			
 		default:
 			break;
@@ -615,33 +693,76 @@ public class IntermediateGenerator {
 
 		BinaryOperation op = BINARY_OPERATIONS.get(expr.getOperation());
 		
-		if((op == BinaryOperation.ADD || op == BinaryOperation.SUBTRACT) &&
-			(expr.getLeft().getType().isPointerLike() ||
-			expr.getRight().getType().isPointerLike()))
+		if(isPointerExpression(expr, op))
 			return processPointerExpression(expr, ctx, op);
 		
-		Position pos = expr.getPosition();
-		
-		Operand result = null;
-
-		if(op.isConditional() && ctx.condition())
-			result = new ConditionOperand(
-				op.getCondition(),
-				expr.getType()
-			);
+		/* Chains of binary operators (e.g. 'a + b + c + ...') are left-leaning. In order
+		 * to not recurse once per operator, the left operands are processed iteratively:
+		 * the results are determined from the outermost to the innermost operation, and
+		 * the intermediates are emitted from the innermost to the outermost operation,
+		 * just like they would be when processing the left operand recursively.
+		 */
+		Deque<PendingBinary> pending = new ArrayDeque<>();
 		
-		if(result == null)
-			result = result(expr, ctx, false);
+		ExpressionNode left = expr;
 		
-		ctx = ctx.reset();
+		while(true) {
+			BinaryExpressionNode binary = (BinaryExpressionNode) left;
+			
+			Operand result = null;
+			
+			if(op.isConditional() && ctx.condition())
+				result = new ConditionOperand(
+					op.getCondition(),
+					binary.getType()
+				);
+			
+			if(result == null)
+				result = result(binary, ctx, false);
+			
+			pending.push(new PendingBinary(binary, op, result));
+			
+			ctx = ctx.reset();
+			left = binary.getLeft();
+			
+			if(!(left instanceof BinaryExpressionNode leftBinary))
+				break;
+			
+			op = BINARY_OPERATIONS.get(leftBinary.getOperation());
+			
+			// assignments, comma and logical operators, as well as pointer arithmetic are handled separately
+			if(op == null || isPointerExpression(leftBinary, op))
+				break;
+		}
 		
-		Operand left = processExpression(expr.getLeft(), ctx);
-		Operand right = processExpression(expr.getRight(), ctx);
+		Operand operand = processExpression(left, ctx);
 		
-		ir.add(new BinaryIntermediate(pos, result, left, right, op));
+		while(!pending.isEmpty()) {
+			PendingBinary binary = pending.pop();
+			
+			Operand right = processExpression(binary.expr().getRight(), ctx);
+			
+			ir.add(new BinaryIntermediate(
+				binary.expr().getPosition(),
+				binary.result(),
+				operand,
+				right,
+				binary.op()
+			));
+			
+			operand = binary.result();
+		}
 		
-		return result;
+		return operand;
 	}
+	
+	private static boolean isPointerExpression(BinaryExpressionNode expr, BinaryOperation op) {
+		return (op == BinaryOperation.ADD || op == BinaryOperation.SUBTRACT) &&
+			(expr.getLeft().getType().isPointerLike() ||
+			expr.getRight().getType().isPointerLike());
+	}
+	
+	private static record PendingBinary(BinaryExpressionNode expr, BinaryOperation op, Operand result) { }
 
 	private Operand processBuiltinExpression(BuiltinExpressionNode expr, IRContext ctx) {
 
@@ -760,68 +881,113 @@ public class IntermediateGenerator {
 		 *     ;
 		 */
 		
-		Position pos = expr.getPosition();
-		
-		Type type = expr.getType();
-		
-		SymbolObject result = SymbolObject.temporary(pos, type);
-		
-		VariableExpressionNode var = new VariableExpressionNode(pos, result);
+		/* Ladders of conditional operators (e.g. 'a ? b : c ? d : ...') are right-leaning.
+		 * In order to not recurse once per operator, the conditions are emitted from the
+		 * outermost to the innermost operation, and the remaining statements are emitted
+		 * from the innermost to the outermost operation, each assigning the result of the
+		 * nested operation in its false branch.
+		 */
+		Deque<PendingConditional> pending = new ArrayDeque<>();
 		
-		String labelTrue = ".IF" + conditionLabelId++;
-		String labelFalse = ".IF" + conditionLabelId++;
-		String labelEnd = ".IF" + conditionLabelId++;
+		ExpressionNode whenFalse = expr;
 		
-		processStatements(List.of(
-			new JumpStatementNode(  // if(c) goto .true;
-				pos,
-				expr.getCondition(),
-				labelTrue
-			),
-			new LabeledStatementNode( // .false:
-				pos,
-				labelFalse,
-				new CompoundStatementNode(
+		while(whenFalse instanceof ConditionalExpressionNode cond) {
+			Position pos = cond.getPosition();
+			
+			SymbolObject result = SymbolObject.temporary(pos, cond.getType());
+			
+			VariableExpressionNode var = new VariableExpressionNode(pos, result);
+			
+			String labelTrue = ".IF" + conditionLabelId++;
+			String labelFalse = ".IF" + conditionLabelId++;
+			String labelEnd = ".IF" + conditionLabelId++;
+			
+			processStatements(List.of(
+				new JumpStatementNode(  // if(c) goto .true;
 					pos,
-					List.of(
-						new ExpressionStatementNode( // r = y;
-							new BinaryExpressionNode(
-								pos,
-								var,
-								expr.getWhenFalse(),
-								Punctuator.ASSIGN,
-								type
-							)
-						),
-						new GotoStatementNode( // goto .end;
-							pos,
-							labelEnd
-						)
-					)
+					cond.getCondition(),
+					labelTrue
+				),
+				new LabeledStatementNode( // .false:
+					pos,
+					labelFalse,
+					new NullStatementNode(pos)
 				)
-			),
-			new LabeledStatementNode( // .true:
-				pos,
-				labelTrue,
-				new ExpressionStatementNode( // r = x;
+			));
+			
+			whenFalse = cond.getWhenFalse();
+			
+			if(whenFalse instanceof ConditionalExpressionNode)
+				variable(result); // the result is the target of the assignment 'r = y'
+			
+			else processStatements(List.of(
+				new ExpressionStatementNode( // r = y;
 					new BinaryExpressionNode(
 						pos,
 						var,
-						expr.getWhenTrue(),
+						whenFalse,
 						Punctuator.ASSIGN,
-						type
+						cond.getType()
 					)
 				)
-			),
-			new LabeledStatementNode( // .end: ;
-				pos,
-				labelEnd,
-				new NullStatementNode(pos)
-			)
-		));
+			));
+			
+			pending.push(new PendingConditional(cond, var, labelTrue, labelEnd));
+		}
+		
+		PendingConditional nested = null;
+		
+		while(!pending.isEmpty()) {
+			PendingConditional cond = pending.pop();
+			
+			Position pos = cond.expr().getPosition();
+			
+			Type type = cond.expr().getType();
+			
+			// 'r = y' for all but the innermost operation, where 'y' is the result of the nested operation
+			if(nested != null) {
+				Operand left = variable(cond.var().getVariable());
+				Operand right = variable(nested.var().getVariable());
+				
+				ir.add(
+					TypeUtils.isCompatible(cond.var().getType(), nested.expr().getType())
+						? new AssignIntermediate(pos, left, right)
+						: new CastIntermediate(pos, left, right)
+				);
+			}
+			
+			processStatements(List.of(
+				new GotoStatementNode( // goto .end;
+					pos,
+					cond.labelEnd()
+				),
+				new LabeledStatementNode( // .true:
+					pos,
+					cond.labelTrue(),
+					new ExpressionStatementNode( // r = x;
+						new BinaryExpressionNode(
+							pos,
+							cond.var(),
+							cond.expr().getWhenTrue(),
+							Punctuator.ASSIGN,
+							type
+						)
+					)
+				),
+				new LabeledStatementNode( // .end: ;
+					pos,
+					cond.labelEnd(),
+					new NullStatementNode(pos)
+				)
+			));
+			
+			nested = cond;
+		}
 		
-		return variable(result);
+		return variable(nested.var().getVariable());
 	}
+	
+	private static record PendingConditional(ConditionalExpressionNode expr, VariableExpressionNode var, String labelTrue, String labelEnd) { }
 
 	private Operand processMemberAccessExpression(MemberAccessExpressionNode expr, IRContext ctx) {
 
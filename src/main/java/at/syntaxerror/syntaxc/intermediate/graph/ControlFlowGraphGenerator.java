@@ -193,9 +193,13 @@ public class ControlFlowGraphGenerator {
 		link(node, node.nextThen, Color.GREEN);
 		link(node, node.nextElse, Color.RED);
 		
+		node.nextCases.forEach(next -> link(node, next, Color.BLUE));
+		
 		next(node.next, hasReturnValue);
 		next(node.nextThen, hasReturnValue);
 		next(node.nextElse, hasReturnValue);
+		
+		node.nextCases.forEach(next -> next(next, hasReturnValue));
 	}
 	
 	private Graph visit(String name, CFGNode graph, boolean hasReturnValue) {
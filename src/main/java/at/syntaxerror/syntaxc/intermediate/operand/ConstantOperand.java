@@ -22,9 +22,7 @@
  */
 package at.syntaxerror.syntaxc.intermediate.operand;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
-
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.NumericValueType;
 import at.syntaxerror.syntaxc.type.Type;
 import at.syntaxerror.syntaxc.type.TypeUtils;
@@ -42,27 +40,25 @@ public class ConstantOperand implements Operand {
 	public static ConstantOperand zero(Type type) {
 		return new ConstantOperand(
 			type.isFloating()
-				? BigDecimal.ZERO
-				: BigInteger.ZERO,
+				? NumericValue.ZERO_FLOATING
+				: NumericValue.ZERO,
 			type
 		);
 	}
 	
-	private final Number value;
+	private final NumericValue value;
 	private final Type type;
 	
 	@Getter(AccessLevel.NONE)
 	private String strval;
 	
 	public ConstantOperand(Number value, Type type) {
-		this.value = value;
+		this.value = NumericValue.of(value);
 		this.type = type.normalize();
 	}
 	
 	public boolean isZero() {
-		return type.isFloating()
-			? ((BigDecimal) value).compareTo(BigDecimal.ZERO) == 0
-			: ((BigInteger) value).compareTo(BigInteger.ZERO) == 0;
+		return value.isZero();
 	}
 	
 	@Override
@@ -0,0 +1,100 @@
+/* MIT License
+ * 
+ * Copyright (c) 2022 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.syntaxc.intermediate.representation;
+
+import java.math.BigInteger;
+import java.util.LinkedHashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+import at.syntaxerror.syntaxc.intermediate.operand.Operand;
+import at.syntaxerror.syntaxc.tracking.Position;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Intermediate representation of multi-way jumps
+ * 
+ * <p>equivalent to {@code if(value == X) goto label_X; ... else goto defaultLabel;}
+ * for every case {@code X}, whereas the code generator is free to choose how the
+ * matching label is looked up (e.g. via jump tables or a binary search)
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+@AllArgsConstructor
+@Getter
+public class SwitchIntermediate extends Intermediate {
+	
+	private Position position;
+	
+	private Operand value;
+	private NavigableMap<BigInteger, String> cases;
+	private String defaultLabel;
+	
+	/**
+	 * Returns all the labels this switch might jump to, including the default label
+	 * 
+	 * @return the labels
+	 */
+	public Set<String> getLabels() {
+		Set<String> labels = new LinkedHashSet<>(cases.values());
+		
+		labels.add(defaultLabel);
+		
+		return labels;
+	}
+	
+	/**
+	 * Creates a copy of this switch with each of its labels replaced
+	 * 
+	 * @param mapper the function mapping the old labels to the new ones
+	 * @return the new switch
+	 */
+	public SwitchIntermediate withLabels(UnaryOperator<String> mapper) {
+		NavigableMap<BigInteger, String> mapped = new TreeMap<>();
+		
+		cases.forEach((caseValue, label) -> mapped.put(caseValue, mapper.apply(label)));
+		
+		return new SwitchIntermediate(position, value, mapped, mapper.apply(defaultLabel));
+	}
+	
+	@Override
+	public void withResult(Operand operand) { }
+	
+	@Override
+	public String toStringInternal() {
+		return "switch(%s) { %s default: goto %s; }".formatted(
+			value,
+			cases.entrySet()
+				.stream()
+				.map(entry -> "case %s: goto %s;".formatted(entry.getKey(), entry.getValue()))
+				.collect(Collectors.joining(" ")),
+			defaultLabel
+		);
+	}
+	
+}
@@ -224,6 +224,29 @@ public abstract class CharStream implements Logable, Closeable {
 		marks.pop();
 	}
 	
+	/**
+	 * Returns the current state (offsets, line and column) of this stream
+	 * 
+	 * @return the current state
+	 */
+	public Mark getState() {
+		return new Mark(bytenum, position, column, line);
+	}
+	
+	/**
+	 * Restores a state previously obtained via {@link #getState()}
+	 * 
+	 * @param state the state to be restored
+	 */
+	public void setState(Mark state) {
+		bytenum = state.bytenum();
+		position = state.pos();
+		column = state.col();
+		line = state.line();
+		
+		seek(bytenum);
+	}
+	
 	@Override
 	public Position getPosition() {
 		Mark mark = marks.peek();
@@ -446,7 +469,7 @@ public abstract class CharStream implements Logable, Closeable {
 		return "CharStream(" + name + ")";
 	}
 	
-	private static record Mark(long bytenum, long pos, long col, long line) { }
+	public static record Mark(long bytenum, long pos, long col, long line) { }
 	
 }
 
@@ -0,0 +1,276 @@
+/* MIT License
+ * 
+ * Copyright (c) 2022 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.syntaxc.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+import at.syntaxerror.syntaxc.lexer.Punctuator;
+import at.syntaxerror.syntaxc.lexer.Token;
+import at.syntaxerror.syntaxc.lexer.TokenType;
+import at.syntaxerror.syntaxc.misc.StringUtils;
+import at.syntaxerror.syntaxc.tracking.Position;
+
+/**
+ * This class is responsible for writing the output of the preprocessor (-E).
+ * 
+ * Tokens are encoded (as UTF-8) directly into a reusable buffer, which is only
+ * written to the underlying channel once it is full. Line markers ({@code #line 1 "file"})
+ * are inserted whenever the file changes or lines have been omitted (e.g. due to
+ * preprocessing directives), so that the output can be compiled again while
+ * preserving the original positions.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public class PreprocessedWriter implements Closeable {
+	
+	private static final int CAPACITY = 1 << 16;
+	
+	// up to this many omitted lines are replaced by empty lines instead of a line marker
+	private static final int MAX_EMPTY_LINES = 8;
+	
+	private final WritableByteChannel channel;
+	private final ByteBuffer buffer = ByteBuffer.allocate(CAPACITY);
+	
+	private CharStream file;
+	private long line;
+	
+	public PreprocessedWriter(WritableByteChannel channel) {
+		this.channel = channel;
+	}
+	
+	/**
+	 * Writes the given tokens
+	 * 
+	 * @param tokens the tokens
+	 * @throws IOException if writing fails
+	 */
+	public void write(List<Token> tokens) throws IOException {
+		boolean lineStart = true;
+		boolean whitespace = false;
+		
+		Token previous = null;
+		
+		for(Token token : tokens) {
+			if(token.is(TokenType.NEWLINE)) {
+				if(lineStart)
+					synchronize(token.getPosition());
+				
+				put('\n');
+				++line;
+				
+				lineStart = true;
+				whitespace = false;
+				previous = null;
+				continue;
+			}
+			
+			if(token.is(TokenType.WHITESPACE)) {
+				// defer whitespace until the line marker (if any) has been written
+				whitespace = true;
+				continue;
+			}
+			
+			if(lineStart) {
+				synchronize(token.getPosition());
+				lineStart = false;
+			}
+			
+			if(whitespace || (previous != null && wouldPaste(previous, token)))
+				put(' ');
+			
+			put(token.getRaw());
+			
+			whitespace = false;
+			previous = token;
+		}
+	}
+	
+	/*
+	 * Checks whether two adjacent tokens would be lexed differently when not separated
+	 * by whitespace (e.g. due to whitespace being removed by macro expansion)
+	 */
+	private static boolean wouldPaste(Token left, Token right) {
+		String l = left.getRaw();
+		String r = right.getRaw();
+		
+		if(l.isEmpty() || r.isEmpty())
+			return false;
+		
+		char last = l.charAt(l.length() - 1);
+		char first = r.charAt(0);
+		
+		// 'L' followed by a string or character literal makes it a wide literal
+		if(l.equals("L") && (first == '"' || first == '\''))
+			return true;
+		
+		// preprocessing numbers also contain periods and signs after exponents (e.g. '1e+5')
+		if(left.is(TokenType.NUMBER)) {
+			if(isIdentifierPart(first) || first == '.')
+				return true;
+			
+			return (first == '+' || first == '-')
+				&& (last == 'e' || last == 'E' || last == 'p' || last == 'P');
+		}
+		
+		if(isIdentifierPart(last))
+			return isIdentifierPart(first);
+		
+		if(!left.is(TokenType.PUNCTUATOR))
+			return false;
+		
+		// '/*' and '//' start a comment, '.1' is a number
+		if((last == '/' && (first == '*' || first == '/')) || (last == '.' && Character.isDigit(first)))
+			return true;
+		
+		if(!right.is(TokenType.PUNCTUATOR) && first != '.')
+			return false;
+		
+		String pasted = l + r;
+		
+		/* the tokens would be lexed as a longer punctuator, e.g.
+		 * 
+		 *  '-' '>'   ->  '->'
+		 *  '<' '<='  ->  '<<='
+		 *  '.' '.'   ->  '...' (if followed by another '.')
+		 */
+		for(String name : Punctuator.getNames())
+			if(name.length() > l.length() && (name.startsWith(pasted) || pasted.startsWith(name)))
+				return true;
+		
+		return false;
+	}
+	
+	private static boolean isIdentifierPart(char c) {
+		return (c >= 'a' && c <= 'z')
+			|| (c >= 'A' && c <= 'Z')
+			|| (c >= '0' && c <= '9')
+			|| c == '_';
+	}
+	
+	// makes sure that the current output line corresponds to the line of the given position
+	private void synchronize(Position position) throws IOException {
+		CharStream stream = position.file();
+		
+		if(stream == null || position.bytenum() == Position.DUMMY || position.bytenum() == Position.ARGUMENT)
+			return;
+		
+		long target = position.line();
+		
+		if(stream != file) {
+			file = stream;
+			marker(target);
+			return;
+		}
+		
+		if(target <= line)
+			return;
+		
+		if(target - line > MAX_EMPTY_LINES) {
+			marker(target);
+			return;
+		}
+		
+		while(line < target) {
+			put('\n');
+			++line;
+		}
+	}
+	
+	private void marker(long target) throws IOException {
+		put("#line ");
+		put(Long.toString(target + 1));
+		put(" \"");
+		put(StringUtils.quote(file.getName()));
+		put("\"\n");
+		
+		line = target;
+	}
+	
+	private void put(char c) throws IOException {
+		if(!buffer.hasRemaining())
+			flush();
+		
+		buffer.put((byte) c);
+	}
+	
+	private void put(String string) throws IOException {
+		int len = string.length();
+		
+		for(int i = 0; i < len; ++i) {
+			// make sure the longest possible UTF-8 sequence (4 bytes) fits
+			if(buffer.remaining() < 4)
+				flush();
+			
+			char c = string.charAt(i);
+			
+			if(c < 0x80)
+				buffer.put((byte) c);
+			
+			else if(c < 0x800) {
+				buffer.put((byte) (0xC0 | (c >> 6)));
+				buffer.put((byte) (0x80 | (c & 0x3F)));
+			}
+			
+			else if(Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(string.charAt(i + 1))) {
+				int cp = Character.toCodePoint(c, string.charAt(++i));
+				
+				buffer.put((byte) (0xF0 | (cp >> 18)));
+				buffer.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+				buffer.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+				buffer.put((byte) (0x80 | (cp & 0x3F)));
+			}
+			
+			else {
+				buffer.put((byte) (0xE0 | (c >> 12)));
+				buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+				buffer.put((byte) (0x80 | (c & 0x3F)));
+			}
+		}
+	}
+	
+	/**
+	 * Writes all buffered data to the underlying channel
+	 * 
+	 * @throws IOException if writing fails
+	 */
+	public void flush() throws IOException {
+		buffer.flip();
+		
+		while(buffer.hasRemaining())
+			channel.write(buffer);
+		
+		buffer.clear();
+	}
+	
+	@Override
+	public void close() throws IOException {
+		flush();
+		channel.close();
+	}
+
+}
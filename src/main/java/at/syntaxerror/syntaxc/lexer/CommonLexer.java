@@ -29,6 +29,7 @@ import at.syntaxerror.syntaxc.io.CharStream;
 import at.syntaxerror.syntaxc.logger.Logable;
 import at.syntaxerror.syntaxc.misc.config.Warnings;
 import at.syntaxerror.syntaxc.tracking.Position;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.NumericValueType;
 import lombok.RequiredArgsConstructor;
 
@@ -262,7 +263,7 @@ public abstract class CommonLexer implements Logable {
 		else if(count > 1)
 			warn(Warnings.MULTICHAR, "Multiple characters in character literal");
 		
-		return Token.ofCharacter(getPosition(), value, wide)
+		return Token.ofCharacter(getPosition(), NumericValue.of(value), wide)
 			.setRaw(raw.toString());
 	}
 	
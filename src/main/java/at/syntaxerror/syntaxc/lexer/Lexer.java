@@ -23,12 +23,12 @@
 package at.syntaxerror.syntaxc.lexer;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
 
 import at.syntaxerror.syntaxc.io.CharStream;
 import at.syntaxerror.syntaxc.misc.config.Flags;
 import at.syntaxerror.syntaxc.misc.config.Warnings;
 import at.syntaxerror.syntaxc.tracking.Position;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.NumericValueType;
 
 /**
@@ -273,20 +273,20 @@ public class Lexer extends CommonLexer {
 			error("Illegal suffix »%c« for numeric literal", (char) next());
 		
 		if(floating) {
-			BigDecimal value;
+			NumericValue value;
 			
 			try {
-				// throws an exception when there are more than 10 exponent digits
-				value = new BigDecimal(sb.toString());
+				// returns null if the value is out of range (BigDecimal throws an exception when there are more than 10 exponent digits)
+				value = NumericValue.parseFloating(sb.toString(), type);
 			} catch (Exception e) {
 				value = null;
 			}
 			
-			if(value == null || !type.inRange(value)) {
+			if(value == null) {
 				warn(Warnings.FLOAT_OVERFLOW, "Decimal literal is too big for its type");
 				
 				// value cannot be less than the minimum value (there are no negative constants yet)
-				value = (BigDecimal) type.getMax();
+				value = NumericValue.of((BigDecimal) type.getMax(), type);
 			}
 			
 			return Token.ofConstant(getPosition(), value, type);
@@ -295,7 +295,7 @@ public class Lexer extends CommonLexer {
 		if(octalError != null)
 			error(octalError, "Illegal charcter in octal integer literal");
 		
-		BigInteger value = new BigInteger(sb.toString(), radix);
+		NumericValue value = NumericValue.parseInteger(sb.toString(), radix);
 		
 		NumericValueType[] toCheck = null;
 		
@@ -344,7 +344,7 @@ public class Lexer extends CommonLexer {
 			
 			if(!type.inRange(value)) {
 				warn(Warnings.INT_OVERFLOW, "Integer literal is too big for its type");
-				value = type.mask(value);
+				value = NumericValue.of(type.mask(value.toBigInteger()));
 			}
 		}
 
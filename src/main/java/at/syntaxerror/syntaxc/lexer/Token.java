@@ -22,8 +22,6 @@
  */
 package at.syntaxerror.syntaxc.lexer;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -32,6 +30,7 @@ import at.syntaxerror.syntaxc.misc.StringUtils;
 import at.syntaxerror.syntaxc.preprocessor.macro.Macro;
 import at.syntaxerror.syntaxc.tracking.Position;
 import at.syntaxerror.syntaxc.tracking.Positioned;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.NumericValueType;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -61,8 +60,8 @@ public class Token implements Positioned {
 		return new Token(position, TokenType.STRING).setString(string).setWide(wide).setRaw('"' + StringUtils.quote(string) + '"');
 	}
 
-	public static Token ofCharacter(Position position, BigInteger integer, boolean wide) {
-		return new Token(position, TokenType.CHARACTER).setInteger(integer).setWide(wide);
+	public static Token ofCharacter(Position position, NumericValue value, boolean wide) {
+		return new Token(position, TokenType.CHARACTER).setValue(value).setWide(wide);
 	}
 
 	public static Token ofPunctuator(Position position, Punctuator punctuator) {
@@ -75,12 +74,8 @@ public class Token implements Positioned {
 		return new Token(position, TokenType.KEYWORD).setKeyword(keyword);
 	}
 
-	public static Token ofConstant(Position position, BigInteger integer, NumericValueType type) {
-		return new Token(position, TokenType.CONSTANT).setInteger(integer).setNumericType(type);
-	}
-
-	public static Token ofConstant(Position position, BigDecimal decimal, NumericValueType type) {
-		return new Token(position, TokenType.CONSTANT).setDecimal(decimal).setNumericType(type);
+	public static Token ofConstant(Position position, NumericValue value, NumericValueType type) {
+		return new Token(position, TokenType.CONSTANT).setValue(value).setNumericType(type);
 	}
 
 	/* PREPROCESSOR */
@@ -111,8 +106,7 @@ public class Token implements Positioned {
 	private Keyword keyword;
 	private Punctuator punctuator;
 	private String string;
-	private BigInteger integer;
-	private BigDecimal decimal;
+	private NumericValue value;
 	
 	private NumericValueType numericType;
 	private boolean wide;
@@ -177,8 +171,7 @@ public class Token implements Positioned {
 		clone.keyword = keyword;
 		clone.punctuator = punctuator;
 		clone.string = string;
-		clone.integer = integer;
-		clone.decimal = decimal;
+		clone.value = value;
 		clone.numericType = numericType;
 		clone.wide = wide;
 		clone.raw = raw;
@@ -249,11 +242,11 @@ public class Token implements Positioned {
 		case PUNCTUATOR:	return "Token(" + punctuator.getName() + ")";
 		
 		case KEYWORD:		return "Token(" + keyword.getName() + ")";
-		case CONSTANT:		return "Token(" + (integer == null ? decimal : integer) + ", type=" + numericType + ")";
+		case CONSTANT:		return "Token(" + value + ", type=" + numericType + ")";
 		
 		case HEADER:		return "Token(" + StringUtils.quote(string) + ", pp)";
 		case NUMBER:		return "Token(" + string + ", pp)";
-		case CHARACTER:		return "Token(" + integer + ", pp)";
+		case CHARACTER:		return "Token(" + value + ", pp)";
 		case WHITESPACE:	return "Token(whitespace, pp)";
 		case NEWLINE:		return "Token(new-line, pp)";
 		case UNPARSEABLE:	return "Token(unparseable, pp)";
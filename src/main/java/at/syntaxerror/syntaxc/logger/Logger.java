@@ -77,7 +77,13 @@ public class Logger {
 	 * Termination takes instead place before the next compilation phase starts */
 	public static boolean recoverNextError = false;
 	
+	/* the number of diagnostics reported so far, including disabled warnings.
+	 * Used to determine whether a diagnostic was reported during a certain operation */
+	public static int reportCount = 0;
+	
 	private static void logImpl(@NonNull LogLevel level, Positioned pos, Warnings warnings, boolean recover, String message, Object...args) {
+		++reportCount;
+		
 		if(warnings == null)
 			warnings = Warnings.NONE;
 		
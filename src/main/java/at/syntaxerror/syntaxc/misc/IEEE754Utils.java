@@ -38,8 +38,8 @@ import lombok.experimental.UtilityClass;
 public class IEEE754Utils {
 
 	private static final BigDecimal TWO = BigDecimal.valueOf(2);
+	private static final BigInteger FIVE = BigInteger.valueOf(5);
 
-	private static MathContext CEIL = new MathContext(0, RoundingMode.CEILING);
 	private static MathContext FLOOR = new MathContext(0, RoundingMode.FLOOR);
 	
 	private static final BigDecimal LOG10_2 = BigDecimalMath.log10(TWO, MathContext.DECIMAL128);
@@ -61,78 +61,89 @@ public class IEEE754Utils {
 	public static BigInteger decimalToFloat(BigDecimal value, FloatingSpec spec) {
 		sanitizeBits(spec);
 		
+		// use the JDK's (correctly rounded) conversions for 'float' and 'double'
+		if(spec.equals(FloatingSpec.SINGLE))
+			return BigInteger.valueOf(Float.floatToRawIntBits(value.floatValue()) & 0xFFFFFFFFL);
+		
+		if(spec.equals(FloatingSpec.DOUBLE))
+			return toUnsigned(Double.doubleToRawLongBits(value.doubleValue()));
+		
 		if(value.compareTo(BigDecimal.ZERO) == 0)
 			return BigInteger.ZERO;
 		
 		// determine sign bit
 		int sign = value.signum() == -1 ? 1 : 0;
 		
-		// strip fractional part
-		BigInteger mantissa = value.toBigInteger();
+		value = value.abs();
 		
-		// strip integer part
-		BigDecimal fraction = value.subtract(new BigDecimal(mantissa, MathContext.UNLIMITED)).abs();
+		// represent the value as the fraction 'num / den'
+		BigInteger num = value.unscaledValue();
+		BigInteger den = BigInteger.ONE;
 		
-		// remove sign
-		mantissa = mantissa.abs();
+		if(value.scale() > 0)
+			den = BigInteger.TEN.pow(value.scale());
 		
-		// unbiased exponent, or 0 if exponent would be negative
-		int exp = mantissa.bitLength();
+		else num = num.multiply(BigInteger.TEN.pow(-value.scale()));
 		
-		int n = 0;
+		// number of significant bits, including the (implicit or explicit) integer bit
+		int precision = spec.mantissa() + (spec.implicit() ? 1 : 0);
 		
-		/* - left-shift the mantissa by 1
-		 * - multiply the fraction by two
-		 * - bit-or the mantissa with the integer part of result (0 or 1)
-		 * - remove the integer part from the result
-		 * - repeat until the fraction is zero, or all mantissa bits are used up
-		 * 
-		 * while(fraction != 0) {
-		 * 	   mantissa <<= 1;
-		 *     fraction *= 2;
-		 *     mantissa |= (int) fraction;
-		 *     fraction -= (int) fraction;
-		 * }
-		 */
-		while(fraction.compareTo(BigDecimal.ZERO) != 0) {
-			if(n >= exp + spec.mantissa())
-				break;
-			
-			++n;
-			
-			fraction = fraction.multiply(TWO);
-			
-			mantissa = mantissa.shiftLeft(1);
-			
-			if(fraction.intValue() == 1) {
-				mantissa = mantissa.or(BigInteger.ONE);
-				fraction = fraction.subtract(BigDecimal.ONE);
-			}
+		int bias = getBias(spec);
+		
+		// unbiased exponent, so that 2^exp <= value < 2^(exp+1)
+		int exp = num.bitLength() - den.bitLength();
+		
+		if(compareToPowerOf2(num, den, exp) < 0)
+			--exp;
+		
+		// subnormals share the exponent of the smallest normalized number
+		int quantum = Math.max(exp, 1 - bias) - precision + 1;
+		
+		// mantissa = round(value / 2^quantum), rounding half to even
+		BigInteger[] division = quantum < 0
+			? num.shiftLeft(-quantum).divideAndRemainder(den)
+			: num.divideAndRemainder(den.shiftLeft(quantum));
+		
+		BigInteger mantissa = division[0];
+		
+		int half = division[1].shiftLeft(1).compareTo(quantum < 0 ? den : den.shiftLeft(quantum));
+		
+		if(half > 0 || (half == 0 && mantissa.testBit(0)))
+			mantissa = mantissa.add(BigInteger.ONE);
+		
+		// rounding overflowed into the next binade
+		if(mantissa.bitLength() > precision) {
+			mantissa = mantissa.shiftRight(1);
+			++quantum;
 		}
 		
-		// fix exponent (negative exponent)
-		if(exp == 0)
-			exp = mantissa.bitLength() - n - 1;
-		else --exp;
+		// biased exponent, or 0 if subnormal
+		int biased = mantissa.testBit(precision - 1)
+			? quantum + precision - 1 + bias
+			: 0;
 		
-		int off = 0;
+		if(biased >= mask(spec.exponent()).intValue()) // too large, round to infinity
+			return sign == 1
+				? getNegativeInfinity(spec)
+				: getPositiveInfinity(spec);
 		
 		// clear most significant bit if it is implicit
-		if(spec.implicit()) {
-			int bit = mantissa.bitLength() - 1;
-			
-			if(bit >= 0)
-				mantissa = mantissa.clearBit(bit);
-		}
-		else off = 1;
+		if(spec.implicit())
+			mantissa = mantissa.clearBit(precision - 1);
 		
-		return BigInteger.valueOf(sign) 
+		return BigInteger.valueOf(sign)
 			// add bias to exponent
 			.shiftLeft(spec.exponent())
-			.or(BigInteger.valueOf(exp + getBias(spec)))
-			// align mantissa to the left
+			.or(BigInteger.valueOf(biased))
 			.shiftLeft(spec.mantissa())
-			.or(mantissa.shiftLeft(spec.mantissa() - n - exp - off));
+			.or(mantissa);
+	}
+	
+	// compares 'num / den' to 2^exp
+	private static int compareToPowerOf2(BigInteger num, BigInteger den, int exp) {
+		return exp < 0
+			? num.shiftLeft(-exp).compareTo(den)
+			: num.compareTo(den.shiftLeft(exp));
 	}
 	
 	// create a bit mask with n bits set (e.g. n=4 returns 0b1111)
@@ -140,6 +151,26 @@ public class IEEE754Utils {
 		return BigInteger.ONE.shiftLeft(n).subtract(BigInteger.ONE);
 	}
 
+	// converts the raw bits of a 'long' into a non-negative BigInteger
+	private static BigInteger toUnsigned(long bits) {
+		BigInteger value = BigInteger.valueOf(bits);
+		
+		return bits < 0
+			? value.and(mask(64))
+			: value;
+	}
+	
+	// converts a finite 'double' into its exact decimal representation, or null for infinity and NaN
+	private static BigDecimal toDecimal(double value) {
+		if(Double.isNaN(value) || Double.isInfinite(value))
+			return null; // BigDecimal does have neither infinity nor NaN, so we just return null
+		
+		if(value == 0)
+			return BigDecimal.ZERO; // BigDecimal doesn't have signed zeros
+		
+		return new BigDecimal(value);
+	}
+	
 	// computes 2^n where n is < 0 [equivalent to 1/(2^(-n)) = 1/(1<<(-n))]
 	private static BigDecimal pow2negative(int n) {
 		return BigDecimal.ONE.divide(new BigDecimal(BigInteger.ONE.shiftLeft(n), MathContext.UNLIMITED));
@@ -148,6 +179,12 @@ public class IEEE754Utils {
 	public static BigDecimal floatToDecimal(BigInteger value, FloatingSpec spec) {
 		sanitizeBits(spec);
 		
+		if(spec.equals(FloatingSpec.SINGLE))
+			return toDecimal(Float.intBitsToFloat(value.intValue()));
+		
+		if(spec.equals(FloatingSpec.DOUBLE))
+			return toDecimal(Double.longBitsToDouble(value.longValue()));
+		
 		// extract sign (most significant bit)
 		boolean sign = isNegative(value, spec);
 		
@@ -182,29 +219,23 @@ public class IEEE754Utils {
 		// make exponent unbiased
 		else exponent -= bias;
 		
-		// integer part's offset. offset is decreased by 1 when most significant bit is implicit
-		int off = spec.mantissa() - exponent - (spec.implicit() ? 0 : 1);
+		// add implicit bit, unless subnormal
+		if(spec.implicit() && !subnormal)
+			mantissa = mantissa.setBit(spec.mantissa());
 		
-		// extract integer part from mantissa
-		BigInteger integer = mantissa.shiftRight(off);
+		// the value is 'mantissa * 2^shift'. the shift is decreased by 1 when most significant bit is explicit
+		int shift = exponent - spec.mantissa() + (spec.implicit() ? 0 : 1);
 		
-		BigDecimal result = null;
+		BigDecimal result = shift < 0
+			// 2^-n = 5^n / 10^n, which is exact
+			? new BigDecimal(mantissa.multiply(FIVE.pow(-shift)), -shift)
+			: new BigDecimal(mantissa.shiftLeft(shift), MathContext.UNLIMITED);
 		
-		if(spec.implicit() && !subnormal) { // add implicit bit, unless subnormal
-			if(exponent < 0) // add 1/(2^(-exponent)) [effectively equal to 2^exponent]
-				result = new BigDecimal(integer, MathContext.UNLIMITED)
-					.add(pow2negative(-exponent));
-			
-			// add 2^exponent
-			else integer = integer.or(BigInteger.ONE.shiftLeft(exponent));
-		}
+		// remove trailing zeros of the fraction, but keep integers as they are
+		result = result.stripTrailingZeros();
 		
-		if(result == null)
-			result = new BigDecimal(integer, MathContext.UNLIMITED);
-
-		for(int i = 0; i < off; ++i)
-			if(mantissa.testBit(off - i - 1)) // if bit is set, add appropriate fraction
-				result = result.add(pow2negative(i + 1));
+		if(result.scale() < 0)
+			result = result.setScale(0);
 		
 		if(sign) // add sign
 			result = result.negate();
@@ -370,16 +401,20 @@ public class IEEE754Utils {
 	public static Pair<Integer, Integer> get10ExponentRange(FloatingSpec spec) {
 		Pair<Integer, Integer> range = getExponentRange(spec);
 		
-		// 2^(e_min - 1) 	[e_min < 0]
-		BigDecimal min = pow2negative(1 - range.getLeft());
+		/* the logarithms are split up into log10(2^e) = e * log10(2), so that
+		 * the (potentially huge) powers of two never have to be computed
+		 */
+		
+		// log10(2^(e_min - 1)) 	[e_min < 0]
+		BigDecimal min = BigDecimal.valueOf(range.getLeft() - 1).multiply(LOG10_2);
 		
-		// (1 - 2^-p) * 2^e_max 	[e_max > 0]
-		BigDecimal max = BigDecimal.ONE.subtract(pow2negative(spec.mantissa()))
-			.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(range.getRight()), MathContext.UNLIMITED));
+		// log10((1 - 2^-p) * 2^e_max) = log10(1 - 2^-p) + e_max * log10(2) 	[e_max > 0]
+		BigDecimal max = BigDecimalMath.log10(BigDecimal.ONE.subtract(pow2negative(spec.mantissa())), MathContext.DECIMAL128)
+			.add(BigDecimal.valueOf(range.getRight()).multiply(LOG10_2));
 		
 		return Pair.of(
-			BigDecimalMath.log10(min, MathContext.DECIMAL128).round(CEIL).intValue(), // log10 and round down
-			BigDecimalMath.log10(max, MathContext.DECIMAL128).round(FLOOR).intValue() // log10 and round up
+			min.setScale(0, RoundingMode.CEILING).intValue(), // round up
+			max.setScale(0, RoundingMode.FLOOR).intValue() // round down
 		);
 	}
 	
@@ -66,6 +66,7 @@ public class IncludePathRegistry {
 	};
 	
 	private static final Set<Path> INCLUDE_PATH = new LinkedHashSet<>();
+	private static final Set<Path> SYSTEM_INCLUDE_PATH = new LinkedHashSet<>();
 
 	static {
 		String ver = SyntaxC.Version.VERSION;
@@ -75,6 +76,8 @@ public class IncludePathRegistry {
 			INCLUDE_PATH.add(syntaxcLibraryPath = Paths.get("/opt/syntaxc/" + ver + "/include"));
 			INCLUDE_PATH.add(Paths.get("/usr/local"));
 			INCLUDE_PATH.add(Paths.get("/usr/local/include"));
+			
+			SYSTEM_INCLUDE_PATH.add(Paths.get("/usr/local/include"));
 			break;
 		
 		case WINDOWS:
@@ -84,6 +87,9 @@ public class IncludePathRegistry {
 		default:
 			break;
 		}
+		
+		if(syntaxcLibraryPath != null)
+			SYSTEM_INCLUDE_PATH.add(syntaxcLibraryPath);
 	}
 	
 	public static Path getSyntaxCLibraryPath() {
@@ -109,6 +115,24 @@ public class IncludePathRegistry {
 		INCLUDE_PATH.add(p);
 	}
 	
+	/**
+	 * Checks whether the given file is a system header, i.e. a header of the
+	 * installed standard library or any other file inside of {@code /usr/local/include}.
+	 * The content of system headers is expected to rarely ever change.
+	 * 
+	 * @param path the file to be checked
+	 * @return whether the file is a system header
+	 */
+	public static boolean isSystemHeader(Path path) {
+		Path absolute = path.toAbsolutePath().normalize();
+		
+		for(Path system : SYSTEM_INCLUDE_PATH)
+			if(absolute.startsWith(system))
+				return true;
+		
+		return false;
+	}
+	
 	private static boolean isValidFile(Path path) {
 		return Files.exists(path) && Files.isRegularFile(path);
 	}
@@ -42,6 +42,8 @@ public enum Flags implements Toggleable {
 	SYNTAX_TREE			("syntax-tree[=dot|png|svg]",			"Generates the syntax tree in DOT, PNG, or SVG format", false, "dot"),
 	CONTROL_FLOW_GRAPH	("control-flow-graph[=dot|png|svg]",	"Generates the control flow graph in DOT, PNG, or SVG format", false, "dot"),
 	ALIGN				("align[=alignment]",					"Specifies the alignment for global variables, must be a multiple of 4", false, "4"),
+	HEADER_CACHE		("header-cache[=directory]",			"Caches the preprocessing tokens of system headers in the given directory (default: §c~/.cache/syntaxc§f)", false, true),
+	LINEAR_SCAN			("linear-scan",							"Uses the faster linear scan register allocator instead of graph coloring, at the cost of code quality", false),
 	VERBOSE				("verbose",								"Enables more verbose diagnostic messages"),
 	VERY_VERBOSE		("very-verbose",						"Enables very verbose diagnostic messages", false)
 	;
@@ -77,13 +79,22 @@ public enum Flags implements Toggleable {
 	}
 
 	private Flags(String name, String description, boolean enabled, String value) {
+		this(name, description, enabled, value, value != null);
+	}
+
+	// for values without a default, e.g. when the default is determined by the user of the flag
+	private Flags(String name, String description, boolean enabled, boolean acceptsValue) {
+		this(name, description, enabled, null, acceptsValue);
+	}
+
+	private Flags(String name, String description, boolean enabled, String value, boolean acceptsValue) {
 		this.name = name;
 		this.description = description;
 		
 		this.enabled = enabled;
 		this.value = value;
 		
-		acceptsValue = value != null;
+		this.acceptsValue = acceptsValue;
 	}
 
 	@Override
@@ -33,9 +33,10 @@ import lombok.Setter;
 @Getter
 public enum Optimizations implements Toggleable {
 	
-	CONST_FOLDING	("const-folding",		"Automatically inlines global arithmetic variables declared as »§cconst§f«"),
-	GOTO			("goto",				"Automatically removes »§cgoto§f« statements followed by the label they jump to"),
-	JUMP_TO_JUMP	("jump-to-jump",		"Automatically chooses the shortest path instead of jumping several times in a row"),
+	CONST_FOLDING		("const-folding",		"Automatically inlines global arithmetic variables declared as »§cconst§f«"),
+	GOTO				("goto",					"Automatically removes »§cgoto§f« statements followed by the label they jump to"),
+	JUMP_TO_JUMP		("jump-to-jump",			"Automatically chooses the shortest path instead of jumping several times in a row"),
+	STRENGTH_REDUCTION	("strength-reduction",	"Replaces integer multiplications and divisions by constants with cheaper instruction sequences"),
 	;
 	
 	static {
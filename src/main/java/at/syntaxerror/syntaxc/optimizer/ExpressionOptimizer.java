@@ -22,7 +22,8 @@
  */
 package at.syntaxerror.syntaxc.optimizer;
 
-import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 import at.syntaxerror.syntaxc.lexer.Punctuator;
 import at.syntaxerror.syntaxc.misc.config.Optimizations;
@@ -93,21 +94,8 @@ public class ExpressionOptimizer {
 			
 		}
 		
-		else if(expr instanceof BinaryExpressionNode binary) {
-			ExpressionNode left = optimize(binary.getLeft());
-			ExpressionNode right = optimize(binary.getRight());
-			
-			expr = new BinaryExpressionNode(
-				pos,
-				left,
-				right,
-				binary.getOperation(),
-				binary.getType()
-			);
-
-			eval = binary.getOperation() != Punctuator.ASSIGN
-				&& isNumber(left, right);
-		}
+		else if(expr instanceof BinaryExpressionNode binary)
+			return optimizeBinary(binary);
 
 		else if(expr instanceof UnaryExpressionNode unary) {
 			ExpressionNode target = optimize(unary.getTarget());
@@ -139,26 +127,8 @@ public class ExpressionOptimizer {
 			}
 		}
 		
-		else if(expr instanceof ConditionalExpressionNode cond) {
-			ExpressionNode condition = optimize(cond.getCondition());
-			
-			ExpressionNode whenTrue = optimize(cond.getWhenTrue());
-			ExpressionNode whenFalse = optimize(cond.getWhenFalse());
-			
-			if(isNumber(condition))
-				return ((BigInteger) ((NumberLiteralExpressionNode) condition).getLiteral())
-						.compareTo(BigInteger.ZERO) == 0
-					? whenFalse
-					: whenTrue;
-			
-			expr = new ConditionalExpressionNode(
-				pos,
-				condition,
-				whenTrue,
-				whenFalse,
-				cond.getType()
-			);
-		}
+		else if(expr instanceof ConditionalExpressionNode cond)
+			return optimizeConditional(cond);
 		
 		else if(expr instanceof CallExpressionNode call)
 			expr = new CallExpressionNode(
@@ -192,4 +162,85 @@ public class ExpressionOptimizer {
 		return eval ? eval(expr) : expr;
 	}
 	
+	/*
+	 * Chains of binary operators (e.g. 'a + b + c + ...') are left-leaning, so the
+	 * left operands are optimized iteratively in order to not recurse once per operator
+	 */
+	private static ExpressionNode optimizeBinary(BinaryExpressionNode binary) {
+		Deque<BinaryExpressionNode> operators = new ArrayDeque<>();
+		
+		ExpressionNode left = binary;
+		
+		while(left instanceof BinaryExpressionNode op) {
+			operators.push(op);
+			left = op.getLeft();
+		}
+		
+		left = optimize(left);
+		
+		while(!operators.isEmpty()) {
+			BinaryExpressionNode op = operators.pop();
+			
+			ExpressionNode right = optimize(op.getRight());
+			
+			ExpressionNode expr = new BinaryExpressionNode(
+				op.getPosition(),
+				left,
+				right,
+				op.getOperation(),
+				op.getType()
+			);
+			
+			left = op.getOperation() != Punctuator.ASSIGN && isNumber(left, right)
+				? eval(expr)
+				: expr;
+		}
+		
+		return left;
+	}
+	
+	/*
+	 * Ladders of conditional operators (e.g. 'a ? b : c ? d : ...') are right-leaning, so the
+	 * false branches are optimized iteratively in order to not recurse once per operator
+	 */
+	private static ExpressionNode optimizeConditional(ConditionalExpressionNode cond) {
+		Deque<PendingConditional> pending = new ArrayDeque<>();
+		
+		ExpressionNode whenFalse = cond;
+		
+		while(whenFalse instanceof ConditionalExpressionNode ladder) {
+			ExpressionNode condition = optimize(ladder.getCondition());
+			ExpressionNode whenTrue = optimize(ladder.getWhenTrue());
+			
+			pending.push(new PendingConditional(ladder, condition, whenTrue));
+			
+			whenFalse = ladder.getWhenFalse();
+		}
+		
+		whenFalse = optimize(whenFalse);
+		
+		while(!pending.isEmpty()) {
+			PendingConditional ladder = pending.pop();
+			
+			ExpressionNode condition = ladder.condition();
+			
+			if(isNumber(condition))
+				whenFalse = ((NumberLiteralExpressionNode) condition).getLiteral().isZero()
+					? whenFalse
+					: ladder.whenTrue();
+			
+			else whenFalse = new ConditionalExpressionNode(
+				ladder.expr().getPosition(),
+				condition,
+				ladder.whenTrue(),
+				whenFalse,
+				ladder.expr().getType()
+			);
+		}
+		
+		return whenFalse;
+	}
+	
+	private static record PendingConditional(ConditionalExpressionNode expr, ExpressionNode condition, ExpressionNode whenTrue) { }
+	
 }
@@ -32,6 +32,7 @@ import java.util.Map;
 import at.syntaxerror.syntaxc.intermediate.representation.Intermediate;
 import at.syntaxerror.syntaxc.intermediate.representation.JumpIntermediate;
 import at.syntaxerror.syntaxc.intermediate.representation.LabelIntermediate;
+import at.syntaxerror.syntaxc.intermediate.representation.SwitchIntermediate;
 import at.syntaxerror.syntaxc.misc.config.Optimizations;
 
 /**
@@ -43,6 +44,7 @@ public class GotoOptimizer {
 	private Map<String, String> aliases = new HashMap<>();
 	private Map<String, List<Integer>> jumps = new HashMap<>();
 	private List<Integer> redundants = new ArrayList<>();
+	private List<Integer> switches = new ArrayList<>();
 
 	private String resolveLabel(String label) {
 		return resolveLabel(label, label);
@@ -62,13 +64,14 @@ public class GotoOptimizer {
 	/*
 	 * Optimizes gotos and jumps:
 	 * 
-	 * - jump-to-jump
+	 * - jump-to-jump (including the targets of switches)
 	 * - goto followed by label jumped to
 	 */
 	public List<Intermediate> optimize(List<Intermediate> intermediates, final String returnLabel) {
 		aliases.clear();
 		jumps.clear();
 		redundants.clear();
+		switches.clear();
 		
 		int index = 0;
 		
@@ -107,7 +110,12 @@ public class GotoOptimizer {
 				label = null;
 			}
 			
-			else label = jumpLabel = null;
+			else {
+				if(intermediate instanceof SwitchIntermediate)
+					switches.add(index);
+				
+				label = jumpLabel = null;
+			}
 			
 			++index;
 		}
@@ -144,6 +152,21 @@ public class GotoOptimizer {
 				}
 			}
 		
+		if(Optimizations.JUMP_TO_JUMP.isEnabled())
+			for(int idx : switches) {
+				SwitchIntermediate intermediate = (SwitchIntermediate) intermediates.get(idx);
+				
+				SwitchIntermediate resolved = intermediate.withLabels(this::resolveLabel);
+				
+				if(resolved.getCases().equals(intermediate.getCases())
+					&& resolved.getDefaultLabel().equals(intermediate.getDefaultLabel()))
+					continue;
+				
+				hasOptimized = true;
+				
+				intermediates.set(idx, resolved);
+			}
+		
 		if(Optimizations.GOTO.isEnabled()) {
 			int offset = 0;
 			
@@ -68,6 +68,23 @@ public abstract class AbstractParser implements Logable {
 
 	public abstract void reread();
 	
+	/**
+	 * Returns the {@code k}-th upcoming token without consuming it,
+	 * i.e. {@code lookahead(1)} returns the token that would be returned
+	 * by the next call to {@link #next()}. Returns {@code null} if there
+	 * are not enough tokens left.
+	 * 
+	 * @param k the number of tokens to look ahead
+	 * @return the upcoming token
+	 */
+	public abstract Token lookahead(int k);
+	
+	/*
+	 * Marks the current token state, so that it can be restored by reset() later on.
+	 * 
+	 * This is only required for speculative parsing, which has been replaced by lookahead(k)
+	 * everywhere. Each call is counted by Parser#getSpeculations
+	 */
 	public final void mark() {
 		markTokenState();
 		marked.push(Pair.of(previous, current));
@@ -115,15 +132,10 @@ public abstract class AbstractParser implements Logable {
 	}
 	
 	public boolean optional(Object...any) {
-		mark();
-		next();
-		
-		if(!equal(any)) {
-			reset();
+		if(!peek(any))
 			return false;
-		}
 		
-		unmark();
+		next();
 		return true;
 	}
 	
@@ -145,14 +157,13 @@ public abstract class AbstractParser implements Logable {
 	}
 	
 	public boolean peek(Object...any) {
-		try {
-			mark();
-			next();
-
-			return equal(any);
-		} finally {
-			reset();
-		}
+		return peek(1, any);
+	}
+	
+	public boolean peek(int k, Object...any) {
+		Token token = lookahead(k);
+		
+		return token != null && token.is(any);
 	}
 	
 	private void expectedError(Object...any) {
@@ -24,16 +24,13 @@ package at.syntaxerror.syntaxc.parser;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.math.RoundingMode;
+import java.math.MathContext;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
-import java.util.function.Predicate;
-import java.util.function.Supplier;
 
 import at.syntaxerror.syntaxc.lexer.Punctuator;
 import at.syntaxerror.syntaxc.logger.Logger;
-import at.syntaxerror.syntaxc.misc.Pair;
+import at.syntaxerror.syntaxc.misc.IEEE754Utils.FloatingSpec;
 import at.syntaxerror.syntaxc.misc.config.Warnings;
 import at.syntaxerror.syntaxc.parser.node.expression.BinaryExpressionNode;
 import at.syntaxerror.syntaxc.parser.node.expression.CastExpressionNode;
@@ -49,183 +46,260 @@ import at.syntaxerror.syntaxc.symtab.global.GlobalVariableInitializer;
 import at.syntaxerror.syntaxc.symtab.global.IntegerInitializer;
 import at.syntaxerror.syntaxc.tracking.Positioned;
 import at.syntaxerror.syntaxc.type.NumberType;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.NumericValueType;
 import at.syntaxerror.syntaxc.type.Type;
 import lombok.experimental.UtilityClass;
 
 /**
+ * This class evaluates constant expressions.
+ * 
+ * Integer values are always computed using primitive {@code long}s, wrapped to the width of their
+ * respective type after each operation (signed values are sign-extended, unsigned values are
+ * zero-extended; 64-bit unsigned values are stored as their raw bits). Floating point values are
+ * computed using primitive {@code double}s, unless their type is wider than a {@code double}
+ * (e.g. the 80-bit x87 {@code long double}), in which case arbitrary precision is used instead.
+ * 
+ * The result of the whole expression is returned as a {@link NumericValue}.
+ * 
  * @author Thomas Kasper
  * 
  */
 @UtilityClass
 public class ConstantExpressionEvaluator {
-
-	private static final Map<Punctuator, Pair<MathFunction<BigInteger>, MathFunction<BigDecimal>>> ARITHMETIC_OPERATIONS = Map.of(
-		Punctuator.ADD,				Pair.of(BigInteger::add,		BigDecimal::add),
-		Punctuator.SUBTRACT,		Pair.of(BigInteger::subtract,	BigDecimal::subtract),
-		Punctuator.MULTIPLY,		Pair.of(BigInteger::multiply,	BigDecimal::multiply),
-		Punctuator.EQUAL,			comparison(i -> i == 0),
-		Punctuator.NOT_EQUAL,		comparison(i -> i != 0),
-		Punctuator.LESS,			comparison(i -> i < 0),
-		Punctuator.LESS_EQUAL,		comparison(i -> i <= 0),
-		Punctuator.GREATER,			comparison(i -> i > 0),
-		Punctuator.GREATER_EQUAL,	comparison(i -> i >= 0),
-		Punctuator.COMMA,			Pair.of((l, r) -> r, (l, r) -> r)
-	);
-	
-	private static final Map<Punctuator, MathFunction<BigInteger>> BITWISE_OPERATIONS = Map.of(
-		Punctuator.BITWISE_AND,		BigInteger::and,
-		Punctuator.BITWISE_XOR,		BigInteger::xor,
-		Punctuator.BITWISE_OR,		BigInteger::or,
-		Punctuator.LSHIFT,			(a, b) -> a.shiftLeft(b.intValue()),
-		Punctuator.RSHIFT,			(a, b) -> a.shiftRight(b.intValue())
-	);
-	
-	private static final Map<Punctuator, Pair<MathFunction<BigInteger>, MathFunction<BigDecimal>>> DIVISION_OPERATIONS = Map.of(
-		Punctuator.DIVIDE,			Pair.of(BigInteger::divide,	(a, b) -> a.divide(b, RoundingMode.HALF_EVEN)),
-		Punctuator.MODULO,			Pair.of(BigInteger::mod,	(a, b) -> { throw new IllegalArgumentException(); })
-	);
-	
-	private static final Map<Punctuator, LogicalFunction> LOGICAL_OPERATIONS = Map.of(
-		Punctuator.LOGICAL_AND,	(a, b) -> a && b.get(),
-		Punctuator.LOGICAL_OR,	(a, b) -> a || b.get()
-	);
-	
-	private static Pair<MathFunction<BigInteger>, MathFunction<BigDecimal>> comparison(Predicate<Integer> predicate) {
-		return Pair.of(
-			(a, b) -> intBool(predicate.test(a.compareTo(b))),
-			(a, b) -> decBool(predicate.test(a.compareTo(b)))
-		);
+	
+	// precision used for divisions of floating point numbers wider than a 'double'
+	private static final MathContext EXTENDED_CONTEXT = MathContext.DECIMAL128;
+	
+	// 2^63, the smallest positive 'double' which does not fit into a 'long'
+	private static final double LONG_LIMIT = 0x1p63;
+	
+	private static NumericValueType numericType(Type type) {
+		return type.isPointer()
+			? NumericValueType.POINTER
+			: type.toNumber().getNumericType();
 	}
 	
-	private static BigInteger intBool(boolean value) {
-		return value ? BigInteger.ONE : BigInteger.ZERO;
+	/*
+	 * Checks whether values of the given floating point type can be represented by a 'double'
+	 */
+	private static boolean isDoublePrecision(NumericValueType type) {
+		return NumericValue.isDoublePrecision(type.getFloatingSpec());
 	}
-
-	private static BigDecimal decBool(boolean value) {
-		return value ? BigDecimal.ONE : BigDecimal.ZERO;
+	
+	private static boolean isComparison(Punctuator op) {
+		return switch(op) {
+		case EQUAL, NOT_EQUAL, LESS, LESS_EQUAL, GREATER, GREATER_EQUAL -> true;
+		default -> false;
+		};
 	}
 	
-	private static BigDecimal toBigDecimal(Number value) {
-		return value instanceof BigInteger bigint
-			? new BigDecimal(bigint)
-			: (BigDecimal) value;
+	private static boolean isBitwise(Punctuator op) {
+		return switch(op) {
+		case BITWISE_AND, ADDRESS_OF, BITWISE_XOR, BITWISE_OR, LSHIFT, RSHIFT -> true;
+		default -> false;
+		};
 	}
 	
-	private static BigInteger performOperation(Positioned pos, Punctuator punct, BigInteger left, BigInteger right) {
-		if(BITWISE_OPERATIONS.containsKey(punct)) {
-			if((punct == Punctuator.LSHIFT || punct == Punctuator.RSHIFT) && right.compareTo(BigInteger.ZERO) < 0) {
-				Logger.warn(pos, Warnings.NEGATIVE_SHIFT, "Shift count is negative");
-				return BigInteger.ZERO;
-			}
-			
-			return BITWISE_OPERATIONS.get(punct).calculate(left, right);
-		}
-		
-		if(DIVISION_OPERATIONS.containsKey(punct)) {
-			if(isZero(right))
-				error(pos, "Division by zero");
-			
-			return DIVISION_OPERATIONS.get(punct).getLeft().calculate(left, right);
+	private static long compare(Punctuator op, int result) {
+		return switch(op) {
+		case EQUAL ->			result == 0 ? 1 : 0;
+		case NOT_EQUAL ->		result != 0 ? 1 : 0;
+		case LESS ->			result < 0 ? 1 : 0;
+		case LESS_EQUAL ->		result <= 0 ? 1 : 0;
+		case GREATER ->			result > 0 ? 1 : 0;
+		default ->				result >= 0 ? 1 : 0;
+		};
+	}
+	
+	/*
+	 * Truncates the value to the width of the given integer type
+	 */
+	private static long wrap(long value, NumericValueType type) {
+		int shift = 64 - 8 * type.getSize();
+		
+		if(shift <= 0)
+			return value;
+		
+		return type.isSigned()
+			? value << shift >> shift
+			: value << shift >>> shift;
+	}
+	
+	/*
+	 * Limits the value to the range of the given floating point type.
+	 * Values of type 'float' are additionally rounded to single precision
+	 */
+	private static double bound(double value, NumericValueType type) {
+		if(type.getFloatingSpec() == FloatingSpec.SINGLE)
+			value = (float) value;
+		
+		if(Double.isInfinite(value)) {
+			double max = type.getMax().doubleValue();
+			
+			return value > 0 ? max : -max;
 		}
 		
-		if(ARITHMETIC_OPERATIONS.containsKey(punct))
-			return ARITHMETIC_OPERATIONS.get(punct).getLeft().calculate(left, right);
-		
-		return null;
+		return value;
 	}
-
-	private static Number performOperation(Positioned pos, Punctuator punct, Number left, Number right) {
-		if(left instanceof BigInteger l && right instanceof BigInteger r)
-			return performOperation(pos, punct, l, r);
-
-		BigDecimal l = toBigDecimal(left);
-		BigDecimal r = toBigDecimal(right);
-		
-		if(BITWISE_OPERATIONS.containsKey(punct))
-			error(pos, "Illegal operands for »%s«", punct);
+	
+	private static BigDecimal bound(BigDecimal value, NumericValueType type) {
+		if(type.inRange(value))
+			return value;
 		
-		if(DIVISION_OPERATIONS.containsKey(punct)) {
-			if(isZero(r))
-				warn(pos, Warnings.DIVISION_BY_ZERO, "Division by zero");
-			
-			else return DIVISION_OPERATIONS.get(punct).getRight().calculate(l, r);
-		}
+		if(value.compareTo((BigDecimal) type.getMax()) > 0)
+			return (BigDecimal) type.getMax();
 		
-		if(ARITHMETIC_OPERATIONS.containsKey(punct))
-			return ARITHMETIC_OPERATIONS.get(punct).getRight().calculate(l, r);
+		return (BigDecimal) type.getMin();
+	}
+	
+	private static NumericValue toValue(long value, NumericValueType type) {
+		// 64-bit unsigned values are stored as their raw bits
+		if(value < 0 && !type.isSigned())
+			return NumericValue.of(BigInteger.valueOf(value).and(type.getMask()));
 		
-		return null;
+		return NumericValue.of(value);
 	}
-
-	private static Number performLogical(Positioned pos, Punctuator punct, Number left, Supplier<Number> right, Type rightType) {
-		LogicalFunction fun = LOGICAL_OPERATIONS.get(punct);
+	
+	private static NumericValue toValue(double value, NumericValueType type) {
+		if(type.getFloatingSpec() == FloatingSpec.SINGLE)
+			value = (float) value;
 		
-		if(left instanceof BigInteger l && rightType.isInteger())
-			return fun.calculate(l, () -> (BigInteger) right.get());
+		return NumericValue.of(value);
+	}
+	
+	private static double toDouble(long value, NumericValueType type) {
+		if(type.isSigned() || value >= 0)
+			return value;
 		
-		return fun.calculate(toBigDecimal(left), () -> toBigDecimal(right.get()));
+		// unsigned 64-bit value with the highest bit set; halve it (preserving the rounding bit) and double it again
+		return (double) ((value >>> 1) | (value & 1)) * 2.0;
 	}
 	
-	private static boolean isZero(BigInteger value) {
-		return value.compareTo(BigInteger.ZERO) == 0;
+	private static long toLong(double value) {
+		if(Math.abs(value) < LONG_LIMIT)
+			return (long) value;
+		
+		// wraps around like any other integer
+		return new BigDecimal(value).toBigInteger().longValue();
 	}
 	
-	private static boolean isZero(Number value) {
-		return value instanceof BigDecimal dec
-			? dec.compareTo(BigDecimal.ZERO) == 0
-			: isZero((BigInteger) value);
+	public static NumericValue evalInteger(ExpressionNode expr) {
+		return toValue(evalLong(expr, true), numericType(expr.getType()));
 	}
 	
-	private static Number checkBounds(Number value, Type type) {
-		NumericValueType numType = type.toNumber().getNumericType();
+	public static NumericValue evalArithmetic(ExpressionNode expr) {
+		NumericValueType type = numericType(expr.getType());
 		
-		if(numType.isFloating()) {
-			BigDecimal bigdec = toBigDecimal(value);
-			
-			if(numType.inRange(bigdec))
-				return bigdec;
-			
-			if(bigdec.compareTo((BigDecimal) numType.getMax()) > 0)
-				return numType.getMax();
-			
-			return numType.getMin();
-		}
+		if(!type.isFloating())
+			return toValue(evalLong(expr, false), type);
+		
+		if(isDoublePrecision(type))
+			return toValue(evalDouble(expr), type);
 		
-		return numType.mask((BigInteger) value);
+		return NumericValue.of(evalExtended(expr), type);
 	}
 	
-	public static BigInteger evalInteger(ExpressionNode expr) {
+	/*
+	 * Evaluates an expression of integer type.
+	 * 
+	 * If 'strict' is set, the expression must be an integer constant expression,
+	 * i.e. floating point numbers may only occur as the immediate operand of a cast
+	 */
+	private static long evalLong(ExpressionNode expr, boolean strict) {
 		if(expr instanceof NumberLiteralExpressionNode num) {
 			if(num.getType().isFloating())
 				error(num, "Illegal floating point number in constant expression");
 			
-			return (BigInteger) num.getLiteral();
+			return wrap(num.getLiteral().longValue(), numericType(num.getType()));
 		}
 		
 		if(expr instanceof BinaryExpressionNode binary) {
-			BigInteger left = evalInteger(binary.getLeft());
-			
 			Punctuator op = binary.getOperation();
 			
-			if(op == Punctuator.LOGICAL_OR || op == Punctuator.LOGICAL_AND)
-				return (BigInteger) performLogical(
-					binary,
+			ExpressionNode left = binary.getLeft();
+			ExpressionNode right = binary.getRight();
+			
+			if(op == Punctuator.LOGICAL_OR || op == Punctuator.LOGICAL_AND) {
+				boolean value = isTrue(left, strict);
+				
+				if(op == Punctuator.LOGICAL_OR ? !value : value)
+					value = isTrue(right, strict);
+				
+				return value ? 1 : 0;
+			}
+			
+			if(op == Punctuator.COMMA) {
+				isTrue(left, strict); // the left operand must still be constant
+				
+				return evalLong(right, strict);
+			}
+			
+			NumericValueType operand = numericType(left.getType());
+			
+			if(isComparison(op)) {
+				if(operand.isFloating())
+					return compare(op, compareFloating(binary, left, right, strict));
+				
+				long a = evalLong(left, strict);
+				long b = evalLong(right, strict);
+				
+				return compare(
 					op,
-					left,
-					() -> evalInteger(binary.getRight()),
-					binary.getRight().getType()
+					operand.isSigned()
+						? Long.compare(a, b)
+						: Long.compareUnsigned(a, b)
 				);
+			}
 			
-			Number val = performOperation(
-				binary,
-				op,
-				left,
-				evalInteger(binary.getRight())
-			);
+			NumericValueType type = numericType(binary.getType());
+			
+			long a = evalLong(left, strict);
+			long b = evalLong(right, strict);
 			
-			if(val != null)
-				return (BigInteger) checkBounds(val, binary.getType());
+			switch(op) {
+			case ADD:			return wrap(a + b, type);
+			case SUBTRACT:		return wrap(a - b, type);
+			case MULTIPLY:		return wrap(a * b, type);
+			
+			case BITWISE_AND:
+			case ADDRESS_OF:	return a & b;
+			case BITWISE_XOR:	return a ^ b;
+			case BITWISE_OR:	return a | b;
+			
+			case DIVIDE:
+			case MODULO:
+				if(b == 0)
+					error(binary, "Division by zero");
+				
+				if(type.isSigned())
+					return wrap(op == Punctuator.DIVIDE ? a / b : a % b, type);
+				
+				return op == Punctuator.DIVIDE
+					? Long.divideUnsigned(a, b)
+					: Long.remainderUnsigned(a, b);
+			
+			case LSHIFT:
+			case RSHIFT:
+				if(b < 0 && numericType(right.getType()).isSigned()) {
+					Logger.warn(binary, Warnings.NEGATIVE_SHIFT, "Shift count is negative");
+					return 0;
+				}
+				
+				// Java only considers the lowest 6 bits of the shift count
+				if(Long.compareUnsigned(b, 64) >= 0)
+					return op == Punctuator.RSHIFT && a < 0 && type.isSigned() ? -1 : 0;
+				
+				if(op == Punctuator.LSHIFT)
+					return wrap(a << b, type);
+				
+				return type.isSigned()
+					? a >> b
+					: a >>> b;
+			
+			default:
+				break;
+			}
 		}
 		
 		if(expr instanceof CastExpressionNode cast) {
@@ -239,137 +313,262 @@ public class ConstantExpressionEvaluator {
 			if(!type.isArithmetic())
 				error(target, "Expected number for cast in constant expression");
 			
-			NumberType num = type.toNumber();
+			NumericValueType numType = numericType(cast.getType());
 			
-			BigInteger bigint = null;
+			if(!type.toNumber().getNumericType().isFloating())
+				return wrap(evalLong(target, strict), numType);
 			
-			if(num.getNumericType().isFloating()) {
-				if(target instanceof NumberLiteralExpressionNode lit)
-					bigint = ((BigDecimal) lit.getLiteral()).toBigInteger();
-				
-				else error(target, "Floating point number must be immediate operand of cast in constant expression");
-			}
-			else bigint = evalInteger(target);
+			if(strict && !(target instanceof NumberLiteralExpressionNode))
+				error(target, "Floating point number must be immediate operand of cast in constant expression");
 			
-			return (BigInteger) checkBounds(bigint, cast.getType());
+			NumericValueType from = numericType(type);
+			
+			return wrap(
+				isDoublePrecision(from)
+					? toLong(evalDouble(target))
+					: evalExtended(target).toBigInteger().longValue(),
+				numType
+			);
 		}
 		
 		if(expr instanceof ConditionalExpressionNode cond)
-			return evalInteger(cond.getCondition()).compareTo(BigInteger.ZERO) != 0
-				? evalInteger(cond.getWhenTrue())
-				: evalInteger(cond.getWhenFalse());
+			return wrap(
+				isTrue(cond.getCondition(), strict)
+					? evalLong(cond.getWhenTrue(), strict)
+					: evalLong(cond.getWhenFalse(), strict),
+				numericType(cond.getType())
+			);
 		
 		if(expr instanceof UnaryExpressionNode unary) {
-			BigInteger target = evalInteger(unary.getTarget());
+			Punctuator op = unary.getOperation();
 			
-			BigInteger val = switch(unary.getOperation()) {
-			case MINUS:			yield target.negate();
-			case BITWISE_NOT:	yield target.not();
-			default: yield null;
-			};
-			
-			if(val != null)
-				return (BigInteger) checkBounds(val, unary.getType());
+			if(op == Punctuator.MINUS || op == Punctuator.BITWISE_NOT) {
+				long target = evalLong(unary.getTarget(), strict);
+				
+				return wrap(
+					op == Punctuator.MINUS
+						? -target
+						: ~target,
+					numericType(unary.getType())
+				);
+			}
 		}
 		
 		error(expr, "Expression is not constant");
-		return null;
+		return 0;
 	}
 	
-	private static BigDecimal evalBigArithmetic(ExpressionNode expr) {
-		return toBigDecimal(evalArithmetic(expr));
-	}
-
-	public static Number evalArithmetic(ExpressionNode expr) {
-		if(expr instanceof NumberLiteralExpressionNode num) {
-			if(num.getType().isFloating())
-				return num.getLiteral();
-			
-			return num.getLiteral();
-		}
+	/*
+	 * Evaluates an expression of a floating point type which fits into a 'double'
+	 */
+	private static double evalDouble(ExpressionNode expr) {
+		NumericValueType type = numericType(expr.getType());
+		
+		if(expr instanceof NumberLiteralExpressionNode num)
+			return bound(num.getLiteral().doubleValue(), type);
 		
 		if(expr instanceof BinaryExpressionNode binary) {
-			Number left = evalArithmetic(binary.getLeft());
-
 			Punctuator op = binary.getOperation();
 			
-			if(op == Punctuator.LOGICAL_OR || op == Punctuator.LOGICAL_AND)
-				return (BigInteger) performLogical(
-					binary,
-					op,
-					left,
-					() -> evalArithmetic(binary.getRight()),
-					binary.getRight().getType()
-				);
+			if(isBitwise(op))
+				error(binary, "Illegal operands for »%s«", op);
 			
-			Number val = performOperation(
-				binary,
-				op,
-				left,
-				evalArithmetic(binary.getRight())
-			);
+			if(op == Punctuator.COMMA) {
+				isTrue(binary.getLeft(), false); // the left operand must still be constant
+				
+				return bound(toDouble(binary.getRight()), type);
+			}
 			
-			if(val != null)
-				return checkBounds(val, binary.getType());
+			double a = toDouble(binary.getLeft());
+			double b = toDouble(binary.getRight());
+			
+			switch(op) {
+			case ADD:		return bound(a + b, type);
+			case SUBTRACT:	return bound(a - b, type);
+			case MULTIPLY:	return bound(a * b, type);
+			
+			case DIVIDE:
+				if(b != 0)
+					return bound(a / b, type);
+				
+				warn(binary, Warnings.DIVISION_BY_ZERO, "Division by zero");
+				break;
+			
+			default:
+				break;
+			}
 		}
 		
 		if(expr instanceof CastExpressionNode cast) {
-			if(!cast.getType().isArithmetic())
-				error(cast, "Cannot cast to non-numeric type in constant expression");
-			
 			ExpressionNode target = cast.getTarget();
 			
-			Type type = target.getType();
-			
-			if(!type.isArithmetic())
+			if(!target.getType().isArithmetic())
 				error(target, "Expected number for cast in constant expression");
 			
-			Number value = evalBigArithmetic(target);
-			
-			if(cast.getType().isInteger())
-				value = ((BigDecimal) value).toBigInteger();
-			
-			return checkBounds(value, cast.getType());
+			return bound(toDouble(target), type);
 		}
 		
 		if(expr instanceof ConditionalExpressionNode cond)
-			return !isZero(evalArithmetic(cond.getCondition()))
-				? evalArithmetic(cond.getWhenTrue())
-				: evalArithmetic(cond.getWhenFalse());
+			return bound(
+				isTrue(cond.getCondition(), false)
+					? toDouble(cond.getWhenTrue())
+					: toDouble(cond.getWhenFalse()),
+				type
+			);
 		
 		if(expr instanceof UnaryExpressionNode unary) {
-			Number target = evalArithmetic(unary.getTarget());
+			if(unary.getOperation() == Punctuator.BITWISE_NOT)
+				error(expr, "Illegal operand for »~«");
 			
-			Number val = null;
+			if(unary.getOperation() == Punctuator.MINUS)
+				return bound(-toDouble(unary.getTarget()), type);
+		}
+		
+		error(expr, "Expression is not constant");
+		return 0;
+	}
+	
+	/*
+	 * Evaluates an expression of a floating point type which does not fit into a 'double'
+	 */
+	private static BigDecimal evalExtended(ExpressionNode expr) {
+		NumericValueType type = numericType(expr.getType());
+		
+		if(expr instanceof NumberLiteralExpressionNode num)
+			return bound(num.getLiteral().toBigDecimal(), type);
+		
+		if(expr instanceof BinaryExpressionNode binary) {
+			Punctuator op = binary.getOperation();
 			
-			if(unary.getOperation() == Punctuator.BITWISE_NOT) {
-				if(!(target instanceof BigInteger bigint))
-					error(expr, "Illegal operand for »~«");
-					
-				else val = bigint.not();
+			if(isBitwise(op))
+				error(binary, "Illegal operands for »%s«", op);
+			
+			if(op == Punctuator.COMMA) {
+				isTrue(binary.getLeft(), false); // the left operand must still be constant
+				
+				return bound(toBigDecimal(binary.getRight()), type);
 			}
-			else if(unary.getOperation() == Punctuator.MINUS) {
-				if(target instanceof BigInteger bigint)
-					val = bigint.negate();
+			
+			BigDecimal a = toBigDecimal(binary.getLeft());
+			BigDecimal b = toBigDecimal(binary.getRight());
+			
+			switch(op) {
+			case ADD:		return bound(a.add(b), type);
+			case SUBTRACT:	return bound(a.subtract(b), type);
+			case MULTIPLY:	return bound(a.multiply(b), type);
+			
+			case DIVIDE:
+				if(b.signum() != 0)
+					return bound(a.divide(b, EXTENDED_CONTEXT), type);
 				
-				else val = ((BigDecimal) target).negate();
+				warn(binary, Warnings.DIVISION_BY_ZERO, "Division by zero");
+				break;
+			
+			default:
+				break;
 			}
+		}
+		
+		if(expr instanceof CastExpressionNode cast) {
+			ExpressionNode target = cast.getTarget();
+			
+			if(!target.getType().isArithmetic())
+				error(target, "Expected number for cast in constant expression");
 			
-			if(val != null)
-				return checkBounds(val, unary.getType());
+			return bound(toBigDecimal(target), type);
+		}
+		
+		if(expr instanceof ConditionalExpressionNode cond)
+			return bound(
+				isTrue(cond.getCondition(), false)
+					? toBigDecimal(cond.getWhenTrue())
+					: toBigDecimal(cond.getWhenFalse()),
+				type
+			);
+		
+		if(expr instanceof UnaryExpressionNode unary) {
+			if(unary.getOperation() == Punctuator.BITWISE_NOT)
+				error(expr, "Illegal operand for »~«");
+			
+			if(unary.getOperation() == Punctuator.MINUS)
+				return bound(toBigDecimal(unary.getTarget()).negate(), type);
 		}
 		
 		error(expr, "Expression is not constant");
 		return null;
 	}
 	
+	// evaluates an arithmetic expression and converts the result into a 'double'
+	private static double toDouble(ExpressionNode expr) {
+		NumericValueType type = numericType(expr.getType());
+		
+		if(!type.isFloating())
+			return toDouble(evalLong(expr, false), type);
+		
+		if(isDoublePrecision(type))
+			return evalDouble(expr);
+		
+		return evalExtended(expr).doubleValue();
+	}
+	
+	// evaluates an arithmetic expression and converts the result into a 'BigDecimal'
+	private static BigDecimal toBigDecimal(ExpressionNode expr) {
+		NumericValueType type = numericType(expr.getType());
+		
+		if(!type.isFloating())
+			return toValue(evalLong(expr, false), type).toBigDecimal();
+		
+		if(isDoublePrecision(type))
+			return new BigDecimal(evalDouble(expr));
+		
+		return evalExtended(expr);
+	}
+	
+	private static int compareFloating(Positioned pos, ExpressionNode left, ExpressionNode right, boolean strict) {
+		if(strict)
+			error(pos, "Illegal floating point number in constant expression");
+		
+		if(isDoublePrecision(numericType(left.getType())) && isDoublePrecision(numericType(right.getType()))) {
+			double a = toDouble(left);
+			double b = toDouble(right);
+			
+			// not using Double.compare, since it would distinguish between 0.0 and -0.0
+			return a < b ? -1 : a > b ? 1 : 0;
+		}
+		
+		return toBigDecimal(left).compareTo(toBigDecimal(right));
+	}
+	
+	/*
+	 * Evaluates an arithmetic expression and checks whether it is non-zero
+	 */
+	private static boolean isTrue(ExpressionNode expr, boolean strict) {
+		NumericValueType type = numericType(expr.getType());
+		
+		if(!type.isFloating())
+			return evalLong(expr, strict) != 0;
+		
+		if(strict)
+			error(expr, "Illegal floating point number in constant expression");
+		
+		if(isDoublePrecision(type))
+			return evalDouble(expr) != 0;
+		
+		return evalExtended(expr).signum() != 0;
+	}
+	
+	private static boolean isZero(BigInteger value) {
+		return value.signum() == 0;
+	}
+	
 	private static final BigInteger TRUE = BigInteger.ONE;
 	
+	
 	public static GlobalVariableInitializer evalAddress(ExpressionNode expr) {
 		AddressState state = evalAddressExpr(expr);
 		
 		if(state.symbol() == null)
-			return new IntegerInitializer(state.offset(), expr.getType().sizeof());
+			return new IntegerInitializer(NumericValue.of(state.offset()), expr.getType().sizeof());
 		
 		if(!state.isAddress())
 			error(expr, "Expression is not constant");
@@ -382,26 +581,24 @@ public class ConstantExpressionEvaluator {
 			return AddressState.ofAddress(var.getVariable(), BigInteger.ZERO);
 		
 		if(expr instanceof NumberLiteralExpressionNode)
-			return AddressState.ofValue(evalInteger(expr));
+			return AddressState.ofValue(evalInteger(expr).toBigInteger());
 		
 		if(expr instanceof BinaryExpressionNode binary) {
 			if(isConstant(binary.getLeft()) && isConstant(binary.getRight()))
-				return AddressState.ofValue(evalInteger(binary));
+				return AddressState.ofValue(evalInteger(binary).toBigInteger());
 			
 			var left = evalAddressExpr(binary.getLeft());
 			
 			Punctuator op = binary.getOperation();
 			
-			if(op == Punctuator.LOGICAL_OR || op == Punctuator.LOGICAL_AND)
-				return AddressState.ofValue(
-					(BigInteger) performLogical(
-						binary,
-						op,
-						left.booleanValue(),
-						() -> evalAddressExpr(binary.getRight()).booleanValue(),
-						binary.getRight().getType()
-					)
-				);
+			if(op == Punctuator.LOGICAL_OR || op == Punctuator.LOGICAL_AND) {
+				boolean value = !isZero(left.booleanValue());
+				
+				if(op == Punctuator.LOGICAL_OR ? !value : value)
+					value = !isZero(evalAddressExpr(binary.getRight()).booleanValue());
+				
+				return AddressState.ofValue(value ? TRUE : BigInteger.ZERO);
+			}
 
 			var right = evalAddressExpr(binary.getRight());
 			
@@ -488,25 +685,23 @@ public class ConstantExpressionEvaluator {
 			
 			if(num.getNumericType().isFloating()) {
 				if(target instanceof NumberLiteralExpressionNode lit)
-					bigint = ((BigDecimal) lit.getLiteral()).toBigInteger();
+					bigint = lit.getLiteral().toBigInteger();
 				
 				else error(target, "Floating point number must be immediate operand of cast in constant expression");
 			}
-			else bigint = evalInteger(target);
+			else bigint = evalInteger(target).toBigInteger();
 			
 			return AddressState.ofValue(bigint);
 		}
 		
 		if(expr instanceof ConditionalExpressionNode cond)
-			return evalAddressExpr(cond.getCondition())
-					.booleanValue()
-					.compareTo(BigInteger.ZERO) != 0
+			return !isZero(evalAddressExpr(cond.getCondition()).booleanValue())
 				? evalAddressExpr(cond.getWhenTrue())
 				: evalAddressExpr(cond.getWhenFalse());
 		
 		if(expr instanceof UnaryExpressionNode unary) {
 			if(isConstant(unary.getTarget()))
-				return AddressState.ofValue(evalInteger(unary.getTarget()));
+				return AddressState.ofValue(evalInteger(unary.getTarget()).toBigInteger());
 
 			AddressState target = evalAddressExpr(unary.getTarget());
 			
@@ -553,7 +748,7 @@ public class ConstantExpressionEvaluator {
 				
 				// floating point division by zero is evaluated at runtime
 				if(op == Punctuator.DIVIDE && binary.getType().isFloating()
-					&& isZero(evalArithmetic(binary.getRight()))) {
+					&& !isTrue(binary.getRight(), false)) {
 					
 					if(ALREADY_WARNED.add(binary))
 						warn(binary, Warnings.DIVISION_BY_ZERO, "Division by zero");
@@ -579,9 +774,9 @@ public class ConstantExpressionEvaluator {
 			if(!isConstant(cond.getCondition()))
 				return false;
 			
-			return isZero(evalInteger(cond.getCondition()))
-				? isConstant(cond.getWhenFalse())
-				: isConstant(cond.getWhenTrue());
+			return isTrue(cond.getCondition(), false)
+				? isConstant(cond.getWhenTrue())
+				: isConstant(cond.getWhenFalse());
 		}
 		
 		return false;
@@ -595,28 +790,6 @@ public class ConstantExpressionEvaluator {
 		Logger.warn(pos, warnings, message, args);
 	}
 	
-	@FunctionalInterface
-	private static interface MathFunction<N> {
-		
-		N calculate(N a, N b);
-		
-	}
-	
-	@FunctionalInterface
-	private static interface LogicalFunction {
-		
-		boolean compare(boolean a, Supplier<Boolean> b);
-		
-		default BigInteger calculate(BigInteger a, Supplier<BigInteger> b) {
-			return intBool(compare(isZero(a), () -> isZero(b.get())));
-		}
-
-		default BigDecimal calculate(BigDecimal a, Supplier<BigDecimal> b) {
-			return decBool(compare(isZero(a), () -> isZero(b.get())));
-		}
-		
-	}
-
 	public static record AddressState(SymbolObject symbol, BigInteger offset, boolean isAddress) {
 		
 		public static AddressState ofValue(BigInteger value) {
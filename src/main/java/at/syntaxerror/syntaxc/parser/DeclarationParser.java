@@ -107,6 +107,11 @@ public class DeclarationParser extends AbstractParser {
 		parser.unmarkTokenState();
 	}
 	
+	@Override
+	public Token lookahead(int k) {
+		return parser.lookahead(k);
+	}
+	
 	@Override
 	public Token readNextToken() {
 		return parser.readNextToken();
@@ -575,8 +580,6 @@ public class DeclarationParser extends AbstractParser {
 		Pair<String, Declarator> nameOrNested = Pair.empty();
 		Position pos = null;
 		
-		mark();
-		
 		/* abstract declarators start with either
 		 * - '*' (pointer)
 		 * - '(' (nested declarator or function postfix)
@@ -585,7 +588,9 @@ public class DeclarationParser extends AbstractParser {
 		 * hence we check for existence of one of these tokens,
 		 * because otherwise it could still be a valid function postfix
 		 */
-		if(skip("(") && equal("*", "(", "[")) {
+		if(equal("(") && peek("*", "(", "[")) {
+			next();
+			
 			Declarator nested = nextAbstractDeclarator();
 			
 			pos = nested.getPosition();
@@ -593,8 +598,6 @@ public class DeclarationParser extends AbstractParser {
 			
 			consume(")");
 		}
-		
-		else reset();
 
 		var postfixes = nextDeclaratorPostfixes(pos, false);
 		
@@ -616,18 +619,16 @@ public class DeclarationParser extends AbstractParser {
 	}
 	
 	private Optional<Declarator> nextOptionalDeclarator() {
-		mark();
+		// skip pointers and parentheses to determine whether the declarator has a name
+		int k = 0;
 		
-		while(skip("*", "(", "[", "const", "volatile"))
-			;
+		Token token = current;
 		
-		if(equal(TokenType.IDENTIFIER)) {
-			reset();
-			
-			return Optional.of(nextDeclarator());
-		}
+		while(token != null && token.is("*", "(", "[", "const", "volatile"))
+			token = lookahead(++k);
 		
-		reset();
+		if(token != null && token.is(TokenType.IDENTIFIER))
+			return Optional.of(nextDeclarator());
 		
 		return Optional.ofNullable(nextAbstractDeclarator(true));
 	}
@@ -845,15 +846,22 @@ public class DeclarationParser extends AbstractParser {
 	}
 	
 	public boolean isTypeName() {
-		if(equal("void", "char", "short", "int", "long", "float", "double",
+		return isTypeName(current);
+	}
+	
+	public boolean isTypeName(Token token) {
+		if(token == null)
+			return false;
+		
+		if(token.is("void", "char", "short", "int", "long", "float", "double",
 				"signed", "unsigned", "struct", "union", "enum", "const", "volatile",
 				"__builtin_va_list"))
 			return true;
 		
-		if(equal(TokenType.IDENTIFIER))
+		if(token.is(TokenType.IDENTIFIER))
 			return Optional.ofNullable(
 				getSymbolTable()
-					.findObject(current.getString())
+					.findObject(token.getString())
 			).map(SymbolObject::isTypedef)
 				.orElse(false);
 		
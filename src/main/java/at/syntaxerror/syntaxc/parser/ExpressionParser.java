@@ -30,10 +30,11 @@ import static at.syntaxerror.syntaxc.parser.helper.ExpressionHelper.newPromote;
 import static at.syntaxerror.syntaxc.parser.helper.ExpressionHelper.newUnary;
 
 import java.math.BigInteger;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Supplier;
 
 import at.syntaxerror.syntaxc.builtin.BuiltinContext;
 import at.syntaxerror.syntaxc.builtin.BuiltinFunction;
@@ -114,6 +115,11 @@ public class ExpressionParser extends AbstractParser {
 		parser.unmarkTokenState();
 	}
 	
+	@Override
+	public Token lookahead(int k) {
+		return parser.lookahead(k);
+	}
+	
 	@Override
 	public Token readNextToken() {
 		return parser.readNextToken();
@@ -123,6 +129,10 @@ public class ExpressionParser extends AbstractParser {
 		return declarationParser.isTypeName();
 	}
 	
+	public boolean isTypeName(Token token) {
+		return declarationParser.isTypeName(token);
+	}
+	
 	public Type nextTypeName() {
 		return declarationParser.nextTypeName();
 	}
@@ -184,9 +194,7 @@ public class ExpressionParser extends AbstractParser {
 		if(equal(TokenType.CONSTANT))
 			return newNumber(
 				getPosition(),
-				current.getNumericType().isFloating()
-					? current.getDecimal()
-					: current.getInteger(),
+				current.getValue(),
 				current.getNumericType().asType()
 			);
 		
@@ -744,23 +752,15 @@ public class ExpressionParser extends AbstractParser {
 			
 			Type type = null;
 			
-			mark();
-			
-			if(optional("(")) {
+			// 'sizeof' '(' type-name ')'
+			if(peek("(") && isTypeName(lookahead(2))) {
 				next();
-
-				if(isTypeName()) {
-					unmark();
-					
-					type = nextTypeName();
-					
-					expect(")");
-				}
-
-				else reset();
+				next();
+				
+				type = nextTypeName();
+				
+				expect(")");
 			}
-			
-			else reset();
 
 			if(type == null) {
 				next();
@@ -792,186 +792,162 @@ public class ExpressionParser extends AbstractParser {
 	 * cast-expression = ( '(' type-name ')' )* unary-expression
 	 */
 	public ExpressionNode nextCast() {
-		mark();
-		
-		if(equal("(")) {
+		if(equal("(") && isTypeName(lookahead(1))) {
 			Position pos = getPosition();
 			
 			next();
 			
-			if(isTypeName()) {
-				unmark();
-				
-				Type type = nextTypeName();
-				
-				consume(")");
-				
-				ExpressionNode target = nextCast();
-				
-				if(!type.isScalar() && !type.isVoid())
-					error(pos, "Cannot cast to non-scalar and non-void type");
-				
-				if(!target.getType().isScalar())
-					error(pos, "Expected scalar type for cast");
-				
-				return newCast(
-					pos,
-					target,
-					type
-				);
-			}
-		}
-		
-		reset();
-		
-		return nextUnary();
-	}
-	
-	/*
-	 * § 6.3.5 Multiplicative operators
-	 * 
-	 * multiplicative-expression = cast-expression ( ( '*' | '/' | '%' ) cast-expression )*
-	 */
-	public ExpressionNode nextMultiplicative() {
-		ExpressionNode exprLeft = nextCast();
-		
-		while(optional("*", "/", "%")) {
-			Token op = current;
-
-			next();
-			ExpressionNode exprRight = nextCast();
+			Type type = nextTypeName();
 			
-			if(op.is("%"))
-				exprLeft = checker.checkModulo(op, exprLeft, exprRight);
+			consume(")");
 			
-			else exprLeft = checker.checkArithmetic(
-				op,
-				exprLeft,
-				exprRight,
-				op.is("/")
-					? "division"
-					: "multiplication"
+			ExpressionNode target = nextCast();
+			
+			if(!type.isScalar() && !type.isVoid())
+				error(pos, "Cannot cast to non-scalar and non-void type");
+			
+			if(!target.getType().isScalar())
+				error(pos, "Expected scalar type for cast");
+			
+			return newCast(
+				pos,
+				target,
+				type
 			);
 		}
 		
-		return exprLeft;
+		return nextUnary();
 	}
 	
 	/*
-	 * § 6.3.6 Additive operators
+	 * § 6.3.5 - § 6.3.14 Binary operators
 	 * 
+	 * multiplicative-expression = cast-expression ( ( '*' | '/' | '%' ) cast-expression )*
 	 * additive-expression = multiplicative-expression ( ( '+' | '-' ) multiplicative-expression )*
+	 * shift-expression = additive-expression ( ( '<<' | '>>' ) additive-expression )*
+	 * relational-expression = shift-expression ( ( '<' | '>' | '<=' | '>=' ) shift-expression )*
+	 * equality-expression = relational-expression ( ( '==' | '!=' ) relational-expression )*
+	 * AND-expression = equality-expression ( '&' equality-expression )*
+	 * exclusive-OR-expression = AND-expression ( '^' AND-expression )*
+	 * inclusive-OR-expression = exclusive-OR-expression ( '|' exclusive-OR-expression )*
+	 * logical-AND-expression = inclusive-OR-expression ( '&&' inclusive-OR-expression )*
+	 * logical-OR-expression = logical-AND-expression ( '||' logical-AND-expression )*
+	 * 
+	 * Instead of descending through one method per precedence level for every operand,
+	 * these rules are parsed using precedence climbing: operators are only looked up in
+	 * a table (see getBinaryPrecedence) and a new call is only entered whenever an
+	 * operator with a higher precedence follows. All operators are left-associative.
 	 */
-	public ExpressionNode nextAdditive() {
-		ExpressionNode exprLeft = nextMultiplicative();
-		
-		while(optional("+", "-")) {
-			Token op = current;
-
-			next();
-			ExpressionNode exprRight = nextMultiplicative();
-			
-			if(op.is("-"))
-				exprLeft = checker.checkSubtraction(op, exprLeft, exprRight);
-			
-			else exprLeft = checker.checkAddition(op, exprLeft, exprRight);
-		}
+	public ExpressionNode nextLogicalOR() {
+		return nextBinary(nextCast(), PRECEDENCE_LOGICAL_OR);
+	}
+	
+	private static final int PRECEDENCE_NONE = 0;
+	private static final int PRECEDENCE_LOGICAL_OR = 1;
+	private static final int PRECEDENCE_LOGICAL_AND = 2;
+	private static final int PRECEDENCE_BITWISE_OR = 3;
+	private static final int PRECEDENCE_BITWISE_XOR = 4;
+	private static final int PRECEDENCE_BITWISE_AND = 5;
+	private static final int PRECEDENCE_EQUALITY = 6;
+	private static final int PRECEDENCE_RELATIONAL = 7;
+	private static final int PRECEDENCE_SHIFT = 8;
+	private static final int PRECEDENCE_ADDITIVE = 9;
+	private static final int PRECEDENCE_MULTIPLICATIVE = 10;
+	
+	// returns the precedence of the binary operator, or PRECEDENCE_NONE if the token is not a binary operator
+	private static int getBinaryPrecedence(Token tok) {
+		if(tok == null || !tok.is(TokenType.PUNCTUATOR))
+			return PRECEDENCE_NONE;
 		
-		return exprLeft;
+		return switch(tok.getPunctuator()) {
+		case MULTIPLY, INDIRECTION, POINTER, DIVIDE, MODULO ->	PRECEDENCE_MULTIPLICATIVE;
+		case ADD, PLUS, SUBTRACT, MINUS ->						PRECEDENCE_ADDITIVE;
+		case LSHIFT, RSHIFT ->									PRECEDENCE_SHIFT;
+		case LESS, GREATER, LESS_EQUAL, GREATER_EQUAL ->		PRECEDENCE_RELATIONAL;
+		case EQUAL, NOT_EQUAL ->								PRECEDENCE_EQUALITY;
+		case BITWISE_AND, ADDRESS_OF ->							PRECEDENCE_BITWISE_AND;
+		case BITWISE_XOR ->										PRECEDENCE_BITWISE_XOR;
+		case BITWISE_OR ->										PRECEDENCE_BITWISE_OR;
+		case LOGICAL_AND ->										PRECEDENCE_LOGICAL_AND;
+		case LOGICAL_OR ->										PRECEDENCE_LOGICAL_OR;
+		default ->												PRECEDENCE_NONE;
+		};
 	}
 	
-	/*
-	 * § 6.3.7 Bitwise shift operators
-	 * 
-	 * shift-expression = additive-expression ( ( '<<' | '>>' ) additive-expression )*
-	 */
-	public ExpressionNode nextShift() {
-		return nextBitwise(this::nextAdditive, "bitwise shift", "<<", ">>");
+	// returns the precedence of the upcoming token, without consuming it
+	private int peekBinaryPrecedence() {
+		return getBinaryPrecedence(lookahead(1));
 	}
 	
 	/*
-	 * § 6.3.8 Relational operators
-	 * 
-	 * relational-expression = shift-expression ( ( '<' | '>' | '<=' | '>=' ) shift-expression )*
+	 * Parses all binary operators with a precedence of at least 'minPrecedence'
+	 * following the already parsed left-hand side operand
 	 */
-	public ExpressionNode nextRelational() {
-		ExpressionNode exprLeft = nextShift();
+	private ExpressionNode nextBinary(ExpressionNode exprLeft, int minPrecedence) {
+		int precedence;
 		
-		while(optional("<", ">", "<=", ">=")) {
+		while((precedence = peekBinaryPrecedence()) >= minPrecedence) {
+			next();
 			Token op = current;
 			
 			next();
-			ExpressionNode exprRight = nextShift();
+			ExpressionNode exprRight = nextCast();
 			
-			exprLeft = checker.checkComparison(op, exprLeft, exprRight);
+			int nextPrecedence;
+			
+			// operators binding tighter than the current one belong to the right-hand side operand
+			while((nextPrecedence = peekBinaryPrecedence()) > precedence)
+				exprRight = nextBinary(exprRight, nextPrecedence);
+			
+			exprLeft = newBinary(op, exprLeft, exprRight);
 		}
 		
 		return exprLeft;
 	}
 	
-	/*
-	 * § 6.3.9 Equality operators
-	 * 
-	 * equality-expression = relational-expression ( ( '==' | '!=' ) relational-expression )*
-	 */
-	public ExpressionNode nextEquality() {
-		ExpressionNode exprLeft = nextRelational();
+	private ExpressionNode newBinary(Token op, ExpressionNode exprLeft, ExpressionNode exprRight) {
+		return switch(op.getPunctuator()) {
+		case MULTIPLY, INDIRECTION, POINTER ->
+			checker.checkArithmetic(op, exprLeft, exprRight, "multiplication");
 		
-		while(optional("==", "!=")) {
-			Token op = current;
-
-			next();
-			ExpressionNode exprRight = nextRelational();
-			
-			exprLeft = checker.checkComparison(op, exprLeft, exprRight);
-		}
+		case DIVIDE ->
+			checker.checkArithmetic(op, exprLeft, exprRight, "division");
 		
-		return exprLeft;
-	}
-	
-	/*
-	 * § 6.3.10 Bitwise AND operator
-	 * 
-	 * AND-expression = equality-expression ( '&' equality-expression )*
-	 */
-	public ExpressionNode nextBitwiseAND() {
-		return nextBitwise(this::nextEquality, "bitwise AND", "&");
-	}
-	
-	/*
-	 * § 6.3.11 Bitwise exclusive OR operator
-	 * 
-	 * exclusive-OR-expression = AND-expression ( '^' AND-expression )*
-	 */
-	public ExpressionNode nextBitwiseXOR() {
-		return nextBitwise(this::nextBitwiseAND, "bitwise XOR", "^");
-	}
-	
-	/*
-	 * § 6.3.12 Logical inclusive OR operator
-	 * 
-	 * inclusive-OR-expression = exclusive-OR-expression ( '|' exclusive-OR-expression )*
-	 */
-	public ExpressionNode nextBitwiseOR() {
-		return nextBitwise(this::nextBitwiseXOR, "bitwise OR", "|");
-	}
-	
-	/*
-	 * § 6.3.13 Logical AND operator
-	 * 
-	 * logical-AND-expression = inclusive-OR-expression ( '&&' inclusive-OR-expression )*
-	 */
-	public ExpressionNode nextLogicalAND() {
-		return nextLogical(this::nextBitwiseOR, "logical AND", "&&");
-	}
-	
-	/*
-	 * § 6.3.14 Logical OR operator
-	 * 
-	 * logical-OR-expression = logical-AND-expression ( '||' logical-AND-expression )*
-	 */
-	public ExpressionNode nextLogicalOR() {
-		return nextLogical(this::nextLogicalAND, "logical OR", "||");
+		case MODULO ->
+			checker.checkModulo(op, exprLeft, exprRight);
+		
+		case ADD, PLUS ->
+			checker.checkAddition(op, exprLeft, exprRight);
+		
+		case SUBTRACT, MINUS ->
+			checker.checkSubtraction(op, exprLeft, exprRight);
+		
+		case LSHIFT, RSHIFT ->
+			checker.checkBitwise(op, exprLeft, exprRight, "bitwise shift");
+		
+		case LESS, GREATER, LESS_EQUAL, GREATER_EQUAL, EQUAL, NOT_EQUAL ->
+			checker.checkComparison(op, exprLeft, exprRight);
+		
+		case BITWISE_AND, ADDRESS_OF ->
+			checker.checkBitwise(op, exprLeft, exprRight, "bitwise AND");
+		
+		case BITWISE_XOR ->
+			checker.checkBitwise(op, exprLeft, exprRight, "bitwise XOR");
+		
+		case BITWISE_OR ->
+			checker.checkBitwise(op, exprLeft, exprRight, "bitwise OR");
+		
+		case LOGICAL_AND ->
+			checker.checkLogical(op, exprLeft, exprRight, "logical AND");
+		
+		case LOGICAL_OR ->
+			checker.checkLogical(op, exprLeft, exprRight, "logical OR");
+		
+		default -> {
+			error(op, "Unknown binary operator »%s«", op.getRaw());
+			yield null;
+		}
+		};
 	}
 	
 	/*
@@ -980,92 +956,111 @@ public class ExpressionParser extends AbstractParser {
 	 * conditional-expression = logical-OR-expression ( '?' expression ':' conditional-expression)?
 	 */
 	public ExpressionNode nextConditional() {
-		ExpressionNode exprCondition = nextLogicalOR();
+		Deque<PendingConditional> pending = new ArrayDeque<>();
+		
+		ExpressionNode expr = nextLogicalOR();
 		
-		if(optional("?")) {
+		/* conditional expressions are right-associative, so 'a ? b : c ? d : e'
+		 * is parsed iteratively and assembled from right to left afterwards
+		 */
+		while(optional("?")) {
 			next();
 			ExpressionNode exprWhenTrue = nextExpression();
 			
 			Position pos = require(":").getPosition();
 
 			next();
-			ExpressionNode exprWhenFalse = nextConditional();
 			
-			Type condition = exprCondition.getType();
-			Type whenTrue = exprWhenTrue.getType();
-			Type whenFalse = exprWhenFalse.getType();
+			pending.push(new PendingConditional(pos, expr, exprWhenTrue));
 			
-			if(!condition.isScalar())
-				error(
-					pos,
-					"Expected number or pointer for ternary condition (got »%s«)",
-					condition
-				);
+			expr = nextLogicalOR();
+		}
+		
+		while(!pending.isEmpty()) {
+			PendingConditional cond = pending.pop();
+			
+			expr = newConditional(cond.pos(), cond.condition(), cond.whenTrue(), expr);
+		}
+		
+		return expr;
+	}
+	
+	private static record PendingConditional(Position pos, ExpressionNode condition, ExpressionNode whenTrue) { }
+	
+	private ExpressionNode newConditional(Position pos, ExpressionNode exprCondition,
+			ExpressionNode exprWhenTrue, ExpressionNode exprWhenFalse) {
+		Type condition = exprCondition.getType();
+		Type whenTrue = exprWhenTrue.getType();
+		Type whenFalse = exprWhenFalse.getType();
+		
+		if(!condition.isScalar())
+			error(
+				pos,
+				"Expected number or pointer for ternary condition (got »%s«)",
+				condition
+			);
 
 
-			Type result = null;
+		Type result = null;
+		
+		do {
+			if(whenTrue.isArithmetic() && whenFalse.isArithmetic()) {
+				result = TypeUtils.convertUsualArithmetic(whenTrue, whenFalse);
+				break;
+			}
 			
-			do {
-				if(whenTrue.isArithmetic() && whenFalse.isArithmetic()) {
-					result = TypeUtils.convertUsualArithmetic(whenTrue, whenFalse);
-					break;
-				}
+			if(TypeUtils.isCompatible(whenTrue, whenFalse)) {
+				if(whenTrue.isPointerLike())
+					result = TypeUtils.inheritPointerQualifiers(whenTrue, whenFalse);
 				
-				if(TypeUtils.isCompatible(whenTrue, whenFalse)) {
-					if(whenTrue.isPointerLike())
-						result = TypeUtils.inheritPointerQualifiers(whenTrue, whenFalse);
-					
-					else result = whenTrue;
-					
-					break;
-				}
+				else result = whenTrue;
 				
-				if((whenTrue.isPointerLike() && TypeUtils.isVoidPointer(whenFalse))
-					|| (whenFalse.isPointerLike() && TypeUtils.isVoidPointer(whenTrue))) {
+				break;
+			}
+			
+			if((whenTrue.isPointerLike() && TypeUtils.isVoidPointer(whenFalse))
+				|| (whenFalse.isPointerLike() && TypeUtils.isVoidPointer(whenTrue))) {
 
-					Type voidPointer;
-					Type typePointer;
-					ExpressionNode voidExpression;
+				Type voidPointer;
+				Type typePointer;
+				ExpressionNode voidExpression;
+				
+				if(TypeUtils.isVoidPointer(whenTrue)) {
+					voidPointer = whenTrue;
+					typePointer = whenFalse;
 					
-					if(TypeUtils.isVoidPointer(whenTrue)) {
-						voidPointer = whenTrue;
-						typePointer = whenFalse;
-						
-						voidExpression = exprWhenTrue;
-					}
-					else {
-						voidPointer = whenFalse;
-						typePointer = whenTrue;
+					voidExpression = exprWhenTrue;
+				}
+				else {
+					voidPointer = whenFalse;
+					typePointer = whenTrue;
 
-						voidExpression = exprWhenFalse;
-					}
-					
-					if(isNullPointer(voidExpression))
-						result = typePointer;
-					
-					else result = TypeUtils.inheritPointerQualifiers(voidPointer, typePointer);
-					
-					break;
+					voidExpression = exprWhenFalse;
 				}
 				
-				error(
-					pos,
-					"Incompatible types for ternary conditional results (got »%s« and »%s«)",
-					whenTrue,
-					whenFalse
-				);
-			} while(false);
+				if(isNullPointer(voidExpression))
+					result = typePointer;
+				
+				else result = TypeUtils.inheritPointerQualifiers(voidPointer, typePointer);
+				
+				break;
+			}
 			
-			return new ConditionalExpressionNode(
+			error(
 				pos,
-				exprCondition,
-				newCast(exprWhenTrue, exprWhenTrue, result),
-				newCast(exprWhenFalse, exprWhenFalse, result),
-				result
+				"Incompatible types for ternary conditional results (got »%s« and »%s«)",
+				whenTrue,
+				whenFalse
 			);
-		}
+		} while(false);
 		
-		return exprCondition;
+		return new ConditionalExpressionNode(
+			pos,
+			exprCondition,
+			newCast(exprWhenTrue, exprWhenTrue, result),
+			newCast(exprWhenFalse, exprWhenFalse, result),
+			result
+		);
 	}
 	
 	private static final Map<Punctuator, Punctuator> ASSIGN_TO_BINARY = Map.of(
@@ -1189,7 +1184,7 @@ public class ExpressionParser extends AbstractParser {
 	}
 	
 	public BigInteger nextIntegerConstantExpression() {
-		return ConstantExpressionEvaluator.evalInteger(nextConstantExpression());
+		return ConstantExpressionEvaluator.evalInteger(nextConstantExpression()).toBigInteger();
 	}
 
 	public Number nextArithmeticConstantExpression() {
@@ -1200,36 +1195,4 @@ public class ExpressionParser extends AbstractParser {
 		return ConstantExpressionEvaluator.evalAddress(nextConstantExpression());
 	}
 	
-	// helper function for bitwise operations (<<, >>, &, ^, |)
-	private ExpressionNode nextBitwise(Supplier<ExpressionNode> next, String name, Object...ops) {
-		ExpressionNode exprLeft = next.get();
-		
-		while(optional(ops)) {
-			Token op = current;
-
-			next();
-			ExpressionNode exprRight = next.get();
-			
-			exprLeft = checker.checkBitwise(op, exprLeft, exprRight, name);
-		}
-		
-		return exprLeft;
-	}
-	
-	// helper function for logical operations (&&, ||)
-	private ExpressionNode nextLogical(Supplier<ExpressionNode> next, String name, Object...ops) {
-		ExpressionNode exprLeft = next.get();
-		
-		while(optional(ops)) {
-			Token op = current;
-
-			next();
-			ExpressionNode exprRight = next.get();
-			
-			exprLeft = checker.checkLogical(op, exprLeft, exprRight, name);
-		}
-		
-		return exprLeft;
-	}
-	
 }
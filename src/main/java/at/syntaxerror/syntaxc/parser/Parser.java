@@ -64,6 +64,10 @@ public class Parser extends AbstractParser {
 	
 	private Stack<Integer> marks;
 	
+	// number of times the token state has been marked for speculative parsing
+	@Getter
+	private int speculations;
+	
 	private SymbolTable globalSymbolTable;
 	
 	private Stack<SymbolTable> symbolTables;
@@ -115,6 +119,7 @@ public class Parser extends AbstractParser {
 	
 	@Override
 	public void markTokenState() {
+		++speculations;
 		marks.push(index);
 	}
 	
@@ -128,6 +133,16 @@ public class Parser extends AbstractParser {
 		marks.pop();
 	}
 	
+	@Override
+	public Token lookahead(int k) {
+		int idx = index + k - 1;
+		
+		if(index < 0 || idx >= tokens.size())
+			return null;
+		
+		return tokens.get(idx);
+	}
+	
 	@Override
 	public Token readNextToken() {
 		if(index < 0 || index >= tokens.size())
@@ -146,7 +161,7 @@ public class Parser extends AbstractParser {
 	}
 	
 	public void leaveScope() {
-		symbolTables.pop();
+		symbolTables.pop().close();
 	}
 
 	public ExpressionNode nextAssignmentExpression() {
@@ -27,8 +27,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Stack;
+import java.util.TreeMap;
 
 import at.syntaxerror.syntaxc.analysis.DataFlowAnalyzer;
 import at.syntaxerror.syntaxc.lexer.Keyword;
@@ -38,11 +40,11 @@ import at.syntaxerror.syntaxc.lexer.TokenType;
 import at.syntaxerror.syntaxc.misc.Pair;
 import at.syntaxerror.syntaxc.misc.config.Flags;
 import at.syntaxerror.syntaxc.misc.config.Warnings;
+import at.syntaxerror.syntaxc.optimizer.ExpressionOptimizer;
 import at.syntaxerror.syntaxc.parser.helper.ExpressionHelper;
 import at.syntaxerror.syntaxc.parser.helper.SymbolHelper.DeclarationState;
 import at.syntaxerror.syntaxc.parser.node.declaration.Declarator;
 import at.syntaxerror.syntaxc.parser.node.declaration.Initializer;
-import at.syntaxerror.syntaxc.parser.node.expression.BinaryExpressionNode;
 import at.syntaxerror.syntaxc.parser.node.expression.ExpressionNode;
 import at.syntaxerror.syntaxc.parser.node.expression.NumberLiteralExpressionNode;
 import at.syntaxerror.syntaxc.parser.node.expression.UnaryExpressionNode;
@@ -54,6 +56,7 @@ import at.syntaxerror.syntaxc.parser.node.statement.JumpStatementNode;
 import at.syntaxerror.syntaxc.parser.node.statement.LabeledStatementNode;
 import at.syntaxerror.syntaxc.parser.node.statement.NullStatementNode;
 import at.syntaxerror.syntaxc.parser.node.statement.StatementNode;
+import at.syntaxerror.syntaxc.parser.node.statement.SwitchStatementNode;
 import at.syntaxerror.syntaxc.serial.InitializerSerializer;
 import at.syntaxerror.syntaxc.symtab.Linkage;
 import at.syntaxerror.syntaxc.symtab.SymbolObject;
@@ -179,6 +182,11 @@ public class StatementParser extends AbstractParser {
 		parser.unmarkTokenState();
 	}
 	
+	@Override
+	public Token lookahead(int k) {
+		return parser.lookahead(k);
+	}
+	
 	@Override
 	public Token readNextToken() {
 		return parser.readNextToken();
@@ -359,10 +367,7 @@ public class StatementParser extends AbstractParser {
 	
 	private Optional<Boolean> checkBooleanValue(ExpressionNode expr) {
 		if(expr instanceof NumberLiteralExpressionNode lit && lit.getType().isInteger())
-			return Optional.of(
-				((BigInteger) lit.getLiteral())
-					.compareTo(BigInteger.ZERO) != 0
-			);
+			return Optional.of(!lit.getLiteral().isZero());
 			
 		return Optional.empty();
 	}
@@ -528,13 +533,12 @@ public class StatementParser extends AbstractParser {
 	 *  
 	 * is equivalent to
 	 * 
-	 * 	 typeof(value) tmp;
-	 * 	 tmp = value;
-	 * 
-	 *   if(tmp == X) goto case_X;
-	 *   if(tmp == Y) goto case_X;
-	 *   if(tmp == Z) goto case_X;
-	 *   goto case_default;
+	 *   switch(value) {
+	 *     case X: goto case_X;
+	 *     case Y: goto case_Y;
+	 *     case Z: goto case_Z;
+	 *     default: goto case_default;
+	 *   }
 	 * 
 	 *   case_X:
 	 *   body_x;
@@ -569,6 +573,9 @@ public class StatementParser extends AbstractParser {
 		
 		consume(")");
 		
+		// the controlling expression is subject to the integral promotions (§ 6.6.4.2)
+		value = ExpressionOptimizer.optimize(ExpressionHelper.newPromote(value));
+		
 		CompoundStatementNode body;
 		StatementNode rawBody = nextStatement();
 		
@@ -578,68 +585,28 @@ public class StatementParser extends AbstractParser {
 		else body = new CompoundStatementNode(rawBody.getPosition(), List.of(rawBody));
 		
 		List<StatementNode> statements = new ArrayList<>();
-
-		SymbolObject valueCache = SymbolObject.temporary(
-			pos.getPosition(),
-			value.getType()
-		);
 		
-		VariableExpressionNode valueVar = new VariableExpressionNode(pos, valueCache);
-		
-		statements.add( // typeof(value) tmp = value;
-			new ExpressionStatementNode(
-				new BinaryExpressionNode(
-					pos,
-					valueVar,
-					value,
-					Punctuator.ASSIGN,
-					value.getType()
-				)
-			)
-		);
+		NavigableMap<BigInteger, String> switchCases = new TreeMap<>();
 		
 		for(var switchCase : caseMap.entrySet()) {
 			
 			if(switchCase.getKey() == null)
 				continue;
 			
-			BigInteger caseValue = switchCase.getKey();
+			// each case constant is converted to the promoted type of the controlling expression
+			BigInteger caseValue = toCaseValue(switchCase.getKey(), value.getType());
 			LabeledStatementNode caseLabel = switchCase.getValue();
 			
-			Position casePos = caseLabel.getPosition();
-			
-			// tmp == X
-			ExpressionNode condition = new BinaryExpressionNode(
-				casePos,
-				valueVar,
-				new NumberLiteralExpressionNode(
-					pos,
-					caseValue,
-					valueVar.getType()
-				),
-				Punctuator.EQUAL,
-				Type.INT
-			);
-			
-			statements.add( // if(tmp == X) goto case_X;
-				newJump(
-					pos,
-					condition,
-					caseLabel.getLabel()
-				)
-			);
+			if(switchCases.putIfAbsent(caseValue, caseLabel.getLabel()) != null)
+				error(caseLabel, Warnings.SEM_NONE, "Duplicate label for »switch« statement");
 		}
 		
-		if(caseMap.containsKey(null)) {
-			// goto case_default;
-			LabeledStatementNode labelDefault = caseMap.get(null);
-			
-			statements.add(newGoto(pos, labelDefault.getLabel()));
-		}
+		String labelDefault = caseMap.containsKey(null)
+			? caseMap.get(null).getLabel() // goto case_default;
+			: getLabelBreak(); // goto brk;
+		
+		statements.add(new SwitchStatementNode(pos, value, switchCases, labelDefault));
 		
-		// goto brk;
-		else statements.add(newGoto(pos, getLabelBreak()));
-
 		statements.add(body);
 		
 		if(!body.getStatements().isEmpty()) {
@@ -666,6 +633,19 @@ public class StatementParser extends AbstractParser {
 			statements
 		);
 	}
+	
+	private static BigInteger toCaseValue(BigInteger value, Type type) {
+		int bits = type.sizeof() * 8;
+		
+		BigInteger modulus = BigInteger.ONE.shiftLeft(bits);
+		
+		value = value.mod(modulus);
+		
+		if(type.isSigned() && value.testBit(bits - 1))
+			value = value.subtract(modulus);
+		
+		return value;
+	}
 
 	/*
 	 * The statement
@@ -22,8 +22,6 @@
  */
 package at.syntaxerror.syntaxc.parser.helper;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.util.Objects;
 
 import at.syntaxerror.syntaxc.lexer.Punctuator;
@@ -34,6 +32,8 @@ import at.syntaxerror.syntaxc.parser.node.expression.ExpressionNode;
 import at.syntaxerror.syntaxc.parser.node.expression.NumberLiteralExpressionNode;
 import at.syntaxerror.syntaxc.parser.node.expression.UnaryExpressionNode;
 import at.syntaxerror.syntaxc.tracking.Positioned;
+import at.syntaxerror.syntaxc.type.NumericValue;
+import at.syntaxerror.syntaxc.type.NumericValueType;
 import at.syntaxerror.syntaxc.type.Type;
 import at.syntaxerror.syntaxc.type.TypeUtils;
 import lombok.experimental.UtilityClass;
@@ -104,13 +104,15 @@ public class ExpressionHelper {
 		if(oldFloat && !newFloat)
 			return literal;
 		
-		if(!newType.toNumber().getNumericType().inRange(literal.getLiteral()))
+		NumericValueType numType = newType.toNumber().getNumericType();
+		
+		if(!numType.inRange(literal.getLiteral()))
 			return literal;
 		
-		Number value = literal.getLiteral();
+		NumericValue value = literal.getLiteral();
 		
 		if(!oldFloat && newFloat)
-			value = new BigDecimal((BigInteger) value);
+			value = NumericValue.of(value.toBigDecimal(), numType);
 
 		return new NumberLiteralExpressionNode(
 			literal.getPosition(),
@@ -133,7 +135,7 @@ public class ExpressionHelper {
 	
 	public static boolean isNullPointer(ExpressionNode expr) {
 		return ConstantExpressionEvaluator.isConstant(expr)
-			&& ConstantExpressionEvaluator.evalInteger(expr).compareTo(BigInteger.ZERO) == 0;
+			&& ConstantExpressionEvaluator.evalInteger(expr).isZero();
 	}
 	
 }
@@ -23,24 +23,29 @@
 package at.syntaxerror.syntaxc.parser.node.expression;
 
 import at.syntaxerror.syntaxc.tracking.Position;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.Type;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 /**
  * @author Thomas Kasper
  * 
  */
-@RequiredArgsConstructor
 @Getter
 @ToString(exclude = "position")
 public class NumberLiteralExpressionNode extends ExpressionNode {
 
 	private final Position position;
-	private final Number literal;
+	private final NumericValue literal;
 	private final Type type;
 	
+	public NumberLiteralExpressionNode(Position position, Number literal, Type type) {
+		this.position = position;
+		this.literal = NumericValue.of(literal);
+		this.type = type;
+	}
+	
 	@Override
 	public String getLeafName() {
 		return type.toString() + " " + literal;
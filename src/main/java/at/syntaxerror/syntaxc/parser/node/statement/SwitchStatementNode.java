@@ -0,0 +1,70 @@
+/* MIT License
+ * 
+ * Copyright (c) 2022 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.syntaxc.parser.node.statement;
+
+import static at.syntaxerror.syntaxc.parser.tree.SyntaxTreeNode.child;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+
+import at.syntaxerror.syntaxc.misc.Pair;
+import at.syntaxerror.syntaxc.parser.node.expression.ExpressionNode;
+import at.syntaxerror.syntaxc.parser.tree.SyntaxTreeNode;
+import at.syntaxerror.syntaxc.tracking.Position;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Multi-way jump to the label associated with the value of an integer expression,
+ * or to {@code defaultLabel} if there is no such label
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+@RequiredArgsConstructor
+@Getter
+@ToString(exclude = "position")
+public class SwitchStatementNode extends StatementNode {
+	
+	private final Position position;
+	private final ExpressionNode value;
+	private final NavigableMap<BigInteger, String> cases;
+	private final String defaultLabel;
+	
+	@Override
+	public List<Pair<String, SyntaxTreeNode>> getChildren() {
+		List<Pair<String, SyntaxTreeNode>> children = new ArrayList<>();
+		
+		children.add(child("value", value));
+		
+		cases.forEach((caseValue, label) -> children.add(child("case " + caseValue, label)));
+		
+		children.add(child("default", defaultLabel));
+		
+		return children;
+	}
+	
+}
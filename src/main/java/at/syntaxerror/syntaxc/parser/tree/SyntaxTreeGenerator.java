@@ -27,10 +27,14 @@ import static guru.nidi.graphviz.model.Factory.node;
 import static guru.nidi.graphviz.model.Factory.to;
 
 import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 
 import at.syntaxerror.syntaxc.logger.Logger;
 import at.syntaxerror.syntaxc.misc.GraphUtils;
+import at.syntaxerror.syntaxc.misc.Pair;
 import at.syntaxerror.syntaxc.misc.config.Flags;
 import at.syntaxerror.syntaxc.parser.node.SymbolNode;
 import guru.nidi.graphviz.attribute.Label;
@@ -39,6 +43,7 @@ import guru.nidi.graphviz.attribute.Rank.RankDir;
 import guru.nidi.graphviz.engine.Graphviz;
 import guru.nidi.graphviz.model.Graph;
 import guru.nidi.graphviz.model.Node;
+import lombok.AllArgsConstructor;
 
 /**
  * @author Thomas Kasper
@@ -80,19 +85,58 @@ public class SyntaxTreeGenerator {
 		return node("node" + counter++);
 	}
 	
-	private Node visit(Node parent, String name, SyntaxTreeNode node) {
+	private Node label(String name, SyntaxTreeNode node) {
 		Node self = next();
 		
 		if(name != null)
-			self = self.with(Label.of(name + '\n' + node.getLeafName()));
+			return self.with(Label.of(name + '\n' + node.getLeafName()));
+		
+		return self.with(Label.of(node.getLeafName()));
+	}
+	
+	/*
+	 * Visits the tree using an explicit stack instead of recursion, since
+	 * expressions (e.g. long chains of binary operators) can be nested arbitrarily deep.
+	 * Since nodes are immutable, a node is only linked to its parent once all
+	 * of its children have been linked to it.
+	 */
+	private Node visit(Node parent, String name, SyntaxTreeNode node) {
+		Deque<Frame> stack = new ArrayDeque<>();
 		
-		else self = self.with(Label.of(node.getLeafName()));
+		stack.push(new Frame(label(name, node), node.getChildren().iterator()));
+		
+		while(true) {
+			Frame frame = stack.peek();
+			
+			if(frame.children.hasNext()) {
+				var child = frame.children.next();
+				
+				if(child != null && child.getRight() != null)
+					stack.push(new Frame(
+						label(child.getLeft(), child.getRight()),
+						child.getRight().getChildren().iterator()
+					));
+				
+				continue;
+			}
+			
+			stack.pop();
+			
+			if(stack.isEmpty())
+				return parent.link(to(frame.self));
+			
+			Frame enclosing = stack.peek();
+			
+			enclosing.self = enclosing.self.link(to(frame.self));
+		}
+	}
+	
+	@AllArgsConstructor
+	private static class Frame {
 		
-		for(var child : node.getChildren())
-			if(child != null && child.getRight() != null)
-				self = visit(self, child.getLeft(), child.getRight());
+		private Node self;
+		private final Iterator<Pair<String, SyntaxTreeNode>> children;
 		
-		return parent.link(to(self));
 	}
 
 }
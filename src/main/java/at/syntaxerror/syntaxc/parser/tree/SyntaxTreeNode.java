@@ -101,9 +101,7 @@ public interface SyntaxTreeNode {
 		case CONSTANT:
 			return child(
 				name,
-				token.getNumericType().isFloating()
-					? token.getDecimal()
-					: token.getInteger(),
+				token.getValue(),
 				token.getNumericType()
 			);
 		
@@ -23,8 +23,11 @@
 package at.syntaxerror.syntaxc.preprocessor;
 
 import at.syntaxerror.syntaxc.io.CharStream;
+import at.syntaxerror.syntaxc.io.CharStream.Mark;
 import at.syntaxerror.syntaxc.lexer.CommonLexer;
 import at.syntaxerror.syntaxc.lexer.Token;
+import at.syntaxerror.syntaxc.logger.Logger;
+import lombok.Setter;
 
 /**
  * This class represents the lexer used for pre-processing
@@ -34,8 +37,42 @@ import at.syntaxerror.syntaxc.lexer.Token;
  */
 public class PreLexer extends CommonLexer {
 
+	private final CharStream input;
+	
+	@Setter
+	private TokenCache cache;
+	
 	public PreLexer(CharStream input) {
 		super(true, true, input);
+		this.input = input;
+	}
+	
+	/**
+	 * Returns the next token. If a {@link TokenCache} is present, the token is
+	 * replayed from the cache if possible, and recorded otherwise. Tokens whose
+	 * lexing reported a diagnostic are not recorded.
+	 * 
+	 * @return the next token
+	 */
+	public Token nextCachedToken() {
+		if(cache == null)
+			return nextToken();
+		
+		Mark start = input.getState();
+		
+		Token tok = cache.replay(input, start);
+		
+		if(tok != null)
+			return tok;
+		
+		int reportCount = Logger.reportCount;
+		
+		tok = nextToken();
+		
+		if(tok != null && Logger.reportCount == reportCount)
+			cache.record(start, input.getState(), tok);
+		
+		return tok;
 	}
 
 	/* § 6.1.7 Header names */
@@ -37,6 +37,7 @@ import at.syntaxerror.syntaxc.parser.node.expression.ExpressionNode;
 import at.syntaxerror.syntaxc.symtab.SymbolTable;
 import at.syntaxerror.syntaxc.tracking.Position;
 import at.syntaxerror.syntaxc.tracking.Positioned;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.NumericValueType;
 import at.syntaxerror.syntaxc.type.Type;
 
@@ -134,7 +135,7 @@ public class PreParser extends ExpressionParser implements Logable {
 		if(tok.is(TokenType.CHARACTER))
 			return Token.ofConstant(
 				tok.getPosition(),
-				tok.getInteger(),
+				tok.getValue(),
 				NumericValueType.SIGNED_INT
 			);
 		
@@ -154,8 +155,8 @@ public class PreParser extends ExpressionParser implements Logable {
 		return ExpressionHelper.newNumber(
 			pos,
 			preprocessor.resolveMacro(macro.getString()) == null
-				? BigInteger.ZERO
-				: BigInteger.ONE,
+				? NumericValue.ZERO
+				: NumericValue.ONE,
 			Type.INT
 		);
 	}
@@ -174,7 +175,7 @@ public class PreParser extends ExpressionParser implements Logable {
 				next();
 				return ExpressionHelper.newNumber(
 					previous,
-					BigInteger.ZERO,
+					NumericValue.ZERO,
 					Type.INT
 				);
 			}
@@ -184,7 +185,7 @@ public class PreParser extends ExpressionParser implements Logable {
 				
 				inserted.add(Token.ofConstant(
 					current.getPosition(),
-					BigInteger.ZERO,
+					NumericValue.ZERO,
 					NumericValueType.SIGNED_INT
 				));
 			}
@@ -136,7 +136,7 @@ public class Preprocessor implements Logable, PreprocessorView, SubstitutionHelp
 	
 	@Override
 	public Token nextTokenRaw() {
-		Token tok = lexer.nextToken(); 
+		Token tok = lexer.nextCachedToken(); 
 		
 		if(tok != null)
 			previous = current;
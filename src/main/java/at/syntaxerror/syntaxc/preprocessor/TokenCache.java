@@ -0,0 +1,508 @@
+/* MIT License
+ * 
+ * Copyright (c) 2022 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.syntaxc.preprocessor;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import at.syntaxerror.syntaxc.io.CharStream;
+import at.syntaxerror.syntaxc.io.CharStream.Mark;
+import at.syntaxerror.syntaxc.lexer.Punctuator;
+import at.syntaxerror.syntaxc.lexer.Token;
+import at.syntaxerror.syntaxc.lexer.TokenType;
+import at.syntaxerror.syntaxc.misc.IncludePathRegistry;
+import at.syntaxerror.syntaxc.misc.config.Flags;
+import at.syntaxerror.syntaxc.tracking.Position;
+import at.syntaxerror.syntaxc.type.NumericValue;
+
+/**
+ * This class represents an on-disk cache for the raw preprocessing tokens of a system header.
+ * 
+ * Since the raw tokens of a file do not depend on any macro state, they can be replayed
+ * by the {@link PreLexer} instead of lexing the file again. Tokens are recorded by
+ * the offset (in bytes) they start at, so the cache stays valid regardless of which parts
+ * of the file are actually processed (e.g. header names are never cached).
+ * 
+ * Each cache file is keyed by the path, size, modification time and SHA-256 hash of the header.
+ * The hash is only computed if the size and modification time match, or when the cache is written.
+ * Tokens whose lexing reported a diagnostic are never recorded, so that they are lexed (and the
+ * diagnostic is reported) again whenever the header is included.
+ * 
+ * The cache is disabled by default and enabled via {@code -fheader-cache[=directory]}.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public class TokenCache {
+	
+	private static final String DEFAULT_DIRECTORY = Paths.get(System.getProperty("user.home"), ".cache", "syntaxc").toString();
+	
+	private static final int MAGIC = 0x53435443; // 'SCTC'
+	private static final int VERSION = 1;
+	
+	private static final int HASH_SIZE = 32;
+	
+	private static final TokenType[] TYPES = TokenType.values();
+	
+	private static final Map<Path, TokenCache> CACHES = new HashMap<>();
+	
+	/**
+	 * Returns the token cache for the given header, or {@code null} if the
+	 * header is not eligible for caching (i.e. it is not a system header)
+	 * 
+	 * @param header the header file
+	 * @return the token cache
+	 */
+	public static TokenCache forHeader(Path header) {
+		if(!Flags.HEADER_CACHE.isEnabled() || !IncludePathRegistry.isSystemHeader(header))
+			return null;
+		
+		Path path = header.toAbsolutePath().normalize();
+		
+		return CACHES.computeIfAbsent(path, TokenCache::load);
+	}
+	
+	private static TokenCache load(Path path) {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+			
+			TokenCache cache = new TokenCache(
+				path,
+				getDirectory().resolve(HexFormat.of().formatHex(sha256(path.toString().getBytes(StandardCharsets.UTF_8))) + ".tok"),
+				attributes.size(),
+				attributes.lastModifiedTime().toMillis()
+			);
+			
+			if(Files.isRegularFile(cache.file))
+				try(DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cache.file)))) {
+					cache.read(in);
+				} catch(Exception e) {
+					// ignore malformed cache files, they are overwritten later on
+					cache.entries.clear();
+				}
+			
+			return cache;
+		} catch(Exception e) {
+			return null;
+		}
+	}
+	
+	private static Path getDirectory() {
+		String directory = Flags.HEADER_CACHE.getValue();
+		
+		return Paths.get(directory == null || directory.isEmpty() ? DEFAULT_DIRECTORY : directory);
+	}
+	
+	private static byte[] sha256(byte[] data) throws NoSuchAlgorithmException {
+		return MessageDigest.getInstance("SHA-256").digest(data);
+	}
+	
+	private final Path path;
+	private final Path file;
+	private final long size;
+	private final long modified;
+	
+	private final Map<Long, Entry> entries = new HashMap<>();
+	
+	private byte[] hash;
+	
+	private boolean dirty;
+	
+	private TokenCache(Path path, Path file, long size, long modified) {
+		this.path = path;
+		this.file = file;
+		this.size = size;
+		this.modified = modified;
+	}
+	
+	// hashing requires reading the whole header, which is only done when necessary
+	private byte[] getHash() throws IOException, NoSuchAlgorithmException {
+		if(hash == null)
+			hash = sha256(Files.readAllBytes(path));
+		
+		return hash;
+	}
+	
+	/**
+	 * Reconstructs the token starting at the current position of the stream.
+	 * If such a token exists, the stream is advanced to the end of the token.
+	 * 
+	 * @param stream the stream
+	 * @param start the current state of the stream
+	 * @return the replayed token, or {@code null} if no such token is cached
+	 */
+	public Token replay(CharStream stream, Mark start) {
+		Entry entry = entries.get(start.bytenum());
+		
+		if(entry == null)
+			return null;
+		
+		long[] d = entry.deltas;
+		
+		Position position = new Position(
+			start.bytenum() + d[0],
+			start.pos() + d[1],
+			start.col() + d[2],
+			start.line() + d[3],
+			d[4],
+			stream,
+			Set.of(),
+			null
+		);
+		
+		stream.setState(new Mark(
+			start.bytenum() + d[5],
+			start.pos() + d[6],
+			start.col() + d[7],
+			start.line() + d[8]
+		));
+		
+		return switch(entry.type) {
+		case IDENTIFIER ->	Token.ofIdentifier(position, entry.string);
+		case STRING ->		Token.ofString(position, entry.string, entry.wide).setRaw(entry.raw);
+		case CHARACTER ->	Token.ofCharacter(position, NumericValue.of(entry.value), entry.wide).setRaw(entry.raw);
+		case PUNCTUATOR ->	Token.ofPunctuator(position, Punctuator.of(entry.raw));
+		case NUMBER ->		Token.ofNumber(position, entry.string);
+		case WHITESPACE ->	Token.ofWhitespace(position);
+		case NEWLINE ->		Token.ofNewline(position);
+		case UNPARSEABLE ->	Token.ofUnparseable(position, (int) entry.value);
+		default -> null;
+		};
+	}
+	
+	/**
+	 * Records a token that has just been lexed
+	 * 
+	 * @param start the state of the stream before the token was lexed
+	 * @param end the state of the stream after the token was lexed
+	 * @param token the token
+	 */
+	public void record(Mark start, Mark end, Token token) {
+		Entry entry = new Entry();
+		
+		entry.type = token.getType();
+		
+		switch(entry.type) {
+		case IDENTIFIER:
+		case NUMBER:
+			entry.string = token.getString();
+			break;
+		
+		case STRING:
+			entry.string = token.getString();
+			entry.raw = token.getRaw();
+			entry.wide = token.isWide();
+			break;
+		
+		case CHARACTER:
+			entry.value = token.getValue().longValue();
+			entry.raw = token.getRaw();
+			entry.wide = token.isWide();
+			break;
+		
+		case PUNCTUATOR:
+			entry.raw = token.getPunctuator().getName();
+			break;
+		
+		case UNPARSEABLE:
+			entry.value = token.getRaw().codePointAt(0);
+			break;
+		
+		case WHITESPACE:
+		case NEWLINE:
+			break;
+		
+		default:
+			return;
+		}
+		
+		Position pos = token.getPosition();
+		
+		entry.deltas = new long[] {
+			pos.bytenum() - start.bytenum(),
+			pos.position() - start.pos(),
+			pos.column() - start.col(),
+			pos.line() - start.line(),
+			pos.length(),
+			end.bytenum() - start.bytenum(),
+			end.pos() - start.pos(),
+			end.col() - start.col(),
+			end.line() - start.line()
+		};
+		
+		entries.put(start.bytenum(), entry);
+		dirty = true;
+	}
+	
+	/**
+	 * Writes the cache to disk, if any new tokens have been recorded
+	 */
+	public void save() {
+		if(!dirty)
+			return;
+		
+		dirty = false;
+		
+		try {
+			Files.createDirectories(file.getParent());
+			
+			Path temp = Files.createTempFile(file.getParent(), "syntaxc", ".tmp");
+			
+			try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				write(out);
+			}
+			
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch(Exception e) {
+			// the cache is merely an optimization, failing to write it is not an error
+		}
+	}
+	
+	/*
+	 * File format:
+	 * 
+	 * 	u32		magic ('SCTC')
+	 * 	u32		version
+	 * 	utf		path
+	 * 	u64		size
+	 * 	u64		modification time
+	 * 	u8[32]	SHA-256 hash of the content
+	 * 	var		number of spellings
+	 * 	utf[]	spellings
+	 * 	var		number of tokens
+	 * 	token[]	tokens (ordered by offset)
+	 * 
+	 * Token:
+	 * 
+	 * 	u8		type (bits 0-6) and wide flag (bit 7)
+	 * 	var		offset relative to the previous token
+	 * 	var[9]	position and end state relative to the offset (zig-zag encoded)
+	 * 	...		type-specific data (spelling indices or values)
+	 * 
+	 * var denotes a variable-length unsigned integer (7 bits per byte)
+	 */
+	
+	private void write(DataOutputStream out) throws IOException, NoSuchAlgorithmException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeUTF(path.toString());
+		out.writeLong(size);
+		out.writeLong(modified);
+		out.write(getHash());
+		
+		Map<String, Integer> indices = new HashMap<>();
+		List<String> spellings = new ArrayList<>();
+		
+		Map<Long, Entry> sorted = new TreeMap<>(entries);
+		
+		for(Entry entry : sorted.values())
+			for(String spelling : new String[] { entry.string, entry.raw })
+				if(spelling != null && !indices.containsKey(spelling)) {
+					indices.put(spelling, spellings.size());
+					spellings.add(spelling);
+				}
+		
+		writeVar(out, spellings.size());
+		
+		for(String spelling : spellings)
+			out.writeUTF(spelling);
+		
+		writeVar(out, sorted.size());
+		
+		long previous = 0;
+		
+		for(var mapping : sorted.entrySet()) {
+			long offset = mapping.getKey();
+			Entry entry = mapping.getValue();
+			
+			out.writeByte(entry.type.ordinal() | (entry.wide ? 0x80 : 0));
+			writeVar(out, offset - previous);
+			
+			for(long delta : entry.deltas)
+				writeVar(out, (delta << 1) ^ (delta >> 63));
+			
+			switch(entry.type) {
+			case IDENTIFIER:
+			case NUMBER:
+				writeVar(out, indices.get(entry.string));
+				break;
+			
+			case STRING:
+				writeVar(out, indices.get(entry.string));
+				writeVar(out, indices.get(entry.raw));
+				break;
+			
+			case CHARACTER:
+				writeVar(out, indices.get(entry.raw));
+				writeVar(out, (entry.value << 1) ^ (entry.value >> 63));
+				break;
+			
+			case PUNCTUATOR:
+				writeVar(out, indices.get(entry.raw));
+				break;
+			
+			case UNPARSEABLE:
+				writeVar(out, entry.value);
+				break;
+			
+			default:
+				break;
+			}
+			
+			previous = offset;
+		}
+	}
+	
+	private void read(DataInputStream in) throws IOException, NoSuchAlgorithmException {
+		if(in.readInt() != MAGIC
+			|| in.readInt() != VERSION
+			|| !in.readUTF().equals(path.toString())
+			|| in.readLong() != size
+			|| in.readLong() != modified)
+			return;
+		
+		byte[] hash = new byte[HASH_SIZE];
+		in.readFully(hash);
+		
+		if(!Arrays.equals(hash, getHash()))
+			return;
+		
+		String[] spellings = new String[(int) readVar(in)];
+		
+		for(int i = 0; i < spellings.length; ++i)
+			spellings[i] = in.readUTF();
+		
+		long count = readVar(in);
+		long offset = 0;
+		
+		for(long i = 0; i < count; ++i) {
+			Entry entry = new Entry();
+			
+			int type = in.readUnsignedByte();
+			
+			entry.type = TYPES[type & 0x7F];
+			entry.wide = (type & 0x80) != 0;
+			
+			offset += readVar(in);
+			
+			entry.deltas = new long[9];
+			
+			for(int j = 0; j < entry.deltas.length; ++j) {
+				long delta = readVar(in);
+				entry.deltas[j] = (delta >>> 1) ^ -(delta & 1);
+			}
+			
+			switch(entry.type) {
+			case IDENTIFIER:
+			case NUMBER:
+				entry.string = spellings[(int) readVar(in)];
+				break;
+			
+			case STRING:
+				entry.string = spellings[(int) readVar(in)];
+				entry.raw = spellings[(int) readVar(in)];
+				break;
+			
+			case CHARACTER:
+				entry.raw = spellings[(int) readVar(in)];
+				
+				long value = readVar(in);
+				entry.value = (value >>> 1) ^ -(value & 1);
+				break;
+			
+			case PUNCTUATOR:
+				entry.raw = spellings[(int) readVar(in)];
+				break;
+			
+			case UNPARSEABLE:
+				entry.value = readVar(in);
+				break;
+			
+			default:
+				break;
+			}
+			
+			entries.put(offset, entry);
+		}
+	}
+	
+	private static void writeVar(DataOutputStream out, long value) throws IOException {
+		while((value & ~0x7FL) != 0) {
+			out.writeByte((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		
+		out.writeByte((int) value);
+	}
+	
+	private static long readVar(DataInputStream in) throws IOException {
+		long value = 0;
+		
+		for(int shift = 0; shift < 64; shift += 7) {
+			int b = in.readUnsignedByte();
+			
+			value |= (long) (b & 0x7F) << shift;
+			
+			if((b & 0x80) == 0)
+				return value;
+		}
+		
+		throw new IOException("Malformed variable-length integer");
+	}
+	
+	private static class Entry {
+		
+		TokenType type;
+		String string;
+		String raw;
+		long value;
+		boolean wide;
+		
+		/* position (bytenum, position, column, line, length)
+		 * and end state (bytenum, position, column, line),
+		 * relative to the state of the stream before the token
+		 */
+		long[] deltas;
+		
+	}
+
+}
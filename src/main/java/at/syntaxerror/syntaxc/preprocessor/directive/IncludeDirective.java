@@ -32,6 +32,7 @@ import at.syntaxerror.syntaxc.lexer.Token;
 import at.syntaxerror.syntaxc.lexer.TokenType;
 import at.syntaxerror.syntaxc.misc.IncludePathRegistry;
 import at.syntaxerror.syntaxc.preprocessor.Preprocessor;
+import at.syntaxerror.syntaxc.preprocessor.TokenCache;
 import at.syntaxerror.syntaxc.tracking.Position;
 
 /**
@@ -209,7 +210,17 @@ public class IncludeDirective extends Directive {
 			getPosition()
 		);
 		
-		return new Preprocessor(stream, getPreprocessor()).preprocess();
+		TokenCache cache = TokenCache.forHeader(path);
+		
+		Preprocessor preprocessor = new Preprocessor(stream, getPreprocessor());
+		preprocessor.getLexer().setCache(cache);
+		
+		List<Token> tokens = preprocessor.preprocess();
+		
+		if(cache != null)
+			cache.save();
+		
+		return tokens;
 	}
 
 }
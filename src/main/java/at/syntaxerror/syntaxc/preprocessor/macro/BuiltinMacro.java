@@ -37,6 +37,7 @@ import at.syntaxerror.syntaxc.SyntaxC;
 import at.syntaxerror.syntaxc.lexer.Token;
 import at.syntaxerror.syntaxc.preprocessor.Preprocessor;
 import at.syntaxerror.syntaxc.tracking.Position;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.NumericValueType;
 
 /**
@@ -252,7 +253,7 @@ public record BuiltinMacro(String name, Function<Token, List<Token>> function, b
 		if(value instanceof BigInteger bigint)
 			return Token.ofConstant(
 				token.getPosition(),
-				type.mask(bigint),
+				NumericValue.of(type.mask(bigint)),
 				type
 			).setRaw(bigint.toString());
 		
@@ -263,11 +264,14 @@ public record BuiltinMacro(String name, Function<Token, List<Token>> function, b
 		
 		return Token.ofConstant(
 			token.getPosition(),
-			type.inRange(bigdec)
-				? bigdec
-				: bigdec.compareTo((BigDecimal) type.getMax()) > 0
-					? (BigDecimal) type.getMax()
-					: (BigDecimal) type.getMin(),
+			NumericValue.of(
+				type.inRange(bigdec)
+					? bigdec
+					: bigdec.compareTo((BigDecimal) type.getMax()) > 0
+						? (BigDecimal) type.getMax()
+						: (BigDecimal) type.getMin(),
+				type
+			),
 			type
 		).setRaw(bigdec.toEngineeringString());
 	}
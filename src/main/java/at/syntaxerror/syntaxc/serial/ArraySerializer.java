@@ -35,6 +35,7 @@ import at.syntaxerror.syntaxc.serial.proc.Accumulator;
 import at.syntaxerror.syntaxc.serial.proc.ArrayElementProcessor;
 import at.syntaxerror.syntaxc.serial.proc.ArrayStringProcessor;
 import at.syntaxerror.syntaxc.serial.proc.PaddingProcessor;
+import at.syntaxerror.syntaxc.symtab.global.ArrayInitializer;
 import at.syntaxerror.syntaxc.symtab.global.GlobalVariableInitializer;
 import at.syntaxerror.syntaxc.symtab.global.ListInitializer;
 import at.syntaxerror.syntaxc.symtab.global.ZeroInitializer;
@@ -51,6 +52,22 @@ import lombok.experimental.UtilityClass;
 public class ArraySerializer {
 
 	protected static GlobalVariableInitializer serialize(Type type, Initializer initializer) {
+		Type elementType = type.toArray().getBase();
+		
+		/* store the elements of arrays of arithmetic types in a primitive array
+		 * instead of one IntegerInitializer per element (e.g. for large lookup tables)
+		 */
+		if(elementType.isArithmetic() && elementType.sizeof() <= Long.BYTES)
+			return process(
+				type,
+				initializer,
+				new ArrayInitializer(elementType.sizeof()),
+				StringSerializer::serialize,
+				(idx, offset, init, base) -> List.of(InitializerSerializer.serialize(base, init)),
+				(pos, offset, length) -> new ZeroInitializer(length),
+				ArrayInitializer::add
+			);
+		
 		return process(
 			type,
 			initializer,
@@ -85,7 +102,7 @@ public class ArraySerializer {
 				base,
 				init
 			),
-			InitializerSerializer.padding(target),
+			InitializerSerializer.padding(target, targetOffset),
 			List::add
 		);
 	}
@@ -22,13 +22,11 @@
  */
 package at.syntaxerror.syntaxc.serial;
 
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
 
 import at.syntaxerror.syntaxc.logger.Logger;
-import at.syntaxerror.syntaxc.misc.IEEE754Utils;
 import at.syntaxerror.syntaxc.misc.config.Warnings;
 import at.syntaxerror.syntaxc.optimizer.ExpressionOptimizer;
 import at.syntaxerror.syntaxc.parser.ConstantExpressionEvaluator;
@@ -45,6 +43,7 @@ import at.syntaxerror.syntaxc.serial.proc.PaddingProcessor;
 import at.syntaxerror.syntaxc.symtab.global.GlobalVariableInitializer;
 import at.syntaxerror.syntaxc.symtab.global.IntegerInitializer;
 import at.syntaxerror.syntaxc.tracking.Position;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.NumericValueType;
 import at.syntaxerror.syntaxc.type.Type;
 import lombok.experimental.UtilityClass;
@@ -56,11 +55,12 @@ import lombok.experimental.UtilityClass;
 @UtilityClass
 public class InitializerSerializer {
 	
-	protected static PaddingProcessor<ExpressionNode> padding(VariableExpressionNode target) {
+	// the offset of nested arrays and structs within the target has to be added to the padding's offset
+	protected static PaddingProcessor<ExpressionNode> padding(VariableExpressionNode target, int targetOffset) {
 		return (pos, offset, length) -> MemsetExpressionNode.memzero(
 			pos,
 			target.getVariable(),
-			offset,
+			targetOffset + offset,
 			length
 		);
 	}
@@ -103,29 +103,38 @@ public class InitializerSerializer {
 	private static GlobalVariableInitializer serializeInteger(Type type, Initializer initializer, int integerBitWidth) {
 		NumericValueType numericType = type.toNumber().getNumericType();
 		
-		BigInteger bigint = ConstantExpressionEvaluator.evalInteger(initializer.getExpression());
+		NumericValue value = ConstantExpressionEvaluator.evalInteger(initializer.getExpression());
 		
-		if(!numericType.inRange(bigint) || bigint.bitCount() > integerBitWidth)
+		boolean inRange = numericType.inRange(value);
+		
+		if(!inRange || bitCount(value) > integerBitWidth)
 			Logger.warn(initializer, Warnings.INITIALIZER_OVERFLOW, "Integer is too large for initialization");
 		
 		return new IntegerInitializer(
-			numericType.mask(bigint),
+			inRange
+				? value
+				: NumericValue.of(numericType.mask(value.toBigInteger())),
 			numericType.getSize()
 		);
 	}
 	
+	// equivalent to BigInteger#bitCount
+	private static int bitCount(NumericValue value) {
+		if(value.isBig())
+			return value.toBigInteger().bitCount();
+		
+		long integer = value.longValue();
+		
+		return Long.bitCount(integer < 0 ? ~integer : integer);
+	}
+	
 	private static GlobalVariableInitializer serializeFloating(Type type, Initializer initializer) {
 		NumericValueType numericType = type.toNumber().getNumericType();
 		
-		Number result = ConstantExpressionEvaluator.evalArithmetic(initializer.getExpression());
+		NumericValue result = ConstantExpressionEvaluator.evalArithmetic(initializer.getExpression());
 		
 		return new IntegerInitializer(
-			IEEE754Utils.decimalToFloat(
-				result instanceof BigInteger bigint
-					? new BigDecimal(bigint)
-					: (BigDecimal) result,
-				numericType.getFloatingSpec()
-			),
+			result.toFloatingBits(numericType.getFloatingSpec()),
 			numericType.getSize()
 		);
 	}
@@ -47,6 +47,7 @@ import at.syntaxerror.syntaxc.symtab.global.IntegerInitializer;
 import at.syntaxerror.syntaxc.symtab.global.ListInitializer;
 import at.syntaxerror.syntaxc.symtab.global.ZeroInitializer;
 import at.syntaxerror.syntaxc.tracking.Position;
+import at.syntaxerror.syntaxc.type.NumericValue;
 import at.syntaxerror.syntaxc.type.NumericValueType;
 import at.syntaxerror.syntaxc.type.StructType;
 import at.syntaxerror.syntaxc.type.StructType.Member;
@@ -87,7 +88,7 @@ public class StructSerializer {
 			new ListInitializer(new ArrayList<>()),
 			!ArchitectureRegistry.isUnrestrictedBitfieldSerialization(),
 			(offset, init, memType) -> List.of(InitializerSerializer.serialize(memType, init)),
-			(pos, value, offset, length) -> new IntegerInitializer(value, length),
+			(pos, value, offset, length) -> new IntegerInitializer(NumericValue.of(value), length),
 			(pos, offset, length) -> new ZeroInitializer(length),
 			(list, entry) -> list.initializers().add(entry)
 		);
@@ -113,7 +114,7 @@ public class StructSerializer {
 				value,
 				LENGTH_TO_TYPE.get(length)
 			),
-			InitializerSerializer.padding(target),
+			InitializerSerializer.padding(target, targetOffset),
 			List::add
 		);
 	}
@@ -172,9 +173,19 @@ public class StructSerializer {
 			
 			Initializer init = null;
 			
+			/* omitted members of aggregate type are filled with zeros,
+			 * since there is no literal of their type
+			 */
+			boolean zeroFill = false;
+			
 			if(member.getName() != null) { /* no initializer for anonymous member */
-				if(initIndex >= inits.size())
-					init = new Initializer(
+				if(initIndex < inits.size())
+					init = inits.get(initIndex++);
+				
+				else if(type.isArray() || type.isStructLike())
+					zeroFill = true;
+				
+				else init = new Initializer(
 						pos,
 						Pair.ofLeft(
 							new NumberLiteralExpressionNode(
@@ -184,8 +195,6 @@ public class StructSerializer {
 							)
 						)
 					);
-				
-				else init = inits.get(initIndex++);
 			}
 			
 			if(!bitfield) /* flush bit fields when encountering non-bitfield member */
@@ -207,7 +216,13 @@ public class StructSerializer {
 				bitStart = -1;
 				bits = BigInteger.ZERO;
 				
-				accumulator.accumulateAll(
+				if(zeroFill)
+					accumulator.accumulate(
+						result,
+						padding.process(pos, offset, type.sizeof())
+					);
+				
+				else accumulator.accumulateAll(
 					result,
 					element.process(offset, init, type)
 				);
@@ -228,7 +243,7 @@ public class StructSerializer {
 					type,
 					init,
 					member.getBitWidth()
-				)).value();
+				)).value().toBigInteger();
 
 				int bitOffset = (offset - bitStart) * 8 + member.getBitOffset();
 				
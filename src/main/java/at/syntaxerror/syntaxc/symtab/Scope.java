@@ -22,68 +22,173 @@
  */
 package at.syntaxerror.syntaxc.symtab;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.ToString;
 
 /**
+ * This class represents a single scope of a namespace (e.g. the tags or objects of a block).
+ * 
+ * All scopes of a namespace share a single hash table mapping each name to a stack of
+ * bindings, the innermost (visible) binding being on top. Each scope records the bindings
+ * it introduces, which are popped again once the scope is {@link #close() closed}.
+ * Looking up a name therefore does not depend on the nesting depth of the scope.
+ * 
  * @author Thomas Kasper
  * 
  */
-@ToString(of = "symbols")
 public class Scope<T extends Symbol> {
 
 	@Getter
 	private final Scope<T> parent;
-	private final Map<String, T> symbols;
+	
+	private final Map<String, Binding<T>> bindings; // shared with all parent and child scopes
+	private final List<Binding<T>> introduced; // undo log
+	
+	private final int depth;
 	
 	public Scope(Scope<T> parent) {
 		this.parent = parent;
-		symbols = new LinkedHashMap<>();
+		
+		if(parent == null) {
+			bindings = new HashMap<>();
+			depth = 0;
+		}
+		else {
+			bindings = parent.bindings;
+			depth = parent.depth + 1;
+		}
+		
+		introduced = new ArrayList<>();
 	}
 	
 	public Map<String, T> getSymbols() {
-		return Collections.unmodifiableMap(symbols);
+		Map<String, T> symbols = new LinkedHashMap<>();
+		
+		for(Binding<T> binding : introduced)
+			symbols.put(binding.symbol.getName(), binding.symbol);
+		
+		return symbols;
 	}
 	
-	public T find(String name) {
-		T value = findInScope(name);
+	// returns the innermost binding visible from within this scope
+	private Binding<T> lookup(String name) {
+		Binding<T> binding = bindings.get(name);
 		
-		if(value == null && parent != null)
-			value = parent.find(name);
+		// skip bindings of (still open) nested scopes
+		while(binding != null && binding.scope.depth > depth)
+			binding = binding.shadowed;
 		
-		return value;
+		return binding;
+	}
+	
+	public T find(String name) {
+		Binding<T> binding = lookup(name);
+		
+		return binding == null
+			? null
+			: binding.symbol;
 	}
 	
 	public T findInScope(String name) {
-		return symbols.get(name);
+		Binding<T> binding = lookup(name);
+		
+		return binding == null || binding.scope != this
+			? null
+			: binding.symbol;
 	}
 	
 	public boolean has(String name) {
-		return hasInScope(name)
-			|| (parent != null && parent.has(name));
+		return lookup(name) != null;
 	}
 	
 	public boolean hasInScope(String name) {
-		return symbols.containsKey(name);
+		return findInScope(name) != null;
 	}
 	
 	public boolean add(T symbol) {
 		String name = symbol.getName();
 		
-		if(symbols.containsKey(name))
+		if(hasInScope(name))
 			return false;
 		
-		symbols.put(name, symbol);
+		Binding<T> binding = new Binding<>(symbol, this, bindings.get(name));
+		
+		bindings.put(name, binding);
+		introduced.add(binding);
 		return true;
 	}
 
 	public void remove(T obj) {
-		if(!symbols.remove(obj.getName(), obj) && parent != null)
-			parent.remove(obj);
+		String name = obj.getName();
+		
+		Binding<T> previous = null;
+		Binding<T> binding = bindings.get(name);
+		
+		while(binding != null && (binding.scope.depth > depth || binding.symbol != obj)) {
+			previous = binding;
+			binding = binding.shadowed;
+		}
+		
+		if(binding == null)
+			return;
+		
+		unlink(previous, binding);
+		
+		binding.scope.introduced.remove(binding);
+	}
+	
+	/**
+	 * Closes this scope, making all symbols declared within this scope
+	 * inaccessible and making shadowed symbols visible again.
+	 */
+	public void close() {
+		for(int i = introduced.size() - 1; i >= 0; --i) {
+			Binding<T> binding = introduced.get(i);
+			
+			Binding<T> previous = null;
+			Binding<T> current = bindings.get(binding.symbol.getName());
+			
+			// the binding is usually on top of the stack, unless a nested scope has not been closed
+			while(current != null && current != binding) {
+				previous = current;
+				current = current.shadowed;
+			}
+			
+			if(current != null)
+				unlink(previous, current);
+		}
+		
+		introduced.clear();
+	}
+	
+	private void unlink(Binding<T> previous, Binding<T> binding) {
+		if(previous != null)
+			previous.shadowed = binding.shadowed;
+		
+		else if(binding.shadowed == null)
+			bindings.remove(binding.symbol.getName());
+		
+		else bindings.put(binding.symbol.getName(), binding.shadowed);
+	}
+	
+	@Override
+	public String toString() {
+		return "Scope(symbols=" + getSymbols() + ")";
+	}
+	
+	@AllArgsConstructor
+	private static class Binding<T> {
+		
+		private final T symbol;
+		private final Scope<?> scope;
+		private Binding<T> shadowed;
+		
 	}
 
 }
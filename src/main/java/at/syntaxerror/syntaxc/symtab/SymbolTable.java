@@ -22,10 +22,6 @@
  */
 package at.syntaxerror.syntaxc.symtab;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-
 import lombok.Getter;
 import lombok.ToString;
 
@@ -45,8 +41,6 @@ public class SymbolTable {
 	@Getter
 	private StringTable stringTable;
 	
-	private List<SymbolTable> children;
-	
 	public SymbolTable() {
 		this(null);
 	}
@@ -66,20 +60,25 @@ public class SymbolTable {
 			
 			stringTable = parent.stringTable;
 		}
-		
-		children = new ArrayList<>();
 	}
 	
-	public List<SymbolTable> getChildren() {
-		return Collections.unmodifiableList(children);
+	/**
+	 * Creates a new symbol table for a nested scope. Children are not retained
+	 * by their parent, so they can be discarded once they have been {@link #close() closed}.
+	 * 
+	 * @return the new symbol table
+	 */
+	public SymbolTable newChild() {
+		return new SymbolTable(this);
 	}
 	
-	public SymbolTable newChild() {
-		SymbolTable child = new SymbolTable(this);
-		
-		children.add(child);
-		
-		return child;
+	/**
+	 * Closes this symbol table, making all tags and objects declared within
+	 * it inaccessible and making the shadowed symbols visible again.
+	 */
+	public void close() {
+		tags.close();
+		objects.close();
 	}
 	
 	public boolean addObject(SymbolObject object) {
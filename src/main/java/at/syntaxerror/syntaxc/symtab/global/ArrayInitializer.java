@@ -0,0 +1,131 @@
+/* MIT License
+ * 
+ * Copyright (c) 2022 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.syntaxc.symtab.global;
+
+import static at.syntaxerror.syntaxc.parser.tree.SyntaxTreeNode.child;
+
+import java.util.Arrays;
+import java.util.List;
+
+import at.syntaxerror.syntaxc.SyntaxCException;
+import at.syntaxerror.syntaxc.misc.Pair;
+import at.syntaxerror.syntaxc.parser.tree.SyntaxTreeNode;
+
+/**
+ * A dense initializer for arrays of arithmetic types with at most 8 bytes per element.
+ * 
+ * Instead of one {@link IntegerInitializer} per element, the (raw) bits of all elements
+ * are stored in a single primitive array.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public final class ArrayInitializer implements GlobalVariableInitializer {
+	
+	private final int size;
+	
+	private long[] values = new long[16];
+	private int length;
+	
+	/**
+	 * @param size the size of each element in bytes
+	 */
+	public ArrayInitializer(int size) {
+		this.size = size;
+	}
+	
+	/**
+	 * @return the size of each element in bytes
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * @return the number of elements
+	 */
+	public int length() {
+		return length;
+	}
+	
+	/**
+	 * Returns the raw bits of the element at the given index. Only the lowest
+	 * {@link #size()} bytes are significant.
+	 * 
+	 * @param index the index of the element
+	 * @return the raw bits
+	 */
+	public long get(int index) {
+		return values[index];
+	}
+	
+	/**
+	 * Appends an {@link IntegerInitializer} or a {@link ZeroInitializer} to this array
+	 * 
+	 * @param init the initializer
+	 */
+	@SuppressWarnings("preview")
+	public void add(GlobalVariableInitializer init) {
+		switch(init) {
+		case IntegerInitializer intInit:
+			add(intInit.value().longValue(), 1);
+			break;
+		
+		case ZeroInitializer zeroInit:
+			add(0, zeroInit.size() / size);
+			break;
+		
+		case null:
+		default:
+			throw new SyntaxCException("Illegal initializer for dense array: " + init);
+		}
+	}
+	
+	private void add(long value, int count) {
+		if(length + count > values.length)
+			values = Arrays.copyOf(values, Math.max(values.length * 2, length + count));
+		
+		if(value != 0)
+			Arrays.fill(values, length, length + count, value);
+		
+		length += count;
+	}
+	
+	@Override
+	public List<Pair<String, SyntaxTreeNode>> getChildren() {
+		StringBuilder sb = new StringBuilder();
+		
+		for(int i = 0; i < length; ++i) {
+			if(i > 0)
+				sb.append(", ");
+			
+			sb.append(values[i]);
+		}
+		
+		return List.of(
+			child("values", sb.toString()),
+			child("size", Integer.toString(size))
+		);
+	}
+
+}
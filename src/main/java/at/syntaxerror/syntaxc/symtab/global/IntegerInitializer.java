@@ -24,17 +24,17 @@ package at.syntaxerror.syntaxc.symtab.global;
 
 import static at.syntaxerror.syntaxc.parser.tree.SyntaxTreeNode.child;
 
-import java.math.BigInteger;
 import java.util.List;
 
 import at.syntaxerror.syntaxc.misc.Pair;
 import at.syntaxerror.syntaxc.parser.tree.SyntaxTreeNode;
+import at.syntaxerror.syntaxc.type.NumericValue;
 
 /**
  * @author Thomas Kasper
  * 
  */
-public record IntegerInitializer(BigInteger value, int size) implements GlobalVariableInitializer {
+public record IntegerInitializer(NumericValue value, int size) implements GlobalVariableInitializer {
 
 	@Override
 	public List<Pair<String, SyntaxTreeNode>> getChildren() {
@@ -73,6 +73,13 @@ public class ArrayType extends PointerLikeType {
 		this.length = length;
 		
 		size = getBase().size * length;
+		
+		invalidate();
+	}
+	
+	@Override
+	protected boolean isInternable() {
+		return length != SIZE_UNKNOWN;
 	}
 	
 	/*@Override
@@ -94,6 +94,7 @@ public class EnumType extends Type {
 	 */
 	public void setComplete() {
 		incomplete = false;
+		invalidate();
 	}
 	
 	/**
@@ -172,6 +173,8 @@ public class EnumType extends Type {
 		previous = new Enumerator(name, value);
 		
 		enumerators.put(previous.getName(), previous);
+		
+		invalidate();
 	}
 	
 	/**
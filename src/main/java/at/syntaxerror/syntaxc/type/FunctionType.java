@@ -95,6 +95,7 @@ public class FunctionType extends Type {
 	 */
 	public void addParameter(Parameter param) {
 		parameters.add(param);
+		invalidate();
 	}
 	
 	/**
@@ -102,6 +103,7 @@ public class FunctionType extends Type {
 	 */
 	public void setVariadic() {
 		variadic = true;
+		invalidate();
 	}
 
 	/**
@@ -118,6 +120,7 @@ public class FunctionType extends Type {
 	 */
 	public void setKAndR() {
 		kAndR = true;
+		invalidate();
 	}
 	
 	@Override
@@ -0,0 +1,467 @@
+/* MIT License
+ * 
+ * Copyright (c) 2022 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package at.syntaxerror.syntaxc.type;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import at.syntaxerror.syntaxc.misc.IEEE754Utils;
+import at.syntaxerror.syntaxc.misc.IEEE754Utils.FloatingSpec;
+
+/**
+ * This class represents the (immutable) value of a numeric constant, e.g. a
+ * number literal, an initializer, or an immediate operand.
+ * 
+ * Integers are stored as a primitive {@code long} and floating point numbers
+ * are stored as a primitive {@code double}. Only values which do not fit into
+ * those (e.g. {@code unsigned long}s above {@code 2^63-1}, or 80-bit
+ * {@code long double}s) are stored as a {@link BigInteger} or {@link BigDecimal}.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+@SuppressWarnings("serial")
+public final class NumericValue extends Number implements Comparable<NumericValue> {
+	
+	private static final int CACHE_LOW = -128;
+	private static final int CACHE_HIGH = 1024;
+	
+	// small integers are very common (e.g. in lookup tables), so they are shared
+	private static final NumericValue[] CACHE = new NumericValue[CACHE_HIGH - CACHE_LOW + 1];
+	
+	static {
+		for(int i = 0; i < CACHE.length; ++i)
+			CACHE[i] = new NumericValue(false, i + CACHE_LOW, null);
+	}
+	
+	public static final NumericValue ZERO = of(0);
+	public static final NumericValue ONE = of(1);
+	
+	public static final NumericValue ZERO_FLOATING = of(0.0);
+	
+	public static NumericValue of(long value) {
+		if(value >= CACHE_LOW && value <= CACHE_HIGH)
+			return CACHE[(int) value - CACHE_LOW];
+		
+		return new NumericValue(false, value, null);
+	}
+	
+	public static NumericValue of(double value) {
+		return new NumericValue(true, Double.doubleToRawLongBits(value), null);
+	}
+	
+	public static NumericValue of(BigInteger value) {
+		if(value.bitLength() < 64)
+			return of(value.longValue());
+		
+		return new NumericValue(false, 0, value);
+	}
+	
+	public static NumericValue of(BigDecimal value) {
+		double dbl = value.doubleValue();
+		
+		// use a 'double' if the value can be represented exactly
+		if(!Double.isInfinite(dbl) && new BigDecimal(dbl).compareTo(value) == 0)
+			return of(dbl);
+		
+		return new NumericValue(true, 0, value.stripTrailingZeros());
+	}
+	
+	/**
+	 * Creates a new floating point value, rounded to the precision of the given type.
+	 * Arbitrary precision is only retained if the type does not fit into a {@code double}
+	 * 
+	 * @param value the value
+	 * @param type the floating point type
+	 * @return the new value
+	 */
+	public static NumericValue of(BigDecimal value, NumericValueType type) {
+		FloatingSpec spec = type.getFloatingSpec();
+		
+		if(spec.equals(FloatingSpec.SINGLE))
+			return of((double) value.floatValue());
+		
+		if(isDoublePrecision(spec))
+			return of(value.doubleValue());
+		
+		return new NumericValue(true, 0, value.stripTrailingZeros());
+	}
+	
+	public static NumericValue of(Number value) {
+		if(value instanceof NumericValue num)
+			return num;
+		
+		if(value instanceof BigInteger bigint)
+			return of(bigint);
+		
+		if(value instanceof BigDecimal bigdec)
+			return of(bigdec);
+		
+		if(value instanceof Double || value instanceof Float)
+			return of(value.doubleValue());
+		
+		return of(value.longValue());
+	}
+	
+	/**
+	 * Parses an (unsigned) integer literal
+	 * 
+	 * @param digits the digits of the integer
+	 * @param radix the radix of the digits
+	 * @return the parsed value
+	 */
+	public static NumericValue parseInteger(String digits, int radix) {
+		try {
+			return of(Long.parseLong(digits, radix));
+		} catch (NumberFormatException e) {
+			return of(new BigInteger(digits, radix));
+		}
+	}
+	
+	/**
+	 * Parses a floating point literal, rounded to the precision of the given type
+	 * 
+	 * @param literal the literal
+	 * @param type the floating point type
+	 * @return the parsed value, or {@code null} if the literal is too big for the type
+	 */
+	public static NumericValue parseFloating(String literal, NumericValueType type) {
+		FloatingSpec spec = type.getFloatingSpec();
+		
+		double value;
+		
+		if(spec.equals(FloatingSpec.SINGLE))
+			value = Float.parseFloat(literal);
+		
+		else if(isDoublePrecision(spec))
+			value = Double.parseDouble(literal);
+		
+		else {
+			BigDecimal bigdec = new BigDecimal(literal);
+			
+			return type.inRange(bigdec)
+				? of(bigdec, type)
+				: null;
+		}
+		
+		return Double.isInfinite(value)
+			? null
+			: of(value);
+	}
+	
+	/**
+	 * Checks whether values of the given floating point format can be represented by a {@code double}
+	 * 
+	 * @param spec the floating point format
+	 * @return whether a {@code double} is sufficient
+	 */
+	public static boolean isDoublePrecision(FloatingSpec spec) {
+		return spec.exponent() <= FloatingSpec.DOUBLE.exponent()
+			&& spec.mantissa() <= FloatingSpec.DOUBLE.mantissa();
+	}
+	
+	private final boolean floating;
+	
+	// the 'long' value, or the raw bits of the 'double' value
+	private final long bits;
+	
+	// BigInteger or BigDecimal for values not fitting into a 'long' or 'double', or null
+	private final Number big;
+	
+	private NumericValue(boolean floating, long bits, Number big) {
+		this.floating = floating;
+		this.bits = bits;
+		this.big = big;
+	}
+	
+	/**
+	 * @return whether this value is a floating point number
+	 */
+	public boolean isFloating() {
+		return floating;
+	}
+	
+	/**
+	 * @return whether this value does not fit into a {@code long} or {@code double}
+	 */
+	public boolean isBig() {
+		return big != null;
+	}
+	
+	public int signum() {
+		if(big != null)
+			return floating
+				? ((BigDecimal) big).signum()
+				: ((BigInteger) big).signum();
+		
+		return floating
+			? (int) Math.signum(Double.longBitsToDouble(bits))
+			: Long.signum(bits);
+	}
+	
+	public boolean isZero() {
+		return signum() == 0;
+	}
+	
+	/**
+	 * Adds two integers
+	 * 
+	 * @param other the other integer
+	 * @return the sum
+	 */
+	public NumericValue add(NumericValue other) {
+		if(big == null && other.big == null) {
+			long result = bits + other.bits;
+			
+			// overflow iff both operands have the same sign, which differs from the result's sign
+			if(((bits ^ result) & (other.bits ^ result)) >= 0)
+				return of(result);
+		}
+		
+		return of(toBigInteger().add(other.toBigInteger()));
+	}
+	
+	/**
+	 * Subtracts two integers
+	 * 
+	 * @param other the other integer
+	 * @return the difference
+	 */
+	public NumericValue subtract(NumericValue other) {
+		if(big == null && other.big == null) {
+			long result = bits - other.bits;
+			
+			// overflow iff the operands have different signs, and the result's sign differs from this value's sign
+			if(((bits ^ other.bits) & (bits ^ result)) >= 0)
+				return of(result);
+		}
+		
+		return of(toBigInteger().subtract(other.toBigInteger()));
+	}
+	
+	/**
+	 * Multiplies two integers
+	 * 
+	 * @param other the other integer
+	 * @return the product
+	 */
+	public NumericValue multiply(NumericValue other) {
+		if(big == null && other.big == null) {
+			long high = Math.multiplyHigh(bits, other.bits);
+			long low = bits * other.bits;
+			
+			// no overflow iff the upper half is just the sign extension of the lower half
+			if(high == (low >> 63))
+				return of(low);
+		}
+		
+		return of(toBigInteger().multiply(other.toBigInteger()));
+	}
+	
+	/**
+	 * Negates an integer
+	 * 
+	 * @return the negated integer
+	 */
+	public NumericValue negate() {
+		return ZERO.subtract(this);
+	}
+	
+	/**
+	 * Returns the absolute value of an integer
+	 * 
+	 * @return the absolute value
+	 */
+	public NumericValue abs() {
+		return signum() < 0
+			? negate()
+			: this;
+	}
+	
+	/**
+	 * Shifts an integer to the right, preserving its sign
+	 * 
+	 * @param n the number of bits
+	 * @return the shifted integer
+	 */
+	public NumericValue shiftRight(int n) {
+		if(big != null)
+			return of(((BigInteger) big).shiftRight(n));
+		
+		return of(bits >> Math.min(n, 63));
+	}
+	
+	/**
+	 * Returns the decimal representation of the lowest {@code size} bytes of
+	 * this integer, interpreted as an unsigned integer
+	 * 
+	 * @param size the number of bytes
+	 * @return the unsigned string representation
+	 */
+	public String toUnsignedString(int size) {
+		if(big != null)
+			return ((BigInteger) big)
+				.and(BigInteger.ONE.shiftLeft(8 * size).subtract(BigInteger.ONE))
+				.toString();
+		
+		if(size >= 8)
+			return Long.toUnsignedString(bits);
+		
+		return Long.toString(bits & ((1L << 8 * size) - 1));
+	}
+	
+	/**
+	 * Returns the binary representation of this number in the given floating point format.
+	 * For {@code float}s and {@code double}s, the raw bits might be returned as a negative
+	 * integer (i.e. they must only be interpreted modulo 2 to the power of the bit width).
+	 * 
+	 * @param spec the floating point format
+	 * @return the binary representation
+	 */
+	public NumericValue toFloatingBits(FloatingSpec spec) {
+		if(big == null) {
+			double value = doubleValue();
+			
+			if(spec.equals(FloatingSpec.SINGLE))
+				return of(Float.floatToRawIntBits((float) value));
+			
+			if(spec.equals(FloatingSpec.DOUBLE))
+				return of(Double.doubleToRawLongBits(value));
+		}
+		
+		return of(IEEE754Utils.decimalToFloat(toBigDecimal(), spec));
+	}
+	
+	public BigInteger toBigInteger() {
+		if(big != null)
+			return floating
+				? ((BigDecimal) big).toBigInteger()
+				: (BigInteger) big;
+		
+		if(floating)
+			return new BigDecimal(Double.longBitsToDouble(bits)).toBigInteger();
+		
+		return BigInteger.valueOf(bits);
+	}
+	
+	public BigDecimal toBigDecimal() {
+		if(big != null)
+			return floating
+				? (BigDecimal) big
+				: new BigDecimal((BigInteger) big);
+		
+		if(floating)
+			return new BigDecimal(Double.longBitsToDouble(bits));
+		
+		return BigDecimal.valueOf(bits);
+	}
+	
+	@Override
+	public int intValue() {
+		return (int) longValue();
+	}
+	
+	@Override
+	public long longValue() {
+		if(big != null)
+			return big.longValue();
+		
+		if(floating)
+			return (long) Double.longBitsToDouble(bits);
+		
+		return bits;
+	}
+	
+	@Override
+	public float floatValue() {
+		return (float) doubleValue();
+	}
+	
+	@Override
+	public double doubleValue() {
+		if(big != null)
+			return big.doubleValue();
+		
+		if(floating)
+			return Double.longBitsToDouble(bits);
+		
+		return bits;
+	}
+	
+	@Override
+	public int compareTo(NumericValue other) {
+		if(big == null && other.big == null && floating == other.floating)
+			return floating
+				? Double.compare(Double.longBitsToDouble(bits), Double.longBitsToDouble(other.bits))
+				: Long.compare(bits, other.bits);
+		
+		if(!floating && !other.floating)
+			return toBigInteger().compareTo(other.toBigInteger());
+		
+		return toBigDecimal().compareTo(other.toBigDecimal());
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof NumericValue other
+			&& floating == other.floating
+			&& bits == other.bits
+			&& (big == null
+				? other.big == null
+				: big.equals(other.big));
+	}
+	
+	@Override
+	public int hashCode() {
+		return big == null
+			? Long.hashCode(bits) ^ (floating ? 1 : 0)
+			: big.hashCode();
+	}
+	
+	/**
+	 * Appends the decimal representation of this number to the given builder.
+	 * This is equivalent to, but cheaper than, appending {@link #toString()}
+	 * 
+	 * @param sb the builder
+	 * @return the builder
+	 */
+	public StringBuilder appendTo(StringBuilder sb) {
+		if(big != null)
+			return sb.append(big);
+		
+		return floating
+			? sb.append(Double.longBitsToDouble(bits))
+			: sb.append(bits);
+	}
+	
+	@Override
+	public String toString() {
+		if(big != null)
+			return big.toString();
+		
+		return floating
+			? Double.toString(Double.longBitsToDouble(bits))
+			: Long.toString(bits);
+	}
+
+}
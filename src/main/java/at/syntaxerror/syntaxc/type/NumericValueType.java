@@ -199,6 +199,26 @@ public enum NumericValueType {
 			&& floating.compareTo((BigDecimal) max) <= 0;
 	}
 	
+	public boolean inRange(NumericValue value) {
+		if(floating || value.isFloating() || value.isBig())
+			return value.isFloating()
+				? inRange(value.toBigDecimal())
+				: inRange(value.toBigInteger());
+		
+		long integer = value.longValue();
+		
+		int bits = 8 * size;
+		
+		if(bits >= 64)
+			return signed || integer >= 0;
+		
+		if(signed)
+			return integer >= -(1L << bits - 1)
+				&& integer < (1L << bits - 1);
+		
+		return integer >= 0 && integer >>> bits == 0;
+	}
+	
 	public boolean inRange(Number num) {
 		if(floating)
 			return inRange(BigDecimal.valueOf(num.doubleValue()));
@@ -24,7 +24,9 @@ package at.syntaxerror.syntaxc.type;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import at.syntaxerror.syntaxc.generator.arch.Alignment;
 import at.syntaxerror.syntaxc.generator.arch.ArchitectureRegistry;
@@ -68,6 +70,17 @@ public class StructType extends Type {
 	
 	private List<Member> members = new ArrayList<>();
 	
+	/*
+	 * name -> member and name -> offset lookup tables, including the members
+	 * of nested structs/unions. Built lazily and only retained once the
+	 * struct/union is complete, since members cannot be added afterwards
+	 */
+	@Getter(AccessLevel.NONE)
+	private Map<String, Member> memberIndex;
+	
+	@Getter(AccessLevel.NONE)
+	private Map<String, Integer> offsetIndex;
+	
 	private StructType(TypeKind kind, String name) {
 		super(kind);
 		
@@ -87,6 +100,9 @@ public class StructType extends Type {
 	public void setComplete() {
 		incomplete = false;
 		inherited = false;
+		memberIndex = null;
+		offsetIndex = null;
+		invalidate();
 	}
 	
 	public List<Member> getMembers() {
@@ -95,6 +111,9 @@ public class StructType extends Type {
 	
 	public void addMember(Positioned pos, String name, Type type, boolean bitfield, int bitWidth) {
 		alignmentCalculated = false;
+		memberIndex = null;
+		offsetIndex = null;
+		invalidate();
 		
 		if(type.isIncomplete())
 			incomplete = true;
@@ -210,7 +229,9 @@ public class StructType extends Type {
 	
 	/**
 	 * Searches the member associated with a given name.
-	 * The search is also performed on nested structures/unions.
+	 * The search is also performed on nested structures/unions,
+	 * in which case the returned member's offset is relative
+	 * to this struct/union.
 	 * Returns {@code null} if the member does not exist.
 	 * 
 	 * @param name the member's name
@@ -219,24 +240,44 @@ public class StructType extends Type {
 	public Member getMember(String name) {
 		calculateAlignment();
 		
+		return getMemberIndex().get(name);
+	}
+	
+	private Map<String, Member> getMemberIndex() {
+		if(memberIndex != null)
+			return memberIndex;
+		
+		Map<String, Member> index = new HashMap<>();
+		
+		// the first member with a given name takes precedence
 		for(Member member : members) {
 			String memName = member.getName();
 			
 			// name is null for anonymous members
-			if(memName != null && memName.equals(name))
-				return member;
+			if(memName != null)
+				index.putIfAbsent(memName, member);
 			
 			Type type = member.getType();
 			
 			if(type.isStructLike()) { // nested struct/union, search recursively
-				member = type.toStructLike().getMember(name);
+				StructType struct = type.toStructLike();
+				
+				int base = member.getOffset();
 				
-				if(member != null)
-					return member;
+				struct.calculateAlignment();
+				struct.getMemberIndex().forEach(
+					(memberName, nested) -> index.putIfAbsent(
+						memberName,
+						nested.relativeTo(base)
+					)
+				);
 			}
 		}
 		
-		return null;
+		if(!incomplete)
+			memberIndex = index;
+		
+		return index;
 	}
 	
 	/**
@@ -251,6 +292,15 @@ public class StructType extends Type {
 	public int offsetof(String name) {
 		calculateAlignment();
 		
+		return getOffsetIndex().getOrDefault(name, -1);
+	}
+	
+	private Map<String, Integer> getOffsetIndex() {
+		if(offsetIndex != null)
+			return offsetIndex;
+		
+		Map<String, Integer> index = new HashMap<>();
+		
 		for(Member member : members) {
 			String memName = member.getName();
 			
@@ -258,13 +308,7 @@ public class StructType extends Type {
 			
 			// name is null for anonymous members
 			if(memName != null) {
-				if(memName.equals(name)) {
-					if(member.isBitfield())
-						return -2;
-					
-					return base;
-				}
-				
+				index.putIfAbsent(memName, member.isBitfield() ? -2 : base);
 				continue;
 			}
 			
@@ -278,17 +322,20 @@ public class StructType extends Type {
 				if(struct.isInherited()) // only search in structs/unions defined within the parent struct/union
 					continue;
 				
-				int mem = struct.offsetof(name);
-				
-				if(mem == -2)
-					return -2;
-				
-				if(mem != -1)
-					return base + mem;
+				struct.calculateAlignment();
+				struct.getOffsetIndex().forEach(
+					(memberName, offset) -> index.putIfAbsent(
+						memberName,
+						offset == -2 ? -2 : base + offset
+					)
+				);
 			}
 		}
 		
-		return -1;
+		if(!incomplete)
+			offsetIndex = index;
+		
+		return index;
 	}
 	
 	@Override
@@ -300,6 +347,8 @@ public class StructType extends Type {
 		structType.members = members;
 		structType.alignmentCalculated = alignmentCalculated;
 		structType.size = size;
+		structType.memberIndex = memberIndex;
+		structType.offsetIndex = offsetIndex;
 		
 		return inheritProperties(structType);
 	}
@@ -333,6 +382,20 @@ public class StructType extends Type {
 				: type.sizeof();
 		}
 		
+		// copy of this member, with the offset shifted by the offset of the enclosing member
+		private Member relativeTo(int base) {
+			if(base == 0)
+				return this;
+			
+			Member member = new Member(position, name, type, bitWidth);
+			
+			member.offset = offset + base;
+			member.bitOffset = bitOffset;
+			member.padding = padding;
+			
+			return member;
+		}
+		
 	}
 
 }
@@ -23,6 +23,8 @@
 package at.syntaxerror.syntaxc.type;
 
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 
 import at.syntaxerror.syntaxc.builtin.BuiltinRegistry;
 import lombok.AccessLevel;
@@ -86,6 +88,17 @@ public class Type {
 	protected boolean constQualifier;
 	protected boolean volatileQualifier;
 	
+	/*
+	 * Hash consing: all variants of a type only differing in their qualifiers and
+	 * bitfield flag share the same array (indexed by getVariantIndex), so requesting
+	 * the same variant twice yields the same instance. Derived pointer and array
+	 * types are cached per instance, making structurally identical types share
+	 * a single instance (as long as they are derived from the same base type).
+	 */
+	private Type[] variants;
+	private PointerType pointer;
+	private Map<Integer, ArrayType> arrays;
+	
 	public final TypeKind getKind() {
 		return kind;
 	}
@@ -255,12 +268,22 @@ public class Type {
 	
 	// '&' unary operator
 	public PointerType addressOf() {
-		return new PointerType(this);
+		if(pointer == null)
+			pointer = new PointerType(this);
+		
+		return pointer;
 	}
 
 	// 'type[expression]'
 	public ArrayType arrayOf(int n) {
-		return new ArrayType(this, n);
+		// arrays of unknown length are completed in-place later on and can therefore not be shared
+		if(n < 0 || !isInternable())
+			return new ArrayType(this, n);
+		
+		if(arrays == null)
+			arrays = new HashMap<>();
+		
+		return arrays.computeIfAbsent(n, len -> new ArrayType(this, len));
 	}
 
 	// 'type[]'
@@ -274,57 +297,107 @@ public class Type {
 	}
 	
 	public Type asConst() {
-		if(isConst())
-			return this;
-		
-		Type cloned = clone();
-		cloned.constQualifier = true;
-		
-		return cloned;
+		return variant(true, volatileQualifier, bitfield);
 	}
 	
 	public Type asVolatile() {
-		if(isVolatile())
-			return this;
-		
-		Type cloned = clone();
-		cloned.volatileQualifier = true;
-		
-		return cloned;
+		return variant(constQualifier, true, bitfield);
 	}
 	
 	public Type inheritQualifiers(Type other) {
-		if(!other.constQualifier && !other.volatileQualifier)
-			return this;
-		
-		Type cloned = clone();
-		cloned.constQualifier |= other.constQualifier;
-		cloned.volatileQualifier |= other.volatileQualifier;
-		
-		return cloned;
+		return variant(
+			constQualifier | other.constQualifier,
+			volatileQualifier | other.volatileQualifier,
+			bitfield
+		);
 	}
 
 	public Type unqualified() {
-		if(!constQualifier && !volatileQualifier)
-			return this;
-
-		Type clone = clone();
-		clone.constQualifier = false;
-		clone.volatileQualifier = false;
-		
-		return clone;
+		return variant(false, false, bitfield);
 	}
 	
 	public Type asBitfield() {
-		if(bitfield)
+		return variant(constQualifier, volatileQualifier, true);
+	}
+	
+	/**
+	 * Checks whether this and the {@code other} type only differ in
+	 * their qualifiers and bitfield flag (or are identical)
+	 * 
+	 * @param other the other type
+	 * @return whether both types are variants of the same type
+	 */
+	public boolean isVariantOf(Type other) {
+		return this == other
+			|| (variants != null && variants == other.variants);
+	}
+	
+	private static int getVariantIndex(boolean constQualifier, boolean volatileQualifier, boolean bitfield) {
+		return (constQualifier ? 1 : 0)
+			| (volatileQualifier ? 2 : 0)
+			| (bitfield ? 4 : 0);
+	}
+	
+	private Type variant(boolean constQualifier, boolean volatileQualifier, boolean bitfield) {
+		if(this.constQualifier == constQualifier
+			&& this.volatileQualifier == volatileQualifier
+			&& this.bitfield == bitfield)
 			return this;
 		
+		int index = getVariantIndex(constQualifier, volatileQualifier, bitfield);
+		
+		if(isInternable()) {
+			if(variants == null) {
+				variants = new Type[8];
+				variants[getVariantIndex(this.constQualifier, this.volatileQualifier, this.bitfield)] = this;
+			}
+			
+			if(variants[index] != null)
+				return variants[index];
+		}
+		
 		Type cloned = clone();
-		cloned.bitfield = true;
+		cloned.constQualifier = constQualifier;
+		cloned.volatileQualifier = volatileQualifier;
+		cloned.bitfield = bitfield;
+		
+		if(isInternable()) {
+			cloned.variants = variants;
+			variants[index] = cloned;
+		}
 		
 		return cloned;
 	}
 	
+	/**
+	 * Returns whether variants and derived types of this type may be shared.
+	 * This is not the case for types which are modified in-place later on
+	 * (i.e. arrays of unknown length).
+	 * 
+	 * @return whether this type can be interned
+	 */
+	protected boolean isInternable() {
+		return true;
+	}
+	
+	/**
+	 * Removes this type from its group of variants and discards cached derived types.
+	 * Must be called whenever the type is modified in-place, so that variants and derived
+	 * types requested afterwards reflect the modification.
+	 */
+	protected void invalidate() {
+		if(variants != null) {
+			int index = getVariantIndex(constQualifier, volatileQualifier, bitfield);
+			
+			if(variants[index] == this)
+				variants[index] = null;
+			
+			variants = null;
+		}
+		
+		arrays = null;
+	}
+	
 	public Type normalize() {
 		return this;
 	}
@@ -338,7 +411,7 @@ public class Type {
 		clone.bitfield = bitfield;
 		clone.constQualifier = constQualifier;
 		clone.volatileQualifier = volatileQualifier;
-		clone.size = clone.size;
+		clone.size = size;
 		
 		return clone;
 	}
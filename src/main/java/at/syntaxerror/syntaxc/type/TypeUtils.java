@@ -146,7 +146,8 @@ public class TypeUtils {
 	}
 	
 	public static boolean check(Type a, Type b, BiPredicate<Type, Type> comparator) {
-		if(a == b)
+		// qualifiers are not compared, so variants of the same (interned) type are always equal
+		if(a.isVariantOf(b))
 			return true;
 
 		if(a.getKind() != b.getKind())
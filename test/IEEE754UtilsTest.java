@@ -0,0 +1,381 @@
+/* MIT License
+ * 
+ * Copyright (c) 2022 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+
+import at.syntaxerror.syntaxc.misc.IEEE754Utils;
+import at.syntaxerror.syntaxc.misc.IEEE754Utils.FloatingSpec;
+import at.syntaxerror.syntaxc.misc.Pair;
+
+/**
+ * Property tests for {@link IEEE754Utils}, comparing the conversions against the JDK
+ * for random bit patterns and decimal strings. Run with
+ * 
+ * <pre>
+ * 	java --enable-preview --source 19 -cp syntaxc.jar IEEE754UtilsTest.java [count] [seed]
+ * </pre>
+ * 
+ * The specs 'float' and 'double' are converted by the JDK, the other specs (e.g. the x87
+ * extended precision format) bit by bit. The latter is verified using the half precision
+ * format, which is small enough to be checked against a straightforward reference
+ * implementation.
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public class IEEE754UtilsTest {
+	
+	private static final int MAX_REPORTED = 20;
+	
+	private static Random random;
+	
+	private static int failures;
+	
+	public static void main(String[] args) {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+		long seed = args.length > 1 ? Long.parseLong(args[1]) : 754;
+		
+		random = new Random(seed);
+		
+		run(() -> testSingle(count));
+		run(() -> testDouble(count));
+		run(() -> testDecimalStrings(count));
+		run(() -> testHalf(count));
+		run(() -> testExtended(count));
+		run(IEEE754UtilsTest::testLimits);
+		
+		System.out.println(failures == 0 ? "OK" : "FAILED (" + failures + " failures)");
+		System.exit(failures == 0 ? 0 : 1);
+	}
+	
+	private static void run(Runnable test) {
+		long start = System.nanoTime();
+		
+		test.run();
+		
+		System.out.printf("  %d ms%n", (System.nanoTime() - start) / 1000000);
+	}
+	
+	private static void check(boolean condition, String message, Object... args) {
+		if(condition)
+			return;
+		
+		if(++failures <= MAX_REPORTED)
+			System.out.println("  " + message.formatted(args));
+	}
+	
+	private static boolean equal(BigDecimal a, BigDecimal b) {
+		return a == null
+			? b == null
+			: b != null && a.compareTo(b) == 0;
+	}
+	
+	// BigDecimal has no signed zeros, so -0.0 is converted into +0.0
+	private static BigDecimal exact(double value) {
+		return Double.isFinite(value)
+			? value == 0 ? BigDecimal.ZERO : new BigDecimal(value)
+			: null;
+	}
+	
+	private static BigInteger unsigned(long bits, int size) {
+		return BigInteger.valueOf(bits).and(BigInteger.ONE.shiftLeft(size).subtract(BigInteger.ONE));
+	}
+	
+	private static void testSingle(int count) {
+		System.out.println("float: " + count + " random bit patterns");
+		
+		for(int i = 0; i < count; ++i) {
+			int bits = random.nextInt();
+			float value = Float.intBitsToFloat(bits);
+			
+			BigDecimal decimal = IEEE754Utils.floatToDecimal(unsigned(bits, 32), FloatingSpec.SINGLE);
+			
+			check(equal(decimal, exact(value)), "float %08x: floatToDecimal = %s", bits, decimal);
+			
+			if(!Float.isFinite(value))
+				continue;
+			
+			int expected = value == 0 ? 0 : bits;
+			
+			int exact = IEEE754Utils.decimalToFloat(decimal, FloatingSpec.SINGLE).intValue();
+			int shortest = IEEE754Utils.decimalToFloat(new BigDecimal(Float.toString(value)), FloatingSpec.SINGLE).intValue();
+			
+			check(exact == expected, "float %08x: exact value converts to %08x", bits, exact);
+			check(shortest == expected, "float %08x: %s converts to %08x", bits, value, shortest);
+		}
+	}
+	
+	private static void testDouble(int count) {
+		System.out.println("double: " + count + " random bit patterns");
+		
+		for(int i = 0; i < count; ++i) {
+			long bits = random.nextLong();
+			double value = Double.longBitsToDouble(bits);
+			
+			BigDecimal decimal = IEEE754Utils.floatToDecimal(unsigned(bits, 64), FloatingSpec.DOUBLE);
+			
+			check(equal(decimal, exact(value)), "double %016x: floatToDecimal = %s", bits, decimal);
+			
+			if(!Double.isFinite(value))
+				continue;
+			
+			long expected = value == 0 ? 0 : bits;
+			
+			long exact = IEEE754Utils.decimalToFloat(decimal, FloatingSpec.DOUBLE).longValue();
+			long shortest = IEEE754Utils.decimalToFloat(new BigDecimal(Double.toString(value)), FloatingSpec.DOUBLE).longValue();
+			
+			check(exact == expected, "double %016x: exact value converts to %016x", bits, exact);
+			check(shortest == expected, "double %016x: %s converts to %016x", bits, value, shortest);
+		}
+	}
+	
+	// random decimal literals, as they would appear in source code
+	private static String randomDecimal() {
+		StringBuilder sb = new StringBuilder();
+		
+		if(random.nextBoolean())
+			sb.append('-');
+		
+		int digits = 1 + random.nextInt(25);
+		
+		for(int i = 0; i < digits; ++i)
+			sb.append((char) ('0' + random.nextInt(10)));
+		
+		return sb.append('e')
+			.append(random.nextInt(700) - 360)
+			.toString();
+	}
+	
+	private static void testDecimalStrings(int count) {
+		System.out.println("float/double: " + count + " random decimal strings");
+		
+		for(int i = 0; i < count; ++i) {
+			String literal = randomDecimal();
+			BigDecimal value = new BigDecimal(literal);
+			
+			// parseFloat/parseDouble round correctly, but keep the sign of zero
+			int single = Float.floatToRawIntBits(Float.parseFloat(literal));
+			long dbl = Double.doubleToRawLongBits(Double.parseDouble(literal));
+			
+			if(value.signum() == 0) {
+				single = 0;
+				dbl = 0;
+			}
+			
+			int actualSingle = IEEE754Utils.decimalToFloat(value, FloatingSpec.SINGLE).intValue();
+			long actualDouble = IEEE754Utils.decimalToFloat(value, FloatingSpec.DOUBLE).longValue();
+			
+			check(actualSingle == single, "%s: float %08x, expected %08x", literal, actualSingle, single);
+			check(actualDouble == dbl, "%s: double %016x, expected %016x", literal, actualDouble, dbl);
+		}
+	}
+	
+	/* reference conversions for the half precision format (1 sign bit, 5 exponent bits,
+	 * 10 mantissa bits), implemented independently of IEEE754Utils
+	 */
+	private static float halfToFloat(int bits) {
+		int exponent = (bits >> 10) & 0x1F;
+		int mantissa = bits & 0x3FF;
+		
+		float value = exponent == 0x1F
+			? mantissa == 0 ? Float.POSITIVE_INFINITY : Float.NaN
+			: exponent == 0
+				? Math.scalb((float) mantissa, -24) // subnormal
+				: Math.scalb((float) (mantissa | 0x400), exponent - 25);
+		
+		return (bits & 0x8000) != 0 ? -value : value;
+	}
+	
+	// rounds a finite float to the nearest half, ties to even
+	private static int floatToHalf(float value) {
+		int bits = Float.floatToRawIntBits(value);
+		int sign = (bits >>> 16) & 0x8000;
+		
+		int exponent = (bits >> 23) & 0xFF;
+		int mantissa = bits & 0x7FFFFF;
+		
+		if(exponent == 0 && mantissa == 0)
+			return sign;
+		
+		// the absolute value is 'significand * 2^scale'
+		long significand = exponent == 0 ? mantissa : mantissa | 0x800000;
+		int scale = exponent == 0 ? -149 : exponent - 150;
+		
+		// the value is within [2^msb, 2^(msb+1))
+		int msb = 63 - Long.numberOfLeadingZeros(significand) + scale;
+		
+		// the weight of the least significant mantissa bit of the result (2^-24 for subnormals)
+		int quantum = Math.max(msb, -14) - 10;
+		
+		int shift = quantum - scale;
+		long result;
+		
+		if(shift <= 0)
+			result = significand << -shift;
+		
+		else if(shift > 32)
+			result = 0; // less than half of the smallest subnormal
+		
+		else {
+			long remainder = significand & ((1L << shift) - 1);
+			long halfway = 1L << (shift - 1);
+			
+			result = significand >> shift;
+			
+			if(remainder > halfway || (remainder == halfway && (result & 1) != 0))
+				++result;
+		}
+		
+		if(result < 0x400) // subnormal
+			return sign | (int) result;
+		
+		// rounding up may carry into the next binade
+		if(result == 0x800) {
+			result >>= 1;
+			++quantum;
+		}
+		
+		int biased = quantum + 25;
+		
+		return biased >= 0x1F
+			? sign | 0x7C00 // overflow to infinity
+			: sign | biased << 10 | (int) (result & 0x3FF);
+	}
+	
+	private static void testHalf(int count) {
+		System.out.println("half: all bit patterns, " + count + " random floats");
+		
+		for(int bits = 0; bits < 1 << 16; ++bits) {
+			float value = halfToFloat(bits);
+			
+			BigDecimal decimal = IEEE754Utils.floatToDecimal(BigInteger.valueOf(bits), FloatingSpec.HALF);
+			
+			check(equal(decimal, exact(value)), "half %04x: floatToDecimal = %s", bits, decimal);
+			
+			if(!Float.isFinite(value))
+				continue;
+			
+			int expected = value == 0 ? 0 : bits;
+			int actual = IEEE754Utils.decimalToFloat(decimal, FloatingSpec.HALF).intValue();
+			
+			check(actual == expected, "half %04x: exact value converts to %04x", bits, actual);
+		}
+		
+		// every float is exactly representable as a BigDecimal, so floatToHalf serves as the reference
+		for(int i = 0; i < count; ++i) {
+			int bits = random.nextInt();
+			float value = Float.intBitsToFloat(bits);
+			
+			if(!Float.isFinite(value) || value == 0)
+				continue;
+			
+			int expected = floatToHalf(value);
+			int actual = IEEE754Utils.decimalToFloat(new BigDecimal(value), FloatingSpec.HALF).intValue();
+			
+			check(actual == expected, "float %08x (%s): half %04x, expected %04x", bits, value, actual, expected);
+		}
+		
+		// halfway cases, which random floats hardly ever hit (including the one overflowing to infinity)
+		for(int half = 0; half < 0x7C00; ++half) {
+			// 'half & ~1' and 'half | 1' always share the same exponent
+			float spacing = halfToFloat(half | 1) - halfToFloat(half & ~1);
+			float value = halfToFloat(half) + spacing / 2;
+			
+			int expected = floatToHalf(value);
+			int actual = IEEE754Utils.decimalToFloat(new BigDecimal(value), FloatingSpec.HALF).intValue();
+			
+			check(expected == ((half & 1) == 0 ? half : half + 1), "half %04x: reference rounds to %04x", half, expected);
+			check(actual == expected, "half %04x: halfway value converts to %04x, expected %04x", half, actual, expected);
+		}
+	}
+	
+	private static void testExtended(int count) {
+		FloatingSpec spec = FloatingSpec.EXTENDED;
+		
+		int bias = IEEE754Utils.getBias(spec);
+		
+		System.out.println("long double: " + count + " random bit patterns");
+		
+		for(int i = 0; i < count; ++i) {
+			// the integer bit is explicit and always set for normalized numbers
+			BigInteger mantissa = new BigInteger(63, random).setBit(63);
+			
+			// restricted to the range of 'double' (and some more), larger exponents are just slow
+			int exponent = bias - 1100 + random.nextInt(2200);
+			
+			BigInteger bits = BigInteger.valueOf(exponent)
+				.shiftLeft(64)
+				.or(mantissa);
+			
+			if(random.nextBoolean())
+				bits = bits.setBit(79);
+			
+			BigDecimal expected = new BigDecimal(mantissa);
+			
+			int shift = exponent - bias - 63;
+			
+			expected = shift < 0
+				? expected.divide(new BigDecimal(BigInteger.ONE.shiftLeft(-shift)))
+				: expected.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(shift)));
+			
+			if(bits.testBit(79))
+				expected = expected.negate();
+			
+			BigDecimal decimal = IEEE754Utils.floatToDecimal(bits, spec);
+			
+			check(equal(decimal, expected), "long double %020x: floatToDecimal = %s", bits, decimal);
+			
+			BigInteger actual = IEEE754Utils.decimalToFloat(expected, spec);
+			
+			check(actual.equals(bits), "long double %020x: exact value converts to %020x", bits, actual);
+		}
+	}
+	
+	private static void testLimits() {
+		System.out.println("limits");
+		
+		checkLimits(FloatingSpec.SINGLE, Float.MIN_NORMAL, Float.MAX_VALUE, Math.ulp(1f), -37, 38);
+		checkLimits(FloatingSpec.DOUBLE, Double.MIN_NORMAL, Double.MAX_VALUE, Math.ulp(1d), -307, 308);
+		
+		FloatingSpec extended = FloatingSpec.EXTENDED;
+		
+		check(equal(IEEE754Utils.getEpsilon(extended), BigDecimal.ONE.divide(new BigDecimal(BigInteger.ONE.shiftLeft(63)))),
+			"long double: epsilon = %s", IEEE754Utils.getEpsilon(extended));
+		
+		check(IEEE754Utils.get10ExponentRange(extended).equals(Pair.of(-4931, 4932)),
+			"long double: 10-exponent range = %s", IEEE754Utils.get10ExponentRange(extended));
+	}
+	
+	private static void checkLimits(FloatingSpec spec, double min, double max, double epsilon, int min10, int max10) {
+		check(equal(IEEE754Utils.getMinValue(spec), exact(min)), "%s: min = %s", spec, IEEE754Utils.getMinValue(spec));
+		check(equal(IEEE754Utils.getMaxValue(spec), exact(max)), "%s: max = %s", spec, IEEE754Utils.getMaxValue(spec));
+		check(equal(IEEE754Utils.getEpsilon(spec), exact(epsilon)), "%s: epsilon = %s", spec, IEEE754Utils.getEpsilon(spec));
+		
+		Pair<Integer, Integer> range = IEEE754Utils.get10ExponentRange(spec);
+		
+		check(range.equals(Pair.of(min10, max10)), "%s: 10-exponent range = %s", spec, range);
+	}
+	
+}
@@ -0,0 +1,201 @@
+/* MIT License
+ * 
+ * Copyright (c) 2022 Thomas Kasper
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import at.syntaxerror.syntaxc.generator.arch.x86.asm.X86MultiplicationHelper;
+import at.syntaxerror.syntaxc.generator.arch.x86.asm.X86MultiplicationHelper.MultiplicationStep;
+import at.syntaxerror.syntaxc.generator.arch.x86.asm.X86MultiplicationHelper.StepKind;
+
+/**
+ * Tests for {@link X86MultiplicationHelper}. Each chain must compute the factor, and must be
+ * faster than {@code imul} (3 cycles, i.e. at most 2 cycles). The chains are also compared
+ * with an exhaustive search over all chains within that latency, so that no factor is missed
+ * and no chain is longer than necessary. Run with
+ * 
+ * <pre>
+ * 	java --enable-preview --source 19 -cp syntaxc.jar X86MultiplicationHelperTest.java [count] [seed]
+ * </pre>
+ * 
+ * @author Thomas Kasper
+ * 
+ */
+public class X86MultiplicationHelperTest {
+	
+	// the latency of 'imul', which every chain has to beat
+	private static final int MULTIPLY_LATENCY = 3;
+	
+	private static final int MAX_REPORTED = 20;
+	
+	private static int failures;
+	
+	public static void main(String[] args) {
+		int count = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+		long seed = args.length > 1 ? Long.parseLong(args[1]) : 50;
+		
+		Random random = new Random(seed);
+		
+		for(int bits : new int[] { 32, 64 }) {
+			long start = System.nanoTime();
+			
+			Map<BigInteger, Integer> reachable = search(bits);
+			
+			List<BigInteger> factors = new ArrayList<>();
+			
+			for(int factor = -4096; factor <= 4096; ++factor)
+				factors.add(BigInteger.valueOf(factor));
+			
+			for(int shift = 0; shift < bits; ++shift)
+				for(int delta = -9; delta <= 9; ++delta)
+					factors.add(BigInteger.ONE.shiftLeft(shift).add(BigInteger.valueOf(delta)));
+			
+			for(int i = 0; i < count; ++i)
+				factors.add(new BigInteger(bits, random));
+			
+			// every chain found by the exhaustive search is a factor as well
+			factors.addAll(reachable.keySet());
+			
+			System.out.println(bits + " bits: " + factors.size() + " factors");
+			
+			for(BigInteger factor : factors)
+				check(factor, bits, reachable);
+			
+			System.out.printf("  %d ms%n", (System.nanoTime() - start) / 1000000);
+		}
+		
+		checkExamples();
+		
+		System.out.println(failures == 0 ? "OK" : "FAILED (" + failures + " failures)");
+		System.exit(failures == 0 ? 0 : 1);
+	}
+	
+	private static void check(boolean condition, String message, Object... args) {
+		if(condition)
+			return;
+		
+		if(++failures <= MAX_REPORTED)
+			System.out.println("  " + message.formatted(args));
+	}
+	
+	private static List<MultiplicationStep> getCandidates(int bits) {
+		List<MultiplicationStep> candidates = new ArrayList<>();
+		
+		for(int shift = 1; shift < bits; ++shift)
+			candidates.add(new MultiplicationStep(StepKind.SHIFT, shift));
+		
+		for(int scale : new int[] { 2, 4, 8 }) {
+			candidates.add(new MultiplicationStep(StepKind.SCALE, scale));
+			candidates.add(new MultiplicationStep(StepKind.SCALE_ADD, scale));
+		}
+		
+		candidates.add(new MultiplicationStep(StepKind.ADD, 1));
+		candidates.add(new MultiplicationStep(StepKind.SUBTRACT, 1));
+		candidates.add(new MultiplicationStep(StepKind.NEGATE, 1));
+		
+		return candidates;
+	}
+	
+	// the lowest latency of any chain computing each factor (modulo 2^bits), up to 'MULTIPLY_LATENCY - 1'
+	private static Map<BigInteger, Integer> search(int bits) {
+		BigInteger modulus = BigInteger.ONE.shiftLeft(bits);
+		
+		List<MultiplicationStep> candidates = getCandidates(bits);
+		
+		Map<BigInteger, Integer> latencies = new HashMap<>();
+		
+		latencies.put(BigInteger.ONE, 0);
+		
+		List<BigInteger> current = List.of(BigInteger.ONE);
+		
+		// all steps have a latency of 1, so a breadth-first search finds the cheapest chains first
+		for(int latency = 1; latency < MULTIPLY_LATENCY; ++latency) {
+			List<BigInteger> next = new ArrayList<>();
+			
+			for(BigInteger value : current)
+				for(MultiplicationStep step : candidates) {
+					BigInteger result = step.apply(value).mod(modulus);
+					
+					if(latencies.putIfAbsent(result, latency) == null)
+						next.add(result);
+				}
+			
+			current = next;
+		}
+		
+		return latencies;
+	}
+	
+	private static void check(BigInteger factor, int bits, Map<BigInteger, Integer> reachable) {
+		BigInteger modulus = BigInteger.ONE.shiftLeft(bits);
+		BigInteger expected = factor.mod(modulus);
+		
+		List<MultiplicationStep> steps = X86MultiplicationHelper.decompose(factor, bits);
+		
+		Integer minimum = expected.signum() == 0
+			? null // multiplications by 0 are never decomposed
+			: reachable.get(expected);
+		
+		if(steps == null) {
+			check(minimum == null, "%d (%d bits): no chain, but latency %s is possible", factor, bits, minimum);
+			return;
+		}
+		
+		BigInteger value = BigInteger.ONE;
+		int latency = 0;
+		
+		for(MultiplicationStep step : steps) {
+			value = step.apply(value).mod(modulus);
+			latency += step.kind().getLatency();
+		}
+		
+		check(value.equals(expected), "%d (%d bits): %s computes %d", factor, bits, steps, value);
+		check(latency < MULTIPLY_LATENCY, "%d (%d bits): %s is not faster than imul", factor, bits, steps);
+		check(minimum != null && latency == minimum, "%d (%d bits): latency of %s is %d, but %s is possible",
+			factor, bits, steps, latency, minimum);
+	}
+	
+	private static void checkExamples() {
+		System.out.println("examples");
+		
+		// factor, number of steps (-1 if imul is used)
+		int[][] examples = {
+			{ 0, -1 }, { 1, 0 }, { 2, 1 }, { 3, 1 }, { 5, 1 }, { 9, 1 }, { -1, 1 }, { 1024, 1 },
+			{ 6, 2 }, { 7, 2 }, { 10, 2 }, { 11, 2 }, { 13, 2 }, { 15, 2 }, { 45, 2 }, { 81, 2 },
+			{ -2, 2 }, { -3, 2 }, { 641, -1 }, { 6700417, -1 }, { 1000, -1 }
+		};
+		
+		for(int[] example : examples) {
+			List<MultiplicationStep> steps = X86MultiplicationHelper.decompose(BigInteger.valueOf(example[0]), 32);
+			
+			int actual = steps == null ? -1 : steps.size();
+			
+			check(actual == example[1], "%d: %s, expected %d steps", example[0], steps, example[1]);
+		}
+	}
+	
+}
@@ -0,0 +1,696 @@
+/* (c) 2023, Thomas Kasper */
+
+/* Generated by aes.py, do not edit */
+
+#include "syntaxtest.h"
+
+static const unsigned Te0[] = {
+    0xc66363a5u, 0xf87c7c84u, 0xee777799u, 0xf67b7b8du, 0xfff2f20du, 0xd66b6bbdu, 0xde6f6fb1u, 0x91c5c554u,
+    0x60303050u, 0x02010103u, 0xce6767a9u, 0x562b2b7du, 0xe7fefe19u, 0xb5d7d762u, 0x4dababe6u, 0xec76769au,
+    0x8fcaca45u, 0x1f82829du, 0x89c9c940u, 0xfa7d7d87u, 0xeffafa15u, 0xb25959ebu, 0x8e4747c9u, 0xfbf0f00bu,
+    0x41adadecu, 0xb3d4d467u, 0x5fa2a2fdu, 0x45afafeau, 0x239c9cbfu, 0x53a4a4f7u, 0xe4727296u, 0x9bc0c05bu,
+    0x75b7b7c2u, 0xe1fdfd1cu, 0x3d9393aeu, 0x4c26266au, 0x6c36365au, 0x7e3f3f41u, 0xf5f7f702u, 0x83cccc4fu,
+    0x6834345cu, 0x51a5a5f4u, 0xd1e5e534u, 0xf9f1f108u, 0xe2717193u, 0xabd8d873u, 0x62313153u, 0x2a15153fu,
+    0x0804040cu, 0x95c7c752u, 0x46232365u, 0x9dc3c35eu, 0x30181828u, 0x379696a1u, 0x0a05050fu, 0x2f9a9ab5u,
+    0x0e070709u, 0x24121236u, 0x1b80809bu, 0xdfe2e23du, 0xcdebeb26u, 0x4e272769u, 0x7fb2b2cdu, 0xea75759fu,
+    0x1209091bu, 0x1d83839eu, 0x582c2c74u, 0x341a1a2eu, 0x361b1b2du, 0xdc6e6eb2u, 0xb45a5aeeu, 0x5ba0a0fbu,
+    0xa45252f6u, 0x763b3b4du, 0xb7d6d661u, 0x7db3b3ceu, 0x5229297bu, 0xdde3e33eu, 0x5e2f2f71u, 0x13848497u,
+    0xa65353f5u, 0xb9d1d168u, 0x00000000u, 0xc1eded2cu, 0x40202060u, 0xe3fcfc1fu, 0x79b1b1c8u, 0xb65b5bedu,
+    0xd46a6abeu, 0x8dcbcb46u, 0x67bebed9u, 0x7239394bu, 0x944a4adeu, 0x984c4cd4u, 0xb05858e8u, 0x85cfcf4au,
+    0xbbd0d06bu, 0xc5efef2au, 0x4faaaae5u, 0xedfbfb16u, 0x864343c5u, 0x9a4d4dd7u, 0x66333355u, 0x11858594u,
+    0x8a4545cfu, 0xe9f9f910u, 0x04020206u, 0xfe7f7f81u, 0xa05050f0u, 0x783c3c44u, 0x259f9fbau, 0x4ba8a8e3u,
+    0xa25151f3u, 0x5da3a3feu, 0x804040c0u, 0x058f8f8au, 0x3f9292adu, 0x219d9dbcu, 0x70383848u, 0xf1f5f504u,
+    0x63bcbcdfu, 0x77b6b6c1u, 0xafdada75u, 0x42212163u, 0x20101030u, 0xe5ffff1au, 0xfdf3f30eu, 0xbfd2d26du,
+    0x81cdcd4cu, 0x180c0c14u, 0x26131335u, 0xc3ecec2fu, 0xbe5f5fe1u, 0x359797a2u, 0x884444ccu, 0x2e171739u,
+    0x93c4c457u, 0x55a7a7f2u, 0xfc7e7e82u, 0x7a3d3d47u, 0xc86464acu, 0xba5d5de7u, 0x3219192bu, 0xe6737395u,
+    0xc06060a0u, 0x19818198u, 0x9e4f4fd1u, 0xa3dcdc7fu, 0x44222266u, 0x542a2a7eu, 0x3b9090abu, 0x0b888883u,
+    0x8c4646cau, 0xc7eeee29u, 0x6bb8b8d3u, 0x2814143cu, 0xa7dede79u, 0xbc5e5ee2u, 0x160b0b1du, 0xaddbdb76u,
+    0xdbe0e03bu, 0x64323256u, 0x743a3a4eu, 0x140a0a1eu, 0x924949dbu, 0x0c06060au, 0x4824246cu, 0xb85c5ce4u,
+    0x9fc2c25du, 0xbdd3d36eu, 0x43acacefu, 0xc46262a6u, 0x399191a8u, 0x319595a4u, 0xd3e4e437u, 0xf279798bu,
+    0xd5e7e732u, 0x8bc8c843u, 0x6e373759u, 0xda6d6db7u, 0x018d8d8cu, 0xb1d5d564u, 0x9c4e4ed2u, 0x49a9a9e0u,
+    0xd86c6cb4u, 0xac5656fau, 0xf3f4f407u, 0xcfeaea25u, 0xca6565afu, 0xf47a7a8eu, 0x47aeaee9u, 0x10080818u,
+    0x6fbabad5u, 0xf0787888u, 0x4a25256fu, 0x5c2e2e72u, 0x381c1c24u, 0x57a6a6f1u, 0x73b4b4c7u, 0x97c6c651u,
+    0xcbe8e823u, 0xa1dddd7cu, 0xe874749cu, 0x3e1f1f21u, 0x964b4bddu, 0x61bdbddcu, 0x0d8b8b86u, 0x0f8a8a85u,
+    0xe0707090u, 0x7c3e3e42u, 0x71b5b5c4u, 0xcc6666aau, 0x904848d8u, 0x06030305u, 0xf7f6f601u, 0x1c0e0e12u,
+    0xc26161a3u, 0x6a35355fu, 0xae5757f9u, 0x69b9b9d0u, 0x17868691u, 0x99c1c158u, 0x3a1d1d27u, 0x279e9eb9u,
+    0xd9e1e138u, 0xebf8f813u, 0x2b9898b3u, 0x22111133u, 0xd26969bbu, 0xa9d9d970u, 0x078e8e89u, 0x339494a7u,
+    0x2d9b9bb6u, 0x3c1e1e22u, 0x15878792u, 0xc9e9e920u, 0x87cece49u, 0xaa5555ffu, 0x50282878u, 0xa5dfdf7au,
+    0x038c8c8fu, 0x59a1a1f8u, 0x09898980u, 0x1a0d0d17u, 0x65bfbfdau, 0xd7e6e631u, 0x844242c6u, 0xd06868b8u,
+    0x824141c3u, 0x299999b0u, 0x5a2d2d77u, 0x1e0f0f11u, 0x7bb0b0cbu, 0xa85454fcu, 0x6dbbbbd6u, 0x2c16163au
+};
+
+static const unsigned Te1[] = {
+    0xa5c66363u, 0x84f87c7cu, 0x99ee7777u, 0x8df67b7bu, 0x0dfff2f2u, 0xbdd66b6bu, 0xb1de6f6fu, 0x5491c5c5u,
+    0x50603030u, 0x03020101u, 0xa9ce6767u, 0x7d562b2bu, 0x19e7fefeu, 0x62b5d7d7u, 0xe64dababu, 0x9aec7676u,
+    0x458fcacau, 0x9d1f8282u, 0x4089c9c9u, 0x87fa7d7du, 0x15effafau, 0xebb25959u, 0xc98e4747u, 0x0bfbf0f0u,
+    0xec41adadu, 0x67b3d4d4u, 0xfd5fa2a2u, 0xea45afafu, 0xbf239c9cu, 0xf753a4a4u, 0x96e47272u, 0x5b9bc0c0u,
+    0xc275b7b7u, 0x1ce1fdfdu, 0xae3d9393u, 0x6a4c2626u, 0x5a6c3636u, 0x417e3f3fu, 0x02f5f7f7u, 0x4f83ccccu,
+    0x5c683434u, 0xf451a5a5u, 0x34d1e5e5u, 0x08f9f1f1u, 0x93e27171u, 0x73abd8d8u, 0x53623131u, 0x3f2a1515u,
+    0x0c080404u, 0x5295c7c7u, 0x65462323u, 0x5e9dc3c3u, 0x28301818u, 0xa1379696u, 0x0f0a0505u, 0xb52f9a9au,
+    0x090e0707u, 0x36241212u, 0x9b1b8080u, 0x3ddfe2e2u, 0x26cdebebu, 0x694e2727u, 0xcd7fb2b2u, 0x9fea7575u,
+    0x1b120909u, 0x9e1d8383u, 0x74582c2cu, 0x2e341a1au, 0x2d361b1bu, 0xb2dc6e6eu, 0xeeb45a5au, 0xfb5ba0a0u,
+    0xf6a45252u, 0x4d763b3bu, 0x61b7d6d6u, 0xce7db3b3u, 0x7b522929u, 0x3edde3e3u, 0x715e2f2fu, 0x97138484u,
+    0xf5a65353u, 0x68b9d1d1u, 0x00000000u, 0x2cc1ededu, 0x60402020u, 0x1fe3fcfcu, 0xc879b1b1u, 0xedb65b5bu,
+    0xbed46a6au, 0x468dcbcbu, 0xd967bebeu, 0x4b723939u, 0xde944a4au, 0xd4984c4cu, 0xe8b05858u, 0x4a85cfcfu,
+    0x6bbbd0d0u, 0x2ac5efefu, 0xe54faaaau, 0x16edfbfbu, 0xc5864343u, 0xd79a4d4du, 0x55663333u, 0x94118585u,
+    0xcf8a4545u, 0x10e9f9f9u, 0x06040202u, 0x81fe7f7fu, 0xf0a05050u, 0x44783c3cu, 0xba259f9fu, 0xe34ba8a8u,
+    0xf3a25151u, 0xfe5da3a3u, 0xc0804040u, 0x8a058f8fu, 0xad3f9292u, 0xbc219d9du, 0x48703838u, 0x04f1f5f5u,
+    0xdf63bcbcu, 0xc177b6b6u, 0x75afdadau, 0x63422121u, 0x30201010u, 0x1ae5ffffu, 0x0efdf3f3u, 0x6dbfd2d2u,
+    0x4c81cdcdu, 0x14180c0cu, 0x35261313u, 0x2fc3ececu, 0xe1be5f5fu, 0xa2359797u, 0xcc884444u, 0x392e1717u,
+    0x5793c4c4u, 0xf255a7a7u, 0x82fc7e7eu, 0x477a3d3du, 0xacc86464u, 0xe7ba5d5du, 0x2b321919u, 0x95e67373u,
+    0xa0c06060u, 0x98198181u, 0xd19e4f4fu, 0x7fa3dcdcu, 0x66442222u, 0x7e542a2au, 0xab3b9090u, 0x830b8888u,
+    0xca8c4646u, 0x29c7eeeeu, 0xd36bb8b8u, 0x3c281414u, 0x79a7dedeu, 0xe2bc5e5eu, 0x1d160b0bu, 0x76addbdbu,
+    0x3bdbe0e0u, 0x56643232u, 0x4e743a3au, 0x1e140a0au, 0xdb924949u, 0x0a0c0606u, 0x6c482424u, 0xe4b85c5cu,
+    0x5d9fc2c2u, 0x6ebdd3d3u, 0xef43acacu, 0xa6c46262u, 0xa8399191u, 0xa4319595u, 0x37d3e4e4u, 0x8bf27979u,
+    0x32d5e7e7u, 0x438bc8c8u, 0x596e3737u, 0xb7da6d6du, 0x8c018d8du, 0x64b1d5d5u, 0xd29c4e4eu, 0xe049a9a9u,
+    0xb4d86c6cu, 0xfaac5656u, 0x07f3f4f4u, 0x25cfeaeau, 0xafca6565u, 0x8ef47a7au, 0xe947aeaeu, 0x18100808u,
+    0xd56fbabau, 0x88f07878u, 0x6f4a2525u, 0x725c2e2eu, 0x24381c1cu, 0xf157a6a6u, 0xc773b4b4u, 0x5197c6c6u,
+    0x23cbe8e8u, 0x7ca1ddddu, 0x9ce87474u, 0x213e1f1fu, 0xdd964b4bu, 0xdc61bdbdu, 0x860d8b8bu, 0x850f8a8au,
+    0x90e07070u, 0x427c3e3eu, 0xc471b5b5u, 0xaacc6666u, 0xd8904848u, 0x05060303u, 0x01f7f6f6u, 0x121c0e0eu,
+    0xa3c26161u, 0x5f6a3535u, 0xf9ae5757u, 0xd069b9b9u, 0x91178686u, 0x5899c1c1u, 0x273a1d1du, 0xb9279e9eu,
+    0x38d9e1e1u, 0x13ebf8f8u, 0xb32b9898u, 0x33221111u, 0xbbd26969u, 0x70a9d9d9u, 0x89078e8eu, 0xa7339494u,
+    0xb62d9b9bu, 0x223c1e1eu, 0x92158787u, 0x20c9e9e9u, 0x4987ceceu, 0xffaa5555u, 0x78502828u, 0x7aa5dfdfu,
+    0x8f038c8cu, 0xf859a1a1u, 0x80098989u, 0x171a0d0du, 0xda65bfbfu, 0x31d7e6e6u, 0xc6844242u, 0xb8d06868u,
+    0xc3824141u, 0xb0299999u, 0x775a2d2du, 0x111e0f0fu, 0xcb7bb0b0u, 0xfca85454u, 0xd66dbbbbu, 0x3a2c1616u
+};
+
+static const unsigned Te2[] = {
+    0x63a5c663u, 0x7c84f87cu, 0x7799ee77u, 0x7b8df67bu, 0xf20dfff2u, 0x6bbdd66bu, 0x6fb1de6fu, 0xc55491c5u,
+    0x30506030u, 0x01030201u, 0x67a9ce67u, 0x2b7d562bu, 0xfe19e7feu, 0xd762b5d7u, 0xabe64dabu, 0x769aec76u,
+    0xca458fcau, 0x829d1f82u, 0xc94089c9u, 0x7d87fa7du, 0xfa15effau, 0x59ebb259u, 0x47c98e47u, 0xf00bfbf0u,
+    0xadec41adu, 0xd467b3d4u, 0xa2fd5fa2u, 0xafea45afu, 0x9cbf239cu, 0xa4f753a4u, 0x7296e472u, 0xc05b9bc0u,
+    0xb7c275b7u, 0xfd1ce1fdu, 0x93ae3d93u, 0x266a4c26u, 0x365a6c36u, 0x3f417e3fu, 0xf702f5f7u, 0xcc4f83ccu,
+    0x345c6834u, 0xa5f451a5u, 0xe534d1e5u, 0xf108f9f1u, 0x7193e271u, 0xd873abd8u, 0x31536231u, 0x153f2a15u,
+    0x040c0804u, 0xc75295c7u, 0x23654623u, 0xc35e9dc3u, 0x18283018u, 0x96a13796u, 0x050f0a05u, 0x9ab52f9au,
+    0x07090e07u, 0x12362412u, 0x809b1b80u, 0xe23ddfe2u, 0xeb26cdebu, 0x27694e27u, 0xb2cd7fb2u, 0x759fea75u,
+    0x091b1209u, 0x839e1d83u, 0x2c74582cu, 0x1a2e341au, 0x1b2d361bu, 0x6eb2dc6eu, 0x5aeeb45au, 0xa0fb5ba0u,
+    0x52f6a452u, 0x3b4d763bu, 0xd661b7d6u, 0xb3ce7db3u, 0x297b5229u, 0xe33edde3u, 0x2f715e2fu, 0x84971384u,
+    0x53f5a653u, 0xd168b9d1u, 0x00000000u, 0xed2cc1edu, 0x20604020u, 0xfc1fe3fcu, 0xb1c879b1u, 0x5bedb65bu,
+    0x6abed46au, 0xcb468dcbu, 0xbed967beu, 0x394b7239u, 0x4ade944au, 0x4cd4984cu, 0x58e8b058u, 0xcf4a85cfu,
+    0xd06bbbd0u, 0xef2ac5efu, 0xaae54faau, 0xfb16edfbu, 0x43c58643u, 0x4dd79a4du, 0x33556633u, 0x85941185u,
+    0x45cf8a45u, 0xf910e9f9u, 0x02060402u, 0x7f81fe7fu, 0x50f0a050u, 0x3c44783cu, 0x9fba259fu, 0xa8e34ba8u,
+    0x51f3a251u, 0xa3fe5da3u, 0x40c08040u, 0x8f8a058fu, 0x92ad3f92u, 0x9dbc219du, 0x38487038u, 0xf504f1f5u,
+    0xbcdf63bcu, 0xb6c177b6u, 0xda75afdau, 0x21634221u, 0x10302010u, 0xff1ae5ffu, 0xf30efdf3u, 0xd26dbfd2u,
+    0xcd4c81cdu, 0x0c14180cu, 0x13352613u, 0xec2fc3ecu, 0x5fe1be5fu, 0x97a23597u, 0x44cc8844u, 0x17392e17u,
+    0xc45793c4u, 0xa7f255a7u, 0x7e82fc7eu, 0x3d477a3du, 0x64acc864u, 0x5de7ba5du, 0x192b3219u, 0x7395e673u,
+    0x60a0c060u, 0x81981981u, 0x4fd19e4fu, 0xdc7fa3dcu, 0x22664422u, 0x2a7e542au, 0x90ab3b90u, 0x88830b88u,
+    0x46ca8c46u, 0xee29c7eeu, 0xb8d36bb8u, 0x143c2814u, 0xde79a7deu, 0x5ee2bc5eu, 0x0b1d160bu, 0xdb76addbu,
+    0xe03bdbe0u, 0x32566432u, 0x3a4e743au, 0x0a1e140au, 0x49db9249u, 0x060a0c06u, 0x246c4824u, 0x5ce4b85cu,
+    0xc25d9fc2u, 0xd36ebdd3u, 0xacef43acu, 0x62a6c462u, 0x91a83991u, 0x95a43195u, 0xe437d3e4u, 0x798bf279u,
+    0xe732d5e7u, 0xc8438bc8u, 0x37596e37u, 0x6db7da6du, 0x8d8c018du, 0xd564b1d5u, 0x4ed29c4eu, 0xa9e049a9u,
+    0x6cb4d86cu, 0x56faac56u, 0xf407f3f4u, 0xea25cfeau, 0x65afca65u, 0x7a8ef47au, 0xaee947aeu, 0x08181008u,
+    0xbad56fbau, 0x7888f078u, 0x256f4a25u, 0x2e725c2eu, 0x1c24381cu, 0xa6f157a6u, 0xb4c773b4u, 0xc65197c6u,
+    0xe823cbe8u, 0xdd7ca1ddu, 0x749ce874u, 0x1f213e1fu, 0x4bdd964bu, 0xbddc61bdu, 0x8b860d8bu, 0x8a850f8au,
+    0x7090e070u, 0x3e427c3eu, 0xb5c471b5u, 0x66aacc66u, 0x48d89048u, 0x03050603u, 0xf601f7f6u, 0x0e121c0eu,
+    0x61a3c261u, 0x355f6a35u, 0x57f9ae57u, 0xb9d069b9u, 0x86911786u, 0xc15899c1u, 0x1d273a1du, 0x9eb9279eu,
+    0xe138d9e1u, 0xf813ebf8u, 0x98b32b98u, 0x11332211u, 0x69bbd269u, 0xd970a9d9u, 0x8e89078eu, 0x94a73394u,
+    0x9bb62d9bu, 0x1e223c1eu, 0x87921587u, 0xe920c9e9u, 0xce4987ceu, 0x55ffaa55u, 0x28785028u, 0xdf7aa5dfu,
+    0x8c8f038cu, 0xa1f859a1u, 0x89800989u, 0x0d171a0du, 0xbfda65bfu, 0xe631d7e6u, 0x42c68442u, 0x68b8d068u,
+    0x41c38241u, 0x99b02999u, 0x2d775a2du, 0x0f111e0fu, 0xb0cb7bb0u, 0x54fca854u, 0xbbd66dbbu, 0x163a2c16u
+};
+
+static const unsigned Te3[] = {
+    0x6363a5c6u, 0x7c7c84f8u, 0x777799eeu, 0x7b7b8df6u, 0xf2f20dffu, 0x6b6bbdd6u, 0x6f6fb1deu, 0xc5c55491u,
+    0x30305060u, 0x01010302u, 0x6767a9ceu, 0x2b2b7d56u, 0xfefe19e7u, 0xd7d762b5u, 0xababe64du, 0x76769aecu,
+    0xcaca458fu, 0x82829d1fu, 0xc9c94089u, 0x7d7d87fau, 0xfafa15efu, 0x5959ebb2u, 0x4747c98eu, 0xf0f00bfbu,
+    0xadadec41u, 0xd4d467b3u, 0xa2a2fd5fu, 0xafafea45u, 0x9c9cbf23u, 0xa4a4f753u, 0x727296e4u, 0xc0c05b9bu,
+    0xb7b7c275u, 0xfdfd1ce1u, 0x9393ae3du, 0x26266a4cu, 0x36365a6cu, 0x3f3f417eu, 0xf7f702f5u, 0xcccc4f83u,
+    0x34345c68u, 0xa5a5f451u, 0xe5e534d1u, 0xf1f108f9u, 0x717193e2u, 0xd8d873abu, 0x31315362u, 0x15153f2au,
+    0x04040c08u, 0xc7c75295u, 0x23236546u, 0xc3c35e9du, 0x18182830u, 0x9696a137u, 0x05050f0au, 0x9a9ab52fu,
+    0x0707090eu, 0x12123624u, 0x80809b1bu, 0xe2e23ddfu, 0xebeb26cdu, 0x2727694eu, 0xb2b2cd7fu, 0x75759feau,
+    0x09091b12u, 0x83839e1du, 0x2c2c7458u, 0x1a1a2e34u, 0x1b1b2d36u, 0x6e6eb2dcu, 0x5a5aeeb4u, 0xa0a0fb5bu,
+    0x5252f6a4u, 0x3b3b4d76u, 0xd6d661b7u, 0xb3b3ce7du, 0x29297b52u, 0xe3e33eddu, 0x2f2f715eu, 0x84849713u,
+    0x5353f5a6u, 0xd1d168b9u, 0x00000000u, 0xeded2cc1u, 0x20206040u, 0xfcfc1fe3u, 0xb1b1c879u, 0x5b5bedb6u,
+    0x6a6abed4u, 0xcbcb468du, 0xbebed967u, 0x39394b72u, 0x4a4ade94u, 0x4c4cd498u, 0x5858e8b0u, 0xcfcf4a85u,
+    0xd0d06bbbu, 0xefef2ac5u, 0xaaaae54fu, 0xfbfb16edu, 0x4343c586u, 0x4d4dd79au, 0x33335566u, 0x85859411u,
+    0x4545cf8au, 0xf9f910e9u, 0x02020604u, 0x7f7f81feu, 0x5050f0a0u, 0x3c3c4478u, 0x9f9fba25u, 0xa8a8e34bu,
+    0x5151f3a2u, 0xa3a3fe5du, 0x4040c080u, 0x8f8f8a05u, 0x9292ad3fu, 0x9d9dbc21u, 0x38384870u, 0xf5f504f1u,
+    0xbcbcdf63u, 0xb6b6c177u, 0xdada75afu, 0x21216342u, 0x10103020u, 0xffff1ae5u, 0xf3f30efdu, 0xd2d26dbfu,
+    0xcdcd4c81u, 0x0c0c1418u, 0x13133526u, 0xecec2fc3u, 0x5f5fe1beu, 0x9797a235u, 0x4444cc88u, 0x1717392eu,
+    0xc4c45793u, 0xa7a7f255u, 0x7e7e82fcu, 0x3d3d477au, 0x6464acc8u, 0x5d5de7bau, 0x19192b32u, 0x737395e6u,
+    0x6060a0c0u, 0x81819819u, 0x4f4fd19eu, 0xdcdc7fa3u, 0x22226644u, 0x2a2a7e54u, 0x9090ab3bu, 0x8888830bu,
+    0x4646ca8cu, 0xeeee29c7u, 0xb8b8d36bu, 0x14143c28u, 0xdede79a7u, 0x5e5ee2bcu, 0x0b0b1d16u, 0xdbdb76adu,
+    0xe0e03bdbu, 0x32325664u, 0x3a3a4e74u, 0x0a0a1e14u, 0x4949db92u, 0x06060a0cu, 0x24246c48u, 0x5c5ce4b8u,
+    0xc2c25d9fu, 0xd3d36ebdu, 0xacacef43u, 0x6262a6c4u, 0x9191a839u, 0x9595a431u, 0xe4e437d3u, 0x79798bf2u,
+    0xe7e732d5u, 0xc8c8438bu, 0x3737596eu, 0x6d6db7dau, 0x8d8d8c01u, 0xd5d564b1u, 0x4e4ed29cu, 0xa9a9e049u,
+    0x6c6cb4d8u, 0x5656faacu, 0xf4f407f3u, 0xeaea25cfu, 0x6565afcau, 0x7a7a8ef4u, 0xaeaee947u, 0x08081810u,
+    0xbabad56fu, 0x787888f0u, 0x25256f4au, 0x2e2e725cu, 0x1c1c2438u, 0xa6a6f157u, 0xb4b4c773u, 0xc6c65197u,
+    0xe8e823cbu, 0xdddd7ca1u, 0x74749ce8u, 0x1f1f213eu, 0x4b4bdd96u, 0xbdbddc61u, 0x8b8b860du, 0x8a8a850fu,
+    0x707090e0u, 0x3e3e427cu, 0xb5b5c471u, 0x6666aaccu, 0x4848d890u, 0x03030506u, 0xf6f601f7u, 0x0e0e121cu,
+    0x6161a3c2u, 0x35355f6au, 0x5757f9aeu, 0xb9b9d069u, 0x86869117u, 0xc1c15899u, 0x1d1d273au, 0x9e9eb927u,
+    0xe1e138d9u, 0xf8f813ebu, 0x9898b32bu, 0x11113322u, 0x6969bbd2u, 0xd9d970a9u, 0x8e8e8907u, 0x9494a733u,
+    0x9b9bb62du, 0x1e1e223cu, 0x87879215u, 0xe9e920c9u, 0xcece4987u, 0x5555ffaau, 0x28287850u, 0xdfdf7aa5u,
+    0x8c8c8f03u, 0xa1a1f859u, 0x89898009u, 0x0d0d171au, 0xbfbfda65u, 0xe6e631d7u, 0x4242c684u, 0x6868b8d0u,
+    0x4141c382u, 0x9999b029u, 0x2d2d775au, 0x0f0f111eu, 0xb0b0cb7bu, 0x5454fca8u, 0xbbbbd66du, 0x16163a2cu
+};
+
+static void encrypt_0(const unsigned *in, unsigned *out) {
+    unsigned s0, s1, s2, s3, t0, t1, t2, t3;
+
+    s0 = in[0] ^ 0x00010203u;
+    s1 = in[1] ^ 0x04050607u;
+    s2 = in[2] ^ 0x08090a0bu;
+    s3 = in[3] ^ 0x0c0d0e0fu;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xd6aa74fdu;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xd2af72fau;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0xdaa678f1u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0xd6ab76feu;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0xb692cf0bu;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x643dbdf1u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0xbe9bc500u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x6830b3feu;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xb6ff744eu;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xd2c2c9bfu;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x6c590cbfu;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x0469bf41u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x47f7f7bcu;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x95353e03u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0xf96c32bcu;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0xfd058dfdu;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x3caaa3e8u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xa99f9debu;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x50f3af57u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0xadf622aau;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x5e390f7du;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0xf7a69296u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0xa7553dc1u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x0aa31f6bu;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x14f9701au;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xe35fe28cu;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x440adf4du;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x4ea9c026u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x47438735u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0xa41c65b9u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0xe016baf4u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0xaebf7ad2u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x549932d1u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xf0855768u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x1093ed9cu;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0xbe2c974eu;
+
+    out[0] = (Te2[t0 >> 24] & 0xff000000u) ^ (Te3[(t1 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t2 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t3 & 0xff] & 0x000000ffu) ^ 0x13111d7fu;
+    out[1] = (Te2[t1 >> 24] & 0xff000000u) ^ (Te3[(t2 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t3 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t0 & 0xff] & 0x000000ffu) ^ 0xe3944a17u;
+    out[2] = (Te2[t2 >> 24] & 0xff000000u) ^ (Te3[(t3 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t0 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t1 & 0xff] & 0x000000ffu) ^ 0xf307a78bu;
+    out[3] = (Te2[t3 >> 24] & 0xff000000u) ^ (Te3[(t0 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t1 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t2 & 0xff] & 0x000000ffu) ^ 0x4d2b30c5u;
+}
+
+static void encrypt_1(const unsigned *in, unsigned *out) {
+    unsigned s0, s1, s2, s3, t0, t1, t2, t3;
+
+    s0 = in[0] ^ 0x0743530au;
+    s1 = in[1] ^ 0x603c14f8u;
+    s2 = in[2] ^ 0xe93268d4u;
+    s3 = in[3] ^ 0x72564efau;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xb76c7e4au;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xd7506ab2u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x3e620266u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x4c344c9cu;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0xad45a063u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x7a15cad1u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x4477c8b7u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x0843842bu;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xb31a5153u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xc90f9b82u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x8d785335u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x853bd71eu;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x591423c4u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x901bb846u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x1d63eb73u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x98583c6du;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x23ff1f82u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xb3e4a7c4u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0xae874cb7u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x36df70dau;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x9dae4887u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x2e4aef43u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x80cda3f4u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0xb612d32eu;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x14c879c9u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x3a82968au;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0xba4f357eu;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x0c5de650u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0xd8462a37u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0xe2c4bcbdu;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x588b89c3u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x54d66f93u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x35eef617u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xd72a4aaau;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x8fa1c369u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0xdb77acfau;
+
+    out[0] = (Te2[t0 >> 24] & 0xff000000u) ^ (Te3[(t1 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t2 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t3 & 0xff] & 0x000000ffu) ^ 0xf67fdbaeu;
+    out[1] = (Te2[t1 >> 24] & 0xff000000u) ^ (Te3[(t2 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t3 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t0 & 0xff] & 0x000000ffu) ^ 0x21559104u;
+    out[2] = (Te2[t2 >> 24] & 0xff000000u) ^ (Te3[(t3 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t0 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t1 & 0xff] & 0x000000ffu) ^ 0xaef4526du;
+    out[3] = (Te2[t3 >> 24] & 0xff000000u) ^ (Te3[(t0 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t1 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t2 & 0xff] & 0x000000ffu) ^ 0x7583fe97u;
+}
+
+static void encrypt_2(const unsigned *in, unsigned *out) {
+    unsigned s0, s1, s2, s3, t0, t1, t2, t3;
+
+    s0 = in[0] ^ 0xd3fc9af6u;
+    s1 = in[1] ^ 0x98277cd5u;
+    s2 = in[2] ^ 0x7af3fdb5u;
+    s3 = in[3] ^ 0x6194a48au;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xf0b5e419u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x689298ccu;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x12616579u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x73f5c1f3u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x14cde996u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x7c5f715au;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x6e3e1423u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x1dcbd5d0u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x0fce9932u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x7391e868u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x1daffc4bu;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x0064299bu;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x446b8d51u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x37fa6539u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x2a559972u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x2a31b0e9u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x938c93b4u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xa476f68du;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x8e236fffu;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0xa412df16u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x7a12d4fdu;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0xde642270u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x50474d8fu;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0xf4559299u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xc65d3a42u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x18391832u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x487e55bdu;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0xbc2bc724u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0xb79b0c27u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0xafa21415u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0xe7dc41a8u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x5bf7868cu;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xc4df681eu;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x6b7d7c0bu;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x8ca13da3u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0xd756bb2fu;
+
+    out[0] = (Te2[t0 >> 24] & 0xff000000u) ^ (Te3[(t1 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t2 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t3 & 0xff] & 0x000000ffu) ^ 0x43357d10u;
+    out[1] = (Te2[t1 >> 24] & 0xff000000u) ^ (Te3[(t2 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t3 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t0 & 0xff] & 0x000000ffu) ^ 0x2848011bu;
+    out[2] = (Te2[t2 >> 24] & 0xff000000u) ^ (Te3[(t3 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t0 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t1 & 0xff] & 0x000000ffu) ^ 0xa4e93cb8u;
+    out[3] = (Te2[t3 >> 24] & 0xff000000u) ^ (Te3[(t0 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t1 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t2 & 0xff] & 0x000000ffu) ^ 0x73bf8797u;
+}
+
+static void encrypt_3(const unsigned *in, unsigned *out) {
+    unsigned s0, s1, s2, s3, t0, t1, t2, t3;
+
+    s0 = in[0] ^ 0xafff2fb8u;
+    s1 = in[1] ^ 0xba91bf98u;
+    s2 = in[2] ^ 0x9f97d883u;
+    s3 = in[3] ^ 0x2c57b6b9u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xf5b179c9u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x4f20c651u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0xd0b71ed2u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0xfce0a86bu;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x16730679u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x5953c028u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x89e4defau;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x75047691u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xe04b87e4u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xb91847ccu;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x30fc9936u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x45f8efa7u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0xa994db8au;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x108c9c46u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x20700570u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x6588ead7u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x7d13d5c7u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x6d9f4981u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x4def4cf1u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x2867a626u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0xd83722f3u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0xb5a86b72u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0xf8472783u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0xd02081a5u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x2f3b2483u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x9a934ff1u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x62d46872u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0xb2f4e9d7u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x10252ab4u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x8ab66545u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0xe8620d37u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x5a96e4e0u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x9b4ccb0au;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x11faae4fu;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0xf998a378u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0xa30e4798u;
+
+    out[0] = (Te2[t0 >> 24] & 0xff000000u) ^ (Te3[(t1 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t2 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t3 & 0xff] & 0x000000ffu) ^ 0x06ec8d00u;
+    out[1] = (Te2[t1 >> 24] & 0xff000000u) ^ (Te3[(t2 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t3 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t0 & 0xff] & 0x000000ffu) ^ 0x1716234fu;
+    out[2] = (Te2[t2 >> 24] & 0xff000000u) ^ (Te3[(t3 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t0 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t1 & 0xff] & 0x000000ffu) ^ 0xee8e8037u;
+    out[3] = (Te2[t3 >> 24] & 0xff000000u) ^ (Te3[(t0 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t1 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t2 & 0xff] & 0x000000ffu) ^ 0x4d80c7afu;
+}
+
+static void encrypt_4(const unsigned *in, unsigned *out) {
+    unsigned s0, s1, s2, s3, t0, t1, t2, t3;
+
+    s0 = in[0] ^ 0x5cf8ca7eu;
+    s1 = in[1] ^ 0xa9c04dd7u;
+    s2 = in[2] ^ 0xdfda1dc7u;
+    s3 = in[3] ^ 0x4aa0404bu;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xbdf179a8u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x1431347fu;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0xcbeb29b8u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x814b69f3u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x0c0874a4u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x183940dbu;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0xd3d26963u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x52990090u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xe66b14a4u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xfe52547fu;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x2d803d1cu;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x7f193d8cu;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x3a4c7076u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0xc41e2409u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0xe99e1915u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x96872499u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x3d7a9ee6u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xf964baefu;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x10faa3fau;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x867d8763u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0xe26d65a2u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x1b09df4du;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x0bf37cb7u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x8d8efbd4u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xbb622dffu;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xa06bf2b2u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0xab988e05u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x261675d1u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x7cff1308u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0xdc94e1bau;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x770c6fbfu;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x511a1a6eu;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xc55d8cd9u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x19c96d63u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x6ec502dcu;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x3fdf18b2u;
+
+    out[0] = (Te2[t0 >> 24] & 0xff000000u) ^ (Te3[(t1 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t2 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t3 & 0xff] & 0x000000ffu) ^ 0x6df0bbacu;
+    out[1] = (Te2[t1 >> 24] & 0xff000000u) ^ (Te3[(t2 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t3 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t0 & 0xff] & 0x000000ffu) ^ 0x7439d6cfu;
+    out[2] = (Te2[t2 >> 24] & 0xff000000u) ^ (Te3[(t3 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t0 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t1 & 0xff] & 0x000000ffu) ^ 0x1afcd413u;
+    out[3] = (Te2[t3 >> 24] & 0xff000000u) ^ (Te3[(t0 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t1 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t2 & 0xff] & 0x000000ffu) ^ 0x2523cca1u;
+}
+
+static void encrypt_5(const unsigned *in, unsigned *out) {
+    unsigned s0, s1, s2, s3, t0, t1, t2, t3;
+
+    s0 = in[0] ^ 0xf4aec8f9u;
+    s1 = in[1] ^ 0xce18014fu;
+    s2 = in[2] ^ 0xcb6c4d66u;
+    s3 = in[3] ^ 0xa6837b75u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x198f55ddu;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xd7975492u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x1cfb19f4u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0xba786281u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0xa7255929u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x70b20dbbu;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x6c49144fu;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0xd63176ceu;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x641dd2dfu;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x14afdf64u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x78e6cb2bu;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0xaed7bde5u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x62670b3bu;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x76c8d45fu;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x0e2e1f74u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0xa0f9a291u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xeb5d8adbu;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x9d955e84u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x93bb41f0u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x3342e361u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0xe74c6518u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x7ad93b9cu;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0xe9627a6cu;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0xda20990du;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x10a2b24fu;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x6a7b89d3u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x8319f3bfu;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x59396ab2u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x82a08584u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0xe8db0c57u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x6bc2ffe8u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x32fb955au;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x968a3ba7u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x7e5137f0u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x1593c818u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x27685d42u;
+
+    out[0] = (Te2[t0 >> 24] & 0xff000000u) ^ (Te3[(t1 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t2 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t3 & 0xff] & 0x000000ffu) ^ 0xe5c6176bu;
+    out[1] = (Te2[t1 >> 24] & 0xff000000u) ^ (Te3[(t2 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t3 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t0 & 0xff] & 0x000000ffu) ^ 0x9b97209bu;
+    out[2] = (Te2[t2 >> 24] & 0xff000000u) ^ (Te3[(t3 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t0 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t1 & 0xff] & 0x000000ffu) ^ 0x8e04e883u;
+    out[3] = (Te2[t3 >> 24] & 0xff000000u) ^ (Te3[(t0 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t1 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t2 & 0xff] & 0x000000ffu) ^ 0xa96cb5c1u;
+}
+
+static void encrypt_6(const unsigned *in, unsigned *out) {
+    unsigned s0, s1, s2, s3, t0, t1, t2, t3;
+
+    s0 = in[0] ^ 0x6b853eaau;
+    s1 = in[1] ^ 0x21583b00u;
+    s2 = in[2] ^ 0x0205e272u;
+    s3 = in[3] ^ 0x1d5dcafcu;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x26f18e0eu;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x07a9b50eu;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x05ac577cu;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x18f19d80u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x85af43a3u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x8206f6adu;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x87aaa1d1u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x9f5b3c51u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xb8449278u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x3a4264d5u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0xbde8c504u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x22b3f955u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0xdddd6eebu;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0xe79f0a3eu;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x5a77cf3au;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x78c4366fu;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xd1d8c657u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x3647cc69u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x6c300353u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x14f4353cu;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x4e4e2dadu;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x7809e1c4u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x1439e297u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x00cdd7abu;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xb3404fceu;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xcb49ae0au;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0xdf704c9du;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0xdfbd9b36u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x49544a50u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x821de45au;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x5d6da8c7u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x82d033f1u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x2297eb43u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xa08a0f19u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0xfde7a7deu;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x7f37942fu;
+
+    out[0] = (Te2[t0 >> 24] & 0xff000000u) ^ (Te3[(t1 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t2 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t3 & 0xff] & 0x000000ffu) ^ 0x8eb5fe91u;
+    out[1] = (Te2[t1 >> 24] & 0xff000000u) ^ (Te3[(t2 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t3 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t0 & 0xff] & 0x000000ffu) ^ 0x2e3ff188u;
+    out[2] = (Te2[t2 >> 24] & 0xff000000u) ^ (Te3[(t3 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t0 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t1 & 0xff] & 0x000000ffu) ^ 0xd3d85656u;
+    out[3] = (Te2[t3 >> 24] & 0xff000000u) ^ (Te3[(t0 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t1 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t2 & 0xff] & 0x000000ffu) ^ 0xacefc279u;
+}
+
+static void encrypt_7(const unsigned *in, unsigned *out) {
+    unsigned s0, s1, s2, s3, t0, t1, t2, t3;
+
+    s0 = in[0] ^ 0xac8a4e4cu;
+    s1 = in[1] ^ 0xa2dc9d93u;
+    s2 = in[2] ^ 0xa95de1f0u;
+    s3 = in[3] ^ 0x34485e59u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xffd28554u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x5d0e18c7u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0xf453f937u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0xc01ba76eu;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x528e1aeeu;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x0f800229u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0xfbd3fb1eu;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x3bc85c70u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xbec44b0cu;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0xb1444925u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x4a97b23bu;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x715fee4bu;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x79ecf8afu;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0xc8a8b18au;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x823f03b1u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0xf360edfau;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xb9b9d5a2u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x71116428u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0xf32e6799u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x004e8a63u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0xb6c72ec1u;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0xc7d64ae9u;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x34f82d70u;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x34b6a713u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0xb89b53d9u;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x7f4d1930u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x4bb53440u;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x7f039353u;
+
+    s0 = Te0[t0 >> 24] ^ Te1[(t1 >> 16) & 0xff] ^ Te2[(t2 >> 8) & 0xff] ^ Te3[t3 & 0xff] ^ 0x4347be0bu;
+    s1 = Te0[t1 >> 24] ^ Te1[(t2 >> 16) & 0xff] ^ Te2[(t3 >> 8) & 0xff] ^ Te3[t0 & 0xff] ^ 0x3c0aa73bu;
+    s2 = Te0[t2 >> 24] ^ Te1[(t3 >> 16) & 0xff] ^ Te2[(t0 >> 8) & 0xff] ^ Te3[t1 & 0xff] ^ 0x77bf937bu;
+    s3 = Te0[t3 >> 24] ^ Te1[(t0 >> 16) & 0xff] ^ Te2[(t1 >> 8) & 0xff] ^ Te3[t2 & 0xff] ^ 0x08bc0028u;
+
+    t0 = Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ 0x3d248a3bu;
+    t1 = Te0[s1 >> 24] ^ Te1[(s2 >> 16) & 0xff] ^ Te2[(s3 >> 8) & 0xff] ^ Te3[s0 & 0xff] ^ 0x012e2d00u;
+    t2 = Te0[s2 >> 24] ^ Te1[(s3 >> 16) & 0xff] ^ Te2[(s0 >> 8) & 0xff] ^ Te3[s1 & 0xff] ^ 0x7691be7bu;
+    t3 = Te0[s3 >> 24] ^ Te1[(s0 >> 16) & 0xff] ^ Te2[(s1 >> 8) & 0xff] ^ Te3[s2 & 0xff] ^ 0x7e2dbe53u;
+
+    out[0] = (Te2[t0 >> 24] & 0xff000000u) ^ (Te3[(t1 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t2 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t3 & 0xff] & 0x000000ffu) ^ 0xd38a67c8u;
+    out[1] = (Te2[t1 >> 24] & 0xff000000u) ^ (Te3[(t2 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t3 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t0 & 0xff] & 0x000000ffu) ^ 0xd2a44ac8u;
+    out[2] = (Te2[t2 >> 24] & 0xff000000u) ^ (Te3[(t3 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t0 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t1 & 0xff] & 0x000000ffu) ^ 0xa435f4b3u;
+    out[3] = (Te2[t3 >> 24] & 0xff000000u) ^ (Te3[(t0 >> 16) & 0xff] & 0x00ff0000u)
+        ^ (Te0[(t1 >> 8) & 0xff] & 0x0000ff00u) ^ (Te1[t2 & 0xff] & 0x000000ffu) ^ 0xda184ae0u;
+}
+
+static unsigned plaintexts[] = {
+    0x00112233u, 0x44556677u, 0x8899aabbu, 0xccddeeffu, 0xf27e974bu, 0x31404acfu, 0xe145502au, 0x4b8be5ccu,
+    0x564584b7u, 0xf88d0fdau, 0xf20e3debu, 0xedc03c8eu, 0x53d3c8c9u, 0xc3f86dbdu, 0x083c661cu, 0xfc1548a3u,
+    0x30bed0eeu, 0x2567c820u, 0x5393d22au, 0x3a0f5efau, 0x8814a01bu, 0x43031210u, 0x19459767u, 0x6a618920u,
+    0xf612bee0u, 0xcc69f0a0u, 0x267c293du, 0xc8dc6da6u, 0xdfce8847u, 0x6e243c57u, 0x760bd8adu, 0xae50782eu
+};
+
+static unsigned ciphertexts[] = {
+    0x69c4e0d8u, 0x6a7b0430u, 0xd8cdb780u, 0x70b4c55au, 0xca90efb0u, 0x7722d74fu, 0x2f46a8fcu, 0x05711e45u,
+    0x36fe9014u, 0x3b686aabu, 0x60db8a58u, 0xcf5782adu, 0x9b8bd148u, 0x52e0f812u, 0x204565f9u, 0xf7d7db70u,
+    0xcedd0defu, 0x20b76e05u, 0xf6c7f3ecu, 0x50b29b23u, 0xe75a8c1eu, 0xd9ae29eau, 0x940a7587u, 0x6dfd2583u,
+    0xcdf9a962u, 0x3162b841u, 0x5e3fe3e7u, 0x754640b7u, 0xfcb9e780u, 0xbf5a450eu, 0xf821d75bu, 0x53fa4d11u
+};
+
+static const unsigned *plaintext(int index) {
+    return &plaintexts[index * 4];
+}
+
+static void check(int index, const unsigned *result) {
+    int i;
+
+    for(i = 0; i < 4; ++i)
+        if(result[i] != ciphertexts[index * 4 + i])
+            test_fail("encrypt", index * 4 + i, plaintexts[index * 4 + i], result[i], ciphertexts[index * 4 + i]);
+}
+
+void test_main(void) {
+    unsigned result[4];
+
+    encrypt_0(plaintext(0), result);
+    check(0, result);
+    encrypt_1(plaintext(1), result);
+    check(1, result);
+    encrypt_2(plaintext(2), result);
+    check(2, result);
+    encrypt_3(plaintext(3), result);
+    check(3, result);
+    encrypt_4(plaintext(4), result);
+    check(4, result);
+    encrypt_5(plaintext(5), result);
+    check(5, result);
+    encrypt_6(plaintext(6), result);
+    check(6, result);
+    encrypt_7(plaintext(7), result);
+    check(7, result);
+}
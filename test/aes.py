@@ -0,0 +1,187 @@
+#!/usr/bin/python3
+# Generates aes.c, which checks COUNT fully unrolled AES-128 encryption functions.
+# Every function has its own key, whose expanded round keys are inlined as
+# constants, so that each round consists of expression-dense table lookups such as
+# 'Te0[s0 >> 24] ^ Te1[(s1 >> 16) & 0xff] ^ Te2[(s2 >> 8) & 0xff] ^ Te3[s3 & 0xff] ^ k'.
+# The first function uses the key of the example vector in FIPS-197, appendix C.1.
+#
+# usage: ./aes.py [COUNT] > aes.c
+import random
+import sys
+
+COUNT = int(sys.argv[1]) if len(sys.argv) > 1 else 8
+
+random.seed(197)
+
+ROUNDS = 10
+
+def xtime(x):
+    x <<= 1
+    return (x ^ 0x11b) if x & 0x100 else x
+
+def multiply(a, b):
+    result = 0
+
+    while b:
+        if b & 1:
+            result ^= a
+        a = xtime(a)
+        b >>= 1
+
+    return result
+
+def inverse(x):
+    # x^254 is the multiplicative inverse of x in GF(2^8), and 0 for x = 0
+    result = 1
+
+    for i in range(254):
+        result = multiply(result, x)
+
+    return result
+
+def rotl8(x, shift):
+    return ((x << shift) | (x >> (8 - shift))) & 0xff
+
+def substitute(x):
+    x = inverse(x)
+    return x ^ rotl8(x, 1) ^ rotl8(x, 2) ^ rotl8(x, 3) ^ rotl8(x, 4) ^ 0x63
+
+SBOX = [ substitute(x) for x in range(256) ]
+
+def word(b0, b1, b2, b3):
+    return (b0 << 24) | (b1 << 16) | (b2 << 8) | b3
+
+def ror32(x, shift):
+    return ((x >> shift) | (x << (32 - shift))) & 0xffffffff
+
+# Te0[x] = (2 s, s, s, 3 s) with s = S[x], Te1 to Te3 are rotated by 1 to 3 bytes
+TE0 = [ word(multiply(s, 2), s, s, multiply(s, 3)) for s in SBOX ]
+TE = [ [ ror32(x, 8 * i) for x in TE0 ] for i in range(4) ]
+
+def expand_key(key):
+    words = [ word(*key[i:i + 4]) for i in range(0, 16, 4) ]
+    rcon = 1
+
+    for i in range(4, 4 * (ROUNDS + 1)):
+        temp = words[i - 1]
+
+        if i % 4 == 0:
+            temp = ror32(temp, 24)
+            temp = word(*[ SBOX[(temp >> shift) & 0xff] for shift in (24, 16, 8, 0) ]) ^ (rcon << 24)
+            rcon = xtime(rcon)
+
+        words.append(words[i - 4] ^ temp)
+
+    return words
+
+def byte(x, index):
+    return (x >> (24 - 8 * index)) & 0xff
+
+def encrypt(words, block):
+    state = [ block[i] ^ words[i] for i in range(4) ]
+
+    for round in range(1, ROUNDS):
+        state = [
+            TE[0][byte(state[i], 0)] ^ TE[1][byte(state[(i + 1) % 4], 1)]
+                ^ TE[2][byte(state[(i + 2) % 4], 2)] ^ TE[3][byte(state[(i + 3) % 4], 3)]
+                ^ words[4 * round + i]
+            for i in range(4)
+        ]
+
+    return [
+        word(*[ SBOX[byte(state[(i + j) % 4], j)] for j in range(4) ]) ^ words[4 * ROUNDS + i]
+        for i in range(4)
+    ]
+
+# the lookup of the byte 'index' of the state word 'name'
+def lookup(table, name, index):
+    if index == 0:
+        operand = '%s >> 24' % name
+    elif index == 3:
+        operand = '%s & 0xff' % name
+    else:
+        operand = '(%s >> %d) & 0xff' % (name, 24 - 8 * index)
+
+    return 'Te%d[%s]' % (table, operand)
+
+# the final round has no MixColumns, so the S-box is extracted from the tables
+FINAL_TABLES = [ (2, '0xff000000u'), (3, '0x00ff0000u'), (0, '0x0000ff00u'), (1, '0x000000ffu') ]
+
+def function(index, words):
+    out = [ 'static void encrypt_%d(const unsigned *in, unsigned *out) {' % index ]
+    out.append('    unsigned s0, s1, s2, s3, t0, t1, t2, t3;\n')
+
+    for i in range(4):
+        out.append('    s%d = in[%d] ^ 0x%08xu;' % (i, i, words[i]))
+
+    for round in range(1, ROUNDS + 1):
+        source, target = ('s', 't') if round % 2 else ('t', 's')
+
+        out.append('')
+
+        for i in range(4):
+            names = [ '%s%d' % (source, (i + j) % 4) for j in range(4) ]
+
+            if round == ROUNDS:
+                terms = [ '(%s & %s)' % (lookup(table, names[j], j), mask) for j, (table, mask) in enumerate(FINAL_TABLES) ]
+                out.append('    out[%d] = %s\n        ^ %s ^ 0x%08xu;' % (
+                    i, ' ^ '.join(terms[:2]), ' ^ '.join(terms[2:]), words[4 * round + i]
+                ))
+            else:
+                terms = [ lookup(j, names[j], j) for j in range(4) ]
+                out.append('    %s%d = %s ^ 0x%08xu;' % (target, i, ' ^ '.join(terms), words[4 * round + i]))
+
+    out.append('}\n')
+
+    return '\n'.join(out)
+
+def array(type, name, values):
+    return 'static %s %s[] = {\n%s\n};\n' % (type, name, ',\n'.join(
+        '    ' + ', '.join(values[i:i + 8])
+        for i in range(0, len(values), 8)
+    ))
+
+def hex_words(words):
+    return [ '0x%08xu' % x for x in words ]
+
+keys = [ list(range(16)) ] + [ [ random.randrange(256) for i in range(16) ] for i in range(COUNT - 1) ]
+blocks = [ [ 0x00112233, 0x44556677, 0x8899aabb, 0xccddeeff ] ] + [
+    [ random.randrange(1 << 32) for i in range(4) ] for i in range(COUNT - 1)
+]
+
+expanded = [ expand_key(key) for key in keys ]
+
+out = [ '/* (c) 2023, Thomas Kasper */\n', '/* Generated by aes.py, do not edit */\n', '#include "syntaxtest.h"\n' ]
+
+for i in range(4):
+    out.append(array('const unsigned', 'Te%d' % i, hex_words(TE[i])))
+
+for index, words in enumerate(expanded):
+    out.append(function(index, words))
+
+out.append(array('unsigned', 'plaintexts', hex_words(sum(blocks, []))))
+out.append(array('unsigned', 'ciphertexts', hex_words(sum(
+    (encrypt(words, block) for words, block in zip(expanded, blocks)), []
+))))
+
+out.append('''static const unsigned *plaintext(int index) {
+    return &plaintexts[index * 4];
+}
+
+static void check(int index, const unsigned *result) {
+    int i;
+
+    for(i = 0; i < 4; ++i)
+        if(result[i] != ciphertexts[index * 4 + i])
+            test_fail("encrypt", index * 4 + i, plaintexts[index * 4 + i], result[i], ciphertexts[index * 4 + i]);
+}
+
+void test_main(void) {
+    unsigned result[4];
+
+%s
+}''' % '\n'.join(
+    '    encrypt_%d(plaintext(%d), result);\n    check(%d, result);' % (i, i, i) for i in range(COUNT)
+))
+
+print('\n'.join(out))
@@ -0,0 +1,32 @@
+#!/bin/sh
+
+# Measures how long SyntaxC takes to compile expression-dense code, consisting of
+# unrolled AES-128 round functions (generated by aes.py)
+#
+# usage: ./benchmark-aes.sh [COUNT] [RUNS]
+
+SYNTAXC_JAR=${SYNTAXC_JAR:-syntaxc.jar}
+SYNTAXC=${SYNTAXC:-"java -Xss8m --enable-preview -jar $SYNTAXC_JAR"}
+
+COUNT=${1:-100}
+RUNS=${2:-5}
+
+mkdir -p asm
+mkdir -p bin
+
+python3 aes.py $COUNT > bin/aes-$COUNT.c || exit 1
+
+echo "Compiling $COUNT unrolled AES-128 encryption functions..."
+
+for run in `seq $RUNS`; do
+    start=`date +%s.%N`
+
+    $SYNTAXC -S -m32 -Wno-all -I. bin/aes-$COUNT.c -o asm/aes-$COUNT.s > bin/aes-$COUNT.log 2>&1 || {
+        echo "Compilation failed, see bin/aes-$COUNT.log"
+        exit 1
+    }
+
+    end=`date +%s.%N`
+
+    echo "Run $run: `awk "BEGIN { print $end - $start }"` seconds"
+done
@@ -0,0 +1,32 @@
+#!/bin/sh
+
+# Measures how long SyntaxC takes to compile a source consisting mostly of
+# floating-point constants (generated by floats.py)
+#
+# usage: ./benchmark-floats.sh [COUNT] [RUNS]
+
+SYNTAXC_JAR=${SYNTAXC_JAR:-syntaxc.jar}
+SYNTAXC=${SYNTAXC:-"java -Xss8m --enable-preview -jar $SYNTAXC_JAR"}
+
+COUNT=${1:-5000}
+RUNS=${2:-5}
+
+mkdir -p asm
+mkdir -p bin
+
+python3 floats.py $COUNT > bin/floats-$COUNT.c || exit 1
+
+echo "Compiling $COUNT random constants of each floating-point type..."
+
+for run in `seq $RUNS`; do
+    start=`date +%s.%N`
+
+    $SYNTAXC -S -m32 -Wno-all -I. bin/floats-$COUNT.c -o asm/floats-$COUNT.s > bin/floats-$COUNT.log 2>&1 || {
+        echo "Compilation failed, see bin/floats-$COUNT.log"
+        exit 1
+    }
+
+    end=`date +%s.%N`
+
+    echo "Run $run: `awk "BEGIN { print $end - $start }"` seconds"
+done
@@ -0,0 +1,6 @@
+#!/bin/sh
+
+echo "Cleaning files..."
+
+rm -rf asm
+rm -rf bin
@@ -0,0 +1,3357 @@
+/* (c) 2023, Thomas Kasper */
+
+/* Generated by division.py, do not edit */
+
+#include "syntaxtest.h"
+
+static int signed_divisors[] = {
+    1, -1, 2, -2, 3, -3, 4, -4,
+    5, -5, 6, 7, -7, 8, -8, 9,
+    10, 11, 12, 13, 16, -16, 25, 31,
+    32, 60, 64, 100, -100, 125, 128, 255,
+    256, 641, 1000, 1024, 65535, 65536, 1073741824, -1073741824,
+    2147483647, (-2147483647 - 1)
+};
+
+static unsigned unsigned_divisors[] = {
+    1u, 2u, 3u, 4u, 5u, 6u, 7u, 8u,
+    9u, 10u, 11u, 12u, 13u, 16u, 25u, 31u,
+    32u, 100u, 125u, 255u, 256u, 641u, 1000u, 1024u,
+    65535u, 65536u, 2147483647u, 2147483648u, 2147483649u, 4294967294u, 4294967295u, 3000000000u,
+    1879048192u, 1431655765u
+};
+
+static int signed_values[] = {
+    0, 1, -1, 2, -2, 3, -3, 5,
+    -5, 6, 7, -7, 8, -8, 9, 10,
+    99, -99, 100, -100, 127, -128, 255, 256,
+    1000, -1000, 12345, -12345, 65535, 65536, -65536, 1000000,
+    -1000000, 2147483647, (-2147483647 - 1), 2147483646, -2147483647, 1073741824, -1073741824, 123456789,
+    -123456789, -1860219139, -1672869430, 1013330490, -1484556540, 1003926686, 18378755, 440479943,
+    315064494, -429156120, -1554829726, -532314682, 1170203334, 516627807, 692597955, -779778212,
+    -1193107760, 481205227, -519451681, 206152428, -1508684289, 1411226215, -1877235574, 704169935,
+    -1829497911, -316013895, 932547161, -1467143796, -258789795, 2004030547, -398481450, 1524693702,
+    648296318, 447082818, -1152760988, -399207447, 1594745108, 724470772, -549791539, 1634306256,
+    960712369
+};
+
+static unsigned unsigned_values[] = {
+    0u, 1u, 2u, 3u, 5u, 6u, 7u, 8u,
+    9u, 10u, 99u, 100u, 255u, 256u, 1000u, 12345u,
+    65535u, 65536u, 1000000u, 2147483647u, 2147483648u, 2147483649u, 4294967294u, 4294967295u,
+    3000000000u, 4000000000u, 1841124479u, 3948655302u, 3099617485u, 2429914743u, 2453976428u, 114595922u,
+    2196573796u, 2430461176u, 4179159268u, 3945215911u, 36017232u, 143441445u, 334302886u, 1934358489u,
+    2403442664u, 4090257917u, 501673561u, 3675916049u, 3786400667u, 656913361u, 1719773849u, 2502547075u,
+    3271508213u, 3687523622u, 920063790u, 495026027u, 532602644u, 3938863876u, 2179209419u, 4148927780u,
+    1190952535u, 2016049815u, 1263300101u, 55218207u, 3244144206u, 980828976u, 154525969u, 3932831047u,
+    4093331109u, 3005030955u
+};
+
+static int int_value;
+
+static int int_quotient_0(int x) {
+    return x / 1;
+}
+
+static int int_assign_quotient_0(int x) {
+    int_value = x;
+    int_value /= 1;
+    return int_value;
+}
+
+static int int_quotient_1(int x) {
+    return x / -1;
+}
+
+static int int_assign_quotient_1(int x) {
+    int_value = x;
+    int_value /= -1;
+    return int_value;
+}
+
+static int int_quotient_2(int x) {
+    return x / 2;
+}
+
+static int int_assign_quotient_2(int x) {
+    int_value = x;
+    int_value /= 2;
+    return int_value;
+}
+
+static int int_quotient_3(int x) {
+    return x / -2;
+}
+
+static int int_assign_quotient_3(int x) {
+    int_value = x;
+    int_value /= -2;
+    return int_value;
+}
+
+static int int_quotient_4(int x) {
+    return x / 3;
+}
+
+static int int_assign_quotient_4(int x) {
+    int_value = x;
+    int_value /= 3;
+    return int_value;
+}
+
+static int int_quotient_5(int x) {
+    return x / -3;
+}
+
+static int int_assign_quotient_5(int x) {
+    int_value = x;
+    int_value /= -3;
+    return int_value;
+}
+
+static int int_quotient_6(int x) {
+    return x / 4;
+}
+
+static int int_assign_quotient_6(int x) {
+    int_value = x;
+    int_value /= 4;
+    return int_value;
+}
+
+static int int_quotient_7(int x) {
+    return x / -4;
+}
+
+static int int_assign_quotient_7(int x) {
+    int_value = x;
+    int_value /= -4;
+    return int_value;
+}
+
+static int int_quotient_8(int x) {
+    return x / 5;
+}
+
+static int int_assign_quotient_8(int x) {
+    int_value = x;
+    int_value /= 5;
+    return int_value;
+}
+
+static int int_quotient_9(int x) {
+    return x / -5;
+}
+
+static int int_assign_quotient_9(int x) {
+    int_value = x;
+    int_value /= -5;
+    return int_value;
+}
+
+static int int_quotient_10(int x) {
+    return x / 6;
+}
+
+static int int_assign_quotient_10(int x) {
+    int_value = x;
+    int_value /= 6;
+    return int_value;
+}
+
+static int int_quotient_11(int x) {
+    return x / 7;
+}
+
+static int int_assign_quotient_11(int x) {
+    int_value = x;
+    int_value /= 7;
+    return int_value;
+}
+
+static int int_quotient_12(int x) {
+    return x / -7;
+}
+
+static int int_assign_quotient_12(int x) {
+    int_value = x;
+    int_value /= -7;
+    return int_value;
+}
+
+static int int_quotient_13(int x) {
+    return x / 8;
+}
+
+static int int_assign_quotient_13(int x) {
+    int_value = x;
+    int_value /= 8;
+    return int_value;
+}
+
+static int int_quotient_14(int x) {
+    return x / -8;
+}
+
+static int int_assign_quotient_14(int x) {
+    int_value = x;
+    int_value /= -8;
+    return int_value;
+}
+
+static int int_quotient_15(int x) {
+    return x / 9;
+}
+
+static int int_assign_quotient_15(int x) {
+    int_value = x;
+    int_value /= 9;
+    return int_value;
+}
+
+static int int_quotient_16(int x) {
+    return x / 10;
+}
+
+static int int_assign_quotient_16(int x) {
+    int_value = x;
+    int_value /= 10;
+    return int_value;
+}
+
+static int int_quotient_17(int x) {
+    return x / 11;
+}
+
+static int int_assign_quotient_17(int x) {
+    int_value = x;
+    int_value /= 11;
+    return int_value;
+}
+
+static int int_quotient_18(int x) {
+    return x / 12;
+}
+
+static int int_assign_quotient_18(int x) {
+    int_value = x;
+    int_value /= 12;
+    return int_value;
+}
+
+static int int_quotient_19(int x) {
+    return x / 13;
+}
+
+static int int_assign_quotient_19(int x) {
+    int_value = x;
+    int_value /= 13;
+    return int_value;
+}
+
+static int int_quotient_20(int x) {
+    return x / 16;
+}
+
+static int int_assign_quotient_20(int x) {
+    int_value = x;
+    int_value /= 16;
+    return int_value;
+}
+
+static int int_quotient_21(int x) {
+    return x / -16;
+}
+
+static int int_assign_quotient_21(int x) {
+    int_value = x;
+    int_value /= -16;
+    return int_value;
+}
+
+static int int_quotient_22(int x) {
+    return x / 25;
+}
+
+static int int_assign_quotient_22(int x) {
+    int_value = x;
+    int_value /= 25;
+    return int_value;
+}
+
+static int int_quotient_23(int x) {
+    return x / 31;
+}
+
+static int int_assign_quotient_23(int x) {
+    int_value = x;
+    int_value /= 31;
+    return int_value;
+}
+
+static int int_quotient_24(int x) {
+    return x / 32;
+}
+
+static int int_assign_quotient_24(int x) {
+    int_value = x;
+    int_value /= 32;
+    return int_value;
+}
+
+static int int_quotient_25(int x) {
+    return x / 60;
+}
+
+static int int_assign_quotient_25(int x) {
+    int_value = x;
+    int_value /= 60;
+    return int_value;
+}
+
+static int int_quotient_26(int x) {
+    return x / 64;
+}
+
+static int int_assign_quotient_26(int x) {
+    int_value = x;
+    int_value /= 64;
+    return int_value;
+}
+
+static int int_quotient_27(int x) {
+    return x / 100;
+}
+
+static int int_assign_quotient_27(int x) {
+    int_value = x;
+    int_value /= 100;
+    return int_value;
+}
+
+static int int_quotient_28(int x) {
+    return x / -100;
+}
+
+static int int_assign_quotient_28(int x) {
+    int_value = x;
+    int_value /= -100;
+    return int_value;
+}
+
+static int int_quotient_29(int x) {
+    return x / 125;
+}
+
+static int int_assign_quotient_29(int x) {
+    int_value = x;
+    int_value /= 125;
+    return int_value;
+}
+
+static int int_quotient_30(int x) {
+    return x / 128;
+}
+
+static int int_assign_quotient_30(int x) {
+    int_value = x;
+    int_value /= 128;
+    return int_value;
+}
+
+static int int_quotient_31(int x) {
+    return x / 255;
+}
+
+static int int_assign_quotient_31(int x) {
+    int_value = x;
+    int_value /= 255;
+    return int_value;
+}
+
+static int int_quotient_32(int x) {
+    return x / 256;
+}
+
+static int int_assign_quotient_32(int x) {
+    int_value = x;
+    int_value /= 256;
+    return int_value;
+}
+
+static int int_quotient_33(int x) {
+    return x / 641;
+}
+
+static int int_assign_quotient_33(int x) {
+    int_value = x;
+    int_value /= 641;
+    return int_value;
+}
+
+static int int_quotient_34(int x) {
+    return x / 1000;
+}
+
+static int int_assign_quotient_34(int x) {
+    int_value = x;
+    int_value /= 1000;
+    return int_value;
+}
+
+static int int_quotient_35(int x) {
+    return x / 1024;
+}
+
+static int int_assign_quotient_35(int x) {
+    int_value = x;
+    int_value /= 1024;
+    return int_value;
+}
+
+static int int_quotient_36(int x) {
+    return x / 65535;
+}
+
+static int int_assign_quotient_36(int x) {
+    int_value = x;
+    int_value /= 65535;
+    return int_value;
+}
+
+static int int_quotient_37(int x) {
+    return x / 65536;
+}
+
+static int int_assign_quotient_37(int x) {
+    int_value = x;
+    int_value /= 65536;
+    return int_value;
+}
+
+static int int_quotient_38(int x) {
+    return x / 1073741824;
+}
+
+static int int_assign_quotient_38(int x) {
+    int_value = x;
+    int_value /= 1073741824;
+    return int_value;
+}
+
+static int int_quotient_39(int x) {
+    return x / -1073741824;
+}
+
+static int int_assign_quotient_39(int x) {
+    int_value = x;
+    int_value /= -1073741824;
+    return int_value;
+}
+
+static int int_quotient_40(int x) {
+    return x / 2147483647;
+}
+
+static int int_assign_quotient_40(int x) {
+    int_value = x;
+    int_value /= 2147483647;
+    return int_value;
+}
+
+static int int_quotient_41(int x) {
+    return x / (-2147483647 - 1);
+}
+
+static int int_assign_quotient_41(int x) {
+    int_value = x;
+    int_value /= (-2147483647 - 1);
+    return int_value;
+}
+
+static int (*int_quotient[])(int) = {
+    int_quotient_0, int_quotient_1, int_quotient_2, int_quotient_3, int_quotient_4, int_quotient_5,
+    int_quotient_6, int_quotient_7, int_quotient_8, int_quotient_9, int_quotient_10, int_quotient_11,
+    int_quotient_12, int_quotient_13, int_quotient_14, int_quotient_15, int_quotient_16, int_quotient_17,
+    int_quotient_18, int_quotient_19, int_quotient_20, int_quotient_21, int_quotient_22, int_quotient_23,
+    int_quotient_24, int_quotient_25, int_quotient_26, int_quotient_27, int_quotient_28, int_quotient_29,
+    int_quotient_30, int_quotient_31, int_quotient_32, int_quotient_33, int_quotient_34, int_quotient_35,
+    int_quotient_36, int_quotient_37, int_quotient_38, int_quotient_39, int_quotient_40, int_quotient_41
+};
+
+static int (*int_assign_quotient[])(int) = {
+    int_assign_quotient_0, int_assign_quotient_1, int_assign_quotient_2, int_assign_quotient_3, int_assign_quotient_4, int_assign_quotient_5,
+    int_assign_quotient_6, int_assign_quotient_7, int_assign_quotient_8, int_assign_quotient_9, int_assign_quotient_10, int_assign_quotient_11,
+    int_assign_quotient_12, int_assign_quotient_13, int_assign_quotient_14, int_assign_quotient_15, int_assign_quotient_16, int_assign_quotient_17,
+    int_assign_quotient_18, int_assign_quotient_19, int_assign_quotient_20, int_assign_quotient_21, int_assign_quotient_22, int_assign_quotient_23,
+    int_assign_quotient_24, int_assign_quotient_25, int_assign_quotient_26, int_assign_quotient_27, int_assign_quotient_28, int_assign_quotient_29,
+    int_assign_quotient_30, int_assign_quotient_31, int_assign_quotient_32, int_assign_quotient_33, int_assign_quotient_34, int_assign_quotient_35,
+    int_assign_quotient_36, int_assign_quotient_37, int_assign_quotient_38, int_assign_quotient_39, int_assign_quotient_40, int_assign_quotient_41
+};
+
+static int int_remainder_0(int x) {
+    return x % 1;
+}
+
+static int int_assign_remainder_0(int x) {
+    int_value = x;
+    int_value %= 1;
+    return int_value;
+}
+
+static int int_remainder_1(int x) {
+    return x % -1;
+}
+
+static int int_assign_remainder_1(int x) {
+    int_value = x;
+    int_value %= -1;
+    return int_value;
+}
+
+static int int_remainder_2(int x) {
+    return x % 2;
+}
+
+static int int_assign_remainder_2(int x) {
+    int_value = x;
+    int_value %= 2;
+    return int_value;
+}
+
+static int int_remainder_3(int x) {
+    return x % -2;
+}
+
+static int int_assign_remainder_3(int x) {
+    int_value = x;
+    int_value %= -2;
+    return int_value;
+}
+
+static int int_remainder_4(int x) {
+    return x % 3;
+}
+
+static int int_assign_remainder_4(int x) {
+    int_value = x;
+    int_value %= 3;
+    return int_value;
+}
+
+static int int_remainder_5(int x) {
+    return x % -3;
+}
+
+static int int_assign_remainder_5(int x) {
+    int_value = x;
+    int_value %= -3;
+    return int_value;
+}
+
+static int int_remainder_6(int x) {
+    return x % 4;
+}
+
+static int int_assign_remainder_6(int x) {
+    int_value = x;
+    int_value %= 4;
+    return int_value;
+}
+
+static int int_remainder_7(int x) {
+    return x % -4;
+}
+
+static int int_assign_remainder_7(int x) {
+    int_value = x;
+    int_value %= -4;
+    return int_value;
+}
+
+static int int_remainder_8(int x) {
+    return x % 5;
+}
+
+static int int_assign_remainder_8(int x) {
+    int_value = x;
+    int_value %= 5;
+    return int_value;
+}
+
+static int int_remainder_9(int x) {
+    return x % -5;
+}
+
+static int int_assign_remainder_9(int x) {
+    int_value = x;
+    int_value %= -5;
+    return int_value;
+}
+
+static int int_remainder_10(int x) {
+    return x % 6;
+}
+
+static int int_assign_remainder_10(int x) {
+    int_value = x;
+    int_value %= 6;
+    return int_value;
+}
+
+static int int_remainder_11(int x) {
+    return x % 7;
+}
+
+static int int_assign_remainder_11(int x) {
+    int_value = x;
+    int_value %= 7;
+    return int_value;
+}
+
+static int int_remainder_12(int x) {
+    return x % -7;
+}
+
+static int int_assign_remainder_12(int x) {
+    int_value = x;
+    int_value %= -7;
+    return int_value;
+}
+
+static int int_remainder_13(int x) {
+    return x % 8;
+}
+
+static int int_assign_remainder_13(int x) {
+    int_value = x;
+    int_value %= 8;
+    return int_value;
+}
+
+static int int_remainder_14(int x) {
+    return x % -8;
+}
+
+static int int_assign_remainder_14(int x) {
+    int_value = x;
+    int_value %= -8;
+    return int_value;
+}
+
+static int int_remainder_15(int x) {
+    return x % 9;
+}
+
+static int int_assign_remainder_15(int x) {
+    int_value = x;
+    int_value %= 9;
+    return int_value;
+}
+
+static int int_remainder_16(int x) {
+    return x % 10;
+}
+
+static int int_assign_remainder_16(int x) {
+    int_value = x;
+    int_value %= 10;
+    return int_value;
+}
+
+static int int_remainder_17(int x) {
+    return x % 11;
+}
+
+static int int_assign_remainder_17(int x) {
+    int_value = x;
+    int_value %= 11;
+    return int_value;
+}
+
+static int int_remainder_18(int x) {
+    return x % 12;
+}
+
+static int int_assign_remainder_18(int x) {
+    int_value = x;
+    int_value %= 12;
+    return int_value;
+}
+
+static int int_remainder_19(int x) {
+    return x % 13;
+}
+
+static int int_assign_remainder_19(int x) {
+    int_value = x;
+    int_value %= 13;
+    return int_value;
+}
+
+static int int_remainder_20(int x) {
+    return x % 16;
+}
+
+static int int_assign_remainder_20(int x) {
+    int_value = x;
+    int_value %= 16;
+    return int_value;
+}
+
+static int int_remainder_21(int x) {
+    return x % -16;
+}
+
+static int int_assign_remainder_21(int x) {
+    int_value = x;
+    int_value %= -16;
+    return int_value;
+}
+
+static int int_remainder_22(int x) {
+    return x % 25;
+}
+
+static int int_assign_remainder_22(int x) {
+    int_value = x;
+    int_value %= 25;
+    return int_value;
+}
+
+static int int_remainder_23(int x) {
+    return x % 31;
+}
+
+static int int_assign_remainder_23(int x) {
+    int_value = x;
+    int_value %= 31;
+    return int_value;
+}
+
+static int int_remainder_24(int x) {
+    return x % 32;
+}
+
+static int int_assign_remainder_24(int x) {
+    int_value = x;
+    int_value %= 32;
+    return int_value;
+}
+
+static int int_remainder_25(int x) {
+    return x % 60;
+}
+
+static int int_assign_remainder_25(int x) {
+    int_value = x;
+    int_value %= 60;
+    return int_value;
+}
+
+static int int_remainder_26(int x) {
+    return x % 64;
+}
+
+static int int_assign_remainder_26(int x) {
+    int_value = x;
+    int_value %= 64;
+    return int_value;
+}
+
+static int int_remainder_27(int x) {
+    return x % 100;
+}
+
+static int int_assign_remainder_27(int x) {
+    int_value = x;
+    int_value %= 100;
+    return int_value;
+}
+
+static int int_remainder_28(int x) {
+    return x % -100;
+}
+
+static int int_assign_remainder_28(int x) {
+    int_value = x;
+    int_value %= -100;
+    return int_value;
+}
+
+static int int_remainder_29(int x) {
+    return x % 125;
+}
+
+static int int_assign_remainder_29(int x) {
+    int_value = x;
+    int_value %= 125;
+    return int_value;
+}
+
+static int int_remainder_30(int x) {
+    return x % 128;
+}
+
+static int int_assign_remainder_30(int x) {
+    int_value = x;
+    int_value %= 128;
+    return int_value;
+}
+
+static int int_remainder_31(int x) {
+    return x % 255;
+}
+
+static int int_assign_remainder_31(int x) {
+    int_value = x;
+    int_value %= 255;
+    return int_value;
+}
+
+static int int_remainder_32(int x) {
+    return x % 256;
+}
+
+static int int_assign_remainder_32(int x) {
+    int_value = x;
+    int_value %= 256;
+    return int_value;
+}
+
+static int int_remainder_33(int x) {
+    return x % 641;
+}
+
+static int int_assign_remainder_33(int x) {
+    int_value = x;
+    int_value %= 641;
+    return int_value;
+}
+
+static int int_remainder_34(int x) {
+    return x % 1000;
+}
+
+static int int_assign_remainder_34(int x) {
+    int_value = x;
+    int_value %= 1000;
+    return int_value;
+}
+
+static int int_remainder_35(int x) {
+    return x % 1024;
+}
+
+static int int_assign_remainder_35(int x) {
+    int_value = x;
+    int_value %= 1024;
+    return int_value;
+}
+
+static int int_remainder_36(int x) {
+    return x % 65535;
+}
+
+static int int_assign_remainder_36(int x) {
+    int_value = x;
+    int_value %= 65535;
+    return int_value;
+}
+
+static int int_remainder_37(int x) {
+    return x % 65536;
+}
+
+static int int_assign_remainder_37(int x) {
+    int_value = x;
+    int_value %= 65536;
+    return int_value;
+}
+
+static int int_remainder_38(int x) {
+    return x % 1073741824;
+}
+
+static int int_assign_remainder_38(int x) {
+    int_value = x;
+    int_value %= 1073741824;
+    return int_value;
+}
+
+static int int_remainder_39(int x) {
+    return x % -1073741824;
+}
+
+static int int_assign_remainder_39(int x) {
+    int_value = x;
+    int_value %= -1073741824;
+    return int_value;
+}
+
+static int int_remainder_40(int x) {
+    return x % 2147483647;
+}
+
+static int int_assign_remainder_40(int x) {
+    int_value = x;
+    int_value %= 2147483647;
+    return int_value;
+}
+
+static int int_remainder_41(int x) {
+    return x % (-2147483647 - 1);
+}
+
+static int int_assign_remainder_41(int x) {
+    int_value = x;
+    int_value %= (-2147483647 - 1);
+    return int_value;
+}
+
+static int (*int_remainder[])(int) = {
+    int_remainder_0, int_remainder_1, int_remainder_2, int_remainder_3, int_remainder_4, int_remainder_5,
+    int_remainder_6, int_remainder_7, int_remainder_8, int_remainder_9, int_remainder_10, int_remainder_11,
+    int_remainder_12, int_remainder_13, int_remainder_14, int_remainder_15, int_remainder_16, int_remainder_17,
+    int_remainder_18, int_remainder_19, int_remainder_20, int_remainder_21, int_remainder_22, int_remainder_23,
+    int_remainder_24, int_remainder_25, int_remainder_26, int_remainder_27, int_remainder_28, int_remainder_29,
+    int_remainder_30, int_remainder_31, int_remainder_32, int_remainder_33, int_remainder_34, int_remainder_35,
+    int_remainder_36, int_remainder_37, int_remainder_38, int_remainder_39, int_remainder_40, int_remainder_41
+};
+
+static int (*int_assign_remainder[])(int) = {
+    int_assign_remainder_0, int_assign_remainder_1, int_assign_remainder_2, int_assign_remainder_3, int_assign_remainder_4, int_assign_remainder_5,
+    int_assign_remainder_6, int_assign_remainder_7, int_assign_remainder_8, int_assign_remainder_9, int_assign_remainder_10, int_assign_remainder_11,
+    int_assign_remainder_12, int_assign_remainder_13, int_assign_remainder_14, int_assign_remainder_15, int_assign_remainder_16, int_assign_remainder_17,
+    int_assign_remainder_18, int_assign_remainder_19, int_assign_remainder_20, int_assign_remainder_21, int_assign_remainder_22, int_assign_remainder_23,
+    int_assign_remainder_24, int_assign_remainder_25, int_assign_remainder_26, int_assign_remainder_27, int_assign_remainder_28, int_assign_remainder_29,
+    int_assign_remainder_30, int_assign_remainder_31, int_assign_remainder_32, int_assign_remainder_33, int_assign_remainder_34, int_assign_remainder_35,
+    int_assign_remainder_36, int_assign_remainder_37, int_assign_remainder_38, int_assign_remainder_39, int_assign_remainder_40, int_assign_remainder_41
+};
+
+static long long_value;
+
+static long long_quotient_0(long x) {
+    return x / 1;
+}
+
+static long long_assign_quotient_0(long x) {
+    long_value = x;
+    long_value /= 1;
+    return long_value;
+}
+
+static long long_quotient_1(long x) {
+    return x / -1;
+}
+
+static long long_assign_quotient_1(long x) {
+    long_value = x;
+    long_value /= -1;
+    return long_value;
+}
+
+static long long_quotient_2(long x) {
+    return x / 2;
+}
+
+static long long_assign_quotient_2(long x) {
+    long_value = x;
+    long_value /= 2;
+    return long_value;
+}
+
+static long long_quotient_3(long x) {
+    return x / -2;
+}
+
+static long long_assign_quotient_3(long x) {
+    long_value = x;
+    long_value /= -2;
+    return long_value;
+}
+
+static long long_quotient_4(long x) {
+    return x / 3;
+}
+
+static long long_assign_quotient_4(long x) {
+    long_value = x;
+    long_value /= 3;
+    return long_value;
+}
+
+static long long_quotient_5(long x) {
+    return x / -3;
+}
+
+static long long_assign_quotient_5(long x) {
+    long_value = x;
+    long_value /= -3;
+    return long_value;
+}
+
+static long long_quotient_6(long x) {
+    return x / 4;
+}
+
+static long long_assign_quotient_6(long x) {
+    long_value = x;
+    long_value /= 4;
+    return long_value;
+}
+
+static long long_quotient_7(long x) {
+    return x / -4;
+}
+
+static long long_assign_quotient_7(long x) {
+    long_value = x;
+    long_value /= -4;
+    return long_value;
+}
+
+static long long_quotient_8(long x) {
+    return x / 5;
+}
+
+static long long_assign_quotient_8(long x) {
+    long_value = x;
+    long_value /= 5;
+    return long_value;
+}
+
+static long long_quotient_9(long x) {
+    return x / -5;
+}
+
+static long long_assign_quotient_9(long x) {
+    long_value = x;
+    long_value /= -5;
+    return long_value;
+}
+
+static long long_quotient_10(long x) {
+    return x / 6;
+}
+
+static long long_assign_quotient_10(long x) {
+    long_value = x;
+    long_value /= 6;
+    return long_value;
+}
+
+static long long_quotient_11(long x) {
+    return x / 7;
+}
+
+static long long_assign_quotient_11(long x) {
+    long_value = x;
+    long_value /= 7;
+    return long_value;
+}
+
+static long long_quotient_12(long x) {
+    return x / -7;
+}
+
+static long long_assign_quotient_12(long x) {
+    long_value = x;
+    long_value /= -7;
+    return long_value;
+}
+
+static long long_quotient_13(long x) {
+    return x / 8;
+}
+
+static long long_assign_quotient_13(long x) {
+    long_value = x;
+    long_value /= 8;
+    return long_value;
+}
+
+static long long_quotient_14(long x) {
+    return x / -8;
+}
+
+static long long_assign_quotient_14(long x) {
+    long_value = x;
+    long_value /= -8;
+    return long_value;
+}
+
+static long long_quotient_15(long x) {
+    return x / 9;
+}
+
+static long long_assign_quotient_15(long x) {
+    long_value = x;
+    long_value /= 9;
+    return long_value;
+}
+
+static long long_quotient_16(long x) {
+    return x / 10;
+}
+
+static long long_assign_quotient_16(long x) {
+    long_value = x;
+    long_value /= 10;
+    return long_value;
+}
+
+static long long_quotient_17(long x) {
+    return x / 11;
+}
+
+static long long_assign_quotient_17(long x) {
+    long_value = x;
+    long_value /= 11;
+    return long_value;
+}
+
+static long long_quotient_18(long x) {
+    return x / 12;
+}
+
+static long long_assign_quotient_18(long x) {
+    long_value = x;
+    long_value /= 12;
+    return long_value;
+}
+
+static long long_quotient_19(long x) {
+    return x / 13;
+}
+
+static long long_assign_quotient_19(long x) {
+    long_value = x;
+    long_value /= 13;
+    return long_value;
+}
+
+static long long_quotient_20(long x) {
+    return x / 16;
+}
+
+static long long_assign_quotient_20(long x) {
+    long_value = x;
+    long_value /= 16;
+    return long_value;
+}
+
+static long long_quotient_21(long x) {
+    return x / -16;
+}
+
+static long long_assign_quotient_21(long x) {
+    long_value = x;
+    long_value /= -16;
+    return long_value;
+}
+
+static long long_quotient_22(long x) {
+    return x / 25;
+}
+
+static long long_assign_quotient_22(long x) {
+    long_value = x;
+    long_value /= 25;
+    return long_value;
+}
+
+static long long_quotient_23(long x) {
+    return x / 31;
+}
+
+static long long_assign_quotient_23(long x) {
+    long_value = x;
+    long_value /= 31;
+    return long_value;
+}
+
+static long long_quotient_24(long x) {
+    return x / 32;
+}
+
+static long long_assign_quotient_24(long x) {
+    long_value = x;
+    long_value /= 32;
+    return long_value;
+}
+
+static long long_quotient_25(long x) {
+    return x / 60;
+}
+
+static long long_assign_quotient_25(long x) {
+    long_value = x;
+    long_value /= 60;
+    return long_value;
+}
+
+static long long_quotient_26(long x) {
+    return x / 64;
+}
+
+static long long_assign_quotient_26(long x) {
+    long_value = x;
+    long_value /= 64;
+    return long_value;
+}
+
+static long long_quotient_27(long x) {
+    return x / 100;
+}
+
+static long long_assign_quotient_27(long x) {
+    long_value = x;
+    long_value /= 100;
+    return long_value;
+}
+
+static long long_quotient_28(long x) {
+    return x / -100;
+}
+
+static long long_assign_quotient_28(long x) {
+    long_value = x;
+    long_value /= -100;
+    return long_value;
+}
+
+static long long_quotient_29(long x) {
+    return x / 125;
+}
+
+static long long_assign_quotient_29(long x) {
+    long_value = x;
+    long_value /= 125;
+    return long_value;
+}
+
+static long long_quotient_30(long x) {
+    return x / 128;
+}
+
+static long long_assign_quotient_30(long x) {
+    long_value = x;
+    long_value /= 128;
+    return long_value;
+}
+
+static long long_quotient_31(long x) {
+    return x / 255;
+}
+
+static long long_assign_quotient_31(long x) {
+    long_value = x;
+    long_value /= 255;
+    return long_value;
+}
+
+static long long_quotient_32(long x) {
+    return x / 256;
+}
+
+static long long_assign_quotient_32(long x) {
+    long_value = x;
+    long_value /= 256;
+    return long_value;
+}
+
+static long long_quotient_33(long x) {
+    return x / 641;
+}
+
+static long long_assign_quotient_33(long x) {
+    long_value = x;
+    long_value /= 641;
+    return long_value;
+}
+
+static long long_quotient_34(long x) {
+    return x / 1000;
+}
+
+static long long_assign_quotient_34(long x) {
+    long_value = x;
+    long_value /= 1000;
+    return long_value;
+}
+
+static long long_quotient_35(long x) {
+    return x / 1024;
+}
+
+static long long_assign_quotient_35(long x) {
+    long_value = x;
+    long_value /= 1024;
+    return long_value;
+}
+
+static long long_quotient_36(long x) {
+    return x / 65535;
+}
+
+static long long_assign_quotient_36(long x) {
+    long_value = x;
+    long_value /= 65535;
+    return long_value;
+}
+
+static long long_quotient_37(long x) {
+    return x / 65536;
+}
+
+static long long_assign_quotient_37(long x) {
+    long_value = x;
+    long_value /= 65536;
+    return long_value;
+}
+
+static long long_quotient_38(long x) {
+    return x / 1073741824;
+}
+
+static long long_assign_quotient_38(long x) {
+    long_value = x;
+    long_value /= 1073741824;
+    return long_value;
+}
+
+static long long_quotient_39(long x) {
+    return x / -1073741824;
+}
+
+static long long_assign_quotient_39(long x) {
+    long_value = x;
+    long_value /= -1073741824;
+    return long_value;
+}
+
+static long long_quotient_40(long x) {
+    return x / 2147483647;
+}
+
+static long long_assign_quotient_40(long x) {
+    long_value = x;
+    long_value /= 2147483647;
+    return long_value;
+}
+
+static long long_quotient_41(long x) {
+    return x / (-2147483647 - 1);
+}
+
+static long long_assign_quotient_41(long x) {
+    long_value = x;
+    long_value /= (-2147483647 - 1);
+    return long_value;
+}
+
+static long (*long_quotient[])(long) = {
+    long_quotient_0, long_quotient_1, long_quotient_2, long_quotient_3, long_quotient_4, long_quotient_5,
+    long_quotient_6, long_quotient_7, long_quotient_8, long_quotient_9, long_quotient_10, long_quotient_11,
+    long_quotient_12, long_quotient_13, long_quotient_14, long_quotient_15, long_quotient_16, long_quotient_17,
+    long_quotient_18, long_quotient_19, long_quotient_20, long_quotient_21, long_quotient_22, long_quotient_23,
+    long_quotient_24, long_quotient_25, long_quotient_26, long_quotient_27, long_quotient_28, long_quotient_29,
+    long_quotient_30, long_quotient_31, long_quotient_32, long_quotient_33, long_quotient_34, long_quotient_35,
+    long_quotient_36, long_quotient_37, long_quotient_38, long_quotient_39, long_quotient_40, long_quotient_41
+};
+
+static long (*long_assign_quotient[])(long) = {
+    long_assign_quotient_0, long_assign_quotient_1, long_assign_quotient_2, long_assign_quotient_3, long_assign_quotient_4, long_assign_quotient_5,
+    long_assign_quotient_6, long_assign_quotient_7, long_assign_quotient_8, long_assign_quotient_9, long_assign_quotient_10, long_assign_quotient_11,
+    long_assign_quotient_12, long_assign_quotient_13, long_assign_quotient_14, long_assign_quotient_15, long_assign_quotient_16, long_assign_quotient_17,
+    long_assign_quotient_18, long_assign_quotient_19, long_assign_quotient_20, long_assign_quotient_21, long_assign_quotient_22, long_assign_quotient_23,
+    long_assign_quotient_24, long_assign_quotient_25, long_assign_quotient_26, long_assign_quotient_27, long_assign_quotient_28, long_assign_quotient_29,
+    long_assign_quotient_30, long_assign_quotient_31, long_assign_quotient_32, long_assign_quotient_33, long_assign_quotient_34, long_assign_quotient_35,
+    long_assign_quotient_36, long_assign_quotient_37, long_assign_quotient_38, long_assign_quotient_39, long_assign_quotient_40, long_assign_quotient_41
+};
+
+static long long_remainder_0(long x) {
+    return x % 1;
+}
+
+static long long_assign_remainder_0(long x) {
+    long_value = x;
+    long_value %= 1;
+    return long_value;
+}
+
+static long long_remainder_1(long x) {
+    return x % -1;
+}
+
+static long long_assign_remainder_1(long x) {
+    long_value = x;
+    long_value %= -1;
+    return long_value;
+}
+
+static long long_remainder_2(long x) {
+    return x % 2;
+}
+
+static long long_assign_remainder_2(long x) {
+    long_value = x;
+    long_value %= 2;
+    return long_value;
+}
+
+static long long_remainder_3(long x) {
+    return x % -2;
+}
+
+static long long_assign_remainder_3(long x) {
+    long_value = x;
+    long_value %= -2;
+    return long_value;
+}
+
+static long long_remainder_4(long x) {
+    return x % 3;
+}
+
+static long long_assign_remainder_4(long x) {
+    long_value = x;
+    long_value %= 3;
+    return long_value;
+}
+
+static long long_remainder_5(long x) {
+    return x % -3;
+}
+
+static long long_assign_remainder_5(long x) {
+    long_value = x;
+    long_value %= -3;
+    return long_value;
+}
+
+static long long_remainder_6(long x) {
+    return x % 4;
+}
+
+static long long_assign_remainder_6(long x) {
+    long_value = x;
+    long_value %= 4;
+    return long_value;
+}
+
+static long long_remainder_7(long x) {
+    return x % -4;
+}
+
+static long long_assign_remainder_7(long x) {
+    long_value = x;
+    long_value %= -4;
+    return long_value;
+}
+
+static long long_remainder_8(long x) {
+    return x % 5;
+}
+
+static long long_assign_remainder_8(long x) {
+    long_value = x;
+    long_value %= 5;
+    return long_value;
+}
+
+static long long_remainder_9(long x) {
+    return x % -5;
+}
+
+static long long_assign_remainder_9(long x) {
+    long_value = x;
+    long_value %= -5;
+    return long_value;
+}
+
+static long long_remainder_10(long x) {
+    return x % 6;
+}
+
+static long long_assign_remainder_10(long x) {
+    long_value = x;
+    long_value %= 6;
+    return long_value;
+}
+
+static long long_remainder_11(long x) {
+    return x % 7;
+}
+
+static long long_assign_remainder_11(long x) {
+    long_value = x;
+    long_value %= 7;
+    return long_value;
+}
+
+static long long_remainder_12(long x) {
+    return x % -7;
+}
+
+static long long_assign_remainder_12(long x) {
+    long_value = x;
+    long_value %= -7;
+    return long_value;
+}
+
+static long long_remainder_13(long x) {
+    return x % 8;
+}
+
+static long long_assign_remainder_13(long x) {
+    long_value = x;
+    long_value %= 8;
+    return long_value;
+}
+
+static long long_remainder_14(long x) {
+    return x % -8;
+}
+
+static long long_assign_remainder_14(long x) {
+    long_value = x;
+    long_value %= -8;
+    return long_value;
+}
+
+static long long_remainder_15(long x) {
+    return x % 9;
+}
+
+static long long_assign_remainder_15(long x) {
+    long_value = x;
+    long_value %= 9;
+    return long_value;
+}
+
+static long long_remainder_16(long x) {
+    return x % 10;
+}
+
+static long long_assign_remainder_16(long x) {
+    long_value = x;
+    long_value %= 10;
+    return long_value;
+}
+
+static long long_remainder_17(long x) {
+    return x % 11;
+}
+
+static long long_assign_remainder_17(long x) {
+    long_value = x;
+    long_value %= 11;
+    return long_value;
+}
+
+static long long_remainder_18(long x) {
+    return x % 12;
+}
+
+static long long_assign_remainder_18(long x) {
+    long_value = x;
+    long_value %= 12;
+    return long_value;
+}
+
+static long long_remainder_19(long x) {
+    return x % 13;
+}
+
+static long long_assign_remainder_19(long x) {
+    long_value = x;
+    long_value %= 13;
+    return long_value;
+}
+
+static long long_remainder_20(long x) {
+    return x % 16;
+}
+
+static long long_assign_remainder_20(long x) {
+    long_value = x;
+    long_value %= 16;
+    return long_value;
+}
+
+static long long_remainder_21(long x) {
+    return x % -16;
+}
+
+static long long_assign_remainder_21(long x) {
+    long_value = x;
+    long_value %= -16;
+    return long_value;
+}
+
+static long long_remainder_22(long x) {
+    return x % 25;
+}
+
+static long long_assign_remainder_22(long x) {
+    long_value = x;
+    long_value %= 25;
+    return long_value;
+}
+
+static long long_remainder_23(long x) {
+    return x % 31;
+}
+
+static long long_assign_remainder_23(long x) {
+    long_value = x;
+    long_value %= 31;
+    return long_value;
+}
+
+static long long_remainder_24(long x) {
+    return x % 32;
+}
+
+static long long_assign_remainder_24(long x) {
+    long_value = x;
+    long_value %= 32;
+    return long_value;
+}
+
+static long long_remainder_25(long x) {
+    return x % 60;
+}
+
+static long long_assign_remainder_25(long x) {
+    long_value = x;
+    long_value %= 60;
+    return long_value;
+}
+
+static long long_remainder_26(long x) {
+    return x % 64;
+}
+
+static long long_assign_remainder_26(long x) {
+    long_value = x;
+    long_value %= 64;
+    return long_value;
+}
+
+static long long_remainder_27(long x) {
+    return x % 100;
+}
+
+static long long_assign_remainder_27(long x) {
+    long_value = x;
+    long_value %= 100;
+    return long_value;
+}
+
+static long long_remainder_28(long x) {
+    return x % -100;
+}
+
+static long long_assign_remainder_28(long x) {
+    long_value = x;
+    long_value %= -100;
+    return long_value;
+}
+
+static long long_remainder_29(long x) {
+    return x % 125;
+}
+
+static long long_assign_remainder_29(long x) {
+    long_value = x;
+    long_value %= 125;
+    return long_value;
+}
+
+static long long_remainder_30(long x) {
+    return x % 128;
+}
+
+static long long_assign_remainder_30(long x) {
+    long_value = x;
+    long_value %= 128;
+    return long_value;
+}
+
+static long long_remainder_31(long x) {
+    return x % 255;
+}
+
+static long long_assign_remainder_31(long x) {
+    long_value = x;
+    long_value %= 255;
+    return long_value;
+}
+
+static long long_remainder_32(long x) {
+    return x % 256;
+}
+
+static long long_assign_remainder_32(long x) {
+    long_value = x;
+    long_value %= 256;
+    return long_value;
+}
+
+static long long_remainder_33(long x) {
+    return x % 641;
+}
+
+static long long_assign_remainder_33(long x) {
+    long_value = x;
+    long_value %= 641;
+    return long_value;
+}
+
+static long long_remainder_34(long x) {
+    return x % 1000;
+}
+
+static long long_assign_remainder_34(long x) {
+    long_value = x;
+    long_value %= 1000;
+    return long_value;
+}
+
+static long long_remainder_35(long x) {
+    return x % 1024;
+}
+
+static long long_assign_remainder_35(long x) {
+    long_value = x;
+    long_value %= 1024;
+    return long_value;
+}
+
+static long long_remainder_36(long x) {
+    return x % 65535;
+}
+
+static long long_assign_remainder_36(long x) {
+    long_value = x;
+    long_value %= 65535;
+    return long_value;
+}
+
+static long long_remainder_37(long x) {
+    return x % 65536;
+}
+
+static long long_assign_remainder_37(long x) {
+    long_value = x;
+    long_value %= 65536;
+    return long_value;
+}
+
+static long long_remainder_38(long x) {
+    return x % 1073741824;
+}
+
+static long long_assign_remainder_38(long x) {
+    long_value = x;
+    long_value %= 1073741824;
+    return long_value;
+}
+
+static long long_remainder_39(long x) {
+    return x % -1073741824;
+}
+
+static long long_assign_remainder_39(long x) {
+    long_value = x;
+    long_value %= -1073741824;
+    return long_value;
+}
+
+static long long_remainder_40(long x) {
+    return x % 2147483647;
+}
+
+static long long_assign_remainder_40(long x) {
+    long_value = x;
+    long_value %= 2147483647;
+    return long_value;
+}
+
+static long long_remainder_41(long x) {
+    return x % (-2147483647 - 1);
+}
+
+static long long_assign_remainder_41(long x) {
+    long_value = x;
+    long_value %= (-2147483647 - 1);
+    return long_value;
+}
+
+static long (*long_remainder[])(long) = {
+    long_remainder_0, long_remainder_1, long_remainder_2, long_remainder_3, long_remainder_4, long_remainder_5,
+    long_remainder_6, long_remainder_7, long_remainder_8, long_remainder_9, long_remainder_10, long_remainder_11,
+    long_remainder_12, long_remainder_13, long_remainder_14, long_remainder_15, long_remainder_16, long_remainder_17,
+    long_remainder_18, long_remainder_19, long_remainder_20, long_remainder_21, long_remainder_22, long_remainder_23,
+    long_remainder_24, long_remainder_25, long_remainder_26, long_remainder_27, long_remainder_28, long_remainder_29,
+    long_remainder_30, long_remainder_31, long_remainder_32, long_remainder_33, long_remainder_34, long_remainder_35,
+    long_remainder_36, long_remainder_37, long_remainder_38, long_remainder_39, long_remainder_40, long_remainder_41
+};
+
+static long (*long_assign_remainder[])(long) = {
+    long_assign_remainder_0, long_assign_remainder_1, long_assign_remainder_2, long_assign_remainder_3, long_assign_remainder_4, long_assign_remainder_5,
+    long_assign_remainder_6, long_assign_remainder_7, long_assign_remainder_8, long_assign_remainder_9, long_assign_remainder_10, long_assign_remainder_11,
+    long_assign_remainder_12, long_assign_remainder_13, long_assign_remainder_14, long_assign_remainder_15, long_assign_remainder_16, long_assign_remainder_17,
+    long_assign_remainder_18, long_assign_remainder_19, long_assign_remainder_20, long_assign_remainder_21, long_assign_remainder_22, long_assign_remainder_23,
+    long_assign_remainder_24, long_assign_remainder_25, long_assign_remainder_26, long_assign_remainder_27, long_assign_remainder_28, long_assign_remainder_29,
+    long_assign_remainder_30, long_assign_remainder_31, long_assign_remainder_32, long_assign_remainder_33, long_assign_remainder_34, long_assign_remainder_35,
+    long_assign_remainder_36, long_assign_remainder_37, long_assign_remainder_38, long_assign_remainder_39, long_assign_remainder_40, long_assign_remainder_41
+};
+
+static unsigned unsigned_value;
+
+static unsigned unsigned_quotient_0(unsigned x) {
+    return x / 1u;
+}
+
+static unsigned unsigned_assign_quotient_0(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 1u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_1(unsigned x) {
+    return x / 2u;
+}
+
+static unsigned unsigned_assign_quotient_1(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 2u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_2(unsigned x) {
+    return x / 3u;
+}
+
+static unsigned unsigned_assign_quotient_2(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 3u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_3(unsigned x) {
+    return x / 4u;
+}
+
+static unsigned unsigned_assign_quotient_3(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 4u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_4(unsigned x) {
+    return x / 5u;
+}
+
+static unsigned unsigned_assign_quotient_4(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 5u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_5(unsigned x) {
+    return x / 6u;
+}
+
+static unsigned unsigned_assign_quotient_5(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 6u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_6(unsigned x) {
+    return x / 7u;
+}
+
+static unsigned unsigned_assign_quotient_6(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 7u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_7(unsigned x) {
+    return x / 8u;
+}
+
+static unsigned unsigned_assign_quotient_7(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 8u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_8(unsigned x) {
+    return x / 9u;
+}
+
+static unsigned unsigned_assign_quotient_8(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 9u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_9(unsigned x) {
+    return x / 10u;
+}
+
+static unsigned unsigned_assign_quotient_9(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 10u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_10(unsigned x) {
+    return x / 11u;
+}
+
+static unsigned unsigned_assign_quotient_10(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 11u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_11(unsigned x) {
+    return x / 12u;
+}
+
+static unsigned unsigned_assign_quotient_11(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 12u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_12(unsigned x) {
+    return x / 13u;
+}
+
+static unsigned unsigned_assign_quotient_12(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 13u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_13(unsigned x) {
+    return x / 16u;
+}
+
+static unsigned unsigned_assign_quotient_13(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 16u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_14(unsigned x) {
+    return x / 25u;
+}
+
+static unsigned unsigned_assign_quotient_14(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 25u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_15(unsigned x) {
+    return x / 31u;
+}
+
+static unsigned unsigned_assign_quotient_15(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 31u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_16(unsigned x) {
+    return x / 32u;
+}
+
+static unsigned unsigned_assign_quotient_16(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 32u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_17(unsigned x) {
+    return x / 100u;
+}
+
+static unsigned unsigned_assign_quotient_17(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 100u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_18(unsigned x) {
+    return x / 125u;
+}
+
+static unsigned unsigned_assign_quotient_18(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 125u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_19(unsigned x) {
+    return x / 255u;
+}
+
+static unsigned unsigned_assign_quotient_19(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 255u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_20(unsigned x) {
+    return x / 256u;
+}
+
+static unsigned unsigned_assign_quotient_20(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 256u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_21(unsigned x) {
+    return x / 641u;
+}
+
+static unsigned unsigned_assign_quotient_21(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 641u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_22(unsigned x) {
+    return x / 1000u;
+}
+
+static unsigned unsigned_assign_quotient_22(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 1000u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_23(unsigned x) {
+    return x / 1024u;
+}
+
+static unsigned unsigned_assign_quotient_23(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 1024u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_24(unsigned x) {
+    return x / 65535u;
+}
+
+static unsigned unsigned_assign_quotient_24(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 65535u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_25(unsigned x) {
+    return x / 65536u;
+}
+
+static unsigned unsigned_assign_quotient_25(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 65536u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_26(unsigned x) {
+    return x / 2147483647u;
+}
+
+static unsigned unsigned_assign_quotient_26(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 2147483647u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_27(unsigned x) {
+    return x / 2147483648u;
+}
+
+static unsigned unsigned_assign_quotient_27(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 2147483648u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_28(unsigned x) {
+    return x / 2147483649u;
+}
+
+static unsigned unsigned_assign_quotient_28(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 2147483649u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_29(unsigned x) {
+    return x / 4294967294u;
+}
+
+static unsigned unsigned_assign_quotient_29(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 4294967294u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_30(unsigned x) {
+    return x / 4294967295u;
+}
+
+static unsigned unsigned_assign_quotient_30(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 4294967295u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_31(unsigned x) {
+    return x / 3000000000u;
+}
+
+static unsigned unsigned_assign_quotient_31(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 3000000000u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_32(unsigned x) {
+    return x / 1879048192u;
+}
+
+static unsigned unsigned_assign_quotient_32(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 1879048192u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_quotient_33(unsigned x) {
+    return x / 1431655765u;
+}
+
+static unsigned unsigned_assign_quotient_33(unsigned x) {
+    unsigned_value = x;
+    unsigned_value /= 1431655765u;
+    return unsigned_value;
+}
+
+static unsigned (*unsigned_quotient[])(unsigned) = {
+    unsigned_quotient_0, unsigned_quotient_1, unsigned_quotient_2, unsigned_quotient_3, unsigned_quotient_4, unsigned_quotient_5,
+    unsigned_quotient_6, unsigned_quotient_7, unsigned_quotient_8, unsigned_quotient_9, unsigned_quotient_10, unsigned_quotient_11,
+    unsigned_quotient_12, unsigned_quotient_13, unsigned_quotient_14, unsigned_quotient_15, unsigned_quotient_16, unsigned_quotient_17,
+    unsigned_quotient_18, unsigned_quotient_19, unsigned_quotient_20, unsigned_quotient_21, unsigned_quotient_22, unsigned_quotient_23,
+    unsigned_quotient_24, unsigned_quotient_25, unsigned_quotient_26, unsigned_quotient_27, unsigned_quotient_28, unsigned_quotient_29,
+    unsigned_quotient_30, unsigned_quotient_31, unsigned_quotient_32, unsigned_quotient_33
+};
+
+static unsigned (*unsigned_assign_quotient[])(unsigned) = {
+    unsigned_assign_quotient_0, unsigned_assign_quotient_1, unsigned_assign_quotient_2, unsigned_assign_quotient_3, unsigned_assign_quotient_4, unsigned_assign_quotient_5,
+    unsigned_assign_quotient_6, unsigned_assign_quotient_7, unsigned_assign_quotient_8, unsigned_assign_quotient_9, unsigned_assign_quotient_10, unsigned_assign_quotient_11,
+    unsigned_assign_quotient_12, unsigned_assign_quotient_13, unsigned_assign_quotient_14, unsigned_assign_quotient_15, unsigned_assign_quotient_16, unsigned_assign_quotient_17,
+    unsigned_assign_quotient_18, unsigned_assign_quotient_19, unsigned_assign_quotient_20, unsigned_assign_quotient_21, unsigned_assign_quotient_22, unsigned_assign_quotient_23,
+    unsigned_assign_quotient_24, unsigned_assign_quotient_25, unsigned_assign_quotient_26, unsigned_assign_quotient_27, unsigned_assign_quotient_28, unsigned_assign_quotient_29,
+    unsigned_assign_quotient_30, unsigned_assign_quotient_31, unsigned_assign_quotient_32, unsigned_assign_quotient_33
+};
+
+static unsigned unsigned_remainder_0(unsigned x) {
+    return x % 1u;
+}
+
+static unsigned unsigned_assign_remainder_0(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 1u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_1(unsigned x) {
+    return x % 2u;
+}
+
+static unsigned unsigned_assign_remainder_1(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 2u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_2(unsigned x) {
+    return x % 3u;
+}
+
+static unsigned unsigned_assign_remainder_2(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 3u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_3(unsigned x) {
+    return x % 4u;
+}
+
+static unsigned unsigned_assign_remainder_3(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 4u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_4(unsigned x) {
+    return x % 5u;
+}
+
+static unsigned unsigned_assign_remainder_4(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 5u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_5(unsigned x) {
+    return x % 6u;
+}
+
+static unsigned unsigned_assign_remainder_5(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 6u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_6(unsigned x) {
+    return x % 7u;
+}
+
+static unsigned unsigned_assign_remainder_6(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 7u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_7(unsigned x) {
+    return x % 8u;
+}
+
+static unsigned unsigned_assign_remainder_7(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 8u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_8(unsigned x) {
+    return x % 9u;
+}
+
+static unsigned unsigned_assign_remainder_8(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 9u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_9(unsigned x) {
+    return x % 10u;
+}
+
+static unsigned unsigned_assign_remainder_9(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 10u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_10(unsigned x) {
+    return x % 11u;
+}
+
+static unsigned unsigned_assign_remainder_10(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 11u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_11(unsigned x) {
+    return x % 12u;
+}
+
+static unsigned unsigned_assign_remainder_11(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 12u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_12(unsigned x) {
+    return x % 13u;
+}
+
+static unsigned unsigned_assign_remainder_12(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 13u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_13(unsigned x) {
+    return x % 16u;
+}
+
+static unsigned unsigned_assign_remainder_13(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 16u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_14(unsigned x) {
+    return x % 25u;
+}
+
+static unsigned unsigned_assign_remainder_14(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 25u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_15(unsigned x) {
+    return x % 31u;
+}
+
+static unsigned unsigned_assign_remainder_15(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 31u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_16(unsigned x) {
+    return x % 32u;
+}
+
+static unsigned unsigned_assign_remainder_16(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 32u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_17(unsigned x) {
+    return x % 100u;
+}
+
+static unsigned unsigned_assign_remainder_17(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 100u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_18(unsigned x) {
+    return x % 125u;
+}
+
+static unsigned unsigned_assign_remainder_18(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 125u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_19(unsigned x) {
+    return x % 255u;
+}
+
+static unsigned unsigned_assign_remainder_19(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 255u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_20(unsigned x) {
+    return x % 256u;
+}
+
+static unsigned unsigned_assign_remainder_20(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 256u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_21(unsigned x) {
+    return x % 641u;
+}
+
+static unsigned unsigned_assign_remainder_21(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 641u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_22(unsigned x) {
+    return x % 1000u;
+}
+
+static unsigned unsigned_assign_remainder_22(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 1000u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_23(unsigned x) {
+    return x % 1024u;
+}
+
+static unsigned unsigned_assign_remainder_23(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 1024u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_24(unsigned x) {
+    return x % 65535u;
+}
+
+static unsigned unsigned_assign_remainder_24(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 65535u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_25(unsigned x) {
+    return x % 65536u;
+}
+
+static unsigned unsigned_assign_remainder_25(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 65536u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_26(unsigned x) {
+    return x % 2147483647u;
+}
+
+static unsigned unsigned_assign_remainder_26(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 2147483647u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_27(unsigned x) {
+    return x % 2147483648u;
+}
+
+static unsigned unsigned_assign_remainder_27(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 2147483648u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_28(unsigned x) {
+    return x % 2147483649u;
+}
+
+static unsigned unsigned_assign_remainder_28(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 2147483649u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_29(unsigned x) {
+    return x % 4294967294u;
+}
+
+static unsigned unsigned_assign_remainder_29(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 4294967294u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_30(unsigned x) {
+    return x % 4294967295u;
+}
+
+static unsigned unsigned_assign_remainder_30(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 4294967295u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_31(unsigned x) {
+    return x % 3000000000u;
+}
+
+static unsigned unsigned_assign_remainder_31(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 3000000000u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_32(unsigned x) {
+    return x % 1879048192u;
+}
+
+static unsigned unsigned_assign_remainder_32(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 1879048192u;
+    return unsigned_value;
+}
+
+static unsigned unsigned_remainder_33(unsigned x) {
+    return x % 1431655765u;
+}
+
+static unsigned unsigned_assign_remainder_33(unsigned x) {
+    unsigned_value = x;
+    unsigned_value %= 1431655765u;
+    return unsigned_value;
+}
+
+static unsigned (*unsigned_remainder[])(unsigned) = {
+    unsigned_remainder_0, unsigned_remainder_1, unsigned_remainder_2, unsigned_remainder_3, unsigned_remainder_4, unsigned_remainder_5,
+    unsigned_remainder_6, unsigned_remainder_7, unsigned_remainder_8, unsigned_remainder_9, unsigned_remainder_10, unsigned_remainder_11,
+    unsigned_remainder_12, unsigned_remainder_13, unsigned_remainder_14, unsigned_remainder_15, unsigned_remainder_16, unsigned_remainder_17,
+    unsigned_remainder_18, unsigned_remainder_19, unsigned_remainder_20, unsigned_remainder_21, unsigned_remainder_22, unsigned_remainder_23,
+    unsigned_remainder_24, unsigned_remainder_25, unsigned_remainder_26, unsigned_remainder_27, unsigned_remainder_28, unsigned_remainder_29,
+    unsigned_remainder_30, unsigned_remainder_31, unsigned_remainder_32, unsigned_remainder_33
+};
+
+static unsigned (*unsigned_assign_remainder[])(unsigned) = {
+    unsigned_assign_remainder_0, unsigned_assign_remainder_1, unsigned_assign_remainder_2, unsigned_assign_remainder_3, unsigned_assign_remainder_4, unsigned_assign_remainder_5,
+    unsigned_assign_remainder_6, unsigned_assign_remainder_7, unsigned_assign_remainder_8, unsigned_assign_remainder_9, unsigned_assign_remainder_10, unsigned_assign_remainder_11,
+    unsigned_assign_remainder_12, unsigned_assign_remainder_13, unsigned_assign_remainder_14, unsigned_assign_remainder_15, unsigned_assign_remainder_16, unsigned_assign_remainder_17,
+    unsigned_assign_remainder_18, unsigned_assign_remainder_19, unsigned_assign_remainder_20, unsigned_assign_remainder_21, unsigned_assign_remainder_22, unsigned_assign_remainder_23,
+    unsigned_assign_remainder_24, unsigned_assign_remainder_25, unsigned_assign_remainder_26, unsigned_assign_remainder_27, unsigned_assign_remainder_28, unsigned_assign_remainder_29,
+    unsigned_assign_remainder_30, unsigned_assign_remainder_31, unsigned_assign_remainder_32, unsigned_assign_remainder_33
+};
+
+static unsigned long unsigned_long_value;
+
+static unsigned long unsigned_long_quotient_0(unsigned long x) {
+    return x / 1u;
+}
+
+static unsigned long unsigned_long_assign_quotient_0(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 1u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_1(unsigned long x) {
+    return x / 2u;
+}
+
+static unsigned long unsigned_long_assign_quotient_1(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 2u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_2(unsigned long x) {
+    return x / 3u;
+}
+
+static unsigned long unsigned_long_assign_quotient_2(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 3u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_3(unsigned long x) {
+    return x / 4u;
+}
+
+static unsigned long unsigned_long_assign_quotient_3(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 4u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_4(unsigned long x) {
+    return x / 5u;
+}
+
+static unsigned long unsigned_long_assign_quotient_4(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 5u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_5(unsigned long x) {
+    return x / 6u;
+}
+
+static unsigned long unsigned_long_assign_quotient_5(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 6u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_6(unsigned long x) {
+    return x / 7u;
+}
+
+static unsigned long unsigned_long_assign_quotient_6(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 7u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_7(unsigned long x) {
+    return x / 8u;
+}
+
+static unsigned long unsigned_long_assign_quotient_7(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 8u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_8(unsigned long x) {
+    return x / 9u;
+}
+
+static unsigned long unsigned_long_assign_quotient_8(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 9u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_9(unsigned long x) {
+    return x / 10u;
+}
+
+static unsigned long unsigned_long_assign_quotient_9(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 10u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_10(unsigned long x) {
+    return x / 11u;
+}
+
+static unsigned long unsigned_long_assign_quotient_10(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 11u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_11(unsigned long x) {
+    return x / 12u;
+}
+
+static unsigned long unsigned_long_assign_quotient_11(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 12u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_12(unsigned long x) {
+    return x / 13u;
+}
+
+static unsigned long unsigned_long_assign_quotient_12(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 13u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_13(unsigned long x) {
+    return x / 16u;
+}
+
+static unsigned long unsigned_long_assign_quotient_13(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 16u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_14(unsigned long x) {
+    return x / 25u;
+}
+
+static unsigned long unsigned_long_assign_quotient_14(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 25u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_15(unsigned long x) {
+    return x / 31u;
+}
+
+static unsigned long unsigned_long_assign_quotient_15(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 31u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_16(unsigned long x) {
+    return x / 32u;
+}
+
+static unsigned long unsigned_long_assign_quotient_16(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 32u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_17(unsigned long x) {
+    return x / 100u;
+}
+
+static unsigned long unsigned_long_assign_quotient_17(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 100u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_18(unsigned long x) {
+    return x / 125u;
+}
+
+static unsigned long unsigned_long_assign_quotient_18(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 125u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_19(unsigned long x) {
+    return x / 255u;
+}
+
+static unsigned long unsigned_long_assign_quotient_19(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 255u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_20(unsigned long x) {
+    return x / 256u;
+}
+
+static unsigned long unsigned_long_assign_quotient_20(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 256u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_21(unsigned long x) {
+    return x / 641u;
+}
+
+static unsigned long unsigned_long_assign_quotient_21(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 641u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_22(unsigned long x) {
+    return x / 1000u;
+}
+
+static unsigned long unsigned_long_assign_quotient_22(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 1000u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_23(unsigned long x) {
+    return x / 1024u;
+}
+
+static unsigned long unsigned_long_assign_quotient_23(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 1024u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_24(unsigned long x) {
+    return x / 65535u;
+}
+
+static unsigned long unsigned_long_assign_quotient_24(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 65535u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_25(unsigned long x) {
+    return x / 65536u;
+}
+
+static unsigned long unsigned_long_assign_quotient_25(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 65536u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_26(unsigned long x) {
+    return x / 2147483647u;
+}
+
+static unsigned long unsigned_long_assign_quotient_26(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 2147483647u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_27(unsigned long x) {
+    return x / 2147483648u;
+}
+
+static unsigned long unsigned_long_assign_quotient_27(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 2147483648u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_28(unsigned long x) {
+    return x / 2147483649u;
+}
+
+static unsigned long unsigned_long_assign_quotient_28(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 2147483649u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_29(unsigned long x) {
+    return x / 4294967294u;
+}
+
+static unsigned long unsigned_long_assign_quotient_29(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 4294967294u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_30(unsigned long x) {
+    return x / 4294967295u;
+}
+
+static unsigned long unsigned_long_assign_quotient_30(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 4294967295u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_31(unsigned long x) {
+    return x / 3000000000u;
+}
+
+static unsigned long unsigned_long_assign_quotient_31(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 3000000000u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_32(unsigned long x) {
+    return x / 1879048192u;
+}
+
+static unsigned long unsigned_long_assign_quotient_32(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 1879048192u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_quotient_33(unsigned long x) {
+    return x / 1431655765u;
+}
+
+static unsigned long unsigned_long_assign_quotient_33(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value /= 1431655765u;
+    return unsigned_long_value;
+}
+
+static unsigned long (*unsigned_long_quotient[])(unsigned long) = {
+    unsigned_long_quotient_0, unsigned_long_quotient_1, unsigned_long_quotient_2, unsigned_long_quotient_3, unsigned_long_quotient_4, unsigned_long_quotient_5,
+    unsigned_long_quotient_6, unsigned_long_quotient_7, unsigned_long_quotient_8, unsigned_long_quotient_9, unsigned_long_quotient_10, unsigned_long_quotient_11,
+    unsigned_long_quotient_12, unsigned_long_quotient_13, unsigned_long_quotient_14, unsigned_long_quotient_15, unsigned_long_quotient_16, unsigned_long_quotient_17,
+    unsigned_long_quotient_18, unsigned_long_quotient_19, unsigned_long_quotient_20, unsigned_long_quotient_21, unsigned_long_quotient_22, unsigned_long_quotient_23,
+    unsigned_long_quotient_24, unsigned_long_quotient_25, unsigned_long_quotient_26, unsigned_long_quotient_27, unsigned_long_quotient_28, unsigned_long_quotient_29,
+    unsigned_long_quotient_30, unsigned_long_quotient_31, unsigned_long_quotient_32, unsigned_long_quotient_33
+};
+
+static unsigned long (*unsigned_long_assign_quotient[])(unsigned long) = {
+    unsigned_long_assign_quotient_0, unsigned_long_assign_quotient_1, unsigned_long_assign_quotient_2, unsigned_long_assign_quotient_3, unsigned_long_assign_quotient_4, unsigned_long_assign_quotient_5,
+    unsigned_long_assign_quotient_6, unsigned_long_assign_quotient_7, unsigned_long_assign_quotient_8, unsigned_long_assign_quotient_9, unsigned_long_assign_quotient_10, unsigned_long_assign_quotient_11,
+    unsigned_long_assign_quotient_12, unsigned_long_assign_quotient_13, unsigned_long_assign_quotient_14, unsigned_long_assign_quotient_15, unsigned_long_assign_quotient_16, unsigned_long_assign_quotient_17,
+    unsigned_long_assign_quotient_18, unsigned_long_assign_quotient_19, unsigned_long_assign_quotient_20, unsigned_long_assign_quotient_21, unsigned_long_assign_quotient_22, unsigned_long_assign_quotient_23,
+    unsigned_long_assign_quotient_24, unsigned_long_assign_quotient_25, unsigned_long_assign_quotient_26, unsigned_long_assign_quotient_27, unsigned_long_assign_quotient_28, unsigned_long_assign_quotient_29,
+    unsigned_long_assign_quotient_30, unsigned_long_assign_quotient_31, unsigned_long_assign_quotient_32, unsigned_long_assign_quotient_33
+};
+
+static unsigned long unsigned_long_remainder_0(unsigned long x) {
+    return x % 1u;
+}
+
+static unsigned long unsigned_long_assign_remainder_0(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 1u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_1(unsigned long x) {
+    return x % 2u;
+}
+
+static unsigned long unsigned_long_assign_remainder_1(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 2u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_2(unsigned long x) {
+    return x % 3u;
+}
+
+static unsigned long unsigned_long_assign_remainder_2(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 3u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_3(unsigned long x) {
+    return x % 4u;
+}
+
+static unsigned long unsigned_long_assign_remainder_3(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 4u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_4(unsigned long x) {
+    return x % 5u;
+}
+
+static unsigned long unsigned_long_assign_remainder_4(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 5u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_5(unsigned long x) {
+    return x % 6u;
+}
+
+static unsigned long unsigned_long_assign_remainder_5(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 6u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_6(unsigned long x) {
+    return x % 7u;
+}
+
+static unsigned long unsigned_long_assign_remainder_6(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 7u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_7(unsigned long x) {
+    return x % 8u;
+}
+
+static unsigned long unsigned_long_assign_remainder_7(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 8u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_8(unsigned long x) {
+    return x % 9u;
+}
+
+static unsigned long unsigned_long_assign_remainder_8(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 9u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_9(unsigned long x) {
+    return x % 10u;
+}
+
+static unsigned long unsigned_long_assign_remainder_9(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 10u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_10(unsigned long x) {
+    return x % 11u;
+}
+
+static unsigned long unsigned_long_assign_remainder_10(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 11u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_11(unsigned long x) {
+    return x % 12u;
+}
+
+static unsigned long unsigned_long_assign_remainder_11(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 12u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_12(unsigned long x) {
+    return x % 13u;
+}
+
+static unsigned long unsigned_long_assign_remainder_12(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 13u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_13(unsigned long x) {
+    return x % 16u;
+}
+
+static unsigned long unsigned_long_assign_remainder_13(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 16u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_14(unsigned long x) {
+    return x % 25u;
+}
+
+static unsigned long unsigned_long_assign_remainder_14(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 25u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_15(unsigned long x) {
+    return x % 31u;
+}
+
+static unsigned long unsigned_long_assign_remainder_15(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 31u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_16(unsigned long x) {
+    return x % 32u;
+}
+
+static unsigned long unsigned_long_assign_remainder_16(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 32u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_17(unsigned long x) {
+    return x % 100u;
+}
+
+static unsigned long unsigned_long_assign_remainder_17(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 100u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_18(unsigned long x) {
+    return x % 125u;
+}
+
+static unsigned long unsigned_long_assign_remainder_18(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 125u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_19(unsigned long x) {
+    return x % 255u;
+}
+
+static unsigned long unsigned_long_assign_remainder_19(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 255u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_20(unsigned long x) {
+    return x % 256u;
+}
+
+static unsigned long unsigned_long_assign_remainder_20(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 256u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_21(unsigned long x) {
+    return x % 641u;
+}
+
+static unsigned long unsigned_long_assign_remainder_21(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 641u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_22(unsigned long x) {
+    return x % 1000u;
+}
+
+static unsigned long unsigned_long_assign_remainder_22(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 1000u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_23(unsigned long x) {
+    return x % 1024u;
+}
+
+static unsigned long unsigned_long_assign_remainder_23(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 1024u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_24(unsigned long x) {
+    return x % 65535u;
+}
+
+static unsigned long unsigned_long_assign_remainder_24(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 65535u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_25(unsigned long x) {
+    return x % 65536u;
+}
+
+static unsigned long unsigned_long_assign_remainder_25(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 65536u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_26(unsigned long x) {
+    return x % 2147483647u;
+}
+
+static unsigned long unsigned_long_assign_remainder_26(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 2147483647u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_27(unsigned long x) {
+    return x % 2147483648u;
+}
+
+static unsigned long unsigned_long_assign_remainder_27(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 2147483648u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_28(unsigned long x) {
+    return x % 2147483649u;
+}
+
+static unsigned long unsigned_long_assign_remainder_28(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 2147483649u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_29(unsigned long x) {
+    return x % 4294967294u;
+}
+
+static unsigned long unsigned_long_assign_remainder_29(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 4294967294u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_30(unsigned long x) {
+    return x % 4294967295u;
+}
+
+static unsigned long unsigned_long_assign_remainder_30(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 4294967295u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_31(unsigned long x) {
+    return x % 3000000000u;
+}
+
+static unsigned long unsigned_long_assign_remainder_31(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 3000000000u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_32(unsigned long x) {
+    return x % 1879048192u;
+}
+
+static unsigned long unsigned_long_assign_remainder_32(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 1879048192u;
+    return unsigned_long_value;
+}
+
+static unsigned long unsigned_long_remainder_33(unsigned long x) {
+    return x % 1431655765u;
+}
+
+static unsigned long unsigned_long_assign_remainder_33(unsigned long x) {
+    unsigned_long_value = x;
+    unsigned_long_value %= 1431655765u;
+    return unsigned_long_value;
+}
+
+static unsigned long (*unsigned_long_remainder[])(unsigned long) = {
+    unsigned_long_remainder_0, unsigned_long_remainder_1, unsigned_long_remainder_2, unsigned_long_remainder_3, unsigned_long_remainder_4, unsigned_long_remainder_5,
+    unsigned_long_remainder_6, unsigned_long_remainder_7, unsigned_long_remainder_8, unsigned_long_remainder_9, unsigned_long_remainder_10, unsigned_long_remainder_11,
+    unsigned_long_remainder_12, unsigned_long_remainder_13, unsigned_long_remainder_14, unsigned_long_remainder_15, unsigned_long_remainder_16, unsigned_long_remainder_17,
+    unsigned_long_remainder_18, unsigned_long_remainder_19, unsigned_long_remainder_20, unsigned_long_remainder_21, unsigned_long_remainder_22, unsigned_long_remainder_23,
+    unsigned_long_remainder_24, unsigned_long_remainder_25, unsigned_long_remainder_26, unsigned_long_remainder_27, unsigned_long_remainder_28, unsigned_long_remainder_29,
+    unsigned_long_remainder_30, unsigned_long_remainder_31, unsigned_long_remainder_32, unsigned_long_remainder_33
+};
+
+static unsigned long (*unsigned_long_assign_remainder[])(unsigned long) = {
+    unsigned_long_assign_remainder_0, unsigned_long_assign_remainder_1, unsigned_long_assign_remainder_2, unsigned_long_assign_remainder_3, unsigned_long_assign_remainder_4, unsigned_long_assign_remainder_5,
+    unsigned_long_assign_remainder_6, unsigned_long_assign_remainder_7, unsigned_long_assign_remainder_8, unsigned_long_assign_remainder_9, unsigned_long_assign_remainder_10, unsigned_long_assign_remainder_11,
+    unsigned_long_assign_remainder_12, unsigned_long_assign_remainder_13, unsigned_long_assign_remainder_14, unsigned_long_assign_remainder_15, unsigned_long_assign_remainder_16, unsigned_long_assign_remainder_17,
+    unsigned_long_assign_remainder_18, unsigned_long_assign_remainder_19, unsigned_long_assign_remainder_20, unsigned_long_assign_remainder_21, unsigned_long_assign_remainder_22, unsigned_long_assign_remainder_23,
+    unsigned_long_assign_remainder_24, unsigned_long_assign_remainder_25, unsigned_long_assign_remainder_26, unsigned_long_assign_remainder_27, unsigned_long_assign_remainder_28, unsigned_long_assign_remainder_29,
+    unsigned_long_assign_remainder_30, unsigned_long_assign_remainder_31, unsigned_long_assign_remainder_32, unsigned_long_assign_remainder_33
+};
+
+#define COUNT(array) (sizeof(array) / sizeof(*(array)))
+
+static void test_int(void) {
+    int i, j;
+    int x, divisor;
+
+    for(i = 0; i < COUNT(signed_divisors); ++i)
+        for(j = 0; j < COUNT(signed_values); ++j) {
+            x = signed_values[j];
+            divisor = signed_divisors[i];
+
+            /* the quotient overflows */
+            if(divisor == -1 && x == (-2147483647 - 1))
+                continue;
+
+            if(int_quotient[i](x) != x / divisor)
+                test_fail("int /", i, x, int_quotient[i](x), x / divisor);
+
+            if(int_remainder[i](x) != x % divisor)
+                test_fail("int %", i, x, int_remainder[i](x), x % divisor);
+
+            if(int_assign_quotient[i](x) != x / divisor)
+                test_fail("int /=", i, x, int_assign_quotient[i](x), x / divisor);
+
+            if(int_assign_remainder[i](x) != x % divisor)
+                test_fail("int %=", i, x, int_assign_remainder[i](x), x % divisor);
+        }
+}
+
+static void test_long(void) {
+    int i, j;
+    long x, divisor;
+
+    for(i = 0; i < COUNT(signed_divisors); ++i)
+        for(j = 0; j < COUNT(signed_values); ++j) {
+            x = signed_values[j];
+            divisor = signed_divisors[i];
+
+            /* the quotient overflows */
+            if(divisor == -1 && x == (-2147483647 - 1))
+                continue;
+
+            if(long_quotient[i](x) != x / divisor)
+                test_fail("long /", i, x, long_quotient[i](x), x / divisor);
+
+            if(long_remainder[i](x) != x % divisor)
+                test_fail("long %", i, x, long_remainder[i](x), x % divisor);
+
+            if(long_assign_quotient[i](x) != x / divisor)
+                test_fail("long /=", i, x, long_assign_quotient[i](x), x / divisor);
+
+            if(long_assign_remainder[i](x) != x % divisor)
+                test_fail("long %=", i, x, long_assign_remainder[i](x), x % divisor);
+        }
+}
+
+static void test_unsigned(void) {
+    int i, j;
+    unsigned x, divisor;
+
+    for(i = 0; i < COUNT(unsigned_divisors); ++i)
+        for(j = 0; j < COUNT(unsigned_values); ++j) {
+            x = unsigned_values[j];
+            divisor = unsigned_divisors[i];
+
+            if(unsigned_quotient[i](x) != x / divisor)
+                test_fail("unsigned /", i, x, unsigned_quotient[i](x), x / divisor);
+
+            if(unsigned_remainder[i](x) != x % divisor)
+                test_fail("unsigned %", i, x, unsigned_remainder[i](x), x % divisor);
+
+            if(unsigned_assign_quotient[i](x) != x / divisor)
+                test_fail("unsigned /=", i, x, unsigned_assign_quotient[i](x), x / divisor);
+
+            if(unsigned_assign_remainder[i](x) != x % divisor)
+                test_fail("unsigned %=", i, x, unsigned_assign_remainder[i](x), x % divisor);
+        }
+}
+
+static void test_unsigned_long(void) {
+    int i, j;
+    unsigned long x, divisor;
+
+    for(i = 0; i < COUNT(unsigned_divisors); ++i)
+        for(j = 0; j < COUNT(unsigned_values); ++j) {
+            x = unsigned_values[j];
+            divisor = unsigned_divisors[i];
+
+            if(unsigned_long_quotient[i](x) != x / divisor)
+                test_fail("unsigned long /", i, x, unsigned_long_quotient[i](x), x / divisor);
+
+            if(unsigned_long_remainder[i](x) != x % divisor)
+                test_fail("unsigned long %", i, x, unsigned_long_remainder[i](x), x % divisor);
+
+            if(unsigned_long_assign_quotient[i](x) != x / divisor)
+                test_fail("unsigned long /=", i, x, unsigned_long_assign_quotient[i](x), x / divisor);
+
+            if(unsigned_long_assign_remainder[i](x) != x % divisor)
+                test_fail("unsigned long %=", i, x, unsigned_long_assign_remainder[i](x), x % divisor);
+        }
+}
+
+void test_main(void) {
+    test_int();
+    test_long();
+    test_unsigned();
+    test_unsigned_long();
+}
@@ -0,0 +1,132 @@
+#!/usr/bin/python3
+# Generates division.c, which compares divisions (and remainders) by constants
+# with divisions by the same values read from memory (which are never replaced
+# by cheaper instruction sequences).
+#
+# usage: ./division.py > division.c
+import random
+
+random.seed(49)
+
+INT_MIN = -2 ** 31
+INT_MAX = 2 ** 31 - 1
+
+SIGNED_DIVISORS = [
+    1, -1, 2, -2, 3, -3, 4, -4, 5, -5, 6, 7, -7, 8, -8, 9, 10, 11, 12, 13, 16, -16,
+    25, 31, 32, 60, 64, 100, -100, 125, 128, 255, 256, 641, 1000, 1024, 65535, 65536,
+    2 ** 30, -2 ** 30, INT_MAX, INT_MIN
+]
+
+UNSIGNED_DIVISORS = [
+    1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 16, 25, 31, 32, 100, 125, 255, 256,
+    641, 1000, 1024, 65535, 65536, 2 ** 31 - 1, 2 ** 31, 2 ** 31 + 1, 0xFFFFFFFE,
+    0xFFFFFFFF, 3000000000, 7 * 2 ** 28, 0x55555555
+]
+
+SIGNED_VALUES = [
+    0, 1, -1, 2, -2, 3, -3, 5, -5, 6, 7, -7, 8, -8, 9, 10, 99, -99, 100, -100, 127,
+    -128, 255, 256, 1000, -1000, 12345, -12345, 65535, 65536, -65536, 1000000,
+    -1000000, INT_MAX, INT_MIN, INT_MAX - 1, INT_MIN + 1, 2 ** 30, -2 ** 30,
+    123456789, -123456789
+] + [ random.randint(INT_MIN, INT_MAX) for i in range(40) ]
+
+UNSIGNED_VALUES = [
+    0, 1, 2, 3, 5, 6, 7, 8, 9, 10, 99, 100, 255, 256, 1000, 12345, 65535, 65536,
+    1000000, 2 ** 31 - 1, 2 ** 31, 2 ** 31 + 1, 0xFFFFFFFE, 0xFFFFFFFF, 3000000000,
+    4000000000
+] + [ random.randint(0, 2 ** 32 - 1) for i in range(40) ]
+
+# (type, name of the functions, kind of divisors and values)
+TYPES = [
+    ('int', 'int', 'signed'),
+    ('long', 'long', 'signed'),
+    ('unsigned', 'unsigned', 'unsigned'),
+    ('unsigned long', 'unsigned_long', 'unsigned')
+]
+
+OPERATORS = [ ('/', 'quotient'), ('%', 'remainder') ]
+
+def literal(value, suffix):
+    if value == INT_MIN:
+        return '(-2147483647 - 1)'
+
+    return '%d%s' % (value, suffix)
+
+def array(type, name, values, suffix):
+    return 'static %s %s[] = {\n%s\n};\n' % (type, name, ',\n'.join(
+        '    ' + ', '.join(literal(value, suffix) for value in values[i:i + 8])
+        for i in range(0, len(values), 8)
+    ))
+
+out = [ '/* (c) 2023, Thomas Kasper */\n', '/* Generated by division.py, do not edit */\n', '#include "syntaxtest.h"\n' ]
+
+out.append(array('int', 'signed_divisors', SIGNED_DIVISORS, ''))
+out.append(array('unsigned', 'unsigned_divisors', UNSIGNED_DIVISORS, 'u'))
+out.append(array('int', 'signed_values', SIGNED_VALUES, ''))
+out.append(array('unsigned', 'unsigned_values', UNSIGNED_VALUES, 'u'))
+
+for type, name, kind in TYPES:
+    divisors = SIGNED_DIVISORS if kind == 'signed' else UNSIGNED_DIVISORS
+    suffix = '' if kind == 'signed' else 'u'
+
+    out.append('static %s %s_value;\n' % (type, name))
+
+    for operator, operation in OPERATORS:
+        for i, divisor in enumerate(divisors):
+            constant = literal(divisor, suffix)
+
+            out.append('static %s %s_%s_%d(%s x) {\n    return x %s %s;\n}\n' % (
+                type, name, operation, i, type, operator, constant
+            ))
+
+            # the dividend is stored in memory, and the result is assigned to it
+            out.append('static %s %s_assign_%s_%d(%s x) {\n    %s_value = x;\n    %s_value %s= %s;\n    return %s_value;\n}\n' % (
+                type, name, operation, i, type, name, name, operator, constant, name
+            ))
+
+        for form in [ operation, 'assign_' + operation ]:
+            out.append('static %s (*%s_%s[])(%s) = {\n%s\n};\n' % (
+                type, name, form, type, ',\n'.join(
+                    '    ' + ', '.join('%s_%s_%d' % (name, form, j) for j in range(i, min(i + 6, len(divisors))))
+                    for i in range(0, len(divisors), 6)
+                )
+            ))
+
+out.append('#define COUNT(array) (sizeof(array) / sizeof(*(array)))\n')
+
+for type, name, kind in TYPES:
+    out.append('''static void test_%s(void) {
+    int i, j;
+    %s x, divisor;
+
+    for(i = 0; i < COUNT(%s_divisors); ++i)
+        for(j = 0; j < COUNT(%s_values); ++j) {
+            x = %s_values[j];
+            divisor = %s_divisors[i];
+%s
+            if(%s_quotient[i](x) != x / divisor)
+                test_fail("%s /", i, x, %s_quotient[i](x), x / divisor);
+
+            if(%s_remainder[i](x) != x %% divisor)
+                test_fail("%s %%", i, x, %s_remainder[i](x), x %% divisor);
+
+            if(%s_assign_quotient[i](x) != x / divisor)
+                test_fail("%s /=", i, x, %s_assign_quotient[i](x), x / divisor);
+
+            if(%s_assign_remainder[i](x) != x %% divisor)
+                test_fail("%s %%=", i, x, %s_assign_remainder[i](x), x %% divisor);
+        }
+}
+''' % (
+        name, type, kind, kind, kind, kind,
+        '''
+            /* the quotient overflows */
+            if(divisor == -1 && x == (-2147483647 - 1))
+                continue;
+''' if kind == 'signed' else '',
+        name, type, name, name, type, name, name, type, name, name, type, name
+    ))
+
+out.append('void test_main(void) {\n%s}' % ''.join('    test_%s();\n' % name for _, name, _ in TYPES))
+
+print('\n'.join(out))
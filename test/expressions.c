@@ -0,0 +1,958 @@
+/* (c) 2023, Thomas Kasper */
+
+/* Generated by expressions.py, do not edit */
+
+#include "syntaxtest.h"
+
+static unsigned expr_sum(unsigned x) {
+    return (x ^ 42073u)
+        - (x ^ 63041u) + (x ^ 58360u) + (x ^ 36989u) + (x ^ 9276u) - (x ^ 39491u) - (x ^ 54233u)
+        - (x ^ 40535u) + (x ^ 65024u) + (x ^ 6894u) + (x ^ 55855u) + (x ^ 36763u) + (x ^ 41872u)
+        + (x ^ 32193u) - (x ^ 15369u) + (x ^ 7342u) + (x ^ 41852u) + (x ^ 37282u) + (x ^ 27965u)
+        - (x ^ 8680u) + (x ^ 47952u) - (x ^ 16145u) + (x ^ 42162u) + (x ^ 31808u) + (x ^ 35744u)
+        - (x ^ 41957u) + (x ^ 835u) + (x ^ 46382u) - (x ^ 39890u) - (x ^ 51669u) - (x ^ 50992u)
+        - (x ^ 24305u) - (x ^ 14429u) - (x ^ 4314u) - (x ^ 47786u) + (x ^ 16232u) - (x ^ 8299u)
+        - (x ^ 19523u) - (x ^ 12224u) - (x ^ 15683u) - (x ^ 41491u) - (x ^ 398u) - (x ^ 7549u)
+        + (x ^ 53738u) - (x ^ 36097u) + (x ^ 45635u) - (x ^ 26593u) + (x ^ 25275u) - (x ^ 50927u)
+        - (x ^ 60004u) - (x ^ 62060u) - (x ^ 46931u) + (x ^ 59542u) - (x ^ 40371u) - (x ^ 63714u)
+        + (x ^ 9204u) - (x ^ 1270u) + (x ^ 63068u) - (x ^ 49777u) - (x ^ 49698u) + (x ^ 47388u)
+        + (x ^ 14547u) + (x ^ 31954u) - (x ^ 1943u) - (x ^ 58143u) + (x ^ 41331u) + (x ^ 21392u)
+        - (x ^ 64872u) + (x ^ 63359u) + (x ^ 4391u) - (x ^ 11464u) - (x ^ 36926u) - (x ^ 60645u)
+        - (x ^ 36664u) + (x ^ 55320u) - (x ^ 53266u) - (x ^ 34155u) - (x ^ 61934u) - (x ^ 63164u)
+        - (x ^ 50832u) + (x ^ 2691u) - (x ^ 52049u) + (x ^ 41631u) - (x ^ 42592u) - (x ^ 21974u)
+        - (x ^ 13836u) + (x ^ 24282u) - (x ^ 41905u) + (x ^ 37508u) + (x ^ 22607u) + (x ^ 46345u)
+        + (x ^ 56109u) - (x ^ 56881u) - (x ^ 43886u) - (x ^ 48271u) - (x ^ 4566u) - (x ^ 1686u)
+        - (x ^ 29873u) + (x ^ 62996u) + (x ^ 12082u) - (x ^ 35435u) - (x ^ 10247u) - (x ^ 15389u)
+        - (x ^ 26034u) - (x ^ 24720u) + (x ^ 26091u) - (x ^ 9371u) - (x ^ 8455u) + (x ^ 1444u)
+        - (x ^ 56986u) - (x ^ 48682u) - (x ^ 888u) + (x ^ 20406u) - (x ^ 54187u) + (x ^ 3038u)
+        - (x ^ 11687u) + (x ^ 18101u) + (x ^ 59898u) - (x ^ 5201u) - (x ^ 2729u) - (x ^ 27507u)
+        - (x ^ 29887u) - (x ^ 14776u) - (x ^ 43851u) - (x ^ 48037u) - (x ^ 11630u) - (x ^ 65428u)
+        - (x ^ 40545u) + (x ^ 4066u) + (x ^ 2146u) - (x ^ 847u) + (x ^ 65221u) - (x ^ 38078u)
+        + (x ^ 43116u) + (x ^ 42836u) - (x ^ 16804u) - (x ^ 43576u) - (x ^ 12828u) + (x ^ 44451u)
+        - (x ^ 50695u) + (x ^ 64974u) + (x ^ 58963u) + (x ^ 35543u) + (x ^ 26503u) - (x ^ 10754u)
+        - (x ^ 26620u) + (x ^ 16808u) + (x ^ 33865u) + (x ^ 13138u) - (x ^ 22742u) - (x ^ 54331u)
+        - (x ^ 17056u) + (x ^ 17992u) + (x ^ 63074u) - (x ^ 60799u) - (x ^ 60304u) - (x ^ 42442u)
+        - (x ^ 30787u) + (x ^ 941u) + (x ^ 3069u) + (x ^ 3090u) + (x ^ 10308u) + (x ^ 19551u)
+        - (x ^ 44194u) - (x ^ 24397u) - (x ^ 47348u) - (x ^ 33107u) + (x ^ 31123u) - (x ^ 40166u)
+        + (x ^ 1131u) - (x ^ 64983u) - (x ^ 58857u) - (x ^ 50197u) - (x ^ 36968u) - (x ^ 35280u)
+        - (x ^ 29419u) - (x ^ 5542u) - (x ^ 37478u) - (x ^ 20902u) + (x ^ 51615u) - (x ^ 3533u)
+        - (x ^ 45320u) - (x ^ 10828u) + (x ^ 15344u) - (x ^ 24609u) - (x ^ 50244u) + (x ^ 43433u)
+        + (x ^ 31517u) + (x ^ 49805u) + (x ^ 5422u) - (x ^ 31135u) - (x ^ 16923u) + (x ^ 21038u)
+        + (x ^ 50576u) - (x ^ 10169u) + (x ^ 65255u) + (x ^ 24717u) - (x ^ 26138u) + (x ^ 56367u)
+        - (x ^ 37219u) + (x ^ 36939u) + (x ^ 50420u) + (x ^ 40816u) + (x ^ 57015u) - (x ^ 30747u)
+        - (x ^ 49620u) + (x ^ 59513u) + (x ^ 58189u) + (x ^ 52354u) - (x ^ 12922u) - (x ^ 48354u)
+        - (x ^ 57774u) - (x ^ 20743u) + (x ^ 36675u) + (x ^ 28633u) - (x ^ 4337u) + (x ^ 13575u)
+        + (x ^ 21491u) + (x ^ 24466u) - (x ^ 50297u) - (x ^ 43187u) - (x ^ 62473u) - (x ^ 22969u)
+        + (x ^ 55637u) - (x ^ 17243u) + (x ^ 31003u) - (x ^ 12704u) - (x ^ 17746u) + (x ^ 54290u)
+        - (x ^ 19261u) + (x ^ 12009u) + (x ^ 52170u) + (x ^ 12322u) + (x ^ 57961u) + (x ^ 50153u)
+        - (x ^ 460u) - (x ^ 12658u) - (x ^ 57862u) - (x ^ 64695u) - (x ^ 27653u) + (x ^ 40704u)
+        - (x ^ 23585u) - (x ^ 56722u) + (x ^ 37106u) + (x ^ 60064u) + (x ^ 30927u) - (x ^ 54309u)
+        + (x ^ 33270u) + (x ^ 1835u) + (x ^ 39924u) - (x ^ 22151u) - (x ^ 63375u) - (x ^ 39748u)
+        - (x ^ 1899u) + (x ^ 40606u) + (x ^ 39857u) - (x ^ 25521u) - (x ^ 40101u) - (x ^ 59034u)
+        - (x ^ 5165u) - (x ^ 32221u) - (x ^ 33026u) + (x ^ 56901u) + (x ^ 48014u) - (x ^ 45957u)
+        - (x ^ 15631u) + (x ^ 25859u) + (x ^ 4063u) + (x ^ 56558u) - (x ^ 41501u) + (x ^ 31753u)
+        + (x ^ 36759u) + (x ^ 43045u) + (x ^ 34396u) + (x ^ 45981u) + (x ^ 3776u) - (x ^ 37911u)
+        + (x ^ 15028u) + (x ^ 24003u) - (x ^ 26996u) - (x ^ 4082u) - (x ^ 37727u) - (x ^ 8183u)
+        + (x ^ 54736u) - (x ^ 41493u) - (x ^ 41993u) - (x ^ 14168u) - (x ^ 56751u) + (x ^ 46657u)
+        - (x ^ 33378u) + (x ^ 45988u) + (x ^ 31888u) + (x ^ 8165u) - (x ^ 1884u) + (x ^ 61472u)
+        + (x ^ 11737u) - (x ^ 33982u) + (x ^ 58835u) + (x ^ 39781u) - (x ^ 10328u) + (x ^ 42635u)
+        - (x ^ 56578u) + (x ^ 43739u) + (x ^ 23507u) + (x ^ 50810u) - (x ^ 19016u) + (x ^ 40320u)
+        + (x ^ 17227u) + (x ^ 23201u) - (x ^ 61192u) + (x ^ 48826u) + (x ^ 46006u) + (x ^ 39518u)
+        - (x ^ 38882u) + (x ^ 37601u) - (x ^ 42650u) - (x ^ 147u) - (x ^ 40848u) + (x ^ 20756u)
+        + (x ^ 8306u) - (x ^ 54405u) + (x ^ 41916u) + (x ^ 23996u) + (x ^ 19665u) - (x ^ 64734u)
+        + (x ^ 16494u) - (x ^ 53956u) + (x ^ 31371u) - (x ^ 21745u) + (x ^ 37883u) - (x ^ 21621u)
+        + (x ^ 56328u) - (x ^ 26237u) - (x ^ 64219u) + (x ^ 16196u) + (x ^ 1535u) + (x ^ 25101u)
+        + (x ^ 20749u) - (x ^ 44167u) + (x ^ 36407u) - (x ^ 41151u) + (x ^ 62456u) + (x ^ 45456u)
+        + (x ^ 22518u) + (x ^ 36085u) + (x ^ 22766u) - (x ^ 10860u) + (x ^ 14700u) + (x ^ 8987u)
+        + (x ^ 3725u) + (x ^ 22470u) - (x ^ 18451u) + (x ^ 52437u) + (x ^ 16274u) + (x ^ 61707u)
+        + (x ^ 26350u) - (x ^ 2423u) + (x ^ 56516u) - (x ^ 49822u) + (x ^ 4080u) - (x ^ 47875u)
+        - (x ^ 2686u) - (x ^ 58945u) - (x ^ 11561u) + (x ^ 24886u) - (x ^ 19628u) + (x ^ 20197u)
+        - (x ^ 65299u) - (x ^ 37820u) - (x ^ 41998u) - (x ^ 46995u) - (x ^ 27584u) + (x ^ 19298u)
+        - (x ^ 27006u) + (x ^ 18225u) + (x ^ 26703u) + (x ^ 14712u) - (x ^ 42185u) - (x ^ 32459u)
+        + (x ^ 17425u) + (x ^ 6090u) - (x ^ 13256u) - (x ^ 27419u) + (x ^ 29594u) + (x ^ 52208u)
+        - (x ^ 60069u) + (x ^ 64718u) + (x ^ 10051u) + (x ^ 47128u) - (x ^ 34190u) - (x ^ 49478u)
+        + (x ^ 44282u) + (x ^ 262u) + (x ^ 8330u) + (x ^ 26278u) + (x ^ 46001u) + (x ^ 20033u)
+        + (x ^ 35893u) - (x ^ 25786u) - (x ^ 31925u) - (x ^ 14138u) + (x ^ 15506u) - (x ^ 48123u)
+        - (x ^ 53852u) + (x ^ 18000u) + (x ^ 8099u) - (x ^ 12703u) + (x ^ 3997u) - (x ^ 56180u)
+        + (x ^ 51418u) - (x ^ 44541u) - (x ^ 33555u) + (x ^ 47829u) - (x ^ 49598u) + (x ^ 45123u)
+        + (x ^ 29181u) + (x ^ 14908u) - (x ^ 43876u) + (x ^ 49810u) - (x ^ 22188u) + (x ^ 13195u)
+        - (x ^ 3067u) - (x ^ 40383u) + (x ^ 33981u) + (x ^ 3482u) - (x ^ 22826u) - (x ^ 63348u)
+        - (x ^ 56209u) - (x ^ 58258u) + (x ^ 52116u) + (x ^ 36050u) + (x ^ 64599u) - (x ^ 10524u)
+        - (x ^ 25811u) + (x ^ 52486u) + (x ^ 56330u) - (x ^ 49858u) - (x ^ 20278u) + (x ^ 48622u)
+        + (x ^ 6745u) + (x ^ 22968u) - (x ^ 44597u) - (x ^ 44452u) - (x ^ 49534u) + (x ^ 42291u)
+        + (x ^ 39639u) - (x ^ 15714u) - (x ^ 40625u) + (x ^ 40367u) - (x ^ 47607u) - (x ^ 48612u)
+        + (x ^ 26970u) - (x ^ 24282u) + (x ^ 40579u) + (x ^ 7496u) - (x ^ 51888u) - (x ^ 28944u)
+        - (x ^ 29335u) + (x ^ 10907u) - (x ^ 28921u) - (x ^ 21542u) + (x ^ 36482u) - (x ^ 38517u)
+        + (x ^ 29547u) + (x ^ 21316u) + (x ^ 2672u) + (x ^ 51613u) - (x ^ 45240u) - (x ^ 52810u)
+        + (x ^ 24367u) - (x ^ 55926u) - (x ^ 49001u) - (x ^ 809u) + (x ^ 946u) - (x ^ 58545u)
+        - (x ^ 17740u) - (x ^ 47545u) + (x ^ 9044u) - (x ^ 47302u) - (x ^ 27000u) - (x ^ 23009u)
+        + (x ^ 57730u) - (x ^ 41834u) - (x ^ 1562u) - (x ^ 2334u) - (x ^ 63762u) - (x ^ 43535u)
+        - (x ^ 33434u) + (x ^ 18225u) - (x ^ 35680u) - (x ^ 46368u) + (x ^ 17358u) - (x ^ 58710u)
+        + (x ^ 56377u) - (x ^ 21042u) - (x ^ 7194u) - (x ^ 65484u) - (x ^ 2772u) + (x ^ 33790u)
+        - (x ^ 17300u) - (x ^ 45905u) - (x ^ 8319u) - (x ^ 62838u) + (x ^ 10520u) + (x ^ 3831u)
+        - (x ^ 26815u) + (x ^ 15476u) - (x ^ 21309u) - (x ^ 10433u) + (x ^ 14233u) + (x ^ 62865u)
+        - (x ^ 12629u) + (x ^ 43265u) - (x ^ 22702u) + (x ^ 43207u) + (x ^ 6130u) + (x ^ 59541u)
+        - (x ^ 20345u) - (x ^ 60191u) + (x ^ 7749u) - (x ^ 205u) + (x ^ 22528u) - (x ^ 18023u)
+        - (x ^ 51229u) + (x ^ 22121u) - (x ^ 8412u) + (x ^ 38520u) - (x ^ 60989u) - (x ^ 21040u)
+        + (x ^ 60972u) - (x ^ 57976u) + (x ^ 54372u) + (x ^ 48291u) + (x ^ 65054u) - (x ^ 52146u)
+        - (x ^ 9317u) - (x ^ 60608u) + (x ^ 17193u) + (x ^ 25594u) + (x ^ 55812u) - (x ^ 48666u)
+        - (x ^ 36989u) + (x ^ 50270u) - (x ^ 25777u) + (x ^ 21742u) + (x ^ 47474u) - (x ^ 43737u)
+        + (x ^ 3255u) + (x ^ 52233u) + (x ^ 47110u) - (x ^ 1526u) + (x ^ 944u) + (x ^ 11280u)
+        + (x ^ 44463u) + (x ^ 12965u) + (x ^ 34477u) - (x ^ 20061u) - (x ^ 53789u) + (x ^ 49311u)
+        - (x ^ 64251u) - (x ^ 36451u) - (x ^ 45215u) - (x ^ 25685u) + (x ^ 6335u) - (x ^ 48878u)
+        - (x ^ 15014u) + (x ^ 47860u) - (x ^ 9010u) + (x ^ 24735u) + (x ^ 52407u) + (x ^ 44186u)
+        + (x ^ 49579u) + (x ^ 13739u) + (x ^ 54063u) + (x ^ 12129u) - (x ^ 47499u) - (x ^ 42317u)
+        + (x ^ 14482u) + (x ^ 40685u) + (x ^ 51933u) - (x ^ 22162u) - (x ^ 1642u) - (x ^ 49149u)
+        + (x ^ 7236u) - (x ^ 37576u) - (x ^ 17282u) + (x ^ 21526u) - (x ^ 56082u) + (x ^ 49884u)
+        - (x ^ 4171u) + (x ^ 20262u) - (x ^ 63851u) + (x ^ 17025u) + (x ^ 5679u) + (x ^ 54052u)
+        - (x ^ 18923u) - (x ^ 46217u) - (x ^ 35441u) - (x ^ 56580u) + (x ^ 31481u) + (x ^ 44009u)
+        + (x ^ 23737u) + (x ^ 881u) + (x ^ 54079u) - (x ^ 6395u) + (x ^ 47525u) - (x ^ 65370u)
+        + (x ^ 49018u) + (x ^ 25295u) + (x ^ 18376u) - (x ^ 29545u) - (x ^ 53084u) - (x ^ 37142u)
+        - (x ^ 33675u) - (x ^ 36393u) + (x ^ 33913u) - (x ^ 47726u) + (x ^ 51167u) - (x ^ 10535u)
+        - (x ^ 54255u) + (x ^ 31995u) - (x ^ 6495u) - (x ^ 30921u) - (x ^ 29115u) - (x ^ 34437u)
+        + (x ^ 12758u) + (x ^ 60986u) + (x ^ 12098u) - (x ^ 36083u) + (x ^ 15898u) - (x ^ 23810u)
+        + (x ^ 63151u) - (x ^ 15786u) + (x ^ 26281u) + (x ^ 31261u) + (x ^ 48489u) - (x ^ 10042u)
+        - (x ^ 32105u) - (x ^ 1609u) - (x ^ 40715u) - (x ^ 42645u) - (x ^ 39504u) + (x ^ 9359u)
+        - (x ^ 50926u) - (x ^ 51328u) + (x ^ 8999u) + (x ^ 8438u) - (x ^ 22380u) + (x ^ 377u)
+        + (x ^ 22864u) - (x ^ 7392u) - (x ^ 59866u) + (x ^ 33757u) - (x ^ 15871u) - (x ^ 13150u)
+        + (x ^ 60190u) - (x ^ 50029u) + (x ^ 12177u) - (x ^ 5550u) - (x ^ 51337u) + (x ^ 30639u)
+        + (x ^ 55696u) - (x ^ 2239u) - (x ^ 21160u) - (x ^ 57578u) - (x ^ 51527u) + (x ^ 60983u)
+        - (x ^ 44477u) - (x ^ 58931u) - (x ^ 16312u) + (x ^ 31405u) - (x ^ 37721u) - (x ^ 40663u)
+        + (x ^ 7544u) + (x ^ 20994u) - (x ^ 7881u) - (x ^ 37481u) - (x ^ 24592u) - (x ^ 26945u)
+        + (x ^ 31131u) - (x ^ 11441u) - (x ^ 5357u) + (x ^ 63665u) - (x ^ 2536u) - (x ^ 22348u)
+        - (x ^ 52421u) - (x ^ 29392u) - (x ^ 25116u) + (x ^ 1684u) + (x ^ 60733u) + (x ^ 20011u)
+        - (x ^ 57103u) - (x ^ 19532u) + (x ^ 64759u) - (x ^ 37735u) - (x ^ 4956u) + (x ^ 4537u)
+        + (x ^ 51479u) - (x ^ 17750u) + (x ^ 52590u) + (x ^ 28560u) - (x ^ 22853u) - (x ^ 39645u)
+        - (x ^ 41046u) + (x ^ 12161u) - (x ^ 34836u) + (x ^ 41749u) + (x ^ 43195u) - (x ^ 40494u)
+        + (x ^ 58923u) - (x ^ 5023u) - (x ^ 19669u) - (x ^ 36260u) + (x ^ 28425u) - (x ^ 2647u)
+        - (x ^ 14819u) - (x ^ 43580u) - (x ^ 49574u) + (x ^ 55009u) + (x ^ 3926u) + (x ^ 27656u)
+        - (x ^ 13593u) - (x ^ 22574u) + (x ^ 27330u) + (x ^ 45747u) - (x ^ 27074u) + (x ^ 7464u)
+        + (x ^ 16404u) + (x ^ 39835u) + (x ^ 34064u) + (x ^ 21107u) - (x ^ 13219u) + (x ^ 53569u)
+        + (x ^ 61813u) - (x ^ 11803u) - (x ^ 14223u) + (x ^ 56646u) - (x ^ 32050u) + (x ^ 51975u)
+        - (x ^ 47278u) + (x ^ 42384u) - (x ^ 60780u) - (x ^ 48019u) - (x ^ 59648u) - (x ^ 51114u)
+        + (x ^ 14182u) + (x ^ 52814u) - (x ^ 36301u) + (x ^ 22195u) + (x ^ 56486u) + (x ^ 64999u)
+        + (x ^ 34845u) - (x ^ 64497u) - (x ^ 11630u) + (x ^ 28749u) - (x ^ 45112u) + (x ^ 698u)
+        + (x ^ 39800u) - (x ^ 65526u) + (x ^ 13320u) + (x ^ 33636u) - (x ^ 58939u) - (x ^ 3652u)
+        - (x ^ 48856u) - (x ^ 31648u) - (x ^ 22098u) + (x ^ 63537u) + (x ^ 54525u) - (x ^ 38530u)
+        + (x ^ 65412u) + (x ^ 19104u) - (x ^ 22425u) - (x ^ 20988u) + (x ^ 38808u) + (x ^ 39741u)
+        - (x ^ 56768u) - (x ^ 60753u) - (x ^ 41232u) + (x ^ 39837u) + (x ^ 8655u) - (x ^ 16365u)
+        - (x ^ 52925u) + (x ^ 65012u) + (x ^ 21342u) + (x ^ 2201u) - (x ^ 44162u) - (x ^ 32625u)
+        - (x ^ 794u) - (x ^ 48896u) - (x ^ 45131u) + (x ^ 16898u) - (x ^ 37544u) + (x ^ 33548u)
+        - (x ^ 679u) - (x ^ 3334u) - (x ^ 19860u) - (x ^ 266u) - (x ^ 44682u) + (x ^ 1629u)
+        - (x ^ 48974u) + (x ^ 55722u) - (x ^ 58445u) + (x ^ 23965u) - (x ^ 27113u) - (x ^ 64064u)
+        + (x ^ 44437u) - (x ^ 53930u) - (x ^ 30457u) - (x ^ 35186u) - (x ^ 34867u) + (x ^ 25158u)
+        + (x ^ 36085u) + (x ^ 25470u) - (x ^ 59548u) - (x ^ 19974u) - (x ^ 43291u) + (x ^ 2482u)
+        + (x ^ 25481u) - (x ^ 45234u) - (x ^ 51829u) - (x ^ 45028u) + (x ^ 10221u) - (x ^ 36656u)
+        + (x ^ 11722u) - (x ^ 19447u) + (x ^ 29955u) - (x ^ 10947u) - (x ^ 23604u) - (x ^ 18499u)
+        + (x ^ 62473u) - (x ^ 49130u) - (x ^ 61815u) - (x ^ 43873u) - (x ^ 39843u) - (x ^ 43537u)
+        - (x ^ 61637u) + (x ^ 47026u) - (x ^ 29243u) - (x ^ 26059u) + (x ^ 617u) + (x ^ 8299u)
+        + (x ^ 62408u) + (x ^ 39073u) + (x ^ 7098u) - (x ^ 60763u) - (x ^ 44850u) + (x ^ 6918u)
+        - (x ^ 39966u) + (x ^ 51827u) - (x ^ 3756u) - (x ^ 45405u) + (x ^ 61629u) + (x ^ 7722u)
+        + (x ^ 15864u) - (x ^ 31061u) - (x ^ 9788u) - (x ^ 34808u) - (x ^ 852u) - (x ^ 20031u)
+        + (x ^ 59558u) - (x ^ 31109u) + (x ^ 47272u) - (x ^ 48493u) + (x ^ 34022u) - (x ^ 31044u)
+        - (x ^ 45380u) - (x ^ 20140u) - (x ^ 18600u) + (x ^ 37492u) + (x ^ 46136u) + (x ^ 40616u)
+        - (x ^ 29594u) - (x ^ 8207u) + (x ^ 56410u) - (x ^ 35443u) - (x ^ 38377u) - (x ^ 41833u)
+        + (x ^ 52413u) - (x ^ 16210u) - (x ^ 37231u) + (x ^ 28764u) - (x ^ 19942u) - (x ^ 44644u)
+        - (x ^ 34111u) - (x ^ 28391u) - (x ^ 29453u) + (x ^ 44890u) + (x ^ 42734u) - (x ^ 45087u)
+        + (x ^ 51544u) - (x ^ 57070u) - (x ^ 53585u) + (x ^ 14668u) - (x ^ 29322u) - (x ^ 40147u)
+        + (x ^ 17675u) - (x ^ 4584u) + (x ^ 34719u) - (x ^ 23938u) - (x ^ 7438u) - (x ^ 20824u)
+        - (x ^ 33821u) - (x ^ 1699u) - (x ^ 25698u) - (x ^ 9063u) + (x ^ 64306u) - (x ^ 3672u)
+        - (x ^ 49087u) - (x ^ 10171u) + (x ^ 3174u) - (x ^ 32675u) - (x ^ 22783u) - (x ^ 46097u)
+        - (x ^ 13357u) + (x ^ 21218u) + (x ^ 57721u) - (x ^ 9124u) + (x ^ 35170u) + (x ^ 23615u)
+        + (x ^ 3665u) - (x ^ 59570u) - (x ^ 16395u) + (x ^ 15651u) + (x ^ 13180u) + (x ^ 48055u)
+        - (x ^ 43859u) + (x ^ 11691u) - (x ^ 14206u) + (x ^ 49264u) + (x ^ 25120u) + (x ^ 7525u)
+        - (x ^ 36896u) + (x ^ 40292u) - (x ^ 35991u) + (x ^ 9781u) - (x ^ 19554u) + (x ^ 27795u)
+        - (x ^ 61044u) + (x ^ 16003u) - (x ^ 10221u) - (x ^ 1974u) - (x ^ 28392u) - (x ^ 27814u)
+        - (x ^ 27558u) - (x ^ 30191u) + (x ^ 49126u) + (x ^ 25757u) + (x ^ 49660u) + (x ^ 56277u)
+        - (x ^ 37076u) - (x ^ 38331u) - (x ^ 5819u) - (x ^ 38223u) + (x ^ 19330u) + (x ^ 64646u)
+        - (x ^ 16111u) - (x ^ 33993u) - (x ^ 64209u) + (x ^ 2938u) - (x ^ 3825u) + (x ^ 31549u)
+        + (x ^ 3292u) - (x ^ 31165u) + (x ^ 48545u) + (x ^ 5426u) - (x ^ 32201u) - (x ^ 3933u)
+        + (x ^ 64650u) + (x ^ 45575u) + (x ^ 58647u) + (x ^ 12541u) + (x ^ 62589u) + (x ^ 2097u)
+        - (x ^ 19842u) - (x ^ 57076u) + (x ^ 65359u) + (x ^ 5258u) + (x ^ 1892u) + (x ^ 45468u)
+        + (x ^ 11704u) + (x ^ 6634u) - (x ^ 16107u) - (x ^ 58938u) + (x ^ 48390u) + (x ^ 38329u)
+        - (x ^ 62010u) + (x ^ 59502u) + (x ^ 21149u) - (x ^ 43256u) + (x ^ 42090u) + (x ^ 43414u)
+        + (x ^ 12068u) - (x ^ 21918u) + (x ^ 17085u) + (x ^ 30667u) - (x ^ 61427u) + (x ^ 2027u)
+        - (x ^ 24758u) + (x ^ 488u) + (x ^ 8486u) + (x ^ 43096u);
+}
+
+static int expr_ladder(int x) {
+    return x == 1741 ? 161 : x == 961 ? 616 : x == 250 ? 667 : x == 83 ? 713 :
+        x == 966 ? 50 : x == 324 ? 107 : x == 84 ? 703 : x == 1991 ? 853 :
+        x == 670 ? 429 : x == 1238 ? 208 : x == 1038 ? 97 : x == 831 ? 670 :
+        x == 1498 ? 327 : x == 556 ? 552 : x == 912 ? 376 : x == 1549 ? 969 :
+        x == 15 ? 206 : x == 1080 ? 507 : x == 1239 ? 977 : x == 1367 ? 562 :
+        x == 1264 ? 769 : x == 1472 ? 656 : x == 1679 ? 67 : x == 1272 ? 168 :
+        x == 1666 ? 917 : x == 271 ? 409 : x == 1963 ? 664 : x == 52 ? 577 :
+        x == 1631 ? 455 : x == 1575 ? 808 : x == 1590 ? 680 : x == 1933 ? 280 :
+        x == 1680 ? 241 : x == 416 ? 583 : x == 389 ? 959 : x == 1810 ? 990 :
+        x == 798 ? 690 : x == 759 ? 908 : x == 995 ? 392 : x == 1063 ? 626 :
+        x == 269 ? 376 : x == 1796 ? 281 : x == 1517 ? 467 : x == 1624 ? 420 :
+        x == 189 ? 984 : x == 892 ? 162 : x == 432 ? 113 : x == 1607 ? 333 :
+        x == 1910 ? 184 : x == 1409 ? 199 : x == 1901 ? 58 : x == 1169 ? 720 :
+        x == 378 ? 515 : x == 468 ? 250 : x == 1918 ? 733 : x == 1795 ? 564 :
+        x == 1070 ? 90 : x == 124 ? 206 : x == 1447 ? 662 : x == 1003 ? 683 :
+        x == 1341 ? 386 : x == 294 ? 729 : x == 1373 ? 343 : x == 1055 ? 202 :
+        x == 809 ? 731 : x == 1184 ? 796 : x == 547 ? 530 : x == 515 ? 735 :
+        x == 671 ? 971 : x == 200 ? 490 : x == 1567 ? 726 : x == 1396 ? 130 :
+        x == 1924 ? 409 : x == 1825 ? 187 : x == 1888 ? 704 : x == 858 ? 678 :
+        x == 221 ? 23 : x == 1062 ? 494 : x == 1525 ? 36 : x == 314 ? 865 :
+        x == 289 ? 786 : x == 480 ? 4 : x == 1319 ? 203 : x == 180 ? 988 :
+        x == 1995 ? 198 : x == 1249 ? 377 : x == 1785 ? 18 : x == 691 ? 733 :
+        x == 990 ? 846 : x == 341 ? 600 : x == 288 ? 976 : x == 847 ? 572 :
+        x == 769 ? 198 : x == 944 ? 137 : x == 171 ? 754 : x == 160 ? 200 :
+        x == 44 ? 820 : x == 746 ? 326 : x == 260 ? 253 : x == 1196 ? 520 :
+        x == 433 ? 365 : x == 1554 ? 241 : x == 198 ? 547 : x == 1474 ? 832 :
+        x == 431 ? 400 : x == 1526 ? 714 : x == 1650 ? 921 : x == 1990 ? 313 :
+        x == 1750 ? 779 : x == 1011 ? 740 : x == 1363 ? 467 : x == 584 ? 589 :
+        x == 1641 ? 151 : x == 277 ? 617 : x == 1362 ? 755 : x == 1644 ? 743 :
+        x == 516 ? 594 : x == 1127 ? 715 : x == 1686 ? 405 : x == 1907 ? 48 :
+        x == 810 ? 837 : x == 525 ? 996 : x == 1456 ? 919 : x == 1468 ? 655 :
+        x == 794 ? 848 : x == 206 ? 446 : x == 207 ? 92 : x == 821 ? 274 :
+        x == 1857 ? 871 : x == 1318 ? 993 : x == 1291 ? 224 : x == 133 ? 590 :
+        x == 479 ? 337 : x == 1383 ? 239 : x == 1681 ? 607 : x == 1118 ? 667 :
+        x == 1379 ? 275 : x == 575 ? 893 : x == 1595 ? 482 : x == 563 ? 219 :
+        x == 1586 ? 720 : x == 1513 ? 438 : x == 370 ? 789 : x == 1560 ? 733 :
+        x == 474 ? 858 : x == 425 ? 738 : x == 969 ? 224 : x == 166 ? 993 :
+        x == 32 ? 639 : x == 708 ? 331 : x == 590 ? 457 : x == 1848 ? 817 :
+        x == 1420 ? 931 : x == 938 ? 330 : x == 655 ? 487 : x == 1521 ? 856 :
+        x == 688 ? 793 : x == 1464 ? 262 : x == 682 ? 308 : x == 1064 ? 708 :
+        x == 1724 ? 771 : x == 1030 ? 143 : x == 458 ? 727 : x == 1197 ? 814 :
+        x == 1789 ? 30 : x == 1142 ? 286 : x == 1609 ? 828 : x == 1028 ? 627 :
+        x == 379 ? 448 : x == 1767 ? 1 : x == 1039 ? 744 : x == 1374 ? 392 :
+        x == 963 ? 914 : x == 1097 ? 507 : x == 1269 ? 585 : x == 1057 ? 784 :
+        x == 1351 ? 876 : x == 692 ? 934 : x == 1421 ? 580 : x == 73 ? 941 :
+        x == 828 ? 852 : x == 1436 ? 326 : x == 559 ? 400 : x == 483 ? 745 :
+        x == 1424 ? 310 : x == 1098 ? 390 : x == 175 ? 399 : x == 143 ? 746 :
+        x == 1455 ? 104 : x == 1677 ? 396 : x == 72 ? 312 : x == 871 ? 99 :
+        x == 193 ? 935 : x == 1559 ? 63 : x == 186 ? 404 : x == 505 ? 245 :
+        x == 141 ? 372 : x == 1828 ? 724 : x == 29 ? 292 : x == 13 ? 538 :
+        x == 997 ? 541 : x == 1915 ? 862 : x == 630 ? 570 : x == 1036 ? 659 :
+        x == 1645 ? 964 : x == 496 ? 700 : x == 11 ? 964 : x == 1403 ? 723 :
+        x == 1471 ? 295 : x == 747 ? 119 : x == 1417 ? 566 : x == 1448 ? 971 :
+        x == 1489 ? 831 : x == 1088 ? 330 : x == 232 ? 218 : x == 1743 ? 21 :
+        x == 1638 ? 884 : x == 1578 ? 223 : x == 703 ? 340 : x == 1955 ? 611 :
+        x == 570 ? 416 : x == 69 ? 736 : x == 1114 ? 322 : x == 1270 ? 469 :
+        x == 662 ? 816 : x == 130 ? 804 : x == 1959 ? 292 : x == 1661 ? 68 :
+        x == 718 ? 267 : x == 246 ? 717 : x == 624 ? 368 : x == 1075 ? 271 :
+        x == 851 ? 905 : x == 727 ? 264 : x == 1516 ? 965 : x == 911 ? 708 :
+        x == 1010 ? 89 : x == 220 ? 482 : x == 874 ? 932 : x == 414 ? 454 :
+        x == 1228 ? 431 : x == 807 ? 969 : x == 1632 ? 395 : x == 641 ? 67 :
+        x == 1181 ? 887 : x == 1438 ? 79 : x == 1008 ? 882 : x == 1730 ? 539 :
+        x == 787 ? 812 : x == 522 ? 258 : x == 992 ? 240 : x == 195 ? 722 :
+        x == 1158 ? 419 : x == 1702 ? 581 : x == 1715 ? 508 : x == 1279 ? 243 :
+        x == 1168 ? 760 : x == 862 ? 255 : x == 1358 ? 22 : x == 1001 ? 985 :
+        x == 1107 ? 174 : x == 444 ? 10 : x == 411 ? 606 : x == 704 ? 675 :
+        x == 1916 ? 584 : x == 1326 ? 974 : x == 767 ? 588 : x == 1094 ? 824 :
+        x == 501 ? 87 : x == 265 ? 649 : x == 1380 ? 290 : x == 1307 ? 495 :
+        x == 1846 ? 210 : x == 947 ? 648 : x == 1366 ? 700 : x == 830 ? 419 :
+        x == 1091 ? 848 : x == 867 ? 673 : x == 459 ? 602 : x == 1836 ? 808 :
+        x == 1697 ? 245 : x == 1221 ? 154 : x == 1212 ? 740 : x == 1299 ? 922 :
+        x == 945 ? 487 : x == 1706 ? 878 : x == 10 ? 281 : x == 107 ? 596 :
+        x == 179 ? 400 : x == 829 ? 18 : x == 1736 ? 434 : x == 1263 ? 801 :
+        x == 363 ? 626 : x == 1233 ? 131 : x == 408 ? 607 : x == 1605 ? 652 :
+        x == 290 ? 0 : x == 1281 ? 364 : x == 1935 ? 311 : x == 1490 ? 758 :
+        x == 1378 ? 796 : x == 845 ? 159 : x == 1997 ? 420 : x == 755 ? 809 :
+        x == 789 ? 387 : x == 1708 ? 881 : x == 1349 ? 184 : x == 976 ? 873 :
+        x == 28 ? 571 : x == 588 ? 500 : x == 1183 ? 651 : x == 975 ? 405 :
+        x == 383 ? 829 : x == 1612 ? 689 : x == 134 ? 109 : x == 803 ? 27 :
+        x == 60 ? 482 : x == 491 ? 286 : x == 317 ? 303 : x == 816 ? 630 :
+        x == 1078 ? 62 : x == 216 ? 885 : x == 1479 ? 698 : x == 1779 ? 892 :
+        x == 878 ? 995 : x == 1766 ? 541 : x == 707 ? 9 : x == 493 ? 652 :
+        x == 270 ? 91 : x == 454 ? 666 : x == 1579 ? 14 : x == 356 ? 736 :
+        x == 1348 ? 687 : x == 1321 ? 393 : x == 1744 ? 693 : x == 1782 ? 5 :
+        x == 77 ? 848 : x == 611 ? 168 : x == 81 ? 215 : x == 770 ? 491 :
+        x == 763 ? 672 : x == 111 ? 287 : x == 14 ? 189 : x == 543 ? 178 :
+        x == 1755 ? 752 : x == 113 ? 540 : x == 618 ? 331 : x == 1316 ? 29 :
+        x == 303 ? 281 : x == 231 ? 600 : x == 929 ? 224 : x == 329 ? 845 :
+        x == 561 ? 222 : x == 1139 ? 645 : x == 1170 ? 680 : x == 1143 ? 717 :
+        x == 1790 ? 206 : x == 1232 ? 814 : x == 1465 ? 445 : x == 158 ? 327 :
+        x == 1398 ? 250 : x == 1096 ? 973 : x == 1948 ? 771 : x == 1153 ? 7 :
+        x == 920 ? 728 : x == 824 ? 523 : x == 1369 ? 158 : x == 125 ? 606 :
+        x == 576 ? 997 : x == 694 ? 932 : x == 799 ? 335 : x == 386 ? 931 :
+        x == 215 ? 987 : x == 1482 ? 210 : x == 679 ? 169 : x == 827 ? 617 :
+        x == 675 ? 458 : x == 608 ? 692 : x == 95 ? 667 : x == 1053 ? 592 :
+        x == 1260 ? 511 : x == 768 ? 38 : x == 1422 ? 46 : x == 1014 ? 968 :
+        x == 1625 ? 248 : x == 1475 ? 378 : x == 1761 ? 184 : x == 418 ? 798 :
+        x == 27 ? 673 : x == 565 ? 843 : x == 593 ? 960 : x == 194 ? 172 :
+        x == 298 ? 933 : x == 812 ? 8 : x == 1862 ? 470 : x == 1496 ? 766 :
+        x == 1154 ? 559 : x == 1247 ? 750 : x == 1134 ? 61 : x == 89 ? 348 :
+        x == 1710 ? 451 : x == 47 ? 841 : x == 1133 ? 532 : x == 58 ? 11 :
+        x == 1531 ? 705 : x == 1146 ? 545 : x == 347 ? 566 : x == 1450 ? 910 :
+        x == 1973 ? 978 : x == 1467 ? 896 : x == 1258 ? 637 : x == 1994 ? 999 :
+        x == 849 ? 982 : x == 1503 ? 134 : x == 266 ? 373 : x == 1136 ? 985 :
+        x == 1602 ? 591 : x == 476 ? 178 : x == 188 ? 361 : x == 1312 ? 175 :
+        x == 1443 ? 111 : x == 710 ? 185 : x == 685 ? 654 : x == 187 ? 903 :
+        x == 1203 ? 853 : x == 489 ? 882 : x == 344 ? 610 : x == 1092 ? 794 :
+        x == 40 ? 89 : x == 465 ? 428 : x == 487 ? 773 : x == 1059 ? 79 :
+        x == 233 ? 871 : x == 642 ? 497 : x == 826 ? 172 : x == 1208 ? 898 :
+        x == 342 ? 495 : x == 1193 ? 894 : x == 162 ? 169 : x == 557 ? 260 :
+        x == 1400 ? 47 : x == 597 ? 668 : x == 1123 ? 68 : x == 818 ? 68 :
+        x == 1240 ? 839 : x == 1392 ? 38 : x == 589 ? 599 : x == 968 ? 102 :
+        x == 1345 ? 366 : x == 1045 ? 946 : x == 185 ? 549 : x == 1157 ? 455 :
+        x == 1297 ? 190 : x == 1361 ? 768 : x == 1762 ? 527 : x == 302 ? 306 :
+        x == 728 ? 996 : x == 245 ? 669 : x == 996 ? 245 : x == 915 ? 636 :
+        x == 1172 ? 809 : x == 1173 ? 471 : x == 259 ? 359 : x == 57 ? 739 :
+        x == 1954 ? 386 : x == 1860 ? 94 : x == 1808 ? 570 : x == 1618 ? 726 :
+        x == 1912 ? 696 : x == 1659 ? 379 : x == 667 ? 134 : x == 244 ? 113 :
+        x == 1956 ? 5 : x == 738 ? 322 : x == 1627 ? 213 : x == 283 ? 38 :
+        x == 248 ? 918 : x == 659 ? 384 : x == 168 ? 612 : x == 1071 ? 493 :
+        x == 1149 ? 226 : x == 1058 ? 846 : x == 1147 ? 564 : x == 1508 ? 828 :
+        x == 1740 ? 216 : x == 241 ? 503 : x == 1949 ? 764 : x == 1459 ? 487 :
+        x == 1509 ? 80 : x == 1814 ? 159 : x == 406 ? 309 : x == 1861 ? 805 :
+        x == 1548 ? 454 : x == 481 ? 788 : x == 1414 ? 980 : x == 665 ? 590 :
+        x == 1616 ? 296 : x == 863 ? 311 : x == 138 ? 288 : x == 773 ? 660 :
+        x == 1206 ? 261 : x == 733 ? 356 : x == 362 ? 329 : x == 374 ? 4 :
+        x == 1845 ? 959 : x == 806 ? 976 : x == 490 ? 292 : x == 249 ? 752 :
+        x == 1245 ? 407 : x == 371 ? 698 : x == 853 ? 737 : x == 1338 ? 982 :
+        x == 1289 ? 619 : x == 1541 ? 8 : x == 1532 ? 97 : x == 1331 ? 426 :
+        x == 1394 ? 591 : x == 1268 ? 111 : x == 1376 ? 814 : x == 1813 ? 137 :
+        x == 802 ? 131 : x == 879 ? 271 : x == 886 ? 360 : x == 144 ? 86 :
+        x == 284 ? 941 : x == 165 ? 640 : x == 656 ? 997 : x == 254 ? 236 :
+        x == 1834 ? 31 : x == 1703 ? 418 : x == 1223 ? 968 : x == 939 ? 915 :
+        x == 178 ? 250 : x == 1210 ? 404 : x == 1839 ? 196 : x == 833 ? 92 :
+        x == 12 ? 236 : x == 580 ? 399 : x == 587 ? 973 : x == 598 ? 191 :
+        x == 530 ? 843 : x == 319 ? 223 : x == 103 ? 436 : x == 1876 ? 308 :
+        x == 1877 ? 804 : x == 1155 ? 84 : x == 1384 ? 354 : x == 1185 ? 274 :
+        x == 292 ? 278 : x == 887 ? 173 : x == 731 ? 645 : x == 1220 ? 298 :
+        x == 139 ? 529 : x == 1108 ? 912 : x == 286 ? 257 : x == 1430 ? 67 :
+        x == 552 ? 632 : x == 1311 ? 267 : x == 90 ? 851 : x == 709 ? 78 :
+        x == 79 ? 102 : x == 1019 ? 592 : x == 894 ? 324 : x == 661 ? 258 :
+        x == 635 ? 864 : x == 1135 ? 498 : x == 1585 ? 482 : x == 427 ? 638 :
+        x == 495 ? 560 : x == 1452 ? 690 : x == 801 ? 962 : x == 957 ? 907 :
+        x == 1936 ? 32 : x == 835 ? 540 : x == 1352 ? 163 : x == 1597 ? 996 :
+        x == 63 ? 21 : x == 387 ? 274 : x == 1867 ? 108 : x == 437 ? 734 :
+        x == 1251 ? 396 : x == 443 ? 376 : x == 720 ? 91 : x == 1066 ? 781 :
+        x == 1218 ? 208 : x == 959 ? 478 : x == 1052 ? 645 : x == 1130 ? 951 :
+        x == 214 ? 843 : x == 415 ? 6 : x == 1756 ? 413 : x == 1977 ? 940 :
+        x == 1725 ? 208 : x == 518 ? 986 : x == 1512 ? 998 : x == 1772 ? 313 :
+        x == 1783 ? 669 : x == 1068 ? 181 : x == 1844 ? 373 : x == 1556 ? 602 :
+        x == 1968 ? 428 : x == 1205 ? 330 : x == 318 ? 274 : x == 263 ? 724 :
+        x == 346 ? 341 : x == 152 ? 702 : x == 384 ? 562 : x == 626 ? 771 :
+        x == 918 ? 908 : x == 903 ? 399 : x == 1654 ? 900 : x == 37 ? 324 :
+        x == 1628 ? 82 : x == 1004 ? 70 : x == 1895 ? 62 : x == 663 ? 231 :
+        x == 287 ? 975 : x == 764 ? 392 : x == 1005 ? 451 : x == 1622 ? 718 :
+        x == 532 ? 976 : x == 1951 ? 261 : x == 376 ? 234 : x == 1152 ? 370 :
+        x == 225 ? 702 : x == 1044 ? 742 : x == 1416 ? 470 : x == 55 ? 788 :
+        x == 438 ? 136 : x == 744 ? 999 : x == 1211 ? 153 : x == 1786 ? 862 :
+        x == 1993 ? 89 : x == 321 ? 569 : x == 484 ? 0 : x == 42 ? 875 :
+        x == 647 ? 959 : x == 1431 ? 262 : x == 1462 ? 346 : x == 1246 ? 293 :
+        x == 293 ? 591 : x == 629 ? 862 : x == 640 ? 236 : x == 1048 ? 915 :
+        x == 4 ? 482 : x == 1056 ? 131 : x == 1751 ? 499 : x == 399 ? 532 :
+        x == 1224 ? 8 : x == 234 ? 86 : x == 779 ? 721 : x == 1106 ? 302 :
+        x == 725 ? 518 : x == 494 ? 570 : x == 1758 ? 721 : x == 1126 ? 815 :
+        x == 1219 ? 324 : x == 615 ? 857 : x == 726 ? 883 : x == 237 ? 241 :
+        x == 285 ? 130 : x == 1336 ? 617 : x == 735 ? 158 : x == 933 ? 523 :
+        x == 297 ? 161 : x == 792 ? 467 : x == 1301 ? 762 : x == 706 ? 928 :
+        x == 649 ? 857 : x == 196 ? 926 : x == 173 ? 567 : x == 1819 ? 497 :
+        x == 721 ? 586 : x == 442 ? 215 : x == 1122 ? 203 : x == 797 ? 777 :
+        x == 1533 ? 816 : x == 1255 ? 746 : x == 993 ? 29 : x == 224 ? 279 :
+        x == 1346 ? 392 : x == 988 ? 565 : x == 1841 ? 626 : x == 1672 ? 570 :
+        x == 636 ? 515 : x == 410 ? 230 : x == 359 ? 538 : x == 898 ? 303 :
+        x == 1167 ? 753 : x == 1277 ? 945 : x == 1660 ? 402 : x == 1811 ? 501 :
+        x == 1241 ? 495 : x == 1787 ? 165 : x == 109 ? 210 : x == 1073 ? 60 :
+        x == 53 ? 596 : x == 558 ? 440 : x == 520 ? 796 : x == 634 ? 610 :
+        x == 1250 ? 452 : x == 1634 ? 37 : x == 1273 ? 954 : x == 1191 ? 289 :
+        x == 1313 ? 181 : x == 848 ? 168 : x == 1083 ? 240 : x == 132 ? 394 :
+        x == 949 ? 917 : x == 508 ? 563 : x == 94 ? 516 : x == 74 ? 817 :
+        x == 1683 ? 48 : x == 922 ? 173 : x == 1337 ? 223 : x == 1537 ? 611 :
+        x == 870 ? 189 : x == 751 ? 15 : x == 85 ? 37 : x == 1275 ? 928 :
+        x == 1500 ? 618 : x == 1849 ? 389 : x == 1899 ? 431 : x == 713 ? 118 :
+        x == 1355 ? 832 : x == 17 ? 488 : x == 1399 ? 592 : x == 893 ? 975 :
+        x == 1747 ? 606 : x == 1441 ? 213 : x == 784 ? 202 : x == 21 ? 332 :
+        x == 970 ? 97 : x == 450 ? 552 : x == 1821 ? 298 : x == 1675 ? 757 :
+        x == 199 ? 974 : x == 1253 ? 576 : x == 937 ? 448 : x == 400 ? 199 :
+        x == 1330 ? 988 : x == 1150 ? 802 : x == 1381 ? 614 : x == 1596 ? 462 :
+        x == 734 ? 844 : x == 1528 ? 652 : x == 1729 ? 694 : x == 573 ? 155 :
+        x == 1408 ? 485 : x == 729 ? 57 : x == 569 ? 391 : x == 1875 ? 713 :
+        x == 617 ? 565 : x == 403 ? 909 : x == 424 ? 838 : x == 223 ? 119 :
+        x == 1444 ? 157 : x == 337 ? 340 : x == 737 ? 296 : x == 164 ? 806 :
+        x == 1163 ? 693 : x == 1298 ? 142 : x == 644 ? 688 : x == 1540 ? 593 :
+        x == 925 ? 989 : x == 368 ? 980 : x == 512 ? 256 : x == 380 ? 702 :
+        x == 1577 ? 594 : x == 668 ? 208 : x == 931 ? 282 : x == 1941 ? 208 :
+        x == 1492 ? 936 : x == 1132 ? 139 : x == 1188 ? 689 : x == 87 ? 78 :
+        x == 872 ? 88 : x == 1735 ? 557 : x == 1413 ? 751 : x == 1156 ? 970 :
+        x == 1768 ? 610 : x == 1179 ? 480 : x == 1960 ? 520 : x == 1913 ? 677 :
+        x == 1405 ? 611 : x == 645 ? 7 : x == 0 ? 753 : x == 900 ? 589 :
+        x == 742 ? 880 : x == 38 ? 164 : x == 1353 ? 712 : x == 982 ? 717 :
+        x == 1866 ? 175 : x == 1343 ? 153 : x == 1065 ? 552 : x == 1081 ? 825 :
+        x == 1824 ? 741 : x == 1903 ? 596 : x == 1919 ? 957 : x == 1818 ? 408 :
+        x == 1647 ? 374 : x == 1709 ? 437 : x == 174 ? 103 : x == 1906 ? 410 :
+        x == 519 ? 780 : x == 509 ? 829 : x == 1486 ? 847 : x == 112 ? 528 :
+        x == 658 ? 589 : x == 571 ? 267 : x == 1820 ? 941 : x == 1023 ? 654 :
+        x == 574 ? 11 : x == 1102 ? 47 : x == 1852 ? 827 : x == 340 ? 425 :
+        x == 1385 ? 918 : x == 1642 ? 328 : x == 948 ? 214 : x == 475 ? 589 :
+        x == 360 ? 933 : x == 1117 ? 111 : x == 1802 ? 234 : x == 182 ? 490 :
+        x == 397 ? 825 : x == 151 ? 153 : x == 1769 ? 157 : x == 447 ? 803 :
+        x == 33 ? 438 : x == 1515 ? 825 : x == 1032 ? 818 : x == 1816 ? 375 :
+        x == 1674 ? 389 : x == 305 ? 141 : x == 1599 ? 90 : x == 1945 ? 748 :
+        x == 149 ? 290 : x == 1966 ? 607 : x == 732 ? 546 : x == 333 ? 576 :
+        x == 1552 ? 276 : x == 1495 ? 259 : x == 1074 ? 288 : x == 921 ? 891 :
+        x == 1116 ? 921 : x == 1087 ? 651 : x == 1972 ? 715 : x == 1458 ? 243 :
+        x == 1200 ? 936 : x == 1569 ? 819 : x == 1051 ? 191 : x == 1243 ? 12 :
+        x == 421 ? 867 : x == 1401 ? 278 : x == 1257 ? 772 : x == 352 ? 763 :
+        x == 1271 ? 766 : x == 236 ? 832 : x == 466 ? 868 : x == 907 ? 678 :
+        x == 118 ? 514 : x == 979 ? 386 : x == 50 ? 317 : x == 684 ? 536 :
+        x == 943 ? 986 : x == 701 ? 535 : x == 1668 ? 59 : x == 1850 ? 176 :
+        x == 1231 ? 883 : x == 339 ? 435 : x == 217 ? 94 : x == 669 ? 920 :
+        x == 804 ? 772 : x == 774 ? 660 : x == 674 ? 550 : x == 884 ? 789 :
+        x == 470 ? 484 : x == 1480 ? 61 : x == 115 ? 685 : x == 722 ? 801 :
+        x == 1830 ? 909 : x == 1457 ? 37 : x == 595 ? 628 : x == 1696 ? 434 :
+        x == 741 ? 628 : x == 880 ? 329 : x == 766 ? 269 : x == 1827 ? 417 :
+        x == 1896 ? 649 : x == 1682 ? 563 : x == 1442 ? 373 : x == 1308 ? 425 :
+        x == 1390 ? 572 : x == 1809 ? 151 : x == 1970 ? 89 : x == 348 ? 804 :
+        x == 1027 ? 909 : x == 600 ? 245 : x == 752 ? 329 : x == 1284 ? 476 :
+        x == 648 ? 147 : x == 382 ? 39 : x == 899 ? 725 : x == 815 ? 903 :
+        x == 1572 ? 516 : x == 852 ? 20 : x == 1484 ? 888 : x == 1076 ? 53 :
+        x == 1453 ? 429 : x == 1021 ? 16 : x == 503 ? 507 : x == 1800 ? 49 :
+        x == 278 ? 128 : x == 1671 ? 541 : x == 388 ? 37 : x == 1723 ? 305 :
+        x == 24 ? 400 : x == 1423 ? 557 : x == 273 ? 366 : x == 1817 ? 953 :
+        x == 1653 ? 989 : x == 646 ? 660 : x == 1601 ? 397 : x == 1705 ? 349 :
+        x == 540 ? 622 : x == 808 ? 677 : x == 1049 ? 895 : x == 1093 ? 409 :
+        x == 657 ? 385 : x == 41 ? 479 : x == 1046 ? 297 : x == 1388 ? 774 :
+        x == 1296 ? 20 : x == 453 ? 942 : x == 622 ? 157 : x == 978 ? 181 :
+        x == 401 ? 563 : x == 64 ? 879 : x == 1835 ? 717 : x == 1940 ? 688 :
+        x == 1701 ? 671 : x == 449 ? 643 : x == 724 ? 885 : x == 882 ? 735 :
+        x == 631 ? 106 : x == 1466 ? 132 : x == 592 ? 643 : x == 783 ? 161 :
+        x == 1582 ? 82 : x == 61 ? 949 : x == 467 ? 800 : x == 1958 ? 123 :
+        x == 1089 ? 131 : x == 964 ? 817 : x == 897 ? 414 : x == 1635 ? 755 :
+        x == 1317 ? 494 : x == 1099 ? 522 : x == 1870 ? 773 : x == 926 ? 283 :
+        x == 201 ? 495 : x == 1186 ? 203 : x == 343 ? 621 : x == 2 ? 510 :
+        x == 705 ? 508 : x == 75 ? 956 : x == 1382 ? 80 : x == 227 ? 41 :
+        x == 100 ? 845 : x == 1763 ? 942 : x == 59 ? 728 : x == 1961 ? 909 :
+        x == 426 ? 439 : x == 1201 ? 92 : x == 1017 ? 645 : x == 686 ? 29 :
+        x == 1252 ? 180 : x == 381 ? 452 : x == 1214 ? 440 : x == 839 ? 111 :
+        x == 398 ? 279 : x == 654 ? 677 : x == 1485 ? 667 : x == 357 ? 283 :
+        x == 91 ? 237 : x == 924 ? 743 : x == 56 ? 862 : x == 1429 ? 6 :
+        x == 390 ? 567 : x == 1992 ? 77 : x == 1267 ? 810 : x == 1648 ? 162 :
+        x == 730 ? 534 : x == 1967 ? 899 : x == 1235 ? 701 : x == 1812 ? 218 :
+        x == 1669 ? 988 : x == 1402 ? 860 : x == 1426 ? 800 : x == 345 ? 481 :
+        -1;
+}
+
+static int expr_and(int x) {
+    return x != 284 && x != 1189 && x != 703 && x != 1692 && x != 1840 && x != 806
+        && x != 360 && x != 1465 && x != 1856 && x != 682 && x != 800 && x != 1025
+        && x != 440 && x != 221 && x != 880 && x != 1527 && x != 417 && x != 847
+        && x != 1829 && x != 1662 && x != 195 && x != 510 && x != 1974 && x != 851
+        && x != 1969 && x != 1822 && x != 1370 && x != 377 && x != 1524 && x != 1849
+        && x != 139 && x != 1979 && x != 1052 && x != 804 && x != 1305 && x != 1380
+        && x != 215 && x != 1661 && x != 1499 && x != 1304 && x != 466 && x != 1771
+        && x != 1932 && x != 1675 && x != 126 && x != 493 && x != 1647 && x != 1229
+        && x != 1306 && x != 709 && x != 769 && x != 409 && x != 891 && x != 854
+        && x != 1545 && x != 751 && x != 898 && x != 674 && x != 833 && x != 1107
+        && x != 1472 && x != 908 && x != 1087 && x != 1721 && x != 868 && x != 536
+        && x != 606 && x != 1050 && x != 931 && x != 1552 && x != 379 && x != 3
+        && x != 691 && x != 482 && x != 518 && x != 865 && x != 979 && x != 154
+        && x != 649 && x != 1068 && x != 1983 && x != 503 && x != 79 && x != 66
+        && x != 1257 && x != 1599 && x != 1713 && x != 80 && x != 1877 && x != 355
+        && x != 1022 && x != 220 && x != 635 && x != 9 && x != 876 && x != 694
+        && x != 1795 && x != 1173 && x != 474 && x != 231 && x != 321 && x != 838
+        && x != 1640 && x != 1609 && x != 995 && x != 160 && x != 1318 && x != 486
+        && x != 1756 && x != 1055 && x != 1919 && x != 1957 && x != 265 && x != 1940
+        && x != 1883 && x != 1518 && x != 830 && x != 1774 && x != 128 && x != 1078
+        && x != 786 && x != 787 && x != 1085 && x != 1655 && x != 669 && x != 1665
+        && x != 229 && x != 477 && x != 1928 && x != 1581 && x != 261 && x != 1263
+        && x != 1947 && x != 1328 && x != 184 && x != 1629 && x != 532 && x != 858
+        && x != 1964 && x != 104 && x != 705 && x != 673 && x != 537 && x != 1777
+        && x != 1349 && x != 1653 && x != 82 && x != 1398 && x != 1837 && x != 1946
+        && x != 283 && x != 1214 && x != 216 && x != 1945 && x != 666 && x != 1178
+        && x != 529 && x != 101 && x != 1780 && x != 328 && x != 1439 && x != 1978
+        && x != 1202 && x != 585 && x != 1160 && x != 1449 && x != 1936 && x != 1154
+        && x != 499 && x != 909 && x != 469 && x != 1210 && x != 290 && x != 1102
+        && x != 1815 && x != 1888 && x != 1836 && x != 1864 && x != 823 && x != 710
+        && x != 1591 && x != 1097 && x != 1555 && x != 1262 && x != 1161 && x != 1813
+        && x != 996 && x != 1912 && x != 552 && x != 1479 && x != 1482 && x != 1470
+        && x != 1297 && x != 584 && x != 1324 && x != 975 && x != 1409 && x != 1247
+        && x != 1086 && x != 1103 && x != 59 && x != 1185 && x != 361 && x != 1416
+        && x != 1374 && x != 351 && x != 1481 && x != 422 && x != 920 && x != 13
+        && x != 491 && x != 1529 && x != 1191 && x != 111 && x != 734 && x != 1701
+        && x != 1560 && x != 799 && x != 678 && x != 746 && x != 878 && x != 1473
+        && x != 617 && x != 323 && x != 73 && x != 1450 && x != 1101 && x != 234
+        && x != 1169 && x != 1937 && x != 398 && x != 589 && x != 1908 && x != 864
+        && x != 952 && x != 1133 && x != 842 && x != 663 && x != 977 && x != 170
+        && x != 568 && x != 1299 && x != 1821 && x != 542 && x != 1549 && x != 1042
+        && x != 1242 && x != 1223 && x != 1684 && x != 685 && x != 1279 && x != 214
+        && x != 1034 && x != 1810 && x != 1630 && x != 1277 && x != 475 && x != 88
+        && x != 829 && x != 760 && x != 1576 && x != 978 && x != 1209 && x != 782
+        && x != 281 && x != 95 && x != 1139 && x != 853 && x != 936 && x != 631
+        && x != 217 && x != 574 && x != 1748 && x != 630 && x != 665 && x != 1046
+        && x != 428 && x != 590 && x != 1044 && x != 1752 && x != 1194 && x != 629
+        && x != 951 && x != 1620 && x != 605 && x != 445 && x != 1766 && x != 873
+        && x != 752 && x != 1759 && x != 1028 && x != 1718 && x != 167 && x != 1807
+        && x != 1741 && x != 539 && x != 414 && x != 985 && x != 1900 && x != 892
+        && x != 1407 && x != 1717 && x != 779 && x != 1363 && x != 895 && x != 1309
+        && x != 1794 && x != 1506 && x != 225 && x != 1812 && x != 1801 && x != 1140
+        && x != 380 && x != 1280 && x != 688 && x != 1020 && x != 1808 && x != 680
+        && x != 246 && x != 1767 && x != 525 && x != 1241 && x != 602 && x != 294
+        && x != 97 && x != 98 && x != 1260 && x != 1410 && x != 1541 && x != 1886
+        && x != 608 && x != 1346 && x != 586 && x != 704 && x != 559 && x != 468
+        && x != 1865 && x != 302 && x != 1507 && x != 1395 && x != 1858 && x != 594
+        && x != 1778 && x != 1045 && x != 638 && x != 40 && x != 94 && x != 318
+        && x != 1700 && x != 271 && x != 973 && x != 576 && x != 1636 && x != 562
+        && x != 1206 && x != 981 && x != 733 && x != 626 && x != 1147 && x != 118
+        && x != 1021 && x != 1993 && x != 1195 && x != 1511 && x != 1109 && x != 205
+        && x != 1687 && x != 1240 && x != 722 && x != 1423 && x != 1221 && x != 1379
+        && x != 739 && x != 342 && x != 749 && x != 697 && x != 1779 && x != 1295
+        && x != 843 && x != 1760 && x != 1441 && x != 888 && x != 683 && x != 1211
+        && x != 1354 && x != 1037 && x != 660 && x != 183 && x != 1637 && x != 512
+        && x != 1595 && x != 1146 && x != 1626 && x != 1971 && x != 913 && x != 6
+        && x != 496 && x != 177 && x != 927 && x != 1163 && x != 335 && x != 320
+        && x != 345 && x != 522 && x != 741 && x != 615 && x != 1322 && x != 1232
+        && x != 374 && x != 200 && x != 175 && x != 883 && x != 1698 && x != 1088
+        && x != 934 && x != 1672 && x != 1988 && x != 1709 && x != 224 && x != 1387
+        && x != 1911 && x != 1740 && x != 1428 && x != 531 && x != 1787 && x != 1715
+        && x != 15 && x != 1316 && x != 1803 && x != 1340 && x != 63 && x != 1067
+        && x != 857 && x != 1399 && x != 736 && x != 157 && x != 642 && x != 1056
+        && x != 967 && x != 1697 && x != 1533 && x != 716 && x != 30 && x != 1455
+        && x != 358 && x != 1296 && x != 310 && x != 197 && x != 1079 && x != 504
+        && x != 811 && x != 1791 && x != 991 && x != 1310 && x != 1657 && x != 1750
+        && x != 1682 && x != 1041 && x != 762 && x != 986 && x != 966 && x != 1586
+        && x != 845 && x != 1061 && x != 1725 && x != 1651 && x != 772 && x != 841
+        && x != 479 && x != 1663 && x != 1710 && x != 1175 && x != 1749 && x != 300
+        && x != 1523 && x != 730 && x != 1018 && x != 1977 && x != 1466 && x != 1095
+        && x != 1321 && x != 1325 && x != 885 && x != 533 && x != 326 && x != 1834
+        && x != 1618 && x != 1083 && x != 110 && x != 1804 && x != 241 && x != 750
+        && x != 1196 && x != 1471 && x != 803 && x != 896 && x != 297 && x != 1184
+        && x != 992 && x != 1593 && x != 450 && x != 108 && x != 314 && x != 1876
+        && x != 390 && x != 1824 && x != 308 && x != 1183 && x != 103 && x != 1148
+        && x != 815 && x != 1081 && x != 206 && x != 1266 && x != 530 && x != 1066
+        && x != 1631 && x != 640 && x != 316 && x != 1543 && x != 1959 && x != 971
+        && x != 162 && x != 1062 && x != 1931 && x != 997 && x != 564 && x != 861
+        && x != 1685 && x != 1165 && x != 948 && x != 1839 && x != 1278 && x != 1869
+        && x != 431 && x != 863 && x != 141 && x != 988 && x != 1746 && x != 921
+        && x != 1121 && x != 1669 && x != 653 && x != 924 && x != 1358 && x != 1975
+        && x != 1690 && x != 1401 && x != 1227 && x != 622 && x != 620 && x != 976
+        && x != 1291 && x != 656 && x != 1432 && x != 748 && x != 1172 && x != 124
+        && x != 1485 && x != 14 && x != 687 && x != 70 && x != 1939 && x != 1894
+        && x != 1248 && x != 1674 && x != 340 && x != 1623 && x != 152 && x != 1689
+        && x != 970 && x != 1671 && x != 1753 && x != 1867 && x != 1882 && x != 729
+        && x != 1141 && x != 1201 && x != 453 && x != 23 && x != 1608 && x != 1847
+        && x != 1677 && x != 1447 && x != 235 && x != 788 && x != 319 && x != 1776
+        && x != 1695 && x != 1707 && x != 376 && x != 397 && x != 1842 && x != 723
+        && x != 613 && x != 58 && x != 0 && x != 647 && x != 135 && x != 472
+        && x != 1090 && x != 575 && x != 982 && x != 1011 && x != 816 && x != 1542
+        && x != 134 && x != 743 && x != 549 && x != 588 && x != 1607 && x != 1285
+        && x != 1501 && x != 867 && x != 1049 && x != 386 && x != 1469 && x != 1488
+        && x != 119 && x != 548 && x != 121 && x != 1445 && x != 1335 && x != 1730
+        && x != 193 && x != 1703 && x != 1862 && x != 923 && x != 1255 && x != 413
+        && x != 1228 && x != 1885 && x != 790 && x != 1724 && x != 1256 && x != 1798
+        && x != 1848 && x != 1453 && x != 227 && x != 567 && x != 1166 && x != 329
+        && x != 1023 && x != 35 && x != 497 && x != 303 && x != 1403 && x != 1378
+        && x != 835 && x != 517 && x != 1043 && x != 1918 && x != 1031 && x != 405
+        && x != 1855 && x != 711 && x != 1300 && x != 1493 && x != 1644 && x != 1290
+        && x != 1373 && x != 954 && x != 540 && x != 1734 && x != 1986 && x != 1484
+        && x != 689 && x != 1452 && x != 498 && x != 889 && x != 1 && x != 812
+        && x != 1899 && x != 905 && x != 1347 && x != 1574 && x != 1799 && x != 1600
+        && x != 707 && x != 72 && x != 619 && x != 236 && x != 102 && x != 1929
+        && x != 32 && x != 483 && x != 1356 && x != 1587 && x != 724 && x != 968
+        && x != 1826 && x != 513 && x != 1540 && x != 1960 && x != 163 && x != 325
+        && x != 17 && x != 46 && x != 1159 && x != 78 && x != 1342 && x != 120
+        && x != 1012 && x != 1745 && x != 1367 && x != 1762 && x != 846 && x != 1171
+        && x != 49 && x != 83 && x != 146 && x != 1825 && x != 1732 && x != 1388
+        && x != 1125 && x != 1333 && x != 1390 && x != 963 && x != 628 && x != 232
+        && x != 1737 && x != 1005 && x != 1275 && x != 667 && x != 844 && x != 791
+        && x != 1063 && x != 262 && x != 1116 && x != 11 && x != 1122 && x != 1890
+        && x != 270 && x != 1113 && x != 1659 && x != 1070 && x != 156 && x != 168
+        && x != 1965 && x != 551 && x != 587 && x != 943 && x != 429 && x != 273
+        && x != 207 && x != 1878 && x != 8 && x != 213 && x != 839 && x != 222
+        && x != 670 && x != 366 && x != 501 && x != 1138 && x != 1768 && x != 778
+        && x != 460 && x != 399 && x != 1014 && x != 37 && x != 1336 && x != 462
+        && x != 1330 && x != 1530 && x != 1667 && x != 60 && x != 780 && x != 910
+        && x != 1859 && x != 1584 && x != 817 && x != 860 && x != 1190 && x != 1811
+        && x != 1953 && x != 1508 && x != 91 && x != 732 && x != 1846 && x != 1913
+        && x != 1108 && x != 1405 && x != 737 && x != 1827 && x != 219 && x != 644
+        && x != 1568 && x != 368 && x != 560 && x != 389 && x != 1905 && x != 1551
+        && x != 313 && x != 826 && x != 1670 && x != 1691 && x != 1181 && x != 312
+        && x != 1463 && x != 1915 && x != 1561 && x != 1048 && x != 31 && x != 664
+        && x != 1583 && x != 1026 && x != 1434 && x != 1091 && x != 758 && x != 824
+        && x != 243 && x != 1797 && x != 263 && x != 1483 && x != 1838 && x != 1744
+        && x != 252 && x != 848 && x != 71 && x != 1633 && x != 307 && x != 1355
+        && x != 1051 && x != 570 && x != 1933 && x != 1627 && x != 1547 && x != 738
+        && x != 1606 && x != 882 && x != 831 && x != 1216 && x != 1958 && x != 317
+        && x != 731 && x != 1635 && x != 125 && x != 1873 && x != 180 && x != 1411
+        && x != 744 && x != 238 && x != 1430 && x != 1289 && x != 1973 && x != 50
+        && x != 109 && x != 983 && x != 1464 && x != 1298 && x != 461 && x != 1167
+        && x != 650 && x != 444 && x != 1307 && x != 937 && x != 524 && x != 793
+        && x != 1383 && x != 922 && x != 384 && x != 866 && x != 25 && x != 672
+        && x != 1033 && x != 1381 && x != 872 && x != 1273 && x != 1391 && x != 357
+        && x != 1415 && x != 1007 && x != 259 && x != 423 && x != 1272 && x != 928
+        && x != 1754 && x != 1237 && x != 434 && x != 1235 && x != 1092 && x != 67
+        && x != 306 && x != 1419 && x != 702 && x != 1688 && x != 1781 && x != 1269
+        && x != 725 && x != 1879 && x != 1702 && x != 1570 && x != 1276 && x != 527
+        && x != 364 && x != 1816 && x != 1073 && x != 555 && x != 652 && x != 1126
+        && x != 914 && x != 956 && x != 1150 && x != 418 && x != 1155 && x != 2
+        && x != 489 && x != 964 && x != 569 && x != 879 && x != 1998 && x != 1292
+        && x != 766 && x != 228 && x != 1544 && x != 767 && x != 115 && x != 1906
+        && x != 715 && x != 113 && x != 1017 && x != 1857 && x != 165 && x != 717
+        && x != 598 && x != 862 && x != 1308 && x != 260 && x != 1204 && x != 1069
+        && x != 1539 && x != 36 && x != 1375 && x != 961 && x != 771 && x != 821
+        && x != 415 && x != 1582 && x != 1892 && x != 1990 && x != 132 && x != 1658
+        && x != 478 && x != 932 && x != 1828 && x != 1400 && x != 1127 && x != 1123
+        && x != 1519 && x != 1364 && x != 1219 && x != 1930 && x != 61 && x != 441
+        && x != 381 && x != 343 && x != 117 && x != 984 && x != 1954 && x != 509
+        && x != 161 && x != 33 && x != 1590 && x != 1619 && x != 592 && x != 1004
+        && x != 1384 && x != 242 && x != 255 && x != 1673 && x != 291 && x != 1980
+        && x != 1790 && x != 1142 && x != 473 && x != 1895 && x != 1427 && x != 745
+        && x != 159 && x != 1500 && x != 1889 && x != 443 && x != 1271 && x != 618
+        && x != 1412 && x != 96 && x != 708 && x != 1531 && x != 1361 && x != 583
+        && x != 401 && x != 573 && x != 279 && x != 1952 && x != 1634 && x != 65
+        && x != 1243 && x != 204 && x != 561 && x != 789 && x != 621;
+}
+
+static int expr_or(int x) {
+    return x == 1643 || x == 1310 || x == 728 || x == 1668 || x == 351 || x == 1251
+        || x == 1771 || x == 1606 || x == 1003 || x == 1777 || x == 1345 || x == 1055
+        || x == 1098 || x == 35 || x == 1122 || x == 595 || x == 1334 || x == 1068
+        || x == 1424 || x == 1072 || x == 1291 || x == 1060 || x == 1905 || x == 375
+        || x == 1462 || x == 1822 || x == 654 || x == 1134 || x == 310 || x == 833
+        || x == 685 || x == 1515 || x == 1084 || x == 778 || x == 149 || x == 20
+        || x == 730 || x == 1233 || x == 1871 || x == 1823 || x == 1268 || x == 1747
+        || x == 18 || x == 221 || x == 436 || x == 1510 || x == 1867 || x == 89
+        || x == 319 || x == 1324 || x == 1070 || x == 1346 || x == 1553 || x == 475
+        || x == 1835 || x == 229 || x == 1708 || x == 916 || x == 1383 || x == 817
+        || x == 738 || x == 163 || x == 609 || x == 105 || x == 1798 || x == 708
+        || x == 104 || x == 496 || x == 1788 || x == 776 || x == 714 || x == 1926
+        || x == 1326 || x == 799 || x == 1148 || x == 1151 || x == 1471 || x == 784
+        || x == 1293 || x == 775 || x == 742 || x == 892 || x == 702 || x == 109
+        || x == 156 || x == 964 || x == 827 || x == 295 || x == 1745 || x == 387
+        || x == 1678 || x == 1126 || x == 1476 || x == 6 || x == 849 || x == 205
+        || x == 150 || x == 1692 || x == 794 || x == 1216 || x == 1699 || x == 154
+        || x == 1542 || x == 1695 || x == 614 || x == 70 || x == 212 || x == 1868
+        || x == 136 || x == 217 || x == 1075 || x == 1617 || x == 1665 || x == 511
+        || x == 907 || x == 1393 || x == 1004 || x == 1298 || x == 1642 || x == 1741
+        || x == 1399 || x == 25 || x == 397 || x == 1525 || x == 1212 || x == 478
+        || x == 428 || x == 1614 || x == 299 || x == 1378 || x == 576 || x == 297
+        || x == 323 || x == 1261 || x == 713 || x == 1061 || x == 1726 || x == 613
+        || x == 1975 || x == 1288 || x == 346 || x == 1845 || x == 1407 || x == 1500
+        || x == 327 || x == 191 || x == 701 || x == 736 || x == 551 || x == 990
+        || x == 354 || x == 67 || x == 559 || x == 643 || x == 1440 || x == 1309
+        || x == 737 || x == 1344 || x == 1050 || x == 1731 || x == 1962 || x == 1712
+        || x == 1472 || x == 1374 || x == 164 || x == 642 || x == 1313 || x == 626
+        || x == 1478 || x == 729 || x == 1827 || x == 1659 || x == 620 || x == 1199
+        || x == 1133 || x == 481 || x == 1276 || x == 1364 || x == 1596 || x == 699
+        || x == 1014 || x == 926 || x == 46 || x == 566 || x == 1381 || x == 593
+        || x == 1067 || x == 1640 || x == 1631 || x == 358 || x == 1658 || x == 1170
+        || x == 890 || x == 1456 || x == 1429 || x == 262 || x == 793 || x == 92
+        || x == 433 || x == 122 || x == 1511 || x == 743 || x == 266 || x == 329
+        || x == 1592 || x == 1132 || x == 1749 || x == 547 || x == 306 || x == 953
+        || x == 1425 || x == 744 || x == 1916 || x == 1672 || x == 457 || x == 438
+        || x == 1906 || x == 383 || x == 1049 || x == 1285 || x == 1779 || x == 1860
+        || x == 553 || x == 798 || x == 1423 || x == 1493 || x == 1654 || x == 1902
+        || x == 1453 || x == 1535 || x == 103 || x == 75 || x == 392 || x == 361
+        || x == 854 || x == 640 || x == 238 || x == 1459 || x == 835 || x == 908
+        || x == 424 || x == 853 || x == 1619 || x == 689 || x == 1128 || x == 1518
+        || x == 1857 || x == 557 || x == 1769 || x == 1412 || x == 1036 || x == 1226
+        || x == 750 || x == 889 || x == 1637 || x == 515 || x == 1177 || x == 1554
+        || x == 170 || x == 1982 || x == 675 || x == 1560 || x == 1487 || x == 725
+        || x == 1321 || x == 1825 || x == 1330 || x == 1347 || x == 342 || x == 1437
+        || x == 1978 || x == 1135 || x == 1127 || x == 809 || x == 1178 || x == 676
+        || x == 195 || x == 388 || x == 1842 || x == 844 || x == 885 || x == 573
+        || x == 803 || x == 1063 || x == 1792 || x == 1719 || x == 309 || x == 861
+        || x == 638 || x == 804 || x == 848 || x == 369 || x == 1526 || x == 754
+        || x == 781 || x == 1650 || x == 1185 || x == 447 || x == 142 || x == 390
+        || x == 1848 || x == 458 || x == 716 || x == 972 || x == 694 || x == 423
+        || x == 923 || x == 196 || x == 1924 || x == 1375 || x == 1960 || x == 1605
+        || x == 400 || x == 1096 || x == 973 || x == 1565 || x == 641 || x == 1811
+        || x == 1119 || x == 681 || x == 1257 || x == 998 || x == 477 || x == 431
+        || x == 1863 || x == 862 || x == 1198 || x == 1039 || x == 850 || x == 1917
+        || x == 1210 || x == 1645 || x == 1208 || x == 111 || x == 762 || x == 1936
+        || x == 1337 || x == 668 || x == 77 || x == 671 || x == 647 || x == 462
+        || x == 991 || x == 1204 || x == 1013 || x == 303 || x == 572 || x == 1376
+        || x == 648 || x == 106 || x == 1734 || x == 412 || x == 1369 || x == 296
+        || x == 569 || x == 1469 || x == 984 || x == 709 || x == 715 || x == 1752
+        || x == 1363 || x == 1400 || x == 1639 || x == 379 || x == 1608 || x == 1920
+        || x == 1912 || x == 1853 || x == 1573 || x == 1457 || x == 1461 || x == 1817
+        || x == 168 || x == 690 || x == 939 || x == 1498 || x == 977 || x == 1839
+        || x == 1786 || x == 1352 || x == 1713 || x == 1655 || x == 924 || x == 474
+        || x == 1847 || x == 1141 || x == 116 || x == 1260 || x == 1145 || x == 1428
+        || x == 325 || x == 96 || x == 1767 || x == 874 || x == 434 || x == 1774
+        || x == 85 || x == 1012 || x == 1190 || x == 942 || x == 1189 || x == 868
+        || x == 1662 || x == 275 || x == 1773 || x == 1992 || x == 806 || x == 1837
+        || x == 1808 || x == 157 || x == 472 || x == 785 || x == 1533 || x == 790
+        || x == 1976 || x == 1271 || x == 1219 || x == 167 || x == 1663 || x == 1977
+        || x == 612 || x == 1252 || x == 79 || x == 1844 || x == 179 || x == 1175
+        || x == 1497 || x == 39 || x == 385 || x == 256 || x == 1729 || x == 1683
+        || x == 1087 || x == 340 || x == 1768 || x == 1470 || x == 364 || x == 1894
+        || x == 639 || x == 1609 || x == 1574 || x == 909 || x == 1899 || x == 1236
+        || x == 384 || x == 1878 || x == 1673 || x == 866 || x == 1085 || x == 946
+        || x == 1937 || x == 1579 || x == 1546 || x == 287 || x == 1209 || x == 1446
+        || x == 967 || x == 1245 || x == 1714 || x == 337 || x == 570 || x == 644
+        || x == 1954 || x == 180 || x == 273 || x == 1173 || x == 1164 || x == 664
+        || x == 1900 || x == 1325 || x == 1929 || x == 1696 || x == 965 || x == 1870
+        || x == 141 || x == 507 || x == 1474 || x == 367 || x == 1763 || x == 1078
+        || x == 623 || x == 1859 || x == 87 || x == 322 || x == 123 || x == 1069
+        || x == 145 || x == 597 || x == 1054 || x == 1585 || x == 410 || x == 1778
+        || x == 1379 || x == 1677 || x == 228 || x == 193 || x == 748 || x == 1610
+        || x == 97 || x == 343 || x == 1193 || x == 55 || x == 1521 || x == 307
+        || x == 1949 || x == 774 || x == 239 || x == 564 || x == 235 || x == 789
+        || x == 579 || x == 1124 || x == 1722 || x == 1849 || x == 815 || x == 574
+        || x == 402 || x == 1186 || x == 537 || x == 171 || x == 3 || x == 237
+        || x == 427 || x == 1885 || x == 1928 || x == 1103 || x == 1988 || x == 1628
+        || x == 1308 || x == 1528 || x == 470 || x == 1625 || x == 65 || x == 1971
+        || x == 1567 || x == 48 || x == 137 || x == 1144 || x == 1959 || x == 63
+        || x == 1973 || x == 662 || x == 1538 || x == 26 || x == 1946 || x == 783
+        || x == 134 || x == 520 || x == 253 || x == 1243 || x == 508 || x == 1737
+        || x == 1490 || x == 769 || x == 627 || x == 949 || x == 131 || x == 1545
+        || x == 440 || x == 45 || x == 1076 || x == 484 || x == 1717 || x == 1443
+        || x == 1969 || x == 1597 || x == 1102 || x == 263 || x == 682 || x == 1558
+        || x == 1299 || x == 1586 || x == 1368 || x == 1549 || x == 437 || x == 773
+        || x == 1694 || x == 414 || x == 1633 || x == 7 || x == 1304 || x == 1829
+        || x == 1137 || x == 178 || x == 1725 || x == 258 || x == 1744 || x == 1265
+        || x == 1360 || x == 1242 || x == 1009 || x == 1222 || x == 766 || x == 1001
+        || x == 47 || x == 1984 || x == 1320 || x == 935 || x == 1140 || x == 951
+        || x == 1430 || x == 876 || x == 1329 || x == 27 || x == 1636 || x == 1828
+        || x == 1181 || x == 1740 || x == 1077 || x == 1427 || x == 161 || x == 84
+        || x == 476 || x == 1805 || x == 992 || x == 308 || x == 1879 || x == 1706
+        || x == 931 || x == 1033 || x == 483 || x == 1963 || x == 363 || x == 1095
+        || x == 359 || x == 870 || x == 95 || x == 877 || x == 864 || x == 1797
+        || x == 32 || x == 1948 || x == 376 || x == 1918 || x == 1269 || x == 1903
+        || x == 2 || x == 1780 || x == 1380 || x == 143 || x == 649 || x == 523
+        || x == 1914 || x == 293 || x == 697 || x == 1556 || x == 718 || x == 15
+        || x == 571 || x == 677 || x == 395 || x == 241 || x == 760 || x == 1215
+        || x == 1213 || x == 630 || x == 62 || x == 184 || x == 1203 || x == 767
+        || x == 365 || x == 207 || x == 590 || x == 959 || x == 1697 || x == 1081
+        || x == 68 || x == 1727 || x == 979 || x == 432 || x == 1373 || x == 415
+        || x == 1217 || x == 199 || x == 1176 || x == 1092 || x == 1989 || x == 549
+        || x == 819 || x == 1865 || x == 1035 || x == 1952 || x == 1980 || x == 843
+        || x == 1365 || x == 1439 || x == 378 || x == 902 || x == 1200 || x == 1234
+        || x == 1523 || x == 1862 || x == 1551 || x == 1327 || x == 1079 || x == 1981
+        || x == 401 || x == 830 || x == 961 || x == 1259 || x == 1850 || x == 444
+        || x == 1161 || x == 1138 || x == 1682 || x == 1690 || x == 22 || x == 37
+        || x == 1667 || x == 353 || x == 1705 || x == 1314 || x == 607 || x == 575
+        || x == 858 || x == 102 || x == 514 || x == 1249 || x == 243 || x == 1502
+        || x == 1477 || x == 192 || x == 298 || x == 1000 || x == 1785 || x == 1351
+        || x == 510 || x == 996 || x == 757 || x == 1405 || x == 17 || x == 172
+        || x == 1062 || x == 875 || x == 159 || x == 1018 || x == 810 || x == 624
+        || x == 1011 || x == 1584 || x == 1660 || x == 1883 || x == 525 || x == 1644
+        || x == 534 || x == 1904 || x == 797 || x == 165 || x == 1406 || x == 686
+        || x == 1359 || x == 831 || x == 695 || x == 1580 || x == 411 || x == 971
+        || x == 1402 || x == 780 || x == 128 || x == 740 || x == 1083 || x == 586
+        || x == 1564 || x == 656 || x == 524 || x == 910 || x == 222 || x == 913
+        || x == 1874 || x == 1106 || x == 211 || x == 250 || x == 1813 || x == 674
+        || x == 1192 || x == 1956 || x == 280 || x == 1531 || x == 1864 || x == 1272
+        || x == 583 || x == 786 || x == 1395 || x == 1810 || x == 1861 || x == 1295
+        || x == 1460 || x == 820 || x == 225 || x == 1802 || x == 216 || x == 891
+        || x == 999 || x == 1418 || x == 166 || x == 1240 || x == 281 || x == 4
+        || x == 1661 || x == 69 || x == 1468 || x == 824 || x == 274 || x == 860
+        || x == 360 || x == 1130 || x == 439 || x == 404 || x == 947 || x == 1390
+        || x == 352 || x == 758 || x == 763 || x == 121 || x == 294 || x == 269
+        || x == 1123 || x == 1689 || x == 1627 || x == 563 || x == 599 || x == 1113
+        || x == 872 || x == 1105 || x == 1154 || x == 78 || x == 120 || x == 565
+        || x == 389 || x == 312 || x == 260 || x == 147 || x == 1481 || x == 1228
+        || x == 185 || x == 585 || x == 1651 || x == 335 || x == 801 || x == 930
+        || x == 381 || x == 1991 || x == 1114 || x == 13 || x == 1593 || x == 1594
+        || x == 915 || x == 952 || x == 460 || x == 1448 || x == 658 || x == 64
+        || x == 852 || x == 1816 || x == 247 || x == 1040 || x == 1455 || x == 500
+        || x == 208 || x == 1809 || x == 994 || x == 1422 || x == 31 || x == 1053
+        || x == 1566 || x == 230 || x == 1534 || x == 1589 || x == 316 || x == 313
+        || x == 209 || x == 491 || x == 197 || x == 24 || x == 1168 || x == 1007
+        || x == 960 || x == 408 || x == 1693 || x == 637 || x == 813 || x == 1389
+        || x == 1463 || x == 29 || x == 1833 || x == 1824 || x == 1539 || x == 285
+        || x == 1509 || x == 1394 || x == 320 || x == 696 || x == 1108 || x == 1116
+        || x == 1577 || x == 66 || x == 218 || x == 1046 || x == 214 || x == 1532
+        || x == 1355 || x == 770 || x == 993 || x == 1670 || x == 1267 || x == 1028
+        || x == 1361 || x == 836 || x == 1679 || x == 1632 || x == 333 || x == 251
+        || x == 1657 || x == 1447 || x == 1801 || x == 561 || x == 1024 || x == 396
+        || x == 1852 || x == 118 || x == 1666 || x == 840 || x == 1486 || x == 1676
+        || x == 1166 || x == 1965 || x == 625 || x == 1886 || x == 1311 || x == 1787
+        || x == 1159 || x == 60 || x == 1607 || x == 1832 || x == 1356 || x == 449
+        || x == 678 || x == 1550 || x == 1514 || x == 1150 || x == 1575 || x == 1761
+        || x == 605 || x == 339 || x == 687 || x == 1230 || x == 703 || x == 1547
+        || x == 1601 || x == 628 || x == 887 || x == 1266 || x == 1583 || x == 1195
+        || x == 129 || x == 1421 || x == 1286 || x == 1250 || x == 1408 || x == 44
+        || x == 911 || x == 812 || x == 1188 || x == 846 || x == 53 || x == 182
+        || x == 1796 || x == 349 || x == 1987 || x == 811 || x == 1187 || x == 155
+        || x == 135 || x == 988 || x == 1256 || x == 1302 || x == 552 || x == 1244
+        || x == 1570 || x == 1569 || x == 1501 || x == 133 || x == 1404 || x == 1227
+        || x == 516 || x == 1163 || x == 1940 || x == 1858 || x == 1388 || x == 1452
+        || x == 1582 || x == 800 || x == 1562 || x == 1224 || x == 1986 || x == 1591
+        || x == 5 || x == 1436 || x == 1669 || x == 1323 || x == 914;
+}
+
+static int expr_ranges(int x) {
+    return x >= 1700 && x < 1760 || x >= 1287 && x < 1377 || x >= 75 && x < 267 || x >= 1380 && x < 1521
+        || x >= 543 && x < 781 || x >= 113 && x < 887 || x >= 1553 && x < 1935 || x >= 1470 && x < 1919
+        || x >= 949 && x < 1433 || x >= 501 && x < 1974 || x >= 992 && x < 1088 || x >= 733 && x < 1838
+        || x >= 422 && x < 778 || x >= 1490 && x < 1842 || x >= 455 && x < 1609 || x >= 64 && x < 440
+        || x >= 1463 && x < 1781 || x >= 1225 && x < 1875 || x >= 943 && x < 1664 || x >= 794 && x < 1697
+        || x >= 195 && x < 502 || x >= 32 && x < 555 || x >= 544 && x < 822 || x >= 793 && x < 1605
+        || x >= 477 && x < 1593 || x >= 758 && x < 1968 || x >= 697 && x < 1332 || x >= 237 && x < 1849
+        || x >= 685 && x < 1996 || x >= 163 && x < 634 || x >= 1888 && x < 1896 || x >= 283 && x < 694
+        || x >= 1376 && x < 1802 || x >= 1013 && x < 1449 || x >= 345 && x < 863 || x >= 134 && x < 1376
+        || x >= 820 && x < 1419 || x >= 1810 && x < 1929 || x >= 523 && x < 696 || x >= 928 && x < 1780
+        || x >= 381 && x < 1260 || x >= 704 && x < 1809 || x >= 193 && x < 1119 || x >= 631 && x < 1667
+        || x >= 1153 && x < 1849 || x >= 707 && x < 1850 || x >= 1503 && x < 1515 || x >= 385 && x < 1991
+        || x >= 1332 && x < 1884 || x >= 587 && x < 1561 || x >= 522 && x < 1309 || x >= 1570 && x < 1653
+        || x >= 118 && x < 1524 || x >= 1423 && x < 1428 || x >= 1469 && x < 1842 || x >= 220 && x < 391
+        || x >= 699 && x < 902 || x >= 1035 && x < 1298 || x >= 1443 && x < 1963 || x >= 950 && x < 967
+        || x >= 957 && x < 1410 || x >= 211 && x < 1361 || x >= 213 && x < 1354 || x >= 92 && x < 1313
+        || x >= 264 && x < 807 || x >= 1495 && x < 1967 || x >= 160 && x < 807 || x >= 1142 && x < 1222
+        || x >= 782 && x < 1628 || x >= 1820 && x < 1967 || x >= 255 && x < 1448 || x >= 449 && x < 1385
+        || x >= 1145 && x < 1250 || x >= 687 && x < 1444 || x >= 986 && x < 1153 || x >= 411 && x < 1206
+        || x >= 667 && x < 1471 || x >= 829 && x < 1108 || x >= 756 && x < 1838 || x >= 1129 && x < 1438
+        || x >= 425 && x < 1269 || x >= 535 && x < 1904 || x >= 169 && x < 1908 || x >= 437 && x < 915
+        || x >= 252 && x < 605 || x >= 999 && x < 1965 || x >= 6 && x < 27 || x >= 702 && x < 1112
+        || x >= 662 && x < 724 || x >= 29 && x < 403 || x >= 1227 && x < 1528 || x >= 1197 && x < 1375
+        || x >= 102 && x < 547 || x >= 1473 && x < 1842 || x >= 1147 && x < 1679 || x >= 1520 && x < 1579
+        || x >= 171 && x < 1489 || x >= 677 && x < 847 || x >= 221 && x < 257 || x >= 504 && x < 1182
+        || x >= 640 && x < 1797 || x >= 436 && x < 657 || x >= 229 && x < 1516 || x >= 407 && x < 450
+        || x >= 112 && x < 219 || x >= 693 && x < 820 || x >= 410 && x < 1016 || x >= 297 && x < 1702
+        || x >= 1027 && x < 1559 || x >= 873 && x < 1508 || x >= 824 && x < 1949 || x >= 146 && x < 873
+        || x >= 1737 && x < 1804 || x >= 1506 && x < 1652 || x >= 1331 && x < 1950 || x >= 1294 && x < 1684
+        || x >= 1108 && x < 1620 || x >= 1102 && x < 1558 || x >= 18 && x < 1889 || x >= 722 && x < 1344
+        || x >= 382 && x < 869 || x >= 1523 && x < 1906 || x >= 391 && x < 1965 || x >= 1039 && x < 1786
+        || x >= 8 && x < 1583 || x >= 270 && x < 1447 || x >= 120 && x < 1193 || x >= 418 && x < 569
+        || x >= 650 && x < 1651 || x >= 204 && x < 1854 || x >= 292 && x < 988 || x >= 772 && x < 1764
+        || x >= 119 && x < 1527 || x >= 450 && x < 1847 || x >= 540 && x < 1921 || x >= 241 && x < 892
+        || x >= 972 && x < 1370 || x >= 491 && x < 930 || x >= 914 && x < 1698 || x >= 1526 && x < 1885
+        || x >= 79 && x < 420 || x >= 389 && x < 668 || x >= 1503 && x < 1822 || x >= 20 && x < 50
+        || x >= 745 && x < 955 || x >= 1012 && x < 1715 || x >= 71 && x < 596 || x >= 107 && x < 897
+        || x >= 1325 && x < 1603 || x >= 1028 && x < 1166 || x >= 749 && x < 1494 || x >= 600 && x < 1213
+        || x >= 1206 && x < 1575 || x >= 1216 && x < 1443 || x >= 1857 && x < 1879 || x >= 907 && x < 1404
+        || x >= 368 && x < 410 || x >= 1418 && x < 1734 || x >= 1007 && x < 1926 || x >= 365 && x < 1875
+        || x >= 159 && x < 1772 || x >= 347 && x < 656 || x >= 395 && x < 477 || x >= 240 && x < 521
+        || x >= 692 && x < 801 || x >= 1160 && x < 1766 || x >= 221 && x < 675 || x >= 355 && x < 1887
+        || x >= 773 && x < 1937 || x >= 192 && x < 1607 || x >= 1390 && x < 1439 || x >= 241 && x < 1662
+        || x >= 674 && x < 706 || x >= 1003 && x < 1977 || x >= 700 && x < 1722 || x >= 1540 && x < 1960
+        || x >= 1289 && x < 1305 || x >= 849 && x < 1979 || x >= 587 && x < 1854 || x >= 592 && x < 1728
+        || x >= 421 && x < 1010 || x >= 221 && x < 1434 || x >= 1113 && x < 1764 || x >= 1020 && x < 1585
+        || x >= 773 && x < 1204 || x >= 556 && x < 1269 || x >= 1164 && x < 1510 || x >= 825 && x < 1241
+        || x >= 117 && x < 644 || x >= 30 && x < 1697 || x >= 1507 && x < 1521 || x >= 867 && x < 904
+        || x >= 999 && x < 1374 || x >= 406 && x < 851 || x >= 1541 && x < 1587 || x >= 158 && x < 1594
+        || x >= 1156 && x < 1195 || x >= 31 && x < 782 || x >= 1247 && x < 1383 || x >= 104 && x < 1271
+        || x >= 1542 && x < 1949 || x >= 159 && x < 1383 || x >= 327 && x < 1613 || x >= 1014 && x < 1056
+        || x >= 1400 && x < 1415 || x >= 51 && x < 1516 || x >= 318 && x < 1399 || x >= 437 && x < 1120
+        || x >= 170 && x < 1107 || x >= 375 && x < 1226 || x >= 392 && x < 1538 || x >= 156 && x < 1229
+        || x >= 71 && x < 1496 || x >= 861 && x < 1131 || x >= 72 && x < 750 || x >= 1293 && x < 1352
+        || x >= 649 && x < 1441 || x >= 13 && x < 1606 || x >= 509 && x < 676 || x >= 1028 && x < 1086
+        || x >= 1202 && x < 1435 || x >= 386 && x < 1397 || x >= 549 && x < 1504 || x >= 1001 && x < 1799
+        || x >= 915 && x < 1153 || x >= 242 && x < 1924 || x >= 968 && x < 1866 || x >= 1329 && x < 1377
+        || x >= 870 && x < 1671 || x >= 1611 && x < 1724 || x >= 207 && x < 549 || x >= 622 && x < 1255
+        || x >= 89 && x < 1190 || x >= 874 && x < 1277 || x >= 321 && x < 1611 || x >= 646 && x < 1788
+        || x >= 1591 && x < 1767 || x >= 237 && x < 1198 || x >= 121 && x < 432 || x >= 182 && x < 1136
+        || x >= 608 && x < 1680 || x >= 717 && x < 785 || x >= 498 && x < 1204 || x >= 502 && x < 553
+        || x >= 182 && x < 818 || x >= 191 && x < 519 || x >= 385 && x < 1155 || x >= 1538 && x < 1787
+        || x >= 47 && x < 1198 || x >= 810 && x < 1104 || x >= 999 && x < 1258 || x >= 941 && x < 1326
+        || x >= 146 && x < 1493 || x >= 855 && x < 1156 || x >= 93 && x < 270 || x >= 55 && x < 1532
+        || x >= 529 && x < 1559 || x >= 423 && x < 1398 || x >= 434 && x < 1944 || x >= 714 && x < 938
+        || x >= 1235 && x < 1927 || x >= 261 && x < 1835 || x >= 216 && x < 993 || x >= 239 && x < 556
+        || x >= 666 && x < 1022 || x >= 328 && x < 338 || x >= 1679 && x < 1866 || x >= 1083 && x < 1844
+        || x >= 1335 && x < 1723 || x >= 1267 && x < 1467 || x >= 661 && x < 1343 || x >= 374 && x < 891
+        || x >= 1103 && x < 1204 || x >= 163 && x < 958 || x >= 154 && x < 1750 || x >= 193 && x < 575
+        || x >= 1163 && x < 1479 || x >= 440 && x < 1443 || x >= 1307 && x < 1911 || x >= 705 && x < 1451
+        || x >= 932 && x < 1191 || x >= 699 && x < 1047 || x >= 535 && x < 1762 || x >= 476 && x < 939
+        || x >= 374 && x < 1800 || x >= 621 && x < 1448 || x >= 653 && x < 1291 || x >= 367 && x < 1478
+        || x >= 443 && x < 1876 || x >= 79 && x < 842 || x >= 362 && x < 719 || x >= 1849 && x < 1883
+        || x >= 59 && x < 1118 || x >= 1496 && x < 1644 || x >= 208 && x < 1652 || x >= 446 && x < 601
+        || x >= 998 && x < 1105 || x >= 886 && x < 1725 || x >= 1003 && x < 1013 || x >= 902 && x < 1158
+        || x >= 445 && x < 924 || x >= 760 && x < 1125 || x >= 563 && x < 1881 || x >= 106 && x < 722
+        || x >= 1762 && x < 1963 || x >= 285 && x < 1474 || x >= 1072 && x < 1681 || x >= 372 && x < 809
+        || x >= 24 && x < 1886 || x >= 1538 && x < 1625 || x >= 1463 && x < 1689 || x >= 757 && x < 935
+        || x >= 503 && x < 895 || x >= 805 && x < 1767 || x >= 913 && x < 1887 || x >= 1043 && x < 1864
+        || x >= 462 && x < 903 || x >= 123 && x < 1054 || x >= 884 && x < 1214 || x >= 273 && x < 1280
+        || x >= 992 && x < 1275 || x >= 300 && x < 1719 || x >= 570 && x < 791 || x >= 1029 && x < 1095
+        || x >= 656 && x < 898 || x >= 1081 && x < 1088 || x >= 151 && x < 1121 || x >= 1402 && x < 1682
+        || x >= 561 && x < 1821 || x >= 653 && x < 1692 || x >= 1004 && x < 1612 || x >= 650 && x < 1817
+        || x >= 349 && x < 1381 || x >= 83 && x < 1798 || x >= 1178 && x < 1602 || x >= 1277 && x < 1955
+        || x >= 456 && x < 1840 || x >= 992 && x < 1267 || x >= 1069 && x < 1680 || x >= 1731 && x < 1788
+        || x >= 452 && x < 695 || x >= 731 && x < 1171 || x >= 75 && x < 1759 || x >= 223 && x < 802
+        || x >= 1074 && x < 1212 || x >= 57 && x < 1793 || x >= 482 && x < 1948 || x >= 120 && x < 1480
+        || x >= 1521 && x < 1925 || x >= 1108 && x < 1685 || x >= 247 && x < 1793 || x >= 404 && x < 1131
+        || x >= 683 && x < 1558 || x >= 1483 && x < 1524 || x >= 1730 && x < 1950 || x >= 760 && x < 1899
+        || x >= 1479 && x < 1999 || x >= 46 && x < 1467 || x >= 914 && x < 1179 || x >= 928 && x < 1741
+        || x >= 343 && x < 828 || x >= 822 && x < 1157 || x >= 343 && x < 1259 || x >= 129 && x < 1821
+        || x >= 1096 && x < 1995 || x >= 627 && x < 979 || x >= 523 && x < 612 || x >= 449 && x < 1579
+        || x >= 598 && x < 970 || x >= 198 && x < 389 || x >= 605 && x < 1098 || x >= 1811 && x < 1922
+        || x >= 1264 && x < 1620 || x >= 1823 && x < 1928 || x >= 225 && x < 763 || x >= 36 && x < 210
+        || x >= 79 && x < 1335 || x >= 183 && x < 1697 || x >= 291 && x < 956 || x >= 576 && x < 1302
+        || x >= 611 && x < 768 || x >= 837 && x < 1759 || x >= 362 && x < 750 || x >= 1169 && x < 1931
+        || x >= 233 && x < 741 || x >= 488 && x < 686 || x >= 662 && x < 670 || x >= 587 && x < 685
+        || x >= 51 && x < 149 || x >= 561 && x < 1283 || x >= 862 && x < 1311 || x >= 1082 && x < 1981
+        || x >= 166 && x < 416 || x >= 102 && x < 1681 || x >= 1059 && x < 1570 || x >= 807 && x < 1115
+        || x >= 285 && x < 1789 || x >= 1065 && x < 1308 || x >= 11 && x < 836 || x >= 563 && x < 1571
+        || x >= 297 && x < 697 || x >= 295 && x < 1833 || x >= 881 && x < 1079 || x >= 1271 && x < 1810
+        || x >= 40 && x < 610 || x >= 372 && x < 780 || x >= 1065 && x < 1414 || x >= 451 && x < 1662
+        || x >= 1732 && x < 1825 || x >= 632 && x < 1573 || x >= 1408 && x < 1660 || x >= 971 && x < 979
+        || x >= 750 && x < 1621 || x >= 1614 && x < 1988 || x >= 631 && x < 1184 || x >= 1320 && x < 1531
+        || x >= 1043 && x < 1379 || x >= 1346 && x < 1819 || x >= 1203 && x < 1471 || x >= 95 && x < 106
+        || x >= 323 && x < 1402 || x >= 1253 && x < 1983 || x >= 1288 && x < 1322 || x >= 330 && x < 665
+        || x >= 1075 && x < 1456 || x >= 190 && x < 1104 || x >= 1160 && x < 1995 || x >= 458 && x < 578
+        || x >= 1334 && x < 1574 || x >= 556 && x < 606 || x >= 109 && x < 1912 || x >= 874 && x < 1731
+        || x >= 495 && x < 1768 || x >= 960 && x < 1620 || x >= 762 && x < 1027 || x >= 1436 && x < 1758
+        || x >= 749 && x < 1923 || x >= 1331 && x < 1761 || x >= 78 && x < 952 || x >= 197 && x < 1403
+        || x >= 1139 && x < 1813 || x >= 1813 && x < 1878 || x >= 773 && x < 1296 || x >= 675 && x < 1754
+        || x >= 1715 && x < 1987 || x >= 1759 && x < 1877 || x >= 738 && x < 1990 || x >= 948 && x < 1136
+        || x >= 897 && x < 1461 || x >= 248 && x < 1157 || x >= 515 && x < 1560 || x >= 612 && x < 871
+        || x >= 971 && x < 1019 || x >= 91 && x < 1534 || x >= 753 && x < 1458 || x >= 1389 && x < 1662
+        || x >= 1390 && x < 1834 || x >= 1629 && x < 1788 || x >= 333 && x < 718 || x >= 653 && x < 1222
+        || x >= 728 && x < 1094 || x >= 495 && x < 992 || x >= 231 && x < 1647 || x >= 173 && x < 501
+        || x >= 18 && x < 377 || x >= 755 && x < 1089 || x >= 1457 && x < 1551 || x >= 1160 && x < 1624
+        || x >= 1745 && x < 1844 || x >= 1509 && x < 1649 || x >= 71 && x < 1109 || x >= 1615 && x < 1735
+        || x >= 390 && x < 511 || x >= 1319 && x < 1893 || x >= 695 && x < 1309 || x >= 17 && x < 931
+        || x >= 1285 && x < 1470 || x >= 1152 && x < 1913 || x >= 593 && x < 757 || x >= 771 && x < 1353
+        || x >= 748 && x < 767 || x >= 101 && x < 1359 || x >= 71 && x < 1172 || x >= 206 && x < 1264
+        || x >= 286 && x < 1364 || x >= 736 && x < 1123 || x >= 1762 && x < 1833 || x >= 659 && x < 1783
+        || x >= 465 && x < 1876 || x >= 262 && x < 1129 || x >= 697 && x < 1881 || x >= 730 && x < 1593
+        || x >= 1111 && x < 1932 || x >= 1033 && x < 1134 || x >= 227 && x < 379 || x >= 603 && x < 1335
+        || x >= 564 && x < 680 || x >= 1471 && x < 1932 || x >= 120 && x < 631 || x >= 987 && x < 1233;
+}
+
+static int inputs[] = {
+    0, 1, 2, 999, 1000, 1001, 1999, 2000,
+    -1, -1000, 1336, -315, 1589, -45, 2346, 2443,
+    135, 961, 1670, 2605, 2648, 1181, 2722, 1160,
+    -237, 1669, 2707, 1527, 2864, 1061
+};
+
+static unsigned expected_sum[] = {
+    4292470857u, 4292470872u, 4292470887u, 4292457410u, 4292457425u, 4292457440u, 4292452042u, 4292451993u,
+    2496506u, 2509953u, 4292462753u, 2499460u, 4292458356u, 2496198u, 4292412591u, 4292407070u,
+    4292465634u, 4292457112u, 4292452819u, 4292408204u, 4292410433u, 4292460540u, 4292402951u, 4292460529u,
+    2498950u, 4292452804u, 4292402694u, 4292459986u, 4292404857u, 4292466020u
+};
+
+static int expected_ladder[] = {
+    753, -1, 510, -1, -1, 985, -1, -1,
+    -1, -1, 617, -1, -1, -1, -1, -1,
+    -1, 616, -1, -1, -1, 887, -1, -1,
+    -1, 988, -1, -1, -1, -1
+};
+
+static int expected_and[] = {
+    0, 0, 0, 1, 1, 1, 1, 1,
+    1, 1, 0, 1, 1, 1, 1, 1,
+    0, 0, 0, 1, 1, 0, 1, 0,
+    1, 0, 1, 0, 1, 0
+};
+
+static int expected_or[] = {
+    0, 0, 1, 1, 1, 1, 0, 0,
+    0, 0, 0, 0, 1, 0, 0, 0,
+    1, 1, 1, 0, 0, 1, 0, 0,
+    0, 1, 0, 0, 0, 1
+};
+
+static int expected_ranges[] = {
+    0, 0, 0, 1, 1, 1, 0, 0,
+    0, 0, 1, 0, 1, 0, 0, 0,
+    1, 1, 1, 0, 0, 1, 0, 1,
+    0, 1, 0, 1, 0, 1
+};
+
+#define COUNT(array) (sizeof(array) / sizeof(*(array)))
+
+#define CHECK(name, i, actual, expected) \
+    if((actual) != (expected)) \
+        test_fail(name, i, inputs[i], actual, expected)
+
+void test_main(void) {
+    int i;
+
+    for(i = 0; i < COUNT(inputs); ++i) {
+        CHECK("+/-", i, expr_sum(inputs[i]), expected_sum[i]);
+        CHECK("?:", i, expr_ladder(inputs[i]), expected_ladder[i]);
+        CHECK("&&", i, expr_and(inputs[i]), expected_and[i]);
+        CHECK("||", i, expr_or(inputs[i]), expected_or[i]);
+        CHECK("&& ||", i, expr_ranges(inputs[i]), expected_ranges[i]);
+    }
+}
@@ -0,0 +1,123 @@
+#!/usr/bin/python3
+# Generates expressions.c, which checks very long expressions: chains of binary
+# operators ('a + b - c + ...'), chains of logical operators ('a && b && ...' and
+# 'a || b || ...', also with '&&' as the operands of '||') and ladders of conditional
+# operators ('a ? b : c ? d : ...'). Each expression consists of COUNT operations.
+#
+# usage: ./expressions.py [COUNT] > expressions.c
+import random
+import sys
+
+COUNT = int(sys.argv[1]) if len(sys.argv) > 1 else 1000
+
+random.seed(33)
+
+UINT_MASK = 2 ** 32 - 1
+
+# the operands of the expressions are drawn from [0, COUNT * 2)
+INPUTS = [ 0, 1, 2, COUNT - 1, COUNT, COUNT + 1, COUNT * 2 - 1, COUNT * 2, -1, -COUNT ] + [
+    random.randrange(-COUNT, COUNT * 3) for i in range(20)
+]
+
+def lines(terms, per_line):
+    return '\n        '.join(
+        ' '.join(terms[i:i + per_line])
+        for i in range(0, len(terms), per_line)
+    )
+
+def array(type, name, values):
+    return 'static %s %s[] = {\n%s\n};\n' % (type, name, ',\n'.join(
+        '    ' + ', '.join(values[i:i + 8])
+        for i in range(0, len(values), 8)
+    ))
+
+# 'x ^ c0 + x ^ c1 - ...' (in C, '^' has lower precedence than '+', so the operands are parenthesized)
+sum_constants = [ random.randrange(0, 1 << 16) for i in range(COUNT + 1) ]
+sum_signs = [ random.choice('+-') for i in range(COUNT) ]
+
+def eval_sum(x):
+    x &= UINT_MASK
+    result = x ^ sum_constants[0]
+
+    for sign, constant in zip(sum_signs, sum_constants[1:]):
+        result = result + (x ^ constant) if sign == '+' else result - (x ^ constant)
+
+    return result & UINT_MASK
+
+# 'x == v0 ? r0 : x == v1 ? r1 : ... : -1'
+ladder_values = random.sample(range(COUNT * 2), COUNT)
+ladder_results = [ random.randrange(0, 1000) for i in range(COUNT) ]
+
+def eval_ladder(x):
+    for value, result in zip(ladder_values, ladder_results):
+        if x == value:
+            return result
+
+    return -1
+
+# 'x != v0 && x != v1 && ...'
+and_values = random.sample(range(COUNT * 2), COUNT + 1)
+
+def eval_and(x):
+    return int(all(x != value for value in and_values))
+
+# 'x == v0 || x == v1 || ...'
+or_values = random.sample(range(COUNT * 2), COUNT + 1)
+
+def eval_or(x):
+    return int(any(x == value for value in or_values))
+
+# 'x >= l0 && x < h0 || x >= l1 && x < h1 || ...'
+ranges = [ sorted(random.sample(range(COUNT * 2), 2)) for i in range((COUNT + 1) // 2) ]
+
+def eval_ranges(x):
+    return int(any(low <= x < high for low, high in ranges))
+
+out = [ '/* (c) 2023, Thomas Kasper */\n', '/* Generated by expressions.py, do not edit */\n', '#include "syntaxtest.h"\n' ]
+
+out.append('static unsigned expr_sum(unsigned x) {\n    return (x ^ %du)\n        %s;\n}\n' % (
+    sum_constants[0],
+    lines([ '%s (x ^ %du)' % (sign, constant) for sign, constant in zip(sum_signs, sum_constants[1:]) ], 6)
+))
+
+out.append('static int expr_ladder(int x) {\n    return %s\n        -1;\n}\n' % lines(
+    [ 'x == %d ? %d :' % (value, result) for value, result in zip(ladder_values, ladder_results) ], 4
+))
+
+out.append('static int expr_and(int x) {\n    return %s;\n}\n' % lines(
+    [ 'x != %d' % and_values[0] ] + [ '&& x != %d' % value for value in and_values[1:] ], 6
+))
+
+out.append('static int expr_or(int x) {\n    return %s;\n}\n' % lines(
+    [ 'x == %d' % or_values[0] ] + [ '|| x == %d' % value for value in or_values[1:] ], 6
+))
+
+out.append('static int expr_ranges(int x) {\n    return %s;\n}\n' % lines(
+    [ 'x >= %d && x < %d' % tuple(ranges[0]) ] + [ '|| x >= %d && x < %d' % (low, high) for low, high in ranges[1:] ], 4
+))
+
+out.append(array('int', 'inputs', [ str(x) for x in INPUTS ]))
+out.append(array('unsigned', 'expected_sum', [ '%du' % eval_sum(x) for x in INPUTS ]))
+
+for name, evaluate in [ ('ladder', eval_ladder), ('and', eval_and), ('or', eval_or), ('ranges', eval_ranges) ]:
+    out.append(array('int', 'expected_' + name, [ str(evaluate(x)) for x in INPUTS ]))
+
+out.append('''#define COUNT(array) (sizeof(array) / sizeof(*(array)))
+
+#define CHECK(name, i, actual, expected) \\
+    if((actual) != (expected)) \\
+        test_fail(name, i, inputs[i], actual, expected)
+
+void test_main(void) {
+    int i;
+
+    for(i = 0; i < COUNT(inputs); ++i) {
+        CHECK("+/-", i, expr_sum(inputs[i]), expected_sum[i]);
+        CHECK("?:", i, expr_ladder(inputs[i]), expected_ladder[i]);
+        CHECK("&&", i, expr_and(inputs[i]), expected_and[i]);
+        CHECK("||", i, expr_or(inputs[i]), expected_or[i]);
+        CHECK("&& ||", i, expr_ranges(inputs[i]), expected_ranges[i]);
+    }
+}''')
+
+print('\n'.join(out))
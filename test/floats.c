@@ -0,0 +1,4065 @@
+/* (c) 2023, Thomas Kasper */
+
+/* Generated by floats.py, do not edit */
+
+#include "syntaxtest.h"
+
+static float floats[] = {
+    0.1f,
+    0.2f,
+    0.3f,
+    0.5f,
+    1.0f,
+    2.5f,
+    3.14159265358979323846264338327950288f,
+    2.71828182845904523536028747135266250f,
+    1e10f,
+    1e-5f,
+    123456789.0f,
+    0.0001220703125f,
+    3.40282347e38f,
+    1.17549435e-38f,
+    1.40129846e-45f,
+    7e-46f,
+    1e38f,
+    16777217.0f,
+    -1e-40f,
+    2.76224105e+19f,
+    27622411599570010112.0f,
+    27622411599570010112.01f,
+    27622411049814196224.0f,
+    -6.57270634e-28f,
+    -4.62316174e-25f,
+    -2.58950519e-29f,
+    2.79268682e-27f,
+    -1.19679901e-31f,
+    -0.00864911918f,
+    1.26340674e+14f,
+    -2.1273786e-36f,
+    8.83652019e-27f,
+    1.35990816e-28f,
+    0.000000000000000000000000000135990822171375231311200763315513375224553792547203812102196707201073877513408660888671875f,
+    0.0000000000000000000000000001359908221713752313112007633155133752245537925472038121021967072010738775134086608886718751f,
+    0.0000000000000000000000000001359908191621096932061447429155478399356048573314199867656526521386695094406604766845703125f,
+    -2.54344702f,
+    6.15835576e-33f,
+    11028.3496f,
+    4.81078857e-37f,
+    -2.97568345e-30f,
+    0.945174336f,
+    -7.54937359e-14f,
+    -3.1885324e+29f,
+    9.62551194e-09f,
+    0.255192101f,
+    0.25519211590290069580078125f,
+    0.255192115902900695800781251f,
+    0.255192108452320098876953125f,
+    50.5730095f,
+    -3.10531888e-38f,
+    -1.1575134e+33f,
+    -1.48674111e-11f,
+    8.59496569e+23f,
+    2.99844903e+29f,
+    -1.71677548e-15f,
+    -1.92847942e+22f,
+    -7.81838092e-15f,
+    0.00111252046f,
+    0.0011125205201096832752227783203125f,
+    0.00111252052010968327522277832031251f,
+    0.00111252049100585281848907470703125f,
+    -307835.906f,
+    2.06383679e+18f,
+    -3.58015926e+11f,
+    -2.48347534e-24f,
+    -8.27077922e+27f,
+    -4931.59131f,
+    -3.81114611e-35f,
+    -7.15275274e+36f,
+    -8.12400201e+24f,
+    21673056.0f,
+    21673057.0f,
+    21673057.01f,
+    21673056.5f,
+    -1.07471866e-13f,
+    -4.3784105e+09f,
+    1.45556378e-30f,
+    8.00344152e-14f,
+    6.48799246e-17f,
+    -2.19079434e-16f,
+    1.27779566e+38f,
+    1.01753684e-33f,
+    -6.9083094e+15f,
+    -3.91660665e+24f,
+    -3916606793007300889018368.0f,
+    -3916606793007300889018368.01f,
+    -3916606720949706851090432.0f,
+    -4.17713563e-31f,
+    0.00282003637f,
+    -3.00866816e+09f,
+    2.76193794e+14f,
+    -3.37637383e+13f,
+    2.72137466e+38f,
+    2.67679228e+19f,
+    222469.719f,
+    1.39658646e-10f,
+    -6.57129373e+23f,
+    -657129408972868907171840.0f,
+    -657129408972868907171840.01f,
+    -657129390958470397689856.0f,
+    -5.20436279e+31f,
+    1.28731605e+18f,
+    -1.35090435e+36f,
+    -7.61348373e-10f,
+    -1.56511503e-19f,
+    4.14018703e-36f,
+    -5.00903378e+17f,
+    7.93403797e-06f,
+    -8.1914099e+21f,
+    1.03139918e+24f,
+    1031399218536846010089472.0f,
+    1031399218536846010089472.01f,
+    1031399200522447500607488.0f,
+    83790208.0f,
+    4.0259493e-10f,
+    1.78594888e-12f,
+    -6.30742771e-30f,
+    -6.48351687e+28f,
+    1.32415487e-12f,
+    -9.96406959e-18f,
+    4.63970304e+10f,
+    -1.46798432e-22f,
+    5.3357405e+28f,
+    53357407343484589650495930368.0f,
+    53357407343484589650495930368.01f,
+    53357406162892968933084626944.0f,
+    -1.63690589e-15f,
+    -6.58002674e+11f,
+    -1.71788329e+26f,
+    1.75632195e+21f,
+    1.64868402e-32f,
+    6.04697051e-27f,
+    -6498.18115f,
+    1.91689718e-26f,
+    15256630.0f,
+    -2.17643291e-19f,
+    -0.00000000000000000021764330375446309814735520136996793638672897941432893276214599609375f,
+    -0.000000000000000000217643303754463098147355201369967936386728979414328932762145996093751f,
+    -0.000000000000000000217643297292114562576826491437087529590144185931421816349029541015625f,
+    -1.59954483e-09f,
+    3.3317176e+12f,
+    -1.21687458e+30f,
+    1.18595262e+34f,
+    2.79113124e-08f,
+    2.52403464e+36f,
+    -4.56842678e-35f,
+    -0.000781583425f,
+    -8.77389434e-27f,
+    1.15515548e-31f,
+    0.0000000000000000000000000000001155155536141337501705233668597438355315059768775871992980974756193290886585600674152374267578125f,
+    0.00000000000000000000000000000011551555361413375017052336685974383553150597687758719929809747561932908865856006741523742675781251f,
+    0.00000000000000000000000000000011551555067539787311480459693790249247589178233092330736787867184744982296251691877841949462890625f,
+    9.70627947e-29f,
+    -2.14573234e-31f,
+    -203.03363f,
+    3.64752414e+29f,
+    3.0985321e-09f,
+    6.62745236e-09f,
+    -1.04951279e+35f,
+    -66011284.0f,
+    6.5957036e-05f,
+    -7.61584908e+37f,
+    -76158493344486470512184820662647390208.0f,
+    -76158493344486470512184820662647390208.01f,
+    -76158492076835870283955419165944184832.0f,
+    1.28810646e-19f,
+    -1.17282938e+36f,
+    -1.40011568e-16f,
+    -7.5279727f,
+    1.27087841e+15f,
+    2.15148053e+38f,
+    1.04147017e+24f,
+    -13205649.0f,
+    53717092.0f,
+    -2530.71802f,
+    -2530.7181396484375f,
+    -2530.71813964843751f,
+    -2530.71807861328125f,
+    -1.06297021e+23f,
+    2.77884065e+35f,
+    1.33596504e+11f,
+    1.39747367e+30f,
+    4.16058957e+09f,
+    5.71685406e-15f,
+    -9303.31738f,
+    3.01257258e+33f,
+    6.10330522e-15f,
+    3.31995968e+16f,
+    33199597908131840.0f,
+    33199597908131840.01f,
+    33199597371260928.0f,
+    -0.000434005167f,
+    5.57133905e+35f,
+    -7.03218647e+10f,
+    44.7657318f,
+    2.30836204e+10f,
+    -2.06230264e+16f,
+    3.50007327e+15f,
+    7.1739301e-23f,
+    5.52524765e-24f,
+    -4.75670774e+10f,
+    -47567079424.0f,
+    -47567079424.01f,
+    -47567078400.0f,
+    1.77377439f,
+    1.31243888e-30f,
+    1.11448605e-06f,
+    1.97983939e+17f,
+    -9.15020943e+18f,
+    7.99973014e+27f,
+    -1.39306642e-33f,
+    -3.55471971e-28f,
+    -1.03069916e+21f,
+    367739808.0f,
+    367739824.0f,
+    367739824.01f,
+    367739816.0f,
+    427.047058f,
+    1.95171468e-14f,
+    3.67885524e+34f,
+    3.97713138e-31f,
+    1.41296066e-26f,
+    -3.70054404e-11f,
+    -3.4945081e-21f,
+    -8.51524318e-26f,
+    5.97220218e+33f,
+    2.89742868e-38f,
+    0.00000000000000000000000000000000000002897428821313891109750272919518269033803623714486165434806755933944025054038728939076463575474917888641357421875f,
+    0.000000000000000000000000000000000000028974288213138911097502729195182690338036237144861654348067559339440250540387289390764635754749178886413574218751f,
+    0.000000000000000000000000000000000000028974287512489678935094193733317898693078171504730683409809673460906108595491748047834335011430084705352783203125f,
+    -1.2451072e+19f,
+    -4.57447743e+32f,
+    3.85553948e-13f,
+    3.541537e-24f,
+    5.47793063e+35f,
+    8.29752082e-07f,
+    -1.52473689e-14f,
+    -2.25239563f,
+    2.99525288e-35f,
+    -6.60575033e+16f,
+    -66057505398063104.0f,
+    -66057505398063104.01f,
+    -66057504324321280.0f,
+    2.53118795e+32f,
+    3.27360078e-23f,
+    -5.47112322f,
+    -2.52137333e+24f,
+    -3.5261773e+30f,
+    -1.40014539e+29f,
+    1.27917078e+14f,
+    -2.16846791e+22f,
+    -2.42134197e-23f,
+    1.61841323e-25f,
+    0.00000000000000000000000016184132897153446726676549170755659427562052343763099315765430219471454620361328125f,
+    0.000000000000000000000000161841328971534467266765491707556594275620523437630993157654302194714546203613281251f,
+    0.000000000000000000000000161841325890046556247188126817991886139736813776668356013033189810812473297119140625f,
+    4.93361908e+21f,
+    1.06898533e-15f,
+    5.95460898e-28f,
+    9.9804272e-26f,
+    -3.23153992e-09f,
+    56877720.0f,
+    3.76758154e-24f,
+    1.13646724e+18f,
+    -1.49833217e+22f,
+    1.82999144e-19f,
+    0.000000000000000000182999150856106732664115694340922768645896212547086179256439208984375f,
+    0.0000000000000000001829991508561067326641156943409227686458962125470861792564392089843751f,
+    0.0000000000000000001829991476249324648788513393744825652476038158056326210498809814453125f,
+    -4.40550099e+36f,
+    3983.80371f,
+    9.89329887e-25f,
+    2.92279438e-35f,
+    -1.98796614e+12f,
+    -2.6405873e-08f,
+    -2.22209189e+20f,
+    3.82557247e+15f,
+    -6.01946461e-22f,
+    -8.16837218e+33f,
+    -8168372490194032683958041690767360.0f,
+    -8168372490194032683958041690767360.01f,
+    -8168372335451527773285507328376832.0f,
+    -3.07737637e+17f,
+    6.92677582e-38f,
+    1.64367329e-25f,
+    -1.82796962e+14f,
+    8.89586005e-09f,
+    -5.38665066e+20f,
+    226145.891f,
+    2.81113788e+30f,
+    -7.79628947e+30f,
+    7.55349303e-29f,
+    0.0000000000000000000000000000755349332984153947911271897086288906767281888378177956422376837508636526763439178466796875f,
+    0.00000000000000000000000000007553493329841539479112718970862889067672818883781779564223768375086365267634391784667968751f,
+    0.00000000000000000000000000007553493179378262573859917950864612303225372122992588297396565621966146863996982574462890625f,
+    1.5119698e-12f,
+    3.58953952e-38f,
+    -3.79772055e-28f,
+    1.72728705e+13f,
+    1.02853903e-27f,
+    -175893.25f,
+    3.8363711e+31f,
+    -182.061218f,
+    2.61633575e-12f,
+    -1.47064435e-14f,
+    -0.0000000000000147064443752780750485076310951626510359346866607666015625f,
+    -0.00000000000001470644437527807504850763109516265103593468666076660156251f,
+    -0.00000000000001470644395176160142135746156100140069611370563507080078125f,
+    -3.10200086e-24f,
+    -2.06417219e+12f,
+    -5.29570348e+35f,
+    -493547.625f,
+    -1.42624987e-30f,
+    0.196244121f,
+    1.66161511e+38f,
+    -0.335561275f,
+    -4.26227217e-16f,
+    -2.35032948e-30f,
+    -0.000000000000000000000000000002350329578452181942886004844493340098040864631393181798102443025300090084783732891082763671875f,
+    -0.0000000000000000000000000000023503295784521819428860048444933400980408646313931817981024430253000900847837328910827636718751f,
+    -0.0000000000000000000000000000023503295314324079099945045257438786091510375186465595272189421649500218336470425128936767578125f,
+    0.00633864012f,
+    6.13875755e-19f,
+    -1.60818108e-05f,
+    -3.51829295e+20f,
+    -1.67876626e-18f,
+    -9.07832566e-14f,
+    4.39635116e+11f,
+    2.469561e+26f,
+    0.00849412847f,
+    3268.14233f,
+    3268.1424560546875f,
+    3268.14245605468751f,
+    3268.14239501953125f,
+    -3.04903414e-09f,
+    -9.8232381e+36f,
+    -7.3532034e+34f,
+    4.78692389e+20f,
+    -272.614014f,
+    -12.249279f,
+    -6.26662189e-18f,
+    -1.10868745e+36f,
+    1.44627057e+11f,
+    -3.2859862e+14f,
+    -328598636462080.0f,
+    -328598636462080.01f,
+    -328598628073472.0f,
+    -9.77445193e+36f,
+    6.46911969e+20f,
+    206945.609f,
+    -1.90661491e-28f,
+    -3.51342449e-31f,
+    1.15856986e+09f,
+    -3.38077053e+32f,
+    -2.05921376e+18f,
+    1.41260627e+20f,
+    -1.42341176e-14f,
+    -0.0000000000000142341184750983430762349968290436663664877414703369140625f,
+    -0.00000000000001423411847509834307623499682904366636648774147033691406251f,
+    -0.00000000000001423411805158186944908482729488241602666676044464111328125f,
+    -2.47117754e+20f,
+    -0.00199495605f,
+    1.34765157e+23f,
+    -3.28907991e+18f,
+    -3.79990672e-29f,
+    76454768.0f,
+    -0.49122268f,
+    2.91879835e-28f,
+    4.02086079e-13f,
+    -9.90616255e-16f,
+    -0.00000000000000099061630794001456941366701158813157235272228717803955078125f,
+    -0.000000000000000990616307940014569413667011588131572352722287178039550781251f,
+    -0.000000000000000990616281470234967716781415703053426113910973072052001953125f,
+    27892118.0f,
+    1.02729977e-07f,
+    -4.49301482e+22f,
+    -2.50190786e-24f,
+    -6.03904401e-22f,
+    8.49305374e-29f,
+    8.36245069e+26f,
+    -5.92577658e+23f,
+    -1.94563115f,
+    2.96435425e-35f,
+    0.0000000000000000000000000000000000296435439315972964641539583251764710862007154026741419508688963994902376697382351267151534557342529296875f,
+    0.00000000000000000000000000000000002964354393159729646415395832517647108620071540267414195086889639949023766973823512671515345573425292968751f,
+    0.00000000000000000000000000000000002964354321413248272984761801222692444176365618718002771009282125987127631816520079155452549457550048828125f,
+    -4.27658752e+15f,
+    -3.61588226e-09f,
+    8.46360892e-28f,
+    -8.25351788e-32f,
+    -8.41549382e+21f,
+    -7.18436634e+17f,
+    1.49255828e-30f,
+    1.13129421e+24f,
+    2.97604985e+21f,
+    -1.80685341e+19f,
+    -18068534613742977024.0f,
+    -18068534613742977024.01f,
+    -18068534338865070080.0f,
+    1.57464251e-31f,
+    -64486.0625f,
+    -4.20978807e+28f,
+    30061.502f,
+    2.06627741e-14f,
+    0.0406217463f,
+    -6.94368429e+33f,
+    -9.41083206e+35f,
+    1.43708135e-07f,
+    8.3275217e-17f,
+    0.000000000000000083275220337416435019937954731261697816080413758754730224609375f,
+    0.0000000000000000832752203374164350199379547312616978160804137587547302246093751f,
+    0.0000000000000000832752186830552099138826049884443136761547066271305084228515625f,
+    5.81823335e-24f,
+    -1.56505426e-18f,
+    -1.05489847e+30f,
+    919206720.0f,
+    -9.5956614e-36f,
+    1866.38574f,
+    -1.21726081e-27f,
+    -9.67666587e+31f,
+    -2.97175168e+12f,
+    1.7380484e-12f,
+    0.0000000000017380484529892770151349168372689746320247650146484375f,
+    0.00000000000173804845298927701513491683726897463202476501464843751f,
+    0.00000000000173804842588422270299730598708265461027622222900390625f,
+    23684.9961f,
+    5.74444987e-33f,
+    8.36877165e-11f,
+    3801884.25f,
+    2.31124195e+29f,
+    -4.9597819e-17f,
+    815.906128f,
+    2.16353346e-05f,
+    -2.1148171e+12f,
+    0.000247441814f,
+    0.000247441828832961618900299072265625f,
+    0.0002474418288329616189002990722656251f,
+    0.0002474418215570040047168731689453125f,
+    -4.05487955e-24f,
+    6.39305924e+36f,
+    -2.74007924e+21f,
+    -171072.203f,
+    1.35860986e-07f,
+    -2.9304607e+16f,
+    5.9965221e-17f,
+    -2.30516687e+11f,
+    -5.92928112e-21f,
+    -9.24824864e-30f,
+    -0.0000000000000000000000000000092482490129474759920103547310553527156247724655131585425049678406139719299972057342529296875f,
+    -0.00000000000000000000000000000924824901294747599201035473105535271562477246551315854250496784061397192999720573425292968751f,
+    -0.00000000000000000000000000000924824882486837986044435345605750676006546401452666945897096439921369892545044422149658203125f,
+    10498.582f,
+    0.000463410805f,
+    -5.94094152e-22f,
+    3.35331693e+25f,
+    -2.33731271e-06f,
+    8.23878241e-27f,
+    -2.11170322e+28f,
+    -2.30962498e+20f,
+    -1.22050675e+32f,
+    1.10190628e+20f,
+    110190632012083101696.0f,
+    110190632012083101696.01f,
+    110190629813059846144.0f,
+    -1.11439803e+38f,
+    -6.1636514e-14f,
+    -4.05757442e+25f,
+    -6.39333464e-24f,
+    3.15549767e+36f,
+    -6.72135828e-29f,
+    1.82032682e+22f,
+    0.345688909f,
+    -104180.664f,
+    8.04855245e-26f,
+    0.000000000000000000000000080485527577852159113686690421342428999169037184824304631547420285642147064208984375f,
+    0.0000000000000000000000000804855275778521591136866904213424289991690371848243046315474202856421470642089843751f,
+    0.0000000000000000000000000804855260371082036038980079765600749312271823543429860592368640936911106109619140625f,
+    4.73475356e-11f,
+    -5.59778881f,
+    7.12478565e-09f,
+    -1.71516971e-29f,
+    2.99176367e+37f,
+    -5.62025038e-15f,
+    -1.85376981e+25f,
+    -6.64396636e-32f,
+    -3.23425738e-05f,
+    1.0513188e-32f,
+    0.00000000000000000000000000000001051318837755465838471866235754783252126822342517847757637806938024738201420404948294162750244140625f,
+    0.000000000000000000000000000000010513188377554658384718662357547832521268223425178477576378069380247382014204049482941627502441406251f,
+    0.000000000000000000000000000000010513188193883666068736239237432748580292336266011984330739394144504927908201352693140506744384765625f,
+    3.74674624e-22f,
+    4.43340932e-18f,
+    -4.4724994e-17f,
+    -6.37195401e-34f,
+    -6.92111491e-26f,
+    7.35818386f,
+    2.27904976e-23f,
+    -1.13930067e+24f,
+    -1.22932516e+38f,
+    1.63925656e+17f,
+    163925664599113728.0f,
+    163925664599113728.01f,
+    163925660304146432.0f,
+    -6.97924376f,
+    -0.000126299448f,
+    4.6238964e-11f,
+    -8.04307393e-28f,
+    9.48139983e+11f,
+    -2.18182029e-15f,
+    -3.10840445e+21f,
+    4.44150447e+26f,
+    1.43012652e-18f,
+    9.60655743e-05f,
+    0.00009606557796359993517398834228515625f,
+    0.000096065577963599935173988342285156251f,
+    0.000096065576144610531628131866455078125f,
+    -1.90087112e+24f,
+    -1.95477298e-26f,
+    -8.97574585e+36f,
+    1.68077147e-38f,
+    -9109.7666f,
+    -5.07990958e+10f,
+    -1.79114208e+31f,
+    2.48426147e-07f,
+    -4.49017956e-17f,
+    -8.71121377e-19f,
+    -0.000000000000000000871121428968821911680941831590541113428116659633815288543701171875f,
+    -0.0000000000000000008711214289688219116809418315905411134281166596338152885437011718751f,
+    -0.0000000000000000008711214031194277693988269918590194862417774857021868228912353515625f,
+    3.50480211e-15f,
+    -5.34019786e-30f,
+    1.8930516e-22f,
+    380457.969f,
+    8.26094368e-36f,
+    -1.7940558e+27f,
+    0.000216286455f,
+    -1.23414829e+21f,
+    -5.67606815e-23f,
+    6.67053016e-26f,
+    0.000000000000000000000000066705304692023092351697180199570661474355211251197061983475578017532825469970703125f,
+    0.0000000000000000000000000667053046920230923516971801995706614743552112511970619834755780175328254699707031251f,
+    0.0000000000000000000000000667053031512791368419084977547883074064133564207157434111650218255817890167236328125f,
+    -1.51587992e+32f,
+    2.79484094e-14f,
+    3.72898851e-10f,
+    -6.50556915e-36f,
+    3.94027309e+18f,
+    -3.16702966e+10f,
+    3.21439155e-20f,
+    -5.62961677e-21f,
+    2.50691369e+33f,
+    -7.04444609e+20f,
+    -704444644648363753472.0f,
+    -704444644648363753472.01f,
+    -704444627056177709056.0f,
+    5.01732939e-05f,
+    -2.15933086e+30f,
+    -1.06473017e-08f,
+    7.6241854e-23f,
+    2.36311554e+24f,
+    -1.47168858e-27f,
+    0.00464806007f,
+    110281000.0f,
+    357808224.0f,
+    6.45472453e+12f,
+    6454724788224.0f,
+    6454724788224.01f,
+    6454724657152.0f,
+    4.42357477e-16f,
+    -3.8637083e+24f,
+    -0.0125731304f,
+    -7.73667918e-24f,
+    2.10544091e-25f,
+    -3.95446993e-17f,
+    1.98878704e+12f,
+    6.6317e+28f,
+    -2.55498671e+17f,
+    -1.72602318e-15f,
+    -0.00000000000000172602322999864375187295539859633208834566175937652587890625f,
+    -0.000000000000001726023229998643751872955398596332088345661759376525878906251f,
+    -0.000000000000001726023203528864150176069802711253942106850445270538330078125f,
+    -1.53891655e-08f,
+    -0.00114780106f,
+    -5.30964098e-05f,
+    -1.2633165e+28f,
+    3.11866521e+26f,
+    0.0190754831f,
+    -8.74261875e-29f,
+    4.53804808e-18f,
+    3.64422166e+36f,
+    2.64327125e+19f,
+    26432713630037311488.0f,
+    26432713630037311488.01f,
+    26432713080281497600.0f,
+    -3.61184429e-05f,
+    1.99096885e+25f,
+    7.79570774e-26f,
+    -3.7790407e+23f,
+    8.25967477e-35f,
+    -2.7860283e-09f,
+    -9.8350687f,
+    1.03510722e-30f,
+    -8.36334498e+26f,
+    4.36916051e+33f,
+    4369160661110530523950936691310592.0f,
+    4369160661110530523950936691310592.01f,
+    4369160583739278068614669510115328.0f,
+    9.30918598f,
+    -1.53148509e+34f,
+    4.12902144e+09f,
+    -3.7763059e-28f,
+    1.41429287e+15f,
+    1.70027714e-09f,
+    -8.29147628e-29f,
+    -3.062686e-37f,
+    -7.52722094e+22f,
+    0.00144390122f,
+    0.0014439012738876044750213623046875f,
+    0.00144390127388760447502136230468751f,
+    0.00144390124478377401828765869140625f,
+    -9.62563107e-24f,
+    -1.5452458e+37f,
+    -2.19367895e-25f,
+    -9.25667008e-12f,
+    1.31696539e+23f,
+    -4.37414018e-35f,
+    -1.74073616e+31f,
+    7.90542049e-36f,
+    -1.27859261e+11f,
+    1.83286562e-23f,
+    0.0000000000000000000000183286569625864268838673035913924944280417594910659317974932491779327392578125f,
+    0.00000000000000000000001832865696258642688386730359139249442804175949106593179749324917793273925781251f,
+    0.00000000000000000000001832865656815597427336140088552821178664864465446271424298174679279327392578125f,
+    3.9349795e+29f,
+    1.99168766e-25f,
+    25697.9805f,
+    -1.09351225e+35f,
+    -4.72631774e+32f,
+    2.44826916e-17f,
+    -2.98366632e+29f,
+    -3.37640176e+32f,
+    -1.24232416e-18f,
+    4929477.0f,
+    4929477.25f,
+    4929477.251f,
+    4929477.125f,
+    -4.62551558e-27f,
+    2.78286727e-10f,
+    -7.29165682e+36f,
+    -35.118576f,
+    -3.07772357e-25f,
+    -5.7555738e-11f,
+    1.56316898e+17f,
+    92798016.0f,
+    9.55835713e-21f,
+    1.57453197e+13f,
+    15745320222720.0f,
+    15745320222720.01f,
+    15745319960576.0f,
+    3.46357237e-37f,
+    -9.38207845e-12f,
+    3.798828e+29f,
+    -1.09511362e-21f,
+    1.08733326e-36f,
+    2.45041495e-32f,
+    4067.76782f,
+    -1.50446811e-30f,
+    -6.86640684e+20f
+};
+
+static unsigned long floats_bits[] = {
+    0x3DCCCCCDUL,
+    0x3E4CCCCDUL,
+    0x3E99999AUL,
+    0x3F000000UL,
+    0x3F800000UL,
+    0x40200000UL,
+    0x40490FDBUL,
+    0x402DF854UL,
+    0x501502F9UL,
+    0x3727C5ACUL,
+    0x4CEB79A3UL,
+    0x39000000UL,
+    0x7F7FFFFFUL,
+    0x00800000UL,
+    0x00000001UL,
+    0x00000000UL,
+    0x7E967699UL,
+    0x4B800000UL,
+    0x800116C2UL,
+    0x5FBFAB42UL,
+    0x5FBFAB42UL,
+    0x5FBFAB43UL,
+    0x5FBFAB42UL,
+    0x92504C21UL,
+    0x970F1476UL,
+    0x90034DB3UL,
+    0x135D426BUL,
+    0x8C1B5A78UL,
+    0xBC0DB509UL,
+    0x56E5CFF6UL,
+    0x8434FA34UL,
+    0x142F067BUL,
+    0x112C638BUL,
+    0x112C638CUL,
+    0x112C638CUL,
+    0x112C638BUL,
+    0xC022C7D6UL,
+    0x09FFCEDFUL,
+    0x462C5166UL,
+    0x0323B3E1UL,
+    0x8E716A87UL,
+    0x3F71F6F2UL,
+    0xA9A9FF2DUL,
+    0xF080C8A7UL,
+    0x32255D73UL,
+    0x3E82A88AUL,
+    0x3E82A88AUL,
+    0x3E82A88BUL,
+    0x3E82A88AUL,
+    0x424A4AC3UL,
+    0x812911D4UL,
+    0xF664477EUL,
+    0xAD82C66FUL,
+    0x67360167UL,
+    0x70723679UL,
+    0xA6F769D6UL,
+    0xE482ADC9UL,
+    0xA80CD7EBUL,
+    0x3A91D1FEUL,
+    0x3A91D1FEUL,
+    0x3A91D1FFUL,
+    0x3A91D1FEUL,
+    0xC8964F7DUL,
+    0x5DE521C5UL,
+    0xD2A6B6D3UL,
+    0x9840264CUL,
+    0xEDD5CB6DUL,
+    0xC59A1CBBUL,
+    0x864AA2A2UL,
+    0xFCAC323EUL,
+    0xE8D70A61UL,
+    0x4BA55A30UL,
+    0x4BA55A30UL,
+    0x4BA55A31UL,
+    0x4BA55A30UL,
+    0xA9F20150UL,
+    0xCF827C9FUL,
+    0x0DEC2DC1UL,
+    0x29B438B3UL,
+    0x24959A59UL,
+    0xA57C94D6UL,
+    0x7EC042E6UL,
+    0x08A9113BUL,
+    0xD9C45891UL,
+    0xE84F57EBUL,
+    0xE84F57ECUL,
+    0xE84F57ECUL,
+    0xE84F57EBUL,
+    0x8D078E49UL,
+    0x3B38D05CUL,
+    0xCF3354A2UL,
+    0x577B3261UL,
+    0xD5F5A9DDUL,
+    0x7F4CBBC5UL,
+    0x5FB9BD62UL,
+    0x4859416EUL,
+    0x2F198E6AUL,
+    0xE70B270EUL,
+    0xE70B270EUL,
+    0xE70B270FUL,
+    0xE70B270EUL,
+    0xF4243882UL,
+    0x5D8EEBB9UL,
+    0xFB82165DUL,
+    0xB0514721UL,
+    0xA038C6B3UL,
+    0x04B01AA5UL,
+    0xDCDE721FUL,
+    0x37051C6FUL,
+    0xE3DE0753UL,
+    0x675A6843UL,
+    0x675A6844UL,
+    0x675A6844UL,
+    0x675A6843UL,
+    0x4C9FD130UL,
+    0x2FDD5433UL,
+    0x2BFB5997UL,
+    0x8EFFDC13UL,
+    0xEF517E65UL,
+    0x2BBA5BB5UL,
+    0xA337CDFDUL,
+    0x512CD7A8UL,
+    0x9B3177EAUL,
+    0x6F2C6836UL,
+    0x6F2C6836UL,
+    0x6F2C6837UL,
+    0x6F2C6836UL,
+    0xA6EBE72BUL,
+    0xD3193404UL,
+    0xEB0E1998UL,
+    0x62BE6BBAUL,
+    0x0AAB358AUL,
+    0x13EF8B91UL,
+    0xC5CB1173UL,
+    0x14BDD71EUL,
+    0x4B68CC36UL,
+    0xA0807953UL,
+    0xA0807954UL,
+    0xA0807954UL,
+    0xA0807953UL,
+    0xB0DBD6FBUL,
+    0x5441EE76UL,
+    0xF175BEF1UL,
+    0x78122E11UL,
+    0x32EFC1A0UL,
+    0x7BF30E42UL,
+    0x8672E634UL,
+    0xBA4CE32DUL,
+    0x942DC8EEUL,
+    0x0C15F2A0UL,
+    0x0C15F2A0UL,
+    0x0C15F2A1UL,
+    0x0C15F2A0UL,
+    0x10F6155BUL,
+    0x8C8B4418UL,
+    0xC34B089CUL,
+    0x70935284UL,
+    0x3154EDF4UL,
+    0x31E3B7B0UL,
+    0xF9A1B3FBUL,
+    0xCC7BD025UL,
+    0x388A526AUL,
+    0xFE652E5EUL,
+    0xFE652E5EUL,
+    0xFE652E5FUL,
+    0xFE652E5EUL,
+    0x201812A1UL,
+    0xFB61E0F4UL,
+    0xA5216C1FUL,
+    0xC0F0E527UL,
+    0x58907B6EUL,
+    0x7F21DC02UL,
+    0x675C8A36UL,
+    0xCB498091UL,
+    0x4C4CEA19UL,
+    0xC51E2B7DUL,
+    0xC51E2B7EUL,
+    0xC51E2B7EUL,
+    0xC51E2B7DUL,
+    0xE5B412FCUL,
+    0x7A5612F8UL,
+    0x51F8D7C7UL,
+    0x718D1BD9UL,
+    0x4F77FD8FUL,
+    0x27CDF8ACUL,
+    0xC6115D45UL,
+    0x77148803UL,
+    0x27DBE50EUL,
+    0x5AEBE5B7UL,
+    0x5AEBE5B8UL,
+    0x5AEBE5B8UL,
+    0x5AEBE5B7UL,
+    0xB9E38B30UL,
+    0x7AD699A5UL,
+    0xD182FC14UL,
+    0x4233101CUL,
+    0x50ABFC83UL,
+    0xDA928911UL,
+    0x5946F4C5UL,
+    0x1AAD747AUL,
+    0x18D5BF67UL,
+    0xD1313380UL,
+    0xD1313380UL,
+    0xD1313381UL,
+    0xD1313380UL,
+    0x3FE30B0AUL,
+    0x0DD4F494UL,
+    0x35959573UL,
+    0x5C2FD856UL,
+    0xDEFDF826UL,
+    0x6DCEC9C6UL,
+    0x88E7767EUL,
+    0x91E14EA0UL,
+    0xE25F7F4CUL,
+    0x4DAF5A1DUL,
+    0x4DAF5A1EUL,
+    0x4DAF5A1EUL,
+    0x4DAF5A1DUL,
+    0x43D58606UL,
+    0x28AFCB7AUL,
+    0x78E2BA1AUL,
+    0x0D0110B7UL,
+    0x148BEECFUL,
+    0xAE22C06CUL,
+    0x9D8404CFUL,
+    0x95D2D3C4UL,
+    0x779339E5UL,
+    0x011DC043UL,
+    0x011DC044UL,
+    0x011DC044UL,
+    0x011DC043UL,
+    0xDF2CCB18UL,
+    0xF5B46E6BUL,
+    0x2AD90C2EUL,
+    0x188901AFUL,
+    0x7AD30091UL,
+    0x355EBC21UL,
+    0xA889560AUL,
+    0xC0102740UL,
+    0x061F4145UL,
+    0xDB6AAEF3UL,
+    0xDB6AAEF4UL,
+    0xDB6AAEF4UL,
+    0xDB6AAEF3UL,
+    0x7547ACEFUL,
+    0x1A1E4D37UL,
+    0xC0AF1371UL,
+    0xE8057AFBUL,
+    0xF23206C6UL,
+    0xEFE234A8UL,
+    0x56E8AE08UL,
+    0xE492F0ECUL,
+    0x99EA2D86UL,
+    0x16485990UL,
+    0x16485990UL,
+    0x16485991UL,
+    0x16485990UL,
+    0x6385B9DCUL,
+    0x269A0E99UL,
+    0x123CB587UL,
+    0x15F71A79UL,
+    0xB15E11DAUL,
+    0x4C58F8A6UL,
+    0x1891C052UL,
+    0x5D7C58AFUL,
+    0xE44B0FD7UL,
+    0x20580C19UL,
+    0x20580C1AUL,
+    0x20580C1AUL,
+    0x20580C19UL,
+    0xFC541DFEUL,
+    0x4578FCDCUL,
+    0x17991765UL,
+    0x061B6704UL,
+    0xD3E76E02UL,
+    0xB2E2D321UL,
+    0xE140BC5AUL,
+    0x59597568UL,
+    0x9C35ED5AUL,
+    0xF7C95DADUL,
+    0xF7C95DAEUL,
+    0xF7C95DAEUL,
+    0xF7C95DADUL,
+    0xDC88A9B8UL,
+    0x01BC9095UL,
+    0x164B7A16UL,
+    0xD72640BCUL,
+    0x3218D468UL,
+    0xE1E99BD6UL,
+    0x485CD879UL,
+    0x720DED1BUL,
+    0xF2C4CE57UL,
+    0x10BF80F9UL,
+    0x10BF80FAUL,
+    0x10BF80FAUL,
+    0x10BF80F9UL,
+    0x2BD4CA74UL,
+    0x01436EE1UL,
+    0x91F0B58AUL,
+    0x557B5A75UL,
+    0x12A2FA80UL,
+    0xC82BC550UL,
+    0x73F21BEBUL,
+    0xC3360FACUL,
+    0x2C381BB7UL,
+    0xA88476C0UL,
+    0xA88476C0UL,
+    0xA88476C1UL,
+    0xA88476C0UL,
+    0x98700175UL,
+    0xD3F04D20UL,
+    0xFACBFBABUL,
+    0xC8F0FD74UL,
+    0x8DE76C1AUL,
+    0x3E48F438UL,
+    0x7EFA0316UL,
+    0xBEABCEB0UL,
+    0xA5F5B409UL,
+    0x8E3EAE6FUL,
+    0x8E3EAE70UL,
+    0x8E3EAE70UL,
+    0x8E3EAE6FUL,
+    0x3BCFB45EUL,
+    0x21352F24UL,
+    0xB786E76DUL,
+    0xE19894E6UL,
+    0xA1F7BDFFUL,
+    0xA9CC6CFCUL,
+    0x52CCB897UL,
+    0x6B4C46FDUL,
+    0x3C0B2AF5UL,
+    0x454C4247UL,
+    0x454C4248UL,
+    0x454C4248UL,
+    0x454C4247UL,
+    0xB151872DUL,
+    0xFCEC7C61UL,
+    0xF962968CUL,
+    0x61CF9988UL,
+    0xC3884E98UL,
+    0xC143FD0CUL,
+    0xA2E73292UL,
+    0xFB558683UL,
+    0x5206B1C7UL,
+    0xD7956DEAUL,
+    0xD7956DEAUL,
+    0xD7956DEBUL,
+    0xD7956DEAUL,
+    0xFCEB4FB6UL,
+    0x620C46D4UL,
+    0x484A1867UL,
+    0x9171B131UL,
+    0x8CE408C7UL,
+    0x4E8A1CBFUL,
+    0xF585590FUL,
+    0xDDE49E60UL,
+    0x60F50C52UL,
+    0xA88035A4UL,
+    0xA88035A4UL,
+    0xA88035A5UL,
+    0xA88035A4UL,
+    0xE156572AUL,
+    0xBB02BDCFUL,
+    0x65E44D12UL,
+    0xDE3694A3UL,
+    0x9040AD9CUL,
+    0x4C91D36EUL,
+    0xBEFB818AUL,
+    0x11B90036UL,
+    0x2AE25AB6UL,
+    0xA68EC34AUL,
+    0xA68EC34AUL,
+    0xA68EC34BUL,
+    0xA68EC34AUL,
+    0x4BD4CCCBUL,
+    0x33DC9C67UL,
+    0xE5183AB1UL,
+    0x98419364UL,
+    0x9C3684D7UL,
+    0x10D75312UL,
+    0x6C2CEE72UL,
+    0xE6FAF766UL,
+    0xBFF90A71UL,
+    0x061D9CB3UL,
+    0x061D9CB4UL,
+    0x061D9CB4UL,
+    0x061D9CB3UL,
+    0xD973188AUL,
+    0xB1787B46UL,
+    0x12861C7AUL,
+    0x8BD64609UL,
+    0xE3E41A38UL,
+    0xDD1F8665UL,
+    0x0DF22E72UL,
+    0x676F8F95UL,
+    0x632154FDUL,
+    0xDF7AC054UL,
+    0xDF7AC054UL,
+    0xDF7AC055UL,
+    0xDF7AC054UL,
+    0x0C4C6679UL,
+    0xC77BE610UL,
+    0xEF08068DUL,
+    0x46EADB01UL,
+    0x28BA1D1DUL,
+    0x3D2662FDUL,
+    0xF7AB2CCFUL,
+    0xFB353EFCUL,
+    0x341A4E31UL,
+    0x24C00503UL,
+    0x24C00504UL,
+    0x24C00504UL,
+    0x24C00503UL,
+    0x18E114FEUL,
+    0xA1E6F614UL,
+    0xF15508F9UL,
+    0x4E5B27EDUL,
+    0x854C13C0UL,
+    0x44E94C58UL,
+    0x92C0E1F7UL,
+    0xF498ABBEUL,
+    0xD42CFA8DUL,
+    0x2BF49BCBUL,
+    0x2BF49BCCUL,
+    0x2BF49BCCUL,
+    0x2BF49BCBUL,
+    0x46B909FEUL,
+    0x09EE9D78UL,
+    0x2EB807FFUL,
+    0x4A680C71UL,
+    0x703AB35DUL,
+    0xA464BAC5UL,
+    0x444BF9FEUL,
+    0x37B57D87UL,
+    0xD3F63276UL,
+    0x3981BB14UL,
+    0x3981BB14UL,
+    0x3981BB15UL,
+    0x3981BB14UL,
+    0x989CDD95UL,
+    0x7C99E845UL,
+    0xE3148A3DUL,
+    0xC827100DUL,
+    0x3411E12FUL,
+    0xDAD038C5UL,
+    0x248A4538UL,
+    0xD256AF76UL,
+    0x9DE0007DUL,
+    0x8F3B93A7UL,
+    0x8F3B93A8UL,
+    0x8F3B93A8UL,
+    0x8F3B93A7UL,
+    0x46240A54UL,
+    0x39F2F5F2UL,
+    0x9C338DCFUL,
+    0x69DDE766UL,
+    0xB61CDABAUL,
+    0x14232F97UL,
+    0xEE887733UL,
+    0xE14853FAUL,
+    0xF4C08FE0UL,
+    0x60BF2678UL,
+    0x60BF2678UL,
+    0x60BF2679UL,
+    0x60BF2678UL,
+    0xFEA7AD0DUL,
+    0xA98ACB08UL,
+    0xEA0640FEUL,
+    0x98F75485UL,
+    0x7C17EE83UL,
+    0x90AA681CUL,
+    0x6476B346UL,
+    0x3EB0FE23UL,
+    0xC7CB7A55UL,
+    0x15C745C3UL,
+    0x15C745C4UL,
+    0x15C745C4UL,
+    0x15C745C3UL,
+    0x2E503C96UL,
+    0xC0B32116UL,
+    0x31F4CE47UL,
+    0x8FADF05AUL,
+    0x7DB40F6BUL,
+    0xA7CA7DA9UL,
+    0xE975582AUL,
+    0x8BAC7CBBUL,
+    0xB807A793UL,
+    0x0A5A59B2UL,
+    0x0A5A59B2UL,
+    0x0A5A59B3UL,
+    0x0A5A59B2UL,
+    0x1BE27A17UL,
+    0x22A3905EUL,
+    0xA44E41F4UL,
+    0x8853BE97UL,
+    0x95AB5BC7UL,
+    0x40EB763EUL,
+    0x19DC6A8AUL,
+    0xE771419DUL,
+    0xFEB8F7E2UL,
+    0x5C119861UL,
+    0x5C119862UL,
+    0x5C119862UL,
+    0x5C119861UL,
+    0xC0DF55F7UL,
+    0xB9046F40UL,
+    0x2E4B5C72UL,
+    0x927EE52BUL,
+    0x535CC18CUL,
+    0xA71D377BUL,
+    0xE32881C7UL,
+    0x6BB7B242UL,
+    0x21D30CA7UL,
+    0x38C976D0UL,
+    0x38C976D0UL,
+    0x38C976D1UL,
+    0x38C976D0UL,
+    0xE7C94337UL,
+    0x94C19762UL,
+    0xFCD8154EUL,
+    0x00B70512UL,
+    0xC60E5711UL,
+    0xD13D3DCBUL,
+    0xF36212ECUL,
+    0x34855F6EUL,
+    0xA44F12AFUL,
+    0xA1808E09UL,
+    0xA1808E0AUL,
+    0xA1808E0AUL,
+    0xA1808E09UL,
+    0x277C8C30UL,
+    0x8ED89FC9UL,
+    0x1B64DB1CUL,
+    0x48B9C53FUL,
+    0x052FB0DBUL,
+    0xECB98043UL,
+    0x3962CAF4UL,
+    0xE285CE7FUL,
+    0x9A893D29UL,
+    0x15A52782UL,
+    0x15A52782UL,
+    0x15A52783UL,
+    0x15A52782UL,
+    0xF4EF29E7UL,
+    0x28FBBCA5UL,
+    0x2FCD00D9UL,
+    0x850A5BB0UL,
+    0x5E5ABAA6UL,
+    0xD0EBF64CUL,
+    0x1F17CB9CUL,
+    0x9DD4AE50UL,
+    0x76F73366UL,
+    0xE218C088UL,
+    0xE218C088UL,
+    0xE218C089UL,
+    0xE218C088UL,
+    0x3852712AUL,
+    0xF1DA0965UL,
+    0xB236EB54UL,
+    0x1AB8576CUL,
+    0x67FA3460UL,
+    0x92E932C8UL,
+    0x3B984EC1UL,
+    0x4CD25825UL,
+    0x4DAA9DC3UL,
+    0x54BBDB72UL,
+    0x54BBDB72UL,
+    0x54BBDB73UL,
+    0x54BBDB72UL,
+    0x25FF0071UL,
+    0xE84C8B03UL,
+    0xBC4DFF88UL,
+    0x9915A62EUL,
+    0x1682520BUL,
+    0xA4365E24UL,
+    0x53E78679UL,
+    0x6F564823UL,
+    0xDC62EDACUL,
+    0xA6F8BF04UL,
+    0xA6F8BF04UL,
+    0xA6F8BF05UL,
+    0xA6F8BF04UL,
+    0xB2843122UL,
+    0xBA9671D0UL,
+    0xB85EB3D6UL,
+    0xEE2347A3UL,
+    0x6B80FC27UL,
+    0x3C9C4430UL,
+    0x90DDA6D7UL,
+    0x22A76CA7UL,
+    0x7C2F7680UL,
+    0x5FB769EEUL,
+    0x5FB769EEUL,
+    0x5FB769EFUL,
+    0x5FB769EEUL,
+    0xB8177DE2UL,
+    0x6983C053UL,
+    0x15C1032BUL,
+    0xE6A00C71UL,
+    0x06DB946FUL,
+    0xB13F7454UL,
+    0xC11D5C71UL,
+    0x0DA7F4ACUL,
+    0xEC2CF32EUL,
+    0x77576A8FUL,
+    0x77576A90UL,
+    0x77576A90UL,
+    0x77576A8FUL,
+    0x4114F26DUL,
+    0xF83CC526UL,
+    0x4F761BDEUL,
+    0x91EF5A11UL,
+    0x58A0C957UL,
+    0x30E9AF2FUL,
+    0x90D236C2UL,
+    0x82D06F84UL,
+    0xE57F083CUL,
+    0x3ABD4149UL,
+    0x3ABD414AUL,
+    0x3ABD414AUL,
+    0x3ABD4149UL,
+    0x993A2FD1UL,
+    0xFD3A0090UL,
+    0x9687C83BUL,
+    0xAD22D856UL,
+    0x65DF1A45UL,
+    0x866891B6UL,
+    0xF35BB638UL,
+    0x05282134UL,
+    0xD1EE280CUL,
+    0x19B1438EUL,
+    0x19B1438EUL,
+    0x19B1438FUL,
+    0x19B1438EUL,
+    0x709EEEBCUL,
+    0x16768F1AUL,
+    0x46C8C3F6UL,
+    0xF9A87B74UL,
+    0xF5BA6B9DUL,
+    0x23E1D01FUL,
+    0xF07104C6UL,
+    0xF5852CF2UL,
+    0xA1B755AEUL,
+    0x4A966F8AUL,
+    0x4A966F8AUL,
+    0x4A966F8BUL,
+    0x4A966F8AUL,
+    0x93B73C4DUL,
+    0x2F98FD60UL,
+    0xFCAF8A4EUL,
+    0xC20C796CUL,
+    0x96BE807AUL,
+    0xAE7D2200UL,
+    0x5C0AD659UL,
+    0x4CB0FF88UL,
+    0x1E348D61UL,
+    0x55651FE3UL,
+    0x55651FE4UL,
+    0x55651FE4UL,
+    0x55651FE3UL,
+    0x02EBB7F1UL,
+    0xAD250D20UL,
+    0x70996EF6UL,
+    0x9CA57D28UL,
+    0x03B9000BUL,
+    0x0AFE7734UL,
+    0x457E3C49UL,
+    0x8DF41D29UL,
+    0xE214E437UL
+};
+
+static double doubles[] = {
+    0.1,
+    0.2,
+    0.3,
+    0.5,
+    1.0,
+    2.5,
+    3.14159265358979323846264338327950288,
+    2.71828182845904523536028747135266250,
+    1e10,
+    1e-5,
+    123456789.0,
+    0.0001220703125,
+    1.7976931348623157e308,
+    2.2250738585072014e-308,
+    4.9406564584124654e-324,
+    3e-324,
+    1e300,
+    1e-300,
+    9007199254740993.0,
+    -1e-310,
+    6.360052435692181e-11,
+    0.000000000063600524356921820892242103859105079553815098591940113692544400691986083984375,
+    0.0000000000636005243569218208922421038591050795538150985919401136925444006919860839843751,
+    0.0000000000636005243569218176610678360738407245873748951936477169510908424854278564453125,
+    -1.0716253176239806e-57,
+    -1.17984549162352e+93,
+    -1.0420097469500895e+99,
+    -4.370842801918574e+37,
+    -4.6497539271780726e-05,
+    -3.392248419098114e-32,
+    8.515600958602375e+18,
+    8.018280444213444e+40,
+    1.0942789237234921e-12,
+    -2.356060924150663e-34,
+    -0.000000000000000000000000000000000235606092415066330317964260079534796604474519189938440399993026449777679160484136477654647061352743975248813512735068798065185546875,
+    -0.0000000000000000000000000000000002356060924150663303179642600795347966044745191899384403999930264497776791604841364776546470613527439752488135127350687980651855468751,
+    -0.0000000000000000000000000000000002356060924150663196269054197107522120423286505840109251392055060295828873127341678360600831128313092932557992753572762012481689453125,
+    9.117673563249563e-112,
+    3.243721788342587e-116,
+    -1.0637917469994479e+52,
+    2.7726819931975325e-46,
+    9.707923626425482e-26,
+    -2.644293503893849e+17,
+    -1.8823694837737637e+88,
+    8.123718850043593e-97,
+    4.776744873661006e-21,
+    -1.0767819797753699e-21,
+    -0.000000000000000000001076781979775369993932098865692732651069407453685087279511979445334457494709567981772124767303466796875,
+    -0.0000000000000000000010767819797753699939320988656927326510694074536850872795119794453344574947095679817721247673034667968751,
+    -0.0000000000000000000010767819797753699469123248328012323323199459647952601667653571744509566343594997306354343891143798828125,
+    -2.324684288113953e-68,
+    -8.60570277976208e+80,
+    1.1648640537671195e-117,
+    -1.7953407134555696e+81,
+    9.361478304583617e-51,
+    -1.2387213314942707e+106,
+    7.880911453115365e-37,
+    -8.69721279143927e-45,
+    6.341407652300274e-47,
+    2.930754057096215e-34,
+    0.000000000000000000000000000000000293075405709621537869654372106640907105133320720737574406127722961897503378663842678149222160943754289519347366876900196075439453125,
+    0.0000000000000000000000000000000002930754057096215378696543721066409071051333207207375744061277229618975033786638426781492221609437542895193473668769001960754394531251,
+    0.0000000000000000000000000000000002930754057096215271785955317378583225429874521148100591453402025417027115309138740365546582124223196075263331294991075992584228515625,
+    -3.824331123234436e+44,
+    -2.5139583789731787e+86,
+    -7.25091826971561e+93,
+    -2.8676682396407176e-34,
+    -35707131731.684685,
+    -4.2864590619953434e-107,
+    3.4760039229184477e+31,
+    -9.218729125447749e+38,
+    3.4003850028947195e+47,
+    -2.7845165685124384e-105,
+    -0.00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000278451656851243855191191699785483946135248232015138082467263248138915792897181250607298407509288633911388039337196572522327649029129794794307888180772922720897818462294733003378090222387663103012923568351660592254756123324573723727335028135427469523653968251630796970630399300716817378997802734375,
+    -0.000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000002784516568512438551911916997854839461352482320151380824672632481389157928971812506072984075092886339113880393371965725223276490291297947943078881807729227208978184622947330033780902223876631030129235683516605922547561233245737237273350281354274695236539682516307969706303993007168173789978027343751,
+    -0.000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000002784516568512438455097119126621882640901716487992584635417152680169386291777738972462575372650737217546824536446600802521837927602436259458807971832920469320920233356613567733720000592113360961668434724187237070277327042084363677268818527289800474066133154256441617491191209410317242145538330078125,
+    -789.5417274099098,
+    1.2491897553375012e+69,
+    -4.783428174410215e-120,
+    -4.951556279958291e-118,
+    0.9887697385320351,
+    -4.0239111670501e+18,
+    5.419766402971194e+114,
+    5.795634425858736e-63,
+    8.81556752595578e-119,
+    9.799674338028649e-77,
+    0.000000000000000000000000000000000000000000000000000000000000000000000000000097996743380286493877158091912741085998798847753754300293483633472102172801769864143962569528751839056378194921950706897731044761586673787971007908460772028505493350018313619384992011078819827696317901200018241070210933685302734375,
+    0.0000000000000000000000000000000000000000000000000000000000000000000000000000979967433802864938771580919127410859987988477537543002934836334721021728017698641439625695287518390563781949219507068977310447615866737879710079084607720285054933500183136193849920110788198276963179012000182410702109336853027343751,
+    0.0000000000000000000000000000000000000000000000000000000000000000000000000000979967433802864900419288221488922163927270079207264542190965143319072000583721163415365892774113261969267230177851191811813794763273936995585714940664603856871223936831859223122533669695526960252696113684578449465334415435791015625,
+    3.0530828168918766e-20,
+    -2.6378086527898698e-118,
+    -1.0751725811911303e-67,
+    -3600692017674245.0,
+    6.736570937419994e-106,
+    -7.467663138288293e+22,
+    4.322956810601001e+108,
+    -1.6805222768133196e+51,
+    -2.844863073539981e-57,
+    -3.886740867479616e+37,
+    -38867408674796163265762879906036842496.0,
+    -38867408674796163265762879906036842496.01,
+    -38867408674796162085171259188625539072.0,
+    -254.65768177550353,
+    -1.1633245167595408e-94,
+    1.0900081636320767e-120,
+    -1.2522604093789148e-08,
+    -1.6938210556688591e-74,
+    -1.7568894620026423e+105,
+    1.1038834693997212e+71,
+    1.596870175001468e-24,
+    7.057759922613091e-32,
+    -6.804726933945697e+115,
+    -68047269339456976789494739716173905897741588099031030844172173367924418785989916873006380954524094879453974724870144.0,
+    -68047269339456976789494739716173905897741588099031030844172173367924418785989916873006380954524094879453974724870144.01,
+    -68047269339456974602244014933161981525239360981409665491002742474711982360219310463053381755148171655940797701816320.0,
+    4.81729848714618e+17,
+    5.765519879654048e+67,
+    1.281781263584159e+21,
+    9.342808280341161e+42,
+    -5.799146106231734e-50,
+    3.915592959945302e+36,
+    -5.1710557932314567e+101,
+    2.232007271314318e+67,
+    4.1172350211851853e+105,
+    -7.710178544957503e+119,
+    -771017854495750402511798546695101036526924057028394743216664762916344170451112498207620371808805581712912692687637839872.0,
+    -771017854495750402511798546695101036526924057028394743216664762916344170451112498207620371808805581712912692687637839872.01,
+    -771017854495750366675882671850233667607847567933286293270336807161951612051286882786950432926230455618872800341923987456.0,
+    -2.0986589331539337e-40,
+    3.960824363542106e-100,
+    4.407741634552523e-48,
+    -2.4321264539236836e-13,
+    -1.1591798386160962e-98,
+    3.3097653592933484e+98,
+    -1996.6565005617829,
+    -4.3188588090632306e+74,
+    5.6615939462430036e-42,
+    -2.3825991083041407e-103,
+    -0.0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000002382599108304140902270123564313147447572174918103367492238923936892818678278451555836250019248028065285441200160820244044505146363174292198835095932182443774624011540757838482527833443374200103202852947141477061726984151945078895041039242534471273853198536318842570835840888321399688720703125,
+    -0.00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000023825991083041409022701235643131474475721749181033674922389239368928186782784515558362500192480280652854412001608202440445051463631742921988350959321824437746240115407578384825278334433742001032028529471414770617269841519450788950410392425344712738531985363188425708358408883213996887207031251,
+    -0.00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000023825991083041407783471822891349627173951946529401083699919097913315109826700374328149268801220771896796097032963531429866637861214313309389683311644272336779098339198506227384498793547172144155730277191998849308210843872585207382352385973319442707550781801462136400004965253174304962158203125,
+    -3.9163600454215325e-10,
+    -3.1395170280657455e+62,
+    3.7112351435311606e+39,
+    -181729219891818.4,
+    -8.846663008475884e+21,
+    -9.96410059551182e-22,
+    1.9308141464998496e+105,
+    -3.396381493639709e+28,
+    4.215945428487056e-98,
+    -2.5178034532220526e-102,
+    -0.0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000025178034532220528120592937946947641105677746744839947182792880926084310961260350566881427976089726546454562596840824136794198703223495623258929270387286643936713929298297723042437954060189037344516729058291367139566185984811179014832784824605663056944215849597412670846097171306610107421875,
+    -0.00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000251780345322205281205929379469476411056777467448399471827928809260843109612603505668814279760897265464545625968408241367941987032234956232589292703872866439367139292982977230424379540601890373445167290582913671395661859848111790148327848246056630569442158495974126708460971713066101074218751,
+    -0.00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000251780345322205271292094077455221632642619046235338742048167677615938493963930375827108428630821195416079106219250873283314678212895519331799951522452449631630005083310399970898143213509331518434781272347586300923189878673187137603863796629854470321592530002163812241633422672748565673828125,
+    1.0829942044983578e+46,
+    1.3575846320040963e-80,
+    -2.120251355596461e-67,
+    1.354574399542631e-116,
+    9.627360966819952e+87,
+    -362003880.1480858,
+    7.587051939517741e+99,
+    9.662929376855348e-30,
+    2.1241238758756726e+76,
+    -0.3248131374822652,
+    -0.3248131374822652295275560163645423017442226409912109375,
+    -0.32481313748226522952755601636454230174422264099121093751,
+    -0.32481313748226521564976820855008554644882678985595703125,
+    4.7145366560967596e-108,
+    7.79588220891275e-94,
+    1.7295228005397847e+94,
+    -3.0028767838721117e-68,
+    1760.4211515411498,
+    1613422379607.5164,
+    1.6445022248968521e+75,
+    4.41862921320189e-21,
+    -5.023388278827322e+21,
+    4.082485364960611e+70,
+    40824853649606116123548236228600357984354934086048658069824945432559616.0,
+    40824853649606116123548236228600357984354934086048658069824945432559616.01,
+    40824853649606114591052695362711499626007906935739474451085823248957440.0,
+    2.7558086452528096e-119,
+    1.5174701509071144e-78,
+    -9.263793830602654e-81,
+    6.741632706757047e-44,
+    -4.7591528822039214e+22,
+    -2.1010926904898807e-95,
+    -2.2622067151899713e+59,
+    5.5887959164970465e-93,
+    -3.6989682701118204e-116,
+    -3.495554915605331e-103,
+    -0.0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000003495554915605331364534941062081024767335316505206888973239949600994169845083815265381991503473859844921683016019135456032692840457859838193976024305522657560009958648028683825092652230771194254765915549894233064085090096983883456076990060340040959393527464360573731028125621378421783447265625,
+    -0.00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000034955549156053313645349410620810247673353165052068889732399496009941698450838152653819915034738598449216830160191354560326928404578598381939760243055226575600099586480286838250926522307711942547659155498942330640850900969838834560769900603400409593935274643605737310281256213784217834472656251,
+    -0.00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000034955549156053312406119997869028400371583362400436298509929354554328621494754011423606683643479089693158515191546683549748514802161168769341092595377674474632957810271214680810146981421142085671360903219526409331791903322973252992711894151375139562954071081879448001927812583744525909423828125,
+    299961405057064.3,
+    5.742090693857542e+27,
+    1.1828372127300171e-43,
+    6.751621596584307e-57,
+    -3.2609265067323185e-85,
+    7.119576495227474e-118,
+    -3.7741258328281224e+89,
+    6.563865953436818e-08,
+    -3.6289796258469434e+96,
+    9.978598747910329e+45,
+    9978598747910329483554675531404533629829775360.0,
+    9978598747910329483554675531404533629829775360.01,
+    9978598747910329166642025474347183255653974016.0,
+    -3.036489588136449e-88,
+    -324883.09185187373,
+    4.81488618884768e-113,
+    1.2614153376281498e+103,
+    -1.556462563921274e-33,
+    4.413308852467961e+53,
+    -1.0159162928771787e-109,
+    -6.40710778788017e-43,
+    104500898925.60152,
+    1.1981368638719201e-05,
+    0.0000119813686387192022488631763799116214386231149546802043914794921875,
+    0.00001198136863871920224886317637991162143862311495468020439147949218751,
+    0.00001198136863871920182534670275276145190446186461485922336578369140625,
+    -1.1685945240889852e-59,
+    2.2733982311022162e-96,
+    -1.5051023693766023e+67,
+    -3.8982252131564674e-36,
+    -2.6881679790071117e+75,
+    -3.3181113292148646e+31,
+    -997609711.2387581,
+    -1.3176689274198021e+119,
+    272193012976981.2,
+    -2.0074664507264524e-83,
+    -0.0000000000000000000000000000000000000000000000000000000000000000000000000000000000200746645072645262560372269794327754125294924429139083267750424031336387414976197255587528308338661758805027262348868369635882514506348175963770521393366865070978031825732265181581507216668014688894485972846248866829910184605978429317474365234375,
+    -0.00000000000000000000000000000000000000000000000000000000000000000000000000000000002007466450726452625603722697943277541252949244291390832677504240313363874149761972555875283083386617588050272623488683696358825145063481759637705213933668650709780318257322651815815072166680146888944859728462488668299101846059784293174743652343751,
+    -0.00000000000000000000000000000000000000000000000000000000000000000000000000000000002007466450726452534164731395361278963990265379864114076524704654489470976939694514345264410544330963552208523809726311761714476875141223181994396231220168560626396845454023294574693682079859266212477683492300395418084235643618740141391754150390625,
+    -1.688727948168982e-52,
+    5.044647739644718e-27,
+    1.6411037957656298e-46,
+    4.143274325158631e-44,
+    8.31833781807992e-71,
+    3.179160901832101e+72,
+    -2.9614156253915096e+106,
+    -1.7166768786489678e-96,
+    -4.680518211441061e-34,
+    4.4094721561610026e-27,
+    0.000000000000000000000000004409472156161002922194078840258384652889770055502185327766724964028175284304345016295201276079751551151275634765625,
+    0.0000000000000000000000000044094721561610029221940788402583846528897700555021853277667249640281752843043450162952012760797515511512756347656251,
+    0.0000000000000000000000000044094721561610027428278754066817995746523833943929205238931964038341564993996046784019426922895945608615875244140625,
+    1.4417175631128718e-61,
+    8.85336318994025e+112,
+    20490632276.94712,
+    1.7481244033121097e+62,
+    -3.5881425290123194e+22,
+    2.347010193498487e-14,
+    1.4228298515349044e-110,
+    -2.0810346297722145e+61,
+    -9.662169406660809e+58,
+    2.459641148550924e+52,
+    24596411485509240192951159455345998855868197986369536.0,
+    24596411485509240192951159455345998855868197986369536.01,
+    24596411485509238863723163670430125952061137706024960.0,
+    -8.836536221887975e-118,
+    1.6994143338753249e-15,
+    -1.7004530563399764e+18,
+    -5.8540589165327114e+60,
+    6.350363049938884e-21,
+    -5.009273140764844e+54,
+    -8.787284467271049e-46,
+    -1.8035808032336653e+106,
+    -531.2404306525483,
+    -6.270248740386245e-105,
+    -0.0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000062702487403862456587484550605306377134670357684211858104765534347969821865147831547599279874595477128421535897168637377916314105282692601478987415324757753044918171154334331079183585166837532748234454136288313552694014664929079192504276165855923638658086204100694516228031716309487819671630859375,
+    -0.00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000627024874038624565874845506053063771346703576842118581047655343479698218651478315475992798745954771284215358971686373779163141052826926014789874153247577530449181711543343310791835851668375327482344541362883135526940146649290791925042761658559236386580862041006945162280317163094878196716308593751,
+    -0.00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000627024874038624546511885931806472407256550410410359343196559383235743891212663608753911058257524946970804187586613389238875428515054588317935692158285825952837591458276590850779655525315721313790184349497009365072893308417016079924136410845664392152499556389033674719257760443724691867828369140625,
+    8.526272154998902e-120,
+    8.412073891741027e-84,
+    1.1491561121185307e+119,
+    0.4212646722713542,
+    5.737095689744572e+23,
+    9.039823626284411e-21,
+    6.617339458015832e+51,
+    6.235575275185139e-90,
+    3.361801778464836e-48,
+    120447654.4182412,
+    120447654.418241210281848907470703125,
+    120447654.4182412102818489074707031251,
+    120447654.4182412065565586090087890625,
+    4.167114644650258e+57,
+    1313163813008411.5,
+    -3.696062262355432e+86,
+    -3.42439169396328e-07,
+    -1.901080864026479e-10,
+    9.002123363222411e+111,
+    -2.997127788638357e+21,
+    1.4849785341597828e+103,
+    -1.9183485380813949e-78,
+    3.944653709700282e+109,
+    39446537097002820987957060927696328407543363667090625453958265845233962225853624406449472599799826623456346112.0,
+    39446537097002820987957060927696328407543363667090625453958265845233962225853624406449472599799826623456346112.01,
+    39446537097002818902032221161182576068654978735887388537254630731315241574445804267563021642143039491657433088.0,
+    5.68874642331369e-78,
+    -3.7306500084526585e+50,
+    2.5114077260173687e-09,
+    6.4684588336570744e-83,
+    4.772125326856196e+94,
+    3.0945349742508518e-27,
+    -2.747241305930033e+118,
+    4.438041790842435e-109,
+    -2.7764568697594654e+60,
+    -3.4181961725626985e-40,
+    -0.00000000000000000000000000000000000000034181961725626986692534279605326755047513367404496791917687270392553591090011949580108466140607762235995893684847857230124645866453647613525390625,
+    -0.000000000000000000000000000000000000000341819617256269866925342796053267550475133674044967919176872703925535910900119495801084661406077622359958936848478572301246458664536476135253906251,
+    -0.000000000000000000000000000000000000000341819617256269856729554564805572977490299128331612363393803550692775680027250034129642091722505392324183738639309382278952398337423801422119140625,
+    2.612506937917333e-31,
+    -1.1764367126394807e-91,
+    31799317617830.22,
+    -2.247641198638277e+22,
+    -8.776910530646258e-29,
+    -1.7305809989974669e-18,
+    -3.714372820208979e-46,
+    -2.885830344451367e+116,
+    1.0279045103816466e+46,
+    -31963016.620325595,
+    -31963016.62032559700310230255126953125,
+    -31963016.620325597003102302551269531251,
+    -31963016.620325596071779727935791015625,
+    1.2130550665001909e+115,
+    3.137972741406838e+87,
+    1.6072736978399517e+40,
+    -6.245357492971262e+108,
+    1.3217165277861762e+24,
+    1.601581428067735e-51,
+    -3.7057696672473736e-07,
+    -1.6902434519987258e+62,
+    -3.7818814930552363e+118,
+    6.1810631137196405e+40,
+    61810631137196409990158199291437459177472.0,
+    61810631137196409990158199291437459177472.01,
+    61810631137196407572306560062179109765120.0,
+    1.1406066825260407e-38,
+    15141856.741545917,
+    -1.997470875944907e+59,
+    -9.501620907891247e+53,
+    5.404948818006096e+105,
+    2.6680894930506402e-18,
+    2137599142.3946078,
+    1.2220864444937027e-116,
+    -4.881689413742802e-69,
+    9.208806427940242e-100,
+    0.0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000009208806427940242875400515607278135318668734524381877677656967841704073313679631473810477767247133479974304500832662609321207231024215949290221722409998823999470692428079921932931220211139530915081243416389786328256591697591990079509461158903567412625790211677667684853076934814453125,
+    0.00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000092088064279402428754005156072781353186687345243818776776569678417040733136796314738104777672471334799743045008326626093212072310242159492902217224099988239994706924280799219329312202111395309150812434163897863282565916975919900795094611589035674126257902116776676848530769348144531251,
+    0.00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000092088064279402423678121481441482906638638233582731683129331979014849569924675672259151381893872386934928186896758053633882890194740367799698074539212734834433294208928439662451879202640005175385494792827410249600660262614358478692329017161540168079358892327945795841515064239501953125,
+    4.2776957303771015e-88,
+    1.349231865813342e-51,
+    -2.7683350868442916e+100,
+    4.7317249658966e+53,
+    0.18524234250048335,
+    5.950351892822823e-48,
+    -1.2860668075929363e-46,
+    -1.0654465319223188e-68,
+    2.1168058579497018e-09,
+    2.1520606600491249e+18,
+    2152060660049124992.0,
+    2152060660049124992.01,
+    2152060660049124928.0,
+    3.103045718977933e+85,
+    -4.221253705487624e+89,
+    2.2887879353218346e+119,
+    5.2854404749035016e+85,
+    6.138491385719564e+105,
+    2.9059406312209627e+93,
+    1.3017828235114041e-05,
+    -1.1386213261509343e+109,
+    4.1162001304455865e+69,
+    -473383785.10678595,
+    -473383785.1067859828472137451171875,
+    -473383785.10678598284721374511718751,
+    -473383785.10678596794605255126953125,
+    1.7097333535709727e+21,
+    2.359028839969548e-23,
+    4.302620317117024e-65,
+    6.897207294114233e+102,
+    -5.797330788108857e-25,
+    -5.559830744964225e+87,
+    1.422579277982757e+104,
+    1.5865223944131614e+51,
+    1.036181855324549e+57,
+    -2.644025858792469e+74,
+    -264402585879246910222978119085275889627815299501707920285074440588655329280.0,
+    -264402585879246910222978119085275889627815299501707920285074440588655329280.01,
+    -264402585879246897668774648311914361956236453086375088080363551660586303488.0,
+    3.2719739759547607e+62,
+    -1.1134671786585148e-47,
+    -5.828976733067874e-12,
+    2.1223606650963056e-11,
+    -2153714458204714.8,
+    515.6008280614436,
+    1.9336227944458408e+41,
+    -2.673870049887628e-49,
+    3.517839418071483e-18,
+    3.82863137697525e-117,
+    0.00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000382863137697525023940905259576813066842881324209418958367435174993930897300140734947301635464770330821401054905126996376917482956426686613038732561434433469022607393145761522672726144273291813369936089225799414123657027172303720557536637922113447300067841547338346826823658002104965904222044770222055376507341861724853515625,
+    0.000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000003828631376975250239409052595768130668428813242094189583674351749939308973001407349473016354647703308214010549051269963769174829564266866130387325614344334690226073931457615226727261442732918133699360892257994141236570271723037205575366379221134473000678415473383468268236580021049659042220447702220553765073418617248535156251,
+    0.000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000003828631376975250063303961161561439293479724907117355518263476046957130569103567871877301970928845298021929244265145357477181128896346357409622788230962726515006864004269262086534737378831280590275792179999121062646030843678872899665036968268454461512693152353418170939795962751586310031381987784016018849797546863555908203125,
+    2.985551580287932e-43,
+    2.6560005673170293e+107,
+    3.017293524167855e-69,
+    1.919159903945729e-58,
+    -1.0455092052538127e+55,
+    -1.3892161711421883e-110,
+    -1.8582607562902604e-07,
+    -7.651221118890484e+80,
+    1.4964342190865115e-77,
+    4.1496646581934576e+88,
+    41496646581934579579252141536068550621591609306033962971599924195581324750807068978446336.0,
+    41496646581934579579252141536068550621591609306033962971599924195581324750807068978446336.01,
+    41496646581934577812405076757684221038294108563115447144116027319962366629200867685826560.0,
+    -7.506129541298894e-89,
+    -8.84939999401567e+42,
+    -5.613337699772182e-25,
+    4.573817587636839e+29,
+    -1.1106317613608918e+104,
+    -9.063432104732625e+108,
+    3.1609798766789276e-50,
+    -2.09840192277785e+29,
+    -4.100195708032004e-116,
+    8.237771510062497e-59,
+    0.000000000000000000000000000000000000000000000000000000000082377715100624980767320188121095262313131323220182212918300985400919497735494531192875003707044954711742850618861012497429057979871142622067887637503369457903090733452700078487396240234375,
+    0.0000000000000000000000000000000000000000000000000000000000823777151006249807673201881210952623131313232201822129183009854009194977354945311928750037070449547117428506188610124974290579798711426220678876375033694579030907334527000784873962402343751,
+    0.0000000000000000000000000000000000000000000000000000000000823777151006249763456018879127396141153191694663776325069087988095434286033583544665560004878823010303310088410494404984288434794425148604063969767254127507527527995989657938480377197265625,
+    2.355138132048264e+51,
+    1.3696568456044458e-46,
+    1.4655827599375633e+55,
+    13035649.322812745,
+    3.2218967101192154e-27,
+    3.482114846409714e+39,
+    -7.409849947195261e+28,
+    6.866387669189068e-67,
+    6.056363253019819e+47,
+    4.90399481396566e+18,
+    4903994813965660672.0,
+    4903994813965660672.01,
+    4903994813965660416.0,
+    -3.6716494565818696e+60,
+    -5.228474632469664e+43,
+    7.156245884474714e+87,
+    -1.291345269687055e+116,
+    2.8692042589931323e-46,
+    2.39592735430846e+35,
+    -6.988313896127644e-100,
+    -3.027788804344546e+39,
+    -1.4411560650376421e+38,
+    1374584945835.8367,
+    1374584945835.8367919921875,
+    1374584945835.83679199218751,
+    1374584945835.83673095703125,
+    4.6799961299498614e+101,
+    -6.028535121971927e-79,
+    7.546000498045964e-77,
+    -4.8820344597791045e+55,
+    4.3039759721711945e+46,
+    1.974661496527094e+115,
+    1.8857156940992104e-51,
+    3.7697762092083295e+118,
+    -2.1036813192564193e+49,
+    -1.5214606750948682e+56,
+    -152146067509486826968058947805212462207889590695711735808.0,
+    -152146067509486826968058947805212462207889590695711735808.01,
+    -152146067509486821523541077070197046793895871787420352512.0,
+    1.3439614997129237e-58,
+    -4.813276200985488e+119,
+    -7.346094791526029e+83,
+    5.330146137316962e-49,
+    -7.628232721152401e-44,
+    -2.5448358349759075e+48,
+    5.245943332150417e+80,
+    4.389716436598825e-60,
+    1.702336195299796e-12,
+    1.824853900133364e+44,
+    182485390013336416534533545801981665138966528.0,
+    182485390013336416534533545801981665138966528.01,
+    182485390013336406631013231518939465945972736.0,
+    -5.665882859153882e-23,
+    -3.260943266479862e-14,
+    -9.860821029940926e-96,
+    -6.024868505689075e-88,
+    -1.352747917389258e-112,
+    -3.116380366982028e+102,
+    2.6036421788321547e+69,
+    6.518367494683141e-102,
+    2.99680701609222e-62,
+    -9.36857809135418e-60,
+    -0.0000000000000000000000000000000000000000000000000000000000093685780913541804641870278772679991078710543513647974932472127018805801828833485865745539202889698744404562082297612001621862347830402430965020854126447391596599345575668849050998687744140625,
+    -0.00000000000000000000000000000000000000000000000000000000000936857809135418046418702787726799910787105435136479749324721270188058018288334858657455392028896987444045620822976120016218623478304024309650208541264473915965993455756688490509986877441406251,
+    -0.00000000000000000000000000000000000000000000000000000000000936857809135418018782963411424577109550779474175201121753520103991957586212483754117961621909130401935221609711653795022467282850625100799265891911402244496276381369170849211513996124267578125,
+    4.9698935810176165e-61,
+    -2.1664669039729554e-35,
+    8.337098753016078e+112,
+    -2.6029496002386137e+23,
+    -7.964942484348154e-32,
+    63657481700.156746,
+    2.5981945508947638e-21,
+    -2.3923816756871259e+52,
+    -9.448966746445133e+69,
+    1.1045379371093207e+57,
+    1104537937109320791407842635350899017701935155841656160256.0,
+    1104537937109320791407842635350899017701935155841656160256.01,
+    1104537937109320747851699669470775694389985404575325093888.0,
+    47554778.14977556,
+    5.258310830781926e+84,
+    -5.1629127124427016e-77,
+    3.141417427827753e-110,
+    1.0656699198824651e-23,
+    -4.831756306151559e+19,
+    6.276525089708572e+29,
+    0.004560820607470718,
+    -3.3287749373674987e-34,
+    -8.845038345180206e+75,
+    -8845038345180206373399332051993501387082131547523505253442813488859046739968.0,
+    -8845038345180206373399332051993501387082131547523505253442813488859046739968.01,
+    -8845038345180205971664820987245932501591608462232854622892065043160837914624.0,
+    1.420042910834714e+53,
+    6.220727126188552e+40,
+    -1.049442852783018e-89,
+    -6.056649349615595e+80,
+    -5.28443682776169e-110,
+    -1.0367090291984288e-97,
+    1.612672627371544e+98,
+    7.665228937123785e-22,
+    4.579011040122119e-106,
+    -3.858987766788136e-19,
+    -0.0000000000000000003858987766788136032679914462300974396113072585632336876197701069912682214635424315929412841796875,
+    -0.00000000000000000038589877667881360326799144623009743961130725856323368761977010699126822146354243159294128417968751,
+    -0.00000000000000000038589877667881359123092929380987335801144511740743794675663480564509200121392495930194854736328125,
+    2.6152649641151123e-25,
+    -1.3285090804689701e-90,
+    1.3054049283000202e+60,
+    -2.533019176808741e+95,
+    -1.7101731344441016e-47,
+    -3.1023135327972266e-78,
+    -1.0981256141530135e+70,
+    6.059224578253885e-24,
+    2.7356167089639935e-50,
+    -1.540997979353776e-56,
+    -0.00000000000000000000000000000000000000000000000000000001540997979353776100765841307803310292992011627733984676513021982421338880089845933702379506576327475887315289108269233804006431064658662016104116732062578876139014028012752532958984375,
+    -0.000000000000000000000000000000000000000000000000000000015409979793537761007658413078033102929920116277339846765130219824213388800898459337023795065763274758873152891082692338040064310646586620161041167320625788761390140280127525329589843751,
+    -0.000000000000000000000000000000000000000000000000000000015409979793537760441678470651363579960600160596852860472472019940517251951985028716054962653710455087652437143522811122168036854591722266668370362741047330246146884746849536895751953125,
+    7.768831517294668e+91,
+    3.3603034331437504e+102,
+    6.8911030282068e-17,
+    -2.7406636463268025e+107,
+    -2.0636815813820666e-86,
+    -2.243688940468062e-31,
+    -346014450478805.75,
+    -4.330934772703891e-88,
+    -1.0067878494855086e+116,
+    -1194.0382571661528,
+    -1194.0382571661529027551296167075634002685546875,
+    -1194.03825716615290275512961670756340026855468751,
+    -1194.03825716615284591171075589954853057861328125,
+    -2.1218932987397822e-105,
+    -3.3818461722431706e+68,
+    6.598999765788554e-58,
+    2.3402162534048014e+75,
+    -7.586861332887646e-14,
+    -1.319836764265253e+57,
+    -1.6994738642925456e+31,
+    -6.3366912747711735e-24,
+    8.588995643620153e+89,
+    -9626.608897519256,
+    -9626.6088975192569705541245639324188232421875,
+    -9626.60889751925697055412456393241882324218751,
+    -9626.60889751925651580677367746829986572265625,
+    -8.217363937894901e-44,
+    -1.4955233891265214,
+    -179498322.83197498,
+    -1.1881735163818319e+36,
+    14581029103814.416,
+    3.503261036538848e+31,
+    3.973172062670339e+69,
+    8.105290547703268e+20,
+    -2.6114555471484122e+103,
+    -2.1430416558341733e-54,
+    -0.0000000000000000000000000000000000000000000000000000021430416558341734038472710493411764915709994963433336365780896579949411535181309479231370322541370570421494698187731066282261374888689730959512314001358390669338405132293701171875,
+    -0.00000000000000000000000000000000000000000000000000000214304165583417340384727104934117649157099949634333363657808965799494115351813094792313703225413705704214946981877310662822613748886897309595123140013583906693384051322937011718751,
+    -0.00000000000000000000000000000000000000000000000000000214304165583417333140183841872747755149804516924099939111784007288183563685721182843912648351137613912589785413110831099660662311384633584888936841394979637698270380496978759765625,
+    3.3605701185541186e-116,
+    -1.125326698210292e+106,
+    2.885788535690432e+77,
+    1.315495700451153e+85,
+    2.8545255974633764e-74,
+    1.3724693452354264e-101,
+    -8.9411920614976e+70,
+    -6.984175673671074e+78,
+    -3.054702505065301e+20,
+    -2.8511860825113084e+28,
+    -28511860825113086230907584512.0,
+    -28511860825113086230907584512.01,
+    -28511860825113085131395956736.0,
+    -9.383802017830455e+33,
+    -5.990709252739029e-15,
+    3.332429691552563e-92,
+    8.712774299158849e+42,
+    -2.3591392524335826e+100,
+    5.944851603877249e+31,
+    4.020303473485692e+88,
+    6.456362868252353e-39,
+    -6.992723398331854e+108,
+    1.3222615894624956e+36,
+    1322261589462495686088900507546419200.0,
+    1322261589462495686088900507546419200.01,
+    1322261589462495649195412360127315968.0,
+    -2.3289158952884235e-47,
+    -3.6507463962113566e-56,
+    -61521497982086.9,
+    1.3260339392206193e-110,
+    -5.365349931266743e+115,
+    -2.289911183862401e-59,
+    -7.349822823542337e-07,
+    -3.500732830968753e+45,
+    1.381290550762251e+104,
+    -2.0228655203077846e-100,
+    -0.0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000002022865520307784700674294429686825908252301691278545334435527407389519641950390330412196938232556641596075409067116665079674136129741426239403304182186419687612540939013593699037596302975196408821078029993708478364962949131611326035197894821350377003721376922840136103332042694091796875,
+    -0.00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000020228655203077847006742944296868259082523016912785453344355274073895196419503903304121969382325566415960754090671166650796741361297414262394033041821864196876125409390135936990375963029751964088210780299937084783649629491316113260351978948213503770037213769228401361033320426940917968751,
+    -0.00000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000020228655203077846372257484967955953264016877955149566638450561648621301017988822994252794910000697932858896826725095093380593596859690300743515206210957521180948819971090992380696838095828197367546075132876133073411422696120935497506279644776565514174837545624541235156357288360595703125,
+    -4.804999997789709e-55,
+    -1.0182217914452954e-61,
+    2.2863629407490975e-90,
+    1.3603715520947994e-73,
+    2.1197003811434406e-99,
+    1.0570755619768021e+53,
+    5.8548155704595935e+32,
+    -9.494863175261247e+48,
+    3.617746239781172e-32,
+    -2.2188121581550354e-63,
+    -0.0000000000000000000000000000000000000000000000000000000000000022188121581550355818529561570140111698506578114640489149084902653301734392410808837861766570422708105968767427314259239427546969477142765650235170757677079949633791589036491131992079317569732666015625,
+    -0.00000000000000000000000000000000000000000000000000000000000000221881215815503558185295615701401116985065781146404891490849026533017343924108088378617665704227081059687674273142592394275469694771427656502351707576770799496337915890364911319920793175697326660156251,
+    -0.00000000000000000000000000000000000000000000000000000000000000221881215815503551438288932033866253401978388333592726556473741817172511874339752309405319483580942019447437185417415393847896299342002971349930655364312445079928715063743993596290238201618194580078125,
+    -2.9919017456023663e+50,
+    1.56617858136205e+60,
+    2.2652011191411585e-32,
+    1.712671926294869e+68,
+    -1.245772316961768e+84,
+    -3.187757564956354e+62,
+    1.4343623291017843e-106,
+    2.4802624131784215e+98,
+    3.756649140111123e-05,
+    -1.004677512906134e-16,
+    -0.00000000000000010046775129061340714919684577185799148925803402489058402391464142056065611541271209716796875,
+    -0.000000000000000100467751290613407149196845771857991489258034024890584023914641420560656115412712097167968751,
+    -0.000000000000000100467751290613404067708934752280626599693325889006874362952004275939543731510639190673828125,
+    -1.7440037806932525e-71,
+    -7.8399065085492e-112,
+    -6.254398084208025e-37,
+    3.883605320614894e-35,
+    3.1764382425229995e+115,
+    1.2347662980770667e-109,
+    -1.195150114500403e-26,
+    -1.3656227210393165e+17,
+    7.837075900107999e+108,
+    -8.598660481301098e+102,
+    -8598660481301098294034546870303981441205028196122482298409779686069297653951145276971915254330124402688.0,
+    -8598660481301098294034546870303981441205028196122482298409779686069297653951145276971915254330124402688.01,
+    -8598660481301098045372928665410660363513904122712062248181704287395438933719156830392166748063436636160.0,
+    2.86819516122857e+102,
+    -5.123023822276218e+68,
+    -1.529919898123685e-79,
+    -4.384417001443621e+50,
+    -5.291055780200998e-37,
+    7.936260270873162e-103,
+    -7.827392029737702e-53,
+    3.1938101968169694e-81,
+    -5.409837797068452e-45
+};
+
+static unsigned long doubles_bits[] = {
+    0x9999999AUL, 0x3FB99999UL,
+    0x9999999AUL, 0x3FC99999UL,
+    0x33333333UL, 0x3FD33333UL,
+    0x00000000UL, 0x3FE00000UL,
+    0x00000000UL, 0x3FF00000UL,
+    0x00000000UL, 0x40040000UL,
+    0x54442D18UL, 0x400921FBUL,
+    0x8B145769UL, 0x4005BF0AUL,
+    0x20000000UL, 0x4202A05FUL,
+    0x88E368F1UL, 0x3EE4F8B5UL,
+    0x54000000UL, 0x419D6F34UL,
+    0x00000000UL, 0x3F200000UL,
+    0xFFFFFFFFUL, 0x7FEFFFFFUL,
+    0x00000000UL, 0x00100000UL,
+    0x00000001UL, 0x00000000UL,
+    0x00000001UL, 0x00000000UL,
+    0x8800759CUL, 0x7E37E43CUL,
+    0xC2F8F359UL, 0x01A56E1FUL,
+    0x00000000UL, 0x43400000UL,
+    0x8B70E62BUL, 0x80001268UL,
+    0x30F103F9UL, 0x3DD17B7DUL,
+    0x30F103FAUL, 0x3DD17B7DUL,
+    0x30F103FAUL, 0x3DD17B7DUL,
+    0x30F103F9UL, 0x3DD17B7DUL,
+    0x58093E58UL, 0xB41AE824UL,
+    0xD2BD853FUL, 0xD3421993UL,
+    0x23F3F2B6UL, 0xD47E7D5DUL,
+    0xF0BE77FDUL, 0xC7C070F7UL,
+    0x48BD04B2UL, 0xBF0860CBUL,
+    0xE6CB881EUL, 0xB9660456UL,
+    0x7D129E1CUL, 0x43DD8B5FUL,
+    0xCD1EC359UL, 0x486D745AUL,
+    0xB404D6FEUL, 0x3D734031UL,
+    0x94A2B7B7UL, 0xB8F392C9UL,
+    0x94A2B7B8UL, 0xB8F392C9UL,
+    0x94A2B7B8UL, 0xB8F392C9UL,
+    0x94A2B7B7UL, 0xB8F392C9UL,
+    0xD116D6F8UL, 0x28E18AAEUL,
+    0x07E27628UL, 0x27F47310UL,
+    0x2D421694UL, 0xCABC6EC2UL,
+    0x9714D903UL, 0x367953A5UL,
+    0xD57BDDA2UL, 0x3ABE0B68UL,
+    0xBED12C36UL, 0xC38D5B88UL,
+    0x7B342E84UL, 0xD242ECCDUL,
+    0xA87B4FC4UL, 0x2BFBC371UL,
+    0xEF23BC62UL, 0x3BB68EBAUL,
+    0x86BE8A43UL, 0xBB9456FFUL,
+    0x86BE8A44UL, 0xBB9456FFUL,
+    0x86BE8A44UL, 0xBB9456FFUL,
+    0x86BE8A43UL, 0xBB9456FFUL,
+    0xB72C1EF1UL, 0xB1E40E33UL,
+    0xAC621159UL, 0xD0BD0807UL,
+    0xABD0167EUL, 0x27A77FF0UL,
+    0xB8D1A4B6UL, 0xD0CE486EUL,
+    0x3DB11FE1UL, 0x358C0536UL,
+    0xDCFB5A5FUL, 0xD5F59AA2UL,
+    0xBD326CC1UL, 0x3870C2C6UL,
+    0xD066BD57UL, 0xB6C8D37EUL,
+    0x75FF9EFEUL, 0x36572B81UL,
+    0x48AAFAE8UL, 0x38F85906UL,
+    0x48AAFAE8UL, 0x38F85906UL,
+    0x48AAFAE9UL, 0x38F85906UL,
+    0x48AAFAE8UL, 0x38F85906UL,
+    0xE862E48AUL, 0xC931261DUL,
+    0xDFC42C8AUL, 0xD1E02D09UL,
+    0x4C1FA369UL, 0xD36BCF16UL,
+    0x1909D59BUL, 0xB8F7D2DBUL,
+    0x2EA75E8FUL, 0xC220A09FUL,
+    0x144DA700UL, 0xA9D92AD6UL,
+    0xE8ABE289UL, 0x467B6BBBUL,
+    0x1E24F775UL, 0xC805AC52UL,
+    0x4630C117UL, 0x49CDC7EDUL,
+    0x448E7D7DUL, 0xAA398B8EUL,
+    0x448E7D7EUL, 0xAA398B8EUL,
+    0x448E7D7EUL, 0xAA398B8EUL,
+    0x448E7D7DUL, 0xAA398B8EUL,
+    0x752E2746UL, 0xC088AC55UL,
+    0x0A9EE290UL, 0x4E472AE2UL,
+    0x3CE986E1UL, 0xA728B43AUL,
+    0x555E1654UL, 0xA793FA76UL,
+    0x6F48A040UL, 0x3FEFA400UL,
+    0xF183DFD7UL, 0xC3CBEBE6UL,
+    0x6261BC83UL, 0x57C19B41UL,
+    0xF5CEDB45UL, 0x330312CFUL,
+    0xBAE2774CUL, 0x276C747AUL,
+    0x71CF01BFUL, 0x3026B1CAUL,
+    0x71CF01C0UL, 0x3026B1CAUL,
+    0x71CF01C0UL, 0x3026B1CAUL,
+    0x71CF01BFUL, 0x3026B1CAUL,
+    0x34FB96F1UL, 0x3BE205B0UL,
+    0x52D50068UL, 0xA785492FUL,
+    0x6A55706DUL, 0xB2073074UL,
+    0xE151700AUL, 0xC329959EUL,
+    0x1157782CUL, 0x2A18B873UL,
+    0xE399F6C9UL, 0xC4AFA074UL,
+    0x60C1EA17UL, 0x567D737FUL,
+    0xA493DAA8UL, 0xCA91F770UL,
+    0xC9C1FBF0UL, 0xB431DB84UL,
+    0x330D7EC0UL, 0xC7BD3D97UL,
+    0x330D7EC0UL, 0xC7BD3D97UL,
+    0x330D7EC1UL, 0xC7BD3D97UL,
+    0x330D7EC0UL, 0xC7BD3D97UL,
+    0xBAA69ED0UL, 0xC06FD50BUL,
+    0xE9F8C42BUL, 0xAC6F0F81UL,
+    0x8334B3BEUL, 0x27068473UL,
+    0xD90B420AUL, 0xBE4AE45FUL,
+    0x3F49CB23UL, 0xB09EA53EUL,
+    0x009A70C8UL, 0xD5C88352UL,
+    0x0DAD0E7AUL, 0x4EAFFD10UL,
+    0x6F925E8CUL, 0x3AFEE351UL,
+    0x88429F52UL, 0x3976E75BUL,
+    0xE01C84CAUL, 0xD7FBA1CAUL,
+    0xE01C84CAUL, 0xD7FBA1CAUL,
+    0xE01C84CBUL, 0xD7FBA1CAUL,
+    0xE01C84CAUL, 0xD7FBA1CAUL,
+    0xFAF95992UL, 0x439ABDCAUL,
+    0x325E0070UL, 0x4E011BC0UL,
+    0x7503F149UL, 0x44515F12UL,
+    0xEFCB612CUL, 0x48DAD002UL,
+    0x7CDF339DUL, 0xB5B5B27AUL,
+    0x1A7A5F05UL, 0x478790EDUL,
+    0xC5583665UL, 0xD50D8D60UL,
+    0xEB30A107UL, 0x4DEA7E22UL,
+    0x16228468UL, 0x55DCB90BUL,
+    0x055D4DC7UL, 0xD8D31BFFUL,
+    0x055D4DC8UL, 0xD8D31BFFUL,
+    0x055D4DC8UL, 0xD8D31BFFUL,
+    0x055D4DC7UL, 0xD8D31BFFUL,
+    0x72B34ACBUL, 0xB7B2482AUL,
+    0x0A0888A6UL, 0x2B4BB8FDUL,
+    0x199D8B06UL, 0x3619C487UL,
+    0x5B33E71CUL, 0xBD511D54UL,
+    0xD8E34FE4UL, 0xAB995AAAUL,
+    0xE5F08411UL, 0x54635E7AUL,
+    0x41AEEAA7UL, 0xC09F32A0UL,
+    0x3512A913UL, 0xCF6E8E0AUL,
+    0x34A12ADBUL, 0x375F907FUL,
+    0x17BB98BEUL, 0xAAA11397UL,
+    0x17BB98BEUL, 0xAAA11397UL,
+    0x17BB98BFUL, 0xAAA11397UL,
+    0x17BB98BEUL, 0xAAA11397UL,
+    0xC39D6D94UL, 0xBDFAE9BBUL,
+    0x89CFD87EUL, 0xCCE86BECUL,
+    0xC75A0C7AUL, 0x4825D00BUL,
+    0x331A4D4DUL, 0xC2E4A904UL,
+    0xCAE9451AUL, 0xC47DF941UL,
+    0xE8841069UL, 0xBB92D257UL,
+    0xFABFA94FUL, 0x55CAF08CUL,
+    0x643FCCADUL, 0xC5DB6F8DUL,
+    0xA8368677UL, 0x2BB70DA6UL,
+    0x27FF21AFUL, 0xAAD68E94UL,
+    0x27FF21B0UL, 0xAAD68E94UL,
+    0x27FF21B0UL, 0xAAD68E94UL,
+    0x27FF21AFUL, 0xAAD68E94UL,
+    0x33BE9389UL, 0x497E5A1AUL,
+    0xF50C7243UL, 0x2F59C157UL,
+    0xF4251B3EUL, 0xB216DD5FUL,
+    0xDD6FAAC4UL, 0x27E1144FUL,
+    0x4FF231B2UL, 0x52335BBDUL,
+    0xA825E8F3UL, 0xC1B593BDUL,
+    0x3AB6EA47UL, 0x54ABC006UL,
+    0x87F7E0EDUL, 0x39E87F99UL,
+    0xBB42D10FUL, 0x4FC77B0EUL,
+    0x0AB309EDUL, 0xBFD4C9BDUL,
+    0x0AB309EEUL, 0xBFD4C9BDUL,
+    0x0AB309EEUL, 0xBFD4C9BDUL,
+    0x0AB309EDUL, 0xBFD4C9BDUL,
+    0x3512C43DUL, 0x29A62503UL,
+    0xE6B384D2UL, 0x2C9A04C2UL,
+    0xCD509CD0UL, 0x53809531UL,
+    0xB0A89232UL, 0xB1E9E807UL,
+    0x42597F98UL, 0x409B81AFUL,
+    0x7C257843UL, 0x42777A77UL,
+    0xCD647C78UL, 0x4F8D160AUL,
+    0x8164D264UL, 0x3BB4DDCBUL,
+    0x4408AAB7UL, 0xC4710518UL,
+    0xA7772D78UL, 0x4E97A91CUL,
+    0xA7772D78UL, 0x4E97A91CUL,
+    0xA7772D79UL, 0x4E97A91CUL,
+    0xA7772D78UL, 0x4E97A91CUL,
+    0x009EE2D4UL, 0x2751CA5CUL,
+    0x074D5C1CUL, 0x2FC67DB3UL,
+    0xFB7921DCUL, 0xAF51931EUL,
+    0x28849BABUL, 0x36F80E11UL,
+    0x46E1D628UL, 0xC4A427E2UL,
+    0x48821BA2UL, 0xAC467085UL,
+    0x01C3C139UL, 0xCC4204FFUL,
+    0x3D68A1E1UL, 0x2CC750CCUL,
+    0xA8881DDAUL, 0xA7F751C9UL,
+    0xE9F847B0UL, 0xAAA90DA3UL,
+    0xE9F847B0UL, 0xAAA90DA3UL,
+    0xE9F847B1UL, 0xAAA90DA3UL,
+    0xE9F847B0UL, 0xAAA90DA3UL,
+    0x4FEA8285UL, 0x42F10D03UL,
+    0x003E94C0UL, 0x45B28DBFUL,
+    0xD187F30CUL, 0x37051A3EUL,
+    0x03685902UL, 0x344530B8UL,
+    0xEC0D637FUL, 0xAE64458CUL,
+    0x6A3B935EUL, 0x279CB9CFUL,
+    0x67EC5FE4UL, 0xD287B71AUL,
+    0x829EBD86UL, 0x3E719EA7UL,
+    0x04461540UL, 0xD3FB2EFCUL,
+    0x224AA8C5UL, 0x497BF74BUL,
+    0x224AA8C6UL, 0x497BF74BUL,
+    0x224AA8C6UL, 0x497BF74BUL,
+    0x224AA8C5UL, 0x497BF74BUL,
+    0xCFBF980EUL, 0xADC35459UL,
+    0x5E0E6AE7UL, 0xC113D44CUL,
+    0xA2F756F3UL, 0x289DA4A5UL,
+    0x970402B4UL, 0x55568720UL,
+    0x87D21EBAUL, 0xB92029C9UL,
+    0x61E0B280UL, 0x4B126E4BUL,
+    0x00DB6E11UL, 0xA94E8A31UL,
+    0xB45AAB1AUL, 0xB72C939FUL,
+    0x2C6D99FDUL, 0x423854BDUL,
+    0xC45172DDUL, 0x3EE92072UL,
+    0xC45172DEUL, 0x3EE92072UL,
+    0xC45172DEUL, 0x3EE92072UL,
+    0xC45172DDUL, 0x3EE92072UL,
+    0xAC731B2AUL, 0xB3B2C751UL,
+    0xEF0A090DUL, 0x2C136C7DUL,
+    0x6142909EUL, 0xCDE1DD60UL,
+    0x3CD20324UL, 0xB894B9FDUL,
+    0xF01293B2UL, 0xCF97C5CBUL,
+    0x59E41C2BUL, 0xC67A2CDFUL,
+    0x779E8FA0UL, 0xC1CDBB28UL,
+    0x8DF39A47UL, 0xD8AA2055UL,
+    0xFB29AAA6UL, 0x42EEF1DBUL,
+    0x6E835D53UL, 0xAEC37FCCUL,
+    0x6E835D54UL, 0xAEC37FCCUL,
+    0x6E835D54UL, 0xAEC37FCCUL,
+    0x6E835D53UL, 0xAEC37FCCUL,
+    0xB6A1B198UL, 0xB5302CBFUL,
+    0xC9C68AABUL, 0x3A78FAD9UL,
+    0x71D26055UL, 0x366DFB1FUL,
+    0xB50DCB67UL, 0x36ED9140UL,
+    0x24C7A8E2UL, 0x31625F1DUL,
+    0x1B7CFFF4UL, 0x4EFCCA1AUL,
+    0x5C2E7DD4UL, 0xD609D30EUL,
+    0x01A912F4UL, 0xAC0D559BUL,
+    0x409857F0UL, 0xB903712EUL,
+    0x86C9A70AUL, 0x3A75D5ABUL,
+    0x86C9A70AUL, 0x3A75D5ABUL,
+    0x86C9A70BUL, 0x3A75D5ABUL,
+    0x86C9A70AUL, 0x3A75D5ABUL,
+    0x6E374569UL, 0x334DA787UL,
+    0x7A2840A7UL, 0x57626828UL,
+    0xF153C9DAUL, 0x42131558UL,
+    0x9F2E96EFUL, 0x4CDB324EUL,
+    0x39C5B67AUL, 0xC49E648BUL,
+    0xDAE8C30DUL, 0x3D1A6CCBUL,
+    0x033549D6UL, 0x29211BDFUL,
+    0x122AB2F5UL, 0xCCA9E68FUL,
+    0x1C42D80DUL, 0xCC2EC913UL,
+    0x0D23EED6UL, 0x4AD06F63UL,
+    0x0D23EED6UL, 0x4AD06F63UL,
+    0x0D23EED7UL, 0x4AD06F63UL,
+    0x0D23EED6UL, 0x4AD06F63UL,
+    0x00A937B5UL, 0xA7A1D3A1UL,
+    0x529C7C21UL, 0x3CDE9D2AUL,
+    0x0B9C5F21UL, 0xC3B79939UL,
+    0xD7174603UL, 0xCC8D24D7UL,
+    0x2BBEC150UL, 0x3BBDFD1EUL,
+    0xE27898E6UL, 0xCB4A264DUL,
+    0x608F7169UL, 0xB694110DUL,
+    0x1E0469BBUL, 0xD5FF749EUL,
+    0x66E7ED35UL, 0xC08099ECUL,
+    0x1C24D117UL, 0xAA4CC2F9UL,
+    0x1C24D118UL, 0xAA4CC2F9UL,
+    0x1C24D118UL, 0xAA4CC2F9UL,
+    0x1C24D117UL, 0xAA4CC2F9UL,
+    0xD55FF76DUL, 0x27360457UL,
+    0x1272EF97UL, 0x2EB05785UL,
+    0x9572031CUL, 0x58A6C8FBUL,
+    0x19976664UL, 0x3FDAF600UL,
+    0xEA56ACBFUL, 0x44DE5F36UL,
+    0xF3AE88BBUL, 0x3BC5583CUL,
+    0x73DA9792UL, 0x4AB1AFC4UL,
+    0x7E60B3A9UL, 0x2D696778UL,
+    0x8F0682B7UL, 0x3613A732UL,
+    0x99AC476CUL, 0x419CB78AUL,
+    0x99AC476CUL, 0x419CB78AUL,
+    0x99AC476DUL, 0x419CB78AUL,
+    0x99AC476CUL, 0x419CB78AUL,
+    0x9EE25773UL, 0x4BE53E56UL,
+    0x1A6CD06EUL, 0x4312A943UL,
+    0xCC990A6BUL, 0xD1E7C838UL,
+    0x64EC2EF0UL, 0xBE96FB0FUL,
+    0x6A06CB3BUL, 0xBDEA20D5UL,
+    0xCDB0A292UL, 0x572DF222UL,
+    0x1C89B22AUL, 0xC4644F30UL,
+    0x38FF9CBFUL, 0x555A853FUL,
+    0x03C2A3BFUL, 0xAFCC6EBEUL,
+    0x42D298ACUL, 0x56B0CBD2UL,
+    0x42D298ACUL, 0x56B0CBD2UL,
+    0x42D298ADUL, 0x56B0CBD2UL,
+    0x42D298ACUL, 0x56B0CBD2UL,
+    0xD6CB6C3DUL, 0x2FE5142AUL,
+    0xA6AF39C1UL, 0xCA6FE85DUL,
+    0xDCC52897UL, 0x3E2592A4UL,
+    0x86395301UL, 0x2EDF6A49UL,
+    0xCAE09AD7UL, 0x5396E0B3UL,
+    0x0736B691UL, 0x3A6EA594UL,
+    0xF47BB169UL, 0xD885C9DEUL,
+    0x703A6BF9UL, 0x2970AD3BUL,
+    0xA44960D7UL, 0xCC7BA50AUL,
+    0x0A4AB766UL, 0xB7BDC6D5UL,
+    0x0A4AB766UL, 0xB7BDC6D5UL,
+    0x0A4AB767UL, 0xB7BDC6D5UL,
+    0x0A4AB766UL, 0xB7BDC6D5UL,
+    0xF1C5D329UL, 0x399531F6UL,
+    0xDA79F5FBUL, 0xAD0EACAAUL,
+    0x07DCA638UL, 0x42BCEBDBUL,
+    0x8141EC34UL, 0xC49309CBUL,
+    0xFFC0DD60UL, 0xBA1BD0ACUL,
+    0x0D78AB53UL, 0xBC3FEC70UL,
+    0x7D344585UL, 0xB680F6D9UL,
+    0xE478540BUL, 0xD81D4BD8UL,
+    0x6A0E2B6BUL, 0x497CCEDAUL,
+    0x89ECDA88UL, 0xC17E7B78UL,
+    0x89ECDA88UL, 0xC17E7B78UL,
+    0x89ECDA89UL, 0xC17E7B78UL,
+    0x89ECDA88UL, 0xC17E7B78UL,
+    0xF070A8FFUL, 0x57D3B414UL,
+    0x7D305332UL, 0x52193D28UL,
+    0x4591469AUL, 0x48479DE4UL,
+    0xE36D02A5UL, 0xD6854623UL,
+    0x583C33D1UL, 0x44F17E26UL,
+    0x31F7B3B5UL, 0x35632CD5UL,
+    0xBC503B3EUL, 0xBE98DE76UL,
+    0x6DF92A48UL, 0xCCDA4BC8UL,
+    0x63E8CB49UL, 0xD88DFE8EUL,
+    0xD13E5775UL, 0x4866B4A4UL,
+    0xD13E5776UL, 0x4866B4A4UL,
+    0xD13E5776UL, 0x4866B4A4UL,
+    0xD13E5775UL, 0x4866B4A4UL,
+    0x51E4FD80UL, 0x380F0CDEUL,
+    0x17BABE81UL, 0x416CE17CUL,
+    0xE6AA8F51UL, 0xCC3FD250UL,
+    0x91ABAD64UL, 0xCB23D71EUL,
+    0xAB7EA87FUL, 0x55E2DA65UL,
+    0x237B0236UL, 0x3C489BD9UL,
+    0x29994141UL, 0x41DFDA4BUL,
+    0xD8A5837DUL, 0x27DED154UL,
+    0x6C1CCBC3UL, 0xB1C0D899UL,
+    0x3D681FFEUL, 0x2B601D13UL,
+    0x3D681FFEUL, 0x2B601D13UL,
+    0x3D681FFFUL, 0x2B601D13UL,
+    0x3D681FFEUL, 0x2B601D13UL,
+    0x5B2F5B3CUL, 0x2DCB3B0EUL,
+    0x35F676C9UL, 0x35602762UL,
+    0x7624A760UL, 0xD4C95039UL,
+    0x0A6A796AUL, 0x4B13C2B7UL,
+    0x656FDF75UL, 0x3FC7B605UL,
+    0xF7C132FAUL, 0x36216494UL,
+    0x19940F74UL, 0xB6677EAFUL,
+    0xE3C13D8EUL, 0xB1D26233UL,
+    0xC256A797UL, 0x3E222EE7UL,
+    0xC4A9521EUL, 0x43BDDDA7UL,
+    0xC4A9521EUL, 0x43BDDDA7UL,
+    0xC4A9521FUL, 0x43BDDDA7UL,
+    0xC4A9521EUL, 0x43BDDDA7UL,
+    0x0543E114UL, 0x51AFF23BUL,
+    0xB9518680UL, 0xD28A865BUL,
+    0x8744F498UL, 0x58B6B0CFUL,
+    0x1C4AB6BAUL, 0x51BB3505UL,
+    0xA6ACD0ECUL, 0x55E5696BUL,
+    0xB2C5061DUL, 0x53564A36UL,
+    0xB069AA5AUL, 0x3EEB4CE4UL,
+    0x8ECF1469UL, 0xD693648FUL,
+    0x07BB30ABUL, 0x4E6315B5UL,
+    0x691B5653UL, 0xC1BC3743UL,
+    0x691B5654UL, 0xC1BC3743UL,
+    0x691B5654UL, 0xC1BC3743UL,
+    0x691B5653UL, 0xC1BC3743UL,
+    0x44A11ACBUL, 0x44572BD4UL,
+    0x33FDAB60UL, 0x3B3C84D7UL,
+    0xC3204C2BUL, 0x32921FEFUL,
+    0x9D780FFFUL, 0x5548A2BCUL,
+    0xF87CC065UL, 0xBAE66D65UL,
+    0xE7F69D5EUL, 0xD2265BE8UL,
+    0x6D78F98DUL, 0x558FC1F3UL,
+    0xB28C5934UL, 0x4A90F62BUL,
+    0x25E8387CUL, 0x4BC5211FUL,
+    0x9F4BDAD3UL, 0xCF62B4B0UL,
+    0x9F4BDAD4UL, 0xCF62B4B0UL,
+    0x9F4BDAD4UL, 0xCF62B4B0UL,
+    0x9F4BDAD3UL, 0xCF62B4B0UL,
+    0xB016E631UL, 0x4CE973B1UL,
+    0xADCA88E5UL, 0xB63045F9UL,
+    0x2806AABCUL, 0xBD99A2D8UL,
+    0x08361E02UL, 0x3DB755EAUL,
+    0xE4EA68ABUL, 0xC31E9B2AUL,
+    0x7EF1535BUL, 0x40801CCEUL,
+    0xE347205DUL, 0x4881C1ECUL,
+    0x92423A54UL, 0xB5D902A5UL,
+    0xB9B6835DUL, 0x3C503921UL,
+    0xCFE0C6A4UL, 0x27C34F3DUL,
+    0xCFE0C6A4UL, 0x27C34F3DUL,
+    0xCFE0C6A5UL, 0x27C34F3DUL,
+    0xCFE0C6A4UL, 0x27C34F3DUL,
+    0x68BF68BAUL, 0x371AA1CBUL,
+    0x798C926FUL, 0x563CF38FUL,
+    0xA1017059UL, 0x31B4D318UL,
+    0x8C19C6FCUL, 0x33F3465AUL,
+    0x11ACC52DUL, 0xCB5B4A00UL,
+    0x156B5D95UL, 0xA920B466UL,
+    0x727AB383UL, 0xBE88F0EFUL,
+    0x38D61A14UL, 0xD0B9CFB9UL,
+    0xA111AC43UL, 0x2FFBB95AUL,
+    0xD1CC3154UL, 0x5254DC28UL,
+    0xD1CC3154UL, 0x5254DC28UL,
+    0xD1CC3155UL, 0x5254DC28UL,
+    0xD1CC3154UL, 0x5254DC28UL,
+    0xC3CD9B1DUL, 0xADA31CE1UL,
+    0x26F55812UL, 0xC8D96583UL,
+    0x2E4E26AEUL, 0xBAE5B72EUL,
+    0x4B255D8BUL, 0x46171785UL,
+    0xC479844AUL, 0xD588CB30UL,
+    0x16DF63E6UL, 0xD68EDF96UL,
+    0x056372FFUL, 0x35A7A73CUL,
+    0xE908F0B0UL, 0xC605303DUL,
+    0xC75C4570UL, 0xA7F9D954UL,
+    0x3EB59627UL, 0x33E08C07UL,
+    0x3EB59628UL, 0x33E08C07UL,
+    0x3EB59628UL, 0x33E08C07UL,
+    0x3EB59627UL, 0x33E08C07UL,
+    0xB94EA0E4UL, 0x4A992DCDUL,
+    0x49AE5953UL, 0x3669059EUL,
+    0x8591A84AUL, 0x4B632072UL,
+    0x2A547B65UL, 0x4168DD10UL,
+    0x8553C4D8UL, 0x3A6FE87AUL,
+    0xD9BA5036UL, 0x4824774DUL,
+    0xF328A6B7UL, 0xC5EDED9AUL,
+    0xB09CDFF4UL, 0x32328301UL,
+    0x03673D66UL, 0x49DA856BUL,
+    0x5340B1FCUL, 0x43D1039FUL,
+    0x5340B1FCUL, 0x43D1039FUL,
+    0x5340B1FDUL, 0x43D1039FUL,
+    0x5340B1FCUL, 0x43D1039FUL,
+    0x87BB0CB7UL, 0xCC82476BUL,
+    0x7A912395UL, 0xC902C198UL,
+    0x04200C93UL, 0x522CC770UL,
+    0x17D53CBCUL, 0xD80A3808UL,
+    0xD146276FUL, 0x367A355AUL,
+    0xBCBC78AAUL, 0x4747126AUL,
+    0xD32BD04DUL, 0xAB5874D0UL,
+    0xD3206CD2UL, 0xC821CBB5UL,
+    0xFF364EB2UL, 0xC7DB1AE9UL,
+    0x5BCABD63UL, 0x427400BAUL,
+    0x5BCABD64UL, 0x427400BAUL,
+    0x5BCABD64UL, 0x427400BAUL,
+    0x5BCABD63UL, 0x427400BAUL,
+    0x2D7FC70FUL, 0x550ABEF2UL,
+    0xC3C45485UL, 0xAFB1DEC8UL,
+    0x1890C2F9UL, 0x302179B0UL,
+    0xB4F162CDUL, 0xCB7FDB54UL,
+    0xD822DEACUL, 0x499E27E0UL,
+    0xAB31BF81UL, 0x57E0097BUL,
+    0xA83022FAUL, 0x356693B3UL,
+    0x6BC50492UL, 0x588DE5FAUL,
+    0xA847D09DUL, 0xCA2CC9B6UL,
+    0x8F610D4AUL, 0xCB98D1EAUL,
+    0x8F610D4AUL, 0xCB98D1EAUL,
+    0x8F610D4BUL, 0xCB98D1EAUL,
+    0x8F610D4AUL, 0xCB98D1EAUL,
+    0xD16FE2AFUL, 0x33EAFEEBUL,
+    0x536550E8UL, 0xD8C7DBE8UL,
+    0xD22F380EUL, 0xD1583384UL,
+    0x099AEF23UL, 0x35E8ED95UL,
+    0xF01A8880UL, 0xB6FB37EBUL,
+    0x2B175F37UL, 0xC9FBDC26UL,
+    0x2E82A9FEUL, 0x50B1B27CUL,
+    0x640EF840UL, 0x339C374CUL,
+    0x01F42749UL, 0x3D7DF2A4UL,
+    0xB9AFF93EUL, 0x49205DA8UL,
+    0xB9AFF93EUL, 0x49205DA8UL,
+    0xB9AFF93FUL, 0x49205DA8UL,
+    0xB9AFF93EUL, 0x49205DA8UL,
+    0xB84A070FUL, 0xBB511FC3UL,
+    0xB7AEEB62UL, 0xBD225B83UL,
+    0xA0E2C7FEUL, 0xAC351005UL,
+    0x4988313CUL, 0xADD32D26UL,
+    0x2279DFEDUL, 0xA8B4D219UL,
+    0x6D7955C4UL, 0xD536432CUL,
+    0xE26C84FDUL, 0x4E5824C3UL,
+    0xF434B12FUL, 0x2AED32EEUL,
+    0x2581CBD0UL, 0x3328A803UL,
+    0xDB61406CUL, 0xB3AE1C04UL,
+    0xDB61406CUL, 0xB3AE1C04UL,
+    0xDB61406DUL, 0xB3AE1C04UL,
+    0xDB61406CUL, 0xB3AE1C04UL,
+    0xD2D5861CUL, 0x33698E62UL,
+    0xD810C4DDUL, 0xB8BCCC1AUL,
+    0x0376191CUL, 0x57615561UL,
+    0x1C7FF2F4UL, 0xC4CB8F4FUL,
+    0xECF43FF2UL, 0xB979D903UL,
+    0x2BC85041UL, 0x422DA490UL,
+    0x883E7261UL, 0x3BA88A0CUL,
+    0x7AEA422EUL, 0xCACFF8ABUL,
+    0xDCA50207UL, 0xCE75E7B4UL,
+    0x02773CAEUL, 0x4BC685F5UL,
+    0x02773CAEUL, 0x4BC685F5UL,
+    0x02773CAFUL, 0x4BC685F5UL,
+    0x02773CAEUL, 0x4BC685F5UL,
+    0xD132BD87UL, 0x4186AD06UL,
+    0x55329BE6UL, 0x5185A76AUL,
+    0xECCA211FUL, 0xB017E9B8UL,
+    0x7D544876UL, 0x2932E315UL,
+    0x6458D0D2UL, 0x3B29C42DUL,
+    0xBCDB3161UL, 0xC404F453UL,
+    0xF2866FAAUL, 0x461FB037UL,
+    0xF5A1D4CEUL, 0x3F72AE5DUL,
+    0x76A26135UL, 0xB8FBA785UL,
+    0x42548075UL, 0xCFB38E1DUL,
+    0x42548076UL, 0xCFB38E1DUL,
+    0x42548076UL, 0xCFB38E1DUL,
+    0x42548075UL, 0xCFB38E1DUL,
+    0x760BACCFUL, 0x4AF7B8B4UL,
+    0x94BDF5C8UL, 0x4866D9F1UL,
+    0xB48EB866UL, 0xAD7560A5UL,
+    0xDD04F723UL, 0xD0B46E9FUL,
+    0x205674B8UL, 0xA93FC57EUL,
+    0xE0BAEE7BUL, 0xABCC5822UL,
+    0xDA448C58UL, 0x5452E001UL,
+    0xC326CE78UL, 0x3B8CF55AUL,
+    0xD8E6800CUL, 0x2A10CD99UL,
+    0xFAC30F33UL, 0xBC1C796BUL,
+    0xFAC30F34UL, 0xBC1C796BUL,
+    0xFAC30F34UL, 0xBC1C796BUL,
+    0xFAC30F33UL, 0xBC1C796BUL,
+    0xE16F6E57UL, 0x3AD43C10UL,
+    0x16245EC3UL, 0xAD45A657UL,
+    0xEC17B409UL, 0x4C69FED0UL,
+    0x764E7FBAUL, 0xD3BE5BC4UL,
+    0x706C4EB8UL, 0xB638FE84UL,
+    0xFF9F4526UL, 0xAFD6FD83UL,
+    0x2F9E285BUL, 0xCE797514UL,
+    0xEB1B4C74UL, 0x3B1D4CF4UL,
+    0x87D2E574UL, 0x35A47866UL,
+    0x7FA7E969UL, 0xB4582EB8UL,
+    0x7FA7E96AUL, 0xB4582EB8UL,
+    0x7FA7E96AUL, 0xB4582EB8UL,
+    0x7FA7E969UL, 0xB4582EB8UL,
+    0x5D1AEDA6UL, 0x530311A7UL,
+    0x5010A59AUL, 0x55380141UL,
+    0x8F0E944CUL, 0x3C93DCBCUL,
+    0xFEA3BA18UL, 0xD63DDFCFUL,
+    0xF5C20463UL, 0xAE2486BDUL,
+    0xA95197C2UL, 0xB99233F5UL,
+    0x4686ED5CUL, 0xC2F3AB2CUL,
+    0xE2654E83UL, 0xADCB91D0UL,
+    0x7270FF6AUL, 0xD80470FCUL,
+    0x2CE2F5DBUL, 0xC092A827UL,
+    0x2CE2F5DCUL, 0xC092A827UL,
+    0x2CE2F5DCUL, 0xC092A827UL,
+    0x2CE2F5DBUL, 0xC092A827UL,
+    0x55290867UL, 0xAA33775BUL,
+    0x87F1E596UL, 0xCE291682UL,
+    0x6B38E12DUL, 0x341091ACUL,
+    0xD4D7BBE0UL, 0x4F94B20FUL,
+    0xE4AFA32AUL, 0xBD355AE8UL,
+    0x9034C55BUL, 0xCBCAE9DEUL,
+    0xCA444503UL, 0xC66AD01EUL,
+    0x9FDDFF67UL, 0xBB1EA471UL,
+    0xFD0AFE37UL, 0x529AFC2DUL,
+    0xF05A99E9UL, 0xC0C2CD4DUL,
+    0xF05A99EAUL, 0xC0C2CD4DUL,
+    0xF05A99EAUL, 0xC0C2CD4DUL,
+    0xF05A99E9UL, 0xC0C2CD4DUL,
+    0x8934F602UL, 0xB6FD520EUL,
+    0xEEEB394FUL, 0xBFF7EDA9UL,
+    0xA5A9F8A0UL, 0xC1A565DAUL,
+    0x45798046UL, 0xC76C9AAFUL,
+    0x1ED18CD5UL, 0x42AA85D2UL,
+    0x819F39EAUL, 0x467BA2C7UL,
+    0xC898382FUL, 0x4E626BF0UL,
+    0xD4792B3BUL, 0x4445F82CUL,
+    0xB5F71B8AUL, 0xD56751B8UL,
+    0x956689C1UL, 0xB4CA460BUL,
+    0x956689C2UL, 0xB4CA460BUL,
+    0x956689C2UL, 0xB4CA460BUL,
+    0x956689C1UL, 0xB4CA460BUL,
+    0x15AA537FUL, 0x27F52FA5UL,
+    0x3A250A1BUL, 0xD5F3A05AUL,
+    0xBE51545FUL, 0x5003F00EUL,
+    0xA81A9AFFUL, 0x519B161BUL,
+    0x31051553UL, 0x30A9D2A1UL,
+    0x302249D7UL, 0x2AFEBD64UL,
+    0xE621FB0BUL, 0xCEA9E8F1UL,
+    0xAC3F4FA2UL, 0xD04E2883UL,
+    0x56628B51UL, 0xC4308F40UL,
+    0x581A36D9UL, 0xC5D7081DUL,
+    0x581A36DAUL, 0xC5D7081DUL,
+    0x581A36DAUL, 0xC5D7081DUL,
+    0x581A36D9UL, 0xC5D7081DUL,
+    0xB9D2F720UL, 0xC6FCEA83UL,
+    0x49570C2EUL, 0xBCFAFAD1UL,
+    0x4253520FUL, 0x2CF160C4UL,
+    0xB7093344UL, 0x48D90122UL,
+    0xFC7ECAE2UL, 0xD4C5925CUL,
+    0x1F4C6E98UL, 0x468772C4UL,
+    0x981322A1UL, 0x525435AFUL,
+    0xA03939E0UL, 0x3801936DUL,
+    0xA5C03A7EUL, 0xD687D1DDUL,
+    0xF2E4DDABUL, 0x476FD510UL,
+    0xF2E4DDACUL, 0x476FD510UL,
+    0xF2E4DDACUL, 0x476FD510UL,
+    0xF2E4DDABUL, 0x476FD510UL,
+    0x21F76C46UL, 0xB64104C1UL,
+    0x729B702FUL, 0xB46CA527UL,
+    0x84424373UL, 0xC2CBFA0BUL,
+    0xE64BA972UL, 0x291FE3CFUL,
+    0x488F0CC4UL, 0xD7F5C980UL,
+    0xF8F27C64UL, 0xB3C26612UL,
+    0x219DE6F6UL, 0xBEA8A973UL,
+    0x2552C71CUL, 0xC9639F4EUL,
+    0x08D64A52UL, 0x558ED5FDUL,
+    0xB55DE527UL, 0xAB3C511FUL,
+    0xB55DE528UL, 0xAB3C511FUL,
+    0xB55DE528UL, 0xAB3C511FUL,
+    0xB55DE527UL, 0xAB3C511FUL,
+    0x75B6EDE6UL, 0xB4A7904BUL,
+    0x42776CE8UL, 0xB344F190UL,
+    0x667453E5UL, 0x2D52A12EUL,
+    0x61962B84UL, 0x30CEC403UL,
+    0x78FD658FUL, 0x2B728B96UL,
+    0xB855AD67UL, 0x4AF1A880UL,
+    0xF0FEEB3FUL, 0x46BCDDD0UL,
+    0x8F53806BUL, 0xCA19FC91UL,
+    0x1115E0B3UL, 0x39677B03UL,
+    0xD69DC940UL, 0xB2ED3561UL,
+    0xD69DC940UL, 0xB2ED3561UL,
+    0xD69DC941UL, 0xB2ED3561UL,
+    0xD69DC940UL, 0xB2ED3561UL,
+    0xEDB95761UL, 0xCA6996DAUL,
+    0x6B3EEF95UL, 0x4C6F3036UL,
+    0xFEF57BC4UL, 0x395D676BUL,
+    0xEE8828DFUL, 0x4E19691DUL,
+    0x76BCD853UL, 0xD1648545UL,
+    0x0DA14F46UL, 0xCCE8CBFDUL,
+    0x8C9EA11BUL, 0x29F50DDBUL,
+    0x0030B82EUL, 0x545D078BUL,
+    0xD0E1D4ABUL, 0x3F03B216UL,
+    0x2A4B9DA3UL, 0xBC9CF536UL,
+    0x2A4B9DA4UL, 0xBC9CF536UL,
+    0x2A4B9DA4UL, 0xBC9CF536UL,
+    0x2A4B9DA3UL, 0xBC9CF536UL,
+    0x69FEB071UL, 0xB13ED05AUL,
+    0x7CA5D963UL, 0xA8DE2AB3UL,
+    0xB9BF5DBBUL, 0xB86A9A6FUL,
+    0xAF88905EUL, 0x38C9CF9CUL,
+    0x4F11D9B3UL, 0x57E9CC13UL,
+    0xBBB2E21BUL, 0x29528F32UL,
+    0xEECCC238UL, 0xBA8D9729UL,
+    0x9B6799F0UL, 0xC37E52AAUL,
+    0xAAEAD2F5UL, 0x568AB22AUL,
+    0x45DA9738UL, 0xD54EB687UL,
+    0x45DA9738UL, 0xD54EB687UL,
+    0x45DA9739UL, 0xD54EB687UL,
+    0x45DA9738UL, 0xD54EB687UL,
+    0x258DE92CUL, 0x55347D4CUL,
+    0x1B26122DUL, 0xCE33009AUL,
+    0x1E12B2CEUL, 0xAF9223F3UL,
+    0x5CBA38AEUL, 0xCA72BFE7UL,
+    0x15B6A945UL, 0xB8668173UL,
+    0x84F8325EUL, 0x2ABC70B8UL,
+    0x7198BB12UL, 0xB51DFD15UL,
+    0x06080061UL, 0x2F383C84UL,
+    0x9ECD0AD7UL, 0xB6BEE27CUL
+};
+
+static long double long_doubles[] = {
+    0.1L,
+    0.2L,
+    0.3L,
+    0.5L,
+    1.0L,
+    2.5L,
+    3.14159265358979323846264338327950288L,
+    2.71828182845904523536028747135266250L,
+    1e10L,
+    1e-5L,
+    123456789.0L,
+    0.0001220703125L,
+    1e300L,
+    1e-300L,
+    1e1000L,
+    1e-1000L,
+    18446744073709551617.0L,
+    0.00000000000000000000000000000157441516122761116427381635210018658259039701266640464955215340926062674298605210639325434861246488793540265760384500026702880859375L,
+    0.00000000000000000000000000000157441516122761116431658058746166171292864559614082835961319655934230752215344310626782072686825897367413062966079451143741607666015625L,
+    0.000000000000000000000000000001574415161227611164316580587461661712928645596140828359613196559342307522153443106267820726868258973674130629660794511437416076660156251L,
+    0.000000000000000000000000000001574415161227611164295198469780924147759521304403616504582674984301467132569747606330537537740361930804766643632319755852222442626953125L,
+    0.00000000000000000000000000000061516587129580252760360510282243323695655973271914667785076329618884757855363137325155085195944881792939895603922195732593536376953125L,
+    -525648549097882657525705211904.0L,
+    0.0000000000000000000000000000000000000001072492533081907988818777231713722221670877077684798818692510440963797350247789199068532378623373707425997690686017040084809792688247398473322391510009765625L,
+    -0.0000000000000000000000000002868847406768414301939819211518963183389670958750514173621258062474857666307375228011145029682893436984159052371978759765625L,
+    -0.00000000000000000000000250058351508952290463055082070073013035074568567149124694699279494500463957330771425091597848222590982913970947265625L,
+    183188.94411061289434883292415179312229156494140625L,
+    -3512610494740665107574083746267136.0L,
+    -32399610665876812923966035903744311296.0L,
+    -324800740510748249114458479431614068103685668490706944.0L,
+    743162579993869841818171395671869882368.0L,
+    743162579993869841855064883819288985600.0L,
+    743162579993869841855064883819288985600.01L,
+    743162579993869841836618139745579433984.0L,
+    0.000000000000000000000000000000000000000000000009723584788834755793917410168039061391782566987249730329974590547583038914129032340421568743232401957410966153906290680028873840462684541297022633443702943623065948486328125L,
+    -0.00000000000000000000000000000000000000020574172615281527597040540491713042729035229722257905302607252731127725782036089244502527040291831095375878145337621150101625744355260394513607025146484375L,
+    4292198.0210641962539739324711263179779052734375L,
+    -178302422361061600512.0L,
+    -0.00043778194693044702125670823125887232141195681833778508007526397705078125L,
+    -0.000000000000000000000000000000000001201967962703965239184940988999925538742047052545744376948057863726736336174990958185839412929320991072954481759804679086300893686711788177490234375L,
+    -74705763358265946415225580290048.0L,
+    0.00000000000000000000000000000000000000000000000000000000007308714099413712645675878201569243296600815049809487879458910372264949303868963476488614935807520794176961050294074852838334524541520537915568152717471126465775821401393841370008885860443115234375L,
+    -0.0000000000000000000000567440094134732672686039648143004898094511328948347359351537963658343292384922396109914188855327665805816650390625L,
+    7243539710476584.12109375L,
+    7243539710476584.121337890625L,
+    7243539710476584.1213378906251L,
+    7243539710476584.1212158203125L,
+    -240973538849833937656232169429895606999789833618980864.0L,
+    -6926703911303614419603845808128.0L,
+    -0.0000000000000027084639982835480867334075867728876103362020481980421593611041419791263251681812107563018798828125L,
+    -0.00000000000000000000000000000000000000000000000000000856764333009483316570478385119861409492584673931985230681609229519719885115692427640417132623931644853952533949855883890808672821536397816967402414622956285938926157541573047637939453125L,
+    -0.0000000000000773999600731466283836508423965747504131484377240079823578877693535105208866298198699951171875L,
+    -3506251478888328.5234375L,
+    -620758316152.9308435916900634765625L,
+    0.0000000000000000000000004043913112109458685244917874760351416211521118380292305770038026983924308267932291871549210782177397049963474273681640625L,
+    0.000000000000000000442140699670271228298204071728508486441464890644411843760892420925057155756121574086137115955352783203125L,
+    20069078276537199788616823110961601087275008.0L,
+    20069078276537199789221286020768915674628096.0L,
+    20069078276537199789221286020768915674628096.01L,
+    20069078276537199788919054565865258380951552.0L,
+    354505994591821379027811205824728390451593216.0L,
+    -108112497977327433.3984375L,
+    107592794.1909951246270793490111827850341796875L,
+    -0.000000000000000000002818304438453965520441327202238721995174900204002674094941117806313764238002050888098892755806446075439453125L,
+    -286454696770702253292724453827878513803916969246720.0L,
+    -26816442507158580277280768.0L,
+    -10605.882329987161245554716515471227467060089111328125L,
+    -274356908399931422150754304.0L,
+    -62124352145765491882605561632362664248213504.0L,
+    8097339188224950066555542124602752236486110674579095552.0L,
+    8097339188224950066887849123548981204712062439649181696.0L,
+    8097339188224950066887849123548981204712062439649181696.01L,
+    8097339188224950066721695624075866720599086557114138624.0L,
+    27621345.254706027088104747235774993896484375L,
+    -359461121.23872873061918653547763824462890625L,
+    0.00000000000230287074630970283558061683565549025160789836977857925059964827596559189260005950927734375L,
+    -0.000000000000000000000000000000000000000000000000535716458508709486635517738412644191131671829330222437261822244465103581202288113728513439399611506707533929455128001945106051154082103804565662130698910914361476898193359375L,
+    47942795299541964862521344.0L,
+    -0.0000000007248030102578758303635372122590338035688574576387299686075493809767067432403564453125L,
+    0.000000000000000000000000000000000000000000000000000280147518372163524971315216805382895579634769141594615348431363440418521224320459152153407005451157822784504505115766749235243817003998705364962995556510350070311687886714935302734375L,
+    67684468335601139541763591239630848.0L,
+    -0.00000000000000000000000000000000000000000000000000025458845894878837664780617495322659855873763017565517923582460483194590717534318733666708519479484782506409683405663526488906227259191822169526187025212493608705699443817138671875L,
+    -0.0000000000000000000044081156693213750355678076891941985680034055131040264616397055774904382985379669435133109800517559051513671875L,
+    -0.000000000000000000004408115669321375035751478681510180991123520597045002348798872070736076973773709397619313676841557025909423828125L,
+    -0.0000000000000000000044081156693213750357514786815101809911235205970450023487988720707360769737737093976193136768415570259094238281251L,
+    -0.0000000000000000000044081156693213750356596431853521897795634630550745144052192888241132576361558381705663123284466564655303955078125L,
+    4743196598298340.4306640625L,
+    7186045122196741.30615234375L,
+    -0.00000000000000000000000000000000000000002740577812964143044880346825573872149157474830115561970588800594647548436152980212061853956144436600285166817449786051674731623961633886210620403289794921875L,
+    0.2460929844972074782339689635879409479457535780966281890869140625L,
+    -0.00000071839594201269448044890479853385773130469704739198277820833027362823486328125L,
+    1141837129815864254145618195611554446739089918151272918155264.0L,
+    0.0000000000030445049187327004022590031954881242325656044538095823526191452401690185070037841796875L,
+    0.0000000000000000000000000000000000000000001963094305822843853995894860726050955501229480750282408056077486182853644203506779832583294925909532416788421667702026879830101702140154884546063840389251708984375L,
+    -43973225699239158665395397289558530112701188001782300672.0L,
+    0.00000000000000000000000000000000000000000000001197245468682788561171882176161509783738877038335899099360598767850379694265459062521027986943732897843690865214423780566346840865087075567174679235904477536678314208984375L,
+    0.0000000000000000000000000000000000000000000000119724546868278856123122947457250852591058480252066133157447980431050435030470768746370928838526296758764785853799511556692826357126309411160747231406276114284992218017578125L,
+    0.00000000000000000000000000000000000000000000001197245468682788561231229474572508525910584802520661331574479804310504350304707687463709288385262967587647858537995115566928263571263094111607472314062761142849922180175781251L,
+    0.00000000000000000000000000000000000000000000001197245468682788561201555825367009154824730920428280215467539286080442022285083374992368637664497932715669361876209448066637552218175084839391075774983619339764118194580078125L,
+    0.00000000000000000000000000000000000000000000792362623758722434380310145676010525853943540494982964640364673204760755251605854324431068313704568434441875068939924639500015091098106267963885329663753509521484375L,
+    -5398130870738.35147190093994140625L,
+    -0.000000003862009306310329047772387501475347350754670217032327173001249320805072784423828125L,
+    -0.00000000005542635452763130163076057560638566555660488297842258820224969895207323133945465087890625L,
+    0.0000000000000000000000022776446218638562980026506042611870703864018425669121812887278311221502509020635229841644786574761383235454559326171875L,
+    261083266545795121719279616.0L,
+    -0.00000000000000000000055376741411184603717240593745966116995574395093093748999429213049718913330909941805657581426203250885009765625L,
+    0.0000000000000000000000000000000000000000000000000000014062574604127446329758370324648054543543362141814339567800287692347731782764787515399795147296256922947577563301034287217528975446292638647213086265652659534453050582669675350189208984375L,
+    -2145519802328567643.5L,
+    -17151881587910346080599915946476486912931392750568341504.0L,
+    -17151881587910346081264529944368944849383296280708513792.0L,
+    -17151881587910346081264529944368944849383296280708513792.01L,
+    -17151881587910346080932222945422715881157344515638427648.0L,
+    454324233376.9569481909275054931640625L,
+    0.0000000000000000001688466516402914735036675118202823155165175017989054794689623116565879712425157777033746242523193359375L,
+    -45096753685339912482611789824.0L,
+    -0.000000000000000000000000000000000000000000041623186173006371406535816152748245395568049829685208852652047655766559780191371471742520828824866918609311103098381809709503664773677655830397270619869232177734375L,
+    0.00000000308962241442539497850976679869017385693234258037254136297633522190153598785400390625L,
+    -4165224912661933751009280.0L,
+    -0.000000000000000000000000000027623413267751387230881822376130921205436022869805275429076654597924928610024552198820568804649155936203896999359130859375L,
+    -0.00000000000000000000000000000004390364764614264244109605540289345243159179857140905892042289973491619672815152474012183013971945266806784502477967180311679840087890625L,
+    -162182528135100862328423804537030620217344.0L,
+    -0.0000000000017418005933366024420934165103773652328960947445663821897543499517269083298742771148681640625L,
+    -0.00000000000174180059333660244214272031695367847073432777989655632910892535392122226767241954803466796875L,
+    -0.000000000001741800593336602442142720316953678470734327779896556329108925353921222267672419548034667968751L,
+    -0.000000000001741800593336602442118068413665521851815211262231469259431637652824065298773348331451416015625L,
+    0.0000000000000000000000000000000000000000000000000000000033962025347996884306789732543096109081450048433559301896074553497620743435918692607589355289240210373115577318028067044174826697308261843775769819823843499728699413253707461990416049957275390625L,
+    -86183295758104035376031797456020650221628837037342720.0L,
+    -74221292348605426253485079601957614681522333068296192.0L,
+    -0.00000000000000000000000000000000000011658429319426235442404965361059677837701830452854591805335961553074704678334507725580307903492966391009841471693153636124407057650387287139892578125L,
+    -300663716265672421377603853964159213371392.0L,
+    -303662687042623138035355999078274606606116338913920384237568.0L,
+    0.0133810093221634348904306431073119032504337155842222273349761962890625L,
+    -0.00000000000000001059387203574030044833329783010317063873319248057471495718241498440459480434583383612334728240966796875L,
+    0.00000000000000000000022778680099179611464718918487752013074457675539094025452423901740116990964624132942617507069371640682220458984375L,
+    -8637912096956380394832546820092158316349836994019328.0L,
+    -8637912096956380395157065373750585043132993014595584.0L,
+    -8637912096956380395157065373750585043132993014595584.01L,
+    -8637912096956380394994806096921371679741415004307456.0L,
+    -6389659794456887295807062016.0L,
+    -0.0000000000000000000103182020914688135269934399553370955847507810083252111115191765474373430944154961252934299409389495849609375L,
+    -0.00000000000000000000000000000009620851055746458662421426163999829186295066094046159055553709204258450832421213622308219786814949270326025043686968274414539337158203125L,
+    39949156806176927953711108281543081914819149824.0L,
+    -0.0000000000000000000003667922115971849749337451620985483459925771129535943932920283195662082380283930405084902304224669933319091796875L,
+    -0.0041801873768073780215787636251045800150905051850713789463043212890625L,
+    0.00000000000000000000000000000000000000000000048293723361763882634474436334486895913612665441037211616989626762107635471108974360708763023699785787413508155028390503768465601142079179908250807784497737884521484375L,
+    -62.645742227692594032706363549323214101605117321014404296875L,
+    -0.0000000000000000000000000000005329305451228650189284484720585385745391281436094305829386052467782720916824938490233729243387983398605456386576406657695770263671875L,
+    -0.000000000000000000000000000000000000000000000000000000000001618106795712834257041988180589836872297259221984195171040380302853078317386235116331739108380586042399487042421187399837740801399654644858692182564789906784358426705683342561314930208027362823486328125L,
+    -0.00000000000000000000000000000000000000000000000000000000000161810679571283425710945824742651222093309009591232329268972405570023676570673279969243123184279250378988944479206465160774507713360893910554370677531203136790259079769160877049216651357710361480712890625L,
+    -0.000000000000000000000000000000000000000000000000000000000001618106795712834257109458247426512220933090095912323292689724055700236765706732799692431231842792503789889444792064651607745077133608939105543706775312031367902590797691608770492166513577103614807128906251L,
+    -0.000000000000000000000000000000000000000000000000000000000001618106795712834257075723214008174546615174658948259231865052179276657541546483958012085170111689273094688243606626025722742939266631791982117944670050969076130508751687475665903548360802233219146728515625L,
+    0.00000000000000000000000000000000000000000000000000000000000087534337014845778544990979240640767798147139270252591974703778080649036720442544015612050135794181384358947390807381095541963253573268540650935012683498577726998700343497006315374164842069149017333984375L,
+    0.000000000000000000000000000000000000000001366530313977262850493932747037849841822290334175127044969407284238587916172503439525024944425459968746320256797154024663853988386108539998531341552734375L,
+    -18017898434588084867821226426368.0L,
+    8736.35344108629518533604141339310444891452789306640625L,
+    -0.000080094216937774685102327293546864428464004959096200764179229736328125L,
+    -121521667654802428065027903717376.0L,
+    -0.0000000000000000000000000000000003373942734692553777801288269643901062138505351837270730595475378401955166862852793493174227869771234812612537012910252087749540805816650390625L,
+    4516272969216228915890344179703742464.0L,
+    -0.000000000000000000000000000000000000000000000000211185817955416546901977238375434163116710649167974562726775843469343838523602707955255097918060277041494859836977391236937538867410768701760037657777502317912876605987548828125L,
+    3729355564385988.052978515625L,
+    3729355564385988.0531005859375L,
+    3729355564385988.05310058593751L,
+    3729355564385988.05303955078125L,
+    162280434916766506513546794399894776774352921606225920.0L,
+    -0.00000000009250383880529738006460097922630317388733548096546588368482844089157879352569580078125L,
+    -449338405429736459441604132864.0L,
+    0.000000000000000000000000004456858406251813148231630155568431110435824881266112934067814633300262126853685741741106784985504418727941811084747314453125L,
+    0.000000000000000000944331136366042644673612654446564653793363047962525202873087788561778932461265867459587752819061279296875L,
+    -0.2750161888751581653581208819492331940637086518108844757080078125L,
+    -0.000000000000000000000000000685591606440243836150401185159158019501463466977163585376558692639735722042216257976487980840829550288617610931396484375L,
+    2841206998035258859210145792.0L,
+    -0.000000000000000000009608810771657248106531770872776133073537312747409098190946974863226905105850761401597992517054080963134765625L,
+    -306018190565777358520320.0L,
+    -306018190565777358536704.0L,
+    -306018190565777358536704.01L,
+    -306018190565777358528512.0L,
+    -0.00000000000000000000001188247281307349804170943905849652123762527396118682182243569502156203764021112634363674942505895160138607025146484375L,
+    0.00000004671710391507445078947406167394485452561136984428458163165487349033355712890625L,
+    0.000000000000000000000000000000000016442086732373440070354943706560708556819644844471332694035565436396031711328862428293650955236045239742093126977806605282239615917205810546875L,
+    4743754767490556309893726892720128.0L,
+    0.0000000000000000000000000000000000825147798330548614507979379293220358838027252853934911883303903205158742956154857187043038449023447770958039626520985621027648448944091796875L,
+    -60458363739972.34391021728515625L,
+    -3196167100021642131584616353462661152768.0L,
+    -212645058708172937896921137152.0L,
+    -0.0000000000000000004086489629046509873823116398731036900428842977087671316431422030047981852618477205396629869937896728515625L,
+    -2100734098880489595355871206970243409689975596142218151198720.0L,
+    -2100734098880489595442983492902003656336599495644750813331456.0L,
+    -2100734098880489595442983492902003656336599495644750813331456.01L,
+    -2100734098880489595399427349936123533013287545893484482265088.0L,
+    -0.0000000000000000447382210877312455180120704869061738980585002158635256593933494928538863177891471423208713531494140625L,
+    -0.00000000000000000000000000000000000000000000000000062239225388448141882770813553575138770252190290001492044750642960140691401141792561347247851126352668288456595651346225558767681928473941392609969369686950813047587871551513671875L,
+    9168893584385312595902464.0L,
+    2287569732199546950952953989226775269475165957961591816192.0L,
+    -0.00000000000000000000496612412654241082656818852456113014659463310850504961569099993706657807102100576912562246434390544891357421875L,
+    -0.0000000000000000007851464614359659814151397513526221243280353070107977178868096691799483011209304095245897769927978515625L,
+    -0.000000000000000000000000000000000000000095991954576836200036056700249687211045482375086659380147939569286325305101812455516337450946527178052407338506419286205950669454978196881711483001708984375L,
+    0.0000000000001010086468219467038367750794124620605346634258194025816901540082426436129026114940643310546875L,
+    725906771978851712237568.0L,
+    0.000000000000000000000000000025236938834525258565363954588054443519507844029729773890739372976677698198370513617871447632767800683950554230250418186187744140625L,
+    0.0000000000000000000000000000252369388345252585660481823538380456049198213653205532517160633779845906650487696158645096848605060557702017831616103649139404296875L,
+    0.00000000000000000000000000002523693883452525856604818235383804560491982136532055325171606337798459066504876961586450968486050605577020178316161036491394042968751L,
+    0.00000000000000000000000000002523693883452525856570606847094624456221383269752516357122771817733114443170964161686797865881415336986037800670601427555084228515625L,
+    0.0000000000000000000000000000012537183880526514582431205820719610550441026718276581127777993940487140552214586291214777993320572679891711231903173029422760009765625L,
+    0.000000000000000000000000000000000079108203998482037804152542477345994113573867492505239703917566614997020827876826467424163594969926450485575575299890260794200003147125244140625L,
+    -1842789532278996221312.0L,
+    0.0000000202289455015291306591742076670180255676574632150988009016145952045917510986328125L,
+    -0.0000000000000000000000000000000000000001941128495854398268012077117449666268416385691429131213101116896362177422342528462862143868828816831020500071757102500402680789193254895508289337158203125L,
+    5761753147757879130426403272415561273542183579844186472448.0L,
+    0.000000000000000000000000453726882848298971673844546439525593242945885866415842574234854637083339161190108368426621154867461882531642913818359375L,
+    -922744789782534.086181640625L,
+    0.000000000000000000000000000000000000000000000000000000901973087673902804597111607648967594609272023587966507113870644085164470344283685476526754418452290734178028335212355444865774432077313588509328147295451838516555653768591582775115966796875L,
+    0.00000000000000000000000000000000000000001009299555797188805021350361471527058663947027176941186978010206316094930835109816106415895749119261786553311509770087910087266180880760657601058483123779296875L,
+    0.000000000000000000000000000000000000000010092995557971888050524654378608327671996673474458418081809614671597007665006153991803643899192961789924730356253986559948720991286563730682246387004852294921875L,
+    0.0000000000000000000000000000000000000000100929955579718880505246543786083276719966734744584180818096146715970076650061539918036438991929617899247303562539865599487209912865637306822463870048522949218751L,
+    0.0000000000000000000000000000000000000000100929955579718880503690789966617991293180718731139149757948583673789784866786260764339014283420772038951317356758437195247968265476856686291284859180450439453125L,
+    -0.000000000000000000000000000000000000000000000000074976103714172717344402756812601864189200279340118895319357453998965090582035903254287631063240023794757711853341665046086488907384139286638191634892791626043617725372314453125L,
+    0.0000000000000000000000000000000000000000000376945261034553800116895847440063236354791117393574336707083661398932448459362221465092914133816821070051094315363010976596518097903043553742463700473308563232421875L,
+    0.000000000000000004095714740395366988473321310253353313733127468642948205436969677517566879032528959214687347412109375L,
+    -0.0000000000000000000000000000000000000000000000068157864821470342447927496736600628136128492209111821203183839879333023069333110084941667706130711550060518013092658834201969795846438870956518485400010831654071807861328125L,
+    0.111416344585814119602130978226028901190147735178470611572265625L,
+    0.00000000000000000000000000003493300718111174811782974714503701167222812793572543374259711684819084911379720762456490244785012322381589910946786403656005859375L,
+    0.00000000000000000000000000000000001281680576608429187167787329133428780939991686212207174906836480602883759973800798498583486283384968366753919877254475068184547126293182373046875L,
+    127317539421605487546558455085675579239825408.0L,
+    -473742861991763931625016000512.0L,
+    -0.197511474481842852520658247728047030022935359738767147064208984375L,
+    -0.1975114744818428525274345113060814327354819397442042827606201171875L,
+    -0.19751147448184285252743451130608143273548193974420428276062011718751L,
+    -0.19751147448184285252404637951706423137920864974148571491241455078125L,
+    -5244656420841458097158114439627538432.0L,
+    -332208872687010506230688064632075105816376734908416000.0L,
+    -39.8881787710207050545729856594334705732762813568115234375L,
+    -0.000000000000000000000000000000016532748389935749627622886149088667066633885165599251582359328836274272566991706555995233509336050925497829666710458695888519287109375L,
+    0.0000000000000000000000000000000000000000000003858137501935125819763231734272919553606097280603896444915926651093655659301647739436940413543795695980780880954428567679604929023529091836053339648060500621795654296875L,
+    0.000000000000000000000000000000000002697756606705673792493344494633455769935523097134778480253045448703884482196547395866068470763100037128345842774024276877753436565399169921875L,
+    -62070257009154599213421208443175631253946761216.0L,
+    -0.00000000000000000000000000000000005981800531282160056818655873697992519770971195954432356104249248810618632198575905092148639324782879479747155215818565920926630496978759765625L,
+    -36846959501308335447424662464053258436860599039164416.0L,
+    -51823846296.6963321529328823089599609375L,
+    -51823846296.69633215479552745819091796875L,
+    -51823846296.696332154795527458190917968751L,
+    -51823846296.696332153864204883575439453125L,
+    271706356487172236907158349088911477630094537578774528.0L,
+    0.0000000000000000000000000000001411353065314236848279050697326858519906496435248516818008165997037128627346642890516748673214973697209728697998798452317714691162109375L,
+    -10164083694678038071220740554752.0L,
+    -0.0000000000695888228196980860569940829637750455271760709370643116500332325813360512256622314453125L,
+    -13631213796389539259.0L,
+    0.000000000000000000000000000000000000000000000000000000000288098668864215613611989865451902723290884642697998604252136526077648862504437801430694705319032030968625184507124043951345443281988608689018472033276812606372718761349460692144930362701416015625L,
+    -6803799822059179074408965658981984894976.0L,
+    1636151409509870904960.0L,
+    182196430349750556304.0L,
+    298297594009889026336.0L,
+    298297594009889026352.0L,
+    298297594009889026352.01L,
+    298297594009889026344.0L,
+    -0.00000000000000000000000000000115683440340812824148333923353404272048972676648013641815978714441976256375996613540960318566863662681498681195080280303955078125L,
+    -0.000000000000000000000000000000000000000000000000000000000003593347937104065563436945301647569762887745258109169076793273025919834577292127550335418545933385049668218168941591512002536319275364072747289148282685705975032786074763180295121856033802032470703125L,
+    0.0000000000000000000002403339969414441148486815340457880256934619816809496058226949025579915857064872142245803843252360820770263671875L,
+    -1146991407273697387948802048.0L,
+    29033737626629.1723957061767578125L,
+    -5929392783966773164387884048916015015264256.0L,
+    83568843302950604630573187072.0L,
+    -178.41763126335363033592162906870726146735250949859619140625L,
+    155247723811853718913636368384.0L,
+    -708176154236763388849779014110237521916026483952643473408.0L,
+    -708176154236763388871046662042796175882487396917128986624.0L,
+    -708176154236763388871046662042796175882487396917128986624.01L,
+    -708176154236763388860412838076516848899256940434886230016.0L,
+    -1090848782655578240111332442348649390255211361591397623791616.0L,
+    62967461423338533795499510738807355674667778048.0L,
+    -442875453473802139722523721121176485888.0L,
+    -7170395745975443119003836395712713659403708261203968.0L,
+    15510.2520010299596311398317993734963238239288330078125L,
+    -13661511036017176715265308455075840.0L,
+    11109.72265171493976776417866858537308871746063232421875L,
+    -2104920489077459452034023424.0L,
+    1374588884446883518822056951073528915113689991023622988234752.0L,
+    -3517947.505940846088606122066266834735870361328125L,
+    -3517947.5059408460887198089039884507656097412109375L,
+    -3517947.50594084608871980890398845076560974121093751L,
+    -3517947.50594084608866296548512764275074005126953125L,
+    40629992372459875225143528444286125566424185610270496784384.0L,
+    1681748156953867696735287674426907396734451712.0L,
+    0.000006316819043247986960381258506890575325776193693627647007815539836883544921875L,
+    -0.0000000000000000000000000000115133856536058918036075871664187520653708129910390278758500301246954785081623194033681955271430918941177878878079354763031005859375L,
+    13180248075489856676954112.0L,
+    16760761439287062482.0L,
+    -30820195722022953416737030051725312.0L,
+    -0.00000000000000000000000000000000000000000001705192301838669775141363708701529309165749933726962866647536123097861094850681322071823183344820359108993030515087688576037101839677490033864160068333148956298828125L,
+    12528527239577444364895949607452964326966695085211648.0L,
+    0.0000000000000000000000000005915432745985816627693354107391126892453940957136042588226478041130307901768387552981186272571534345843247137963771820068359375L,
+    0.00000000000000000000000000059154327459858166279123069924418795597857737045250919837390189695485134911054294723389661292412000648255343548953533172607421875L,
+    0.000000000000000000000000000591543274598581662791230699244187955978577370452509198373901896954851349110542947233896612924120006482553435489535331726074218751L,
+    0.000000000000000000000000000591543274598581662780283054991650322611985733083056728598274850533941069643690851266007620090636720533439074642956256866455078125L,
+    0.000000113938496649202328534312553419236504104357365907418397910078056156635284423828125L,
+    -0.0000000046783963283864934929356534373809449293968310001901045325212180614471435546875L,
+    0.0000000000865740012522179648406520377450824572719385798132141207616996325668878853321075439453125L,
+    -0.0000000000000000000000000000000000000087258724773028661631756770635083123945172947252728514013265094073045171416028784289678648548131134539759343345631525945549356038100086152553558349609375L,
+    -0.000000000000000000000047664548135575278936220083808123006567063467594302392594630359235850300815388880248946179563063196837902069091796875L,
+    0.00000000000000000264339896322693816089519635301438336048384649138276366540697818498240057039083694689907133579254150390625L,
+    -0.000000000000000083726816682710938911599516836561096410834532280676716984430495160918184183174162171781063079833984375L,
+    -0.0000146150170514118752338219598484289792061918689114463631995022296905517578125L,
+    -0.000000000000000000071154883755422209055541939394246064359979368897543938626054348139428340491718927296460606157779693603515625L,
+    0.0000000000000000000000000000000000000000000000000003210530934359252888733518151966247161748682107155417853185402476565973793619708160640782277498875860622121593952054723166966445330259385777739618295090195942975697107613086700439453125L,
+    0.00000000000000000000000000000000000000000000000000032105309343592528888240749427545142854237733000642957709922277885473651755155343095401372906848043117695169084716643041615059697232281640742984456238229284963381360284984111785888671875L,
+    0.000000000000000000000000000000000000000000000000000321053093435925288882407494275451428542377330006429577099222778854736517551553430954013729068480431176951690847166430416150596972322816407429844562382292849633813602849841117858886718751L,
+    0.000000000000000000000000000000000000000000000000000321053093435925288877879654736038072358622770360985681208881513255666948456762123509045978409184008619581925121185951366423620752674377492601903195945656221965691656805574893951416015625L,
+    0.000000000000000000000487163015839623038015357909115937299198094345300433573977139335294222859118473678563532303087413311004638671875L,
+    147586731754759854951402509543287927341056.0L,
+    80250629977965186827799942400919285530624.0L,
+    3846221558518930904320.0L,
+    0.00000000000000000000000041667727610950802329974349954468184729576570303059127939122695593023489385388520578334947686016676016151905059814453125L,
+    -401434847929003365.46875L,
+    0.0000232207057111145078147120806642106881356735215149456053040921688079833984375L,
+    0.0028529664939993898499083859778002736362623181776143610477447509765625L,
+    -57055998988841598630548270421949546496.0L,
+    8455298641250470091977864238858240.0L,
+    8455298641250470092259339215568896.0L,
+    8455298641250470092259339215568896.01L,
+    8455298641250470092118601727213568.0L,
+    110671058623268473906175730280822124694208512.0L,
+    -122210074608827366482350314533326381767458816.0L,
+    2404490222649558775451512358792684125669094280134656.0L,
+    0.002846307099196163639778076504156800741185406877775676548480987548828125L,
+    0.0000000000000000000000000000134889063685857622937843497513108770801948183470829579547627306208305013840323280261009573910424563791821128688752651214599609375L,
+    0.00000000000000000006027126271295235843674682845600651806177889340387964604943608448554825951504199110786430537700653076171875L,
+    -0.00000000000000000000004586838171697951697749256645473574793597596816504901273303839028973164816671559407268432551063597202301025390625L,
+    0.000000000000000000000000000000000000000000000000000000121920416897588913351347718852294371675902790579482644254802707033633363823624632028385628229842440798625890897007095349943999230328381911218472600654146031917690606860560365021228790283203125L,
+    -0.000000000000000000000000000000000000000000000001870511874013883624251916439345161515801169001843145850814052127428578468998924298400097966420137867565844446186297946178491267372264068857834473647017148323357105255126953125L,
+    -0.00000000000000000000000000000000094396531828991725108972902655052950451662177730020614379446116215069383850432133503409873845848188263218947469113118131645023822784423828125L,
+    -0.000000000000000000000000000000000943965318289917251131490975145720061487567659599448048150948613402335224409976608349104967223905794486416009902995938318781554698944091796875L,
+    -0.0000000000000000000000000000000009439653182899172511314909751457200614875676595994480481509486134023352244099766083491049672239057944864160099029959383187815546989440917968751L,
+    -0.0000000000000000000000000000000009439653182899172511106100008481247830020947184498270959727048877765145314571489716916018528411938385593027422970635598176158964633941650390625L,
+    0.0000000000000000469613118640700686156595215260013662245067835972939512885373884720774384504693443886935710906982421875L,
+    -0.00000000120754946945556560450055778290955500804573601036917551709848339669406414031982421875L,
+    -5606272518.3187746792100369930267333984375L,
+    0.0000000000000000000000000000000000000000000000000154101570535164454174519761648705543058989831051925756883852753337953393792396414199482768532177670863698912769805440693723397449898184657403332753489166861982084810733795166015625L,
+    -0.000000101085881235316383934040594799078384142913822341114382652449421584606170654296875L,
+    0.00000000003112445714885011825893361470389601560994490849453020242521006366587243974208831787109375L,
+    0.00000000000000001191752358742347639806201330447667666045736304984639497477690202320577128602963057346642017364501953125L,
+    -1029914872075880387129266961121280.0L,
+    0.00000000000000002100216061940893484307834995161260023809725588070685476908979437415947444378616637550294399261474609375L,
+    937088790161734444598015166378218885162141933895680.0L,
+    937088790161734444638579985585522226010036436467712.0L,
+    937088790161734444638579985585522226010036436467712.01L,
+    937088790161734444618297575981870555586089185181696.0L,
+    1254017853160799.6409912109375L,
+    0.00095652612965516367977012661232005807931955132517032325267791748046875L,
+    -30855553362655938428812824386627999973244928.0L,
+    -318.496481401889125206761121944509795866906642913818359375L,
+    -3337315669058658802.25L,
+    35813.887574003159283364539078320376574993133544921875L,
+    0.00000000000000000000000001054366150779264544786517399701697335279388310758424391964262867749135046520768030885173427435574922128580510616302490234375L,
+    -0.000000000000000000000000000000002509500345999321271729620072255089578153612870965656249942635998731657254680873411277570165077584717072678444083067006431519985198974609375L,
+    -0.0000000000000000000000000000000000000000000000000000000034597636255593313496693133377779270147032875592287599855029205746373526493394177182912524730661844624580394198784315717283511354081080320738127241087162856703063340546577819623053073883056640625L,
+    749482660790019473630644842338005608264595013015369934700544.0L,
+    749482660790019473652422913820945669926250987891003100233728.0L,
+    749482660790019473652422913820945669926250987891003100233728.01L,
+    749482660790019473641533878079475639095423000453186517467136.0L,
+    0.000000000000000000000000821213798585262267042660622658711320695045926469945926942003262342543826551280634895579879639626597054302692413330078125L,
+    75786164942297324879435368512460270296761976501055648694272.0L,
+    -224780716166625892391262337839923200.0L,
+    -1233115593291747442703728640.0L,
+    -0.000000000000000000000000000000000000712958120091905604313410646806615494552019370566743766047584288564431707818367022228141813636568884662652288708439840547725907526910305023193359375L,
+    -2517957039361097154228343900471296.0L,
+    -0.000000018592065512761158947396880735607088198403646917000742178061045706272125244140625L,
+    -0.04323035061761727007679308350251989878643144038505852222442626953125L,
+    0.0000000000000000000000000000000002585043110939791235634678810456582454198856632388919231662571006360466639993081200899877749911986925430984474161277830717153847217559814453125L,
+    0.00000000000000000000000000000000000000000000000005419820560479648367664082780951427546175160337010833046653455748132204695415101753795808550586108674750909821816001353144518633200905802053959359199097889359109103679656982421875L,
+    0.000000000000000000000000000000000000000000000000054198205604796483678959081653693913827833937908575605162389285468045666330684166949781573843420855096882418269862018804905398156469058744931499571606536846957169473171234130859375L,
+    0.0000000000000000000000000000000000000000000000000541982056047964836789590816536939138278339379085756051623892854680456663306841669497815738434208550968824182698620188049053981564690587449314995716065368469571694731712341308593751L,
+    0.0000000000000000000000000000000000000000000000000541982056047964836777999547316040946447927706393419678144619214746838566424175922438698296746409709221957582440110161681752922442390583827355465817987578702741302549839019775390625L,
+    -680475323347589698421827207999414803103744.0L,
+    -1923.3189920281161688908611040460527874529361724853515625L,
+    -0.0000000000000631773180801686669591930605826684268697610033648664508432180042518666596151888370513916015625L,
+    2475762581222508402068975817585381575044440780936577024.0L,
+    0.000000000000000000000000000000000000000000000000000000000013574744818829551831468714340643318928767154992232943931756953834320600094083030949618131663969946762544445298902290110430728543566743912265849717411588651653185644274657306596054695546627044677734375L,
+    -59568923177053.342060089111328125L,
+    -0.000000000000000000000000000000001845526375872272214308526188706523841603765342448637149784765180535038105121384315277997482856249707172668905741375056095421314239501953125L,
+    0.00000000000000000000000000000000000000000000000058971063891629459577820369972750079559233667205310313120364373992680660134720345276156021291682643040250301161349335715409036516633793818809028408622907591052353382110595703125L,
+    -154297613669.4879255592823028564453125L,
+    0.00000000000000000000390500177440159158786925454162459738924928705288420029818751444766430393207290450163782224990427494049072265625L,
+    0.000000000000000000003905001774401591588052925533940579812369402136825176185346680940909942607308646955743824946694076061248779296875L,
+    0.0000000000000000000039050017744015915880529255339405798123694021368251761853466809409099426073086469557438249466940760612487792968751L,
+    0.0000000000000000000039050017744015915879610900377825886008093445948546882417670976942871232696907757286908235982991755008697509765625L,
+    0.00000000000000000071220923716903509970636171138204309355017841996881319527104288284735655878421312081627547740936279296875L,
+    0.000000000000066487633206576075544855035359031008042003302302750365748718053282573237083852291107177734375L,
+    0.0000000000000017581584133807380398801227071049786507779825221617909223638387405941330143832601606845855712890625L,
+    0.0000000000000000000000000000000400478688240749954879456709634370270837231544779817054751121321995613117176656914037313699070326500351058029991691000759601593017578125L,
+    -0.000000000000000000000000000000000000000000000001368316808529888092338474070758631618289866319743858344190884842009542630029455434688457423970210878934444165310378688242535128068155803049421592731960117816925048828125L,
+    32354.1730569952564682267848183983005583286285400390625L,
+    -0.0141302854081488874032383686214775497802520476398058235645294189453125L,
+    -0.00000000000000000000000000000000000000000000000164647906926433505481691250024215230126525261419447072028249647266622166077745924253908893659080003048576022379673359226803499717989125172845632505413959734141826629638671875L,
+    -0.00000000000001223683826830191223636174904315694458098852325654800937866639731765872056712396442890167236328125L,
+    6138536388354234593816072757960507392.0L,
+    6138536388354234594104303134112219136.0L,
+    6138536388354234594104303134112219136.01L,
+    6138536388354234593960187946036363264.0L,
+    -1.219441926060177642317412793904196632865932770073413848876953125L,
+    0.000000000000000000000000804213316264557051178180210957992459038903744039467364832671691249670832256379350566621866391869843937456607818603515625L,
+    0.000000000894090971445217920331873750001466732721037804221264622128728660754859447479248046875L,
+    -0.000000000000000000000000000000000000000000007205999095147891775710990321368915462007139132978223317615850378164776301616015205602712908451645640817658984504484523454684134768921666136520798318088054656982421875L,
+    -1529383049435141586386182733824.0L,
+    2472523502148396134077975430136033275921531939061760.0L,
+    0.000004100341289874055266157775919758890666166895044852935825474560260772705078125L,
+    230963240941842812458416339879267926016.0L,
+    9266636650233801.1005859375L,
+    62597825155778094960.0L,
+    62597825155778094962.0L,
+    62597825155778094962.01L,
+    62597825155778094961.0L,
+    -395020437871407808151961513186295808.0L,
+    516386986131076377910613257452101936108405986484577248477184.0L,
+    60218610.528784011155948974192142486572265625L,
+    0.00000000000000000000000000000000000000442444424075710280573223560943498995957734738993274894449520308738867484834120591976785597749223683112106518945487454441689578743535093963146209716796875L,
+    0.0000000000000000000000000000000000000000000000000001551458123164860681820596395463252322869488809930737329008084033119603272735263997343542700372204299099208675949675833937756980911693952085808091700958044611979858018457889556884765625L,
+    0.00000000000000000000000000000000000000000000000000000021979841556391460896077947356799721736273887641462880806105114754270205847941657876957014576798869430383945375112068270978491546847386957386755095629655987199413402777281589806079864501953125L,
+    -0.0000000000000000000000000000000000000000000000000000000001298428560162445552933613411981057936678060073648847010249479983232822407479915641119201227930640909442206684901493688699155708252451018847549789470903169028882795377199954600655473768711090087890625L,
+    0.0000000000000000233469812343697617599122681748288806525627383035838889214640297364855570094732684083282947540283203125L,
+    -0.000000000000000000000000000000000000000000085488992807571886271272846707339552310726831807099659083496092076990868851604897790467640351442233465815243245599628596725731710659346163083682768046855926513671875L,
+    -4494904703290154.35888671875L,
+    -4494904703290154.3590087890625L,
+    -4494904703290154.35900878906251L,
+    -4494904703290154.35894775390625L,
+    33845145310027147785676728838021113885989078446886617088.0L,
+    -16387746.75245827767867012880742549896240234375L,
+    -0.0000001936444601324805899348572471499108278193690413360172897228039801120758056640625L,
+    4762933862193021437607936.0L,
+    0.00770735426944659329710115018736982239744293110561557114124298095703125L,
+    -0.00000000000000000000000000000000000000000075385793504671771320808683138188187339988382026967687344541347398591258961134362270091959713291020629144329182863668199765516675370236043818295001983642578125L,
+    0.000000000000000000000000000000000000000000000130513348531508528992592201115549237026255807805733928497487937362099687237932074949595255327015422730085540919383537356261235497061068411284168178099207580089569091796875L,
+    0.00000000000000000000012133308569303345818862622536454718668894541443927883046134666290122826326491889403769164346158504486083984375L,
+    -0.0000000000000000000000000000000000000000015182598902883538009757332703547961848461612319608948742640026213918840339373614340710386656174037732411215200436466568091609108392958660260774195194244384765625L,
+    530169894773485059452400828416.0L,
+    530169894773485059469580697600.0L,
+    530169894773485059469580697600.01L,
+    530169894773485059460990763008.0L,
+    -129601242991.7756468951702117919921875L,
+    -0.0000000000000000000000000000103760161754187410378010418880931256457607432060906249468827775257662154626980094061672213294478250844576905365101993083953857421875L,
+    0.0000000000000000000000000000000000000000000000000000000011013931952703803070434556952070729477266023375219174905232259068102821990744591616117137710165596049387724483463550551184214758551691893464474129063525851580929160178357051336206495761871337890625L,
+    -322104768838534799914087593136638217737469952.0L,
+    -0.00000000000235767296307812083172738737975590613565734721059248546470854535073158331215381622314453125L,
+    -0.04766811181690409246651594747656854877959631267003715038299560546875L,
+    0.0000034156674982682283342967381666870790336842933498928687185980379581451416015625L,
+    0.0000000000000000000000000000000000000718582873892912493495498818934637412373688312144752678966432814295471043107021274828987051542811694618883362924155466799902569619007408618927001953125L,
+    43269285345348721674480298849045599555158016.0L,
+    0.0000000000000000549771481396608024511221860153147372131227905681120848047104855693678615580211044289171695709228515625L,
+    0.00000000000000005497714813966080245262681878436726522332277333575655927231837748203613358555230661295354366302490234375L,
+    0.000000000000000054977148139660802452626818784367265223322773335756559272318377482036133585552306612953543663024902343751L,
+    0.000000000000000054977148139660802451874502399841001218222781951934322038514431525701997571786705520935356616973876953125L,
+    111104609859382779003141033882487357440.0L,
+    11006810.4994099925652335514314472675323486328125L,
+    5055254029.842868139035999774932861328125L,
+    -5109969597537443030.0L,
+    0.0000000000000000000000000000000000000000000000000000451756222942595015088269970305871207489422946308445909576379821479275777028548742326084706929755006813403511514823663745414508472012391358438830601951252674552961252629756927490234375L,
+    14073213205073428474201999961106357180956672.0L,
+    -3459235917953281621498024974859894784.0L,
+    0.00000092377734881994023622349392870425487285512833324219172936864197254180908203125L,
+    -73769216045314096131735552.0L,
+    -1350481746682123125579382774434026788539596800.0L,
+    -1350481746682123125618068400661694922130194432.0L,
+    -1350481746682123125618068400661694922130194432.01L,
+    -1350481746682123125598725587547860855334895616.0L,
+    -0.000000000000000000000000000000000000000000072714577256850703584137962079995848613179026165274063042157442580525773369680586673084682587553393700887460025186733171792367869112894140926073305308818817138671875L,
+    -270257851425650168928530281252873062842368.0L,
+    -757239204506629941468638122876147397849873816832067195895808.0L,
+    7745446890197298895065456982561615973325312192675840.0L,
+    0.000000000000000000000000000000000000000000098529720712170037027378083948431995949557272332154178938535644459864043091420693129341619712411211832051319338474291401226701214710601561819203197956085205078125L,
+    -14907174339816432174279814021120.0L,
+    -23578801175166571339841536.0L,
+    -0.0000000000000000000000000129751853825290950679922692129004781166592550326969332497091453042069099418272270542173973950639265240170061588287353515625L,
+    0.00000000000000000000000000000000000000000163632524416995231406454625599898091582188019812011730328300597870207303171923237598387633915718122662403654796217070295505369159627662156708538532257080078125L,
+    719829026316461594368.0L,
+    719829026316461594400.0L,
+    719829026316461594400.01L,
+    719829026316461594384.0L,
+    -0.002082226078456348139910723061933583988292184585588984191417694091796875L,
+    -0.00000000000000000000000000000000121074977105063533730567028373018019475509393972339093108713319699636745438166942327154074800029293253189610624076522071845829486846923828125L,
+    116867460945130297311232.0L,
+    152821998546111352245220249620881643055470287412223788711936.0L,
+    0.03675896248020421106035191503857983974512535496614873409271240234375L,
+    28517449040.88026253692805767059326171875L,
+    -0.0000000000000000000000000001323322993738003440830944557693891949001637077585769175534249197243509921170758335154209184292284362527425400912761688232421875L,
+    711584367488269173973483403478463898714112.0L,
+    -236100929.72476985809043981134891510009765625L,
+    6369.61559569472808650658635087893344461917877197265625L,
+    6369.6155956947280867286309558039647527039051055908203125L,
+    6369.61559569472808672863095580396475270390510559082031251L,
+    6369.61559569472808661760865334144909866154193878173828125L,
+    -482697259181036759797564764376939888640.0L,
+    -0.0000000000000000000000000000000000000000000000000000113402621909250488412493348516982421390317613113403299922171393081940455613724531458363002912306707238746682978802018497448445242149342149817520426779982045673023094423115253448486328125L,
+    -0.000000000000000000000000000017220603072448548317362872923580203504779587409342245706340546090422715860048825182838732293644223858564146212302148342132568359375L,
+    0.0000000000000000000000000000002056519190019526149823026542972871331368174012480850129068508004871799880155156943437394436065279723635512709734030067920684814453125L,
+    -0.00000000000000000230291397464459675453905899628644788697718874072337643110018460569643483637491954141296446323394775390625L,
+    17548293689789971182.0L,
+    2738325750.1468287720344960689544677734375L,
+    321462.58791733524202527405577711760997772216796875L,
+    0.000000000000000000000000000000000000000000000000000000000095574180301886998618962444627019076906674259916740137509638223136515228027040413749381503022831866824915078476230257018747748152682609216424512655457994074990890620568961821845732629299163818359375L,
+    -0.00000000000000000000000000000000000000000000000000542708097856963636241795710346563206020988633424244964118758898230558894743545628527969986794566984228833791009834258951846004327387160332853144328879579916247166693210601806640625L,
+    -0.000000000000000000000000000000000000000000000000005427080978569636362707738833988086855970178151550858978169429980646041369502099961757635910140640885960002916561093248700986521331371693877519690740740543333231471478939056396484375L,
+    -0.0000000000000000000000000000000000000000000000000054270809785696363627077388339880868559701781515508589781694299806460413695020999617576359101406408859600029165610932487009865213313716938775196907407405433332314714789390563964843751L,
+    -0.0000000000000000000000000000000000000000000000000054270809785696363625628479687268594580900322428966543096785094814758151584687781235186678890431553641241704133297179191097232823026216486030255670147681712478515692055225372314453125L,
+    0.00000000000000000000000000000000000000000000000000000000000316941021842857307571281445899120591994974145078888437847052172579609569604314143175399209785415223914832413761454905796525272868067797503148824346318085149083743079501118700136430561542510986328125L,
+    -0.0000000000000000000000000000000000000000000000000002454595697007873309982464724798204503349513228762408468552744710489045326713000261539597218837906522216753197037862109887926441500110955423155818799774152694226359017193317413330078125L,
+    38890639750315092081767855985891898157050005727215616.0L,
+    0.00000000000000000000000000001755700698649937317124255453804954441161898012768635306029289518590767702026520494221662090084112861632092972286045551300048828125L,
+    8319913478869334673201072963584.0L,
+    0.00000000000000000000000000001947512519981567182808353810383288668195030315543225578277412541451133825379089514401374609586792274740218999795615673065185546875L,
+    0.0000000000571421284952232108100508900874899789120665220647221627103817809256725013256072998046875L,
+    -41428587937844459828774354681263037255033613960128101351424.0L,
+    -0.0000000000000000000000000021657059296280274622525527887366632146693798037130777921457200801624172744616215872427711364167635110788978636264801025390625L,
+    -24748819162196501068051308083150848.0L,
+    -24748819162196501069177207989993472.0L,
+    -24748819162196501069177207989993472.01L,
+    -24748819162196501068614258036572160.0L,
+    -443088265823098534651156881463038922761175040.0L,
+    -0.000000000000000000000351214162278790273717730889565496439834388518552679275859600046075315927553150974205209422507323324680328369140625L,
+    -3649180972301.5504829883575439453125L,
+    0.00000000000000000000000000000000000000000000000000000000000571912016237594436250481122072192383541078742771601667735483556281766391147743994949864052404971622266165188482417645479511549798033211745726326943457585550117765194055863275934825651347637176513671875L,
+    -958002084085.8722264766693115234375L,
+    -0.000000000000000000000000268621984539026418038998781776294312613459416168563240425851742519566471743765363744405050283603486604988574981689453125L,
+    0.00000000000000000000000000000027328284574502864064220173576043426369244401305901475402588740842364287675554695888067549048618121165787897552945651113986968994140625L,
+    0.000000008465165752133158156612129461031669087531757733611215144264861010015010833740234375L,
+    8775356567698459900883381921585124593654300672.0L,
+    -30.22509622493056742099926115230346113094128668308258056640625L,
+    -30.225096224930567421866622890291864678147248923778533935546875L,
+    -30.2250962249305674218666228902918646781472489237785339355468751L,
+    -30.2250962249305674214329420212976629045442678034305572509765625L,
+    0.0000000000000000000077062421034709399146551976200908413804074286482771765451018679285118996580283834418878541328012943267822265625L,
+    3058464027976983933845947070102934388736.0L,
+    0.000000000000000000030042694076991862300719071334861126554378310479709096229233728230119393476371669748914428055286407470703125L,
+    -0.0000000000000000000000000000000000000000000003219775396084370675353159192836851204168425313141711934511173710395671822599534353906516118777472921816292880002081094924234832242715409478250876418314874172210693359375L,
+    1392927800800963251712272413753344.0L,
+    -39246980739619072098676667374291124224.0L,
+    -18612.573966509568609950520112761296331882476806640625L,
+    -2520553054184961905375023640608768.0L,
+    -0.0000000000000000000078597594447323672086094151271437077996682071311272955183661478468777443484594158462641644291579723358154296875L,
+    0.00000000000000000000000000000000123342171096296645386379257823180614973319340473644647835605007849119927807286449752387813025986053501459327463862791773863136768341064453125L,
+    0.000000000000000000000000000000001233421710962966453905554526826996706704139287035688382712537529742840663978519770838884359025284446868819809850492674740962684154510498046875L,
+    0.0000000000000000000000000000000012334217109629664539055545268269967067041392870356883827125375297428406639785197708388843590252844468688198098504926747409626841545104980468751L,
+    0.0000000000000000000000000000000012334217109629664538846735525294014282186663458860674305342938041170199710256921341813812446425724909417065422445602962397970259189605712890625L,
+    -0.0000000000072535381756964076224373817740422266755437961786336098501948299599462188780307769775390625L,
+    425942479822628571381760.0L,
+    1040813835025663497571188550733906013735692529565696.0L,
+    0.000000000000000000000000000000000000001930891579591243643611196612250927136466053647006678985487625713047576639350681786680739917237244530690750215725683125445044652224169112741947174072265625L,
+    0.000000000000000000000360978091765342231359183000449248518795283691073474168879969253467872455053144786774055319256149232387542724609375L,
+    0.000000000000000000000000000000000007771898239309149716212128756933869922184952967374580907144243780074113878368782020837400195334652636190535257565414894997957162559032440185546875L,
+    -0.000000000000000000000000000000000000000000000172180505637831583186679536792681685899941526192841850094847641377125905620881222821583121836863082909606084908046927013988494094796910527378486222005449235439300537109375L,
+    -626740.22953940034722108975984156131744384765625L,
+    -65039854274.8830124698579311370849609375L,
+    78080199005773395561899430308622159086670910960173056.0L,
+    78080199005773395564495578737889572900936159124783104.0L,
+    78080199005773395564495578737889572900936159124783104.01L,
+    78080199005773395563197504523255865993803535042478080.0L,
+    -68079756772620077756.0L,
+    -7786695822313298775031954662194413568.0L,
+    -0.000000000000000000000000000000000000000000000000967354185679637370778888634666128039904398041770230060102362280807203745548375747709564597687051465510312409906893035600529713100687555227263914048307924531400203704833984375L,
+    -0.00000000000000000000000000000000000000000000002756099359679172538445290452194461409620219508485538619044853954170942499310883690490993566903084640113654954760248850486169060517403772703204367644502781331539154052734375L,
+    10214553190442967292056158991614677010612224.0L,
+    -62195686246387983324889825044698537719501253717912453120.0L,
+    -0.000000000000000000000000000000000000000000000002691636093834778929739282720096419177244326869062749960312673926282368290669074732765927378606811149705913075346832877616830411178602995569963951538738911040127277374267578125L,
+    0.000000000000000000000000000000000000000018372746813519597351883874782938933593194945455824841430439941770633538386396603124225220433573271487546970003320125942869456281414386467076838016510009765625L,
+    0.000000000000000000000000020802762390809010354245285676323538870861135649143127347724885768877557228119274009003891734437274863012135028839111328125L,
+    0.00000000000000000000000111469523365511958670211917862164783883470846334468912357154913065971638529041802534447214156898553483188152313232421875L,
+    0.000000000000000000000001114695233655119586746960729480041985104267810009966439772517512799764889986644210428945456214933074079453945159912109375L,
+    0.0000000000000000000000011146952336551195867469607294800419851042678100099664397725175127997648899866442104289454562149330740794539451599121093751L,
+    0.0000000000000000000000011146952336551195867245399540508449119694881366773277816720333217297406376385311178867087988919593044556677341461181640625L,
+    18707682075878421380510777344.0L,
+    0.0000000000000000000749269646512520437809032953046950458438923029459835386322375170545413702871684336059843190014362335205078125L,
+    2.362407938939760843576054494263871674775145947933197021484375L,
+    2104424425965373231452413367418880.0L,
+    -0.00000000000000000000007233970541754202984466454014655351090450416307899028406810358070673904070345405781239378484315238893032073974609375L,
+    -0.000000000000000000000000000000000000000000000000000000000001500887135504560174643071961786923842619178056843176207006928385657485694760871490239819630175625246918868076945304228650356370601014593531590807185987081372375608057101459280602284707129001617431640625L,
+    75697276226182413028570812114056026847131533334917677056.0L,
+    -0.000000000000000000000000000000000000000000000018366931688772604774891345009098666562900276748389450284020696911400581158832512118541640148210548223788446290214857263644766404049601948855752198141999542713165283203125L,
+    0.0000000000000000000000000000001742104978728381225337184047199952706342763001712796036331097958894930595045766760449265726155669564700900764364632777869701385498046875L,
+    263928782037613768379124730268584415068160.0L,
+    263928782037613768388569463234323705495552.0L,
+    263928782037613768388569463234323705495552.01L,
+    263928782037613768383847096751454060281856.0L,
+    -531338838.02103712785174138844013214111328125L,
+    0.0000000000000000000000000000000000000003165712651199373485054660221289205863923495502262394208991703547926842202344702924521420566959983174282701923370197949481053001363761723041534423828125L,
+    46002707481276008292.0L,
+    -0.0000000000000000000168677305674390746157808916470520604257180963893682150204439708341373760358550271121202968060970306396484375L,
+    2056911264936328.690185546875L,
+    -0.0000000000000000000000000000000000000000000000000000004796771652804089087244804811614202346459552095545646972620434288250892503438244273772617313518225661939532067194188806641604236304853126382029729454954669609634265725617296993732452392578125L,
+    -0.000000000000000513686041246807162041649083943578165472029517510495756041528914170868347355281002819538116455078125L,
+    -0.00000000000000000000000019276974278247931713989033450008559135146601968042162255581902922195407379735219814687052775070696952752768993377685546875L,
+    1167639897667635331676834138947584.0L,
+    -57162310168485210584.0L,
+    -57162310168485210586.0L,
+    -57162310168485210586.01L,
+    -57162310168485210585.0L,
+    -0.000000000000000000000000000000000000000000000000000492028939046036296430164533388736195993352686224344988547940448995309056517685433851513677059813802099539921967792881140226409066522185337144192074365633970955968834459781646728515625L,
+    22177930726372840303612542102536192.0L,
+    165765824504595464153827727812616746846131862905028608.0L,
+    69537945518229673928102243601050839879085643618320384.0L,
+    -19090371422611302242.0L,
+    -0.00000000000000000000000000000000000000000000000000000093340665063659879507015433315623000760062804852770413610216179251519009681601669684757908048015715375145435545330190996122084432570261025398426595056644572423465433530509471893310546875L,
+    -0.000000012388514732418281469827005455014199989598015771985473065797123126685619354248046875L,
+    -51493665579531006232812402812508224618496.0L,
+    0.0000000000000000000010631613404711586122834220654179793008368496990102874676360892770509932771239025584009141311980783939361572265625L,
+    120212719.4416433496007812209427356719970703125L,
+    120212719.44164334960441919974982738494873046875L,
+    120212719.441643349604419199749827384948730468751L,
+    120212719.441643349602600210346281528472900390625L,
+    -0.0000000000000000000000000000000000046382902966875935076238988180267090694619219849634503256795051157177515932771542509845871118024875738041455652815869825644767843186855316162109375L,
+    0.000000000000000000000000000000000623344564103444515144616318738708887801447100396096630184610505912295154016415726502956486940727298499964614819646158139221370220184326171875L,
+    0.128723672495415186590550331302562625523933093063533306121826171875L,
+    -0.0000000000000000000000000000000000000000000000000000000018352210760864423667320969356870796314048624371494857949728349366800337226289351538171414297498668067588662614905459051569169669568081985786926825271643537451637939739157445728778839111328125L,
+    -14278755972429309571441360896.0L,
+    0.0000000000000000000000000000000000000000000000000000000170089166107058127615481286318244180471827994245515790291979544326088258421820586748989721816747278746361101515578559883698548393816757032367321627436794473364756186128943227231502532958984375L,
+    0.0000000000000000000000000000000000000000000000000000917269750108095603069735283999419309311066226780928474244565850742253564081644489887619575121025762861791009239169430935962671318627453660135735724612260355570469982922077178955078125L,
+    -20810257032173504989751283615729127991089211375616.0L,
+    -0.0000000000000000000000000000000025844871339880490081773758228936961346616561148370382082532456541025073140286137432293042271789335583009883379190796404145658016204833984375L,
+    0.0000000000000000000006366434460241933755559389904596556604670662494779978327554184572249361580287274620104653877206146717071533203125L,
+    0.000000000000000000000636643446024193375578897864499153463357080634970619818650314268880640992433195268773715724819339811801910400390625L,
+    0.0000000000000000000006366434460241933755788978644991534633570806349706198186503142688806409924331952687737157248193398118019104003906251L,
+    0.0000000000000000000006366434460241933755674184274794045619120734422243088257028663630527885752309613653920905562699772417545318603515625L,
+    -0.0000000000000000103170681039362436294390998780187737341640838078734490393102533889457816940193879418075084686279296875L,
+    -0.00006146516343253252872605105962158615617862977842378313653171062469482421875L,
+    16970420588391972442472448.0L,
+    -0.000000000000000000000000053104138766952609423017671209710820157386278103061693934208035077931618135293188355527949084944339119829237461090087890625L,
+    -3626027469206182631653661556621034127360000.0L,
+    2254247968226701.5048828125L,
+    -0.0000000001050104028171920795825794075258587226613483998731435331563943691435270011425018310546875L,
+    304916107318650536162643690743939465216.0L,
+    18243083360783333791354016518774958629931857014161408.0L,
+    -0.00000000000000000000000000000000000000004211968183228779794108602760637792674104606363868857616119142077869462670132998355172565763707400162846137095753909322659591651927257771603763103485107421875L,
+    -0.0000000000000000000000000000000000000000421196818322877979423306306619501550824748764494446010093094712124388601279502068746835974038810783166981599221642359499873098371836022124625742435455322265625L,
+    -0.00000000000000000000000000000000000000004211968183228779794233063066195015508247487644944460100930947121243886012795020687468359740388107831669815992216423594998730983718360221246257424354553222656251L,
+    -0.00000000000000000000000000000000000000004211968183228779794170832913416404091176047004406658858525044599556674341464009521320462752047753997257976543985166458829161317822808996425010263919830322265625L,
+    -519511275303109419905921479231258833108602978304.0L,
+    -10219242395636209005232641506760890670237731615940804608.0L,
+    -32176048029.10664459876716136932373046875L,
+    16505.5746414568646596165990558802150189876556396484375L,
+    -8217458312187930286751744.0L,
+    -22583895261485856324689888235922701418496.0L,
+    -0.000867485143277975695278941641562509001772696137777529656887054443359375L,
+    98567786315323154825216.0L,
+    0.0000000000000000000000000000000000000000000000012225043328481388717400098888378530039726217532817365605059716995253874951336476293876525133143222520882347298582470662151117644480592151767783803961719968356192111968994140625L,
+    -241566048129993825894043223605696272958202848201433677824.0L,
+    -241566048129993825904677047571975599941433304683676434432.0L,
+    -241566048129993825904677047571975599941433304683676434432.01L,
+    -241566048129993825899360135588835936449818076442555056128.0L,
+    0.000000000000000071669548940814636201292434482531209103188904435624237239583524117225721283830353058874607086181640625L,
+    0.0000000000000000000000000000000000001021333133112599694737498141711778174574558535685336924944366980060983139344827876991252160429472892701403298476581227305359789170324802398681640625L,
+    590844326054582353188479827968.0L,
+    10409.2390176243679515977191840647719800472259521484375L,
+    0.000000000000000000000000002590247347148924646427247044087492247772816306338143737606485489706054573370795613383721356370870125829242169857025146484375L,
+    0.0000002403380115345260110320804305069044746155648706320562268956564366817474365234375L,
+    -83278331695733356389160655332510269440.0L,
+    -10094640234551901521568819052896321536.0L,
+    0.0000000000000000061482048747430978230710372770775503191120705661702767226082090405714364322875553625635802745819091796875L,
+    -6260301922270.187018871307373046875L,
+    -6260301922270.1870191097259521484375L,
+    -6260301922270.18701910972595214843751L,
+    -6260301922270.18701899051666259765625L,
+    0.000000000000000000000000000000000011768245212460367121917764051620567373038477924240693425203214373780295253449308527970540074702873194656578548222825020275195129215717315673828125L,
+    -0.0000000064491651985818492063966975442734806269026899550045328624037210829555988311767578125L,
+    -422613392659683110758635007817809920.0L,
+    -126.320316510571186187361636399373310268856585025787353515625L,
+    0.000000000000000000000000000000000000000005100132286993798460154583811716707347656065243086832758236518204256746158981543729165781327914078718482702749908714971727174969373663770966231822967529296875L,
+    -0.00000000000005292432750651504010214649500827822799762160287245240340714413918021818972192704677581787109375L,
+    -0.00000000000000000000000000000000000000000027178936840892833137840366185395398376620470644739080874166739586363371018788225427266624218671229278975115797782903504474505407273454693495295941829681396484375L,
+    10831341269902.0518798828125L,
+    36065740743790104122247281108875011424256.0L
+};
+
+static unsigned long long_doubles_bits[] = {
+    0xCCCCCCCDUL, 0xCCCCCCCCUL, 0x00003FFBUL,
+    0xCCCCCCCDUL, 0xCCCCCCCCUL, 0x00003FFCUL,
+    0x9999999AUL, 0x99999999UL, 0x00003FFDUL,
+    0x00000000UL, 0x80000000UL, 0x00003FFEUL,
+    0x00000000UL, 0x80000000UL, 0x00003FFFUL,
+    0x00000000UL, 0xA0000000UL, 0x00004000UL,
+    0x2168C235UL, 0xC90FDAA2UL, 0x00004000UL,
+    0xA2BB4A9BUL, 0xADF85458UL, 0x00004000UL,
+    0x00000000UL, 0x9502F900UL, 0x00004020UL,
+    0x1B478423UL, 0xA7C5AC47UL, 0x00003FEEUL,
+    0x00000000UL, 0xEB79A2A0UL, 0x00004019UL,
+    0x00000000UL, 0x80000000UL, 0x00003FF2UL,
+    0x03ACDD2DUL, 0xBF21E440UL, 0x000043E3UL,
+    0xC79AC6CAUL, 0xAB70FE17UL, 0x00003C1AUL,
+    0xDD3DAC05UL, 0xF38DB1F9UL, 0x00004CF8UL,
+    0xA89E1467UL, 0x868A9188UL, 0x00003305UL,
+    0x00000000UL, 0x80000000UL, 0x0000403FUL,
+    0xA143BB8CUL, 0xFF76A5ACUL, 0x00003F9BUL,
+    0xA143BB8CUL, 0xFF76A5ACUL, 0x00003F9BUL,
+    0xA143BB8DUL, 0xFF76A5ACUL, 0x00003F9BUL,
+    0xA143BB8CUL, 0xFF76A5ACUL, 0x00003F9BUL,
+    0xBC7C6875UL, 0xC7A1FB2BUL, 0x00003F9AUL,
+    0x193E8DC5UL, 0xD44EC93EUL, 0x0000C061UL,
+    0xFFBE9409UL, 0x957BCFF4UL, 0x00003F7AUL,
+    0xF81F33D0UL, 0xB5D5B5E6UL, 0x0000BFA3UL,
+    0x79CFC624UL, 0xC17928C6UL, 0x0000BFB0UL,
+    0x4EEB8C04UL, 0xB2E53C6CUL, 0x00004010UL,
+    0xB3249534UL, 0xAD2F60A4UL, 0x0000C06EUL,
+    0x6EBCBA56UL, 0xC2FF8119UL, 0x0000C07BUL,
+    0x1D3C2B9EUL, 0xD9076BD7UL, 0x0000C0B0UL,
+    0x52466BE2UL, 0x8BC5FA06UL, 0x00004080UL,
+    0x52466BE2UL, 0x8BC5FA06UL, 0x00004080UL,
+    0x52466BE3UL, 0x8BC5FA06UL, 0x00004080UL,
+    0x52466BE2UL, 0x8BC5FA06UL, 0x00004080UL,
+    0x82C96E42UL, 0xE3606654UL, 0x00003F62UL,
+    0x1DF41E5EUL, 0x8F618CEDUL, 0x0000BF7BUL,
+    0xC8ED240EUL, 0x82FCCC0AUL, 0x00004015UL,
+    0x35EBE2D0UL, 0x9AA71747UL, 0x0000C042UL,
+    0xA4BEE82AUL, 0xE5861928UL, 0x0000BFF3UL,
+    0xF39142C3UL, 0xCC8116A2UL, 0x0000BF87UL,
+    0x23BFC8CCUL, 0xEBBAD5C6UL, 0x0000C068UL,
+    0x834E3778UL, 0xEAE49C9EUL, 0x00003F3DUL,
+    0xF47EF102UL, 0x8932D732UL, 0x0000BFB5UL,
+    0xE00940F8UL, 0xCDDFB01AUL, 0x00004033UL,
+    0xE00940F8UL, 0xCDDFB01AUL, 0x00004033UL,
+    0xE00940F9UL, 0xCDDFB01AUL, 0x00004033UL,
+    0xE00940F8UL, 0xCDDFB01AUL, 0x00004033UL,
+    0x772BC3AAUL, 0xA104324FUL, 0x0000C0B0UL,
+    0x5FEC055BUL, 0xAEDAC65EUL, 0x0000C065UL,
+    0x058B1D1DUL, 0xC32A579BUL, 0x0000BFCEUL,
+    0x4B1D9B32UL, 0xD213F804UL, 0x0000BF4EUL,
+    0xCC8C00F6UL, 0xAE4A0A09UL, 0x0000BFD3UL,
+    0x46F88860UL, 0xC74EAC9EUL, 0x0000C032UL,
+    0x78EE4BC4UL, 0x90881434UL, 0x0000C026UL,
+    0xA384FEFDUL, 0xFA4E5C6DUL, 0x00003FADUL,
+    0x7A593FF2UL, 0x827F34ECUL, 0x00003FC2UL,
+    0xE747A9A2UL, 0xE661B868UL, 0x0000408EUL,
+    0xE747A9A2UL, 0xE661B868UL, 0x0000408EUL,
+    0xE747A9A3UL, 0xE661B868UL, 0x0000408EUL,
+    0xE747A9A2UL, 0xE661B868UL, 0x0000408EUL,
+    0x4EAB541CUL, 0xFE5877C2UL, 0x00004092UL,
+    0xDBFFA4B3UL, 0xC00BDF3EUL, 0x0000C037UL,
+    0x1CA1CEBFUL, 0xCD378B46UL, 0x00004019UL,
+    0x08349608UL, 0xD4F1EFA1UL, 0x0000BFBAUL,
+    0x972DFE0AUL, 0xC40010DAUL, 0x0000C0A6UL,
+    0xFF988D47UL, 0xB174D216UL, 0x0000C053UL,
+    0x831C8CF4UL, 0xA5B78781UL, 0x0000C00CUL,
+    0x61DA380FUL, 0xE2F155CEUL, 0x0000C056UL,
+    0xD465E46DUL, 0xB249C3FFUL, 0x0000C090UL,
+    0x64EA04F9UL, 0xA914909AUL, 0x000040B5UL,
+    0x64EA04FAUL, 0xA914909AUL, 0x000040B5UL,
+    0x64EA04FAUL, 0xA914909AUL, 0x000040B5UL,
+    0x64EA04F9UL, 0xA914909AUL, 0x000040B5UL,
+    0x9A350438UL, 0xD2BBF0A0UL, 0x00004017UL,
+    0xE8EA9BD5UL, 0xAB678809UL, 0x0000C01BUL,
+    0xB040A856UL, 0xA20CD4D2UL, 0x00003FD8UL,
+    0x61568FDCUL, 0xC86F7157UL, 0x0000BF5EUL,
+    0x5275DC39UL, 0x9EA12090UL, 0x00004054UL,
+    0x853440FDUL, 0xC73B7A44UL, 0x0000BFE0UL,
+    0x373E253EUL, 0xD6A993CAUL, 0x00003F53UL,
+    0xA2B267EDUL, 0xD091A186UL, 0x00004072UL,
+    0x833A6560UL, 0xC313ED42UL, 0x0000BF53UL,
+    0x0B9C3276UL, 0xA688ADC5UL, 0x0000BFBBUL,
+    0x0B9C3276UL, 0xA688ADC5UL, 0x0000BFBBUL,
+    0x0B9C3277UL, 0xA688ADC5UL, 0x0000BFBBUL,
+    0x0B9C3276UL, 0xA688ADC5UL, 0x0000BFBBUL,
+    0xBB372372UL, 0x86CF4C22UL, 0x00004033UL,
+    0xC9A82A73UL, 0xCC3D5C16UL, 0x00004033UL,
+    0xF68D914EUL, 0x98CAD566UL, 0x0000BF78UL,
+    0xC31D3644UL, 0xFBFFCCA0UL, 0x00003FFCUL,
+    0xC0BA9A02UL, 0xC0D7CB10UL, 0x0000BFEAUL,
+    0x3EAB6BF9UL, 0xB5E7B7E1UL, 0x000040C6UL,
+    0x49ECC9E0UL, 0xD63CECC4UL, 0x00003FD8UL,
+    0x2A8B8E9BUL, 0x8C1751BCUL, 0x00003F71UL,
+    0xBC09E29CUL, 0xE58D0AFCUL, 0x0000C0B7UL,
+    0xDC34ACDEUL, 0x8BFB6AB5UL, 0x00003F63UL,
+    0xDC34ACDEUL, 0x8BFB6AB5UL, 0x00003F63UL,
+    0xDC34ACDFUL, 0x8BFB6AB5UL, 0x00003F63UL,
+    0xDC34ACDEUL, 0x8BFB6AB5UL, 0x00003F63UL,
+    0x25C8CED6UL, 0xB4F19225UL, 0x00003F6CUL,
+    0x3A4B3F42UL, 0x9D1B3589UL, 0x0000C029UL,
+    0x1E54600AUL, 0x84B297D6UL, 0x0000BFE3UL,
+    0xA3BEBC69UL, 0xF3C48703UL, 0x0000BFDCUL,
+    0xBD98B8EBUL, 0xB0396649UL, 0x00003FB0UL,
+    0x4B29DDBFUL, 0xD7F6883DUL, 0x00004056UL,
+    0x8AF92968UL, 0xA75DADABUL, 0x0000BFB8UL,
+    0xE0493096UL, 0x89ECE273UL, 0x00003F4CUL,
+    0x62E27ADCUL, 0xEE335724UL, 0x0000C03BUL,
+    0x2D6F993BUL, 0xB312F19EUL, 0x0000C0B6UL,
+    0x2D6F993CUL, 0xB312F19EUL, 0x0000C0B6UL,
+    0x2D6F993CUL, 0xB312F19EUL, 0x0000C0B6UL,
+    0x2D6F993BUL, 0xB312F19EUL, 0x0000C0B6UL,
+    0x41E9F51DUL, 0xD38FAB49UL, 0x00004025UL,
+    0x095E7460UL, 0xC756C4E9UL, 0x00003FC0UL,
+    0xE26C0226UL, 0x91B7290BUL, 0x0000C05EUL,
+    0x6C353086UL, 0xEDA05AD0UL, 0x0000BF6EUL,
+    0xB4D461D1UL, 0xD451365AUL, 0x00003FE2UL,
+    0x9FA8BC78UL, 0xDC8152E0UL, 0x0000C050UL,
+    0x4BE27700UL, 0x8C113D90UL, 0x0000BFA0UL,
+    0x32B221CAUL, 0xE3F5F523UL, 0x0000BF96UL,
+    0x9D80C836UL, 0xEE4E495EUL, 0x0000C087UL,
+    0xE8598995UL, 0xF522FAE2UL, 0x0000BFD7UL,
+    0xE8598996UL, 0xF522FAE2UL, 0x0000BFD7UL,
+    0xE8598996UL, 0xF522FAE2UL, 0x0000BFD7UL,
+    0xE8598995UL, 0xF522FAE2UL, 0x0000BFD7UL,
+    0x4854D152UL, 0xAA8BE57FUL, 0x00003F43UL,
+    0xE18C44FDUL, 0xE65900FFUL, 0x0000C0AEUL,
+    0xA02FE04CUL, 0xC66044DFUL, 0x0000C0AEUL,
+    0x79EC0112UL, 0x9EAFB277UL, 0x0000BF84UL,
+    0xD1CEA402UL, 0xDCE48F5BUL, 0x0000C088UL,
+    0xCC13AA4BUL, 0xC1814986UL, 0x0000C0C4UL,
+    0x464183B9UL, 0xDB3C055BUL, 0x00003FF8UL,
+    0x06F3F12EUL, 0xC36C256FUL, 0x0000BFC6UL,
+    0x02B3517EUL, 0x89B04CD8UL, 0x00003FB7UL,
+    0xD91A7DC3UL, 0xB8B264F4UL, 0x0000C0ABUL,
+    0xD91A7DC4UL, 0xB8B264F4UL, 0x0000C0ABUL,
+    0xD91A7DC4UL, 0xB8B264F4UL, 0x0000C0ABUL,
+    0xD91A7DC3UL, 0xB8B264F4UL, 0x0000C0ABUL,
+    0x3CC4A53CUL, 0xA52B38BCUL, 0x0000C05BUL,
+    0xA1B408D8UL, 0xC2E7C380UL, 0x0000BFBCUL,
+    0x6014A069UL, 0xF9C585D8UL, 0x0000BF97UL,
+    0xA977587EUL, 0xDFEC3A8BUL, 0x00004099UL,
+    0x858D7AFCUL, 0xDDB65879UL, 0x0000BFB7UL,
+    0x8A847872UL, 0x88F9F409UL, 0x0000BFF7UL,
+    0x2607E81CUL, 0xB0741154UL, 0x00003F68UL,
+    0x5657F01EUL, 0xFA953D73UL, 0x0000C004UL,
+    0xC830A27EUL, 0xACF22334UL, 0x0000BF9AUL,
+    0x81CB63D2UL, 0xA669A23AUL, 0x0000BF38UL,
+    0x81CB63D2UL, 0xA669A23AUL, 0x0000BF38UL,
+    0x81CB63D3UL, 0xA669A23AUL, 0x0000BF38UL,
+    0x81CB63D2UL, 0xA669A23AUL, 0x0000BF38UL,
+    0x8E02BEB3UL, 0xB40C3549UL, 0x00003F37UL,
+    0xAA1BF300UL, 0xF3CC1254UL, 0x00003F73UL,
+    0x982DB5D9UL, 0xE36AF843UL, 0x0000C066UL,
+    0x75CACD59UL, 0x888169ECUL, 0x0000400CUL,
+    0xE6FCCBA0UL, 0xA7F8415AUL, 0x0000BFF1UL,
+    0xA73D320FUL, 0xBFBA35EFUL, 0x0000C069UL,
+    0x0A6593A5UL, 0xE03CA936UL, 0x0000BF8FUL,
+    0x1B3D8680UL, 0xD9735CBBUL, 0x00004078UL,
+    0xC1064179UL, 0x9E072A60UL, 0x0000BF5DUL,
+    0x806C40D9UL, 0xD3FD441AUL, 0x00004032UL,
+    0x806C40DAUL, 0xD3FD441AUL, 0x00004032UL,
+    0x806C40DAUL, 0xD3FD441AUL, 0x00004032UL,
+    0x806C40D9UL, 0xD3FD441AUL, 0x00004032UL,
+    0xD23DA764UL, 0xD8DE63C3UL, 0x000040AFUL,
+    0x8DD35984UL, 0xCB6B0820UL, 0x0000BFDDUL,
+    0xECF2BFF4UL, 0xB57C808EUL, 0x0000C061UL,
+    0x6B6C9BBAUL, 0xB08DE9F3UL, 0x00003FA7UL,
+    0x1A4F5927UL, 0x8B5BD258UL, 0x00003FC3UL,
+    0x2DC1085AUL, 0x8CCEEC02UL, 0x0000BFFDUL,
+    0xD2757180UL, 0xD945CC93UL, 0x0000BFA4UL,
+    0xCCF92765UL, 0x92E30FBFUL, 0x0000405AUL,
+    0x8AEE2B4AUL, 0xB5815B95UL, 0x0000BFBCUL,
+    0x2B6CF42AUL, 0x819A8F07UL, 0x0000C04DUL,
+    0x2B6CF42AUL, 0x819A8F07UL, 0x0000C04DUL,
+    0x2B6CF42BUL, 0x819A8F07UL, 0x0000C04DUL,
+    0x2B6CF42AUL, 0x819A8F07UL, 0x0000C04DUL,
+    0x2F26FE67UL, 0xE5D727CBUL, 0x0000BFB2UL,
+    0x8A45DDE4UL, 0xC8A5FFBCUL, 0x00003FE6UL,
+    0x01A3FBFCUL, 0xAED79E16UL, 0x00003F8BUL,
+    0x5FCA8176UL, 0xE9E29A56UL, 0x0000406EUL,
+    0x56F14BDCUL, 0xDB5CA630UL, 0x00003F8DUL,
+    0x7D11602AUL, 0xDBF23D2DUL, 0x0000C02CUL,
+    0xC2BC802FUL, 0x96487647UL, 0x0000C082UL,
+    0xBF1164BCUL, 0xABC5F7ACUL, 0x0000C060UL,
+    0x8972D432UL, 0xF1394909UL, 0x0000BFC1UL,
+    0x633687C8UL, 0xA75547AEUL, 0x0000C0C7UL,
+    0x633687C8UL, 0xA75547AEUL, 0x0000C0C7UL,
+    0x633687C9UL, 0xA75547AEUL, 0x0000C0C7UL,
+    0x633687C8UL, 0xA75547AEUL, 0x0000C0C7UL,
+    0x2E76F949UL, 0xCE5191A6UL, 0x0000BFC8UL,
+    0xE054CEB0UL, 0xEE740DFCUL, 0x0000BF54UL,
+    0x16C78462UL, 0xF2B2D6F3UL, 0x00004051UL,
+    0xDFCA1FAFUL, 0xBA96AF4DUL, 0x000040BDUL,
+    0xE8E1656FUL, 0xBB9D67CAUL, 0x0000BFBBUL,
+    0x425F65A8UL, 0xE7BBFD45UL, 0x0000BFC2UL,
+    0x8DE26D86UL, 0x85CB12ECUL, 0x0000BF7AUL,
+    0xDB179BA6UL, 0xE3738541UL, 0x00003FD3UL,
+    0x57DAD174UL, 0x99B77C26UL, 0x0000404EUL,
+    0x39C11715UL, 0xFFEED6D0UL, 0x00003F9FUL,
+    0x39C11716UL, 0xFFEED6D0UL, 0x00003F9FUL,
+    0x39C11716UL, 0xFFEED6D0UL, 0x00003F9FUL,
+    0x39C11715UL, 0xFFEED6D0UL, 0x00003F9FUL,
+    0x4F95C1ADUL, 0xCB6D6CA4UL, 0x00003F9BUL,
+    0xF791289DUL, 0xD24E40F8UL, 0x00003F8DUL,
+    0x2E439C7BUL, 0xC7CBAF28UL, 0x0000C045UL,
+    0x8773B43AUL, 0xADC3EBEDUL, 0x00003FE5UL,
+    0xF7FCC4C4UL, 0x8746E3BBUL, 0x0000BF7BUL,
+    0x49797FCCUL, 0xEAFB827BUL, 0x000040BEUL,
+    0x722E880FUL, 0x8C6BF27CUL, 0x00003FAEUL,
+    0x74018584UL, 0xD1CED0DAUL, 0x0000C030UL,
+    0xB26CDCA7UL, 0xB0EE36F4UL, 0x00003F4BUL,
+    0x96B246CBUL, 0xE114D188UL, 0x00003F76UL,
+    0x96B246CCUL, 0xE114D188UL, 0x00003F76UL,
+    0x96B246CCUL, 0xE114D188UL, 0x00003F76UL,
+    0x96B246CBUL, 0xE114D188UL, 0x00003F76UL,
+    0xE4E53804UL, 0xE06A45B5UL, 0x0000BF5BUL,
+    0x09924DB3UL, 0xD7329C93UL, 0x00003F6EUL,
+    0x50396630UL, 0x971AEE99UL, 0x00003FC5UL,
+    0x31C37F2DUL, 0x9F616A64UL, 0x0000BF62UL,
+    0xE3339FD0UL, 0xE42E40A1UL, 0x00003FFBUL,
+    0xD04F6617UL, 0xB121A2C7UL, 0x00003FA0UL,
+    0x3022CCF7UL, 0x884AA9FDUL, 0x00003F8BUL,
+    0x38DF1F15UL, 0xB6B113DEUL, 0x00004091UL,
+    0x118DB4A0UL, 0xBF57DD25UL, 0x0000C061UL,
+    0xEFE02CCFUL, 0xCA4072ADUL, 0x0000BFFCUL,
+    0xEFE02CD0UL, 0xCA4072ADUL, 0x0000BFFCUL,
+    0xEFE02CD0UL, 0xCA4072ADUL, 0x0000BFFCUL,
+    0xEFE02CCFUL, 0xCA4072ADUL, 0x0000BFFCUL,
+    0x9973A60CUL, 0xFC8561A5UL, 0x0000C078UL,
+    0x0D145BECUL, 0xDDFAA239UL, 0x0000C0B0UL,
+    0x5A244018UL, 0x9F8D7EBCUL, 0x0000C004UL,
+    0xF6BFC630UL, 0xABAF9581UL, 0x0000BF95UL,
+    0x1AEF6F53UL, 0x8CF783EFUL, 0x00003F68UL,
+    0x672696E0UL, 0xE57FEFACUL, 0x00003F88UL,
+    0xBBE415FCUL, 0xADF539B2UL, 0x0000C09AUL,
+    0x87FAD672UL, 0x9F06065DUL, 0x0000BF8DUL,
+    0xE903CD5AUL, 0xC4F76CF0UL, 0x0000C0ADUL,
+    0x8B242D2FUL, 0xC10F1239UL, 0x0000C022UL,
+    0x8B242D30UL, 0xC10F1239UL, 0x0000C022UL,
+    0x8B242D30UL, 0xC10F1239UL, 0x0000C022UL,
+    0x8B242D2FUL, 0xC10F1239UL, 0x0000C022UL,
+    0xBDFBF8C2UL, 0xB58D4220UL, 0x000040B0UL,
+    0x6872D807UL, 0xB734400AUL, 0x00003F98UL,
+    0x02B8981BUL, 0x8049ECFAUL, 0x0000C066UL,
+    0xE4317001UL, 0x99070649UL, 0x0000BFDDUL,
+    0xFF33CDBBUL, 0xBD2BCCB9UL, 0x0000C03EUL,
+    0xBA6987C8UL, 0xE77A7585UL, 0x00003F3FUL,
+    0x493CA38BUL, 0x9FF4E173UL, 0x0000C083UL,
+    0x7EBD114DUL, 0xB16452FCUL, 0x00004045UL,
+    0x5C514D69UL, 0x9E07BC01UL, 0x00004042UL,
+    0x6DC90189UL, 0x815DAF8AUL, 0x00004043UL,
+    0x6DC9018AUL, 0x815DAF8AUL, 0x00004043UL,
+    0x6DC9018AUL, 0x815DAF8AUL, 0x00004043UL,
+    0x6DC90189UL, 0x815DAF8AUL, 0x00004043UL,
+    0x6B16D4A0UL, 0xBBB50567UL, 0x0000BF9BUL,
+    0xB4F8FAE8UL, 0xB8C6F697UL, 0x0000BF39UL,
+    0xD316EE5CUL, 0x9145E27BUL, 0x00003FB7UL,
+    0xE1F9AB6AUL, 0xED313831UL, 0x0000C058UL,
+    0x20296111UL, 0xD33F8CF1UL, 0x0000402BUL,
+    0xEF5ED8DDUL, 0x8821D6AEUL, 0x0000C08DUL,
+    0x876C1FB0UL, 0x87034374UL, 0x0000405FUL,
+    0xE9E418F1UL, 0xB26AE9E1UL, 0x0000C006UL,
+    0xC18B79F9UL, 0xFAD0F421UL, 0x0000405FUL,
+    0x5B6E6BDBUL, 0xE70DA1DEUL, 0x0000C0BBUL,
+    0x5B6E6BDCUL, 0xE70DA1DEUL, 0x0000C0BBUL,
+    0x5B6E6BDCUL, 0xE70DA1DEUL, 0x0000C0BBUL,
+    0x5B6E6BDBUL, 0xE70DA1DEUL, 0x0000C0BBUL,
+    0x54303DEEUL, 0xADC840B2UL, 0x0000C0C6UL,
+    0x8CD94839UL, 0xB078F01FUL, 0x0000409AUL,
+    0x0523C7F6UL, 0xA6975AD9UL, 0x0000C07FUL,
+    0x24CDE8D4UL, 0x9951788CUL, 0x0000C0ABUL,
+    0x8ED8F092UL, 0xF259020CUL, 0x0000400CUL,
+    0xCB0C77B4UL, 0xA86420BAUL, 0x0000C070UL,
+    0xCFA8422BUL, 0xAD96E3FEUL, 0x0000400CUL,
+    0x779DC783UL, 0xD9A4C80BUL, 0x0000C059UL,
+    0x3C10A997UL, 0xDAFC1195UL, 0x000040C6UL,
+    0x155B6EA5UL, 0xD6B7EE06UL, 0x0000C014UL,
+    0x155B6EA6UL, 0xD6B7EE06UL, 0x0000C014UL,
+    0x155B6EA6UL, 0xD6B7EE06UL, 0x0000C014UL,
+    0x155B6EA5UL, 0xD6B7EE06UL, 0x0000C014UL,
+    0x1A043778UL, 0xCF209D39UL, 0x000040C1UL,
+    0x3F1989F3UL, 0x96D30B4AUL, 0x00004095UL,
+    0x2AD4E2F7UL, 0xD3F50FFAUL, 0x00003FEDUL,
+    0x7B8AF3AFUL, 0xE984EA89UL, 0x0000BF9EUL,
+    0xBC6DBC9CUL, 0xAE706AE0UL, 0x00004052UL,
+    0x09C52FD2UL, 0xE89A2FBAUL, 0x0000403EUL,
+    0x0B1BD99DUL, 0xBDF1B1EBUL, 0x0000C071UL,
+    0x9BB674B9UL, 0xC2B2D3AAUL, 0x0000BF6DUL,
+    0x93C05639UL, 0x85F176FDUL, 0x000040ACUL,
+    0x4245A7C7UL, 0xBB77B125UL, 0x00003FA4UL,
+    0x4245A7C8UL, 0xBB77B125UL, 0x00003FA4UL,
+    0x4245A7C8UL, 0xBB77B125UL, 0x00003FA4UL,
+    0x4245A7C7UL, 0xBB77B125UL, 0x00003FA4UL,
+    0x6B863A71UL, 0xF4AE59D8UL, 0x00003FE7UL,
+    0x09064BC0UL, 0xA0BF9BFBUL, 0x0000BFE3UL,
+    0x12C71241UL, 0xBE60D479UL, 0x00003FDDUL,
+    0x2E00D587UL, 0xBE085D5CUL, 0x0000BF80UL,
+    0x6F5181A3UL, 0xE67DDA43UL, 0x0000BFB4UL,
+    0x6253AD69UL, 0xC30C6508UL, 0x00003FC4UL,
+    0x6B7AE7BBUL, 0xC10F96CFUL, 0x0000BFC9UL,
+    0x2C080E02UL, 0xF5330530UL, 0x0000BFEEUL,
+    0xEDD8C982UL, 0xA8027CF2UL, 0x0000BFBFUL,
+    0x8DC5A789UL, 0xF6019770UL, 0x00003F53UL,
+    0x8DC5A78AUL, 0xF6019770UL, 0x00003F53UL,
+    0x8DC5A78AUL, 0xF6019770UL, 0x00003F53UL,
+    0x8DC5A789UL, 0xF6019770UL, 0x00003F53UL,
+    0xC09B56CCUL, 0x933C69A5UL, 0x00003FB8UL,
+    0xD55D32EBUL, 0xD8DBF54DUL, 0x00004087UL,
+    0x0F95D90FUL, 0xEBD5DD22UL, 0x00004086UL,
+    0x515A2E95UL, 0xD0810BF1UL, 0x00004046UL,
+    0xC428CBB2UL, 0x80F4932FUL, 0x00003FAEUL,
+    0xE8ADACAFUL, 0xB245DBC0UL, 0x0000C039UL,
+    0x9ED78B13UL, 0xC2CA15F7UL, 0x00003FEFUL,
+    0xCEC299C4UL, 0xBAF8D5C9UL, 0x00003FF6UL,
+    0xAE1BAF4BUL, 0xABB257C0UL, 0x0000C07CUL,
+    0xB1B55616UL, 0xD0706FB2UL, 0x0000406FUL,
+    0xB1B55616UL, 0xD0706FB2UL, 0x0000406FUL,
+    0xB1B55617UL, 0xD0706FB2UL, 0x0000406FUL,
+    0xB1B55616UL, 0xD0706FB2UL, 0x0000406FUL,
+    0x3EAE7739UL, 0x9ECE2056UL, 0x00004091UL,
+    0x6FCDE4A1UL, 0xAF5CE42FUL, 0x0000C091UL,
+    0x703E7395UL, 0xCDA701D3UL, 0x000040A9UL,
+    0xC99D707DUL, 0xBA891BE7UL, 0x00003FF6UL,
+    0x237E0A8CUL, 0x88CB33FDUL, 0x00003F9FUL,
+    0x94B2E95CUL, 0x8E4FBE2AUL, 0x00003FBFUL,
+    0x5C98A590UL, 0xDDCE4E67UL, 0x0000BFB4UL,
+    0x2AF1338DUL, 0xBF53A39AUL, 0x00003F48UL,
+    0x9BC5B19DUL, 0xAEF5DC6CUL, 0x0000BF60UL,
+    0xEDDD9F69UL, 0x9CD7D816UL, 0x0000BF91UL,
+    0xEDDD9F6AUL, 0x9CD7D816UL, 0x0000BF91UL,
+    0xEDDD9F6AUL, 0x9CD7D816UL, 0x0000BF91UL,
+    0xEDDD9F69UL, 0x9CD7D816UL, 0x0000BF91UL,
+    0xDE65F8DBUL, 0xD892219BUL, 0x00003FC8UL,
+    0x6C7F8886UL, 0xA5F6DEAEUL, 0x0000BFE1UL,
+    0x28CD9BD3UL, 0xA7147703UL, 0x0000C01FUL,
+    0xA9A6B705UL, 0xB87FFE72UL, 0x00003F59UL,
+    0x82A3D977UL, 0xD9148D08UL, 0x0000BFE7UL,
+    0xD4F82257UL, 0x88E305FDUL, 0x00003FDCUL,
+    0x7FF739B2UL, 0xDBD6E9F8UL, 0x00003FC6UL,
+    0x0B77FAF6UL, 0xCB1D69BBUL, 0x0000C06CUL,
+    0xC89B58FBUL, 0xC1B5F31EUL, 0x00003FC7UL,
+    0x24C1BBACUL, 0xA04BA8A9UL, 0x000040A8UL,
+    0x24C1BBACUL, 0xA04BA8A9UL, 0x000040A8UL,
+    0x24C1BBADUL, 0xA04BA8A9UL, 0x000040A8UL,
+    0x24C1BBACUL, 0xA04BA8A9UL, 0x000040A8UL,
+    0xBFABF483UL, 0x8E90B915UL, 0x00004031UL,
+    0x4F48D338UL, 0xFABF61C7UL, 0x00003FF4UL,
+    0x96BFFC9EUL, 0xB11A292CUL, 0x0000C08FUL,
+    0xDC17CFAEUL, 0x9F3F8CB3UL, 0x0000C007UL,
+    0x365887C9UL, 0xB9421BADUL, 0x0000C03CUL,
+    0x0CC45953UL, 0x8BE5E338UL, 0x0000400EUL,
+    0x8F37D316UL, 0xD0D6B721UL, 0x00003FA8UL,
+    0xFC15B6D6UL, 0xD07B2B7AUL, 0x0000BF92UL,
+    0x5037EDF2UL, 0xADBD01A0UL, 0x0000BF43UL,
+    0x2BCF04F6UL, 0xEECC882DUL, 0x000040C5UL,
+    0x2BCF04F6UL, 0xEECC882DUL, 0x000040C5UL,
+    0x2BCF04F7UL, 0xEECC882DUL, 0x000040C5UL,
+    0x2BCF04F6UL, 0xEECC882DUL, 0x000040C5UL,
+    0x9467DEEDUL, 0xFE2742A2UL, 0x00003FAEUL,
+    0xBC690F69UL, 0xC12CC7B2UL, 0x000040C2UL,
+    0xE3457C2AUL, 0xAD2A2E07UL, 0x0000C074UL,
+    0x8D7253C4UL, 0xFF009890UL, 0x0000C058UL,
+    0x96AEBBD6UL, 0xF29B695FUL, 0x0000BF86UL,
+    0x66DF088EUL, 0xF84A2BFCUL, 0x0000C06DUL,
+    0x1717E1D4UL, 0x9FB4626AUL, 0x0000BFE5UL,
+    0x8E750775UL, 0xB1124EE1UL, 0x0000BFFAUL,
+    0x36D9CA59UL, 0xABCE3ABBUL, 0x00003F8FUL,
+    0xA758B12FUL, 0xA2394113UL, 0x00003F5BUL,
+    0xA758B130UL, 0xA2394113UL, 0x00003F5BUL,
+    0xA758B130UL, 0xA2394113UL, 0x00003F5BUL,
+    0xA758B12FUL, 0xA2394113UL, 0x00003F5BUL,
+    0x4914A4ABUL, 0xF9F79785UL, 0x0000C089UL,
+    0xC50E3272UL, 0xF06A352EUL, 0x0000C009UL,
+    0x08F9EE22UL, 0x8E433E8BUL, 0x0000BFD3UL,
+    0x19961341UL, 0xCEC90BFFUL, 0x000040B3UL,
+    0xAFC497FEUL, 0xAE829BE2UL, 0x00003F3BUL,
+    0xC1755E45UL, 0xD8B5E205UL, 0x0000C02CUL,
+    0x97EC5352UL, 0x99520155UL, 0x0000BF92UL,
+    0xEADEBAD5UL, 0xDCA30ECAUL, 0x00003F5EUL,
+    0x95F3A2C2UL, 0x8FB36AF5UL, 0x0000C024UL,
+    0x9B327E4DUL, 0x9386DC19UL, 0x00003FBBUL,
+    0x9B327E4EUL, 0x9386DC19UL, 0x00003FBBUL,
+    0x9B327E4EUL, 0x9386DC19UL, 0x00003FBBUL,
+    0x9B327E4DUL, 0x9386DC19UL, 0x00003FBBUL,
+    0x296AAF0CUL, 0xD235022CUL, 0x00003FC2UL,
+    0xA3F97B6CUL, 0x95B782D4UL, 0x00003FD3UL,
+    0xD13C8182UL, 0xFD6098B9UL, 0x00003FCDUL,
+    0xF5DFEB94UL, 0xCFF0BF97UL, 0x00003F96UL,
+    0xB0DC5E80UL, 0xFFF95B42UL, 0x0000BF5FUL,
+    0xED2DF0EDUL, 0xFCC4589AUL, 0x0000400DUL,
+    0x8368585DUL, 0xE782B66DUL, 0x0000BFF8UL,
+    0xBD3F8FEEUL, 0x9A015753UL, 0x0000BF60UL,
+    0x3FE83935UL, 0xDC7074B9UL, 0x0000BFD0UL,
+    0x7D3CFD8BUL, 0x93C7A6BEUL, 0x00004079UL,
+    0x7D3CFD8CUL, 0x93C7A6BEUL, 0x00004079UL,
+    0x7D3CFD8CUL, 0x93C7A6BEUL, 0x00004079UL,
+    0x7D3CFD8BUL, 0x93C7A6BEUL, 0x00004079UL,
+    0xE65CFFB9UL, 0x9C16AC4BUL, 0x0000BFFFUL,
+    0xA1E0BB29UL, 0xF8E457E3UL, 0x00003FAEUL,
+    0x3750855EUL, 0xF5C40F10UL, 0x00003FE0UL,
+    0x330EBB2BUL, 0xA48E5162UL, 0x0000BF6CUL,
+    0xB008D1ECUL, 0x9A6DA00FUL, 0x0000C063UL,
+    0xD85E376CUL, 0xD3789D8BUL, 0x000040A9UL,
+    0x25659D89UL, 0x8995A9DAUL, 0x00003FEDUL,
+    0x27920EE2UL, 0xADC1E6F5UL, 0x0000407EUL,
+    0x32FF2467UL, 0x83AFD3E7UL, 0x00004034UL,
+    0x968A89DCUL, 0xD92E0994UL, 0x00004040UL,
+    0x968A89DCUL, 0xD92E0994UL, 0x00004040UL,
+    0x968A89DDUL, 0xD92E0994UL, 0x00004040UL,
+    0x968A89DCUL, 0xD92E0994UL, 0x00004040UL,
+    0x32DF65A4UL, 0x982805C4UL, 0x0000C075UL,
+    0x90637C1EUL, 0xA487C762UL, 0x000040C5UL,
+    0xD798E4A4UL, 0xE5B73CA1UL, 0x00004018UL,
+    0x12A939F7UL, 0xC0B633ABUL, 0x00003F7FUL,
+    0x8050341AUL, 0xEDC2A0C3UL, 0x00003F52UL,
+    0x04EB3B31UL, 0xAC764DF4UL, 0x00003F49UL,
+    0x4EF812C1UL, 0xD0A640B9UL, 0x0000BF3EUL,
+    0x4F104B1AUL, 0xD7568036UL, 0x00003FC7UL,
+    0x75C27A8FUL, 0xF40726C7UL, 0x0000BF6FUL,
+    0x38B2A5BEUL, 0xFF8178E2UL, 0x0000C032UL,
+    0x38B2A5BEUL, 0xFF8178E2UL, 0x0000C032UL,
+    0x38B2A5BFUL, 0xFF8178E2UL, 0x0000C032UL,
+    0x38B2A5BEUL, 0xFF8178E2UL, 0x0000C032UL,
+    0x3CA94674UL, 0xB0AE0E14UL, 0x000040B7UL,
+    0xA11B0E3CUL, 0xFA0EA2C0UL, 0x0000C016UL,
+    0xFAE1661AUL, 0xCFEC9579UL, 0x0000BFE8UL,
+    0xDBDB1794UL, 0xFC25CA5EUL, 0x00004050UL,
+    0x52A0A1C9UL, 0xFC8DF943UL, 0x00003FF7UL,
+    0xE0BB1B68UL, 0x867E24D9UL, 0x0000BF73UL,
+    0x5E4246ABUL, 0xBEBED74AUL, 0x00003F66UL,
+    0x80465060UL, 0x92AEC56EUL, 0x00003FB6UL,
+    0x1F9BE4C1UL, 0x876EED43UL, 0x0000BF74UL,
+    0x1FB7D26EUL, 0xD6224844UL, 0x00004061UL,
+    0x1FB7D26EUL, 0xD6224844UL, 0x00004061UL,
+    0x1FB7D26FUL, 0xD6224844UL, 0x00004061UL,
+    0x1FB7D26EUL, 0xD6224844UL, 0x00004061UL,
+    0x7E34865CUL, 0xF166B03BUL, 0x0000C023UL,
+    0x61A591B3UL, 0xD2735B2FUL, 0x0000BF9EUL,
+    0x81AAAABDUL, 0xDD3BDC2DUL, 0x00003F41UL,
+    0x19B35150UL, 0xE7194D72UL, 0x0000C092UL,
+    0x9A1DFD22UL, 0xA5E80F70UL, 0x0000BFD8UL,
+    0x0D00686BUL, 0xC33FA355UL, 0x0000BFFAUL,
+    0x1B0715B1UL, 0xE538B886UL, 0x00003FECUL,
+    0x19F32AE9UL, 0xC39DEADCUL, 0x00003F83UL,
+    0xF1306C88UL, 0xF85A8027UL, 0x0000408FUL,
+    0xFCF534E1UL, 0xFD898F77UL, 0x00003FC8UL,
+    0xFCF534E2UL, 0xFD898F77UL, 0x00003FC8UL,
+    0xFCF534E2UL, 0xFD898F77UL, 0x00003FC8UL,
+    0xFCF534E1UL, 0xFD898F77UL, 0x00003FC8UL,
+    0x73EACF6EUL, 0xA72BF063UL, 0x0000407DUL,
+    0xD955515DUL, 0xA7F35A7FUL, 0x00004016UL,
+    0xEBE31A6AUL, 0x96A88706UL, 0x0000401FUL,
+    0xE487B9ACUL, 0x8DD4848CUL, 0x0000C03DUL,
+    0x683432CCUL, 0x8A767F44UL, 0x00003F51UL,
+    0x8A28589FUL, 0xA18D74E0UL, 0x0000408EUL,
+    0x1281F350UL, 0xA68E5FE9UL, 0x0000C078UL,
+    0xEB35A932UL, 0xF7F97EFBUL, 0x00003FEAUL,
+    0x1A4EA03DUL, 0xF414F4DCUL, 0x0000C054UL,
+    0x21643388UL, 0xF23B14A4UL, 0x0000C094UL,
+    0x21643388UL, 0xF23B14A4UL, 0x0000C094UL,
+    0x21643389UL, 0xF23B14A4UL, 0x0000C094UL,
+    0x21643388UL, 0xF23B14A4UL, 0x0000C094UL,
+    0xD09335CFUL, 0xCF903CA2UL, 0x0000BF6FUL,
+    0x1AE57C9BUL, 0xC68DDA38UL, 0x0000C088UL,
+    0xCEA5A8A7UL, 0xF145345DUL, 0x0000C0C5UL,
+    0x2EA396D3UL, 0xA59D32D5UL, 0x000040ABUL,
+    0x08A5E174UL, 0x8CA05648UL, 0x00003F70UL,
+    0x12750182UL, 0xBC27AD9AUL, 0x0000C066UL,
+    0xC5DA534BUL, 0x9C080AFBUL, 0x0000C053UL,
+    0x9E9ECF72UL, 0x808000C9UL, 0x0000BFA9UL,
+    0x202F4734UL, 0x91F71018UL, 0x00003F74UL,
+    0x7800035CUL, 0x9C1689B6UL, 0x00004044UL,
+    0x7800035CUL, 0x9C1689B6UL, 0x00004044UL,
+    0x7800035DUL, 0x9C1689B6UL, 0x00004044UL,
+    0x7800035CUL, 0x9C1689B6UL, 0x00004044UL,
+    0xEBD237EBUL, 0x8875F4E8UL, 0x0000BFF6UL,
+    0xEC24EC69UL, 0xC92B9987UL, 0x0000BF91UL,
+    0xDA0143EAUL, 0xC5FB2E98UL, 0x0000404BUL,
+    0x1E5343D8UL, 0xC2C480E5UL, 0x000040C3UL,
+    0xFF75BA77UL, 0x969090DAUL, 0x00003FFAUL,
+    0x1C2B1C57UL, 0xD478B7AAUL, 0x00004021UL,
+    0x301CB02CUL, 0xA7C04951UL, 0x0000BFA2UL,
+    0x15EAC9E6UL, 0x82B28942UL, 0x0000408AUL,
+    0x98A8475AUL, 0xE129D41BUL, 0x0000C01AUL,
+    0x6F835302UL, 0xC70CECBDUL, 0x0000400BUL,
+    0x6F835302UL, 0xC70CECBDUL, 0x0000400BUL,
+    0x6F835303UL, 0xC70CECBDUL, 0x0000400BUL,
+    0x6F835302UL, 0xC70CECBDUL, 0x0000400BUL,
+    0x9A1EC63BUL, 0xB5920E26UL, 0x0000C07FUL,
+    0x8C4E176AUL, 0x8B07FD5FUL, 0x0000BF4FUL,
+    0xA63E548BUL, 0xAEA33DDAUL, 0x0000BF9FUL,
+    0x506CE8A4UL, 0x8579C938UL, 0x00003F99UL,
+    0x3E0CD5A9UL, 0xA9ECD0A8UL, 0x0000BFC4UL,
+    0xD228FAEEUL, 0xF3881022UL, 0x0000403EUL,
+    0x25969206UL, 0xA33788F6UL, 0x0000401EUL,
+    0x3803F3B6UL, 0x9CF6D2D0UL, 0x00004011UL,
+    0xB20D1F16UL, 0x9994EFF3UL, 0x00003F3EUL,
+    0x6F391329UL, 0x81F3E8DBUL, 0x0000BF58UL,
+    0x6F39132AUL, 0x81F3E8DBUL, 0x0000BF58UL,
+    0x6F39132AUL, 0x81F3E8DBUL, 0x0000BF58UL,
+    0x6F391329UL, 0x81F3E8DBUL, 0x0000BF58UL,
+    0x90A48D90UL, 0xA2FA3B4EUL, 0x00003F39UL,
+    0x097EDC91UL, 0xBC153587UL, 0x0000BF53UL,
+    0x8EF8718BUL, 0xCFE41C70UL, 0x000040ADUL,
+    0xB4EC402AUL, 0xB20C989AUL, 0x00003F9FUL,
+    0x7428077BUL, 0xD2062E41UL, 0x00004065UL,
+    0x89960B06UL, 0xC58050D1UL, 0x00003F9FUL,
+    0xB6B0B53EUL, 0xFB505130UL, 0x00003FDCUL,
+    0x88FC5393UL, 0xD332D47AUL, 0x0000C0C1UL,
+    0x4C895D0AUL, 0xAB95BC18UL, 0x0000BFA6UL,
+    0x51980D1AUL, 0x9886C074UL, 0x0000C071UL,
+    0x51980D1AUL, 0x9886C074UL, 0x0000C071UL,
+    0x51980D1BUL, 0x9886C074UL, 0x0000C071UL,
+    0x51980D1AUL, 0x9886C074UL, 0x0000C071UL,
+    0x5C40E8A5UL, 0x9EF33B11UL, 0x0000C093UL,
+    0xF88D4C75UL, 0xD44BC25CUL, 0x0000BFB7UL,
+    0x43633B1DUL, 0xD46908ADUL, 0x0000C028UL,
+    0xF88D0673UL, 0x930B5A68UL, 0x00003F3AUL,
+    0xF5DF4A3CUL, 0xDF0D5FB8UL, 0x0000C026UL,
+    0xE9274B0AUL, 0xA644DA3CUL, 0x0000BFADUL,
+    0xD9276FC2UL, 0xB15EE6B2UL, 0x00003F99UL,
+    0xEC868C3FUL, 0x916E3154UL, 0x00003FE4UL,
+    0xF84871F1UL, 0xC4C01396UL, 0x00004097UL,
+    0xE43D2065UL, 0xF1CCFF3FUL, 0x0000C003UL,
+    0xE43D2066UL, 0xF1CCFF3FUL, 0x0000C003UL,
+    0xE43D2066UL, 0xF1CCFF3FUL, 0x0000C003UL,
+    0xE43D2065UL, 0xF1CCFF3FUL, 0x0000C003UL,
+    0xFE03EF01UL, 0x919119A6UL, 0x00003FBCUL,
+    0xB2219F14UL, 0x8FCEEBEDUL, 0x00004082UL,
+    0xB2BFB834UL, 0x8DDF6378UL, 0x00003FBEUL,
+    0xABD3B82EUL, 0xEB490CBDUL, 0x0000BF67UL,
+    0x04720836UL, 0x895A70EFUL, 0x0000406DUL,
+    0x70F7DD9DUL, 0xEC358C60UL, 0x0000C07BUL,
+    0xF0373162UL, 0x916925DEUL, 0x0000C00DUL,
+    0xAA8EE83BUL, 0xF88BB456UL, 0x0000C06DUL,
+    0x70ED3EE3UL, 0x947776EAUL, 0x0000BFBCUL,
+    0x50AA6531UL, 0xCCEFF518UL, 0x00003F91UL,
+    0x50AA6532UL, 0xCCEFF518UL, 0x00003F91UL,
+    0x50AA6532UL, 0xCCEFF518UL, 0x00003F91UL,
+    0x50AA6531UL, 0xCCEFF518UL, 0x00003F91UL,
+    0x63F90362UL, 0xFF36104BUL, 0x0000BFD9UL,
+    0xE567F992UL, 0xB464C6B4UL, 0x0000404DUL,
+    0x1D77A44BUL, 0xB209D6A1UL, 0x000040A8UL,
+    0x14C01699UL, 0xA8345235UL, 0x00003F7EUL,
+    0x908AA63BUL, 0xDA32A775UL, 0x00003FB7UL,
+    0x7FF7BDEBUL, 0xA54A3D25UL, 0x00003F8AUL,
+    0xD2FD221FUL, 0xFBA46011UL, 0x0000BF66UL,
+    0x31819A28UL, 0x990343ACUL, 0x0000C012UL,
+    0x2E20D1AFUL, 0xF24AD6ACUL, 0x0000C022UL,
+    0xC03C8A52UL, 0xD0B0A3DEUL, 0x000040AEUL,
+    0xC03C8A52UL, 0xD0B0A3DEUL, 0x000040AEUL,
+    0xC03C8A53UL, 0xD0B0A3DEUL, 0x000040AEUL,
+    0xC03C8A52UL, 0xD0B0A3DEUL, 0x000040AEUL,
+    0x4AC0E2AFUL, 0xEC32F885UL, 0x0000C040UL,
+    0x8426E9A7UL, 0xBB7537D4UL, 0x0000C079UL,
+    0xD4E46E3EUL, 0xB4F70FCEUL, 0x0000BF5FUL,
+    0x7D9C325FUL, 0xA11F2AF2UL, 0x0000BF64UL,
+    0x9A206D89UL, 0xEA83BF73UL, 0x0000408DUL,
+    0x458873D9UL, 0xA2569BDCUL, 0x0000C0B8UL,
+    0xE8F121C5UL, 0xFBC3E13EUL, 0x0000BF60UL,
+    0x6DC602E2UL, 0xCCDCEBC6UL, 0x00003F77UL,
+    0xF0CBDD04UL, 0xCE0544B9UL, 0x00003FA9UL,
+    0xF732517FUL, 0xAC7DA0A7UL, 0x00003FAFUL,
+    0xF7325180UL, 0xAC7DA0A7UL, 0x00003FAFUL,
+    0xF7325180UL, 0xAC7DA0A7UL, 0x00003FAFUL,
+    0xF732517FUL, 0xAC7DA0A7UL, 0x00003FAFUL,
+    0xC460DFA2UL, 0xF1CA8715UL, 0x0000405CUL,
+    0x0B830821UL, 0xB0EA9232UL, 0x00003FBFUL,
+    0x63A6819CUL, 0x9731B111UL, 0x00004000UL,
+    0x7BB1D30DUL, 0xCF83241BUL, 0x0000406DUL,
+    0xC5AD39F3UL, 0xAEE81BDFUL, 0x0000BFB5UL,
+    0x1A77A31AUL, 0x9A5B7748UL, 0x0000BF38UL,
+    0x0A9133C2UL, 0xC594408CUL, 0x000040B8UL,
+    0xCA95C8A8UL, 0xD6BF1474UL, 0x0000BF63UL,
+    0xC0D4BE03UL, 0xE2235E23UL, 0x00003F98UL,
+    0xE048D327UL, 0xC1E77C9CUL, 0x00004088UL,
+    0xE048D328UL, 0xC1E77C9CUL, 0x00004088UL,
+    0xE048D328UL, 0xC1E77C9CUL, 0x00004088UL,
+    0xE048D327UL, 0xC1E77C9CUL, 0x00004088UL,
+    0x2B158381UL, 0xFD5CB2B0UL, 0x0000C01BUL,
+    0x70088AA0UL, 0xDC9E3372UL, 0x00003F7BUL,
+    0x2BEA51D9UL, 0x9F9A9CAEUL, 0x00004040UL,
+    0x49AB95CCUL, 0x9F4FAB85UL, 0x0000BFBDUL,
+    0xFE311616UL, 0xE9D7FF28UL, 0x00004031UL,
+    0x0C1D3A5DUL, 0xBC2FB7C6UL, 0x0000BF4AUL,
+    0xC16C86B5UL, 0x940F56F9UL, 0x0000BFCCUL,
+    0x7AEA3973UL, 0xEEA32B87UL, 0x0000BFACUL,
+    0x2D207630UL, 0xE646BFF7UL, 0x0000406CUL,
+    0x5150AA76UL, 0xC652548FUL, 0x0000C040UL,
+    0x5150AA76UL, 0xC652548FUL, 0x0000C040UL,
+    0x5150AA77UL, 0xC652548FUL, 0x0000C040UL,
+    0x5150AA76UL, 0xC652548FUL, 0x0000C040UL,
+    0x1E2BAE31UL, 0xBC820ED4UL, 0x0000BF54UL,
+    0x6CCA57C0UL, 0x88AE9AE2UL, 0x00004071UL,
+    0x0DA05AD8UL, 0xDD86CA35UL, 0x000040AFUL,
+    0x8B3F7816UL, 0xB9DBCB08UL, 0x000040AEUL,
+    0xF581F3B1UL, 0x84774FD4UL, 0x0000C03FUL,
+    0xE9B34E70UL, 0xB718B542UL, 0x0000BF4BUL,
+    0x49339D73UL, 0xD4D54395UL, 0x0000BFE4UL,
+    0xA3785E8EUL, 0x9753873FUL, 0x0000C086UL,
+    0xC6825755UL, 0xA0A90FEEUL, 0x00003FB9UL,
+    0x21F13BE1UL, 0xE5499DEEUL, 0x00004019UL,
+    0x21F13BE2UL, 0xE5499DEEUL, 0x00004019UL,
+    0x21F13BE2UL, 0xE5499DEEUL, 0x00004019UL,
+    0x21F13BE1UL, 0xE5499DEEUL, 0x00004019UL,
+    0x061EA2E3UL, 0xC54A8242UL, 0x0000BF89UL,
+    0xBD71886BUL, 0xCF244A79UL, 0x00003F90UL,
+    0x5AF4665BUL, 0x83D0236EUL, 0x00003FFCUL,
+    0xDB8A6A20UL, 0xB8516293UL, 0x0000BF42UL,
+    0x23BFD362UL, 0xB88C70C1UL, 0x0000C05CUL,
+    0x25485CCCUL, 0xD5888CE6UL, 0x00003F45UL,
+    0x464D53A2UL, 0x8C9238DDUL, 0x00003F52UL,
+    0x733083ADUL, 0xE3D2C32FUL, 0x0000C0A2UL,
+    0x3F2BA4C7UL, 0xD6B5F663UL, 0x0000BF92UL,
+    0xEF8D3502UL, 0xC069E699UL, 0x00003FB8UL,
+    0xEF8D3502UL, 0xC069E699UL, 0x00003FB8UL,
+    0xEF8D3503UL, 0xC069E699UL, 0x00003FB8UL,
+    0xEF8D3502UL, 0xC069E699UL, 0x00003FB8UL,
+    0x7964CC4CUL, 0xBE50FA03UL, 0x0000BFC6UL,
+    0xB60A4EE7UL, 0x80E6DBBCUL, 0x0000BFF1UL,
+    0xF60B7E47UL, 0xE09A057EUL, 0x00004052UL,
+    0x28A4CDD5UL, 0x837ABF27UL, 0x0000BFABUL,
+    0xD88F996FUL, 0xA67FBF80UL, 0x0000C08CUL,
+    0x1BD8D814UL, 0x8023A016UL, 0x00004032UL,
+    0xB118993FUL, 0xE6EB99F3UL, 0x0000BFDDUL,
+    0xF946134CUL, 0xE564B4C6UL, 0x0000407EUL,
+    0x5890CCCDUL, 0xC309B259UL, 0x000040ACUL,
+    0x8D3C2A8EUL, 0xEAD337FDUL, 0x0000BF78UL,
+    0x8D3C2A8EUL, 0xEAD337FDUL, 0x0000BF78UL,
+    0x8D3C2A8FUL, 0xEAD337FDUL, 0x0000BF78UL,
+    0x8D3C2A8EUL, 0xEAD337FDUL, 0x0000BF78UL,
+    0x8953E666UL, 0xB5FF61EEUL, 0x0000C09DUL,
+    0xE45B7E85UL, 0xD56342C8UL, 0x0000C0B5UL,
+    0xA369A1EFUL, 0xEFBAF0F3UL, 0x0000C021UL,
+    0x67B051ABUL, 0x80F32637UL, 0x0000400DUL,
+    0xD5DA9ECEUL, 0xD983A9D8UL, 0x0000C051UL,
+    0x6C8D5380UL, 0x84BC7807UL, 0x0000C085UL,
+    0xD4087DBCUL, 0xE367F147UL, 0x0000BFF4UL,
+    0xDA2E2E98UL, 0xA6FAF695UL, 0x0000404BUL,
+    0x9E90A295UL, 0xE4B25382UL, 0x00003F5FUL,
+    0x6B268030UL, 0x9DA11356UL, 0x0000C0BAUL,
+    0x6B268030UL, 0x9DA11356UL, 0x0000C0BAUL,
+    0x6B268031UL, 0x9DA11356UL, 0x0000C0BAUL,
+    0x6B268030UL, 0x9DA11356UL, 0x0000C0BAUL,
+    0x3ADC45CDUL, 0xA5423C06UL, 0x00003FC9UL,
+    0x59BF0644UL, 0x8B0443FCUL, 0x00003F84UL,
+    0xEE943DDAUL, 0xEEA3DF16UL, 0x00004061UL,
+    0x093F4FD6UL, 0xA2A4F4C1UL, 0x0000400CUL,
+    0xD684917CUL, 0xCD387529UL, 0x00003FA6UL,
+    0x6134FA4BUL, 0x8107CE06UL, 0x00003FE9UL,
+    0x1D5BC02DUL, 0xFA9B4B08UL, 0x0000C07CUL,
+    0x0DE29670UL, 0xF3050611UL, 0x0000C079UL,
+    0x1646D86FUL, 0xE2D4273CUL, 0x00003FC5UL,
+    0xFBC5FC0FUL, 0xB632E24FUL, 0x0000C029UL,
+    0xFBC5FC10UL, 0xB632E24FUL, 0x0000C029UL,
+    0xFBC5FC10UL, 0xB632E24FUL, 0x0000C029UL,
+    0xFBC5FC0FUL, 0xB632E24FUL, 0x0000C029UL,
+    0xABA62D2DUL, 0xFA486BDEUL, 0x00003F8AUL,
+    0x1A824631UL, 0xDD9774FEUL, 0x0000BFE3UL,
+    0x2AB32427UL, 0xA2C8E5DFUL, 0x0000C075UL,
+    0x928B4E75UL, 0xFCA40086UL, 0x0000C005UL,
+    0x47849A98UL, 0xE3793760UL, 0x00003F75UL,
+    0x85DE3E16UL, 0xEE599865UL, 0x0000BFD2UL,
+    0x0AE0BE0CUL, 0xC1F4936CUL, 0x0000BF71UL,
+    0x38E0D480UL, 0x9D9DE3FBUL, 0x0000402AUL,
+    0x539A548CUL, 0xD3F9B203UL, 0x00004085UL
+};
+
+#define COUNT(array) (sizeof(array) / sizeof(*(array)))
+
+static void check(const char *name, int index, unsigned long *actual, unsigned long *expected, int count) {
+    int i;
+
+    for(i = 0; i < count; ++i)
+        if(actual[i] != expected[i])
+            test_fail(name, index, i, actual[i], expected[i]);
+}
+
+void test_main(void) {
+    unsigned long i;
+    unsigned long bits[3];
+
+    for(i = 0; i < COUNT(floats); ++i)
+        check("float", i, (unsigned long *) &floats[i], &floats_bits[i], 1);
+
+    for(i = 0; i < COUNT(doubles); ++i)
+        check("double", i, (unsigned long *) &doubles[i], &doubles_bits[2 * i], 2);
+
+    /* only the lower 80 bits are significant */
+    for(i = 0; i < COUNT(long_doubles); ++i) {
+        bits[0] = ((unsigned long *) &long_doubles[i])[0];
+        bits[1] = ((unsigned long *) &long_doubles[i])[1];
+        bits[2] = ((unsigned long *) &long_doubles[i])[2] & 0xFFFF;
+
+        check("long double", i, bits, &long_doubles_bits[3 * i], 3);
+    }
+}
@@ -0,0 +1,195 @@
+#!/usr/bin/python3
+# Generates floats.c, which checks the bit patterns of floating-point constants
+# against correctly rounded (round half to even) conversions.
+#
+# usage: ./floats.py [COUNT] > floats.c
+import random
+import sys
+
+from fractions import Fraction
+
+sys.set_int_max_str_digits(0)
+
+COUNT = int(sys.argv[1]) if len(sys.argv) > 1 else 500
+
+random.seed(754)
+
+# (bits of exponent, bits of the stored mantissa, implicit integer bit)
+FLOAT       = ( 8, 23, True  )
+DOUBLE      = ( 11, 52, True  )
+LONG_DOUBLE = ( 15, 64, False )
+
+def precision(spec):
+    return spec[1] + (1 if spec[2] else 0)
+
+def bias(spec):
+    return (1 << (spec[0] - 1)) - 1
+
+# the exponent of the least significant bit of subnormals
+def min_quantum(spec):
+    return 1 - bias(spec) - precision(spec) + 1
+
+def encode(value, spec):
+    sign = 1 if value < 0 else 0
+    value = abs(value)
+    p = precision(spec)
+
+    # 2^exp <= value < 2^(exp+1)
+    exp = value.numerator.bit_length() - value.denominator.bit_length()
+
+    if value < Fraction(2) ** exp:
+        exp -= 1
+
+    quantum = max(exp - p + 1, min_quantum(spec))
+    scaled = value / Fraction(2) ** quantum
+    mantissa = scaled.numerator // scaled.denominator
+    rest = scaled - mantissa
+
+    if rest > Fraction(1, 2) or (rest == Fraction(1, 2) and mantissa & 1):
+        mantissa += 1
+
+    if mantissa.bit_length() > p:
+        mantissa >>= 1
+        quantum += 1
+
+    biased = quantum + p - 1 + bias(spec) if mantissa >> (p - 1) else 0
+
+    assert biased < (1 << spec[0]) - 1, 'overflow'
+
+    if spec[2]:
+        mantissa &= (1 << spec[1]) - 1
+
+    return (sign << (spec[0] + spec[1])) | (biased << spec[1]) | mantissa
+
+def decode(bits, spec):
+    mantissa = bits & ((1 << spec[1]) - 1)
+    biased = (bits >> spec[1]) & ((1 << spec[0]) - 1)
+
+    if biased and spec[2]:
+        mantissa |= 1 << spec[1]
+
+    value = mantissa * Fraction(2) ** (max(biased, 1) - bias(spec) - precision(spec) + 1)
+
+    return -value if bits >> (spec[0] + spec[1]) else value
+
+# the exact decimal representation of a binary fraction
+def exact(value):
+    sign = '-' if value < 0 else ''
+    value = abs(value)
+    shift = value.denominator.bit_length() - 1
+    digits = str(value.numerator * 5 ** shift).rjust(shift + 1, '0')
+
+    if shift == 0:
+        return sign + digits + '.0'
+
+    return sign + digits[:-shift] + '.' + digits[-shift:]
+
+def random_bits(spec, exponents):
+    sign = random.getrandbits(1)
+    biased = random.randint(max(bias(spec) - exponents, 1), min(bias(spec) + exponents, 2 * bias(spec)))
+    mantissa = random.getrandbits(spec[1])
+
+    if not spec[2]:
+        mantissa |= 1 << (spec[1] - 1)
+
+    return (sign << (spec[0] + spec[1])) | (biased << spec[1]) | mantissa
+
+# the values halfway between two adjacent numbers, and just above/below
+def halfway(bits, spec):
+    value = decode(bits, spec)
+    ulp = Fraction(2) ** ((max((bits >> spec[1]) & ((1 << spec[0]) - 1), 1)) - bias(spec) - precision(spec) + 1)
+
+    middle = value + (ulp / 2 if value > 0 else -ulp / 2)
+
+    return [ exact(middle), exact(middle) + '1', exact(middle - (ulp / 4 if value > 0 else -ulp / 4)) ]
+
+def literals(spec, suffix, shortest, exponents, fixed):
+    result = list(fixed)
+
+    for i in range(COUNT):
+        bits = random_bits(spec, exponents)
+        result.append(shortest(bits))
+
+        if i % 10 == 0:
+            result += halfway(bits, spec)
+
+    return [ (literal + suffix, encode(Fraction(literal), spec)) for literal in result ]
+
+def float_literal(bits):
+    literal = '%.9g' % decode(bits, FLOAT)
+
+    return literal if '.' in literal or 'e' in literal else literal + '.0'
+
+def double_literal(bits):
+    return repr(float(decode(bits, DOUBLE)))
+
+COMMON = [
+    '0.1', '0.2', '0.3', '0.5', '1.0', '2.5', '3.14159265358979323846264338327950288',
+    '2.71828182845904523536028747135266250', '1e10', '1e-5', '123456789.0', '0.0001220703125'
+]
+
+floats = literals(FLOAT, 'f', float_literal, 150, COMMON + [
+    '3.40282347e38', '1.17549435e-38', '1.40129846e-45', '7e-46', '1e38', '16777217.0', '-1e-40'
+])
+
+doubles = literals(DOUBLE, '', double_literal, 400, COMMON + [
+    '1.7976931348623157e308', '2.2250738585072014e-308', '4.9406564584124654e-324', '3e-324',
+    '1e300', '1e-300', '9007199254740993.0', '-1e-310'
+])
+
+long_doubles = literals(LONG_DOUBLE, 'L', lambda bits: exact(decode(bits, LONG_DOUBLE)), 200, COMMON + [
+    '1e300', '1e-300', '1e1000', '1e-1000', '18446744073709551617.0'
+])
+
+def words(bits, count):
+    return [ (bits >> (32 * i)) & 0xFFFFFFFF for i in range(count) ]
+
+def array(type, name, values):
+    lines = [ '    ' + value for value in values ]
+
+    return 'static %s %s[] = {\n%s\n};\n' % (type, name, ',\n'.join(lines))
+
+out = [ '/* (c) 2023, Thomas Kasper */\n', '/* Generated by floats.py, do not edit */\n', '#include "syntaxtest.h"\n' ]
+
+for type, name, values, count in [
+    ('float', 'floats', floats, 1),
+    ('double', 'doubles', doubles, 2),
+    ('long double', 'long_doubles', long_doubles, 3)
+]:
+    out.append(array(type, name, [ literal for literal, _ in values ]))
+    out.append(array('unsigned long', name + '_bits', [
+        ', '.join('0x%08XUL' % word for word in words(bits, count))
+        for _, bits in values
+    ]))
+
+out.append('''#define COUNT(array) (sizeof(array) / sizeof(*(array)))
+
+static void check(const char *name, int index, unsigned long *actual, unsigned long *expected, int count) {
+    int i;
+
+    for(i = 0; i < count; ++i)
+        if(actual[i] != expected[i])
+            test_fail(name, index, i, actual[i], expected[i]);
+}
+
+void test_main(void) {
+    unsigned long i;
+    unsigned long bits[3];
+
+    for(i = 0; i < COUNT(floats); ++i)
+        check("float", i, (unsigned long *) &floats[i], &floats_bits[i], 1);
+
+    for(i = 0; i < COUNT(doubles); ++i)
+        check("double", i, (unsigned long *) &doubles[i], &doubles_bits[2 * i], 2);
+
+    /* only the lower 80 bits are significant */
+    for(i = 0; i < COUNT(long_doubles); ++i) {
+        bits[0] = ((unsigned long *) &long_doubles[i])[0];
+        bits[1] = ((unsigned long *) &long_doubles[i])[1];
+        bits[2] = ((unsigned long *) &long_doubles[i])[2] & 0xFFFF;
+
+        check("long double", i, bits, &long_doubles_bits[3 * i], 3);
+    }
+}''')
+
+print('\n'.join(out))
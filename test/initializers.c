@@ -0,0 +1,139 @@
+/* (c) 2023, Thomas Kasper */
+
+/* Partially initialized structs and arrays with static storage duration,
+ * whose remaining members have to be zero
+ */
+
+#include "syntaxtest.h"
+
+#define CHECK(name, index, actual, expected) \
+    if((actual) != (expected)) \
+        test_fail(name, index, 0, (unsigned long) (actual), (unsigned long) (expected))
+
+struct In {
+    char a;
+    int b;
+};
+
+struct A {
+    int x;
+    struct In in;
+};
+
+struct B {
+    int x;
+    struct In arr[2];
+};
+
+struct C {
+    struct In in;
+    int arr[3];
+    struct In ins[2];
+    char *p;
+    double d;
+};
+
+struct D {
+    struct A as[2];
+    int y;
+};
+
+union U {
+    char c[4];
+    int x;
+};
+
+struct E {
+    int x;
+    union U u;
+};
+
+struct F {
+    unsigned a : 3;
+    struct In in;
+    int b;
+};
+
+static struct A static_a = { 1 };
+static struct B static_b = { 2 };
+static struct C static_c = { { 3 } };
+static struct D static_d = { { { 4, { 5 } } } };
+static struct B static_bs[3] = { { 6 }, { 7, { { 8, 9 } } } };
+static struct E static_e = { 10 };
+static struct F static_f = { 5 };
+
+static void check_in(const char *name, int index, struct In *in, int a, int b) {
+    CHECK(name, index, in->a, a);
+    CHECK(name, index, in->b, b);
+}
+
+static void check_a(const char *name, struct A *a) {
+    CHECK(name, 0, a->x, 1);
+    check_in(name, 1, &a->in, 0, 0);
+}
+
+static void check_b(const char *name, struct B *b) {
+    CHECK(name, 0, b->x, 2);
+    check_in(name, 1, &b->arr[0], 0, 0);
+    check_in(name, 2, &b->arr[1], 0, 0);
+}
+
+static void check_c(const char *name, struct C *c) {
+    int i;
+
+    check_in(name, 0, &c->in, 3, 0);
+
+    for(i = 0; i < 3; ++i)
+        CHECK(name, 1 + i, c->arr[i], 0);
+
+    check_in(name, 4, &c->ins[0], 0, 0);
+    check_in(name, 5, &c->ins[1], 0, 0);
+
+    CHECK(name, 6, c->p, (char *) 0);
+    CHECK(name, 7, c->d == 0.0, 1);
+}
+
+static void check_d(const char *name, struct D *d) {
+    CHECK(name, 0, d->as[0].x, 4);
+    check_in(name, 1, &d->as[0].in, 5, 0);
+    CHECK(name, 2, d->as[1].x, 0);
+    check_in(name, 3, &d->as[1].in, 0, 0);
+    CHECK(name, 4, d->y, 0);
+}
+
+static void check_bs(const char *name, struct B *bs) {
+    CHECK(name, 0, bs[0].x, 6);
+    check_in(name, 1, &bs[0].arr[0], 0, 0);
+    check_in(name, 2, &bs[0].arr[1], 0, 0);
+    CHECK(name, 3, bs[1].x, 7);
+    check_in(name, 4, &bs[1].arr[0], 8, 9);
+    check_in(name, 5, &bs[1].arr[1], 0, 0);
+    CHECK(name, 6, bs[2].x, 0);
+    check_in(name, 7, &bs[2].arr[0], 0, 0);
+    check_in(name, 8, &bs[2].arr[1], 0, 0);
+}
+
+static void check_e(const char *name, struct E *e) {
+    int i;
+
+    CHECK(name, 0, e->x, 10);
+
+    for(i = 0; i < 4; ++i)
+        CHECK(name, 1 + i, e->u.c[i], 0);
+}
+
+static void check_f(const char *name, struct F *f) {
+    CHECK(name, 0, f->a, 5);
+    check_in(name, 1, &f->in, 0, 0);
+    CHECK(name, 2, f->b, 0);
+}
+
+void test_main(void) {
+    check_a("a", &static_a);
+    check_b("b", &static_b);
+    check_c("c", &static_c);
+    check_d("d", &static_d);
+    check_bs("bs", static_bs);
+    check_e("e", &static_e);
+    check_f("f", &static_f);
+}
@@ -0,0 +1,1682 @@
+/* (c) 2023, Thomas Kasper */
+
+/* Generated by multiplication.py, do not edit */
+
+#include "syntaxtest.h"
+
+static int factors[] = {
+    0, 1, -1, 2, -2, 3, -3, 5,
+    6, 7, 9, 10, 11, 12, 13, 15,
+    17, 18, 19, 20, 21, 24, 25, 27,
+    28, 31, 33, 36, 37, 40, 45, 48,
+    63, 64, 65, 72, 81, 96, 100, 127,
+    129, 255, 257, 1000, 1023, 1025, 4097, 65535,
+    65537, -5, -9, -10, -100, -1024, 1073741824, -1073741824,
+    (-2147483647 - 1), 2147483647, 74565, 641, 105, -81, 6700417
+};
+
+static int values[] = {
+    0, 1, -1, 2, -2, 7, -7, 100,
+    -100, 65535, -65536, 2147483647, (-2147483647 - 1), 123456789, -987654321, -1004276211,
+    2020078392, -784351584, -1488989877, 1397040570, 2060393961, -775934618, -1335868020, 461684096,
+    579772299, 1986221454, 1395450845, -299392958, -1171576427, 1846909867, -1693096942, 1764425339,
+    -171832103, 339626728, 1371986184
+};
+
+static int struct_sizes[] = {
+    1, 2, 3, 4, 5, 6, 7, 8,
+    9, 10, 11, 12, 13, 15, 16, 17,
+    20, 24, 36, 40, 100
+};
+
+static int int_value;
+
+static int int_product_0(int x) {
+    return x * 0;
+}
+
+static unsigned unsigned_product_0(unsigned x) {
+    return x * 0u;
+}
+
+static int int_linear_0(int x) {
+    return 0 * x + 5;
+}
+
+static int int_assign_product_0(int x) {
+    int_value = x;
+    int_value *= 0;
+    return int_value;
+}
+
+static int int_product_1(int x) {
+    return x * 1;
+}
+
+static unsigned unsigned_product_1(unsigned x) {
+    return x * 1u;
+}
+
+static int int_linear_1(int x) {
+    return 1 * x + 5;
+}
+
+static int int_assign_product_1(int x) {
+    int_value = x;
+    int_value *= 1;
+    return int_value;
+}
+
+static int int_product_2(int x) {
+    return x * -1;
+}
+
+static unsigned unsigned_product_2(unsigned x) {
+    return x * 4294967295u;
+}
+
+static int int_linear_2(int x) {
+    return -1 * x + 5;
+}
+
+static int int_assign_product_2(int x) {
+    int_value = x;
+    int_value *= -1;
+    return int_value;
+}
+
+static int int_product_3(int x) {
+    return x * 2;
+}
+
+static unsigned unsigned_product_3(unsigned x) {
+    return x * 2u;
+}
+
+static int int_linear_3(int x) {
+    return 2 * x + 5;
+}
+
+static int int_assign_product_3(int x) {
+    int_value = x;
+    int_value *= 2;
+    return int_value;
+}
+
+static int int_product_4(int x) {
+    return x * -2;
+}
+
+static unsigned unsigned_product_4(unsigned x) {
+    return x * 4294967294u;
+}
+
+static int int_linear_4(int x) {
+    return -2 * x + 5;
+}
+
+static int int_assign_product_4(int x) {
+    int_value = x;
+    int_value *= -2;
+    return int_value;
+}
+
+static int int_product_5(int x) {
+    return x * 3;
+}
+
+static unsigned unsigned_product_5(unsigned x) {
+    return x * 3u;
+}
+
+static int int_linear_5(int x) {
+    return 3 * x + 5;
+}
+
+static int int_assign_product_5(int x) {
+    int_value = x;
+    int_value *= 3;
+    return int_value;
+}
+
+static int int_product_6(int x) {
+    return x * -3;
+}
+
+static unsigned unsigned_product_6(unsigned x) {
+    return x * 4294967293u;
+}
+
+static int int_linear_6(int x) {
+    return -3 * x + 5;
+}
+
+static int int_assign_product_6(int x) {
+    int_value = x;
+    int_value *= -3;
+    return int_value;
+}
+
+static int int_product_7(int x) {
+    return x * 5;
+}
+
+static unsigned unsigned_product_7(unsigned x) {
+    return x * 5u;
+}
+
+static int int_linear_7(int x) {
+    return 5 * x + 5;
+}
+
+static int int_assign_product_7(int x) {
+    int_value = x;
+    int_value *= 5;
+    return int_value;
+}
+
+static int int_product_8(int x) {
+    return x * 6;
+}
+
+static unsigned unsigned_product_8(unsigned x) {
+    return x * 6u;
+}
+
+static int int_linear_8(int x) {
+    return 6 * x + 5;
+}
+
+static int int_assign_product_8(int x) {
+    int_value = x;
+    int_value *= 6;
+    return int_value;
+}
+
+static int int_product_9(int x) {
+    return x * 7;
+}
+
+static unsigned unsigned_product_9(unsigned x) {
+    return x * 7u;
+}
+
+static int int_linear_9(int x) {
+    return 7 * x + 5;
+}
+
+static int int_assign_product_9(int x) {
+    int_value = x;
+    int_value *= 7;
+    return int_value;
+}
+
+static int int_product_10(int x) {
+    return x * 9;
+}
+
+static unsigned unsigned_product_10(unsigned x) {
+    return x * 9u;
+}
+
+static int int_linear_10(int x) {
+    return 9 * x + 5;
+}
+
+static int int_assign_product_10(int x) {
+    int_value = x;
+    int_value *= 9;
+    return int_value;
+}
+
+static int int_product_11(int x) {
+    return x * 10;
+}
+
+static unsigned unsigned_product_11(unsigned x) {
+    return x * 10u;
+}
+
+static int int_linear_11(int x) {
+    return 10 * x + 5;
+}
+
+static int int_assign_product_11(int x) {
+    int_value = x;
+    int_value *= 10;
+    return int_value;
+}
+
+static int int_product_12(int x) {
+    return x * 11;
+}
+
+static unsigned unsigned_product_12(unsigned x) {
+    return x * 11u;
+}
+
+static int int_linear_12(int x) {
+    return 11 * x + 5;
+}
+
+static int int_assign_product_12(int x) {
+    int_value = x;
+    int_value *= 11;
+    return int_value;
+}
+
+static int int_product_13(int x) {
+    return x * 12;
+}
+
+static unsigned unsigned_product_13(unsigned x) {
+    return x * 12u;
+}
+
+static int int_linear_13(int x) {
+    return 12 * x + 5;
+}
+
+static int int_assign_product_13(int x) {
+    int_value = x;
+    int_value *= 12;
+    return int_value;
+}
+
+static int int_product_14(int x) {
+    return x * 13;
+}
+
+static unsigned unsigned_product_14(unsigned x) {
+    return x * 13u;
+}
+
+static int int_linear_14(int x) {
+    return 13 * x + 5;
+}
+
+static int int_assign_product_14(int x) {
+    int_value = x;
+    int_value *= 13;
+    return int_value;
+}
+
+static int int_product_15(int x) {
+    return x * 15;
+}
+
+static unsigned unsigned_product_15(unsigned x) {
+    return x * 15u;
+}
+
+static int int_linear_15(int x) {
+    return 15 * x + 5;
+}
+
+static int int_assign_product_15(int x) {
+    int_value = x;
+    int_value *= 15;
+    return int_value;
+}
+
+static int int_product_16(int x) {
+    return x * 17;
+}
+
+static unsigned unsigned_product_16(unsigned x) {
+    return x * 17u;
+}
+
+static int int_linear_16(int x) {
+    return 17 * x + 5;
+}
+
+static int int_assign_product_16(int x) {
+    int_value = x;
+    int_value *= 17;
+    return int_value;
+}
+
+static int int_product_17(int x) {
+    return x * 18;
+}
+
+static unsigned unsigned_product_17(unsigned x) {
+    return x * 18u;
+}
+
+static int int_linear_17(int x) {
+    return 18 * x + 5;
+}
+
+static int int_assign_product_17(int x) {
+    int_value = x;
+    int_value *= 18;
+    return int_value;
+}
+
+static int int_product_18(int x) {
+    return x * 19;
+}
+
+static unsigned unsigned_product_18(unsigned x) {
+    return x * 19u;
+}
+
+static int int_linear_18(int x) {
+    return 19 * x + 5;
+}
+
+static int int_assign_product_18(int x) {
+    int_value = x;
+    int_value *= 19;
+    return int_value;
+}
+
+static int int_product_19(int x) {
+    return x * 20;
+}
+
+static unsigned unsigned_product_19(unsigned x) {
+    return x * 20u;
+}
+
+static int int_linear_19(int x) {
+    return 20 * x + 5;
+}
+
+static int int_assign_product_19(int x) {
+    int_value = x;
+    int_value *= 20;
+    return int_value;
+}
+
+static int int_product_20(int x) {
+    return x * 21;
+}
+
+static unsigned unsigned_product_20(unsigned x) {
+    return x * 21u;
+}
+
+static int int_linear_20(int x) {
+    return 21 * x + 5;
+}
+
+static int int_assign_product_20(int x) {
+    int_value = x;
+    int_value *= 21;
+    return int_value;
+}
+
+static int int_product_21(int x) {
+    return x * 24;
+}
+
+static unsigned unsigned_product_21(unsigned x) {
+    return x * 24u;
+}
+
+static int int_linear_21(int x) {
+    return 24 * x + 5;
+}
+
+static int int_assign_product_21(int x) {
+    int_value = x;
+    int_value *= 24;
+    return int_value;
+}
+
+static int int_product_22(int x) {
+    return x * 25;
+}
+
+static unsigned unsigned_product_22(unsigned x) {
+    return x * 25u;
+}
+
+static int int_linear_22(int x) {
+    return 25 * x + 5;
+}
+
+static int int_assign_product_22(int x) {
+    int_value = x;
+    int_value *= 25;
+    return int_value;
+}
+
+static int int_product_23(int x) {
+    return x * 27;
+}
+
+static unsigned unsigned_product_23(unsigned x) {
+    return x * 27u;
+}
+
+static int int_linear_23(int x) {
+    return 27 * x + 5;
+}
+
+static int int_assign_product_23(int x) {
+    int_value = x;
+    int_value *= 27;
+    return int_value;
+}
+
+static int int_product_24(int x) {
+    return x * 28;
+}
+
+static unsigned unsigned_product_24(unsigned x) {
+    return x * 28u;
+}
+
+static int int_linear_24(int x) {
+    return 28 * x + 5;
+}
+
+static int int_assign_product_24(int x) {
+    int_value = x;
+    int_value *= 28;
+    return int_value;
+}
+
+static int int_product_25(int x) {
+    return x * 31;
+}
+
+static unsigned unsigned_product_25(unsigned x) {
+    return x * 31u;
+}
+
+static int int_linear_25(int x) {
+    return 31 * x + 5;
+}
+
+static int int_assign_product_25(int x) {
+    int_value = x;
+    int_value *= 31;
+    return int_value;
+}
+
+static int int_product_26(int x) {
+    return x * 33;
+}
+
+static unsigned unsigned_product_26(unsigned x) {
+    return x * 33u;
+}
+
+static int int_linear_26(int x) {
+    return 33 * x + 5;
+}
+
+static int int_assign_product_26(int x) {
+    int_value = x;
+    int_value *= 33;
+    return int_value;
+}
+
+static int int_product_27(int x) {
+    return x * 36;
+}
+
+static unsigned unsigned_product_27(unsigned x) {
+    return x * 36u;
+}
+
+static int int_linear_27(int x) {
+    return 36 * x + 5;
+}
+
+static int int_assign_product_27(int x) {
+    int_value = x;
+    int_value *= 36;
+    return int_value;
+}
+
+static int int_product_28(int x) {
+    return x * 37;
+}
+
+static unsigned unsigned_product_28(unsigned x) {
+    return x * 37u;
+}
+
+static int int_linear_28(int x) {
+    return 37 * x + 5;
+}
+
+static int int_assign_product_28(int x) {
+    int_value = x;
+    int_value *= 37;
+    return int_value;
+}
+
+static int int_product_29(int x) {
+    return x * 40;
+}
+
+static unsigned unsigned_product_29(unsigned x) {
+    return x * 40u;
+}
+
+static int int_linear_29(int x) {
+    return 40 * x + 5;
+}
+
+static int int_assign_product_29(int x) {
+    int_value = x;
+    int_value *= 40;
+    return int_value;
+}
+
+static int int_product_30(int x) {
+    return x * 45;
+}
+
+static unsigned unsigned_product_30(unsigned x) {
+    return x * 45u;
+}
+
+static int int_linear_30(int x) {
+    return 45 * x + 5;
+}
+
+static int int_assign_product_30(int x) {
+    int_value = x;
+    int_value *= 45;
+    return int_value;
+}
+
+static int int_product_31(int x) {
+    return x * 48;
+}
+
+static unsigned unsigned_product_31(unsigned x) {
+    return x * 48u;
+}
+
+static int int_linear_31(int x) {
+    return 48 * x + 5;
+}
+
+static int int_assign_product_31(int x) {
+    int_value = x;
+    int_value *= 48;
+    return int_value;
+}
+
+static int int_product_32(int x) {
+    return x * 63;
+}
+
+static unsigned unsigned_product_32(unsigned x) {
+    return x * 63u;
+}
+
+static int int_linear_32(int x) {
+    return 63 * x + 5;
+}
+
+static int int_assign_product_32(int x) {
+    int_value = x;
+    int_value *= 63;
+    return int_value;
+}
+
+static int int_product_33(int x) {
+    return x * 64;
+}
+
+static unsigned unsigned_product_33(unsigned x) {
+    return x * 64u;
+}
+
+static int int_linear_33(int x) {
+    return 64 * x + 5;
+}
+
+static int int_assign_product_33(int x) {
+    int_value = x;
+    int_value *= 64;
+    return int_value;
+}
+
+static int int_product_34(int x) {
+    return x * 65;
+}
+
+static unsigned unsigned_product_34(unsigned x) {
+    return x * 65u;
+}
+
+static int int_linear_34(int x) {
+    return 65 * x + 5;
+}
+
+static int int_assign_product_34(int x) {
+    int_value = x;
+    int_value *= 65;
+    return int_value;
+}
+
+static int int_product_35(int x) {
+    return x * 72;
+}
+
+static unsigned unsigned_product_35(unsigned x) {
+    return x * 72u;
+}
+
+static int int_linear_35(int x) {
+    return 72 * x + 5;
+}
+
+static int int_assign_product_35(int x) {
+    int_value = x;
+    int_value *= 72;
+    return int_value;
+}
+
+static int int_product_36(int x) {
+    return x * 81;
+}
+
+static unsigned unsigned_product_36(unsigned x) {
+    return x * 81u;
+}
+
+static int int_linear_36(int x) {
+    return 81 * x + 5;
+}
+
+static int int_assign_product_36(int x) {
+    int_value = x;
+    int_value *= 81;
+    return int_value;
+}
+
+static int int_product_37(int x) {
+    return x * 96;
+}
+
+static unsigned unsigned_product_37(unsigned x) {
+    return x * 96u;
+}
+
+static int int_linear_37(int x) {
+    return 96 * x + 5;
+}
+
+static int int_assign_product_37(int x) {
+    int_value = x;
+    int_value *= 96;
+    return int_value;
+}
+
+static int int_product_38(int x) {
+    return x * 100;
+}
+
+static unsigned unsigned_product_38(unsigned x) {
+    return x * 100u;
+}
+
+static int int_linear_38(int x) {
+    return 100 * x + 5;
+}
+
+static int int_assign_product_38(int x) {
+    int_value = x;
+    int_value *= 100;
+    return int_value;
+}
+
+static int int_product_39(int x) {
+    return x * 127;
+}
+
+static unsigned unsigned_product_39(unsigned x) {
+    return x * 127u;
+}
+
+static int int_linear_39(int x) {
+    return 127 * x + 5;
+}
+
+static int int_assign_product_39(int x) {
+    int_value = x;
+    int_value *= 127;
+    return int_value;
+}
+
+static int int_product_40(int x) {
+    return x * 129;
+}
+
+static unsigned unsigned_product_40(unsigned x) {
+    return x * 129u;
+}
+
+static int int_linear_40(int x) {
+    return 129 * x + 5;
+}
+
+static int int_assign_product_40(int x) {
+    int_value = x;
+    int_value *= 129;
+    return int_value;
+}
+
+static int int_product_41(int x) {
+    return x * 255;
+}
+
+static unsigned unsigned_product_41(unsigned x) {
+    return x * 255u;
+}
+
+static int int_linear_41(int x) {
+    return 255 * x + 5;
+}
+
+static int int_assign_product_41(int x) {
+    int_value = x;
+    int_value *= 255;
+    return int_value;
+}
+
+static int int_product_42(int x) {
+    return x * 257;
+}
+
+static unsigned unsigned_product_42(unsigned x) {
+    return x * 257u;
+}
+
+static int int_linear_42(int x) {
+    return 257 * x + 5;
+}
+
+static int int_assign_product_42(int x) {
+    int_value = x;
+    int_value *= 257;
+    return int_value;
+}
+
+static int int_product_43(int x) {
+    return x * 1000;
+}
+
+static unsigned unsigned_product_43(unsigned x) {
+    return x * 1000u;
+}
+
+static int int_linear_43(int x) {
+    return 1000 * x + 5;
+}
+
+static int int_assign_product_43(int x) {
+    int_value = x;
+    int_value *= 1000;
+    return int_value;
+}
+
+static int int_product_44(int x) {
+    return x * 1023;
+}
+
+static unsigned unsigned_product_44(unsigned x) {
+    return x * 1023u;
+}
+
+static int int_linear_44(int x) {
+    return 1023 * x + 5;
+}
+
+static int int_assign_product_44(int x) {
+    int_value = x;
+    int_value *= 1023;
+    return int_value;
+}
+
+static int int_product_45(int x) {
+    return x * 1025;
+}
+
+static unsigned unsigned_product_45(unsigned x) {
+    return x * 1025u;
+}
+
+static int int_linear_45(int x) {
+    return 1025 * x + 5;
+}
+
+static int int_assign_product_45(int x) {
+    int_value = x;
+    int_value *= 1025;
+    return int_value;
+}
+
+static int int_product_46(int x) {
+    return x * 4097;
+}
+
+static unsigned unsigned_product_46(unsigned x) {
+    return x * 4097u;
+}
+
+static int int_linear_46(int x) {
+    return 4097 * x + 5;
+}
+
+static int int_assign_product_46(int x) {
+    int_value = x;
+    int_value *= 4097;
+    return int_value;
+}
+
+static int int_product_47(int x) {
+    return x * 65535;
+}
+
+static unsigned unsigned_product_47(unsigned x) {
+    return x * 65535u;
+}
+
+static int int_linear_47(int x) {
+    return 65535 * x + 5;
+}
+
+static int int_assign_product_47(int x) {
+    int_value = x;
+    int_value *= 65535;
+    return int_value;
+}
+
+static int int_product_48(int x) {
+    return x * 65537;
+}
+
+static unsigned unsigned_product_48(unsigned x) {
+    return x * 65537u;
+}
+
+static int int_linear_48(int x) {
+    return 65537 * x + 5;
+}
+
+static int int_assign_product_48(int x) {
+    int_value = x;
+    int_value *= 65537;
+    return int_value;
+}
+
+static int int_product_49(int x) {
+    return x * -5;
+}
+
+static unsigned unsigned_product_49(unsigned x) {
+    return x * 4294967291u;
+}
+
+static int int_linear_49(int x) {
+    return -5 * x + 5;
+}
+
+static int int_assign_product_49(int x) {
+    int_value = x;
+    int_value *= -5;
+    return int_value;
+}
+
+static int int_product_50(int x) {
+    return x * -9;
+}
+
+static unsigned unsigned_product_50(unsigned x) {
+    return x * 4294967287u;
+}
+
+static int int_linear_50(int x) {
+    return -9 * x + 5;
+}
+
+static int int_assign_product_50(int x) {
+    int_value = x;
+    int_value *= -9;
+    return int_value;
+}
+
+static int int_product_51(int x) {
+    return x * -10;
+}
+
+static unsigned unsigned_product_51(unsigned x) {
+    return x * 4294967286u;
+}
+
+static int int_linear_51(int x) {
+    return -10 * x + 5;
+}
+
+static int int_assign_product_51(int x) {
+    int_value = x;
+    int_value *= -10;
+    return int_value;
+}
+
+static int int_product_52(int x) {
+    return x * -100;
+}
+
+static unsigned unsigned_product_52(unsigned x) {
+    return x * 4294967196u;
+}
+
+static int int_linear_52(int x) {
+    return -100 * x + 5;
+}
+
+static int int_assign_product_52(int x) {
+    int_value = x;
+    int_value *= -100;
+    return int_value;
+}
+
+static int int_product_53(int x) {
+    return x * -1024;
+}
+
+static unsigned unsigned_product_53(unsigned x) {
+    return x * 4294966272u;
+}
+
+static int int_linear_53(int x) {
+    return -1024 * x + 5;
+}
+
+static int int_assign_product_53(int x) {
+    int_value = x;
+    int_value *= -1024;
+    return int_value;
+}
+
+static int int_product_54(int x) {
+    return x * 1073741824;
+}
+
+static unsigned unsigned_product_54(unsigned x) {
+    return x * 1073741824u;
+}
+
+static int int_linear_54(int x) {
+    return 1073741824 * x + 5;
+}
+
+static int int_assign_product_54(int x) {
+    int_value = x;
+    int_value *= 1073741824;
+    return int_value;
+}
+
+static int int_product_55(int x) {
+    return x * -1073741824;
+}
+
+static unsigned unsigned_product_55(unsigned x) {
+    return x * 3221225472u;
+}
+
+static int int_linear_55(int x) {
+    return -1073741824 * x + 5;
+}
+
+static int int_assign_product_55(int x) {
+    int_value = x;
+    int_value *= -1073741824;
+    return int_value;
+}
+
+static int int_product_56(int x) {
+    return x * (-2147483647 - 1);
+}
+
+static unsigned unsigned_product_56(unsigned x) {
+    return x * 2147483648u;
+}
+
+static int int_linear_56(int x) {
+    return (-2147483647 - 1) * x + 5;
+}
+
+static int int_assign_product_56(int x) {
+    int_value = x;
+    int_value *= (-2147483647 - 1);
+    return int_value;
+}
+
+static int int_product_57(int x) {
+    return x * 2147483647;
+}
+
+static unsigned unsigned_product_57(unsigned x) {
+    return x * 2147483647u;
+}
+
+static int int_linear_57(int x) {
+    return 2147483647 * x + 5;
+}
+
+static int int_assign_product_57(int x) {
+    int_value = x;
+    int_value *= 2147483647;
+    return int_value;
+}
+
+static int int_product_58(int x) {
+    return x * 74565;
+}
+
+static unsigned unsigned_product_58(unsigned x) {
+    return x * 74565u;
+}
+
+static int int_linear_58(int x) {
+    return 74565 * x + 5;
+}
+
+static int int_assign_product_58(int x) {
+    int_value = x;
+    int_value *= 74565;
+    return int_value;
+}
+
+static int int_product_59(int x) {
+    return x * 641;
+}
+
+static unsigned unsigned_product_59(unsigned x) {
+    return x * 641u;
+}
+
+static int int_linear_59(int x) {
+    return 641 * x + 5;
+}
+
+static int int_assign_product_59(int x) {
+    int_value = x;
+    int_value *= 641;
+    return int_value;
+}
+
+static int int_product_60(int x) {
+    return x * 105;
+}
+
+static unsigned unsigned_product_60(unsigned x) {
+    return x * 105u;
+}
+
+static int int_linear_60(int x) {
+    return 105 * x + 5;
+}
+
+static int int_assign_product_60(int x) {
+    int_value = x;
+    int_value *= 105;
+    return int_value;
+}
+
+static int int_product_61(int x) {
+    return x * -81;
+}
+
+static unsigned unsigned_product_61(unsigned x) {
+    return x * 4294967215u;
+}
+
+static int int_linear_61(int x) {
+    return -81 * x + 5;
+}
+
+static int int_assign_product_61(int x) {
+    int_value = x;
+    int_value *= -81;
+    return int_value;
+}
+
+static int int_product_62(int x) {
+    return x * 6700417;
+}
+
+static unsigned unsigned_product_62(unsigned x) {
+    return x * 6700417u;
+}
+
+static int int_linear_62(int x) {
+    return 6700417 * x + 5;
+}
+
+static int int_assign_product_62(int x) {
+    int_value = x;
+    int_value *= 6700417;
+    return int_value;
+}
+
+static int (*int_product[])(int) = {
+    int_product_0, int_product_1, int_product_2, int_product_3, int_product_4, int_product_5,
+    int_product_6, int_product_7, int_product_8, int_product_9, int_product_10, int_product_11,
+    int_product_12, int_product_13, int_product_14, int_product_15, int_product_16, int_product_17,
+    int_product_18, int_product_19, int_product_20, int_product_21, int_product_22, int_product_23,
+    int_product_24, int_product_25, int_product_26, int_product_27, int_product_28, int_product_29,
+    int_product_30, int_product_31, int_product_32, int_product_33, int_product_34, int_product_35,
+    int_product_36, int_product_37, int_product_38, int_product_39, int_product_40, int_product_41,
+    int_product_42, int_product_43, int_product_44, int_product_45, int_product_46, int_product_47,
+    int_product_48, int_product_49, int_product_50, int_product_51, int_product_52, int_product_53,
+    int_product_54, int_product_55, int_product_56, int_product_57, int_product_58, int_product_59,
+    int_product_60, int_product_61, int_product_62
+};
+
+static unsigned (*unsigned_product[])(unsigned) = {
+    unsigned_product_0, unsigned_product_1, unsigned_product_2, unsigned_product_3, unsigned_product_4, unsigned_product_5,
+    unsigned_product_6, unsigned_product_7, unsigned_product_8, unsigned_product_9, unsigned_product_10, unsigned_product_11,
+    unsigned_product_12, unsigned_product_13, unsigned_product_14, unsigned_product_15, unsigned_product_16, unsigned_product_17,
+    unsigned_product_18, unsigned_product_19, unsigned_product_20, unsigned_product_21, unsigned_product_22, unsigned_product_23,
+    unsigned_product_24, unsigned_product_25, unsigned_product_26, unsigned_product_27, unsigned_product_28, unsigned_product_29,
+    unsigned_product_30, unsigned_product_31, unsigned_product_32, unsigned_product_33, unsigned_product_34, unsigned_product_35,
+    unsigned_product_36, unsigned_product_37, unsigned_product_38, unsigned_product_39, unsigned_product_40, unsigned_product_41,
+    unsigned_product_42, unsigned_product_43, unsigned_product_44, unsigned_product_45, unsigned_product_46, unsigned_product_47,
+    unsigned_product_48, unsigned_product_49, unsigned_product_50, unsigned_product_51, unsigned_product_52, unsigned_product_53,
+    unsigned_product_54, unsigned_product_55, unsigned_product_56, unsigned_product_57, unsigned_product_58, unsigned_product_59,
+    unsigned_product_60, unsigned_product_61, unsigned_product_62
+};
+
+static int (*int_linear[])(int) = {
+    int_linear_0, int_linear_1, int_linear_2, int_linear_3, int_linear_4, int_linear_5,
+    int_linear_6, int_linear_7, int_linear_8, int_linear_9, int_linear_10, int_linear_11,
+    int_linear_12, int_linear_13, int_linear_14, int_linear_15, int_linear_16, int_linear_17,
+    int_linear_18, int_linear_19, int_linear_20, int_linear_21, int_linear_22, int_linear_23,
+    int_linear_24, int_linear_25, int_linear_26, int_linear_27, int_linear_28, int_linear_29,
+    int_linear_30, int_linear_31, int_linear_32, int_linear_33, int_linear_34, int_linear_35,
+    int_linear_36, int_linear_37, int_linear_38, int_linear_39, int_linear_40, int_linear_41,
+    int_linear_42, int_linear_43, int_linear_44, int_linear_45, int_linear_46, int_linear_47,
+    int_linear_48, int_linear_49, int_linear_50, int_linear_51, int_linear_52, int_linear_53,
+    int_linear_54, int_linear_55, int_linear_56, int_linear_57, int_linear_58, int_linear_59,
+    int_linear_60, int_linear_61, int_linear_62
+};
+
+static int (*int_assign_product[])(int) = {
+    int_assign_product_0, int_assign_product_1, int_assign_product_2, int_assign_product_3, int_assign_product_4, int_assign_product_5,
+    int_assign_product_6, int_assign_product_7, int_assign_product_8, int_assign_product_9, int_assign_product_10, int_assign_product_11,
+    int_assign_product_12, int_assign_product_13, int_assign_product_14, int_assign_product_15, int_assign_product_16, int_assign_product_17,
+    int_assign_product_18, int_assign_product_19, int_assign_product_20, int_assign_product_21, int_assign_product_22, int_assign_product_23,
+    int_assign_product_24, int_assign_product_25, int_assign_product_26, int_assign_product_27, int_assign_product_28, int_assign_product_29,
+    int_assign_product_30, int_assign_product_31, int_assign_product_32, int_assign_product_33, int_assign_product_34, int_assign_product_35,
+    int_assign_product_36, int_assign_product_37, int_assign_product_38, int_assign_product_39, int_assign_product_40, int_assign_product_41,
+    int_assign_product_42, int_assign_product_43, int_assign_product_44, int_assign_product_45, int_assign_product_46, int_assign_product_47,
+    int_assign_product_48, int_assign_product_49, int_assign_product_50, int_assign_product_51, int_assign_product_52, int_assign_product_53,
+    int_assign_product_54, int_assign_product_55, int_assign_product_56, int_assign_product_57, int_assign_product_58, int_assign_product_59,
+    int_assign_product_60, int_assign_product_61, int_assign_product_62
+};
+
+struct struct_1 {
+    char c[1];
+};
+
+static struct struct_1 array_1[9];
+
+static int offset_1(int i) {
+    return (char *) &array_1[i] - (char *) array_1;
+}
+
+static int element_1(int i) {
+    return array_1[i].c[0];
+}
+
+static void store_1(int i) {
+    array_1[i].c[0] = (char) (3 * i + 1);
+}
+
+struct struct_2 {
+    char c[2];
+};
+
+static struct struct_2 array_2[9];
+
+static int offset_2(int i) {
+    return (char *) &array_2[i] - (char *) array_2;
+}
+
+static int element_2(int i) {
+    return array_2[i].c[1];
+}
+
+static void store_2(int i) {
+    array_2[i].c[1] = (char) (3 * i + 1);
+}
+
+struct struct_3 {
+    char c[3];
+};
+
+static struct struct_3 array_3[9];
+
+static int offset_3(int i) {
+    return (char *) &array_3[i] - (char *) array_3;
+}
+
+static int element_3(int i) {
+    return array_3[i].c[2];
+}
+
+static void store_3(int i) {
+    array_3[i].c[2] = (char) (3 * i + 1);
+}
+
+struct struct_4 {
+    char c[4];
+};
+
+static struct struct_4 array_4[9];
+
+static int offset_4(int i) {
+    return (char *) &array_4[i] - (char *) array_4;
+}
+
+static int element_4(int i) {
+    return array_4[i].c[3];
+}
+
+static void store_4(int i) {
+    array_4[i].c[3] = (char) (3 * i + 1);
+}
+
+struct struct_5 {
+    char c[5];
+};
+
+static struct struct_5 array_5[9];
+
+static int offset_5(int i) {
+    return (char *) &array_5[i] - (char *) array_5;
+}
+
+static int element_5(int i) {
+    return array_5[i].c[4];
+}
+
+static void store_5(int i) {
+    array_5[i].c[4] = (char) (3 * i + 1);
+}
+
+struct struct_6 {
+    char c[6];
+};
+
+static struct struct_6 array_6[9];
+
+static int offset_6(int i) {
+    return (char *) &array_6[i] - (char *) array_6;
+}
+
+static int element_6(int i) {
+    return array_6[i].c[5];
+}
+
+static void store_6(int i) {
+    array_6[i].c[5] = (char) (3 * i + 1);
+}
+
+struct struct_7 {
+    char c[7];
+};
+
+static struct struct_7 array_7[9];
+
+static int offset_7(int i) {
+    return (char *) &array_7[i] - (char *) array_7;
+}
+
+static int element_7(int i) {
+    return array_7[i].c[6];
+}
+
+static void store_7(int i) {
+    array_7[i].c[6] = (char) (3 * i + 1);
+}
+
+struct struct_8 {
+    char c[8];
+};
+
+static struct struct_8 array_8[9];
+
+static int offset_8(int i) {
+    return (char *) &array_8[i] - (char *) array_8;
+}
+
+static int element_8(int i) {
+    return array_8[i].c[7];
+}
+
+static void store_8(int i) {
+    array_8[i].c[7] = (char) (3 * i + 1);
+}
+
+struct struct_9 {
+    char c[9];
+};
+
+static struct struct_9 array_9[9];
+
+static int offset_9(int i) {
+    return (char *) &array_9[i] - (char *) array_9;
+}
+
+static int element_9(int i) {
+    return array_9[i].c[8];
+}
+
+static void store_9(int i) {
+    array_9[i].c[8] = (char) (3 * i + 1);
+}
+
+struct struct_10 {
+    char c[10];
+};
+
+static struct struct_10 array_10[9];
+
+static int offset_10(int i) {
+    return (char *) &array_10[i] - (char *) array_10;
+}
+
+static int element_10(int i) {
+    return array_10[i].c[9];
+}
+
+static void store_10(int i) {
+    array_10[i].c[9] = (char) (3 * i + 1);
+}
+
+struct struct_11 {
+    char c[11];
+};
+
+static struct struct_11 array_11[9];
+
+static int offset_11(int i) {
+    return (char *) &array_11[i] - (char *) array_11;
+}
+
+static int element_11(int i) {
+    return array_11[i].c[10];
+}
+
+static void store_11(int i) {
+    array_11[i].c[10] = (char) (3 * i + 1);
+}
+
+struct struct_12 {
+    char c[12];
+};
+
+static struct struct_12 array_12[9];
+
+static int offset_12(int i) {
+    return (char *) &array_12[i] - (char *) array_12;
+}
+
+static int element_12(int i) {
+    return array_12[i].c[11];
+}
+
+static void store_12(int i) {
+    array_12[i].c[11] = (char) (3 * i + 1);
+}
+
+struct struct_13 {
+    char c[13];
+};
+
+static struct struct_13 array_13[9];
+
+static int offset_13(int i) {
+    return (char *) &array_13[i] - (char *) array_13;
+}
+
+static int element_13(int i) {
+    return array_13[i].c[12];
+}
+
+static void store_13(int i) {
+    array_13[i].c[12] = (char) (3 * i + 1);
+}
+
+struct struct_15 {
+    char c[15];
+};
+
+static struct struct_15 array_15[9];
+
+static int offset_15(int i) {
+    return (char *) &array_15[i] - (char *) array_15;
+}
+
+static int element_15(int i) {
+    return array_15[i].c[14];
+}
+
+static void store_15(int i) {
+    array_15[i].c[14] = (char) (3 * i + 1);
+}
+
+struct struct_16 {
+    char c[16];
+};
+
+static struct struct_16 array_16[9];
+
+static int offset_16(int i) {
+    return (char *) &array_16[i] - (char *) array_16;
+}
+
+static int element_16(int i) {
+    return array_16[i].c[15];
+}
+
+static void store_16(int i) {
+    array_16[i].c[15] = (char) (3 * i + 1);
+}
+
+struct struct_17 {
+    char c[17];
+};
+
+static struct struct_17 array_17[9];
+
+static int offset_17(int i) {
+    return (char *) &array_17[i] - (char *) array_17;
+}
+
+static int element_17(int i) {
+    return array_17[i].c[16];
+}
+
+static void store_17(int i) {
+    array_17[i].c[16] = (char) (3 * i + 1);
+}
+
+struct struct_20 {
+    char c[20];
+};
+
+static struct struct_20 array_20[9];
+
+static int offset_20(int i) {
+    return (char *) &array_20[i] - (char *) array_20;
+}
+
+static int element_20(int i) {
+    return array_20[i].c[19];
+}
+
+static void store_20(int i) {
+    array_20[i].c[19] = (char) (3 * i + 1);
+}
+
+struct struct_24 {
+    char c[24];
+};
+
+static struct struct_24 array_24[9];
+
+static int offset_24(int i) {
+    return (char *) &array_24[i] - (char *) array_24;
+}
+
+static int element_24(int i) {
+    return array_24[i].c[23];
+}
+
+static void store_24(int i) {
+    array_24[i].c[23] = (char) (3 * i + 1);
+}
+
+struct struct_36 {
+    char c[36];
+};
+
+static struct struct_36 array_36[9];
+
+static int offset_36(int i) {
+    return (char *) &array_36[i] - (char *) array_36;
+}
+
+static int element_36(int i) {
+    return array_36[i].c[35];
+}
+
+static void store_36(int i) {
+    array_36[i].c[35] = (char) (3 * i + 1);
+}
+
+struct struct_40 {
+    char c[40];
+};
+
+static struct struct_40 array_40[9];
+
+static int offset_40(int i) {
+    return (char *) &array_40[i] - (char *) array_40;
+}
+
+static int element_40(int i) {
+    return array_40[i].c[39];
+}
+
+static void store_40(int i) {
+    array_40[i].c[39] = (char) (3 * i + 1);
+}
+
+struct struct_100 {
+    char c[100];
+};
+
+static struct struct_100 array_100[9];
+
+static int offset_100(int i) {
+    return (char *) &array_100[i] - (char *) array_100;
+}
+
+static int element_100(int i) {
+    return array_100[i].c[99];
+}
+
+static void store_100(int i) {
+    array_100[i].c[99] = (char) (3 * i + 1);
+}
+
+static int (*offsets[])(int) = {
+    offset_1, offset_2, offset_3, offset_4, offset_5, offset_6,
+    offset_7, offset_8, offset_9, offset_10, offset_11, offset_12,
+    offset_13, offset_15, offset_16, offset_17, offset_20, offset_24,
+    offset_36, offset_40, offset_100
+};
+
+static int (*elements[])(int) = {
+    element_1, element_2, element_3, element_4, element_5, element_6,
+    element_7, element_8, element_9, element_10, element_11, element_12,
+    element_13, element_15, element_16, element_17, element_20, element_24,
+    element_36, element_40, element_100
+};
+
+static void (*stores[])(int) = {
+    store_1, store_2, store_3, store_4, store_5, store_6,
+    store_7, store_8, store_9, store_10, store_11, store_12,
+    store_13, store_15, store_16, store_17, store_20, store_24,
+    store_36, store_40, store_100
+};
+
+static char *bases[] = {
+    (char *) array_1, (char *) array_2, (char *) array_3, (char *) array_4, (char *) array_5, (char *) array_6, (char *) array_7, (char *) array_8,
+    (char *) array_9, (char *) array_10, (char *) array_11, (char *) array_12, (char *) array_13, (char *) array_15, (char *) array_16, (char *) array_17,
+    (char *) array_20, (char *) array_24, (char *) array_36, (char *) array_40, (char *) array_100
+};
+
+#define COUNT(array) (sizeof(array) / sizeof(*(array)))
+
+static void test_products(void) {
+    int i, j;
+    int x, factor;
+
+    for(i = 0; i < COUNT(factors); ++i)
+        for(j = 0; j < COUNT(values); ++j) {
+            x = values[j];
+            factor = factors[i];
+
+            if(int_product[i](x) != x * factor)
+                test_fail("int *", i, x, int_product[i](x), x * factor);
+
+            if(unsigned_product[i](x) != (unsigned) x * (unsigned) factor)
+                test_fail("unsigned *", i, x, unsigned_product[i](x), (unsigned) x * (unsigned) factor);
+
+            if(int_linear[i](x) != factor * x + 5)
+                test_fail("int * + 5", i, x, int_linear[i](x), factor * x + 5);
+
+            if(int_assign_product[i](x) != x * factor)
+                test_fail("int *=", i, x, int_assign_product[i](x), x * factor);
+        }
+}
+
+static void test_indexing(void) {
+    int i, j;
+    int size;
+    char *base;
+
+    for(i = 0; i < COUNT(struct_sizes); ++i) {
+        size = struct_sizes[i];
+        base = bases[i];
+
+        for(j = 0; j < 9; ++j)
+            stores[i](j);
+
+        for(j = 0; j < 9; ++j) {
+            if(offsets[i](j) != j * size)
+                test_fail("offset", size, j, offsets[i](j), j * size);
+
+            if(elements[i](j) != base[j * size + size - 1])
+                test_fail("element", size, j, elements[i](j), base[j * size + size - 1]);
+
+            if(base[j * size + size - 1] != 3 * j + 1)
+                test_fail("store", size, j, base[j * size + size - 1], 3 * j + 1);
+        }
+    }
+}
+
+void test_main(void) {
+    test_products();
+    test_indexing();
+}
@@ -0,0 +1,145 @@
+#!/usr/bin/python3
+# Generates multiplication.c, which compares multiplications by constants (and
+# array indexing) with multiplications by the same values read from memory
+# (which are never replaced by cheaper instruction sequences).
+#
+# usage: ./multiplication.py > multiplication.c
+import random
+
+random.seed(50)
+
+INT_MIN = -2 ** 31
+INT_MAX = 2 ** 31 - 1
+
+FACTORS = [
+    0, 1, -1, 2, -2, 3, -3, 5, 6, 7, 9, 10, 11, 12, 13, 15, 17, 18, 19, 20, 21, 24, 25,
+    27, 28, 31, 33, 36, 37, 40, 45, 48, 63, 64, 65, 72, 81, 96, 100, 127, 129, 255, 257,
+    1000, 1023, 1025, 4097, 65535, 65537, -5, -9, -10, -100, -1024, 2 ** 30, -2 ** 30,
+    INT_MIN, INT_MAX, 0x12345, 641, 3 * 5 * 7, -81, 6700417
+]
+
+VALUES = [
+    0, 1, -1, 2, -2, 7, -7, 100, -100, 65535, -65536, INT_MAX, INT_MIN, 123456789,
+    -987654321
+] + [ random.randint(INT_MIN, INT_MAX) for i in range(20) ]
+
+STRUCT_SIZES = [ 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 15, 16, 17, 20, 24, 36, 40, 100 ]
+
+ELEMENTS = 9
+
+def literal(value, suffix):
+    if value == INT_MIN:
+        return '(-2147483647 - 1)'
+
+    return '%d%s' % (value, suffix)
+
+def array(type, name, values):
+    declarator = type + name if type.endswith('*') else type + ' ' + name
+
+    return 'static %s[] = {\n%s\n};\n' % (declarator, ',\n'.join(
+        '    ' + ', '.join(values[i:i + 8])
+        for i in range(0, len(values), 8)
+    ))
+
+def table(type, name, functions):
+    return 'static %s (*%s[])(%s) = {\n%s\n};\n' % (type, name, type, ',\n'.join(
+        '    ' + ', '.join(functions[i:i + 6])
+        for i in range(0, len(functions), 6)
+    ))
+
+out = [ '/* (c) 2023, Thomas Kasper */\n', '/* Generated by multiplication.py, do not edit */\n', '#include "syntaxtest.h"\n' ]
+
+out.append(array('int', 'factors', [ literal(factor, '') for factor in FACTORS ]))
+out.append(array('int', 'values', [ literal(value, '') for value in VALUES ]))
+out.append(array('int', 'struct_sizes', [ str(size) for size in STRUCT_SIZES ]))
+
+out.append('static int int_value;\n')
+
+for i, factor in enumerate(FACTORS):
+    signed = literal(factor, '')
+    unsigned = '%du' % (factor & 0xFFFFFFFF)
+
+    out.append('static int int_product_%d(int x) {\n    return x * %s;\n}\n' % (i, signed))
+    out.append('static unsigned unsigned_product_%d(unsigned x) {\n    return x * %s;\n}\n' % (i, unsigned))
+
+    # the constant is on the left, and the product is used as an operand
+    out.append('static int int_linear_%d(int x) {\n    return %s * x + 5;\n}\n' % (i, signed))
+
+    # the factor is stored in memory, and the result is assigned to it
+    out.append('static int int_assign_product_%d(int x) {\n    int_value = x;\n    int_value *= %s;\n    return int_value;\n}\n' % (i, signed))
+
+for type, name in [ ('int', 'int_product'), ('unsigned', 'unsigned_product'), ('int', 'int_linear'), ('int', 'int_assign_product') ]:
+    out.append(table(type, name, [ '%s_%d' % (name, i) for i in range(len(FACTORS)) ]))
+
+for size in STRUCT_SIZES:
+    out.append('struct struct_%d {\n    char c[%d];\n};\n' % (size, size))
+    out.append('static struct struct_%d array_%d[%d];\n' % (size, size, ELEMENTS))
+
+    out.append('static int offset_%d(int i) {\n    return (char *) &array_%d[i] - (char *) array_%d;\n}\n' % (size, size, size))
+    out.append('static int element_%d(int i) {\n    return array_%d[i].c[%d];\n}\n' % (size, size, size - 1))
+    out.append('static void store_%d(int i) {\n    array_%d[i].c[%d] = (char) (3 * i + 1);\n}\n' % (size, size, size - 1))
+
+out.append(table('int', 'offsets', [ 'offset_%d' % size for size in STRUCT_SIZES ]))
+out.append(table('int', 'elements', [ 'element_%d' % size for size in STRUCT_SIZES ]))
+out.append('static void (*stores[])(int) = {\n%s\n};\n' % ',\n'.join(
+    '    ' + ', '.join('store_%d' % size for size in STRUCT_SIZES[i:i + 6])
+    for i in range(0, len(STRUCT_SIZES), 6)
+))
+out.append(array('char *', 'bases', [ '(char *) array_%d' % size for size in STRUCT_SIZES ]))
+
+out.append('''#define COUNT(array) (sizeof(array) / sizeof(*(array)))
+
+static void test_products(void) {
+    int i, j;
+    int x, factor;
+
+    for(i = 0; i < COUNT(factors); ++i)
+        for(j = 0; j < COUNT(values); ++j) {
+            x = values[j];
+            factor = factors[i];
+
+            if(int_product[i](x) != x * factor)
+                test_fail("int *", i, x, int_product[i](x), x * factor);
+
+            if(unsigned_product[i](x) != (unsigned) x * (unsigned) factor)
+                test_fail("unsigned *", i, x, unsigned_product[i](x), (unsigned) x * (unsigned) factor);
+
+            if(int_linear[i](x) != factor * x + 5)
+                test_fail("int * + 5", i, x, int_linear[i](x), factor * x + 5);
+
+            if(int_assign_product[i](x) != x * factor)
+                test_fail("int *=", i, x, int_assign_product[i](x), x * factor);
+        }
+}
+
+static void test_indexing(void) {
+    int i, j;
+    int size;
+    char *base;
+
+    for(i = 0; i < COUNT(struct_sizes); ++i) {
+        size = struct_sizes[i];
+        base = bases[i];
+
+        for(j = 0; j < %d; ++j)
+            stores[i](j);
+
+        for(j = 0; j < %d; ++j) {
+            if(offsets[i](j) != j * size)
+                test_fail("offset", size, j, offsets[i](j), j * size);
+
+            if(elements[i](j) != base[j * size + size - 1])
+                test_fail("element", size, j, elements[i](j), base[j * size + size - 1]);
+
+            if(base[j * size + size - 1] != 3 * j + 1)
+                test_fail("store", size, j, base[j * size + size - 1], 3 * j + 1);
+        }
+    }
+}
+
+void test_main(void) {
+    test_products();
+    test_indexing();
+}''' % (ELEMENTS, ELEMENTS))
+
+print('\n'.join(out))
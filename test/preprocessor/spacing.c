@@ -0,0 +1,31 @@
+/* (c) 2023, Thomas Kasper */
+
+/* Spaces are only inserted between tokens that would otherwise be lexed differently */
+
+#define ID(x) x
+#define NEG -
+#define CAT(a, b) a b
+#define FIELD(s, f) s.f
+#define INDEX(a, i) a[i]
+
+struct S { int a; } s;
+int arr[3];
+
+int unchanged(void) {
+    int x = (1);
+    x += arr[0] + s.a + s.a++ + FIELD(s, a) + INDEX(arr, 1);
+    x = x ? -x : !x;
+    return arr[0];
+}
+
+int separated(int x, int y) {
+    x = NEG-1;
+    x = -NEG 1;
+    x = ID(x)-ID(>)1;
+    x = ID(+)+y + ID(&)&y + ID(|)|y;
+    x = ID(<)<y + ID(<)<=y + ID(>)>=y + ID(=)=y + ID(!)=y;
+    x = ID(/)ID(*) 3 + ID(/)ID(/) 3;
+    x = ID(.)5 + ID(1e)+5 + ID(1)ID(.) + ID(1)ID(x);
+    x = ID(x)ID(y) + ID(L)"w"[0] + ID(L)'c';
+    return CAT(x, y) + CAT(x, +y) + CAT(-, -y);
+}
@@ -0,0 +1,32 @@
+#line 1 "preprocessor/spacing.c"
+
+
+
+
+
+
+
+
+
+
+struct S { int a; } s;
+int arr[3];
+
+int unchanged(void) {
+ int x = (1);
+ x += arr[0] + s.a + s.a++ + s.a + arr[1];
+ x = x ? -x : !x;
+ return arr[0];
+}
+
+int separated(int x, int y) {
+ x = - -1;
+ x = - - 1;
+ x = x- >1;
+ x = + +y + & &y + | |y;
+ x = < <y + < <=y + > >=y + = =y + ! =y;
+ x = / * 3 + / / 3;
+ x = . 5 + 1e +5 + 1 . + 1 x;
+ x = x y + L "w"[0] + L 'c';
+ return x y + x +y + - -y;
+}
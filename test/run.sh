@@ -0,0 +1,93 @@
+#!/bin/sh
+
+# Compiles and runs every test with gcc (as a reference) and with SyntaxC,
+# using the default options as well as the alternative register allocator
+# and without strength reduction. The runtime always is compiled by gcc.
+# Afterwards, the output of the preprocessor is compared against the
+# expected output in ./preprocessor, and the Java tests are run.
+#
+# usage: ./run.sh [test.c...]
+#
+# SyntaxC is expected at ./syntaxc.jar (see ../benchmark), or can be
+# specified via the SYNTAXC_JAR or SYNTAXC variables.
+
+SYNTAXC_JAR=${SYNTAXC_JAR:-syntaxc.jar}
+SYNTAXC=${SYNTAXC:-"java -Xss8m --enable-preview -jar $SYNTAXC_JAR"}
+
+CONFIGS="default linear-scan no-strength-reduction"
+
+mkdir -p asm
+mkdir -p bin
+
+failed=0
+
+options_of() {
+    case $1 in
+        default)                echo "" ;;
+        linear-scan)            echo "-flinear-scan" ;;
+        no-strength-reduction)  echo "-Ono-strength-reduction" ;;
+    esac
+}
+
+check() {
+    if [ $1 -eq 0 ]; then
+        echo "  $2: passed"
+    else
+        echo "  $2: FAILED"
+        sed 's/^/    /' "bin/$2.log" | tail -n 10
+        failed=1
+    fi
+}
+
+gcc -m32 -O2 -ffreestanding -fno-pic -fno-stack-protector -c runtime.c -o bin/runtime.o || exit 1
+
+if [ $# -eq 0 ]; then
+    set -- `ls ./*.c | grep -v runtime.c`
+fi
+
+for file in "$@"; do
+    name=`basename "$file" .c`
+
+    echo "Testing $name..."
+
+    # the expected values are verified with gcc first
+    gcc -m32 -O0 -w -ffreestanding -fno-pic -fno-stack-protector -fno-builtin -nostdlib -static -no-pie \
+        "$file" bin/runtime.o -o "bin/$name-gcc" > "bin/$name-gcc.log" 2>&1 \
+        && "./bin/$name-gcc" >> "bin/$name-gcc.log" 2>&1
+    check $? "$name-gcc"
+
+    for config in $CONFIGS; do
+        target="$name-syntaxc-$config"
+
+        $SYNTAXC -S -m32 -Wno-all `options_of $config` "$file" -o "asm/$target.s" > "bin/$target.log" 2>&1 \
+            && as --32 "asm/$target.s" -o "bin/$target.o" >> "bin/$target.log" 2>&1 \
+            && ld -m elf_i386 -z noexecstack "bin/$target.o" bin/runtime.o -o "bin/$target" >> "bin/$target.log" 2>&1 \
+            && "./bin/$target" >> "bin/$target.log" 2>&1
+        check $? "$target"
+    done
+done
+
+# the output of the preprocessor has to match the expected output exactly
+for file in preprocessor/*.c; do
+    name=`basename "$file" .c`
+
+    echo "Testing preprocessor/$name..."
+
+    $SYNTAXC -E -m32 "$file" -o "bin/$name.i" > "bin/$name.log" 2>&1 \
+        && diff "preprocessor/$name.i" "bin/$name.i" >> "bin/$name.log" 2>&1
+    check $? "$name"
+done
+
+for test in IEEE754Utils X86MultiplicationHelper; do
+    echo "Testing $test..."
+
+    java --enable-preview --source 19 -cp "$SYNTAXC_JAR" "${test}Test.java" > "bin/$test.log" 2>&1
+    check $? "$test"
+done
+
+if [ $failed -ne 0 ]; then
+    echo "Some tests failed!"
+    exit 1
+fi
+
+echo "All tests passed!"
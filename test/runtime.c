@@ -0,0 +1,82 @@
+/* (c) 2023, Thomas Kasper */
+
+/* A minimal freestanding runtime for i386 Linux, so that the tests
+ * neither depend on a 32-bit libc nor on the calling conventions of
+ * its functions.
+ */
+
+#include "syntaxtest.h"
+
+#define MAX_REPORTED 30
+
+static int failures;
+
+static int syscall3(int number, int a, int b, int c) {
+    int result;
+
+    __asm__ volatile (
+        "int $0x80"
+        : "=a"(result)
+        : "a"(number), "b"(a), "c"(b), "d"(c)
+        : "memory"
+    );
+
+    return result;
+}
+
+void test_print(const char *str) {
+    int length = 0;
+
+    while(str[length])
+        ++length;
+
+    syscall3(4 /* write */, 1, (int) str, length);
+}
+
+void test_print_uint(unsigned long value) {
+    char buf[16];
+    int i = sizeof buf - 1;
+
+    buf[i] = 0;
+
+    do {
+        buf[--i] = '0' + value % 10;
+        value /= 10;
+    } while(value);
+
+    test_print(buf + i);
+}
+
+void test_fail(const char *name, int index, unsigned long value,
+               unsigned long actual, unsigned long expected) {
+    if(++failures > MAX_REPORTED)
+        return;
+
+    test_print(name);
+    test_print(" #");
+    test_print_uint(index);
+    test_print(" (");
+    test_print_uint(value);
+    test_print("): got ");
+    test_print_uint(actual);
+    test_print(", expected ");
+    test_print_uint(expected);
+    test_print("\n");
+}
+
+void test_start(void) {
+    test_main();
+
+    test_print_uint(failures);
+    test_print(failures == 1 ? " failure\n" : " failures\n");
+
+    syscall3(1 /* exit */, failures != 0, 0, 0);
+}
+
+__asm__(
+    ".globl _start\n"
+    "_start:\n"
+    "    andl $-16, %esp\n"
+    "    call test_start\n"
+    "    hlt\n"
+);
@@ -0,0 +1,70 @@
+#!/bin/sh
+
+# Checks that SyntaxC compiles very long expressions (generated by expressions.py)
+# with a bounded stack, and that the compilation time grows linearly with their
+# length: each step doubles the length, which must not triple the compilation time.
+#
+# usage: ./scaling.sh [COUNT] [STEPS]
+
+SYNTAXC_JAR=${SYNTAXC_JAR:-syntaxc.jar}
+SYNTAXC=${SYNTAXC:-"java -Xss1m --enable-preview -jar $SYNTAXC_JAR"}
+
+COUNT=${1:-2500}
+STEPS=${2:-4}
+
+# maximum ratio between the compilation times of two consecutive steps
+MAX_RATIO=3
+
+mkdir -p asm
+mkdir -p bin
+
+gcc -m32 -O2 -ffreestanding -fno-pic -fno-stack-protector -c runtime.c -o bin/runtime.o || exit 1
+
+failed=0
+previous=
+
+for step in `seq $STEPS`; do
+    name=expressions-$COUNT
+
+    python3 expressions.py $COUNT > bin/$name.c || exit 1
+
+    start=`date +%s.%N`
+
+    $SYNTAXC -S -m32 -Wno-all -I. bin/$name.c -o asm/$name.s > bin/$name.log 2>&1 || {
+        echo "Compilation of $COUNT operations failed, see bin/$name.log"
+        exit 1
+    }
+
+    end=`date +%s.%N`
+    time=`awk "BEGIN { print $end - $start }"`
+
+    as --32 asm/$name.s -o bin/$name.o >> bin/$name.log 2>&1 \
+        && ld -m elf_i386 -z noexecstack bin/$name.o bin/runtime.o -o bin/$name >> bin/$name.log 2>&1 \
+        && ./bin/$name >> bin/$name.log 2>&1 || {
+        echo "Test with $COUNT operations failed, see bin/$name.log"
+        exit 1
+    }
+
+    if [ -n "$previous" ]; then
+        ratio=`awk "BEGIN { print $time / $previous }"`
+
+        echo "$COUNT operations: $time seconds ($ratio times as long)"
+
+        if awk "BEGIN { exit !($ratio >= $MAX_RATIO) }"; then
+            echo "  the compilation time grows faster than linearly"
+            failed=1
+        fi
+    else
+        echo "$COUNT operations: $time seconds"
+    fi
+
+    previous=$time
+    COUNT=`expr $COUNT \* 2`
+done
+
+if [ $failed -ne 0 ]; then
+    echo "Scaling test failed!"
+    exit 1
+fi
+
+echo "Scaling test passed!"
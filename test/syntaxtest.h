@@ -0,0 +1,18 @@
+/* (c) 2023, Thomas Kasper */
+
+#ifndef _SYNTAXTEST_H
+#define _SYNTAXTEST_H
+
+/* Every test defines 'test_main', which reports mismatches via 'test_fail'.
+ * The runtime (runtime.c) is always compiled by gcc, so that the results
+ * are reported correctly even if the test itself is miscompiled.
+ */
+void test_main(void);
+
+void test_print(const char *str);
+void test_print_uint(unsigned long value);
+
+void test_fail(const char *name, int index, unsigned long value,
+               unsigned long actual, unsigned long expected);
+
+#endif